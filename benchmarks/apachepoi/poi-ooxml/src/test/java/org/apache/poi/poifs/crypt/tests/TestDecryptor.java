@@ -16,6 +16,7 @@
 ==================================================================== */
 package org.apache.poi.poifs.crypt.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -25,9 +26,15 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.crypto.Cipher;
 
@@ -101,6 +108,57 @@ class TestDecryptor {
         }
     }
 
+    @Test
+    void parallelAndRandomAccess() throws Exception {
+        try (InputStream fsIs = samples.openResourceAsStream("protected_agile.docx");
+            POIFSFileSystem fs = new POIFSFileSystem(fsIs)) {
+            EncryptionInfo info = new EncryptionInfo(fs);
+            Decryptor d = Decryptor.getInstance(info);
+            assertTrue(d.verifyPassword(Decryptor.DEFAULT_PASSWORD));
+
+            final byte[] expected;
+            try (InputStream is = d.getDataStream(fs)) {
+                expected = IOUtils.toByteArray(is);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Decryptor parallel = d.copy();
+                parallel.setParallelDecryption(executor, 2);
+                try (InputStream is = parallel.getDataStream(fs)) {
+                    assertArrayEquals(expected, IOUtils.toByteArray(is));
+                }
+
+                // skipping over prefetched and not yet prefetched segments
+                try (InputStream is = parallel.getDataStream(fs)) {
+                    assertEquals(5000, is.skip(5000));
+                    assertEquals(expected[5000], (byte) is.read());
+                    assertEquals(6000, is.skip(6000));
+                    byte[] buf = new byte[100];
+                    assertEquals(100, is.read(buf));
+                    assertArrayEquals(Arrays.copyOfRange(expected, 11001, 11101), buf);
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            try (SeekableByteChannel channel = d.getDataChannel(fs.getRoot())) {
+                assertEquals(expected.length, channel.size());
+                Random random = new Random(42);
+                for (int i = 0; i < 100; i++) {
+                    int pos = random.nextInt(expected.length);
+                    ByteBuffer buf = ByteBuffer.allocate(1 + random.nextInt(8192));
+                    channel.position(pos);
+                    int len = channel.read(buf);
+                    assertEquals(Math.min(buf.capacity(), expected.length - pos), len);
+                    assertArrayEquals(Arrays.copyOfRange(expected, pos, pos + len), Arrays.copyOf(buf.array(), len));
+                }
+                channel.position(expected.length);
+                assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+            }
+        }
+    }
+
     @Test
     void dataLength() throws Exception {
         try (InputStream fsIs = samples.openResourceAsStream("protected_agile.docx");
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -35,6 +36,8 @@ import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.crypto.Cipher;
 
@@ -142,6 +145,93 @@ class TestEncryptor {
         assertArrayEquals(payloadExpected, payloadActual);
     }
 
+    @Test
+    void parallelAgileEncryption() throws Exception {
+        String password = "pass";
+
+        // not a multiple of the segment size, so the padded last segment is included
+        final byte[] payloadExpected = new byte[1_000_003];
+        new Random(42).nextBytes(payloadExpected);
+
+        EncryptionInfo ei = new EncryptionInfo(EncryptionMode.agile);
+        Encryptor enc = ei.getEncryptor();
+        enc.confirmPassword(password);
+
+        final byte[] sequential = encrypt(enc, payloadExpected);
+
+        final byte[] parallel;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Encryptor parallelEnc = enc.copy();
+            parallelEnc.setParallelEncryption(executor, 8);
+            parallel = encrypt(parallelEnc, payloadExpected);
+        } finally {
+            executor.shutdown();
+        }
+
+        // same segments, same order and same integrity HMAC
+        assertArrayEquals(sequential, parallel);
+
+        final byte[] payloadActual;
+        try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(parallel))) {
+            EncryptionInfo ei2 = new EncryptionInfo(fs);
+            Decryptor dec = ei2.getDecryptor();
+            assertTrue(dec.verifyPassword(password));
+
+            try (InputStream is = dec.getDataStream(fs.getRoot())) {
+                payloadActual = IOUtils.toByteArray(is);
+            }
+        }
+
+        assertArrayEquals(payloadExpected, payloadActual);
+    }
+
+    @Test
+    void encryptionWithoutTempFile() throws Exception {
+        final byte[] payloadExpected = new byte[100_003];
+        new Random(42).nextBytes(payloadExpected);
+
+        for (EncryptionMode mode : new EncryptionMode[]{ EncryptionMode.agile, EncryptionMode.standard }) {
+            Encryptor enc = new EncryptionInfo(mode).getEncryptor();
+            enc.confirmPassword("pass");
+
+            Encryptor directEnc = enc.copy();
+            directEnc.setUseTempFile(false);
+
+            byte[] buffered = encrypt(enc, payloadExpected);
+            byte[] direct = encrypt(directEnc, payloadExpected);
+
+            // same StreamSize, encrypted data and - for agile - integrity HMAC in the EncryptionInfo
+            try (POIFSFileSystem fsBuffered = new POIFSFileSystem(new ByteArrayInputStream(buffered));
+                 POIFSFileSystem fsDirect = new POIFSFileSystem(new ByteArrayInputStream(direct))) {
+                for (String entry : new String[]{ "EncryptedPackage", "EncryptionInfo" }) {
+                    try (InputStream isBuffered = fsBuffered.createDocumentInputStream(entry);
+                         InputStream isDirect = fsDirect.createDocumentInputStream(entry)) {
+                        assertArrayEquals(IOUtils.toByteArray(isBuffered), IOUtils.toByteArray(isDirect), mode + " " + entry);
+                    }
+                }
+
+                Decryptor dec = new EncryptionInfo(fsDirect).getDecryptor();
+                assertTrue(dec.verifyPassword("pass"));
+                try (InputStream is = dec.getDataStream(fsDirect)) {
+                    assertEquals(payloadExpected.length, dec.getLength());
+                    assertArrayEquals(payloadExpected, IOUtils.toByteArray(is, payloadExpected.length));
+                }
+            }
+        }
+    }
+
+    private static byte[] encrypt(Encryptor enc, byte[] payload) throws IOException, GeneralSecurityException {
+        UnsynchronizedByteArrayOutputStream bos = new UnsynchronizedByteArrayOutputStream();
+        try (POIFSFileSystem fs = new POIFSFileSystem()) {
+            try (OutputStream os = enc.getDataStream(fs.getRoot())) {
+                os.write(payload);
+            }
+            fs.writeFilesystem(bos);
+        }
+        return bos.toByteArray();
+    }
+
     @Test
     void agileEncryption() throws Exception {
         int maxKeyLen = Cipher.getMaxAllowedKeyLength("AES");
@@ -0,0 +1,170 @@
+/* ====================================================================
+   Licensed to the Apache Software Foundation (ASF) under one or more
+   contributor license agreements.  See the NOTICE file distributed with
+   this work for additional information regarding copyright ownership.
+   The ASF licenses this file to You under the Apache License, Version 2.0
+   (the "License"); you may not use this file except in compliance with
+   the License.  You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+==================================================================== */
+package org.apache.poi.poifs.crypt;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+
+import org.apache.poi.EncryptedDocumentException;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.util.Internal;
+
+/**
+ * Read-only random access to a document which is encrypted in independently keyed chunks.
+ * Only the chunks which are read are decrypted, e.g. the central directory at the end
+ * of an encrypted zip package can be read without decrypting the entries.
+ */
+@Internal
+public abstract class ChunkedCipherByteChannel implements SeekableByteChannel {
+    private final DocumentInputStream stream;
+    private final long size;
+    private final int chunkBits;
+    private final byte[] chunk;
+
+    // position of the encrypted stream, relative to the mark at the start of the data
+    private long streamPos;
+    private int chunkIndex = -1;
+    private long pos;
+    private Cipher cipher;
+    private boolean isClosed;
+
+    /**
+     * @param stream the encrypted document, positioned at the start of the encrypted data
+     * @param size the size of the decrypted data
+     * @param chunkSize the size of the chunks, a power of 2
+     */
+    public ChunkedCipherByteChannel(DocumentInputStream stream, long size, int chunkSize) {
+        this.stream = stream;
+        this.size = size;
+        this.chunk = IOUtils.safelyAllocate(chunkSize, CryptoFunctions.MAX_RECORD_LENGTH);
+        this.chunkBits = Integer.bitCount(chunkSize-1);
+        stream.mark(0);
+    }
+
+    protected abstract Cipher initCipherForBlock(Cipher existing, int block)
+    throws GeneralSecurityException;
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (pos >= size) {
+            return -1;
+        }
+
+        int total = 0;
+        final int chunkMask = chunk.length-1;
+        while (dst.hasRemaining() && pos < size) {
+            int index = (int)(pos >> chunkBits);
+            if (index != chunkIndex) {
+                loadChunk(index);
+            }
+            int posInChunk = (int)(pos & chunkMask);
+            int count = (int)Math.min(Math.min(chunk.length - posInChunk, size - pos), dst.remaining());
+            dst.put(chunk, posInChunk, count);
+            pos += count;
+            total += count;
+        }
+        return total;
+    }
+
+    private void loadChunk(int index) throws IOException {
+        long chunkPos = (long)index << chunkBits;
+        if (chunkPos < streamPos) {
+            stream.reset();
+            streamPos = 0;
+        }
+        long skipN = chunkPos - streamPos;
+        if (stream.skip(skipN) < skipN) {
+            throw new EOFException("buffer underrun");
+        }
+        streamPos = chunkPos;
+
+        int todo = Math.min(chunk.length, stream.available());
+        stream.readFully(chunk, 0, todo);
+        streamPos += todo;
+
+        try {
+            cipher = initCipherForBlock(cipher, index);
+            if (todo == chunk.length) {
+                cipher.doFinal(chunk, 0, todo, chunk);
+            } else {
+                cipher.update(chunk, 0, todo, chunk);
+            }
+        } catch (GeneralSecurityException e) {
+            chunkIndex = -1;
+            throw new EncryptedDocumentException(e.getMessage(), e);
+        }
+        chunkIndex = index;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        checkOpen();
+        return pos;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws IOException {
+        checkOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("negative position");
+        }
+        pos = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !isClosed;
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        stream.close();
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (isClosed) {
+            throw new ClosedChannelException();
+        }
+    }
+}
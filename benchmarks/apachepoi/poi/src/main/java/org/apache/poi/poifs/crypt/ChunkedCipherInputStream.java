@@ -19,7 +19,14 @@ package org.apache.poi.poifs.crypt;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import javax.crypto.Cipher;
 
@@ -42,6 +49,14 @@ public abstract class ChunkedCipherInputStream extends LittleEndianInputStream {
     private long pos;
     private boolean chunkIsValid;
 
+    // parallel decryption of the next chunks, see setParallelDecryption()
+    private Executor executor;
+    private int prefetchChunks;
+    private int prefetchIndex;
+    private final Queue<FutureTask<byte[]>> prefetched = new ArrayDeque<>();
+    private final Queue<byte[]> freeChunks = new ArrayDeque<>();
+    private final Queue<Cipher> idleCiphers = new ConcurrentLinkedQueue<>();
+
     public ChunkedCipherInputStream(InputStream stream, long size, int chunkSize)
     throws GeneralSecurityException {
         this(stream, size, chunkSize, 0);
@@ -73,6 +88,24 @@ public abstract class ChunkedCipherInputStream extends LittleEndianInputStream {
     protected abstract Cipher initCipherForBlock(Cipher existing, int block)
     throws GeneralSecurityException;
 
+    /**
+     * Decrypts the next {@code prefetchChunks} chunks on the given executor, while the current
+     * chunk is read. The encrypted chunks are still read in order by the reading thread.<p>
+     *
+     * This requires a fixed chunk size, no plain reads and an {@link #initCipherForBlock(Cipher, int)}
+     * which can be called concurrently, i.e. which derives each chunk key and IV only from the chunk index.
+     *
+     * @param executor the executor or {@code null} to decrypt sequentially
+     * @param prefetchChunks the maximum number of chunks decrypted ahead
+     */
+    protected void setParallelDecryption(Executor executor, int prefetchChunks) {
+        if (executor != null && chunkSize == -1) {
+            throw new EncryptedDocumentException("streaming ciphers can't be decrypted in parallel");
+        }
+        this.executor = executor;
+        this.prefetchChunks = Math.max(1, prefetchChunks);
+    }
+
     @Override
     public int read() throws IOException {
         byte[] b = { 0 };
@@ -171,6 +204,11 @@ public abstract class ChunkedCipherInputStream extends LittleEndianInputStream {
     }
 
     private void nextChunk() throws GeneralSecurityException, IOException {
+        if (executor != null) {
+            nextPrefetchedChunk();
+            return;
+        }
+
         if (chunkSize != -1) {
             int index = (int)(pos >> chunkBits);
             initCipherForBlock(cipher, index);
@@ -201,6 +239,79 @@ public abstract class ChunkedCipherInputStream extends LittleEndianInputStream {
         invokeCipher(totalBytes, totalBytes == chunkSize);
     }
 
+    private void nextPrefetchedChunk() throws GeneralSecurityException, IOException {
+        int index = (int)(pos >> chunkBits);
+
+        // drop the chunks which were skipped
+        while (!prefetched.isEmpty() && prefetchIndex < index) {
+            prefetched.remove().cancel(false);
+            prefetchIndex++;
+        }
+        if (prefetched.isEmpty()) {
+            if (lastIndex != index) {
+                long skipN = (long)(index - lastIndex) << chunkBits;
+                if (super.skip(skipN) < skipN) {
+                    throw new EOFException("buffer underrun");
+                }
+            }
+            lastIndex = prefetchIndex = index;
+        }
+
+        while (prefetched.size() < prefetchChunks && ((long)lastIndex << chunkBits) < size) {
+            byte[] data = freeChunks.isEmpty() ? new byte[chunk.length] : freeChunks.remove();
+            int readBytes, totalBytes = 0;
+            do {
+                readBytes = super.read(data, totalBytes, data.length-totalBytes);
+                totalBytes += Math.max(0, readBytes);
+            } while (readBytes != -1 && totalBytes < data.length);
+
+            if (readBytes == -1 && ((long)lastIndex << chunkBits)+totalBytes < size && size < Integer.MAX_VALUE) {
+                throw new EOFException("buffer underrun");
+            }
+
+            final int block = lastIndex++, length = totalBytes;
+            FutureTask<byte[]> task = new FutureTask<>(() -> decryptChunk(data, block, length));
+            prefetched.add(task);
+            executor.execute(task);
+        }
+
+        byte[] data;
+        try {
+            data = prefetched.remove().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while decrypting chunks");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GeneralSecurityException) {
+                throw (GeneralSecurityException)e.getCause();
+            }
+            throw new IOException("can't decrypt chunk", e.getCause());
+        }
+        prefetchIndex++;
+        System.arraycopy(data, 0, chunk, 0, chunk.length);
+        freeChunks.add(data);
+    }
+
+    private byte[] decryptChunk(byte[] data, int block, int length) throws GeneralSecurityException {
+        Cipher c = initCipherForBlock(idleCiphers.poll(), block);
+        if (length == chunk.length) {
+            c.doFinal(data, 0, length, data);
+        } else {
+            c.update(data, 0, length, data);
+        }
+        idleCiphers.add(c);
+        return data;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (FutureTask<byte[]> task : prefetched) {
+            task.cancel(false);
+        }
+        prefetched.clear();
+        super.close();
+    }
+
     /**
      * Helper function for overriding the cipher invocation, i.e. XOR doesn't use a cipher
      * and uses its own implementation
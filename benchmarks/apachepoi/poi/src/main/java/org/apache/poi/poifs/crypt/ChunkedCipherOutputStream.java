@@ -23,16 +23,25 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 
 import com.zaxxer.sparsebits.SparseBitSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
 import org.apache.poi.poifs.filesystem.POIFSWriterEvent;
 import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.Internal;
@@ -63,15 +72,40 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
     private Cipher cipher;
     private boolean isClosed;
 
+    // parallel encryption of full chunks, see setParallelEncryption()
+    private Executor executor;
+    private int maxPendingChunks;
+    private final Queue<FutureTask<byte[]>> pendingChunks = new ArrayDeque<>();
+    private final Queue<byte[]> freeChunks = new ArrayDeque<>();
+    private final Queue<Cipher> idleCiphers = new ConcurrentLinkedQueue<>();
+
+    private Mac integrityMac;
+
     public ChunkedCipherOutputStream(DirectoryNode dir, int chunkSize) throws IOException, GeneralSecurityException {
+        this(dir, chunkSize, true);
+    }
+
+    /**
+     * @param dir the node to create the EncryptedPackage document in
+     * @param chunkSize the chunk size or -1 for streaming ciphers
+     * @param useTempFile if {@code false}, the encrypted data is written directly into the document and
+     *        the StreamSize field is updated on close - {@link #calculateChecksum(File, int)} isn't called then,
+     *        so implementations with an integrity check need to provide {@link #createIntegrityMac()}
+     */
+    public ChunkedCipherOutputStream(DirectoryNode dir, int chunkSize, boolean useTempFile) throws IOException, GeneralSecurityException {
         super(null);
         this.chunkSize = chunkSize;
         int cs = chunkSize == STREAMING ? 4096 : chunkSize;
         this.chunk = IOUtils.safelyAllocate(cs, CryptoFunctions.MAX_RECORD_LENGTH);
         this.plainByteFlags = new SparseBitSet(cs);
         this.chunkBits = Integer.bitCount(cs-1);
-        this.fileOut = TempFile.createTempFile("encrypted_package", "crypt");
-        this.out = new FileOutputStream(fileOut);
+        if (useTempFile) {
+            this.fileOut = TempFile.createTempFile("encrypted_package", "crypt");
+            this.out = new FileOutputStream(fileOut);
+        } else {
+            this.fileOut = null;
+            this.out = Encryptor.createPackageStream(dir);
+        }
         this.dir = dir;
         this.cipher = initCipherForBlock(null, 0, false);
     }
@@ -105,9 +139,51 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
     protected abstract void calculateChecksum(File fileOut, int oleStreamSize)
     throws GeneralSecurityException, IOException;
 
+    /**
+     * @param dir the node to create the entry in
+     * @param tmpFile the temporary file with the encrypted data or {@code null}, if it was written directly
+     */
     protected abstract void createEncryptionInfoEntry(DirectoryNode dir, File tmpFile)
     throws IOException, GeneralSecurityException;
 
+    /**
+     * Implementations which protect the EncryptedPackage stream with a HMAC can return an initialized
+     * MAC here. It is then updated while the encrypted data is copied into the POIFS document, instead of
+     * reading the temporary file again in {@link #calculateChecksum(File, int)}, which isn't called in that case.
+     *
+     * @return the MAC over the whole EncryptedPackage stream including the StreamSize field or {@code null}
+     */
+    protected Mac createIntegrityMac() throws GeneralSecurityException {
+        return null;
+    }
+
+    /**
+     * Called with the result of the MAC returned by {@link #createIntegrityMac()},
+     * before the encryption info entry is created
+     */
+    protected void updateIntegrityMac(byte[] hmacValue) throws GeneralSecurityException {
+    }
+
+    /**
+     * Encrypts full chunks on the given executor, while the chunks are still written in order.
+     * At most {@code maxPendingChunks} chunks are buffered, before writing blocks for the oldest one.
+     * Only chunks without plain bytes are encrypted in parallel, the last chunk is always encrypted
+     * by the writing thread.<p>
+     *
+     * This requires a fixed chunk size and an {@link #initCipherForBlock(Cipher, int, boolean)}
+     * which can be called concurrently, i.e. which derives each chunk key and IV only from the chunk index.
+     *
+     * @param executor the executor or {@code null} to encrypt sequentially
+     * @param maxPendingChunks the maximum number of chunks in flight
+     */
+    protected void setParallelEncryption(Executor executor, int maxPendingChunks) {
+        if (executor != null && chunkSize == STREAMING) {
+            throw new EncryptedDocumentException("streaming ciphers can't be encrypted in parallel");
+        }
+        this.executor = executor;
+        this.maxPendingChunks = Math.max(1, maxPendingChunks);
+    }
+
     @Override
     public void write(int b) throws IOException {
         write(new byte[]{(byte)b});
@@ -178,6 +254,13 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
             lastChunk = true;
         }
 
+        if (executor != null && !lastChunk && plainByteFlags.isEmpty()) {
+            submitChunk(index);
+            written += chunk.length;
+            return;
+        }
+        writePendingChunks(0);
+
         int ciLen;
         try {
             boolean doFinal = true;
@@ -204,6 +287,42 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
         written += ciLen;
     }
 
+    private void submitChunk(int index) throws IOException {
+        writePendingChunks(maxPendingChunks-1);
+
+        byte[] data = freeChunks.isEmpty() ? new byte[chunk.length] : freeChunks.remove();
+        System.arraycopy(chunk, 0, data, 0, chunk.length);
+        FutureTask<byte[]> task = new FutureTask<>(() -> encryptChunk(data, index));
+        pendingChunks.add(task);
+        executor.execute(task);
+    }
+
+    private byte[] encryptChunk(byte[] data, int index) throws GeneralSecurityException, IOException {
+        Cipher c = initCipherForBlock(idleCiphers.poll(), index, false);
+        c.doFinal(data, 0, data.length, data);
+        idleCiphers.add(c);
+        return data;
+    }
+
+    /**
+     * Writes the encrypted chunks in order, until not more than {@code maxPending} chunks are left
+     */
+    private void writePendingChunks(int maxPending) throws IOException {
+        while (pendingChunks.size() > maxPending) {
+            byte[] data;
+            try {
+                data = pendingChunks.remove().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while encrypting chunks");
+            } catch (ExecutionException e) {
+                throw new IOException("can't encrypt chunk", e.getCause());
+            }
+            out.write(data);
+            freeChunks.add(data);
+        }
+    }
+
     /**
      * Helper function for overriding the cipher invocation, i.e. XOR doesn't use a cipher
      * and uses its own implementation
@@ -254,18 +373,44 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
 
         try {
             writeChunk(false);
+            writePendingChunks(0);
 
             super.close();
 
             if (fileOut != null) {
                 int oleStreamSize = (int)(fileOut.length()+LittleEndianConsts.LONG_SIZE);
-                calculateChecksum(fileOut, (int)pos);
+                integrityMac = createIntegrityMac();
+                if (integrityMac == null) {
+                    calculateChecksum(fileOut, (int)pos);
+                }
                 dir.createDocument(DEFAULT_POIFS_ENTRY, oleStreamSize, this::processPOIFSWriterEvent);
+                if (integrityMac != null) {
+                    updateIntegrityMac(integrityMac.doFinal());
+                }
                 createEncryptionInfoEntry(dir, fileOut);
+            } else if (dir != null) {
+                Encryptor.updateStreamSize(dir, pos);
+                integrityMac = createIntegrityMac();
+                if (integrityMac != null) {
+                    // the HMAC covers the StreamSize field, so the document is read again
+                    try (DocumentInputStream dis = dir.createDocumentInputStream(DEFAULT_POIFS_ENTRY)) {
+                        byte[] buf = new byte[chunk.length];
+                        int readBytes;
+                        while ((readBytes = dis.read(buf)) != -1) {
+                            integrityMac.update(buf, 0, readBytes);
+                        }
+                    }
+                    updateIntegrityMac(integrityMac.doFinal());
+                }
+                createEncryptionInfoEntry(dir, null);
             }
         } catch (GeneralSecurityException e) {
             throw new IOException(e);
         } finally {
+            for (FutureTask<byte[]> task : pendingChunks) {
+                task.cancel(false);
+            }
+            pendingChunks.clear();
             if (fileOut != null) {
                 if (!fileOut.delete()) {
                     //ignore
@@ -313,7 +458,18 @@ public abstract class ChunkedCipherOutputStream extends FilterOutputStream {
                 LittleEndian.putLong(buf, 0, pos);
                 os.write(buf);
 
-                IOUtils.copy(fis, os);
+                if (integrityMac == null) {
+                    IOUtils.copy(fis, os);
+                } else {
+                    // the HMAC covers the StreamSize field and the encrypted data, i.e. all bytes of the document
+                    integrityMac.update(buf);
+                    byte[] copyBuf = new byte[chunk.length];
+                    int readBytes;
+                    while ((readBytes = fis.read(copyBuf)) != -1) {
+                        os.write(copyBuf, 0, readBytes);
+                        integrityMac.update(copyBuf, 0, readBytes);
+                    }
+                }
             }
 
             if (!fileOut.delete()) {
@@ -18,8 +18,10 @@ package org.apache.poi.poifs.crypt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.security.GeneralSecurityException;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.crypto.Cipher;
@@ -80,6 +82,32 @@ public abstract class Decryptor implements GenericRecord {
         throw new EncryptedDocumentException("this decryptor doesn't support reading from a stream");
     }
 
+    /**
+     * Return a read-only channel with random access to the decrypted data.
+     * Only the segments which are read are decrypted, so parts of a large package
+     * can be read without decrypting all of it. The channel {@link SeekableByteChannel#size() size}
+     * is the size of the decrypted data.
+     *
+     * @param dir the node to read from
+     * @return decrypted channel
+     */
+    public SeekableByteChannel getDataChannel(DirectoryNode dir)
+        throws IOException, GeneralSecurityException {
+        throw new EncryptedDocumentException("this decryptor doesn't support random access");
+    }
+
+    /**
+     * Decrypts the segments of the data stream concurrently on the given executor.
+     * Needs to be set before the data stream is requested.
+     * While a segment is read, the next {@code prefetchSegments} segments are decrypted.
+     *
+     * @param executor the executor for the segment decryption or {@code null} to decrypt sequentially
+     * @param prefetchSegments the maximum number of segments decrypted ahead
+     */
+    public void setParallelDecryption(Executor executor, int prefetchSegments) {
+        throw new EncryptedDocumentException("this decryptor doesn't support parallel decryption");
+    }
+
     /**
      * Sets the chunk size of the data stream.
      * Needs to be set before the data stream is requested.
@@ -18,8 +18,11 @@ package org.apache.poi.poifs.crypt;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.crypto.SecretKey;
@@ -27,8 +30,12 @@ import javax.crypto.SecretKey;
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.common.usermodel.GenericRecord;
 import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentNode;
+import org.apache.poi.poifs.filesystem.DocumentOutputStream;
+import org.apache.poi.poifs.filesystem.POIFSDocument;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.apache.poi.util.GenericRecordUtil;
+import org.apache.poi.util.LittleEndianConsts;
 
 public abstract class Encryptor implements GenericRecord {
 
@@ -98,6 +105,59 @@ public abstract class Encryptor implements GenericRecord {
         throw new EncryptedDocumentException("this decryptor doesn't support changing the chunk size");
     }
 
+    /**
+     * Encrypts the segments of the data stream concurrently on the given executor.
+     * Needs to be set before the data stream is requested.
+     * The segments are still written in order and at most {@code maxPendingSegments} segments
+     * are buffered while they are encrypted.
+     *
+     * @param executor the executor for the segment encryption or {@code null} to encrypt sequentially
+     * @param maxPendingSegments the maximum number of segments in flight
+     */
+    public void setParallelEncryption(Executor executor, int maxPendingSegments) {
+        throw new EncryptedDocumentException("this encryptor doesn't support parallel encryption");
+    }
+
+    /**
+     * Encrypts the data stream directly into the EncryptedPackage document, instead of buffering it
+     * in a temporary file and copying it into the document on close. The StreamSize field and the
+     * integrity check are updated in place, when the stream is closed.
+     * Needs to be set before the data stream is requested.
+     *
+     * @param useTempFile {@code true} to buffer the encrypted data in a temporary file (the default),
+     *        {@code false} to write it directly into the document
+     */
+    public void setUseTempFile(boolean useTempFile) {
+        throw new EncryptedDocumentException("this encryptor doesn't support writing without a temporary file");
+    }
+
+    /**
+     * Creates the EncryptedPackage document for writing the encrypted data directly.
+     * The StreamSize field is written as 0 and needs to be set with {@link #updateStreamSize(DirectoryNode, long)}
+     * after the stream is closed.
+     *
+     * @param dir the node to write to
+     * @return the stream for the EncryptedData field
+     */
+    protected static OutputStream createPackageStream(DirectoryNode dir) throws IOException {
+        OutputStream os = new DocumentOutputStream(dir, DEFAULT_POIFS_ENTRY);
+        os.write(new byte[LittleEndianConsts.LONG_SIZE]);
+        return os;
+    }
+
+    /**
+     * Sets the StreamSize field of an EncryptedPackage document created by {@link #createPackageStream(DirectoryNode)}
+     *
+     * @param dir the node of the document
+     * @param streamSize the size of the unencrypted data
+     */
+    protected static void updateStreamSize(DirectoryNode dir, long streamSize) throws IOException {
+        // the document blocks are views on the filesystem data, so the first one can be updated in place
+        POIFSDocument doc = new POIFSDocument((DocumentNode)dir.getEntry(DEFAULT_POIFS_ENTRY));
+        ByteBuffer block = doc.iterator().next();
+        block.duplicate().order(ByteOrder.LITTLE_ENDIAN).putLong(block.position(), streamSize);
+    }
+
     public abstract Encryptor copy();
 
     @Override
@@ -0,0 +1,203 @@
+/* ====================================================================
+   Licensed to the Apache Software Foundation (ASF) under one or more
+   contributor license agreements.  See the NOTICE file distributed with
+   this work for additional information regarding copyright ownership.
+   The ASF licenses this file to You under the Apache License, Version 2.0
+   (the "License"); you may not use this file except in compliance with
+   the License.  You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+==================================================================== */
+package org.apache.poi.poifs.crypt;
+
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.poi.EncryptedDocumentException;
+import org.apache.poi.util.RandomSingleton;
+import org.apache.poi.util.StringUtil;
+
+/**
+ * Optional cache for the iterated password hashes of {@link CryptoFunctions#hashPassword(String, HashAlgorithm, byte[], int)},
+ * which are the expensive part of verifying a password of standard and agile encryption.<p>
+ *
+ * When the same protected document is opened repeatedly, the hash is derived from the same salt,
+ * hash algorithm, spin count and password, so the spin loop can be skipped. The cache is disabled by default
+ * and needs to be enabled with {@link #setMaxSize(int)}.<p>
+ *
+ * The passwords aren't kept - entries are looked up by an HMAC of the password with a random key,
+ * which is generated per JVM. The cached hashes are overwritten with zeros, when they are evicted
+ * or the cache is {@link #clear() cleared}.<p>
+ *
+ * Only the decryptors use the cache. Encryptors draw a new salt for every password they confirm,
+ * so their hashes would never be looked up again and would only evict useful entries.
+ */
+public final class PasswordHashCache {
+
+    private static final byte[] FINGERPRINT_KEY = new byte[HashAlgorithm.sha256.hashSize];
+
+    static {
+        RandomSingleton.getInstance().nextBytes(FINGERPRINT_KEY);
+    }
+
+    private static int MAX_SIZE;
+
+    private static final Map<CacheKey, byte[]> HASHES = new LinkedHashMap<CacheKey, byte[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, byte[]> eldest) {
+            if (size() <= MAX_SIZE) {
+                return false;
+            }
+            Arrays.fill(eldest.getValue(), (byte)0);
+            return true;
+        }
+    };
+
+    private PasswordHashCache() {
+    }
+
+    /**
+     * @param maxSize the maximum number of cached password hashes, 0 disables the cache
+     */
+    public static void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative");
+        }
+        synchronized (HASHES) {
+            MAX_SIZE = maxSize;
+            Iterator<byte[]> iter = HASHES.values().iterator();
+            for (int i = HASHES.size(); i > maxSize; i--) {
+                Arrays.fill(iter.next(), (byte)0);
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of cached password hashes, 0 if the cache is disabled
+     */
+    public static int getMaxSize() {
+        synchronized (HASHES) {
+            return MAX_SIZE;
+        }
+    }
+
+    /**
+     * @return the number of currently cached password hashes
+     */
+    static int size() {
+        synchronized (HASHES) {
+            return HASHES.size();
+        }
+    }
+
+    /**
+     * Removes and zeroes all cached password hashes
+     */
+    public static void clear() {
+        synchronized (HASHES) {
+            for (byte[] hash : HASHES.values()) {
+                Arrays.fill(hash, (byte)0);
+            }
+            HASHES.clear();
+        }
+    }
+
+    /**
+     * Same as {@link CryptoFunctions#hashPassword(String, HashAlgorithm, byte[], int)},
+     * but uses the cached hash if there is one.
+     *
+     * @param password the password
+     * @param hashAlgorithm the hash algorithm
+     * @param salt the initial salt value
+     * @param spinCount the repetition count
+     * @return the hashed password, a copy which can be modified by the caller
+     */
+    public static byte[] hashPassword(String password, HashAlgorithm hashAlgorithm, byte[] salt, int spinCount) {
+        if (getMaxSize() == 0) {
+            return CryptoFunctions.hashPassword(password, hashAlgorithm, salt, spinCount);
+        }
+
+        CacheKey key = new CacheKey(fingerprint(password), hashAlgorithm, salt, spinCount);
+        synchronized (HASHES) {
+            byte[] hash = HASHES.get(key);
+            if (hash != null) {
+                return hash.clone();
+            }
+        }
+
+        // don't block other lookups while spinning
+        byte[] hash = CryptoFunctions.hashPassword(password, hashAlgorithm, salt, spinCount);
+        synchronized (HASHES) {
+            if (MAX_SIZE > 0) {
+                byte[] old = HASHES.put(key, hash.clone());
+                if (old != null) {
+                    Arrays.fill(old, (byte)0);
+                }
+            }
+        }
+        return hash;
+    }
+
+    @SuppressWarnings({"squid:S2068"})
+    private static byte[] fingerprint(String password) {
+        // same default as hashPassword
+        if (password == null) {
+            password = Decryptor.DEFAULT_PASSWORD;
+        }
+        Mac mac = CryptoFunctions.getMac(HashAlgorithm.sha256);
+        try {
+            mac.init(new SecretKeySpec(FINGERPRINT_KEY, HashAlgorithm.sha256.jceHmacId));
+        } catch (InvalidKeyException e) {
+            throw new EncryptedDocumentException(e);
+        }
+        byte[] pwBytes = StringUtil.getToUnicodeLE(password);
+        byte[] fingerprint = mac.doFinal(pwBytes);
+        Arrays.fill(pwBytes, (byte)0);
+        return fingerprint;
+    }
+
+    private static final class CacheKey {
+        private final byte[] fingerprint;
+        private final HashAlgorithm hashAlgorithm;
+        private final byte[] salt;
+        private final int spinCount;
+        private final int hashCode;
+
+        CacheKey(byte[] fingerprint, HashAlgorithm hashAlgorithm, byte[] salt, int spinCount) {
+            this.fingerprint = fingerprint;
+            this.hashAlgorithm = hashAlgorithm;
+            this.salt = salt.clone();
+            this.spinCount = spinCount;
+            this.hashCode = 31 * (31 * (31 * Arrays.hashCode(fingerprint) + hashAlgorithm.ordinal())
+                + Arrays.hashCode(salt)) + spinCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey)o;
+            return spinCount == other.spinCount && hashAlgorithm == other.hashAlgorithm
+                && Arrays.equals(salt, other.salt) && Arrays.equals(fingerprint, other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -21,15 +21,17 @@ import static org.apache.poi.poifs.crypt.CryptoFunctions.generateKey;
 import static org.apache.poi.poifs.crypt.CryptoFunctions.getBlock0;
 import static org.apache.poi.poifs.crypt.CryptoFunctions.getCipher;
 import static org.apache.poi.poifs.crypt.CryptoFunctions.getMessageDigest;
-import static org.apache.poi.poifs.crypt.CryptoFunctions.hashPassword;
+import static org.apache.poi.poifs.crypt.PasswordHashCache.hashPassword;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
@@ -39,6 +41,7 @@ import javax.crypto.spec.SecretKeySpec;
 
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.poifs.crypt.ChainingMode;
+import org.apache.poi.poifs.crypt.ChunkedCipherByteChannel;
 import org.apache.poi.poifs.crypt.ChunkedCipherInputStream;
 import org.apache.poi.poifs.crypt.CipherAlgorithm;
 import org.apache.poi.poifs.crypt.CryptoFunctions;
@@ -61,6 +64,8 @@ public class AgileDecryptor extends Decryptor {
     static final byte[] kIntegrityValueBlock = longToBytes(0xa0677f02b22c8433L);
 
     private long _length = -1;
+    private Executor executor;
+    private int prefetchSegments;
 
     protected AgileDecryptor() {
     }
@@ -68,6 +73,8 @@ public class AgileDecryptor extends Decryptor {
     protected AgileDecryptor(AgileDecryptor other) {
         super(other);
         _length = other._length;
+        executor = other.executor;
+        prefetchSegments = other.prefetchSegments;
     }
 
     private static byte[] longToBytes(long l) {
@@ -217,6 +224,23 @@ public class AgileDecryptor extends Decryptor {
         return new AgileCipherInputStream(dis, _length);
     }
 
+    @Override
+    public SeekableByteChannel getDataChannel(DirectoryNode dir) throws IOException {
+        DocumentInputStream dis = dir.createDocumentInputStream(DEFAULT_POIFS_ENTRY);
+        _length = dis.readLong();
+        return new AgileCipherByteChannel(dis, _length);
+    }
+
+    /**
+     * Decrypts the 4096-byte segments concurrently, as each segment has its own IV
+     * derived from the segment number.
+     */
+    @Override
+    public void setParallelDecryption(Executor executor, int prefetchSegments) {
+        this.executor = executor;
+        this.prefetchSegments = prefetchSegments;
+    }
+
     @Override
     public long getLength(){
         if(_length == -1) {
@@ -269,6 +293,7 @@ public class AgileDecryptor extends Decryptor {
         public AgileCipherInputStream(DocumentInputStream stream, long size)
         throws GeneralSecurityException {
             super(stream, size, 4096);
+            setParallelDecryption(executor, prefetchSegments);
         }
 
         // TODO: calculate integrity hmac while reading the stream
@@ -281,6 +306,18 @@ public class AgileDecryptor extends Decryptor {
         }
     }
 
+    private class AgileCipherByteChannel extends ChunkedCipherByteChannel {
+        public AgileCipherByteChannel(DocumentInputStream stream, long size) {
+            super(stream, size, 4096);
+        }
+
+        @Override
+        protected Cipher initCipherForBlock(Cipher cipher, int block)
+        throws GeneralSecurityException {
+            return AgileDecryptor.initCipherForBlock(cipher, block, false, getEncryptionInfo(), getSecretKey(), Cipher.DECRYPT_MODE);
+        }
+    }
+
     @Override
     public AgileDecryptor copy() {
         return new AgileDecryptor(this);
@@ -38,6 +38,7 @@ import java.io.OutputStream;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.util.concurrent.Executor;
 
 import javax.crypto.Cipher;
 import javax.crypto.Mac;
@@ -69,6 +70,9 @@ public class AgileEncryptor extends Encryptor {
 
     private byte[] integritySalt;
     private byte[] pwHash;
+    private Executor executor;
+    private int maxPendingSegments;
+    private boolean useTempFile = true;
 
     protected AgileEncryptor() {}
 
@@ -76,6 +80,9 @@ public class AgileEncryptor extends Encryptor {
         super(other);
         integritySalt = (other.integritySalt == null) ? null : other.integritySalt.clone();
         pwHash = (other.pwHash == null) ? null : other.pwHash.clone();
+        executor = other.executor;
+        maxPendingSegments = other.maxPendingSegments;
+        useTempFile = other.useTempFile;
     }
 
     @Override
@@ -213,6 +220,21 @@ public class AgileEncryptor extends Encryptor {
         return new AgileCipherOutputStream(dir);
     }
 
+    /**
+     * Encrypts the 4096-byte segments concurrently, as each segment has its own IV
+     * derived from the segment number.
+     */
+    @Override
+    public void setParallelEncryption(Executor executor, int maxPendingSegments) {
+        this.executor = executor;
+        this.maxPendingSegments = maxPendingSegments;
+    }
+
+    @Override
+    public void setUseTempFile(boolean useTempFile) {
+        this.useTempFile = useTempFile;
+    }
+
     /**
      * Generate an HMAC, as specified in [RFC2104], of the encrypted form of the data (message),
      * which the DataIntegrity element will verify by using the Salt generated in step 2 as the key.
@@ -226,12 +248,7 @@ public class AgileEncryptor extends Encryptor {
         // as the integrity hmac needs to contain the StreamSize,
         // it's not possible to calculate it on-the-fly while buffering
         // TODO: add stream size parameter to getDataStream()
-        AgileEncryptionHeader header = (AgileEncryptionHeader)getEncryptionInfo().getHeader();
-        int blockSize = header.getBlockSize();
-        HashAlgorithm hashAlgo = header.getHashAlgorithm();
-        Mac integrityMD = CryptoFunctions.getMac(hashAlgo);
-        byte[] hmacKey = getBlock0(this.integritySalt, getNextBlockSize(this.integritySalt.length, blockSize));
-        integrityMD.init(new SecretKeySpec(hmacKey, hashAlgo.jceHmacId));
+        Mac integrityMD = initIntegrityHMAC();
 
         byte[] buf = new byte[1024];
         LittleEndian.putLong(buf, 0, oleStreamSize);
@@ -244,7 +261,28 @@ public class AgileEncryptor extends Encryptor {
             }
         }
 
-        byte[] hmacValue = integrityMD.doFinal();
+        updateIntegrityHMAC(integrityMD.doFinal());
+    }
+
+    /**
+     * @return the HMAC for the EncryptedPackage stream, keyed with the integrity salt
+     */
+    protected Mac initIntegrityHMAC() throws GeneralSecurityException {
+        AgileEncryptionHeader header = (AgileEncryptionHeader)getEncryptionInfo().getHeader();
+        int blockSize = header.getBlockSize();
+        HashAlgorithm hashAlgo = header.getHashAlgorithm();
+        Mac integrityMD = CryptoFunctions.getMac(hashAlgo);
+        byte[] hmacKey = getBlock0(this.integritySalt, getNextBlockSize(this.integritySalt.length, blockSize));
+        integrityMD.init(new SecretKeySpec(hmacKey, hashAlgo.jceHmacId));
+        return integrityMD;
+    }
+
+    /**
+     * Encrypts the HMAC value of the EncryptedPackage stream and stores it in the header
+     */
+    protected void updateIntegrityHMAC(byte[] hmacValue) throws GeneralSecurityException {
+        AgileEncryptionHeader header = (AgileEncryptionHeader)getEncryptionInfo().getHeader();
+        int blockSize = header.getBlockSize();
         byte[] hmacValueFilled = getBlock0(hmacValue, getNextBlockSize(hmacValue.length, blockSize));
 
         byte[] iv = CryptoFunctions.generateIv(header.getHashAlgorithm(), header.getKeySalt(), kIntegrityValueBlock, blockSize);
@@ -343,7 +381,8 @@ public class AgileEncryptor extends Encryptor {
      */
     private class AgileCipherOutputStream extends ChunkedCipherOutputStream {
         public AgileCipherOutputStream(DirectoryNode dir) throws IOException, GeneralSecurityException {
-            super(dir, 4096);
+            super(dir, 4096, useTempFile);
+            setParallelEncryption(executor, maxPendingSegments);
         }
 
         @Override
@@ -359,6 +398,17 @@ public class AgileEncryptor extends Encryptor {
             updateIntegrityHMAC(fileOut, oleStreamSize);
         }
 
+        @Override
+        protected Mac createIntegrityMac() throws GeneralSecurityException {
+            return initIntegrityHMAC();
+        }
+
+        @Override
+        protected void updateIntegrityMac(byte[] hmacValue) throws GeneralSecurityException {
+            // integrityHMAC needs to be updated before the encryption document is created
+            updateIntegrityHMAC(hmacValue);
+        }
+
         @Override
         protected void createEncryptionInfoEntry(DirectoryNode dir, File tmpFile)
         throws IOException {
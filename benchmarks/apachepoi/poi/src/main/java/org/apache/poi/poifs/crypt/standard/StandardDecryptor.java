@@ -16,7 +16,7 @@
 ==================================================================== */
 package org.apache.poi.poifs.crypt.standard;
 
-import static org.apache.poi.poifs.crypt.CryptoFunctions.hashPassword;
+import static org.apache.poi.poifs.crypt.PasswordHashCache.hashPassword;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -85,9 +85,11 @@ public class StandardDecryptor extends Decryptor {
     }
 
     protected static SecretKey generateSecretKey(String password, EncryptionVerifier ver, int keySize) {
-        HashAlgorithm hashAlgo = ver.getHashAlgorithm();
+        return generateSecretKey(hashPassword(password, ver.getHashAlgorithm(), ver.getSalt(), ver.getSpinCount()), ver, keySize);
+    }
 
-        byte[] pwHash = hashPassword(password, hashAlgo, ver.getSalt(), ver.getSpinCount());
+    protected static SecretKey generateSecretKey(byte[] pwHash, EncryptionVerifier ver, int keySize) {
+        HashAlgorithm hashAlgo = ver.getHashAlgorithm();
 
         byte[] blockKey = new byte[4];
         LittleEndian.putInt(blockKey, 0, 0);
@@ -56,10 +56,13 @@ import org.apache.poi.util.TempFile;
 public class StandardEncryptor extends Encryptor {
     private static final Logger LOG = LogManager.getLogger(StandardEncryptor.class);
 
+    private boolean useTempFile = true;
+
     protected StandardEncryptor() {}
 
     protected StandardEncryptor(StandardEncryptor other) {
         super(other);
+        useTempFile = other.useTempFile;
     }
 
     @Override
@@ -87,7 +90,9 @@ public class StandardEncryptor extends Encryptor {
         StandardEncryptionVerifier ver = (StandardEncryptionVerifier)getEncryptionInfo().getVerifier();
 
         ver.setSalt(verifierSalt);
-        SecretKey secretKey = generateSecretKey(password, ver, getKeySizeInBytes());
+        // a new salt, so there is nothing to look up in the PasswordHashCache
+        byte[] pwHash = CryptoFunctions.hashPassword(password, ver.getHashAlgorithm(), verifierSalt, ver.getSpinCount());
+        SecretKey secretKey = generateSecretKey(pwHash, ver, getKeySizeInBytes());
         setSecretKey(secretKey);
         Cipher cipher = getCipher(secretKey, null);
 
@@ -124,7 +129,14 @@ public class StandardEncryptor extends Encryptor {
     throws IOException, GeneralSecurityException {
         createEncryptionInfoEntry(dir);
         DataSpaceMapUtils.addDefaultDataSpace(dir);
-        return new StandardCipherOutputStream(dir);
+        return useTempFile
+            ? new StandardCipherOutputStream(dir)
+            : new StandardCipherOutputStream(dir, createPackageStream(dir), null, false);
+    }
+
+    @Override
+    public void setUseTempFile(boolean useTempFile) {
+        this.useTempFile = useTempFile;
     }
 
     protected class StandardCipherOutputStream extends FilterOutputStream implements POIFSWriterListener {
@@ -133,8 +145,15 @@ public class StandardEncryptor extends Encryptor {
         protected final DirectoryNode dir;
         protected final boolean deleteFile;
 
-        @SuppressWarnings({"resource", "squid:S2095"})
         private StandardCipherOutputStream(DirectoryNode dir, File fileOut, boolean deleteFile) throws IOException {
+            this(dir, new FileOutputStream(fileOut), fileOut, deleteFile);
+        }
+
+        /**
+         * @param out the temporary file stream or the EncryptedPackage document stream, if {@code fileOut} is null
+         */
+        @SuppressWarnings({"resource", "squid:S2095"})
+        private StandardCipherOutputStream(DirectoryNode dir, OutputStream out, File fileOut, boolean deleteFile) {
             // although not documented, we need the same padding as with agile encryption
             // and instead of calculating the missing bytes for the block size ourselves
             // we leave it up to the CipherOutputStream, which generates/saves them on close()
@@ -146,7 +165,7 @@ public class StandardEncryptor extends Encryptor {
             // field of the EncryptedPackage field specifies the number of bytes of
             // unencrypted data as specified in section 2.3.4.4.
             super(
-                new CipherOutputStream(new FileOutputStream(fileOut), getCipher(getSecretKey(), "PKCS5Padding"))
+                new CipherOutputStream(out, getCipher(getSecretKey(), "PKCS5Padding"))
             );
             this.deleteFile = deleteFile;
             this.fileOut = fileOut;
@@ -173,6 +192,10 @@ public class StandardEncryptor extends Encryptor {
         public void close() throws IOException {
             // the CipherOutputStream adds the padding bytes on close()
             super.close();
+            if (fileOut == null) {
+                updateStreamSize(dir, countBytes);
+                return;
+            }
             writeToPOIFS();
             if (deleteFile && fileOut != null) {
                 if (!fileOut.delete()) {
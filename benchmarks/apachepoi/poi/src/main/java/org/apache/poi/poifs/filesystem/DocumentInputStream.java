@@ -27,7 +27,6 @@ import java.nio.ByteBuffer;
 import java.util.Iterator;
 
 import org.apache.poi.poifs.property.DocumentProperty;
-import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.LittleEndian;
 import org.apache.poi.util.LittleEndianInput;
 
@@ -242,9 +241,19 @@ public final class DocumentInputStream extends InputStream implements LittleEndi
 
         long rval = new_offset - _current_offset;
 
-        // TODO Do this better
-        byte[] skip = IOUtils.safelyAllocate(rval, Integer.MAX_VALUE);
-        readFully(skip);
+        // move through the blocks without copying them
+        int todo = (int)rval;
+        while (todo > 0) {
+            if (_buffer == null || _buffer.remaining() == 0) {
+                _current_block_count++;
+                _buffer = _data.next();
+            }
+
+            int limit = Math.min(todo, _buffer.remaining());
+            _buffer.position(_buffer.position() + limit);
+            _current_offset += limit;
+            todo -= limit;
+        }
         return rval;
     }
 
@@ -295,6 +304,45 @@ public final class DocumentInputStream extends InputStream implements LittleEndi
         }
     }
 
+    /**
+     * Reads the next bytes without copying them. The returned buffer is a read-only view of the
+     * current block - for a filesystem opened by {@link POIFSFileSystem#openMapped(java.io.File)},
+     * this is a view of the file mapping. Less than {@code maxLength} bytes are returned,
+     * if the block or the document ends before.
+     *
+     * @param maxLength the maximum number of bytes to read
+     * @return the read-only buffer, or {@code null} if the end of the document has been reached
+     * @throws IOException if the stream has been closed
+     */
+    public ByteBuffer readBuffer(int maxLength) throws IOException {
+        dieIfClosed();
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Can't read negative number of bytes");
+        }
+        if (atEOD()) {
+            return null;
+        }
+        if (_buffer == null || _buffer.remaining() == 0) {
+            _current_block_count++;
+            _buffer = _data.next();
+        }
+
+        int limit = Math.min(Math.min(maxLength, remainingBytes()), _buffer.remaining());
+        _current_offset += limit;
+
+        if (limit == _buffer.remaining()) {
+            // hand out the rest of the block, the next read fetches a new one
+            ByteBuffer view = _buffer.isReadOnly() ? _buffer : _buffer.asReadOnlyBuffer();
+            _buffer = null;
+            return view;
+        }
+
+        ByteBuffer view = _buffer.slice();
+        view.limit(limit);
+        _buffer.position(_buffer.position() + limit);
+        return view.asReadOnlyBuffer();
+    }
+
     @Override
     public void readPlain(byte[] buf, int off, int len) {
         readFully(buf, off, len);
@@ -42,6 +42,7 @@ import org.apache.poi.poifs.dev.POIFSViewable;
 import org.apache.poi.poifs.nio.ByteArrayBackedDataSource;
 import org.apache.poi.poifs.nio.DataSource;
 import org.apache.poi.poifs.nio.FileBackedDataSource;
+import org.apache.poi.poifs.nio.MappedFileDataSource;
 import org.apache.poi.poifs.property.DirectoryProperty;
 import org.apache.poi.poifs.property.DocumentProperty;
 import org.apache.poi.poifs.property.PropertyTable;
@@ -183,6 +184,38 @@ public class POIFSFileSystem extends BlockStore
         this(null, file, readOnly, true, true);
     }
 
+    /**
+     * <p>Creates a read-only POIFSFileSystem, which maps the whole {@code File} into memory once.
+     * The blocks of the documents are served as slices of that mapping instead of being read
+     * into the heap, so even multi-GB files can be parsed with little memory.</p>
+     *
+     * <p>The returned filesystem can't be modified or written out. You will need to call
+     * {@link #close()} when you're done to have the file unmapped - buffers obtained via
+     * {@link DocumentInputStream#readBuffer(int)} must not be used after that.</p>
+     *
+     * @param file the File from which to read the data
+     * @return the read-only POIFSFileSystem
+     * @throws IOException on errors reading, or on invalid data
+     * @see MappedFileDataSource
+     */
+    public static POIFSFileSystem openMapped(File file) throws IOException {
+        if (file.exists() && file.length() == 0) {
+            throw new EmptyFileException(file);
+        }
+
+        MappedFileDataSource data = new MappedFileDataSource(file);
+        try {
+            POIFSFileSystem fs = new POIFSFileSystem(false);
+            fs._data = data;
+            fs._header = new HeaderBlock(data.read(POIFSConstants.SMALLER_BIG_BLOCK_SIZE, 0));
+            fs.readCoreContents();
+            return fs;
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+
     /**
      * <p>Creates a POIFSFileSystem from an open {@code FileChannel}. This uses
      * less memory than creating from an {@code InputStream}. The stream will
@@ -192,7 +192,7 @@ public class FileBackedDataSource extends DataSource implements Closeable {
     // need to use reflection to avoid depending on the sun.nio internal API
     // unfortunately this might break silently with newer/other Java implementations,
     // but we at least have unit-tests which will indicate this when run on Windows
-    private static void unmap(final ByteBuffer buffer) {
+    static void unmap(final ByteBuffer buffer) {
         // not necessary for HeapByteBuffer, avoid lots of log-output on this class
         if (buffer.getClass().getName().endsWith("HeapByteBuffer")) {
             return;
@@ -0,0 +1,133 @@
+/* ====================================================================
+   Licensed to the Apache Software Foundation (ASF) under one or more
+   contributor license agreements.  See the NOTICE file distributed with
+   this work for additional information regarding copyright ownership.
+   The ASF licenses this file to You under the Apache License, Version 2.0
+   (the "License"); you may not use this file except in compliance with
+   the License.  You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+==================================================================== */
+
+package org.apache.poi.poifs.nio;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A read-only POIFS {@link DataSource}, which maps the whole File into memory once.<p>
+ *
+ * Reads return slices of the mapping instead of copies, so the blocks of even multi-GB files
+ * don't occupy the heap. The file is mapped in segments of 1GB, as a single mapping is limited
+ * to {@link Integer#MAX_VALUE} bytes. The returned buffers are read-only and must not be used
+ * after the data source has been closed.
+ */
+public class MappedFileDataSource extends DataSource implements Closeable {
+    // a multiple of all big block sizes, so blocks never span two segments
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    private final ByteBuffer[] segments;
+    private final long size;
+
+    public MappedFileDataSource(File file) throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException(file.toString());
+        }
+        // the mappings stay valid after the file has been closed
+        try (RandomAccessFile srcFile = new RandomAccessFile(file, "r")) {
+            FileChannel channel = srcFile.getChannel();
+            size = channel.size();
+            int count = (int)((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+            segments = new ByteBuffer[count];
+            try {
+                for (int i = 0; i < count; i++) {
+                    long position = (long)i << SEGMENT_SHIFT;
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public ByteBuffer read(int length, long position) throws IOException {
+        if (position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " past the end of the file");
+        }
+
+        int segment = (int)(position >>> SEGMENT_SHIFT);
+        int offset = (int)(position & (SEGMENT_SIZE - 1));
+        ByteBuffer src = segments[segment];
+
+        if (offset + length <= src.limit()) {
+            ByteBuffer dst = src.duplicate();
+            dst.position(offset);
+            dst.limit(offset + length);
+            return dst.slice();
+        }
+
+        // spans two segments or goes past the end of the file - copy it like FileBackedDataSource does
+        ByteBuffer dst = ByteBuffer.allocate(length);
+        for (long pos = position; dst.hasRemaining() && pos < size; pos = position + dst.position()) {
+            src = segments[(int)(pos >>> SEGMENT_SHIFT)].duplicate();
+            src.position((int)(pos & (SEGMENT_SIZE - 1)));
+            if (src.remaining() > dst.remaining()) {
+                src.limit(src.position() + dst.remaining());
+            }
+            dst.put(src);
+        }
+        dst.position(0);
+        return dst.asReadOnlyBuffer();
+    }
+
+    @Override
+    public void write(ByteBuffer src, long position) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void copyTo(OutputStream stream) throws IOException {
+        try (WritableByteChannel out = Channels.newChannel(stream)) {
+            for (ByteBuffer segment : segments) {
+                ByteBuffer src = segment.duplicate();
+                while (src.hasRemaining()) {
+                    out.write(src);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        // unmap the segments, so we do not keep files locked on Windows
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i] != null) {
+                FileBackedDataSource.unmap(segments[i]);
+                segments[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/* ====================================================================
+   Licensed to the Apache Software Foundation (ASF) under one or more
+   contributor license agreements.  See the NOTICE file distributed with
+   this work for additional information regarding copyright ownership.
+   The ASF licenses this file to You under the Apache License, Version 2.0
+   (the "License"); you may not use this file except in compliance with
+   the License.  You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+==================================================================== */
+package org.apache.poi.poifs.crypt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TestPasswordHashCache {
+    private static final byte[] SALT1 = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+    private static final byte[] SALT2 = { 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+
+    @AfterEach
+    void disableCache() {
+        PasswordHashCache.setMaxSize(0);
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertEquals(0, PasswordHashCache.getMaxSize());
+        assertArrayEquals(CryptoFunctions.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000),
+            PasswordHashCache.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000));
+        assertThrows(IllegalArgumentException.class, () -> PasswordHashCache.setMaxSize(-1));
+    }
+
+    @Test
+    void sameHashAsUncached() {
+        PasswordHashCache.setMaxSize(4);
+
+        String[] passwords = { "pass", "Pass", null, "" };
+        for (String password : passwords) {
+            for (byte[] salt : new byte[][]{ SALT1, SALT2 }) {
+                for (HashAlgorithm hashAlg : new HashAlgorithm[]{ HashAlgorithm.sha1, HashAlgorithm.sha512 }) {
+                    for (int spinCount : new int[]{ 1000, 1001 }) {
+                        byte[] expected = CryptoFunctions.hashPassword(password, hashAlg, salt, spinCount);
+                        // first call fills the cache, the second one reads it
+                        assertArrayEquals(expected, PasswordHashCache.hashPassword(password, hashAlg, salt, spinCount));
+                        assertArrayEquals(expected, PasswordHashCache.hashPassword(password, hashAlg, salt, spinCount));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void cachedHashIsCopied() {
+        PasswordHashCache.setMaxSize(1);
+
+        byte[] expected = CryptoFunctions.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000);
+        byte[] first = PasswordHashCache.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000);
+        Arrays.fill(first, (byte)0);
+        byte[] second = PasswordHashCache.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000);
+        assertArrayEquals(expected, second);
+        assertFalse(Arrays.equals(first, second));
+
+        // eviction and clearing don't touch the returned copies
+        PasswordHashCache.hashPassword("other", HashAlgorithm.sha512, SALT1, 1000);
+        PasswordHashCache.clear();
+        assertArrayEquals(expected, second);
+        assertArrayEquals(expected, PasswordHashCache.hashPassword("pass", HashAlgorithm.sha512, SALT1, 1000));
+    }
+
+    @Test
+    void encryptorsBypassCache() {
+        PasswordHashCache.setMaxSize(4);
+
+        // encryptors use a new salt for each password, so caching their hashes would only evict others
+        for (EncryptionMode mode : new EncryptionMode[]{ EncryptionMode.agile, EncryptionMode.standard }) {
+            EncryptionInfo info = new EncryptionInfo(mode);
+            info.getEncryptor().confirmPassword("pass");
+            assertEquals(0, PasswordHashCache.size());
+        }
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.apache.poi.poifs.filesystem;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,9 +28,13 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 
+import org.apache.commons.io.output.UnsynchronizedByteArrayOutputStream;
 import org.apache.poi.POIDataSamples;
+import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.SuppressForbidden;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -403,6 +409,77 @@ final class TestDocumentInputStream {
         }
     }
 
+    @Test
+    void testReadBuffer() throws IOException {
+        try (DocumentInputStream stream = new DocumentInputStream(_workbook_n)) {
+            byte[] head = new byte[_buffer_size];
+            stream.readFully(head);
+            assertArrayEquals(Arrays.copyOf(_workbook_data, _buffer_size), head);
+
+            // the views don't cross block boundaries
+            ByteBuffer first = stream.readBuffer(1000);
+            assertEquals(512 - _buffer_size, first.remaining());
+            assertThrows(ReadOnlyBufferException.class, () -> first.put(0, (byte)0));
+            assertEquals(_workbook_size - 512, available(stream));
+
+            stream.mark(0);
+            ByteBuffer view = stream.readBuffer(_buffer_size);
+            assertEquals(_buffer_size, view.remaining());
+            assertEquals(_workbook_data[512], view.get(0));
+            stream.reset();
+
+            int offset = 512;
+            while ((view = stream.readBuffer(Integer.MAX_VALUE)) != null) {
+                while (view.hasRemaining()) {
+                    assertEquals(_workbook_data[offset++], view.get());
+                }
+            }
+            assertEquals(_workbook_size, offset);
+            assertNull(stream.readBuffer(1));
+        }
+    }
+
+    @Test
+    void testMappedFileSystem() throws IOException {
+        final POIDataSamples _samples = POIDataSamples.getPOIFSInstance();
+        String[] files = { "Notes.ole2", "BlockSize512.zvi", "BlockSize4096.zvi", "ShortLastBlock.qwp" };
+        for (String file : files) {
+            File sample = _samples.getFile(file);
+            try (POIFSFileSystem expected = new POIFSFileSystem(sample);
+                 POIFSFileSystem mapped = POIFSFileSystem.openMapped(sample)) {
+                assertEquals(expected.getBigBlockSize(), mapped.getBigBlockSize(), file);
+                assertSameDocuments(expected.getRoot(), mapped.getRoot());
+            }
+        }
+    }
+
+    private static void assertSameDocuments(DirectoryNode expected, DirectoryNode actual) throws IOException {
+        assertEquals(expected.getEntryCount(), actual.getEntryCount(), expected.getName());
+        for (Entry entry : expected) {
+            Entry other = actual.getEntry(entry.getName());
+            if (entry.isDirectoryEntry()) {
+                assertSameDocuments((DirectoryNode) entry, (DirectoryNode) other);
+                continue;
+            }
+
+            byte[] bytes;
+            try (InputStream is = expected.createDocumentInputStream(entry)) {
+                bytes = IOUtils.toByteArray(is);
+            }
+
+            UnsynchronizedByteArrayOutputStream bos = new UnsynchronizedByteArrayOutputStream();
+            try (DocumentInputStream dis = actual.createDocumentInputStream(other)) {
+                ByteBuffer view;
+                while ((view = dis.readBuffer(Integer.MAX_VALUE)) != null) {
+                    while (view.hasRemaining()) {
+                        bos.write(view.get());
+                    }
+                }
+            }
+            assertArrayEquals(bytes, bos.toByteArray(), entry.getName());
+        }
+    }
+
     @SuppressForbidden("just for testing")
     private static int available(InputStream is) throws IOException {
         return is.available();
@@ -19,6 +19,7 @@
 
 package org.apache.poi.poifs.nio;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,7 +32,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.NonWritableChannelException;
 
+import org.apache.commons.io.output.UnsynchronizedByteArrayOutputStream;
 import org.apache.poi.POIDataSamples;
 import org.apache.poi.util.IOUtils;
 import org.apache.poi.util.TempFile;
@@ -57,6 +61,49 @@ class TestDataSource {
         }
     }
 
+    @Test
+    void testMappedFile() throws Exception {
+        File f = data.getFile("Notes.ole2");
+
+        try (MappedFileDataSource ds = new MappedFileDataSource(f)) {
+            assertEquals(8192, ds.size());
+
+            ByteBuffer bs = ds.read(4, 0);
+            assertEquals(4, bs.capacity());
+            assertEquals(0, bs.position());
+            assertEquals(0xd0 - 256, bs.get());
+            assertEquals(0xcf - 256, bs.get());
+            assertEquals(0x11, bs.get());
+            assertEquals(0xe0 - 256, bs.get());
+
+            bs = ds.read(8, 0x400);
+            assertEquals(8, bs.capacity());
+            assertEquals(0, bs.position());
+            assertEquals((byte) 'R', bs.get(0));
+            assertEquals((byte) 't', bs.get(6));
+
+            // the mapping can't be changed
+            ByteBuffer block = ds.read(512, 512);
+            assertThrows(ReadOnlyBufferException.class, () -> block.put(0, (byte) 0));
+            assertThrows(NonWritableChannelException.class, () -> ds.write(ByteBuffer.allocate(4), 0));
+
+            // reads past the end are padded, like the file backed data source does
+            bs = ds.read(8, 8190);
+            assertEquals(8, bs.capacity());
+            assertEquals(0, bs.position());
+            assertEquals(0, bs.get(2));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> ds.read(4, ds.size()),
+                "Shouldn't be able to read off the end of the file");
+
+            UnsynchronizedByteArrayOutputStream bos = new UnsynchronizedByteArrayOutputStream();
+            ds.copyTo(bos);
+            try (InputStream in = data.openResourceAsStream("Notes.ole2")) {
+                assertArrayEquals(IOUtils.toByteArray(in), bos.toByteArray());
+            }
+        }
+    }
+
     @Test
     void testFileWritable() throws Exception {
         File temp = TempFile.createTempFile("TestDataSource", ".test");
@@ -0,0 +1,85 @@
+package space.kiibou.aead.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.aead.state.AEADByteBufferState;
+import space.kiibou.aead.state.AEADState;
+
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Encrypts one message in chunks through the different entry points of a verified AEAD cipher. Every chunk is a
+ * separate guarded call, so small chunks show the per-call overhead of the checks.
+ */
+public class AEADStreamingBenchmark {
+    @Benchmark
+    public void aead_update_arrays(Blackhole blackhole, AEADState state) throws Exception {
+        state.init();
+        state.cipher.updateAAD(state.aad);
+        int written = 0;
+        for (int offset = 0; offset < state.length; offset += state.chunk) {
+            written += state.cipher.update(state.message, offset, Math.min(state.chunk, state.length - offset), state.output, written);
+        }
+        blackhole.consume(state.cipher.doFinal(state.output, written));
+    }
+
+    @Benchmark
+    public void aead_update_byte_buffer(Blackhole blackhole, AEADByteBufferState state) throws Exception {
+        state.init();
+        state.cipher.updateAAD(state.aad);
+        ByteBuffer input = state.messageBuffer.clear();
+        ByteBuffer output = state.outputBuffer.clear();
+        for (int offset = 0; offset < state.length; offset += state.chunk) {
+            input.limit(Math.min(offset + state.chunk, state.length));
+            state.cipher.update(input, output);
+        }
+        blackhole.consume(state.cipher.doFinal(input, output));
+    }
+
+    @Benchmark
+    public void aead_cipher_output_stream(Blackhole blackhole, AEADState state) throws Exception {
+        state.init();
+        state.cipher.updateAAD(state.aad);
+        try (OutputStream out = new CipherOutputStream(OutputStream.nullOutputStream(), state.cipher)) {
+            for (int offset = 0; offset < state.length; offset += state.chunk) {
+                out.write(state.message, offset, Math.min(state.chunk, state.length - offset));
+            }
+        }
+        blackhole.consume(state.cipher);
+    }
+
+    @Benchmark
+    public void aead_cipher_input_stream(Blackhole blackhole, AEADState state) throws Exception {
+        state.init();
+        state.cipher.updateAAD(state.aad);
+        byte[] chunk = new byte[state.chunk];
+        try (CipherInputStream in = new CipherInputStream(new ChunkedInputStream(state.message, state.chunk), state.cipher)) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                blackhole.consume(read);
+            }
+        }
+    }
+
+    /**
+     * Returns at most {@code chunk} bytes per read, so that {@link CipherInputStream} updates the cipher chunk by chunk.
+     * CipherInputStream itself reads at most 512 bytes at a time, which splits larger chunks.
+     */
+    private static final class ChunkedInputStream extends ByteArrayInputStream {
+        private final int chunk;
+
+        ChunkedInputStream(byte[] buf, int chunk) {
+            super(buf);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, chunk));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package space.kiibou.aead.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+@State(Scope.Thread)
+public class AEADByteBufferState extends AEADState {
+    @Param({"heap", "direct"})
+    public String buffer;
+
+    public ByteBuffer messageBuffer;
+    public ByteBuffer outputBuffer;
+
+    @Override
+    @Setup
+    public void setup() throws Exception {
+        super.setup();
+        messageBuffer = allocate(length);
+        messageBuffer.put(message).flip();
+        outputBuffer = allocate(output.length);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return buffer.equals("direct") ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -0,0 +1,53 @@
+package space.kiibou.aead.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.security.GeneralSecurityException;
+
+/**
+ * An AEAD cipher and a message that is fed to it in chunks of {@link #chunk} bytes. Encryption must not reuse a nonce
+ * with the same key, so {@link #init()} starts every message with the next nonce of a counter.
+ */
+@State(Scope.Thread)
+public class AEADState extends AESState {
+    @Param({"GCM", "CCM"})
+    public String mode;
+
+    @Param({"16", "64", "256", "1024", "16384"})
+    public int chunk;
+
+    @Param({"65536"})
+    public int length;
+
+    public Cipher cipher;
+    public SecretKey key;
+    public byte[] message;
+    public byte[] aad;
+    public byte[] output;
+
+    private final byte[] nonce = new byte[12];
+    private long counter;
+
+    @Setup
+    public void setup() throws Exception {
+        key = getKeyGenerator("AES").generateKey();
+        cipher = getCipher("AES/" + mode + "/NoPadding");
+        message = new byte[length];
+        aad = new byte[32];
+        init();
+        output = new byte[cipher.getOutputSize(length)];
+    }
+
+    public void init() throws GeneralSecurityException {
+        long next = ++counter;
+        for (int i = 0; i < 8; i++) nonce[nonce.length - 1 - i] = (byte) (next >>> (8 * i));
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, nonce));
+    }
+}
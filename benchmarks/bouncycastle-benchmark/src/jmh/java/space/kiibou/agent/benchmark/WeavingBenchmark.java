@@ -0,0 +1,24 @@
+package space.kiibou.agent.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.agent.state.WeavingState;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeavingBenchmark {
+    @Benchmark
+    public void weave(Blackhole blackhole, WeavingState state) {
+        blackhole.consume(state.agent.transform(ClassLoader.getSystemClassLoader(), state.className, state.bytes, state.specification));
+    }
+
+    @Benchmark
+    public void weave_cached(Blackhole blackhole, WeavingState state) {
+        blackhole.consume(state.cachedAgent.transform(ClassLoader.getSystemClassLoader(), state.className, state.bytes, state.specification));
+    }
+}
@@ -0,0 +1,65 @@
+package space.kiibou.agent.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import space.kiibou.agent.Specification;
+import space.kiibou.agent.WeaveCache;
+import space.kiibou.agent.WeavingAgent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+public class WeavingState {
+    public byte[] bytes;
+    public String className;
+    public Specification specification;
+    public WeavingAgent agent;
+    public WeavingAgent cachedAgent;
+
+    private Path cacheDirectory;
+
+    @Param({"java.util.zip.Deflater", "java.util.HashMap", "javax.crypto.Cipher", "java.lang.String"})
+    public String target;
+
+    @Setup
+    public void setup() throws Exception {
+        Class<?> type = Class.forName(target);
+        className = target.replace('.', '/');
+        try (InputStream in = type.getResourceAsStream("/" + className + ".class")) {
+            bytes = in.readAllBytes();
+        }
+
+        // every public instance method is checked and changes a guard, the most work a specification can cause
+        StringBuilder text = new StringBuilder("G open 1");
+        for (Method method : type.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) continue;
+            text.append(";M ").append(method.getName()).append('/').append(method.getParameterCount())
+                    .append(";R open 1;T open 1;X open 0");
+        }
+        specification = Specification.parse(text.toString());
+
+        agent = new WeavingAgent(Map.of(className, specification), null);
+
+        cacheDirectory = Files.createTempDirectory("apiSL-weave-cache");
+        cachedAgent = new WeavingAgent(Map.of(className, specification), new WeaveCache(cacheDirectory));
+        cachedAgent.transform(ClassLoader.getSystemClassLoader(), className, bytes, specification);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package space.kiibou.inlining;
+
+import space.kiibou.agent.Specification;
+import space.kiibou.agent.SpecificationExport;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@link InliningWorkload} with {@code -XX:+PrintInlining} and fails if C2 refuses to inline a method of the
+ * verified classes because it is too big. The generated wrappers sit on the {@code engineUpdate -> processBytes}
+ * path, so this catches wrappers that outgrew the inlining budget. The verified classes are the classes of the jars on
+ * the classpath that carry a {@value Specification#FIELD} constant, together with their nested classes. Class or
+ * package name prefixes to watch instead can be passed as arguments.
+ * <p>
+ * The default jar keeps throw consequences inline. To check the outlined wrappers as well, return {@code true} from
+ * {@code VerifiedClass.outlineConsequencesInGeneration}, rebuild the language, write the jar next to the default one
+ * with {@code ant -Dverified.jar=benchmarks/bouncycastle-benchmark/libs/outlined_bc.jar} and run
+ * {@code gradle checkInlining -Pvariant=outlined}.
+ */
+public class InliningCheck {
+    private static final String[] REJECTIONS = {"too big", "callee is too large"};
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<String> watched = args.length > 0 ? List.of(args) : verifiedClasses();
+        if (watched.isEmpty()) {
+            throw new IllegalStateException("No verified classes on the classpath");
+        }
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java,
+                "-XX:+UnlockDiagnosticVMOptions", "-XX:+PrintInlining", "-XX:-TieredCompilation",
+                "-cp", System.getProperty("java.class.path"),
+                InliningWorkload.class.getName())
+                .redirectErrorStream(true)
+                .start();
+
+        List<String> rejected = new ArrayList<>();
+        int decisions = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!isWatched(line, watched)) continue;
+                decisions++;
+                if (isRejected(line)) rejected.add(line.trim());
+            }
+        }
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Inlining workload exited with " + process.exitValue());
+        }
+        if (decisions == 0) {
+            throw new IllegalStateException("No inlining decisions for verified classes were printed");
+        }
+        if (!rejected.isEmpty()) {
+            System.err.println("Methods rejected by the inliner:");
+            rejected.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("All " + decisions + " inlining decisions for verified classes succeeded");
+    }
+
+    private static List<String> verifiedClasses() throws IOException {
+        List<String> watched = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.endsWith(".jar")) continue;
+            for (String className : SpecificationExport.specifications(Path.of(entry)).keySet()) {
+                // PrintInlining prints Class::method, nested classes continue with '$'
+                watched.add(className + "::");
+                watched.add(className + "$");
+            }
+        }
+        return watched;
+    }
+
+    private static boolean isWatched(String line, List<String> watched) {
+        for (String prefix : watched) {
+            if (line.contains(prefix)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String line) {
+        for (String reason : REJECTIONS) {
+            if (line.contains(reason)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package space.kiibou.inlining;
+
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.Cipher;
+
+public class InliningWorkload {
+    public static final int ITERATIONS = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        AESState state = new AESState();
+        Cipher cipher = state.getCipher("AES/CBC/NoPadding", state.getKeyGenerator("AES").generateKey(), state.getSecureRandom());
+
+        byte[] bytes = new byte[64];
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += cipher.update(bytes)[0];
+        }
+        System.out.println("sink " + sink);
+    }
+}
@@ -0,0 +1,19 @@
+package space.kiibou.inlining.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.inlining.state.InliningState;
+
+public class WrapperInliningBenchmark {
+    @Benchmark
+    public void aes_update(Blackhole blackhole, InliningState state) {
+        blackhole.consume(state.cipher.update(state.bytes));
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-XX:+UnlockDiagnosticVMOptions", "-XX:+PrintInlining"})
+    public void aes_update_print_inlining(Blackhole blackhole, InliningState state) {
+        blackhole.consume(state.cipher.update(state.bytes));
+    }
+}
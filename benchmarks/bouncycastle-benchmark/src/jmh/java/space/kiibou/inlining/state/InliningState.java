@@ -0,0 +1,28 @@
+package space.kiibou.inlining.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+@State(Scope.Benchmark)
+public class InliningState extends AESState {
+    public Cipher cipher;
+    public byte[] bytes;
+
+    @Param({"16", "64", "1024"})
+    public int length;
+
+    @Setup
+    public void setup() throws Exception {
+        SecretKey key = getKeyGenerator("AES").generateKey();
+
+        cipher = getCipher("AES/CBC/NoPadding", key, getSecureRandom());
+
+        bytes = new byte[length];
+    }
+}
@@ -0,0 +1,30 @@
+package space.kiibou.recycle.benchmark;
+
+import apiSL.sandbox.PooledSecureChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import space.kiibou.recycle.state.PooledChannelState;
+
+/**
+ * Reuses a verified object that inherits guards from a verified superclass through {@code recycle()}, compared to
+ * allocating a new one for every use.
+ */
+public class RecycleBenchmark {
+    @Benchmark
+    public PooledSecureChannel recycled(PooledChannelState state) {
+        PooledSecureChannel channel = state.channel;
+        channel.bind();
+        channel.authenticate();
+        channel.sendSecure();
+        channel.recycle();
+        return channel;
+    }
+
+    @Benchmark
+    public PooledSecureChannel allocated() {
+        PooledSecureChannel channel = new PooledSecureChannel();
+        channel.bind();
+        channel.authenticate();
+        channel.sendSecure();
+        return channel;
+    }
+}
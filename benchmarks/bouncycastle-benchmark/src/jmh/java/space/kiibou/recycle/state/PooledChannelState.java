@@ -0,0 +1,31 @@
+package space.kiibou.recycle.state;
+
+import apiSL.runtime.apiSL.DetectedMisuseException;
+import apiSL.sandbox.PooledSecureChannel;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One pooled {@code PooledSecureChannel} per thread. Its {@code isBound} guard is declared in the verified superclass
+ * {@code PooledChannel}, so it is only reset if the generated {@code recycle()} also calls {@code super.recycle()}.
+ */
+@State(Scope.Thread)
+public class PooledChannelState {
+    public PooledSecureChannel channel;
+
+    @Setup
+    public void setup() {
+        channel = new PooledSecureChannel();
+        channel.bind();
+        channel.authenticate();
+        channel.recycle();
+        try {
+            channel.bind();
+            channel.authenticate();
+        } catch (DetectedMisuseException e) {
+            throw new IllegalStateException("recycle() did not reset the guards of PooledSecureChannel", e);
+        }
+        channel.recycle();
+    }
+}
@@ -0,0 +1,13 @@
+package space.kiibou.runtime.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.runtime.state.CheckSamplingState;
+
+public class CheckSamplingBenchmark {
+    @Benchmark
+    public void aes_init_and_encrypt(Blackhole blackhole, CheckSamplingState state) throws Exception {
+        var cipher = state.getCipher(state.transformation, state.key, state.random);
+        blackhole.consume(cipher.doFinal(state.bytes));
+    }
+}
@@ -0,0 +1,22 @@
+package space.kiibou.runtime.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.runtime.state.ExpandoMapState;
+import space.kiibou.runtime.state.ExpandoTargetState;
+
+/** The map implementation and the operation are parameters of {@link ExpandoMapState}. */
+public class ExpandoMapBenchmark {
+    @Benchmark
+    @Threads(1)
+    public void single(Blackhole blackhole, ExpandoMapState map, ExpandoTargetState target) {
+        blackhole.consume(map.access.apply(target.next(map), target));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void all_cores(Blackhole blackhole, ExpandoMapState map, ExpandoTargetState target) {
+        blackhole.consume(map.access.apply(target.next(map), target));
+    }
+}
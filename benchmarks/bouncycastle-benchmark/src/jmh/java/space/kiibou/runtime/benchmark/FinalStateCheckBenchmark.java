@@ -0,0 +1,41 @@
+package space.kiibou.runtime.benchmark;
+
+import apiSL.runtime.apiSL.FinalizedStateChecks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.runtime.state.FinalStateCheckState;
+
+public class FinalStateCheckBenchmark {
+    @Benchmark
+    @Threads(1)
+    public void cleaner_single(Blackhole blackhole, FinalStateCheckState state) {
+        var obj = new Object();
+        FinalizedStateChecks.registerObject(obj, state.checker);
+        blackhole.consume(obj);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void cleaner_all_cores(Blackhole blackhole, FinalStateCheckState state) {
+        var obj = new Object();
+        FinalizedStateChecks.registerObject(obj, state.checker);
+        blackhole.consume(obj);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void batched_single(Blackhole blackhole, FinalStateCheckState state) {
+        var obj = new Object();
+        FinalizedStateChecks.registerObjectBatched(obj, state.checker);
+        blackhole.consume(obj);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void batched_all_cores(Blackhole blackhole, FinalStateCheckState state) {
+        var obj = new Object();
+        FinalizedStateChecks.registerObjectBatched(obj, state.checker);
+        blackhole.consume(obj);
+    }
+}
@@ -0,0 +1,34 @@
+package space.kiibou.runtime.benchmark;
+
+import apiSL.sandbox.VerifiedConnection;
+import org.bouncycastle.jcajce.provider.symmetric.util.BaseBlockCipher;
+import org.bouncycastle.jcajce.provider.symmetric.util.BaseMac;
+import org.bouncycastle.jcajce.provider.symmetric.util.BaseWrapCipher;
+import org.openjdk.jol.info.ClassLayout;
+
+/**
+ * Prints the field layout of verified classes that declare guards. {@link VerifiedConnection} has two guards, which
+ * the generator packs into one int; the BouncyCastle classes declare a single guard each and keep a boolean field.
+ * Classes to print instead can be passed as arguments.
+ */
+public class GuardLayout {
+    private static final Class<?>[] VERIFIED_CLASSES = {
+            VerifiedConnection.class,
+            BaseBlockCipher.class,
+            BaseWrapCipher.class,
+            BaseMac.class,
+    };
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        Class<?>[] classes = VERIFIED_CLASSES;
+        if (args.length > 0) {
+            classes = new Class<?>[args.length];
+            for (int i = 0; i < args.length; i++) {
+                classes[i] = Class.forName(args[i]);
+            }
+        }
+        for (Class<?> verifiedClass : classes) {
+            System.out.println(ClassLayout.parseClass(verifiedClass).toPrintable());
+        }
+    }
+}
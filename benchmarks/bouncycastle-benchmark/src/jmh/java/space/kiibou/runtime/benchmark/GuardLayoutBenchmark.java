@@ -0,0 +1,26 @@
+package space.kiibou.runtime.benchmark;
+
+import apiSL.sandbox.VerifiedConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * {@link VerifiedConnection} declares two guards and is not thread-confined, so its guards are packed into one int
+ * that is updated atomically. Run with {@code -PgcProfiler} for the allocation rate and see {@link GuardLayout} for
+ * the instance size.
+ */
+public class GuardLayoutBenchmark {
+    @Benchmark
+    public Object allocate_connection() {
+        return new VerifiedConnection();
+    }
+
+    @Benchmark
+    public Object connection_protocol() {
+        VerifiedConnection connection = new VerifiedConnection();
+        connection.open();
+        connection.authenticate();
+        connection.send();
+        connection.close();
+        return connection;
+    }
+}
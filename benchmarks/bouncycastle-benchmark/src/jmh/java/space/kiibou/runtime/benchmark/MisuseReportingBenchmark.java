@@ -0,0 +1,47 @@
+package space.kiibou.runtime.benchmark;
+
+import apiSL.runtime.apiSL.DetectedMisuseException;
+import apiSL.runtime.apiSL.MisuseReporting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class MisuseReportingBenchmark {
+    private static final String VERIFIED_CLASS = MisuseReportingBenchmark.class.getName();
+    private static final String SITE = "benchmark misuse";
+
+    @Benchmark
+    @Threads(1)
+    public void throwing_single(Blackhole blackhole) {
+        try {
+            MisuseReporting.misuse(VERIFIED_CLASS, SITE);
+        } catch (DetectedMisuseException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void throwing_all_cores(Blackhole blackhole) {
+        try {
+            MisuseReporting.misuse(VERIFIED_CLASS, SITE);
+        } catch (DetectedMisuseException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Fork(jvmArgsAppend = "-D" + MisuseReporting.ENFORCEMENT_PROPERTY + "=report")
+    public void reporting_single() {
+        MisuseReporting.misuse(VERIFIED_CLASS, SITE);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @Fork(jvmArgsAppend = "-D" + MisuseReporting.ENFORCEMENT_PROPERTY + "=report")
+    public void reporting_all_cores() {
+        MisuseReporting.misuse(VERIFIED_CLASS, SITE);
+    }
+}
@@ -0,0 +1,30 @@
+package space.kiibou.runtime.state;
+
+import apiSL.runtime.apiSL.CheckSampling;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+
+@State(Scope.Benchmark)
+public class CheckSamplingState extends AESState {
+    public final String transformation = "AES/CBC/PKCS5Padding";
+    public final byte[] bytes = new byte[1024];
+    public SecretKey key;
+    public SecureRandom random;
+
+    @Param({"1", "2", "4", "16", "64", "256"})
+    public int rate;
+
+    @Setup
+    public void setup() throws Exception {
+        CheckSampling.global().setRate(rate);
+
+        key = getKeyGenerator("AES").generateKey();
+        random = getSecureRandom();
+    }
+}
@@ -0,0 +1,53 @@
+package space.kiibou.runtime.state;
+
+import apiSL.runtime.apiSL.ConcurrentWeakIdentityMap;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+
+@State(Scope.Benchmark)
+public class ExpandoMapState {
+    /** A power of two, so {@link ExpandoTargetState} can pick the next target with a mask. */
+    @Param({"1024"})
+    public int targetCount;
+    @Param({"synchronized_weak_hash_map", "concurrent_weak_identity_map"})
+    public String implementation;
+    @Param({"compute_if_absent", "put"})
+    public String operation;
+
+    public Object[] targets;
+    /** Applies {@link #operation} to the map of {@link #implementation} with a target and a value. */
+    public BiFunction<Object, Object, Object> access;
+
+    @Setup
+    public void setup() {
+        if (Integer.bitCount(targetCount) != 1) {
+            throw new IllegalArgumentException("targetCount must be a power of two: " + targetCount);
+        }
+
+        targets = new Object[targetCount];
+        for (int i = 0; i < targetCount; i++) {
+            targets[i] = new Object();
+        }
+
+        switch (implementation) {
+            case "synchronized_weak_hash_map" -> {
+                Map<Object, Object> map = Collections.synchronizedMap(new WeakHashMap<>());
+                for (int i = 0; i < targetCount; i++) map.put(targets[i], i);
+                access = operation.equals("put") ? map::put : (key, value) -> map.computeIfAbsent(key, k -> value);
+            }
+            case "concurrent_weak_identity_map" -> {
+                ConcurrentWeakIdentityMap<Object> map = new ConcurrentWeakIdentityMap<>();
+                for (int i = 0; i < targetCount; i++) map.put(targets[i], i);
+                access = operation.equals("put") ? map::put : (key, value) -> map.computeIfAbsent(key, k -> value);
+            }
+            default -> throw new IllegalArgumentException("Unknown implementation " + implementation);
+        }
+    }
+}
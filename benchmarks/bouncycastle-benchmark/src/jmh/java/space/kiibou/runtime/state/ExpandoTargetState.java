@@ -0,0 +1,16 @@
+package space.kiibou.runtime.state;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Thread)
+public class ExpandoTargetState {
+    private int index = ThreadLocalRandom.current().nextInt(1 << 16);
+
+    public Object next(ExpandoMapState map) {
+        index = (index + 1) & (map.targetCount - 1);
+        return map.targets[index];
+    }
+}
@@ -0,0 +1,14 @@
+package space.kiibou.runtime.state;
+
+import apiSL.runtime.apiSL.FinalStateChecker;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class FinalStateCheckState {
+    public final FinalStateChecker checker = new FinalStateChecker() {
+        @Override
+        public void ensureRightStateOrThrow() {
+        }
+    };
+}
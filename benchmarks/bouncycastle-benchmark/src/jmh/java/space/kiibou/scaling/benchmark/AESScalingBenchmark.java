@@ -0,0 +1,39 @@
+package space.kiibou.scaling.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.scaling.state.SharedKeyState;
+import space.kiibou.scaling.state.ThreadCipherState;
+import space.kiibou.scaling.state.ThreadKeyState;
+
+/**
+ * AES operations meant to be run at several thread counts, see the {@code scalingBenchmarks} task. The {@code _thread}
+ * variants only touch state of their own thread, the {@code _shared} variants share a {@code SecureRandom} and a key.
+ * Every variant goes through the shared provider lookup of {@code Cipher.getInstance}/{@code KeyGenerator}.
+ */
+public class AESScalingBenchmark {
+    @Benchmark
+    public void aes_generate_key_thread(Blackhole blackhole, ThreadKeyState state) {
+        blackhole.consume(state.keyGenerator.generateKey());
+    }
+
+    @Benchmark
+    public void aes_generate_key_shared(Blackhole blackhole, ThreadKeyState state) {
+        blackhole.consume(state.sharedKeyGenerator.generateKey());
+    }
+
+    @Benchmark
+    public void aes_create_cipher_thread(Blackhole blackhole, ThreadKeyState state) throws Exception {
+        blackhole.consume(state.getCipher(state.transformation, state.key, state.random));
+    }
+
+    @Benchmark
+    public void aes_create_cipher_shared(Blackhole blackhole, SharedKeyState state) throws Exception {
+        blackhole.consume(state.getCipher(state.transformation, state.key, state.random));
+    }
+
+    @Benchmark
+    public void aes_encrypt_thread(Blackhole blackhole, ThreadCipherState state) throws Exception {
+        blackhole.consume(state.cipher.doFinal(state.bytes));
+    }
+}
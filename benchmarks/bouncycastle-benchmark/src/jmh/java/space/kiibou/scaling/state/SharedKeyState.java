@@ -0,0 +1,26 @@
+package space.kiibou.scaling.state;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+
+/**
+ * One {@link SecureRandom} and one key for all benchmark threads, to show contention on the random generator (a
+ * {@code VerifiedRandom} in the verified build) and on its guards.
+ */
+@State(Scope.Benchmark)
+public class SharedKeyState extends AESState {
+    public final String transformation = "AES/CBC/PKCS5Padding";
+    public SecureRandom random;
+    public SecretKey key;
+
+    @Setup
+    public void setup() throws Exception {
+        random = getSecureRandom();
+        key = getKeyGenerator("AES").generateKey();
+    }
+}
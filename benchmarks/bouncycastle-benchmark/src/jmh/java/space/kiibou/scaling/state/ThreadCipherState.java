@@ -0,0 +1,28 @@
+package space.kiibou.scaling.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+@State(Scope.Thread)
+public class ThreadCipherState extends AESState {
+    public Cipher cipher;
+    public byte[] bytes;
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int length;
+
+    @Setup
+    public void setup() throws Exception {
+        SecretKey key = getKeyGenerator("AES").generateKey();
+
+        cipher = getCipher("AES/CBC/PKCS5Padding", key, getSecureRandom());
+
+        bytes = new byte[length];
+    }
+}
@@ -0,0 +1,34 @@
+package space.kiibou.scaling.state;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import space.kiibou.aes.state.AESState;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+
+/**
+ * Key material owned by one benchmark thread. {@link #sharedKeyGenerator} is also per thread, but draws its randomness
+ * from the {@link SharedKeyState#random} all threads use.
+ */
+@State(Scope.Thread)
+public class ThreadKeyState extends AESState {
+    public final String transformation = "AES/CBC/PKCS5Padding";
+    public SecureRandom random;
+    public SecretKey key;
+    public KeyGenerator keyGenerator;
+    public KeyGenerator sharedKeyGenerator;
+
+    @Setup
+    public void setup(SharedKeyState shared) throws Exception {
+        random = getSecureRandom();
+        keyGenerator = getKeyGenerator("AES");
+        keyGenerator.init(128, random);
+        key = keyGenerator.generateKey();
+
+        sharedKeyGenerator = getKeyGenerator("AES");
+        sharedKeyGenerator.init(128, shared.random);
+    }
+}
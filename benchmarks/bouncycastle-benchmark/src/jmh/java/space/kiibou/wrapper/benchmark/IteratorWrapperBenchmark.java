@@ -0,0 +1,39 @@
+package space.kiibou.wrapper.benchmark;
+
+import apiSL.sandbox.VerifiedIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import space.kiibou.wrapper.state.IteratorState;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterates all elements once through the raw iterator and once through the generated {@code VerifiedIterator}. With a
+ * final, fully inlined wrapper both should run at the same speed and the wrapper should not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IteratorWrapperBenchmark {
+    @Benchmark
+    public long raw_iterator(IteratorState state) {
+        long sum = 0;
+        Iterator<Integer> iterator = state.collection.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long verified_iterator(IteratorState state) {
+        long sum = 0;
+        Iterator<Integer> iterator = new VerifiedIterator<>(state.collection.iterator());
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,34 @@
+package space.kiibou.wrapper.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+@State(Scope.Benchmark)
+public class IteratorState {
+    public static final int ELEMENTS = 10_000_000;
+
+    public Collection<Integer> collection;
+
+    @Param({"ArrayList", "ArrayDeque", "HashSet"})
+    public String kind;
+
+    @Setup
+    public void setup() {
+        collection = switch (kind) {
+            case "ArrayList" -> new ArrayList<>(ELEMENTS);
+            case "ArrayDeque" -> new ArrayDeque<>(ELEMENTS);
+            case "HashSet" -> new HashSet<>(ELEMENTS * 2);
+            default -> throw new IllegalArgumentException(kind);
+        };
+        for (int i = 0; i < ELEMENTS; i++) {
+            collection.add(i);
+        }
+    }
+}
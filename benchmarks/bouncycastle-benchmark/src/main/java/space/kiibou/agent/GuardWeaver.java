@@ -0,0 +1,191 @@
+package space.kiibou.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Weaves a {@link Specification} into the bytecode of an unmodified class, mirroring what the apiSL generator emits
+ * for a verified class: a boolean field per guard, requirement checks reported through {@code MisuseReporting} at
+ * method entry, guard changes before every return and guard changes in a handler around the whole method body for
+ * exceptions. Guard changes that only apply to a returned {@code true} or {@code false} test the return value first.
+ * Initially set guards are set at the end of every constructor.
+ */
+public class GuardWeaver extends ClassVisitor {
+    public static final String GUARD_PREFIX = "apiSL$";
+    private static final String MISUSE_REPORTING = "apiSL/runtime/apiSL/MisuseReporting";
+
+    private final Specification specification;
+    private String owner;
+    private boolean weave;
+
+    public GuardWeaver(ClassVisitor next, Specification specification) {
+        super(Opcodes.ASM9, next);
+        this.specification = specification;
+    }
+
+    /** Returns the woven class, or {@code null} if the class cannot carry guards. */
+    public static byte[] weave(byte[] original, Specification specification, ClassLoader loader) {
+        ClassReader reader = new ClassReader(original);
+        if ((reader.getAccess() & (Opcodes.ACC_INTERFACE | Opcodes.ACC_ANNOTATION)) != 0) return null;
+
+        ClassWriter writer = new LoaderClassWriter(loader);
+        reader.accept(new GuardWeaver(writer, specification), ClassReader.SKIP_FRAMES);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        super.visit(version, access, name, signature, superName, interfaces);
+        owner = name;
+        weave = (access & Opcodes.ACC_INTERFACE) == 0;
+        if (!weave) return;
+
+        for (String guard : specification.getGuards().keySet()) {
+            super.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC,
+                    GUARD_PREFIX + guard, "Z", null, null).visitEnd();
+        }
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor next = super.visitMethod(access, name, descriptor, signature, exceptions);
+        if (!weave || (access & (Opcodes.ACC_STATIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0) return next;
+
+        if (name.equals("<init>")) {
+            return new ConstructorWeaver(next);
+        }
+        Specification.Method method = specification.getMethod(name, Type.getArgumentTypes(descriptor).length);
+        return method == null ? next : new MethodWeaver(next, name, method);
+    }
+
+    private void setGuards(MethodVisitor visitor, Map<String, Boolean> changes) {
+        for (Map.Entry<String, Boolean> change : changes.entrySet()) {
+            visitor.visitVarInsn(Opcodes.ALOAD, 0);
+            visitor.visitInsn(change.getValue() ? Opcodes.ICONST_1 : Opcodes.ICONST_0);
+            visitor.visitFieldInsn(Opcodes.PUTFIELD, owner, GUARD_PREFIX + change.getKey(), "Z");
+        }
+    }
+
+    /** Applies the changes if the int on top of the stack is non-zero (or zero), leaving it on the stack. */
+    private void setGuardsIf(MethodVisitor visitor, boolean returned, Map<String, Boolean> changes) {
+        if (changes.isEmpty()) return;
+        Label skip = new Label();
+        visitor.visitInsn(Opcodes.DUP);
+        visitor.visitJumpInsn(returned ? Opcodes.IFEQ : Opcodes.IFNE, skip);
+        setGuards(visitor, changes);
+        visitor.visitLabel(skip);
+    }
+
+    private static boolean isReturn(int opcode) {
+        return opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN;
+    }
+
+    private class ConstructorWeaver extends MethodVisitor {
+        private final Map<String, Boolean> initiallySet = new LinkedHashMap<>();
+
+        ConstructorWeaver(MethodVisitor next) {
+            super(Opcodes.ASM9, next);
+            specification.getGuards().forEach((guard, set) -> {
+                if (set) initiallySet.put(guard, true);
+            });
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (opcode == Opcodes.RETURN) {
+                setGuards(mv, initiallySet);
+            }
+            super.visitInsn(opcode);
+        }
+    }
+
+    private class MethodWeaver extends MethodVisitor {
+        private final String name;
+        private final Specification.Method method;
+        private final Label start = new Label();
+        private final Label end = new Label();
+        private final Label handler = new Label();
+
+        MethodWeaver(MethodVisitor next, String name, Specification.Method method) {
+            super(Opcodes.ASM9, next);
+            this.name = name;
+            this.method = method;
+        }
+
+        @Override
+        public void visitCode() {
+            super.visitCode();
+            for (Map.Entry<String, Boolean> requirement : method.requires.entrySet()) {
+                Label satisfied = new Label();
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, GUARD_PREFIX + requirement.getKey(), "Z");
+                mv.visitJumpInsn(requirement.getValue() ? Opcodes.IFNE : Opcodes.IFEQ, satisfied);
+                mv.visitLdcInsn(owner.replace('/', '.'));
+                mv.visitLdcInsn(name + " requires " + (requirement.getValue() ? "" : "!") + requirement.getKey());
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, MISUSE_REPORTING, "misuse",
+                        "(Ljava/lang/String;Ljava/lang/String;)V", false);
+                mv.visitLabel(satisfied);
+            }
+            if (!method.onThrow.isEmpty()) {
+                mv.visitLabel(start);
+            }
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (isReturn(opcode)) {
+                setGuards(mv, method.onReturn);
+                if (opcode == Opcodes.IRETURN) {
+                    setGuardsIf(mv, true, method.onReturnTrue);
+                    setGuardsIf(mv, false, method.onReturnFalse);
+                }
+            }
+            super.visitInsn(opcode);
+        }
+
+        @Override
+        public void visitMaxs(int maxStack, int maxLocals) {
+            if (!method.onThrow.isEmpty()) {
+                // registered last, so handlers of the original method body still take precedence
+                mv.visitLabel(end);
+                mv.visitTryCatchBlock(start, end, handler, null);
+                mv.visitLabel(handler);
+                setGuards(mv, method.onThrow);
+                mv.visitInsn(Opcodes.ATHROW);
+            }
+            super.visitMaxs(maxStack, maxLocals);
+        }
+    }
+
+    /** Computes frames with the class hierarchy of the loader that defines the woven class. */
+    private static class LoaderClassWriter extends ClassWriter {
+        private final ClassLoader loader;
+
+        LoaderClassWriter(ClassLoader loader) {
+            super(ClassWriter.COMPUTE_FRAMES);
+            this.loader = loader;
+        }
+
+        @Override
+        protected ClassLoader getClassLoader() {
+            return loader == null ? ClassLoader.getPlatformClassLoader() : loader;
+        }
+
+        @Override
+        protected String getCommonSuperClass(String first, String second) {
+            try {
+                return super.getCommonSuperClass(first, second);
+            } catch (RuntimeException | LinkageError e) {
+                return "java/lang/Object";
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package space.kiibou.agent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The part of an apiSL specification that can be woven into a class: boolean guards, the guards a method requires and
+ * the guard changes on return and on throw. The apiSL generator stores it in the static
+ * {@value #FIELD} field of every verified class as {@code ;}-separated entries:
+ * <pre>
+ * G guard 1          guard, initially set
+ * M method/2         following entries belong to this method
+ * R guard 1          requirement, the guard has to be set (0: unset)
+ * T guard 0          on return, the guard is unset (1: set)
+ * T guard 1 1        on return of true, the guard is set (0: on return of false)
+ * T guard 1 ?        on return of a value the agent cannot test, left out of the woven code
+ * X guard 1          on throw, the guard is set (0: unset)
+ * </pre>
+ * The generator encodes {@code when returns true} and {@code when returns false} filters, any other filter value as
+ * {@code ?}.
+ */
+public class Specification {
+    public static final String FIELD = "verifiedSpecification";
+
+    private final String text;
+    private final Map<String, Boolean> guards = new LinkedHashMap<>();
+    private final Map<String, Method> methods = new LinkedHashMap<>();
+
+    public static class Method {
+        private final String name;
+        private final int arity;
+        final Map<String, Boolean> requires = new LinkedHashMap<>();
+        final Map<String, Boolean> onReturn = new LinkedHashMap<>();
+        final Map<String, Boolean> onReturnTrue = new LinkedHashMap<>();
+        final Map<String, Boolean> onReturnFalse = new LinkedHashMap<>();
+        final List<String> leftOut = new ArrayList<>();
+        final Map<String, Boolean> onThrow = new LinkedHashMap<>();
+
+        Method(String name, int arity) {
+            this.name = name;
+            this.arity = arity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getArity() {
+            return arity;
+        }
+
+        public Map<String, Boolean> getRequires() {
+            return requires;
+        }
+
+        public Map<String, Boolean> getOnReturn() {
+            return onReturn;
+        }
+
+        /** Guard changes on return that only apply if the method returned {@code true} or {@code false}. */
+        public Map<String, Boolean> getOnReturn(boolean returned) {
+            return returned ? onReturnTrue : onReturnFalse;
+        }
+
+        /** Guards changed on return of a value the specification does not carry, these changes are not woven. */
+        public List<String> getLeftOut() {
+            return leftOut;
+        }
+
+        public Map<String, Boolean> getOnThrow() {
+            return onThrow;
+        }
+
+        /** The number of guard changes on return and on throw, including the ones left out. */
+        public int getConsequenceCount() {
+            return onReturn.size() + onReturnTrue.size() + onReturnFalse.size() + leftOut.size() + onThrow.size();
+        }
+    }
+
+    private Specification(String text) {
+        this.text = text;
+    }
+
+    public static Specification parse(String text) {
+        Specification specification = new Specification(text);
+        Method current = null;
+        for (String entry : text.split(";")) {
+            entry = entry.trim();
+            if (entry.isEmpty()) continue;
+
+            String[] parts = entry.split(" ");
+            if (parts[0].equals("M")) {
+                int slash = parts[1].lastIndexOf('/');
+                current = new Method(parts[1].substring(0, slash), Integer.parseInt(parts[1].substring(slash + 1)));
+                specification.methods.put(current.name + "/" + current.arity, current);
+                continue;
+            }
+
+            boolean filtered = parts.length == 4 && parts[0].equals("T");
+            if (parts.length != 3 && !filtered) throw new IllegalArgumentException("Malformed specification entry '" + entry + "'");
+            boolean value = parts[2].equals("1");
+            if (filtered) {
+                Method method = method(current, entry);
+                switch (parts[3]) {
+                    case "1" -> method.onReturnTrue.put(parts[1], value);
+                    case "0" -> method.onReturnFalse.put(parts[1], value);
+                    case "?" -> method.leftOut.add(parts[1]);
+                    default -> throw new IllegalArgumentException("Unknown return value in '" + entry + "'");
+                }
+                continue;
+            }
+            switch (parts[0]) {
+                case "G" -> specification.guards.put(parts[1], value);
+                case "R" -> method(current, entry).requires.put(parts[1], value);
+                case "T" -> method(current, entry).onReturn.put(parts[1], value);
+                case "X" -> method(current, entry).onThrow.put(parts[1], value);
+                default -> throw new IllegalArgumentException("Unknown specification entry '" + entry + "'");
+            }
+        }
+        return specification;
+    }
+
+    private static Method method(Method current, String entry) {
+        if (current == null) throw new IllegalArgumentException("Entry '" + entry + "' does not follow a method");
+        return current;
+    }
+
+    public Map<String, Boolean> getGuards() {
+        return guards;
+    }
+
+    public Method getMethod(String name, int arity) {
+        return methods.get(name + "/" + arity);
+    }
+
+    public List<Method> getMethods() {
+        return new ArrayList<>(methods.values());
+    }
+
+    public String getText() {
+        return text;
+    }
+}
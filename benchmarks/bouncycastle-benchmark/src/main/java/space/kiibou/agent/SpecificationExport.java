@@ -0,0 +1,102 @@
+package space.kiibou.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Writes the specifications file for {@link WeavingAgent}. The specifications are read from the
+ * {@value Specification#FIELD} constants of a jar generated by apiSL, without loading its classes. The generator
+ * places verified classes in the package of the class they were copied from, so each one is matched to the class with
+ * the same fully qualified name in the target jars. Classes without a match are reported and left out, as are guard
+ * changes on return values the agent cannot test.
+ * <p>
+ * Arguments: {@code <output file> <verified jar> <target jar>...}
+ */
+public class SpecificationExport {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: SpecificationExport <output file> <verified jar> <target jar>...");
+            System.exit(2);
+        }
+
+        Set<String> targets = new HashSet<>();
+        for (int i = 2; i < args.length; i++) {
+            try (JarFile jar = new JarFile(args[i])) {
+                targets.addAll(classNames(jar));
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> entry : specifications(Path.of(args[1])).entrySet()) {
+            String className = entry.getKey();
+            if (!targets.contains(className.replace('.', '/'))) {
+                System.err.println("Skipping " + className + ": no class with the same name in the target jars");
+                continue;
+            }
+            int leftOut = 0;
+            for (Specification.Method method : Specification.parse(entry.getValue()).getMethods()) {
+                leftOut += method.getLeftOut().size();
+            }
+            if (leftOut > 0) {
+                System.err.println("Leaving out " + leftOut + " guard changes of " + className + " that depend on a return value the agent cannot test");
+            }
+            lines.add(className + " " + entry.getValue());
+        }
+
+        Files.write(Path.of(args[0]), lines);
+        System.out.println("Exported " + lines.size() + " specifications to " + args[0]);
+    }
+
+    /** The specifications in a jar generated by apiSL, by the binary name of their verified class. */
+    public static Map<String, String> specifications(Path verifiedJar) throws IOException {
+        Map<String, String> specifications = new LinkedHashMap<>();
+        try (JarFile jar = new JarFile(verifiedJar.toFile())) {
+            for (String className : classNames(jar)) {
+                try (InputStream in = jar.getInputStream(jar.getEntry(className + ".class"))) {
+                    String specification = specification(in.readAllBytes());
+                    if (specification != null) specifications.put(className.replace('/', '.'), specification);
+                }
+            }
+        }
+        return specifications;
+    }
+
+    private static List<String> classNames(JarFile jar) {
+        List<String> names = new ArrayList<>();
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (!name.endsWith(".class") || name.contains("$") || name.endsWith("module-info.class")) continue;
+            names.add(name.substring(0, name.length() - ".class".length()));
+        }
+        return names;
+    }
+
+    private static String specification(byte[] bytes) {
+        String[] specification = new String[1];
+        new ClassReader(bytes).accept(new ClassVisitor(Opcodes.ASM9) {
+            @Override
+            public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+                if (name.equals(Specification.FIELD) && value instanceof String text) specification[0] = text;
+                return null;
+            }
+        }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return specification[0];
+    }
+}
@@ -0,0 +1,55 @@
+package space.kiibou.agent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stores woven classes on disk, keyed by the class name, the original bytecode and the specification. A class is
+ * only woven again when one of them changes, which bounds the startup cost of the agent after the first run.
+ */
+public class WeaveCache {
+    private final Path directory;
+
+    public WeaveCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public byte[] get(String className, byte[] original, Specification specification) {
+        Path file = file(className, original, specification);
+        try {
+            return Files.exists(file) ? Files.readAllBytes(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void put(String className, byte[] original, Specification specification, byte[] woven) {
+        Path file = file(className, original, specification);
+        try {
+            Path temporary = Files.createTempFile(directory, "weave", ".tmp");
+            Files.write(temporary, woven);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("apiSL agent: could not cache " + className + ": " + e);
+        }
+    }
+
+    private Path file(String className, byte[] original, Specification specification) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(original);
+        digest.update(specification.getText().getBytes(StandardCharsets.UTF_8));
+        String hash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+        return directory.resolve(className.replace('/', '.') + "-" + hash + ".class");
+    }
+}
@@ -0,0 +1,109 @@
+package space.kiibou.agent;
+
+import java.io.IOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies apiSL specifications to unmodified classes while they are loaded, so verified stacks run without copying the
+ * library into an MPS solution. Usage:
+ * <pre>
+ * -javaagent:apiSL-agent.jar=specs=specifications.txt,cache=build/woven,timings
+ * </pre>
+ * The specifications file has one {@code <binary class name> <specification>} line per class and is written by
+ * {@link SpecificationExport}. The woven classes report misuses through {@code apiSL.runtime.apiSL.MisuseReporting},
+ * so the apiSL runtime has to be on the classpath of the application.
+ */
+public class WeavingAgent implements ClassFileTransformer {
+    private static final String RUNTIME_CLASS = "apiSL.runtime.apiSL.MisuseReporting";
+
+    private final Map<String, Specification> specifications;
+    private final WeaveCache cache;
+    private final Map<String, Long> weavingNanos = new ConcurrentHashMap<>();
+
+    public WeavingAgent(Map<String, Specification> specifications, WeaveCache cache) {
+        this.specifications = specifications;
+        this.cache = cache;
+    }
+
+    public static void premain(String arguments, Instrumentation instrumentation) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String option : (arguments == null ? "" : arguments).split(",")) {
+            if (option.isEmpty()) continue;
+            String[] parts = option.split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        if (!options.containsKey("specs")) {
+            throw new IllegalArgumentException("apiSL agent: missing specs=<specifications file>");
+        }
+
+        WeaveCache cache = options.containsKey("cache") ? new WeaveCache(Path.of(options.get("cache"))) : null;
+        WeavingAgent agent = new WeavingAgent(read(Path.of(options.get("specs"))), cache);
+        if (options.containsKey("timings")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(agent::printTimings, "apiSL-agent-timings"));
+        }
+        if (ClassLoader.getSystemClassLoader().getResource(RUNTIME_CLASS.replace('.', '/') + ".class") == null) {
+            System.err.println("apiSL agent: " + RUNTIME_CLASS + " is not on the classpath, woven checks will fail");
+        }
+        instrumentation.addTransformer(agent);
+    }
+
+    public static Map<String, Specification> read(Path file) throws IOException {
+        Map<String, Specification> specifications = new HashMap<>();
+        for (String line : Files.readAllLines(file)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            int space = line.indexOf(' ');
+            String className = space < 0 ? line : line.substring(0, space);
+            String text = space < 0 ? "" : line.substring(space + 1);
+            specifications.put(className.replace('.', '/'), Specification.parse(text));
+        }
+        return specifications;
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                            ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (className == null || classBeingRedefined != null) return null;
+        Specification specification = specifications.get(className);
+        if (specification == null) return null;
+
+        try {
+            return transform(loader, className, classfileBuffer, specification);
+        } catch (Throwable e) {
+            // the JVM silently drops exceptions of transformers, so at least say why a class was left alone
+            System.err.println("apiSL agent: could not weave " + className + ": " + e);
+            return null;
+        }
+    }
+
+    public byte[] transform(ClassLoader loader, String className, byte[] original, Specification specification) {
+        if (cache != null) {
+            byte[] cached = cache.get(className, original, specification);
+            if (cached != null) return cached;
+        }
+
+        long start = System.nanoTime();
+        byte[] woven = GuardWeaver.weave(original, specification, loader);
+        weavingNanos.put(className, System.nanoTime() - start);
+
+        if (woven != null && cache != null) {
+            cache.put(className, original, specification, woven);
+        }
+        return woven;
+    }
+
+    private void printTimings() {
+        System.err.println("apiSL agent: weaving time per class");
+        weavingNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> System.err.printf("  %8.3f ms  %s%n", entry.getValue() / 1e6, entry.getKey().replace('/', '.')));
+    }
+}
@@ -0,0 +1,82 @@
+package space.kiibou.protocol;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The legal call sequence of a verified class. The apiSL generator stores it in the static
+ * {@value #FIELD} field as {@code name/arity} entries separated by {@code ;}. A guard that a method sets only for some
+ * return values ({@code when returns <value>}) does not count as set when the sequence is built.
+ * <p>
+ * Steps are resolved against the public instance methods of the class. Steps without such a method, e.g. the protected
+ * {@code engine*} methods of the JCA classes, are kept as unresolved steps rather than dropped, so callers can tell an
+ * incomplete sequence from a complete one.
+ */
+public class Protocol {
+    public static final String FIELD = "verifiedProtocol";
+
+    private final Class<?> type;
+    private final List<Method> calls;
+    private final List<String> unresolvedSteps;
+
+    private Protocol(Class<?> type, List<Method> calls, List<String> unresolvedSteps) {
+        this.type = type;
+        this.calls = calls;
+        this.unresolvedSteps = unresolvedSteps;
+    }
+
+    public static Optional<Protocol> of(Class<?> type) {
+        String protocol;
+        try {
+            Field field = type.getDeclaredField(FIELD);
+            if (!Modifier.isStatic(field.getModifiers())) return Optional.empty();
+            field.setAccessible(true);
+            protocol = (String) field.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException | ClassCastException e) {
+            return Optional.empty();
+        }
+
+        List<Method> calls = new ArrayList<>();
+        List<String> unresolvedSteps = new ArrayList<>();
+        for (String step : protocol.split(";")) {
+            if (step.isEmpty()) continue;
+            int slash = step.lastIndexOf('/');
+            String name = step.substring(0, slash);
+            int arity = Integer.parseInt(step.substring(slash + 1));
+            Optional<Method> method = findMethod(type, name, arity);
+            if (method.isPresent()) {
+                calls.add(method.get());
+            } else {
+                unresolvedSteps.add(step);
+            }
+        }
+        return Optional.of(new Protocol(type, calls, unresolvedSteps));
+    }
+
+    private static Optional<Method> findMethod(Class<?> type, String name, int arity) {
+        return Arrays.stream(type.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .filter(method -> method.getParameterCount() == arity)
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .min(Comparator.comparing(Method::toGenericString));
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public List<Method> getCalls() {
+        return calls;
+    }
+
+    /** The {@code name/arity} steps that have no public instance method, in protocol order. */
+    public List<String> getUnresolvedSteps() {
+        return unresolvedSteps;
+    }
+}
@@ -0,0 +1,33 @@
+package space.kiibou.protocol;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Array;
+import java.security.Key;
+import java.security.SecureRandom;
+
+/**
+ * Default arguments for generated protocol harnesses. Arrays are large enough for a few cipher blocks, keys are
+ * fixed AES keys and anything else falls back to the zero value of its type.
+ */
+public class ProtocolArguments {
+    public static final int ARRAY_LENGTH = 64;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Key KEY = new SecretKeySpec(new byte[16], "AES");
+
+    public static Object value(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == char.class) return (char) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type.isArray()) return Array.newInstance(type.getComponentType(), ARRAY_LENGTH);
+        if (type == String.class || type == CharSequence.class) return "";
+        if (type.isAssignableFrom(SecretKeySpec.class)) return KEY;
+        if (type.isAssignableFrom(SecureRandom.class)) return RANDOM;
+        return null;
+    }
+}
@@ -0,0 +1,161 @@
+package space.kiibou.protocol;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Writes one JMH benchmark per verified class found in the given jars. Each benchmark constructs the class and walks
+ * the legal call sequence recorded by the apiSL generator. Classes with a step that does not resolve to a public method
+ * are skipped instead of walking a partial sequence. The sequence is tried once reflectively first and classes whose
+ * sequence fails with the default arguments are skipped too, so the JMH run only contains working harnesses.
+ * <p>
+ * The generated sources call the classes directly, so they compile against the verified build as well as the
+ * original build. The jars are loaded in isolation so the build on the benchmark classpath does not shadow them.
+ */
+public class ProtocolHarnessGenerator {
+    public static final String PACKAGE = "space.kiibou.protocol.generated";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ProtocolHarnessGenerator <output directory> <jar>...");
+            System.exit(2);
+        }
+
+        Path output = Path.of(args[0]).resolve(PACKAGE.replace('.', File.separatorChar));
+        Files.createDirectories(output);
+
+        URL[] urls = new URL[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            urls[i - 1] = Path.of(args[i]).toUri().toURL();
+        }
+
+        int generated = 0;
+        try (URLClassLoader loader = new URLClassLoader(urls, ClassLoader.getPlatformClassLoader())) {
+            for (int i = 1; i < args.length; i++) {
+                for (String className : classNames(Path.of(args[i]))) {
+                    Optional<Protocol> protocol = load(loader, className).flatMap(Protocol::of);
+                    if (protocol.isEmpty()) continue;
+
+                    Optional<String> source = harness(protocol.get());
+                    if (source.isEmpty()) continue;
+
+                    Files.writeString(output.resolve(benchmarkName(protocol.get().getType()) + ".java"), source.get());
+                    generated++;
+                }
+            }
+        }
+        System.out.println("Generated " + generated + " protocol benchmarks in " + output);
+    }
+
+    private static List<String> classNames(Path jar) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (JarFile file = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = file.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (!name.endsWith(".class") || name.contains("$") || name.endsWith("module-info.class")) continue;
+                names.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+            }
+        }
+        return names;
+    }
+
+    private static Optional<Class<?>> load(ClassLoader loader, String className) {
+        try {
+            return Optional.of(Class.forName(className, false, loader));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> harness(Protocol protocol) {
+        Class<?> type = protocol.getType();
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) return Optional.empty();
+        if (protocol.getCalls().isEmpty()) return Optional.empty();
+        if (!protocol.getUnresolvedSteps().isEmpty()) {
+            return skip(type, "no public method for " + String.join(", ", protocol.getUnresolvedSteps()));
+        }
+
+        Optional<Constructor<?>> constructor = Arrays.stream(type.getConstructors())
+                .min(Comparator.comparingInt(Constructor::getParameterCount));
+        if (constructor.isEmpty()) return Optional.empty();
+
+        try {
+            Object instance = constructor.get().newInstance(arguments(constructor.get().getParameterTypes()));
+            for (Method call : protocol.getCalls()) {
+                call.invoke(instance, arguments(call.getParameterTypes()));
+            }
+        } catch (InvocationTargetException e) {
+            return skip(type, "protocol fails with default arguments (" + e.getCause() + ")");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return skip(type, "protocol fails with default arguments (" + e + ")");
+        }
+
+        String typeName = type.getCanonicalName();
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import org.openjdk.jmh.annotations.Benchmark;\n")
+                .append("import org.openjdk.jmh.infra.Blackhole;\n")
+                .append("import space.kiibou.protocol.ProtocolArguments;\n\n")
+                .append("/** Generated from the protocol of {@code ").append(typeName).append("}. */\n")
+                .append("public class ").append(benchmarkName(type)).append(" {\n")
+                .append("    @Benchmark\n")
+                .append("    public void protocol(Blackhole blackhole) throws Throwable {\n")
+                .append("        ").append(typeName).append(" object = new ").append(typeName)
+                .append('(').append(argumentList(constructor.get().getParameterTypes())).append(");\n");
+        for (Method call : protocol.getCalls()) {
+            String invocation = "object." + call.getName() + '(' + argumentList(call.getParameterTypes()) + ')';
+            if (call.getReturnType() == void.class) {
+                source.append("        ").append(invocation).append(";\n");
+            } else {
+                source.append("        blackhole.consume(").append(invocation).append(");\n");
+            }
+        }
+        source.append("        blackhole.consume(object);\n")
+                .append("    }\n")
+                .append("}\n");
+        return Optional.of(source.toString());
+    }
+
+    private static Optional<String> skip(Class<?> type, String reason) {
+        System.err.println("Skipping " + type.getName() + ": " + reason);
+        return Optional.empty();
+    }
+
+    private static Object[] arguments(Class<?>[] types) {
+        return Arrays.stream(types).map(ProtocolArguments::value).toArray();
+    }
+
+    private static String argumentList(Class<?>[] types) {
+        List<String> arguments = new ArrayList<>();
+        for (Class<?> type : types) {
+            String name = type.getCanonicalName();
+            arguments.add("(" + name + ") ProtocolArguments.value(" + name + ".class)");
+        }
+        return String.join(", ", arguments);
+    }
+
+    /**
+     * Verified classes of different packages may share a simple name, so the harness is named after the fully qualified
+     * name, e.g. {@code org_bouncycastle_crypto_engines_AESEngine_ProtocolBenchmark}.
+     */
+    private static String benchmarkName(Class<?> type) {
+        return type.getName().replace('.', '_').replace('$', '_') + "_ProtocolBenchmark";
+    }
+}
@@ -0,0 +1,54 @@
+package space.kiibou.protocol;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import space.kiibou.variants.JmhResults;
+import space.kiibou.variants.JmhResults.Result;
+
+/**
+ * Compares two JMH JSON results and fails if a benchmark present in both lost more than the allowed share of its
+ * throughput or allocates more per operation than allowed.
+ */
+public class ProtocolRegressionGate {
+    private static final double DEFAULT_THROUGHPUT_LOSS = 0.10;
+    private static final double DEFAULT_ALLOCATION_GROWTH = 0.10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ProtocolRegressionGate <baseline.json> <candidate.json> [max throughput loss] [max allocation growth]");
+            System.exit(2);
+        }
+
+        Map<String, Result> baseline = JmhResults.read(Path.of(args[0]));
+        Map<String, Result> candidate = JmhResults.read(Path.of(args[1]));
+        double maxLoss = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THROUGHPUT_LOSS;
+        double maxGrowth = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_ALLOCATION_GROWTH;
+
+        List<String> regressions = new ArrayList<>();
+        int compared = 0;
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            if (before == null) continue;
+            Result after = entry.getValue();
+            compared++;
+
+            if (after.score() < before.score() * (1 - maxLoss)) {
+                regressions.add(String.format("%s: throughput %.1f -> %.1f", entry.getKey(), before.score(), after.score()));
+            }
+            if (!Double.isNaN(before.allocation()) && !Double.isNaN(after.allocation())
+                    && after.allocation() > before.allocation() * (1 + maxGrowth) + 1) {
+                regressions.add(String.format("%s: allocation %.1f -> %.1f B/op", entry.getKey(), before.allocation(), after.allocation()));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.println("Benchmark regressions:");
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No regressions in " + compared + " compared benchmarks");
+    }
+}
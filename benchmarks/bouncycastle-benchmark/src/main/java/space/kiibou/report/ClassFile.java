@@ -0,0 +1,118 @@
+package space.kiibou.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of a class file the reports need: field names, constant string values and the bytecode size of every
+ * method, keyed by name and descriptor. ASM does not expose the length of a method's code, so the class file is read
+ * directly.
+ */
+public class ClassFile {
+    private final String name;
+    private final List<String> fields = new ArrayList<>();
+    private final Map<String, String> constants = new LinkedHashMap<>();
+    private final Map<String, Integer> codeSizes = new LinkedHashMap<>();
+
+    private ClassFile(String name) {
+        this.name = name;
+    }
+
+    public static ClassFile read(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != 0xCAFEBABE) throw new IOException("Not a class file");
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int count = in.readUnsignedShort();
+        Object[] pool = new Object[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> pool[i] = in.readUTF();
+                case 7, 8, 16, 19, 20 -> pool[i] = in.readUnsignedShort();
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.readInt();
+                case 5, 6 -> {
+                    in.readLong();
+                    i++;
+                }
+                case 15 -> {
+                    in.readUnsignedByte();
+                    in.readUnsignedShort();
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        in.readUnsignedShort();
+        ClassFile file = new ClassFile((String) pool[(Integer) pool[in.readUnsignedShort()]]);
+        in.readUnsignedShort();
+        in.skipBytes(2 * in.readUnsignedShort());
+
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) {
+            in.readUnsignedShort();
+            String name = (String) pool[in.readUnsignedShort()];
+            in.readUnsignedShort();
+            file.fields.add(name);
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                String attribute = (String) pool[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (attribute.equals("ConstantValue")) {
+                    Object value = pool[in.readUnsignedShort()];
+                    if (value instanceof Integer string) file.constants.put(name, (String) pool[string]);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+
+        int methods = in.readUnsignedShort();
+        for (int i = 0; i < methods; i++) {
+            in.readUnsignedShort();
+            String name = (String) pool[in.readUnsignedShort()];
+            String descriptor = (String) pool[in.readUnsignedShort()];
+            int size = 0;
+            int attributes = in.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                String attribute = (String) pool[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (attribute.equals("Code")) {
+                    in.readUnsignedShort();
+                    in.readUnsignedShort();
+                    size = in.readInt();
+                    in.skipBytes(length - 8);
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+            file.codeSizes.put(name + descriptor, size);
+        }
+        return file;
+    }
+
+    /** The internal name, e.g. {@code org/bouncycastle/crypto/engines/DESEngine}. */
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /** The value of a {@code static final String} field initialized with a constant, or {@code null}. */
+    public String getConstant(String field) {
+        return constants.get(field);
+    }
+
+    /** Bytecode size per method, keyed by name and descriptor; 0 for abstract and native methods. */
+    public Map<String, Integer> getCodeSizes() {
+        return codeSizes;
+    }
+}
@@ -0,0 +1,122 @@
+package space.kiibou.report;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.objectweb.asm.Type;
+import space.kiibou.agent.Specification;
+import space.kiibou.report.VerifiedBuild.VerifiedClass;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a Markdown report of what apiSL added to every verified class: the bytecode size of each verified method
+ * before and after generation (together with the implementation method its body was moved to, if any), the
+ * requirements and consequences of its specification, whether it still fits the inlining budget for hot methods
+ * ({@code -XX:FreqInlineSize}) and the fields, methods and nested classes the generator added. The inlining limits are taken from the running JVM, so flags passed to the report apply.
+ * <p>
+ * Arguments: {@code <output file> <original jar> <verified jar>}
+ */
+public class CodeSizeReport {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: CodeSizeReport <output file> <original jar> <verified jar>");
+            System.exit(2);
+        }
+        VerifiedBuild build = VerifiedBuild.compare(Path.of(args[1]), Path.of(args[2]));
+        Path output = Path.of(args[0]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, create(build, vmOption("FreqInlineSize"), vmOption("MaxInlineSize")));
+        System.out.println("Wrote the code size report for " + build.getClasses().size() + " verified classes to " + output);
+    }
+
+    public static String create(VerifiedBuild build, int freqInlineSize, int maxInlineSize) {
+        StringBuilder summary = new StringBuilder("# Generated code per verified class\n\n")
+                .append("Inlining limits: FreqInlineSize ").append(freqInlineSize)
+                .append(" bytes, MaxInlineSize ").append(maxInlineSize).append(" bytes.\n\n")
+                .append("| Class | Verified methods | Before | After | Generated methods | Extra fields | Over FreqInlineSize |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|\n");
+        StringBuilder details = new StringBuilder();
+
+        for (VerifiedClass verifiedClass : build.getClasses()) {
+            Map<String, Integer> before = verifiedClass.original().getCodeSizes();
+            Map<String, Integer> after = verifiedClass.verified().getCodeSizes();
+
+            details.append("\n## ").append(verifiedClass.getName()).append("\n\n")
+                    .append("| Method | Requirements | Consequences | Before | After | Change | Hot inlining |\n")
+                    .append("|---|---:|---:|---:|---:|---:|---|\n");
+            int methods = 0, sizeBefore = 0, sizeAfter = 0, overLimit = 0;
+            for (Specification.Method method : verifiedClass.specification().getMethods()) {
+                for (Map.Entry<String, Integer> entry : after.entrySet()) {
+                    String key = entry.getKey();
+                    if (!key.startsWith(method.getName() + "(") || arity(key) != method.getArity()) continue;
+                    Integer original = before.get(key);
+                    int size = entry.getValue() + implementationSize(verifiedClass, key);
+                    int consequences = method.getConsequenceCount();
+                    details.append("| `").append(key).append("` | ").append(method.getRequires().size())
+                            .append(" | ").append(consequences)
+                            .append(" | ").append(original == null ? "-" : original)
+                            .append(" | ").append(size)
+                            .append(" | ").append(original == null ? "-" : String.format("%+d", size - original))
+                            .append(" | ").append(inlining(original, size, freqInlineSize)).append(" |\n");
+                    methods++;
+                    sizeBefore += original == null ? 0 : original;
+                    sizeAfter += size;
+                    if (size > freqInlineSize) overLimit++;
+                }
+            }
+
+            List<String> generated = new ArrayList<>();
+            int generatedSize = 0;
+            for (Map.Entry<String, Integer> entry : after.entrySet()) {
+                if (!verifiedClass.isGenerated(entry.getKey())) continue;
+                generated.add("`" + entry.getKey() + "` (" + entry.getValue() + ")");
+                generatedSize += entry.getValue();
+            }
+            for (ClassFile nested : verifiedClass.generatedClasses()) {
+                int size = nested.getCodeSizes().values().stream().mapToInt(Integer::intValue).sum();
+                generated.add("`" + nested.getName().replace('/', '.') + "` (" + size + ")");
+                generatedSize += size;
+            }
+            List<String> fields = new ArrayList<>(verifiedClass.verified().getFields());
+            fields.removeAll(verifiedClass.original().getFields());
+
+            details.append("\nGenerated methods and classes: ").append(generated.isEmpty() ? "none" : String.join(", ", generated)).append('\n')
+                    .append("\nExtra fields: ").append(fields.isEmpty() ? "none" : "`" + String.join("`, `", fields) + "`").append('\n');
+            summary.append("| ").append(verifiedClass.getName())
+                    .append(" | ").append(methods)
+                    .append(" | ").append(sizeBefore)
+                    .append(" | ").append(sizeAfter)
+                    .append(" | ").append(generatedSize)
+                    .append(" | ").append(fields.size())
+                    .append(" | ").append(overLimit).append(" |\n");
+        }
+        return summary.append(details).toString();
+    }
+
+    private static int implementationSize(VerifiedClass verifiedClass, String method) {
+        int size = 0;
+        for (Map.Entry<String, String> implementation : verifiedClass.implementations().entrySet()) {
+            if (implementation.getValue().equals(method)) size += verifiedClass.verified().getCodeSizes().get(implementation.getKey());
+        }
+        return size;
+    }
+
+    private static String inlining(Integer before, int after, int limit) {
+        if (after <= limit) return "yes";
+        return before != null && before <= limit ? "**lost**" : "no";
+    }
+
+    private static int arity(String method) {
+        return Type.getArgumentTypes(method.substring(method.indexOf('('))).length;
+    }
+
+    private static int vmOption(String name) {
+        HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        return Integer.parseInt(bean.getVMOption(name).getValue());
+    }
+}
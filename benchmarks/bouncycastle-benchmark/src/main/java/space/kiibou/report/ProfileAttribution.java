@@ -0,0 +1,91 @@
+package space.kiibou.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Attributes the CPU samples of async-profiler runs to apiSL check code or to the original code. Every file in the
+ * input directory in collapsed stack format ({@code frame;frame;...;frame count}, as written by JMH's
+ * {@code -prof async:output=collapsed}) is one benchmark. A sample counts as check code when the frame closest to the
+ * leaf that belongs to a verified class or the apiSL runtime is generated code or runtime code; a frame of an original
+ * method of a verified class (or of the implementation method its body was moved to), or no such frame at all, makes
+ * it original code.
+ * <p>
+ * Arguments: {@code <output file> <original jar> <verified jar> <profile directory>}
+ */
+public class ProfileAttribution {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("usage: ProfileAttribution <output file> <original jar> <verified jar> <profile directory>");
+            System.exit(2);
+        }
+        VerifiedBuild build = VerifiedBuild.compare(Path.of(args[1]), Path.of(args[2]));
+        Path root = Path.of(args[3]);
+
+        Map<String, long[]> samples = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                long[] counts = attribute(build, Files.readAllLines(file));
+                if (counts[0] > 0) samples.put(root.relativize(file).toString(), counts);
+            }
+        }
+
+        StringBuilder report = new StringBuilder("# CPU samples in apiSL check code\n\n")
+                .append("| Profile | Samples | Check code | Original code |\n")
+                .append("|---|---:|---:|---:|\n");
+        samples.forEach((name, counts) -> report.append("| ").append(name)
+                .append(" | ").append(counts[0])
+                .append(" | ").append(String.format("%.1f%%", 100.0 * counts[1] / counts[0]))
+                .append(" | ").append(String.format("%.1f%%", 100.0 * (counts[0] - counts[1]) / counts[0])).append(" |\n"));
+
+        Path output = Path.of(args[0]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, report);
+        System.out.println("Attributed " + samples.size() + " profiles to " + output);
+    }
+
+    /** Total samples and samples in check code of one collapsed stack file; lines in other formats are ignored. */
+    static long[] attribute(VerifiedBuild build, List<String> lines) {
+        long[] counts = new long[2];
+        for (String line : lines) {
+            int space = line.lastIndexOf(' ');
+            if (space < 0) continue;
+            long count;
+            try {
+                count = Long.parseLong(line.substring(space + 1).trim());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            counts[0] += count;
+            if (isCheckCode(build, line.substring(0, space).split(";"))) counts[1] += count;
+        }
+        return counts;
+    }
+
+    private static boolean isCheckCode(VerifiedBuild build, String[] frames) {
+        for (int i = frames.length - 1; i >= 0; i--) {
+            String frame = normalize(frames[i]);
+            int dot = frame.lastIndexOf('.');
+            if (dot < 0) continue;
+            String className = frame.substring(0, dot);
+            String method = frame.substring(dot + 1);
+            if (build.isCheckCode(className, method)) return true;
+            if (build.isVerified(className)) return false;
+        }
+        return false;
+    }
+
+    /** {@code org/example/Foo.bar(I)V_[j]} to {@code org.example.Foo.bar}. */
+    private static String normalize(String frame) {
+        int annotation = frame.lastIndexOf("_[");
+        if (annotation > 0 && frame.endsWith("]")) frame = frame.substring(0, annotation);
+        int parameters = frame.indexOf('(');
+        if (parameters > 0) frame = frame.substring(0, parameters);
+        return frame.replace('/', '.');
+    }
+}
@@ -0,0 +1,150 @@
+package space.kiibou.report;
+
+import space.kiibou.agent.Specification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * The verified classes of a jar generated by apiSL, each paired with the class it was generated from. Verified classes
+ * are recognized by their {@value Specification#FIELD} constant and matched to the original class with the same name,
+ * or else with the same simple name. Methods and nested classes that have no counterpart in the original class were
+ * added by the generator, except for the implementation methods: when a verified method has consequences, the generator
+ * moves its body into a method with a unique name derived from the method's name ({@code <name>_<suffix>}, same
+ * descriptor) and calls it from a wrapper. Those methods still run the original code.
+ */
+public class VerifiedBuild {
+    public static final String RUNTIME_PACKAGE = "apiSL.runtime.";
+
+    /**
+     * @param implementations the implementation methods of the verified class, each mapped to the method it implements
+     *                        (name and descriptor)
+     */
+    public record VerifiedClass(ClassFile original, ClassFile verified, Specification specification,
+                                List<ClassFile> generatedClasses, Map<String, String> implementations) {
+        public String getName() {
+            return verified.getName().replace('/', '.');
+        }
+
+        /** Whether a method (name and descriptor) of the verified class was added by the generator. */
+        public boolean isGenerated(String method) {
+            return !original.getCodeSizes().containsKey(method) && !implementations.containsKey(method);
+        }
+    }
+
+    private final List<VerifiedClass> classes = new ArrayList<>();
+    private final Map<String, Set<String>> generatedMethods = new HashMap<>();
+    private final Set<String> generatedClasses = new HashSet<>();
+
+    public static VerifiedBuild compare(Path original, Path verified) throws IOException {
+        Map<String, ClassFile> originals = readAll(original);
+        Map<String, List<String>> bySimpleName = new HashMap<>();
+        for (String name : originals.keySet()) bySimpleName.computeIfAbsent(simpleName(name), k -> new ArrayList<>()).add(name);
+
+        Map<String, ClassFile> verifiedClasses = readAll(verified);
+        VerifiedBuild build = new VerifiedBuild();
+        for (ClassFile file : verifiedClasses.values()) {
+            String text = file.getConstant(Specification.FIELD);
+            if (text == null) continue;
+
+            ClassFile source = originals.get(file.getName());
+            if (source == null) {
+                List<String> matches = bySimpleName.getOrDefault(simpleName(file.getName()), List.of());
+                if (matches.size() != 1) {
+                    System.err.println("Skipping " + file.getName() + ": " + matches.size() + " original classes with the same name");
+                    continue;
+                }
+                source = originals.get(matches.get(0));
+            }
+
+            List<ClassFile> nested = new ArrayList<>();
+            for (ClassFile candidate : verifiedClasses.values()) {
+                String name = candidate.getName();
+                if (!name.startsWith(file.getName() + "$")) continue;
+                if (originals.containsKey(source.getName() + name.substring(file.getName().length()))) continue;
+                nested.add(candidate);
+                build.generatedClasses.add(name.replace('/', '.'));
+            }
+
+            Map<String, String> implementations = implementations(source, file);
+            Set<String> added = new HashSet<>();
+            for (String method : file.getCodeSizes().keySet()) {
+                if (!source.getCodeSizes().containsKey(method) && !implementations.containsKey(method)) {
+                    added.add(method.substring(0, method.indexOf('(')));
+                }
+            }
+            build.generatedMethods.put(file.getName().replace('/', '.'), added);
+            build.classes.add(new VerifiedClass(source, file, Specification.parse(text), nested, implementations));
+        }
+        return build;
+    }
+
+    public List<VerifiedClass> getClasses() {
+        return classes;
+    }
+
+    /** Whether a method (binary class name, method name) is part of the apiSL runtime or was added by the generator. */
+    public boolean isCheckCode(String className, String method) {
+        if (className.startsWith(RUNTIME_PACKAGE) || generatedClasses.contains(className)) return true;
+        Set<String> added = generatedMethods.get(className);
+        return added != null && added.contains(method);
+    }
+
+    /** Whether a class is one of the verified classes, including the classes generated for it. */
+    public boolean isVerified(String className) {
+        return generatedMethods.containsKey(className) || generatedClasses.contains(className);
+    }
+
+    /**
+     * Maps every method of the verified class that is named {@code <name>_<suffix>} and has the descriptor of a method
+     * {@code <name>} of both classes to that method, preferring the longest {@code <name>}.
+     */
+    private static Map<String, String> implementations(ClassFile original, ClassFile verified) {
+        Map<String, String> implementations = new HashMap<>();
+        for (String method : verified.getCodeSizes().keySet()) {
+            if (original.getCodeSizes().containsKey(method)) continue;
+            int parameters = method.indexOf('(');
+            String name = method.substring(0, parameters);
+            String descriptor = method.substring(parameters);
+            for (int separator = name.lastIndexOf('_'); separator > 0; separator = name.lastIndexOf('_', separator - 1)) {
+                String implemented = name.substring(0, separator) + descriptor;
+                if (original.getCodeSizes().containsKey(implemented) && verified.getCodeSizes().containsKey(implemented)) {
+                    implementations.put(method, implemented);
+                    break;
+                }
+            }
+        }
+        return implementations;
+    }
+
+    private static Map<String, ClassFile> readAll(Path jarFile) throws IOException {
+        Map<String, ClassFile> files = new LinkedHashMap<>();
+        try (JarFile jar = new JarFile(jarFile.toFile())) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.getName().endsWith(".class") || entry.getName().endsWith("module-info.class")) continue;
+                try (InputStream in = jar.getInputStream(entry)) {
+                    ClassFile file = ClassFile.read(in.readAllBytes());
+                    files.put(file.getName(), file);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('/') + 1);
+    }
+}
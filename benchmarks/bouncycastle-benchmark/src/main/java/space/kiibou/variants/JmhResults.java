@@ -0,0 +1,53 @@
+package space.kiibou.variants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the score and the normalized allocation rate of every benchmark in a JMH JSON result file. Entries are keyed
+ * by benchmark name and parameters. Only these fields are needed, so no JSON library is required.
+ */
+public class JmhResults {
+    private static final Pattern BENCHMARK = Pattern.compile("\"benchmark\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern PARAMS = Pattern.compile("\"params\"\\s*:\\s*\\{([^}]*)}");
+    private static final Pattern SCORE = Pattern.compile("\"primaryMetric\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-0-9.eE]+|\"NaN\")");
+    private static final Pattern UNIT = Pattern.compile("\"scoreUnit\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ALLOCATION = Pattern.compile("gc\\.alloc\\.rate\\.norm\"\\s*:\\s*\\{\\s*\"score\"\\s*:\\s*([-0-9.eE]+|\"NaN\")");
+
+    public record Result(double score, String unit, double allocation) {
+    }
+
+    public static Map<String, Result> read(Path file) throws IOException {
+        String json = Files.readString(file);
+        Map<String, Result> results = new LinkedHashMap<>();
+
+        Matcher benchmark = BENCHMARK.matcher(json);
+        List<Integer> starts = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        while (benchmark.find()) {
+            starts.add(benchmark.start());
+            names.add(benchmark.group(1));
+        }
+        for (int i = 0; i < starts.size(); i++) {
+            String entry = json.substring(starts.get(i), i + 1 < starts.size() ? starts.get(i + 1) : json.length());
+            Matcher params = PARAMS.matcher(entry);
+            Matcher unit = UNIT.matcher(entry);
+            String key = names.get(i) + (params.find() ? " {" + params.group(1).replaceAll("\\s+", "") + "}" : "");
+            results.put(key, new Result(number(SCORE.matcher(entry)), unit.find() ? unit.group(1) : "",
+                    number(ALLOCATION.matcher(entry))));
+        }
+        return results;
+    }
+
+    private static double number(Matcher matcher) {
+        if (!matcher.find() || matcher.group(1).startsWith("\"")) return Double.NaN;
+        return Double.parseDouble(matcher.group(1));
+    }
+}
@@ -0,0 +1,137 @@
+package space.kiibou.variants;
+
+import space.kiibou.variants.JmhResults.Result;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Charts JMH results taken at several thread counts: one SVG line chart per benchmark and parameter set with a line
+ * per variant, and a Markdown page with all charts and a table of the scores. The thread axis is logarithmic.
+ */
+public class ScalingChart {
+    private static final String[] COLORS = {"#1f77b4", "#d62728", "#2ca02c", "#ff7f0e", "#9467bd"};
+    private static final int WIDTH = 640, HEIGHT = 360, LEFT = 80, RIGHT = 140, TOP = 40, BOTTOM = 50;
+
+    /** Result files keyed by variant and thread count. */
+    public static void write(Map<String, Map<Integer, Path>> files, Path output) throws IOException {
+        Map<String, Map<Integer, Map<String, Result>>> results = new LinkedHashMap<>();
+        Set<String> benchmarks = new LinkedHashSet<>();
+        Set<Integer> threads = new TreeSet<>();
+        for (Map.Entry<String, Map<Integer, Path>> variant : files.entrySet()) {
+            Map<Integer, Map<String, Result>> byThreads = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Path> run : variant.getValue().entrySet()) {
+                Map<String, Result> read = JmhResults.read(run.getValue());
+                byThreads.put(run.getKey(), read);
+                benchmarks.addAll(read.keySet());
+                threads.add(run.getKey());
+            }
+            results.put(variant.getKey(), byThreads);
+        }
+
+        List<String> names = new ArrayList<>(results.keySet());
+        StringBuilder page = new StringBuilder("# Throughput by thread count\n");
+        int index = 0;
+        for (String benchmark : benchmarks) {
+            Map<String, Map<Integer, Double>> lines = new LinkedHashMap<>();
+            String unit = "";
+            for (String name : names) {
+                Map<Integer, Double> line = new LinkedHashMap<>();
+                for (int count : threads) {
+                    Result result = results.get(name).getOrDefault(count, Map.of()).get(benchmark);
+                    if (result == null || Double.isNaN(result.score())) continue;
+                    line.put(count, result.score());
+                    unit = result.unit();
+                }
+                lines.put(name, line);
+            }
+
+            String file = String.format("chart-%02d.svg", index++);
+            Files.writeString(output.resolve(file), svg(benchmark, unit, threads, lines));
+            page.append("\n## ").append(benchmark).append("\n\n![").append(benchmark).append("](").append(file).append(")\n\n| Threads |");
+            for (String name : names) page.append(' ').append(name).append(" (").append(unit).append(") |");
+            for (String name : names.subList(1, names.size())) page.append(' ').append(name).append(" vs ").append(names.get(0)).append(" |");
+            page.append("\n|---:|").append("---:|".repeat(names.size() * 2 - 1)).append('\n');
+            for (int count : threads) {
+                page.append("| ").append(count).append(" |");
+                for (String name : names) page.append(' ').append(format(lines.get(name).get(count))).append(" |");
+                Double baseline = lines.get(names.get(0)).get(count);
+                for (String name : names.subList(1, names.size())) {
+                    Double score = lines.get(name).get(count);
+                    page.append(' ').append(score == null || baseline == null || baseline == 0
+                            ? "-" : String.format("%+.1f%%", (score / baseline - 1) * 100)).append(" |");
+                }
+                page.append('\n');
+            }
+        }
+        Files.writeString(output.resolve("scaling.md"), page);
+    }
+
+    static String svg(String title, String unit, Set<Integer> threads, Map<String, Map<Integer, Double>> lines) {
+        double max = lines.values().stream().flatMap(line -> line.values().stream()).mapToDouble(Double::doubleValue).max().orElse(1);
+        int first = threads.stream().min(Integer::compare).orElse(1);
+        double span = Math.max(1, log2(threads.stream().max(Integer::compare).orElse(first)) - log2(first));
+        int plotWidth = WIDTH - LEFT - RIGHT, plotHeight = HEIGHT - TOP - BOTTOM;
+
+        StringBuilder svg = new StringBuilder(String.format(
+                "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-family=\"sans-serif\" font-size=\"12\">\n",
+                WIDTH, HEIGHT));
+        svg.append(String.format("<rect width=\"%d\" height=\"%d\" fill=\"white\"/>\n", WIDTH, HEIGHT));
+        svg.append(String.format("<text x=\"%d\" y=\"20\" font-size=\"13\">%s</text>\n", LEFT, escape(title)));
+        svg.append(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"black\"/>\n", LEFT, TOP + plotHeight, LEFT + plotWidth, TOP + plotHeight));
+        svg.append(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"black\"/>\n", LEFT, TOP, LEFT, TOP + plotHeight));
+        for (int tick = 0; tick <= 4; tick++) {
+            double y = TOP + plotHeight - plotHeight * tick / 4.0;
+            svg.append(String.format("<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#ddd\"/>\n", LEFT, y, LEFT + plotWidth, y));
+            svg.append(String.format("<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%s</text>\n", LEFT - 6, y + 4, format(max * tick / 4)));
+        }
+        for (int count : threads) {
+            double x = LEFT + plotWidth * (log2(count) - log2(first)) / span;
+            svg.append(String.format("<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%d</text>\n", x, TOP + plotHeight + 18, count));
+        }
+        svg.append(String.format("<text x=\"%d\" y=\"%d\" text-anchor=\"middle\">threads</text>\n", LEFT + plotWidth / 2, HEIGHT - 10));
+        svg.append(String.format("<text x=\"14\" y=\"%d\" text-anchor=\"middle\" transform=\"rotate(-90 14 %d)\">%s</text>\n",
+                TOP + plotHeight / 2, TOP + plotHeight / 2, escape(unit)));
+
+        int color = 0;
+        for (Map.Entry<String, Map<Integer, Double>> line : lines.entrySet()) {
+            String stroke = COLORS[color % COLORS.length];
+            StringBuilder points = new StringBuilder();
+            for (Map.Entry<Integer, Double> point : line.getValue().entrySet()) {
+                double x = LEFT + plotWidth * (log2(point.getKey()) - log2(first)) / span;
+                double y = TOP + plotHeight - plotHeight * point.getValue() / max;
+                points.append(String.format("%.1f,%.1f ", x, y));
+                svg.append(String.format("<circle cx=\"%.1f\" cy=\"%.1f\" r=\"3\" fill=\"%s\"/>\n", x, y, stroke));
+            }
+            svg.append(String.format("<polyline points=\"%s\" fill=\"none\" stroke=\"%s\" stroke-width=\"2\"/>\n", points.toString().trim(), stroke));
+            int legend = TOP + 10 + 20 * color;
+            svg.append(String.format("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"%s\" stroke-width=\"2\"/>\n",
+                    WIDTH - RIGHT + 15, legend, WIDTH - RIGHT + 35, legend, stroke));
+            svg.append(String.format("<text x=\"%d\" y=\"%d\">%s</text>\n", WIDTH - RIGHT + 40, legend + 4, escape(line.getKey())));
+            color++;
+        }
+        return svg.append("</svg>\n").toString();
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static String format(Double value) {
+        if (value == null) return "-";
+        if (value >= 1000) return String.format("%.0f", value);
+        return String.format("%.3g", value);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
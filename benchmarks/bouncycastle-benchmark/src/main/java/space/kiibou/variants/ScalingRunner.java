@@ -0,0 +1,78 @@
+package space.kiibou.variants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the same JMH benchmarks against several builds of a library at several thread counts.
+ * <p>
+ * Unlike {@link VariantRunner}, the variants run one after the other, since every run needs all cores for its threads.
+ * Each thread count is one single-fork JMH process per variant, and the start order alternates between thread counts.
+ * {@link ScalingChart} then charts the throughput of every benchmark over the thread count.
+ * <p>
+ * Arguments: {@code --variant name=classpath} (at least one, the first is the baseline), {@code --threads 1,2,4},
+ * {@code --output dir}, then {@code --} followed by arguments passed to every JMH process.
+ */
+public class ScalingRunner {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> variants = new LinkedHashMap<>();
+        List<Integer> threads = new ArrayList<>();
+        List<String> jmhArgs = new ArrayList<>();
+        Path output = Path.of("build", "results", "scaling");
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--variant" -> {
+                    String[] variant = args[++i].split("=", 2);
+                    variants.put(variant[0], variant[1]);
+                }
+                case "--threads" -> Arrays.stream(args[++i].split(",")).map(Integer::valueOf).forEach(threads::add);
+                case "--output" -> output = Path.of(args[++i]);
+                case "--" -> {
+                    jmhArgs.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                    i = args.length;
+                }
+                default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        if (variants.isEmpty()) {
+            throw new IllegalArgumentException("At least one variant is needed");
+        }
+        if (threads.isEmpty()) {
+            threads.addAll(List.of(1, 2, 4, 8, 16, 32, 64));
+        }
+
+        Files.createDirectories(output);
+        List<String> names = new ArrayList<>(variants.keySet());
+        Map<String, Map<Integer, Path>> results = new LinkedHashMap<>();
+        names.forEach(name -> results.put(name, new LinkedHashMap<>()));
+
+        for (int round = 0; round < threads.size(); round++) {
+            int count = threads.get(round);
+            List<String> order = new ArrayList<>(names);
+            if (round % 2 == 1) Collections.reverse(order);
+
+            for (String name : order) {
+                Path result = output.resolve(name + "-t" + count + ".json");
+                List<String> runArgs = new ArrayList<>(List.of("-t", String.valueOf(count)));
+                runArgs.addAll(jmhArgs);
+                int exit = VariantRunner.start(variants.get(name), null, result, output.resolve(name + "-t" + count + ".log"), runArgs).waitFor();
+                if (exit != 0) {
+                    throw new IllegalStateException(name + " with " + count + " threads exited with " + exit);
+                }
+                results.get(name).put(count, result);
+            }
+            System.out.println("Finished " + count + " threads");
+        }
+
+        ScalingChart.write(results, output);
+        System.out.println("Wrote " + output.resolve("scaling.md"));
+    }
+}
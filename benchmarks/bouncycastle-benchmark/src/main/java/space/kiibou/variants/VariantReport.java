@@ -0,0 +1,118 @@
+package space.kiibou.variants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import space.kiibou.variants.JmhResults.Result;
+
+/**
+ * Summarizes per-fork JMH results of several variants as a Markdown table. Each fork contributes one sample, scores are
+ * shown with their 95% confidence interval and every further variant is compared to the first one.
+ */
+public class VariantReport {
+    /** Two-sided 97.5% quantiles of Student's t distribution for 1 to 30 degrees of freedom. */
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    public static void main(String[] args) throws IOException {
+        Map<String, List<Path>> results = new LinkedHashMap<>();
+        for (String arg : args) {
+            String[] variant = arg.split("=", 2);
+            List<Path> files = new ArrayList<>();
+            for (String file : variant[1].split(",")) files.add(Path.of(file));
+            results.put(variant[0], files);
+        }
+        System.out.println(create(results));
+    }
+
+    public static String create(Map<String, List<Path>> results) throws IOException {
+        Map<String, Map<String, List<Result>>> samples = new LinkedHashMap<>();
+        Set<String> benchmarks = new LinkedHashSet<>();
+        for (Map.Entry<String, List<Path>> variant : results.entrySet()) {
+            Map<String, List<Result>> byBenchmark = new LinkedHashMap<>();
+            for (Path file : variant.getValue()) {
+                for (Map.Entry<String, Result> entry : JmhResults.read(file).entrySet()) {
+                    byBenchmark.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+                    benchmarks.add(entry.getKey());
+                }
+            }
+            samples.put(variant.getKey(), byBenchmark);
+        }
+
+        List<String> names = new ArrayList<>(results.keySet());
+        String baseline = names.get(0);
+        StringBuilder report = new StringBuilder("| Benchmark |");
+        for (String name : names) report.append(' ').append(name).append(" | ").append(name).append(" B/op |");
+        for (String name : names.subList(1, names.size())) report.append(' ').append(name).append(" vs ").append(baseline).append(" |");
+        report.append("\n|---|");
+        report.append("---:|".repeat(names.size() * 2 + names.size() - 1));
+        report.append('\n');
+
+        for (String benchmark : benchmarks) {
+            report.append("| ").append(benchmark).append(" |");
+            Map<String, Stats> scores = new LinkedHashMap<>();
+            for (String name : names) {
+                List<Result> runs = samples.get(name).getOrDefault(benchmark, List.of());
+                Stats score = Stats.of(runs.stream().mapToDouble(Result::score).toArray());
+                Stats allocation = Stats.of(runs.stream().mapToDouble(Result::allocation).filter(a -> !Double.isNaN(a)).toArray());
+                String unit = runs.isEmpty() ? "" : " " + runs.get(0).unit();
+                scores.put(name, score);
+                report.append(' ').append(score.format()).append(unit).append(" | ").append(allocation.format()).append(" |");
+            }
+            for (String name : names.subList(1, names.size())) {
+                report.append(' ').append(relative(scores.get(name), scores.get(baseline))).append(" |");
+            }
+            report.append('\n');
+        }
+        return report.toString();
+    }
+
+    /** The relative difference of two means with a 95% interval from the propagated standard errors. */
+    private static String relative(Stats variant, Stats baseline) {
+        if (variant.n == 0 || baseline.n == 0 || baseline.mean == 0) return "-";
+        double ratio = variant.mean / baseline.mean;
+        double relativeError = Math.sqrt(square(variant.standardError() / variant.mean) + square(baseline.standardError() / baseline.mean));
+        double margin = t(Math.min(variant.n, baseline.n) - 1) * relativeError * ratio;
+        if (Double.isNaN(margin)) return String.format("%+.1f%%", (ratio - 1) * 100);
+        return String.format("%+.1f%% \u00b1 %.1f%%", (ratio - 1) * 100, margin * 100);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static double t(int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) return Double.NaN;
+        return degreesOfFreedom <= T_975.length ? T_975[degreesOfFreedom - 1] : 1.96;
+    }
+
+    private record Stats(int n, double mean, double deviation) {
+        static Stats of(double[] values) {
+            int n = values.length;
+            double mean = 0;
+            for (double value : values) mean += value;
+            mean = n == 0 ? Double.NaN : mean / n;
+            double squares = 0;
+            for (double value : values) squares += square(value - mean);
+            return new Stats(n, mean, n < 2 ? Double.NaN : Math.sqrt(squares / (n - 1)));
+        }
+
+        double standardError() {
+            return deviation / Math.sqrt(n);
+        }
+
+        String format() {
+            if (n == 0) return "-";
+            if (n < 2) return String.format("%.1f", mean);
+            return String.format("%.1f \u00b1 %.1f", mean, t(n - 1) * standardError());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package space.kiibou.variants;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the same JMH benchmarks against several builds of a library and compares them.
+ * <p>
+ * Every round starts one single-fork JMH process per variant. When cores are given, the processes of a round run at
+ * the same time, each pinned to its own core with {@code taskset}. Without cores they would compete for the same CPUs,
+ * so they run one after another. The order alternates between rounds so that no variant consistently runs first. The
+ * GC profiler is always enabled. Afterwards each fork is one sample, and {@link VariantReport} turns the samples into
+ * confidence intervals and relative differences to the first variant.
+ * <p>
+ * Arguments: {@code --variant name=classpath} (at least two, the first is the baseline), {@code --exclude name=regex}
+ * (benchmarks a variant cannot run, e.g. ones that need classes only another build contains), {@code --forks n},
+ * {@code --cores 2,3}, {@code --output dir}, then {@code --} followed by arguments passed to every JMH process.
+ */
+public class VariantRunner {
+    private static final String JMH_MAIN = "org.openjdk.jmh.Main";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> variants = new LinkedHashMap<>();
+        Map<String, List<String>> excludes = new LinkedHashMap<>();
+        List<String> cores = new ArrayList<>();
+        List<String> jmhArgs = new ArrayList<>();
+        int forks = 5;
+        Path output = Path.of("build", "results", "variants");
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--variant" -> {
+                    String[] variant = args[++i].split("=", 2);
+                    variants.put(variant[0], variant[1]);
+                }
+                case "--exclude" -> {
+                    String[] exclude = args[++i].split("=", 2);
+                    excludes.computeIfAbsent(exclude[0], k -> new ArrayList<>()).add(exclude[1]);
+                }
+                case "--forks" -> forks = Integer.parseInt(args[++i]);
+                case "--cores" -> cores.addAll(Arrays.asList(args[++i].split(",")));
+                case "--output" -> output = Path.of(args[++i]);
+                case "--" -> {
+                    jmhArgs.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                    i = args.length;
+                }
+                default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        if (variants.size() < 2) {
+            throw new IllegalArgumentException("At least two variants are needed for a comparison");
+        }
+        if (!cores.isEmpty() && cores.size() < variants.size()) {
+            throw new IllegalArgumentException("Every variant needs its own core");
+        }
+        if (!variants.keySet().containsAll(excludes.keySet())) {
+            throw new IllegalArgumentException("Excludes for unknown variants " + excludes.keySet());
+        }
+        boolean parallel = !cores.isEmpty();
+
+        Files.createDirectories(output);
+        List<String> names = new ArrayList<>(variants.keySet());
+        Map<String, List<Path>> results = new LinkedHashMap<>();
+        names.forEach(name -> results.put(name, new ArrayList<>()));
+
+        for (int fork = 0; fork < forks; fork++) {
+            List<String> order = new ArrayList<>(names);
+            if (fork % 2 == 1) Collections.reverse(order);
+
+            List<Process> processes = new ArrayList<>();
+            for (String name : order) {
+                Path result = output.resolve(name + "-" + fork + ".json");
+                String core = parallel ? cores.get(names.indexOf(name)) : null;
+                List<String> variantArgs = new ArrayList<>();
+                for (String exclude : excludes.getOrDefault(name, List.of())) variantArgs.addAll(List.of("-e", exclude));
+                variantArgs.addAll(jmhArgs);
+                Process process = start(variants.get(name), core, result, output.resolve(name + "-" + fork + ".log"), variantArgs);
+                if (!parallel) await(process, fork, name);
+                processes.add(process);
+                results.get(name).add(result);
+            }
+            for (int i = 0; i < processes.size(); i++) {
+                await(processes.get(i), fork, order.get(i));
+            }
+            System.out.println("Finished round " + (fork + 1) + " of " + forks);
+        }
+
+        String report = VariantReport.create(results);
+        Files.writeString(output.resolve("comparison.md"), report);
+        System.out.println(report);
+    }
+
+    private static void await(Process process, int fork, String name) throws InterruptedException {
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Fork " + fork + " of " + name + " exited with " + exit);
+        }
+    }
+
+    static Process start(String classpath, String core, Path result, Path log, List<String> jmhArgs) throws IOException {
+        List<String> command = new ArrayList<>();
+        if (core != null) {
+            command.addAll(List.of("taskset", "-c", core));
+        }
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        // the variants of a round run at the same time, so they must not wait for each other's JMH lock
+        command.addAll(List.of("-Djmh.ignoreLock=true", "-cp", classpath, JMH_MAIN));
+        command.addAll(List.of("-f", "1", "-prof", "gc", "-rf", "json", "-rff", result.toString()));
+        command.addAll(jmhArgs);
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+}
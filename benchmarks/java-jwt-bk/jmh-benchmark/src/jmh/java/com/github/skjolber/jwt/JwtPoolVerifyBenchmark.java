@@ -0,0 +1,36 @@
+package com.github.skjolber.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Verifies distinct tokens from a shared pool. Run through {@link JwtThroughputRunner}, which sweeps the thread count
+ * and measures throughput, latency percentiles and allocation; the plain jmh task excludes it.
+ */
+public class JwtPoolVerifyBenchmark {
+
+    @Benchmark
+    public Object nimbus_verify(TokenPoolState pool, TokenCursor cursor) throws Exception {
+        return pool.getNimbusTokenVerifier().verifyJsonWebToken(cursor.next(pool));
+    }
+
+    @Benchmark
+    public Object jjwt_verify(TokenPoolState pool, TokenCursor cursor) throws Exception {
+        return pool.getJavaJsonWebTokenVerifier().verifyJsonWebToken(cursor.next(pool));
+    }
+
+    @Benchmark
+    public Object auth0_verify(TokenPoolState pool, TokenCursor cursor) throws Exception {
+        return pool.getAuth0TokenVerifier().verifyJsonWebToken(cursor.next(pool));
+    }
+
+    @Benchmark
+    public Object okta_verify(TokenPoolState pool, TokenCursor cursor) throws Exception {
+        return pool.getOktaJsonWebTokenVerifier().verifyJsonWebToken(cursor.next(pool));
+    }
+
+    @Benchmark
+    public Object fusionauth_verify(TokenPoolState pool, TokenCursor cursor) throws Exception {
+        return pool.getFusionAuthJsonWebTokenVerifier().verifyJsonWebToken(cursor.next(pool));
+    }
+
+}
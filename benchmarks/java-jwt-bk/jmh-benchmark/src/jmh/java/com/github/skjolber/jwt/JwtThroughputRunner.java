@@ -0,0 +1,121 @@
+package com.github.skjolber.jwt;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link JwtPoolVerifyBenchmark} at several thread counts, in throughput and sample time mode with the GC
+ * profiler, and writes one JMH result file per thread count and a Markdown summary with throughput, p99 latency and
+ * allocated bytes per verification.
+ * <p>
+ * Arguments: {@code --threads 1,2,4} {@code --output dir} {@code --variant original}, then {@code --} followed by JMH
+ * command line options. The variant names the BouncyCastle jar on the classpath in the summary.
+ */
+public class JwtThroughputRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> threads = new ArrayList<>();
+        Path output = Paths.get("build", "results", "jwt-throughput");
+        String variant = "original";
+        String[] jmhArgs = new String[0];
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads")) {
+                for (String count : args[++i].split(",")) {
+                    threads.add(Integer.valueOf(count.trim()));
+                }
+            } else if (args[i].equals("--output")) {
+                output = Paths.get(args[++i]);
+            } else if (args[i].equals("--variant")) {
+                variant = args[++i];
+            } else if (args[i].equals("--")) {
+                jmhArgs = Arrays.copyOfRange(args, i + 1, args.length);
+                break;
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + args[i]);
+            }
+        }
+        if (threads.isEmpty()) {
+            threads.addAll(Arrays.asList(1, 2, 4, 8, 16));
+        }
+        Files.createDirectories(output);
+
+        // framework, BouncyCastle variant, key size, claims -> thread count -> row
+        Map<String, Map<Integer, double[]>> rows = new TreeMap<>();
+        for (int count : threads) {
+            Options options = new OptionsBuilder()
+                    .parent(new CommandLineOptions(jmhArgs))
+                    .include(JwtPoolVerifyBenchmark.class.getName())
+                    .threads(count)
+                    .mode(Mode.Throughput)
+                    .mode(Mode.SampleTime)
+                    .timeUnit(TimeUnit.MICROSECONDS)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(output.resolve("threads-" + count + ".json").toString())
+                    .build();
+
+            for (RunResult result : new Runner(options).run()) {
+                BenchmarkParams params = result.getParams();
+                String benchmark = params.getBenchmark();
+                String framework = benchmark.substring(benchmark.lastIndexOf('.') + 1).replace("_verify", "");
+                String key = "| " + framework + " | " + variant + " | " + params.getParam("keySize")
+                        + " | " + params.getParam("claims");
+
+                double[] row = rows.computeIfAbsent(key, k -> new TreeMap<>()).computeIfAbsent(count, k -> new double[3]);
+                if (params.getMode() == Mode.Throughput) {
+                    row[0] = result.getPrimaryResult().getScore() * 1_000_000;
+                    row[2] = allocation(result);
+                } else {
+                    row[1] = result.getPrimaryResult().getStatistics().getPercentile(99);
+                }
+            }
+        }
+
+        StringBuilder summary = new StringBuilder("# JWT verification with a shared token pool\n\n")
+                .append("| Framework | BouncyCastle | Key size | Claims | Threads | Throughput (ops/s) | p99 (us) | Allocation (B/op) |\n")
+                .append("| --------- | ------------ | -------- | ------ | ------- | ------------------ | -------- | ----------------- |\n");
+        for (Map.Entry<String, Map<Integer, double[]>> entry : rows.entrySet()) {
+            for (Map.Entry<Integer, double[]> row : entry.getValue().entrySet()) {
+                double[] values = row.getValue();
+                summary.append(entry.getKey())
+                        .append(" | ").append(row.getKey())
+                        .append(" | ").append(String.format("%.0f", values[0]))
+                        .append(" | ").append(String.format("%.1f", values[1]))
+                        .append(" | ").append(String.format("%.0f", values[2]))
+                        .append(" |\n");
+            }
+        }
+        Path file = output.resolve("summary.md");
+        Files.write(file, summary.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + file);
+    }
+
+    private static double allocation(RunResult result) {
+        for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+            if (entry.getKey().endsWith("gc.alloc.rate.norm")) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.skjolber.jwt;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Walks the token pool from a random start, so that threads do not verify the same token at the same time. */
+@State(Scope.Thread)
+public class TokenCursor {
+    private int index;
+
+    @Setup(Level.Trial)
+    public void init() {
+        index = ThreadLocalRandom.current().nextInt(TokenPoolState.POOL_SIZE);
+    }
+
+    public String next(TokenPoolState pool) {
+        return pool.getToken(index++);
+    }
+}
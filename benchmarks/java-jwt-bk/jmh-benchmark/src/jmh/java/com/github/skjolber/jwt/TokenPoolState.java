@@ -0,0 +1,95 @@
+package com.github.skjolber.jwt;
+
+import com.auth0.jwt.Auth0TokenVerifier;
+import com.github.skjolber.bench.fusionauth.FusionAuthJsonWebTokenVerifier;
+import com.github.skjolber.bench.jjwt.JavaJsonWebTokenVerifier;
+import com.github.skjolber.bench.nimbus.NimbusJsonWebTokenVerifier;
+import com.github.skjolber.bench.okta.OktaJsonWebTokenVerifier;
+import com.github.skjolber.bench.utils.JsonWebTokenGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A pool of distinct tokens signed by one key pair and one verifier per framework, shared by all benchmark threads like
+ * in a gateway. The BouncyCastle jar on the classpath decides whether the {@link VerifiedRandomProvider} is installed,
+ * see {@link ProviderSetup}.
+ */
+@State(Scope.Benchmark)
+public class TokenPoolState {
+    public static final int POOL_SIZE = 1024;
+
+    /** RSA modulus length; all frameworks verify RS256 only, so key size is the key type that varies. */
+    @Param({"2048", "4096"})
+    private int keySize;
+
+    /** Number of extra claims per token, on top of issuer, audience, dates, jti and "test". */
+    @Param({"1", "32"})
+    private int claims;
+
+    private String[] tokens;
+
+    private FusionAuthJsonWebTokenVerifier fusionAuthJsonWebTokenVerifier;
+    private OktaJsonWebTokenVerifier oktaJsonWebTokenVerifier;
+    private JavaJsonWebTokenVerifier javaJsonWebTokenVerifier;
+    private Auth0TokenVerifier auth0TokenVerifier;
+    private NimbusJsonWebTokenVerifier nimbusTokenVerifier;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        ProviderSetup.setup();
+
+        JsonWebTokenGenerator generator = new JsonWebTokenGenerator(keySize);
+
+        String issuer = "https://test";
+        String audience = "https://audience";
+
+        tokens = new String[POOL_SIZE];
+        for (int i = 0; i < tokens.length; i++) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("test", "value");
+            map.put("jti", UUID.randomUUID().toString());
+            for (int claim = 0; claim < claims; claim++) {
+                map.put("claim" + claim, "value-" + i + "-" + claim);
+            }
+            tokens[i] = generator.createJsonWebToken(map, issuer, audience);
+        }
+
+        oktaJsonWebTokenVerifier = new OktaJsonWebTokenVerifier(generator.getKeyPair(), issuer, audience);
+
+        fusionAuthJsonWebTokenVerifier = new FusionAuthJsonWebTokenVerifier(generator.getKeyPair(), issuer, audience);
+        javaJsonWebTokenVerifier = new JavaJsonWebTokenVerifier(generator.getKeyPair(), issuer, audience);
+        auth0TokenVerifier = new Auth0TokenVerifier(generator.getKeyPair(), issuer, audience);
+        nimbusTokenVerifier = new NimbusJsonWebTokenVerifier(generator.getKeyPair(), issuer, audience);
+    }
+
+    public String getToken(int index) {
+        return tokens[index & (POOL_SIZE - 1)];
+    }
+
+    public Auth0TokenVerifier getAuth0TokenVerifier() {
+        return auth0TokenVerifier;
+    }
+
+    public JavaJsonWebTokenVerifier getJavaJsonWebTokenVerifier() {
+        return javaJsonWebTokenVerifier;
+    }
+
+    public OktaJsonWebTokenVerifier getOktaJsonWebTokenVerifier() {
+        return oktaJsonWebTokenVerifier;
+    }
+
+    public FusionAuthJsonWebTokenVerifier getFusionAuthJsonWebTokenVerifier() {
+        return fusionAuthJsonWebTokenVerifier;
+    }
+
+    public NimbusJsonWebTokenVerifier getNimbusTokenVerifier() {
+        return nimbusTokenVerifier;
+    }
+}
@@ -14,8 +14,12 @@ public class JsonWebTokenGenerator {
 	private final KeyPair keyPair;
 	
 	public JsonWebTokenGenerator() throws Exception {
+	    this(2048);
+	}
+
+	public JsonWebTokenGenerator(int keySize) throws Exception {
 	    KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
-	    keyGen.initialize(2048);
+	    keyGen.initialize(keySize);
 	    
 	    keyPair = keyGen.generateKeyPair();
 	}
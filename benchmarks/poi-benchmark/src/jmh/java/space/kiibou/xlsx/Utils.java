@@ -1,16 +1,29 @@
 package space.kiibou.xlsx;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.poifs.crypt.Decryptor;
 import org.apache.poi.poifs.crypt.EncryptionInfo;
 import org.apache.poi.poifs.crypt.EncryptionMode;
 import org.apache.poi.poifs.crypt.Encryptor;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.DocumentInputStream;
+import org.apache.poi.poifs.filesystem.Entry;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.poifs.filesystem.TempFilePOIFSFileSystem;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
 
 public class Utils {
     public static XSSFWorkbook createWorkbook(int rows) {
@@ -37,6 +50,11 @@ public class Utils {
     }
 
     public static byte[] encryptAndWriteToArray(byte[] array, String password) throws IOException, GeneralSecurityException, InvalidFormatException {
+        return encryptAndWriteToArray(array, password, null, 0);
+    }
+
+    /** Encrypts the segments on {@code executor} with at most {@code maxPendingSegments} in flight, if not null. */
+    public static byte[] encryptAndWriteToArray(byte[] array, String password, Executor executor, int maxPendingSegments) throws IOException, GeneralSecurityException, InvalidFormatException {
         var stream = new ByteArrayOutputStream();
 
         try (POIFSFileSystem fs = new POIFSFileSystem()) {
@@ -44,6 +62,9 @@ public class Utils {
             Encryptor encryptor = info.getEncryptor();
 
             encryptor.confirmPassword(password);
+            if (executor != null) {
+                encryptor.setParallelEncryption(executor, maxPendingSegments);
+            }
 
             try (OPCPackage opc = OPCPackage.open(new ByteArrayInputStream(array)); OutputStream os = encryptor.getDataStream(fs)) {
                 opc.save(os);
@@ -55,17 +76,153 @@ public class Utils {
         return stream.toByteArray();
     }
 
+    /**
+     * Encrypts {@code size} bytes, repeating {@code block}, and writes the POIFS to a discarding stream.
+     *
+     * @param tempFileFilesystem whether the POIFS keeps its blocks in a temp file instead of the heap
+     * @param useTempFile whether the encryptor buffers the encrypted package in a temp file
+     * @return the number of written bytes
+     */
+    public static long encryptLargePackage(byte[] block, long size, String password, boolean tempFileFilesystem, boolean useTempFile) throws IOException, GeneralSecurityException {
+        var stream = new CountingOutputStream(OutputStream.nullOutputStream());
+
+        try (POIFSFileSystem fs = tempFileFilesystem ? new TempFilePOIFSFileSystem() : new POIFSFileSystem()) {
+            EncryptionInfo info = new EncryptionInfo(EncryptionMode.agile);
+            Encryptor encryptor = info.getEncryptor();
+
+            encryptor.confirmPassword(password);
+            encryptor.setUseTempFile(useTempFile);
+
+            try (OutputStream os = encryptor.getDataStream(fs)) {
+                for (long written = 0; written < size; written += block.length) {
+                    os.write(block, 0, (int) Math.min(block.length, size - written));
+                }
+            }
+
+            fs.writeFilesystem(stream);
+        }
+
+        return stream.getByteCount();
+    }
+
     public static byte[] readFromArrayAndDecrypt(byte[] array, String password) throws IOException, GeneralSecurityException {
-        try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(array))) {
-            EncryptionInfo encryptionInfo = new EncryptionInfo(fs);
-            Decryptor decryptor = Decryptor.getInstance(encryptionInfo);
+        return readFromArrayAndDecrypt(array, password, null, 0);
+    }
 
-            decryptor.verifyPassword(password);
+    /** Decrypts up to {@code prefetchSegments} segments ahead on {@code executor}, if not null. */
+    public static byte[] readFromArrayAndDecrypt(byte[] array, String password, Executor executor, int prefetchSegments) throws IOException, GeneralSecurityException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(array))) {
+            Decryptor decryptor = openDecryptor(fs, password);
+            if (executor != null) {
+                decryptor.setParallelDecryption(executor, prefetchSegments);
+            }
 
             return decryptor.getDataStream(fs).readAllBytes();
         }
     }
 
+    /** Lists the package parts by reading the whole decrypted stream, the way {@code OPCPackage} does. */
+    public static List<String> listEntriesFromStream(byte[] array, String password) throws IOException, GeneralSecurityException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(array));
+             ZipArchiveInputStream zip = new ZipArchiveInputStream(openDecryptor(fs, password).getDataStream(fs))) {
+            var names = new ArrayList<String>();
+            for (ZipArchiveEntry entry; (entry = zip.getNextZipEntry()) != null; ) {
+                names.add(entry.getName());
+            }
+            return names;
+        }
+    }
+
+    /** Lists the package parts from the central directory, decrypting only the segments it is stored in. */
+    public static List<String> listEntriesFromChannel(byte[] array, String password) throws IOException, GeneralSecurityException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(array));
+             ZipFile zip = new ZipFile(openDecryptor(fs, password).getDataChannel(fs.getRoot()))) {
+            var names = new ArrayList<String>();
+            for (var entries = zip.getEntries(); entries.hasMoreElements(); ) {
+                names.add(entries.nextElement().getName());
+            }
+            return names;
+        }
+    }
+
+    private static Decryptor openDecryptor(POIFSFileSystem fs, String password) throws IOException, GeneralSecurityException {
+        EncryptionInfo encryptionInfo = new EncryptionInfo(fs);
+        Decryptor decryptor = Decryptor.getInstance(encryptionInfo);
+
+        decryptor.verifyPassword(password);
+
+        return decryptor;
+    }
+
+    /** Writes an OLE2 file with a single document of {@code size} bytes, repeating {@code block}. */
+    public static void writeLargeOle2(File file, byte[] block, long size) throws IOException {
+        var document = new InputStream() {
+            long read;
+
+            @Override
+            public int read() {
+                return read < size ? block[(int) (read++ % block.length)] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (read >= size) {
+                    return -1;
+                }
+                int offset = (int) (read % block.length);
+                int n = (int) Math.min(Math.min(len, block.length - offset), size - read);
+                System.arraycopy(block, offset, b, off, n);
+                read += n;
+                return n;
+            }
+        };
+
+        try (POIFSFileSystem fs = new POIFSFileSystem(); OutputStream out = new FileOutputStream(file)) {
+            fs.createDocument(document, "Contents");
+            fs.writeFilesystem(out);
+        }
+    }
+
+    /**
+     * Reads all documents of an OLE2 file, which is opened from a {@code stream}, from the {@code file} or
+     * {@code mapped} into memory. The mapped documents are read as {@link ByteBuffer} views of the mapping.
+     *
+     * @return the checksum of the documents
+     */
+    public static long readOle2(File file, String mode) throws IOException {
+        try (POIFSFileSystem fs = switch (mode) {
+            case "stream" -> new POIFSFileSystem(new FileInputStream(file));
+            case "file" -> new POIFSFileSystem(file);
+            case "mapped" -> POIFSFileSystem.openMapped(file);
+            default -> throw new IllegalArgumentException(mode);
+        }) {
+            var crc = new CRC32();
+            readDocuments(fs.getRoot(), crc, mode.equals("mapped"));
+            return crc.getValue();
+        }
+    }
+
+    private static void readDocuments(DirectoryNode dir, CRC32 crc, boolean views) throws IOException {
+        var buffer = views ? null : new byte[64 * 1024];
+        for (Entry entry : dir) {
+            if (entry instanceof DirectoryNode child) {
+                readDocuments(child, crc, views);
+                continue;
+            }
+            try (DocumentInputStream dis = dir.createDocumentInputStream(entry)) {
+                if (views) {
+                    for (ByteBuffer view; (view = dis.readBuffer(Integer.MAX_VALUE)) != null; ) {
+                        crc.update(view);
+                    }
+                } else {
+                    for (int n; (n = dis.read(buffer)) != -1; ) {
+                        crc.update(buffer, 0, n);
+                    }
+                }
+            }
+        }
+    }
+
     public static XSSFWorkbook readFromArray(byte[] array) throws IOException {
         return new XSSFWorkbook(new ByteArrayInputStream(array));
     }
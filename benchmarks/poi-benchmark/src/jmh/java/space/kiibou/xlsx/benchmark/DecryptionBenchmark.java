@@ -4,10 +4,26 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.infra.Blackhole;
 import space.kiibou.xlsx.Utils;
 import space.kiibou.xlsx.state.EncryptionDecryptionState;
+import space.kiibou.xlsx.state.ParallelDecryptionState;
 
 public class DecryptionBenchmark {
     // @Benchmark
     public void decrypt(Blackhole blackhole, EncryptionDecryptionState state) throws Exception {
         blackhole.consume(Utils.readFromArrayAndDecrypt(state.encryptedArray, "password"));
     }
+
+    // @Benchmark
+    public void decrypt_parallel(Blackhole blackhole, ParallelDecryptionState state) throws Exception {
+        blackhole.consume(Utils.readFromArrayAndDecrypt(state.encryptedArray, "password", state.executor, 4 * state.threads));
+    }
+
+    // @Benchmark
+    public void list_stream(Blackhole blackhole, EncryptionDecryptionState state) throws Exception {
+        blackhole.consume(Utils.listEntriesFromStream(state.encryptedArray, "password"));
+    }
+
+    // @Benchmark
+    public void list_channel(Blackhole blackhole, EncryptionDecryptionState state) throws Exception {
+        blackhole.consume(Utils.listEntriesFromChannel(state.encryptedArray, "password"));
+    }
 }
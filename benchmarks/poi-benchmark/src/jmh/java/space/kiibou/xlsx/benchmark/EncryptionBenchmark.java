@@ -4,10 +4,16 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.infra.Blackhole;
 import space.kiibou.xlsx.Utils;
 import space.kiibou.xlsx.state.EncryptionDecryptionState;
+import space.kiibou.xlsx.state.ParallelEncryptionState;
 
 public class EncryptionBenchmark {
     @Benchmark
     public void encrypt(Blackhole blackhole, EncryptionDecryptionState state) throws Exception {
         blackhole.consume(Utils.encryptAndWriteToArray(state.array, "password"));
     }
+
+    @Benchmark
+    public void encrypt_parallel(Blackhole blackhole, ParallelEncryptionState state) throws Exception {
+        blackhole.consume(Utils.encryptAndWriteToArray(state.array, "password", state.executor, 4 * state.threads));
+    }
 }
@@ -0,0 +1,32 @@
+package space.kiibou.xlsx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.Blackhole;
+import space.kiibou.xlsx.Utils;
+import space.kiibou.xlsx.state.LargePackageState;
+import space.kiibou.xlsx.state.PeakUsageRecorder;
+
+public class LargePackageEncryptionBenchmark {
+    @Benchmark
+    public void encrypt_large(Blackhole blackhole, LargePackageState state) throws Exception {
+        encrypt(blackhole, state);
+    }
+
+    /**
+     * The same encryption, run once per iteration to record its peak disk and heap usage. Its times include the
+     * sampling of {@link PeakUsageRecorder}; it only runs with {@code gradle jmh -PpeakUsage}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void encrypt_large_peak(Blackhole blackhole, LargePackageState state, PeakUsageRecorder recorder)
+            throws Exception {
+        encrypt(blackhole, state);
+    }
+
+    private static void encrypt(Blackhole blackhole, LargePackageState state) throws Exception {
+        blackhole.consume(Utils.encryptLargePackage(state.block, state.size(), "password",
+                state.filesystem.equals("tempfile"), state.useTempFile));
+    }
+}
@@ -0,0 +1,12 @@
+package space.kiibou.xlsx.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import space.kiibou.xlsx.Utils;
+import space.kiibou.xlsx.state.LargeOle2State;
+
+public class Ole2ReadBenchmark {
+    @Benchmark
+    public long read_large(LargeOle2State state) throws Exception {
+        return Utils.readOle2(state.file, state.mode);
+    }
+}
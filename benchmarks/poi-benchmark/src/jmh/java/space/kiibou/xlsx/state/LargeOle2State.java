@@ -0,0 +1,42 @@
+package space.kiibou.xlsx.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import space.kiibou.xlsx.BenchmarkState;
+import space.kiibou.xlsx.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * An OLE2 file with a document of {@code sizeMb} random megabytes, which is read from a {@code stream}, from the
+ * {@code file} or {@code mapped} into memory. Run with {@code -prof gc} to compare the heap allocated per read.
+ */
+@State(Scope.Benchmark)
+public class LargeOle2State extends BenchmarkState {
+    @Param({"16", "128"})
+    public int sizeMb;
+    @Param({"stream", "file", "mapped"})
+    public String mode;
+
+    public File file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("poi-benchmark", ".ole2").toFile();
+
+        var block = new byte[64 * 1024];
+        new Random(42).nextBytes(block);
+        Utils.writeLargeOle2(file, block, (long) sizeMb * 1024 * 1024);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file.toPath());
+    }
+}
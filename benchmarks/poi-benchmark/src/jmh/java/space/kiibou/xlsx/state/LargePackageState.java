@@ -0,0 +1,60 @@
+package space.kiibou.xlsx.state;
+
+import org.apache.poi.util.DefaultTempFileCreationStrategy;
+import org.apache.poi.util.TempFile;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import space.kiibou.xlsx.BenchmarkState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * A package of {@code sizeMb} random megabytes, encrypted into an in-memory or a temp file backed POIFS, with or
+ * without the encryptor's own temp file. All temp files are created in {@link #scratchDir}, so the disk usage of one
+ * encryption is the size of that directory.
+ */
+@State(Scope.Benchmark)
+public class LargePackageState extends BenchmarkState {
+    @Param({"16", "128"})
+    public int sizeMb;
+    @Param({"memory", "tempfile"})
+    public String filesystem;
+    @Param({"true", "false"})
+    public boolean useTempFile;
+
+    public Path scratchDir;
+    public byte[] block;
+
+    @Setup
+    public void setup() throws IOException {
+        scratchDir = Files.createTempDirectory("poi-benchmark");
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy(scratchDir.toFile()));
+
+        block = new byte[64 * 1024];
+        new Random(42).nextBytes(block);
+    }
+
+    public long size() {
+        return (long) sizeMb * 1024 * 1024;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        // TempFile has no getter for the previous strategy, so this restores POI's default
+        TempFile.setTempFileCreationStrategy(new DefaultTempFileCreationStrategy());
+
+        try (Stream<Path> files = Files.walk(scratchDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package space.kiibou.xlsx.state;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@State(Scope.Benchmark)
+public class ParallelDecryptionState extends EncryptionDecryptionState {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+    public ExecutorService executor;
+
+    @Override
+    @Setup
+    public void setup() throws Exception {
+        super.setup();
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,124 @@
+package space.kiibou.xlsx.state;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records the peak disk usage of the scratch directory and the peak heap usage of the invocations of a trial. Both
+ * are sampled every millisecond by a background thread, the heap after a GC before each invocation. The highest
+ * sample over all measurement iterations is appended to the CSV file given by the system property
+ * {@code peakUsage.file} (default {@code build/results/jmh/peak-usage.csv}) when the trial ends, one line per fork.
+ * <p>
+ * They are not reported as secondary results, as JMH can only sum or average those over the iterations and forks.
+ * <p>
+ * The GC and the sampler slow the invocations down, so only use this state in single-shot benchmarks whose times are
+ * not compared with anything, like {@code LargePackageEncryptionBenchmark.encrypt_large_peak}.
+ */
+@State(Scope.Thread)
+public class PeakUsageRecorder {
+    private static final String HEADER = "benchmark,params,peakDiskBytes,peakHeapBytes";
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong diskPeak = new AtomicLong();
+    private final AtomicLong heapPeak = new AtomicLong();
+    private Thread sampler;
+    private boolean measuring;
+    private long trialDiskPeak;
+    private long trialHeapPeak;
+
+    @Setup(Level.Iteration)
+    public void reset(IterationParams iteration) {
+        measuring = iteration.getType() == IterationType.MEASUREMENT;
+    }
+
+    @Setup(Level.Invocation)
+    public void start(LargePackageState state) {
+        System.gc();
+
+        diskPeak.set(0);
+        heapPeak.set(0);
+        sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                sample(state.scratchDir);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "peak-usage-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop(LargePackageState state) throws InterruptedException {
+        sampler.interrupt();
+        sampler.join();
+        sample(state.scratchDir);
+
+        if (measuring) {
+            trialDiskPeak = Math.max(trialDiskPeak, diskPeak.get());
+            trialHeapPeak = Math.max(trialHeapPeak, heapPeak.get());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void report(BenchmarkParams benchmark) throws IOException {
+        String params = benchmark.getParamsKeys().stream()
+                .map(key -> key + "=" + benchmark.getParam(key))
+                .collect(Collectors.joining(" "));
+
+        Path file = Path.of(System.getProperty("peakUsage.file", "build/results/jmh/peak-usage.csv"));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        String line = String.join(",", benchmark.getBenchmark(), params,
+                Long.toString(trialDiskPeak), Long.toString(trialHeapPeak)) + System.lineSeparator();
+        if (Files.notExists(file)) {
+            line = HEADER + System.lineSeparator() + line;
+        }
+        Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void sample(Path scratchDir) {
+        diskPeak.accumulateAndGet(diskUsage(scratchDir), Math::max);
+        heapPeak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private static long diskUsage(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.mapToLong(PeakUsageRecorder::fileSize).sum();
+        } catch (IOException | UncheckedIOException e) {
+            // a temp file was deleted while walking, the next sample counts again
+            return 0;
+        }
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            // deleted in the meantime
+            return 0;
+        }
+    }
+}
@@ -13,12 +13,14 @@
     <import index="tpee" ref="r:00000000-0000-4000-0000-011c895902ca(jetbrains.mps.baseLanguage.structure)" />
     <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
     <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="lsg0" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.invoke(JDK/)" />
     <import index="pw26" ref="r:61389403-a0e3-44c8-8d86-9c0e4595234b(apiSL.behavior)" implicit="true" />
     <import index="tpck" ref="r:00000000-0000-4000-0000-011c89590288(jetbrains.mps.lang.core.structure)" implicit="true" />
     <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" implicit="true" />
   </imports>
   <registry>
     <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
       <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
         <child id="1082485599096" name="statements" index="9aQI4" />
       </concept>
@@ -178,6 +180,31 @@
       <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
       <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
       <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1225271177708" name="jetbrains.mps.baseLanguage.structure.StringType" flags="in" index="17QB3L" />
+      <concept id="1068581517665" name="jetbrains.mps.baseLanguage.structure.LongType" flags="in" index="3cpbJK" />
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
     </language>
     <language id="b401a680-8325-4110-8fd3-84331ff25bef" name="jetbrains.mps.lang.generator">
       <concept id="1510949579266781519" name="jetbrains.mps.lang.generator.structure.TemplateCallMacro" flags="ln" index="5jKBG" />
@@ -366,6 +393,8 @@
       <concept id="5779574625830813396" name="jetbrains.mps.lang.smodel.structure.EnumerationIdRefExpression" flags="ng" index="1XH99k">
         <reference id="5779574625830813397" name="enumDeclaration" index="1XH99l" />
       </concept>
+      <concept id="1139613262185" name="jetbrains.mps.lang.smodel.structure.Node_GetParentOperation" flags="nn" index="1mfA1w" />
+      <concept id="1171999116870" name="jetbrains.mps.lang.smodel.structure.Node_IsNullOperation" flags="nn" index="3w_OXm" />
     </language>
     <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
       <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
@@ -451,6 +480,41 @@
       <ref role="2rTdP9" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
       <ref role="2rZz_L" to="tpee:fz12cDC" resolve="FieldDeclaration" />
     </node>
+    <node concept="2rT7sh" id="3av8H9pGklb" role="2rTMjI">
+      <property role="TrG5h" value="packedGuardState" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:fz12cDC" resolve="FieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="2qf_fiE40e3" role="2rTMjI">
+      <property role="TrG5h" value="packedGuardStateHandle" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:f$Wx3kv" resolve="StaticFieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="2vY7ErdhUKL" role="2rTMjI">
+      <property role="TrG5h" value="checkSampler" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:f$Wx3kv" resolve="StaticFieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="2vY7ErdhULa" role="2rTMjI">
+      <property role="TrG5h" value="trackedState" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:fz12cDC" resolve="FieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="2ja4jrFjJOk" role="2rTMjI">
+      <property role="TrG5h" value="misuseClass" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:f$Wx3kv" resolve="StaticFieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="2eT$YEPLlEh" role="2rTMjI">
+      <property role="TrG5h" value="checkMetrics" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:f$Wx3kv" resolve="StaticFieldDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="39DcfeU18dA" role="2rTMjI">
+      <property role="TrG5h" value="confinementCheck" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <ref role="2rZz_L" to="tpee:fzclF8t" resolve="InstanceMethodDeclaration" />
+    </node>
     <node concept="2rT7sh" id="2Rn2oX_4CCe" role="2rTMjI">
       <property role="TrG5h" value="staticGuardDeclarations" />
       <ref role="2rTdP9" to="3ibj:2R5or2gIp4N" resolve="StaticGuardDeclaration" />
@@ -476,6 +540,16 @@
       <ref role="2rTdP9" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
       <ref role="2rZz_L" to="tpee:fzcpWvJ" resolve="LocalVariableDeclaration" />
     </node>
+    <node concept="2rT7sh" id="3GunMzSADFw" role="2rTMjI">
+      <property role="TrG5h" value="throwConsequences" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+      <ref role="2rZz_L" to="tpee:fzclF8t" resolve="InstanceMethodDeclaration" />
+    </node>
+    <node concept="2rT7sh" id="3GunMzSADF$" role="2rTMjI">
+      <property role="TrG5h" value="outlinedException" />
+      <ref role="2rTdP9" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+      <ref role="2rZz_L" to="tpee:fz7vLUk" resolve="ParameterDeclaration" />
+    </node>
     <node concept="2rT7sh" id="6RJQSLqEJqu" role="2rTMjI">
       <property role="TrG5h" value="metaVariable" />
       <ref role="2rTdP9" to="3ibj:4ZklUblAm2B" resolve="MetaVariableDeclaration" />
@@ -503,14 +577,246 @@
     </node>
     <node concept="3aamgX" id="71jdFMa$CRP" role="3acgRq">
       <ref role="30HIoZ" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
-      <node concept="j$656" id="71jdFMa$CRQ" role="1lVwrX">
-        <ref role="v9R2y" node="71jdFMa$CRN" resolve="reduce_LocalGuardReference" />
+      <node concept="14YyZ8" id="3av8H9pGlGe" role="1lVwrX">
+        <node concept="14ZrTv" id="3av8H9pGlGG" role="14ZwWg">
+          <node concept="30G5F_" id="3av8H9pGlHc" role="150hEN">
+            <node concept="3clFbS" id="3av8H9pGlHu" role="2VODD2">
+              <node concept="3clFbF" id="3av8H9pGlHw" role="3cqZAp">
+                <node concept="1Wc70l" id="3av8H9pGlI8" role="3clFbG">
+                  <node concept="3y3z36" id="3av8H9pGlIJ" role="3uHU7w">
+                    <node concept="3cmrfG" id="3av8H9pGlIM" role="3uHU7w">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                    <node concept="2OqwBi" id="3av8H9pGlIO" role="3uHU7B">
+                      <node concept="2OqwBi" id="3av8H9pGlJ6" role="2Oq$k0">
+                        <node concept="2OqwBi" id="3av8H9pGlJq" role="2Oq$k0">
+                          <node concept="30H73N" id="3av8H9pGlJE" role="2Oq$k0" />
+                          <node concept="3TrEf2" id="3av8H9pGlK4" role="2OqNvi">
+                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                          </node>
+                        </node>
+                        <node concept="2Xjw5R" id="3av8H9pGlKi" role="2OqNvi">
+                          <node concept="1xMEDy" id="3av8H9pGlKB" role="1xVPHs">
+                            <node concept="chp4Y" id="3av8H9pGlKF" role="ri$Ld">
+                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2qgKlT" id="3av8H9pGlL3" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                        <node concept="2OqwBi" id="3av8H9pGlLg" role="37wK5m">
+                          <node concept="30H73N" id="3av8H9pGlLJ" role="2Oq$k0" />
+                          <node concept="3TrEf2" id="3av8H9pGlMc" role="2OqNvi">
+                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="3av8H9pGlMJ" role="3uHU7B">
+                    <node concept="2OqwBi" id="3av8H9pGlN7" role="2Oq$k0">
+                      <node concept="30H73N" id="3av8H9pGlN9" role="2Oq$k0" />
+                      <node concept="3TrEf2" id="3av8H9pGlNC" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                      </node>
+                    </node>
+                    <node concept="1mIQ4w" id="3av8H9pGlNH" role="2OqNvi">
+                      <node concept="chp4Y" id="3av8H9pGlNY" role="cj9EA">
+                        <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="j$656" id="3av8H9pGlO0" role="150oIE">
+            <ref role="v9R2y" node="3av8H9pGlpp" resolve="reduce_LocalGuardReference_packed" />
+          </node>
+        </node>
+        <node concept="j$656" id="71jdFMa$CRQ" role="14YRTM">
+          <ref role="v9R2y" node="71jdFMa$CRN" resolve="reduce_LocalGuardReference" />
+        </node>
       </node>
     </node>
     <node concept="3aamgX" id="4H88Ni3gWcm" role="3acgRq">
       <ref role="30HIoZ" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
-      <node concept="j$656" id="4H88Ni3gWcn" role="1lVwrX">
-        <ref role="v9R2y" node="4H88Ni3gWck" resolve="reduce_ChangesGuard" />
+      <node concept="14YyZ8" id="3av8H9pGlOA" role="1lVwrX">
+        <node concept="14ZrTv" id="2qf_fiE40ff" role="14ZwWg">
+          <node concept="30G5F_" id="2qf_fiE40fi" role="150hEN">
+            <node concept="3clFbS" id="2qf_fiE40fl" role="2VODD2">
+              <node concept="3clFbF" id="2qf_fiE40fo" role="3cqZAp">
+                <node concept="1Wc70l" id="2qf_fiE40fr" role="3clFbG">
+                  <node concept="1Wc70l" id="2qf_fiE40fu" role="3uHU7B">
+                    <node concept="3y3z36" id="2qf_fiE40fx" role="3uHU7w">
+                      <node concept="3cmrfG" id="2qf_fiE40f$" role="3uHU7w">
+                        <property role="3cmrfH" value="0" />
+                      </node>
+                      <node concept="2OqwBi" id="2qf_fiE40g1" role="3uHU7B">
+                        <node concept="2OqwBi" id="2qf_fiE40g4" role="2Oq$k0">
+                          <node concept="2OqwBi" id="2qf_fiE40g7" role="2Oq$k0">
+                            <node concept="1PxgMI" id="2qf_fiE40gA" role="2Oq$k0">
+                              <node concept="chp4Y" id="2qf_fiE40gD" role="3oSUPX">
+                                <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                              </node>
+                              <node concept="2OqwBi" id="2qf_fiE40gG" role="1m5AlR">
+                                <node concept="30H73N" id="2qf_fiE40gJ" role="2Oq$k0" />
+                                <node concept="3TrEf2" id="2qf_fiE40gM" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3TrEf2" id="2qf_fiE40gP" role="2OqNvi">
+                              <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                            </node>
+                          </node>
+                          <node concept="2Xjw5R" id="2qf_fiE40gS" role="2OqNvi">
+                            <node concept="1xMEDy" id="2qf_fiE40gV" role="1xVPHs">
+                              <node concept="chp4Y" id="2qf_fiE40gY" role="ri$Ld">
+                                <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="2qgKlT" id="2qf_fiE40gb" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                          <node concept="2OqwBi" id="2qf_fiE40ge" role="37wK5m">
+                            <node concept="1PxgMI" id="2qf_fiE40gh" role="2Oq$k0">
+                              <node concept="chp4Y" id="2qf_fiE40gk" role="3oSUPX">
+                                <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                              </node>
+                              <node concept="2OqwBi" id="2qf_fiE40gn" role="1m5AlR">
+                                <node concept="30H73N" id="2qf_fiE40gq" role="2Oq$k0" />
+                                <node concept="3TrEf2" id="2qf_fiE40gt" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3TrEf2" id="2qf_fiE40gw" role="2OqNvi">
+                              <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2OqwBi" id="2qf_fiE40gz" role="3uHU7B">
+                      <node concept="2OqwBi" id="2qf_fiE40h0" role="2Oq$k0">
+                        <node concept="30H73N" id="2qf_fiE40h3" role="2Oq$k0" />
+                        <node concept="3TrEf2" id="2qf_fiE40h6" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                        </node>
+                      </node>
+                      <node concept="1mIQ4w" id="2qf_fiE40h9" role="2OqNvi">
+                        <node concept="chp4Y" id="2qf_fiE40hC" role="cj9EA">
+                          <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="2qf_fiE40hF" role="3uHU7w">
+                    <node concept="2OqwBi" id="2qf_fiE40hI" role="2Oq$k0">
+                      <node concept="30H73N" id="2qf_fiE40hL" role="2Oq$k0" />
+                      <node concept="2Xjw5R" id="2qf_fiE40hO" role="2OqNvi">
+                        <node concept="1xMEDy" id="2qf_fiE40hR" role="1xVPHs">
+                          <node concept="chp4Y" id="2qf_fiE40hU" role="ri$Ld">
+                            <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2qgKlT" id="2qf_fiE40hX" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:4fFrSY2P0e3" resolve="packsGuardsAtomically" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="j$656" id="2qf_fiE40ha" role="150oIE">
+            <ref role="v9R2y" node="2qf_fiE40hd" resolve="reduce_ChangesGuard_packedAtomic" />
+          </node>
+        </node>
+        <node concept="14ZrTv" id="3av8H9pGlOE" role="14ZwWg">
+          <node concept="30G5F_" id="3av8H9pGlP0" role="150hEN">
+            <node concept="3clFbS" id="3av8H9pGlPd" role="2VODD2">
+              <node concept="3clFbF" id="3av8H9pGlPp" role="3cqZAp">
+                <node concept="1Wc70l" id="3av8H9pGlPB" role="3clFbG">
+                  <node concept="3y3z36" id="3av8H9pGlPV" role="3uHU7w">
+                    <node concept="3cmrfG" id="3av8H9pGlQq" role="3uHU7w">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                    <node concept="2OqwBi" id="3av8H9pGlQu" role="3uHU7B">
+                      <node concept="2OqwBi" id="3av8H9pGlQL" role="2Oq$k0">
+                        <node concept="2OqwBi" id="3av8H9pGlQR" role="2Oq$k0">
+                          <node concept="1PxgMI" id="3av8H9pGlRj" role="2Oq$k0">
+                            <node concept="chp4Y" id="3av8H9pGlRk" role="3oSUPX">
+                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                            </node>
+                            <node concept="2OqwBi" id="3av8H9pGlRE" role="1m5AlR">
+                              <node concept="30H73N" id="3av8H9pGlS0" role="2Oq$k0" />
+                              <node concept="3TrEf2" id="3av8H9pGlSb" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="3av8H9pGlSf" role="2OqNvi">
+                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                          </node>
+                        </node>
+                        <node concept="2Xjw5R" id="3av8H9pGlSQ" role="2OqNvi">
+                          <node concept="1xMEDy" id="3av8H9pGlTm" role="1xVPHs">
+                            <node concept="chp4Y" id="3av8H9pGlTr" role="ri$Ld">
+                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2qgKlT" id="3av8H9pGlTV" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                        <node concept="2OqwBi" id="3av8H9pGlT$" role="37wK5m">
+                          <node concept="1PxgMI" id="3av8H9pGlUC" role="2Oq$k0">
+                            <node concept="chp4Y" id="3av8H9pGlUD" role="3oSUPX">
+                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                            </node>
+                            <node concept="2OqwBi" id="3av8H9pGlUQ" role="1m5AlR">
+                              <node concept="30H73N" id="3av8H9pGlVd" role="2Oq$k0" />
+                              <node concept="3TrEf2" id="3av8H9pGlVo" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="3av8H9pGlVR" role="2OqNvi">
+                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="3av8H9pGlWs" role="3uHU7B">
+                    <node concept="2OqwBi" id="3av8H9pGlWu" role="2Oq$k0">
+                      <node concept="30H73N" id="3av8H9pGlWN" role="2Oq$k0" />
+                      <node concept="3TrEf2" id="3av8H9pGlWU" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                      </node>
+                    </node>
+                    <node concept="1mIQ4w" id="3av8H9pGlWV" role="2OqNvi">
+                      <node concept="chp4Y" id="3av8H9pGlXe" role="cj9EA">
+                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="j$656" id="3av8H9pGlXO" role="150oIE">
+            <ref role="v9R2y" node="3av8H9pGkRZ" resolve="reduce_ChangesGuard_packed" />
+          </node>
+        </node>
+        <node concept="j$656" id="4H88Ni3gWcn" role="14YRTM">
+          <ref role="v9R2y" node="4H88Ni3gWck" resolve="reduce_ChangesGuard" />
+        </node>
       </node>
     </node>
     <node concept="3aamgX" id="xJb$LDPmBG" role="3acgRq">
@@ -1047,9 +1353,101 @@
             <node concept="10P_77" id="4H88Ni3gWyu" role="1tU5fm" />
           </node>
         </node>
+        <node concept="3cpWs8" id="2eT$YEPLl_l" role="3cqZAp">
+          <node concept="3cpWsn" id="2eT$YEPLl_n" role="3cpWs9">
+            <property role="TrG5h" value="checkMetrics" />
+            <node concept="3uibUv" id="2eT$YEPLl_B" role="1tU5fm">
+              <ref role="3uigEE" to="q3ut:2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+            </node>
+          </node>
+        </node>
         <node concept="3clFbF" id="4H88Ni3gWyZ" role="3cqZAp">
           <node concept="37vLTI" id="4H88Ni3gWOY" role="3clFbG">
             <node concept="3clFbT" id="4H88Ni3gWPe" role="37vLTx">
+              <node concept="1W57fq" id="2eT$YEPLm2a" role="lGtFl">
+                <node concept="3IZrLx" id="2eT$YEPLm2p" role="3IZSJc">
+                  <node concept="3clFbS" id="2eT$YEPLm2N" role="2VODD2">
+                    <node concept="3clFbF" id="2eT$YEPLm32" role="3cqZAp">
+                      <node concept="3fqX7Q" id="2eT$YEPLm3v" role="3clFbG">
+                        <node concept="1Wc70l" id="2eT$YEPLm3$" role="3fr31v">
+                          <node concept="2OqwBi" id="2eT$YEPLm3_" role="3uHU7w">
+                            <node concept="35c_gC" id="2eT$YEPLm43" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="2eT$YEPLm4r" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                            </node>
+                          </node>
+                          <node concept="3fqX7Q" id="2eT$YEPLm4U" role="3uHU7B">
+                            <node concept="2OqwBi" id="2eT$YEPLm4_" role="3fr31v">
+                              <node concept="35c_gC" id="2eT$YEPLm57" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="2eT$YEPLm5F" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="gft3U" id="2eT$YEPLm6d" role="UU_$l">
+                  <node concept="2OqwBi" id="2eT$YEPLm6K" role="gfFT$">
+                    <node concept="37vLTw" id="2eT$YEPLm74" role="2Oq$k0">
+                      <ref role="3cqZAo" node="2eT$YEPLl_n" resolve="checkMetrics" />
+                      <node concept="1ZhdrF" id="2eT$YEPLm7G" role="lGtFl">
+                        <property role="2qtEX8" value="variableDeclaration" />
+                        <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                        <node concept="3$xsQk" id="2eT$YEPLm7Y" role="3$ytzL">
+                          <node concept="3clFbS" id="2eT$YEPLm82" role="2VODD2">
+                            <node concept="3clFbF" id="2eT$YEPLm8t" role="3cqZAp">
+                              <node concept="2OqwBi" id="2eT$YEPLm8S" role="3clFbG">
+                                <node concept="1iwH7S" id="2eT$YEPLm9f" role="2Oq$k0" />
+                                <node concept="1iwH70" id="2eT$YEPLm9L" role="2OqNvi">
+                                  <ref role="1iwH77" node="2eT$YEPLlEh" resolve="checkMetrics" />
+                                  <node concept="2OqwBi" id="2eT$YEPLma1" role="1iwH7V">
+                                    <node concept="30H73N" id="2eT$YEPLma2" role="2Oq$k0" />
+                                    <node concept="2Xjw5R" id="2eT$YEPLmah" role="2OqNvi">
+                                      <node concept="1xMEDy" id="2eT$YEPLmax" role="1xVPHs">
+                                        <node concept="chp4Y" id="2eT$YEPLmaQ" role="ri$Ld">
+                                          <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="liA8E" id="2eT$YEPLmbr" role="2OqNvi">
+                      <ref role="37wK5l" to="q3ut:2QmWbwu4pnh" resolve="guardChanged" />
+                      <node concept="3clFbT" id="2eT$YEPLm05" role="37wK5m">
+                        <node concept="17Uvod" id="2eT$YEPLm08" role="lGtFl">
+                          <property role="2qtEX9" value="value" />
+                          <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                          <node concept="3zFVjK" id="2eT$YEPLm0B" role="3zH0cK">
+                            <node concept="3clFbS" id="2eT$YEPLm0K" role="2VODD2">
+                              <node concept="3clFbF" id="2eT$YEPLm14" role="3cqZAp">
+                                <node concept="2OqwBi" id="2eT$YEPLm1A" role="3clFbG">
+                                  <node concept="3TrcHB" id="2eT$YEPLm1R" role="2OqNvi">
+                                    <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                  </node>
+                                  <node concept="30H73N" id="2eT$YEPLm1V" role="2Oq$k0" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
               <node concept="17Uvod" id="4H88Ni3gX9z" role="lGtFl">
                 <property role="2qtEX9" value="value" />
                 <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
@@ -1085,94 +1483,429 @@
               </node>
             </node>
           </node>
-          <node concept="raruj" id="xJb$LDQZDc" role="lGtFl" />
-        </node>
-      </node>
-    </node>
-  </node>
-  <node concept="13MO4I" id="xJb$LDJP_W">
-    <property role="TrG5h" value="reduce_VerifiedMethod_PreconditionAndBody" />
-    <ref role="3gUMe" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
-    <node concept="1N15co" id="xJb$LDJPA4" role="1s_3oS">
-      <property role="TrG5h" value="hasExternalWrapper" />
-      <node concept="10P_77" id="xJb$LDJPAc" role="1N15GL" />
-    </node>
-    <node concept="3clFb_" id="xJb$LDJPAj" role="13RCb5">
-      <property role="TrG5h" value="m" />
-      <node concept="3cqZAl" id="xJb$LDJPAk" role="3clF45">
-        <node concept="29HgVG" id="xJb$LDJPAl" role="lGtFl">
-          <node concept="3NFfHV" id="xJb$LDJPAm" role="3NFExx">
-            <node concept="3clFbS" id="xJb$LDJPAn" role="2VODD2">
-              <node concept="3clFbF" id="xJb$LDJPAo" role="3cqZAp">
-                <node concept="2OqwBi" id="xJb$LDJPAp" role="3clFbG">
-                  <node concept="3TrEf2" id="xJb$LDJPAq" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
-                  </node>
-                  <node concept="30H73N" id="xJb$LDJPAr" role="2Oq$k0" />
-                </node>
-              </node>
-            </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3Tm1VV" id="xJb$LDJPAs" role="1B3o_S">
-        <node concept="1W57fq" id="xJb$LDJRtS" role="lGtFl">
-          <node concept="3IZrLx" id="xJb$LDJRtT" role="3IZSJc">
-            <node concept="3clFbS" id="xJb$LDJRtU" role="2VODD2">
-              <node concept="3clFbF" id="xJb$LDJSPQ" role="3cqZAp">
-                <node concept="3fqX7Q" id="xJb$LDJSPO" role="3clFbG">
-                  <node concept="v3LJS" id="xJb$LDJSPW" role="3fr31v">
-                    <ref role="v3LJV" node="xJb$LDJPA4" resolve="hasExternalWrapper" />
+          <node concept="1W57fq" id="3ZtD$BlJid_" role="lGtFl">
+            <node concept="3IZrLx" id="3ZtD$BlJie8" role="3IZSJc">
+              <node concept="3clFbS" id="3ZtD$BlJieD" role="2VODD2">
+                <node concept="3clFbF" id="3ZtD$BlJif5" role="3cqZAp">
+                  <node concept="3fqX7Q" id="3ZtD$BlJifA" role="3clFbG">
+                    <node concept="2OqwBi" id="3ZtD$BlJifM" role="3fr31v">
+                      <node concept="2OqwBi" id="3ZtD$BlJign" role="2Oq$k0">
+                        <node concept="2OqwBi" id="3ZtD$BlJigA" role="2Oq$k0">
+                          <node concept="30H73N" id="3ZtD$BlJih6" role="2Oq$k0" />
+                          <node concept="3TrEf2" id="3ZtD$BlJihk" role="2OqNvi">
+                            <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                          </node>
+                        </node>
+                        <node concept="3TrEf2" id="3ZtD$BlJihv" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                        </node>
+                      </node>
+                      <node concept="1mIQ4w" id="3ZtD$BlJihy" role="2OqNvi">
+                        <node concept="chp4Y" id="3ZtD$BlJihR" role="cj9EA">
+                          <ref role="cht4Q" to="3ibj:2R5or2gIp4N" resolve="StaticGuardDeclaration" />
+                        </node>
+                      </node>
+                    </node>
                   </node>
                 </node>
               </node>
             </node>
           </node>
-          <node concept="gft3U" id="xJb$LDJSVD" role="UU_$l">
-            <node concept="3Tm6S6" id="xJb$LDJT7v" role="gfFT$" />
-          </node>
+          <node concept="raruj" id="xJb$LDQZDc" role="lGtFl" />
         </node>
-        <node concept="29HgVG" id="xJb$LDJPAt" role="lGtFl">
-          <node concept="3NFfHV" id="xJb$LDJPAu" role="3NFExx">
-            <node concept="3clFbS" id="xJb$LDJPAv" role="2VODD2">
-              <node concept="3clFbF" id="xJb$LDJPAw" role="3cqZAp">
-                <node concept="2OqwBi" id="xJb$LDJPAx" role="3clFbG">
-                  <node concept="3TrEf2" id="xJb$LDJPAy" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+        <node concept="3clFbJ" id="3ZtD$BlJhPt" role="3cqZAp">
+          <node concept="3y3z36" id="3ZtD$BlJhPx" role="3clFbw">
+            <node concept="3clFbT" id="3ZtD$BlJhPK" role="3uHU7w">
+              <property role="3clFbU" value="true" />
+              <node concept="17Uvod" id="3ZtD$BlJhQ9" role="lGtFl">
+                <property role="2qtEX9" value="value" />
+                <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                <node concept="3zFVjK" id="3ZtD$BlJhQp" role="3zH0cK">
+                  <node concept="3clFbS" id="3ZtD$BlJhQU" role="2VODD2">
+                    <node concept="3clFbF" id="3ZtD$BlJhR8" role="3cqZAp">
+                      <node concept="2OqwBi" id="3ZtD$BlJhRs" role="3clFbG">
+                        <node concept="30H73N" id="3ZtD$BlJhRw" role="2Oq$k0" />
+                        <node concept="3TrcHB" id="3ZtD$BlJhRN" role="2OqNvi">
+                          <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="xJb$LDJPAz" role="2Oq$k0" />
                 </node>
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3clFbS" id="xJb$LDJPA$" role="3clF47">
-        <node concept="3clFbH" id="6b9GW5_5NEY" role="3cqZAp">
-          <node concept="2b32R4" id="6b9GW5_5NIl" role="lGtFl">
-            <node concept="3JmXsc" id="6b9GW5_5NIo" role="2P8S$">
-              <node concept="3clFbS" id="6b9GW5_5NIp" role="2VODD2">
-                <node concept="3clFbF" id="6b9GW5_5NIv" role="3cqZAp">
-                  <node concept="2OqwBi" id="2915UUE7Ibm" role="3clFbG">
-                    <node concept="30H73N" id="6b9GW5_5NIu" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="2915UUE7Ing" role="2OqNvi">
-                      <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+            <node concept="37vLTw" id="3ZtD$BlJhWw" role="3uHU7B">
+              <ref role="3cqZAo" node="4H88Ni3gWyy" resolve="guard" />
+              <node concept="29HgVG" id="3ZtD$BlJhWF" role="lGtFl">
+                <node concept="3NFfHV" id="3ZtD$BlJhX2" role="3NFExx">
+                  <node concept="3clFbS" id="3ZtD$BlJhXA" role="2VODD2">
+                    <node concept="3clFbF" id="3ZtD$BlJhXP" role="3cqZAp">
+                      <node concept="2OqwBi" id="3ZtD$BlJhYm" role="3clFbG">
+                        <node concept="3TrEf2" id="3ZtD$BlJhYp" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                        </node>
+                        <node concept="30H73N" id="3ZtD$BlJhYA" role="2Oq$k0" />
+                      </node>
                     </node>
                   </node>
                 </node>
               </node>
             </node>
           </node>
-        </node>
-        <node concept="3clFbH" id="LxFAuzaDb" role="3cqZAp">
-          <node concept="2b32R4" id="LxFAuzbcj" role="lGtFl">
-            <node concept="3JmXsc" id="LxFAuzbcm" role="2P8S$">
-              <node concept="3clFbS" id="LxFAuzbcn" role="2VODD2">
-                <node concept="3clFbF" id="LxFAuzbct" role="3cqZAp">
-                  <node concept="2OqwBi" id="LxFAuze8Q" role="3clFbG">
-                    <node concept="2OqwBi" id="LxFAuzdoA" role="2Oq$k0">
-                      <node concept="30H73N" id="LxFAuzbcs" role="2Oq$k0" />
-                      <node concept="2qgKlT" id="LxFAuzdxz" role="2OqNvi">
+          <node concept="3clFbS" id="3ZtD$BlJhS3" role="3clFbx">
+            <node concept="3clFbF" id="3ZtD$BlJhZ7" role="3cqZAp">
+              <node concept="37vLTI" id="3ZtD$BlJhZr" role="3clFbG">
+                <node concept="3clFbT" id="3ZtD$BlJhZV" role="37vLTx">
+                  <node concept="1W57fq" id="3ZtD$BlJh$e" role="lGtFl">
+                    <node concept="3IZrLx" id="3ZtD$BlJh$S" role="3IZSJc">
+                      <node concept="3clFbS" id="3ZtD$BlJh_3" role="2VODD2">
+                        <node concept="3clFbF" id="3ZtD$BlJh_o" role="3cqZAp">
+                          <node concept="3fqX7Q" id="3ZtD$BlJh_t" role="3clFbG">
+                            <node concept="1Wc70l" id="3ZtD$BlJh_w" role="3fr31v">
+                              <node concept="2OqwBi" id="3ZtD$BlJh_G" role="3uHU7w">
+                                <node concept="35c_gC" id="3ZtD$BlJh_L" role="2Oq$k0">
+                                  <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                                <node concept="2qgKlT" id="3ZtD$BlJh_R" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                                </node>
+                              </node>
+                              <node concept="3fqX7Q" id="3ZtD$BlJi07" role="3uHU7B">
+                                <node concept="2OqwBi" id="3ZtD$BlJi0m" role="3fr31v">
+                                  <node concept="35c_gC" id="3ZtD$BlJi0I" role="2Oq$k0">
+                                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                  <node concept="2qgKlT" id="3ZtD$BlJi0L" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="gft3U" id="3ZtD$BlJi1m" role="UU_$l">
+                      <node concept="2OqwBi" id="3ZtD$BlJi1O" role="gfFT$">
+                        <node concept="37vLTw" id="3ZtD$BlJi2o" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2eT$YEPLl_n" resolve="checkMetrics" />
+                          <node concept="1ZhdrF" id="3ZtD$BlJi2v" role="lGtFl">
+                            <property role="2qtEX8" value="variableDeclaration" />
+                            <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                            <node concept="3$xsQk" id="3ZtD$BlJi2G" role="3$ytzL">
+                              <node concept="3clFbS" id="3ZtD$BlJi2N" role="2VODD2">
+                                <node concept="3clFbF" id="3ZtD$BlJi3n" role="3cqZAp">
+                                  <node concept="2OqwBi" id="3ZtD$BlJi3H" role="3clFbG">
+                                    <node concept="1iwH7S" id="3ZtD$BlJi3K" role="2Oq$k0" />
+                                    <node concept="1iwH70" id="3ZtD$BlJi4h" role="2OqNvi">
+                                      <ref role="1iwH77" node="2eT$YEPLlEh" resolve="checkMetrics" />
+                                      <node concept="2OqwBi" id="3ZtD$BlJi4R" role="1iwH7V">
+                                        <node concept="30H73N" id="3ZtD$BlJi54" role="2Oq$k0" />
+                                        <node concept="2Xjw5R" id="3ZtD$BlJi5g" role="2OqNvi">
+                                          <node concept="1xMEDy" id="3ZtD$BlJi5D" role="1xVPHs">
+                                            <node concept="chp4Y" id="3ZtD$BlJi5S" role="ri$Ld">
+                                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="3ZtD$BlJi62" role="2OqNvi">
+                          <ref role="37wK5l" to="q3ut:2QmWbwu4pnh" resolve="guardChanged" />
+                          <node concept="3clFbT" id="3ZtD$BlJi6p" role="37wK5m">
+                            <node concept="17Uvod" id="3ZtD$BlJi70" role="lGtFl">
+                              <property role="2qtEX9" value="value" />
+                              <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                              <node concept="3zFVjK" id="3ZtD$BlJi7h" role="3zH0cK">
+                                <node concept="3clFbS" id="3ZtD$BlJi7t" role="2VODD2">
+                                  <node concept="3clFbF" id="3ZtD$BlJi7H" role="3cqZAp">
+                                    <node concept="2OqwBi" id="3ZtD$BlJi7S" role="3clFbG">
+                                      <node concept="3TrcHB" id="3ZtD$BlJi8g" role="2OqNvi">
+                                        <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                      </node>
+                                      <node concept="30H73N" id="3ZtD$BlJi8J" role="2Oq$k0" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="17Uvod" id="3ZtD$BlJi8W" role="lGtFl">
+                    <property role="2qtEX9" value="value" />
+                    <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                    <node concept="3zFVjK" id="3ZtD$BlJi9u" role="3zH0cK">
+                      <node concept="3clFbS" id="3ZtD$BlJi9G" role="2VODD2">
+                        <node concept="3clFbF" id="3ZtD$BlJiad" role="3cqZAp">
+                          <node concept="2OqwBi" id="3ZtD$BlJiai" role="3clFbG">
+                            <node concept="3TrcHB" id="3ZtD$BlJiaF" role="2OqNvi">
+                              <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                            </node>
+                            <node concept="30H73N" id="3ZtD$BlJiaQ" role="2Oq$k0" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3ZtD$BlJibk" role="37vLTJ">
+                  <ref role="3cqZAo" node="4H88Ni3gWyy" resolve="guard" />
+                  <node concept="29HgVG" id="3ZtD$BlJibA" role="lGtFl">
+                    <node concept="3NFfHV" id="3ZtD$BlJibK" role="3NFExx">
+                      <node concept="3clFbS" id="3ZtD$BlJicg" role="2VODD2">
+                        <node concept="3clFbF" id="3ZtD$BlJicM" role="3cqZAp">
+                          <node concept="2OqwBi" id="3ZtD$BlJicO" role="3clFbG">
+                            <node concept="3TrEf2" id="3ZtD$BlJicV" role="2OqNvi">
+                              <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                            </node>
+                            <node concept="30H73N" id="3ZtD$BlJid7" role="2Oq$k0" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="1W57fq" id="3ZtD$BlJhSY" role="lGtFl">
+            <node concept="3IZrLx" id="3ZtD$BlJhTy" role="3IZSJc">
+              <node concept="3clFbS" id="3ZtD$BlJhTB" role="2VODD2">
+                <node concept="3clFbF" id="3ZtD$BlJhU1" role="3cqZAp">
+                  <node concept="2OqwBi" id="3ZtD$BlJhUF" role="3clFbG">
+                    <node concept="2OqwBi" id="3ZtD$BlJhUI" role="2Oq$k0">
+                      <node concept="2OqwBi" id="3ZtD$BlJhUZ" role="2Oq$k0">
+                        <node concept="30H73N" id="3ZtD$BlJhV4" role="2Oq$k0" />
+                        <node concept="3TrEf2" id="3ZtD$BlJhV9" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                        </node>
+                      </node>
+                      <node concept="3TrEf2" id="3ZtD$BlJhVy" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                      </node>
+                    </node>
+                    <node concept="1mIQ4w" id="3ZtD$BlJhW0" role="2OqNvi">
+                      <node concept="chp4Y" id="3ZtD$BlJhWj" role="cj9EA">
+                        <ref role="cht4Q" to="3ibj:2R5or2gIp4N" resolve="StaticGuardDeclaration" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="raruj" id="3ZtD$BlJidD" role="lGtFl" />
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="13MO4I" id="xJb$LDJP_W">
+    <property role="TrG5h" value="reduce_VerifiedMethod_PreconditionAndBody" />
+    <ref role="3gUMe" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+    <node concept="1N15co" id="xJb$LDJPA4" role="1s_3oS">
+      <property role="TrG5h" value="hasExternalWrapper" />
+      <node concept="10P_77" id="xJb$LDJPAc" role="1N15GL" />
+    </node>
+    <node concept="3clFb_" id="xJb$LDJPAj" role="13RCb5">
+      <property role="TrG5h" value="m" />
+      <node concept="3cqZAl" id="xJb$LDJPAk" role="3clF45">
+        <node concept="29HgVG" id="xJb$LDJPAl" role="lGtFl">
+          <node concept="3NFfHV" id="xJb$LDJPAm" role="3NFExx">
+            <node concept="3clFbS" id="xJb$LDJPAn" role="2VODD2">
+              <node concept="3clFbF" id="xJb$LDJPAo" role="3cqZAp">
+                <node concept="2OqwBi" id="xJb$LDJPAp" role="3clFbG">
+                  <node concept="3TrEf2" id="xJb$LDJPAq" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
+                  </node>
+                  <node concept="30H73N" id="xJb$LDJPAr" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="xJb$LDJPAs" role="1B3o_S">
+        <node concept="1W57fq" id="xJb$LDJRtS" role="lGtFl">
+          <node concept="3IZrLx" id="xJb$LDJRtT" role="3IZSJc">
+            <node concept="3clFbS" id="xJb$LDJRtU" role="2VODD2">
+              <node concept="3clFbF" id="xJb$LDJSPQ" role="3cqZAp">
+                <node concept="3fqX7Q" id="xJb$LDJSPO" role="3clFbG">
+                  <node concept="v3LJS" id="xJb$LDJSPW" role="3fr31v">
+                    <ref role="v3LJV" node="xJb$LDJPA4" resolve="hasExternalWrapper" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="gft3U" id="xJb$LDJSVD" role="UU_$l">
+            <node concept="3Tm6S6" id="xJb$LDJT7v" role="gfFT$" />
+          </node>
+        </node>
+        <node concept="29HgVG" id="xJb$LDJPAt" role="lGtFl">
+          <node concept="3NFfHV" id="xJb$LDJPAu" role="3NFExx">
+            <node concept="3clFbS" id="xJb$LDJPAv" role="2VODD2">
+              <node concept="3clFbF" id="xJb$LDJPAw" role="3cqZAp">
+                <node concept="2OqwBi" id="xJb$LDJPAx" role="3clFbG">
+                  <node concept="3TrEf2" id="xJb$LDJPAy" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+                  </node>
+                  <node concept="30H73N" id="xJb$LDJPAz" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbS" id="xJb$LDJPA$" role="3clF47">
+        <node concept="3clFbJ" id="39DcfeU18B4" role="3cqZAp">
+          <node concept="10M0yZ" id="39DcfeU18B7" role="3clFbw">
+            <ref role="1PxDUh" to="q3ut:3kMdKrGp9bF" resolve="MisuseReporting" />
+            <ref role="3cqZAo" to="q3ut:3EwaYGcC$E4" resolve="CHECK_CONFINEMENT" />
+          </node>
+          <node concept="3clFbS" id="39DcfeU18Be" role="3clFbx">
+            <node concept="3clFbF" id="39DcfeU18BH" role="3cqZAp">
+              <node concept="1rXfSq" id="39DcfeU18BX" role="3clFbG">
+                <ref role="37wK5l" node="39DcfeU18lk" resolve="checkConfinement" />
+                <node concept="1ZhdrF" id="39DcfeU18C5" role="lGtFl">
+                  <property role="2qtEX8" value="baseMethodDeclaration" />
+                  <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1204053956946/1068499141037" />
+                  <node concept="3$xsQk" id="39DcfeU18C9" role="3$ytzL">
+                    <node concept="3clFbS" id="39DcfeU18Cu" role="2VODD2">
+                      <node concept="3clFbF" id="39DcfeU18CN" role="3cqZAp">
+                        <node concept="2OqwBi" id="39DcfeU18CY" role="3clFbG">
+                          <node concept="1iwH7S" id="39DcfeU18Dd" role="2Oq$k0" />
+                          <node concept="1iwH70" id="39DcfeU18Ds" role="2OqNvi">
+                            <ref role="1iwH77" node="39DcfeU18dA" resolve="confinementCheck" />
+                            <node concept="2OqwBi" id="39DcfeU18DA" role="1iwH7V">
+                              <node concept="30H73N" id="39DcfeU18DV" role="2Oq$k0" />
+                              <node concept="2Xjw5R" id="39DcfeU18Ek" role="2OqNvi">
+                                <node concept="1xMEDy" id="39DcfeU18EW" role="1xVPHs">
+                                  <node concept="chp4Y" id="39DcfeU18Fu" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="1W57fq" id="39DcfeU18FV" role="lGtFl">
+            <node concept="3IZrLx" id="39DcfeU18Gd" role="3IZSJc">
+              <node concept="3clFbS" id="39DcfeU18Gp" role="2VODD2">
+                <node concept="3clFbF" id="39DcfeU18Gx" role="3cqZAp">
+                  <node concept="1Wc70l" id="39DcfeU18G$" role="3clFbG">
+                    <node concept="2OqwBi" id="39DcfeU18HA" role="3uHU7w">
+                      <node concept="2OqwBi" id="39DcfeU18HI" role="2Oq$k0">
+                        <node concept="30H73N" id="39DcfeU18I5" role="2Oq$k0" />
+                        <node concept="2Xjw5R" id="39DcfeU18Ig" role="2OqNvi">
+                          <node concept="1xMEDy" id="39DcfeU18IA" role="1xVPHs">
+                            <node concept="chp4Y" id="39DcfeU18Jb" role="ri$Ld">
+                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2qgKlT" id="39DcfeU18JN" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3RJrI244l4d" resolve="isThreadConfined" />
+                      </node>
+                    </node>
+                    <node concept="3fqX7Q" id="39DcfeU18K7" role="3uHU7B">
+                      <node concept="2OqwBi" id="39DcfeU18K8" role="3fr31v">
+                        <node concept="35c_gC" id="39DcfeU18KM" role="2Oq$k0">
+                          <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                        </node>
+                        <node concept="2qgKlT" id="39DcfeU18Lg" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbH" id="6b9GW5_5NEY" role="3cqZAp">
+          <node concept="2b32R4" id="6b9GW5_5NIl" role="lGtFl">
+            <node concept="3JmXsc" id="6b9GW5_5NIo" role="2P8S$">
+              <node concept="3clFbS" id="6b9GW5_5NIp" role="2VODD2">
+                <node concept="3clFbF" id="6b9GW5_5NIv" role="3cqZAp">
+                  <node concept="2OqwBi" id="3pbepyGBW7D" role="3clFbG">
+                    <node concept="2OqwBi" id="2915UUE7Ibm" role="2Oq$k0">
+                      <node concept="30H73N" id="6b9GW5_5NIu" role="2Oq$k0" />
+                      <node concept="3Tsc0h" id="2915UUE7Ing" role="2OqNvi">
+                        <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                      </node>
+                    </node>
+                    <node concept="3zZkjj" id="3pbepyGBW7$" role="2OqNvi">
+                      <node concept="1bVj0M" id="3pbepyGBW8m" role="23t8la">
+                        <node concept="3clFbS" id="3pbepyGBW8N" role="1bW5cS">
+                          <node concept="3clFbF" id="3pbepyGBW8Y" role="3cqZAp">
+                            <node concept="3fqX7Q" id="3pbepyGBW9h" role="3clFbG">
+                              <node concept="1Wc70l" id="3pbepyGBW9V" role="3fr31v">
+                                <node concept="2OqwBi" id="3pbepyGBWab" role="3uHU7w">
+                                  <node concept="1PxgMI" id="3pbepyGBWau" role="2Oq$k0">
+                                    <node concept="chp4Y" id="3pbepyGBWb4" role="3oSUPX">
+                                      <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                    </node>
+                                    <node concept="37vLTw" id="3pbepyGBWbI" role="1m5AlR">
+                                      <ref role="3cqZAo" node="3pbepyGBWdX" resolve="it" />
+                                    </node>
+                                  </node>
+                                  <node concept="2qgKlT" id="3pbepyGBWc0" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:26z__Lfqn9o" resolve="isStaticallySatisfied" />
+                                  </node>
+                                </node>
+                                <node concept="2OqwBi" id="3pbepyGBWcu" role="3uHU7B">
+                                  <node concept="37vLTw" id="3pbepyGBWd5" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="3pbepyGBWdX" resolve="it" />
+                                  </node>
+                                  <node concept="1mIQ4w" id="3pbepyGBWdz" role="2OqNvi">
+                                    <node concept="chp4Y" id="3pbepyGBWdA" role="cj9EA">
+                                      <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="Rh6nW" id="3pbepyGBWdX" role="1bW2Oz">
+                          <property role="TrG5h" value="it" />
+                          <node concept="2jxLKc" id="3pbepyGBWeo" role="1tU5fm" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbH" id="LxFAuzaDb" role="3cqZAp">
+          <node concept="2b32R4" id="LxFAuzbcj" role="lGtFl">
+            <node concept="3JmXsc" id="LxFAuzbcm" role="2P8S$">
+              <node concept="3clFbS" id="LxFAuzbcn" role="2VODD2">
+                <node concept="3clFbF" id="LxFAuzbct" role="3cqZAp">
+                  <node concept="2OqwBi" id="LxFAuze8Q" role="3clFbG">
+                    <node concept="2OqwBi" id="LxFAuzdoA" role="2Oq$k0">
+                      <node concept="30H73N" id="LxFAuzbcs" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="LxFAuzdxz" role="2OqNvi">
                         <ref role="37wK5l" to="pw26:LxFAuyDk1" resolve="notNullVariables" />
                       </node>
                     </node>
@@ -1548,6 +2281,36 @@
               </node>
               <node concept="3clFbS" id="5uCFRXfG9Gd" role="1zc67A">
                 <node concept="3clFbH" id="5uCFRXfHBsj" role="3cqZAp">
+                  <node concept="1W57fq" id="3GunMzSADX5" role="lGtFl">
+                    <node concept="3IZrLx" id="3GunMzSADX9" role="3IZSJc">
+                      <node concept="3clFbS" id="3GunMzSADXo" role="2VODD2">
+                        <node concept="3clFbF" id="3GunMzSADXy" role="3cqZAp">
+                          <node concept="3fqX7Q" id="3GunMzSADXJ" role="3clFbG">
+                            <node concept="1Wc70l" id="3GunMzSADXL" role="3fr31v">
+                              <node concept="2OqwBi" id="3GunMzSADYb" role="3uHU7w">
+                                <node concept="35c_gC" id="3GunMzSADYg" role="2Oq$k0">
+                                  <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                                <node concept="2qgKlT" id="3GunMzSADYL" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:23QpVD5mCpb" resolve="outlineConsequencesInGeneration" />
+                                </node>
+                              </node>
+                              <node concept="3fqX7Q" id="3GunMzSADZa" role="3uHU7B">
+                                <node concept="2OqwBi" id="3GunMzSADZv" role="3fr31v">
+                                  <node concept="35c_gC" id="3GunMzSADZK" role="2Oq$k0">
+                                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                  <node concept="2qgKlT" id="3GunMzSAD$a" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
                   <node concept="2b32R4" id="5uCFRXfHByt" role="lGtFl">
                     <node concept="3JmXsc" id="5uCFRXfHByu" role="2P8S$">
                       <node concept="3clFbS" id="5uCFRXfHByv" role="2VODD2">
@@ -1592,6 +2355,59 @@
                     </node>
                   </node>
                 </node>
+                <node concept="3clFbF" id="3GunMzSAD$n" role="3cqZAp">
+                  <node concept="1rXfSq" id="3GunMzSAD$W" role="3clFbG">
+                    <ref role="37wK5l" node="xJb$LDMDO_" resolve="m" />
+                    <node concept="37vLTw" id="3GunMzSAD_l" role="37wK5m">
+                      <ref role="3cqZAo" node="5uCFRXfG9Gb" resolve="e" />
+                    </node>
+                    <node concept="1ZhdrF" id="3GunMzSAD_R" role="lGtFl">
+                      <property role="2qtEX8" value="baseMethodDeclaration" />
+                      <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1204053956946/1068499141037" />
+                      <node concept="3$xsQk" id="3GunMzSAD_S" role="3$ytzL">
+                        <node concept="3clFbS" id="3GunMzSAE0k" role="2VODD2">
+                          <node concept="3clFbF" id="3GunMzSAE0Y" role="3cqZAp">
+                            <node concept="2OqwBi" id="3GunMzSAE1b" role="3clFbG">
+                              <node concept="1iwH7S" id="3GunMzSAE1f" role="2Oq$k0" />
+                              <node concept="1iwH70" id="3GunMzSAE1x" role="2OqNvi">
+                                <ref role="1iwH77" node="3GunMzSADFw" resolve="throwConsequences" />
+                                <node concept="30H73N" id="3GunMzSAE1Q" role="1iwH7V" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1W57fq" id="3GunMzSAE2c" role="lGtFl">
+                    <node concept="3IZrLx" id="3GunMzSAE2o" role="3IZSJc">
+                      <node concept="3clFbS" id="3GunMzSAE2P" role="2VODD2">
+                        <node concept="3clFbF" id="3GunMzSAE3c" role="3cqZAp">
+                          <node concept="1Wc70l" id="3GunMzSAE3H" role="3clFbG">
+                            <node concept="2OqwBi" id="3GunMzSAE3L" role="3uHU7w">
+                              <node concept="35c_gC" id="3GunMzSAE4j" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="3GunMzSAE4A" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:23QpVD5mCpb" resolve="outlineConsequencesInGeneration" />
+                              </node>
+                            </node>
+                            <node concept="3fqX7Q" id="3GunMzSAE4G" role="3uHU7B">
+                              <node concept="2OqwBi" id="3GunMzSAE4O" role="3fr31v">
+                                <node concept="35c_gC" id="3GunMzSAE5g" role="2Oq$k0">
+                                  <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                                <node concept="2qgKlT" id="3GunMzSAE5w" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
                 <node concept="YS8fn" id="5uCFRXfGaIb" role="3cqZAp">
                   <node concept="37vLTw" id="5uCFRXfGaJB" role="YScLw">
                     <ref role="3cqZAo" node="5uCFRXfG9Gb" resolve="e" />
@@ -1716,26 +2532,126 @@
       <node concept="3Tm1VV" id="xJb$LDMHtC" role="1B3o_S" />
     </node>
   </node>
-  <node concept="13MO4I" id="xJb$LDPmBQ">
-    <property role="TrG5h" value="reduce_Consequence_withFilter" />
-    <property role="3GE5qa" value="consequences" />
-    <ref role="3gUMe" to="3ibj:2NWWHY$Dbz5" resolve="Consequence" />
-    <node concept="3clFbJ" id="xJb$LDPoVg" role="13RCb5">
-      <node concept="33vP2n" id="xJb$LDPoVh" role="3clFbw">
-        <node concept="29HgVG" id="xJb$LDPoVG" role="lGtFl">
-          <node concept="3NFfHV" id="xJb$LDPoVO" role="3NFExx">
-            <node concept="3clFbS" id="xJb$LDPoVP" role="2VODD2">
-              <node concept="3clFbF" id="xJb$LDPoXI" role="3cqZAp">
-                <node concept="2OqwBi" id="xJb$LDPp6N" role="3clFbG">
-                  <node concept="30H73N" id="xJb$LDPoXH" role="2Oq$k0" />
-                  <node concept="3TrEf2" id="xJb$LDUijB" role="2OqNvi">
-                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
-                  </node>
-                </node>
-              </node>
-            </node>
-          </node>
-        </node>
+  <node concept="13MO4I" id="3GunMzSADG0">
+    <property role="TrG5h" value="reduce_VerifiedMethod_ThrowConsequences" />
+    <ref role="3gUMe" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+    <node concept="312cEu" id="3GunMzSADGt" role="13RCb5">
+      <property role="TrG5h" value="Wrapper" />
+      <node concept="3clFb_" id="3GunMzSADGH" role="jymVt">
+        <property role="TrG5h" value="m_onThrow" />
+        <node concept="3clFbS" id="3GunMzSADH7" role="3clF47">
+          <node concept="3clFbH" id="3GunMzSADOR" role="3cqZAp">
+            <node concept="2b32R4" id="3GunMzSADPi" role="lGtFl">
+              <node concept="3JmXsc" id="3GunMzSADPR" role="2P8S$">
+                <node concept="3clFbS" id="3GunMzSADQo" role="2VODD2">
+                  <node concept="3clFbF" id="3GunMzSADQ_" role="3cqZAp">
+                    <node concept="2OqwBi" id="3GunMzSADRc" role="3clFbG">
+                      <node concept="2OqwBi" id="3GunMzSADRB" role="2Oq$k0">
+                        <node concept="30H73N" id="3GunMzSADS7" role="2Oq$k0" />
+                        <node concept="3Tsc0h" id="3GunMzSADSB" role="2OqNvi">
+                          <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                        </node>
+                      </node>
+                      <node concept="3zZkjj" id="3GunMzSADSY" role="2OqNvi">
+                        <node concept="1bVj0M" id="3GunMzSADTb" role="23t8la">
+                          <node concept="3clFbS" id="3GunMzSADTE" role="1bW5cS">
+                            <node concept="3clFbF" id="3GunMzSADTX" role="3cqZAp">
+                              <node concept="2OqwBi" id="3GunMzSADUz" role="3clFbG">
+                                <node concept="2OqwBi" id="3GunMzSADVa" role="2Oq$k0">
+                                  <node concept="37vLTw" id="3GunMzSADVm" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="3GunMzSADWp" resolve="it" />
+                                  </node>
+                                  <node concept="3TrEf2" id="3GunMzSADVz" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                                  </node>
+                                </node>
+                                <node concept="1mIQ4w" id="3GunMzSADVF" role="2OqNvi">
+                                  <node concept="chp4Y" id="3GunMzSADW5" role="cj9EA">
+                                    <ref role="cht4Q" to="3ibj:56pRkR163TQ" resolve="WhenThrows" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="Rh6nW" id="3GunMzSADWp" role="1bW2Oz">
+                            <property role="TrG5h" value="it" />
+                            <node concept="2jxLKc" id="3GunMzSADWS" role="1tU5fm" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cqZAl" id="3GunMzSADI3" role="3clF45" />
+        <node concept="3Tm6S6" id="3GunMzSADIE" role="1B3o_S" />
+        <node concept="37vLTG" id="3GunMzSADI_" role="3clF46">
+          <property role="TrG5h" value="e" />
+          <node concept="3uibUv" id="3GunMzSADJ6" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Throwable" resolve="Throwable" />
+          </node>
+          <node concept="2ZBi8u" id="3GunMzSADJs" role="lGtFl">
+            <ref role="2rW$FS" node="3GunMzSADF$" resolve="outlinedException" />
+          </node>
+        </node>
+        <node concept="raruj" id="3GunMzSADJy" role="lGtFl" />
+        <node concept="2ZBi8u" id="3GunMzSADJZ" role="lGtFl">
+          <ref role="2rW$FS" node="3GunMzSADFw" resolve="throwConsequences" />
+        </node>
+        <node concept="17Uvod" id="3GunMzSADKk" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="3GunMzSADKM" role="3zH0cK">
+            <node concept="3clFbS" id="3GunMzSADL6" role="2VODD2">
+              <node concept="3clFbF" id="3GunMzSADLl" role="3cqZAp">
+                <node concept="2OqwBi" id="3GunMzSADLz" role="3clFbG">
+                  <node concept="1iwH7S" id="3GunMzSADLV" role="2Oq$k0" />
+                  <node concept="2piZGk" id="3GunMzSADM9" role="2OqNvi">
+                    <node concept="3cpWs3" id="3GunMzSADMB" role="2piZGb">
+                      <node concept="Xl_RD" id="3GunMzSADMS" role="3uHU7w">
+                        <property role="Xl_RC" value="_onThrow" />
+                      </node>
+                      <node concept="2OqwBi" id="3GunMzSADNb" role="3uHU7B">
+                        <node concept="30H73N" id="3GunMzSADNm" role="2Oq$k0" />
+                        <node concept="3TrcHB" id="3GunMzSADNI" role="2OqNvi">
+                          <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="30H73N" id="3GunMzSADNL" role="2pr8EU" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="3GunMzSADOl" role="1B3o_S" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="xJb$LDPmBQ">
+    <property role="TrG5h" value="reduce_Consequence_withFilter" />
+    <property role="3GE5qa" value="consequences" />
+    <ref role="3gUMe" to="3ibj:2NWWHY$Dbz5" resolve="Consequence" />
+    <node concept="3clFbJ" id="xJb$LDPoVg" role="13RCb5">
+      <node concept="33vP2n" id="xJb$LDPoVh" role="3clFbw">
+        <node concept="29HgVG" id="xJb$LDPoVG" role="lGtFl">
+          <node concept="3NFfHV" id="xJb$LDPoVO" role="3NFExx">
+            <node concept="3clFbS" id="xJb$LDPoVP" role="2VODD2">
+              <node concept="3clFbF" id="xJb$LDPoXI" role="3cqZAp">
+                <node concept="2OqwBi" id="xJb$LDPp6N" role="3clFbG">
+                  <node concept="30H73N" id="xJb$LDPoXH" role="2Oq$k0" />
+                  <node concept="3TrEf2" id="xJb$LDUijB" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
       </node>
       <node concept="3clFbS" id="xJb$LDPoVi" role="3clFbx">
         <node concept="3clFbH" id="xJb$LDPppB" role="3cqZAp">
@@ -1790,6 +2706,109 @@
           </node>
           <node concept="17R0WA" id="xJb$LDQySh" role="3cqZAk">
             <node concept="raruj" id="xJb$LDQySx" role="lGtFl" />
+            <node concept="1W57fq" id="3GunMzSAEsN" role="lGtFl">
+              <node concept="3IZrLx" id="3GunMzSAEtk" role="3IZSJc">
+                <node concept="3clFbS" id="3GunMzSAEtX" role="2VODD2">
+                  <node concept="3clFbF" id="3GunMzSAEuu" role="3cqZAp">
+                    <node concept="22lmx$" id="3GunMzSAEuP" role="3clFbG">
+                      <node concept="2OqwBi" id="3GunMzSAEv7" role="3uHU7w">
+                        <node concept="2OqwBi" id="3GunMzSAEvq" role="2Oq$k0">
+                          <node concept="2OqwBi" id="3GunMzSAEw1" role="2Oq$k0">
+                            <node concept="30H73N" id="3GunMzSAEwB" role="2Oq$k0" />
+                            <node concept="2Xjw5R" id="3GunMzSAEx3" role="2OqNvi">
+                              <node concept="1xMEDy" id="3GunMzSAExE" role="1xVPHs">
+                                <node concept="chp4Y" id="3GunMzSAEy8" role="ri$Ld">
+                                  <ref role="cht4Q" to="tpee:fzclF7W" resolve="BaseMethodDeclaration" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="3GunMzSAEyM" role="2OqNvi">
+                            <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
+                          </node>
+                        </node>
+                        <node concept="1mIQ4w" id="3GunMzSAEz2" role="2OqNvi">
+                          <node concept="chp4Y" id="3GunMzSAEzt" role="cj9EA">
+                            <ref role="cht4Q" to="tpee:g96syBo" resolve="TypeVariableReference" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2OqwBi" id="3GunMzSAEzF" role="3uHU7B">
+                        <node concept="2OqwBi" id="3GunMzSAEAf" role="2Oq$k0">
+                          <node concept="2OqwBi" id="3GunMzSAEAu" role="2Oq$k0">
+                            <node concept="30H73N" id="3GunMzSAEAD" role="2Oq$k0" />
+                            <node concept="2Xjw5R" id="3GunMzSAEBf" role="2OqNvi">
+                              <node concept="1xMEDy" id="3GunMzSAEBy" role="1xVPHs">
+                                <node concept="chp4Y" id="3GunMzSAEBP" role="ri$Ld">
+                                  <ref role="cht4Q" to="tpee:fzclF7W" resolve="BaseMethodDeclaration" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="3GunMzSAEC8" role="2OqNvi">
+                            <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
+                          </node>
+                        </node>
+                        <node concept="1mIQ4w" id="3GunMzSAECL" role="2OqNvi">
+                          <node concept="chp4Y" id="3GunMzSAEDa" role="cj9EA">
+                            <ref role="cht4Q" to="tpee:6r77ob2URXY" resolve="IClassifierType" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="gft3U" id="3GunMzSAEDi" role="UU_$l">
+                <node concept="3clFbC" id="3GunMzSAEDo" role="gfFT$">
+                  <node concept="3clFbT" id="3GunMzSAEEn" role="3uHU7w">
+                    <node concept="29HgVG" id="3GunMzSAEEO" role="lGtFl">
+                      <node concept="3NFfHV" id="3GunMzSAEFm" role="3NFExx">
+                        <node concept="3clFbS" id="3GunMzSAEFB" role="2VODD2">
+                          <node concept="3clFbF" id="3GunMzSAEFJ" role="3cqZAp">
+                            <node concept="2OqwBi" id="3GunMzSAEG6" role="3clFbG">
+                              <node concept="3TrEf2" id="3GunMzSAEGI" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbz8" resolve="value" />
+                              </node>
+                              <node concept="30H73N" id="3GunMzSAEHh" role="2Oq$k0" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="3GunMzSAEHI" role="3uHU7B">
+                    <ref role="3cqZAo" node="xJb$LDQwdq" resolve="original" />
+                    <node concept="1ZhdrF" id="3GunMzSAEIh" role="lGtFl">
+                      <property role="2qtEX8" value="variableDeclaration" />
+                      <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                      <node concept="3$xsQk" id="3GunMzSAEIo" role="3$ytzL">
+                        <node concept="3clFbS" id="3GunMzSAEIt" role="2VODD2">
+                          <node concept="3clFbF" id="3GunMzSAEIS" role="3cqZAp">
+                            <node concept="2OqwBi" id="3GunMzSAEJ9" role="3clFbG">
+                              <node concept="1iwH7S" id="3GunMzSAEJr" role="2Oq$k0" />
+                              <node concept="1iwH70" id="3GunMzSAEJS" role="2OqNvi">
+                                <ref role="1iwH77" node="xJb$LDPcFX" resolve="returnValue" />
+                                <node concept="2OqwBi" id="3GunMzSAEK4" role="1iwH7V">
+                                  <node concept="30H73N" id="3GunMzSAEKa" role="2Oq$k0" />
+                                  <node concept="2Xjw5R" id="3GunMzSAEKG" role="2OqNvi">
+                                    <node concept="1xMEDy" id="3GunMzSAEL3" role="1xVPHs">
+                                      <node concept="chp4Y" id="3GunMzSAELa" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
             <node concept="37vLTw" id="xJb$LDQwdC" role="3uHU7B">
               <ref role="3cqZAo" node="xJb$LDQwdq" resolve="original" />
               <node concept="1ZhdrF" id="xJb$LDQxpP" role="lGtFl">
@@ -2155,16 +3174,54 @@
                 <node concept="3$xsQk" id="5uCFRXfI07W" role="3$ytzL">
                   <node concept="3clFbS" id="5uCFRXfI07X" role="2VODD2">
                     <node concept="3clFbF" id="5uCFRXfI08K" role="3cqZAp">
-                      <node concept="2OqwBi" id="5uCFRXfI0j2" role="3clFbG">
-                        <node concept="1iwH7S" id="5uCFRXfI08J" role="2Oq$k0" />
-                        <node concept="1iwH70" id="5uCFRXfI0os" role="2OqNvi">
-                          <ref role="1iwH77" node="5uCFRXfHN08" resolve="exception" />
-                          <node concept="2OqwBi" id="5uCFRXfI0Gk" role="1iwH7V">
-                            <node concept="30H73N" id="5uCFRXfI0xn" role="2Oq$k0" />
-                            <node concept="2Xjw5R" id="5uCFRXfI0PS" role="2OqNvi">
-                              <node concept="1xMEDy" id="5uCFRXfI0PU" role="1xVPHs">
-                                <node concept="chp4Y" id="5uCFRXfI0WW" role="ri$Ld">
-                                  <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                      <node concept="3K4zz7" id="3GunMzSAEni" role="3clFbG">
+                        <node concept="1Wc70l" id="3GunMzSAEnq" role="3K4Cdx">
+                          <node concept="2OqwBi" id="3GunMzSAEo0" role="3uHU7w">
+                            <node concept="35c_gC" id="3GunMzSAEof" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="3GunMzSAEon" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:23QpVD5mCpb" resolve="outlineConsequencesInGeneration" />
+                            </node>
+                          </node>
+                          <node concept="3fqX7Q" id="3GunMzSAEoD" role="3uHU7B">
+                            <node concept="2OqwBi" id="3GunMzSAEp1" role="3fr31v">
+                              <node concept="35c_gC" id="3GunMzSAEpC" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="3GunMzSAEpX" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="3GunMzSAEqc" role="3K4E3e">
+                          <node concept="1iwH7S" id="3GunMzSAEqz" role="2Oq$k0" />
+                          <node concept="1iwH70" id="3GunMzSAEr9" role="2OqNvi">
+                            <ref role="1iwH77" node="3GunMzSADF$" resolve="outlinedException" />
+                            <node concept="2OqwBi" id="3GunMzSAErk" role="1iwH7V">
+                              <node concept="30H73N" id="3GunMzSAErl" role="2Oq$k0" />
+                              <node concept="2Xjw5R" id="3GunMzSAErX" role="2OqNvi">
+                                <node concept="1xMEDy" id="3GunMzSAEs6" role="1xVPHs">
+                                  <node concept="chp4Y" id="3GunMzSAEsj" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="5uCFRXfI0j2" role="3K4GZi">
+                          <node concept="1iwH7S" id="5uCFRXfI08J" role="2Oq$k0" />
+                          <node concept="1iwH70" id="5uCFRXfI0os" role="2OqNvi">
+                            <ref role="1iwH77" node="5uCFRXfHN08" resolve="exception" />
+                            <node concept="2OqwBi" id="5uCFRXfI0Gk" role="1iwH7V">
+                              <node concept="30H73N" id="5uCFRXfI0xn" role="2Oq$k0" />
+                              <node concept="2Xjw5R" id="5uCFRXfI0PS" role="2OqNvi">
+                                <node concept="1xMEDy" id="5uCFRXfI0PU" role="1xVPHs">
+                                  <node concept="chp4Y" id="5uCFRXfI0WW" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                                  </node>
                                 </node>
                               </node>
                             </node>
@@ -2216,59 +3273,277 @@
     <property role="TrG5h" value="reduce_ExpressionRequirement" />
     <property role="3GE5qa" value="requirements" />
     <ref role="3gUMe" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
-    <node concept="3clFbJ" id="6b9GW5_1VPF" role="13RCb5">
-      <node concept="3fqX7Q" id="1uT63xXWzur" role="3clFbw">
-        <node concept="33vP2n" id="1uT63xXWzut" role="3fr31v">
-          <node concept="29HgVG" id="1uT63xXWzuu" role="lGtFl">
-            <node concept="3NFfHV" id="1uT63xXWzuv" role="3NFExx">
-              <node concept="3clFbS" id="1uT63xXWzuw" role="2VODD2">
-                <node concept="3clFbF" id="1uT63xXWzux" role="3cqZAp">
-                  <node concept="2OqwBi" id="1uT63xXWzuy" role="3clFbG">
-                    <node concept="3TrEf2" id="1uT63xXWzuz" role="2OqNvi">
-                      <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+    <node concept="312cEu" id="2vY7ErdhV3u" role="13RCb5">
+      <property role="TrG5h" value="Foo" />
+      <node concept="Wx3nA" id="2vY7ErdhV3Z" role="jymVt">
+        <property role="TrG5h" value="checkSampler" />
+        <node concept="3Tm6S6" id="2vY7ErdhV4z" role="1B3o_S" />
+        <node concept="3uibUv" id="2vY7ErdhV4C" role="1tU5fm">
+          <ref role="3uigEE" to="q3ut:3brRTWh$$hJ" resolve="CheckSampler" />
+        </node>
+      </node>
+      <node concept="Wx3nA" id="2ja4jrFjK2o" role="jymVt">
+        <property role="TrG5h" value="misuseClass" />
+        <node concept="3Tm6S6" id="2ja4jrFjK2I" role="1B3o_S" />
+        <node concept="17QB3L" id="2ja4jrFjK2P" role="1tU5fm" />
+      </node>
+      <node concept="Wx3nA" id="2eT$YEPLmOG" role="jymVt">
+        <property role="TrG5h" value="checkMetrics" />
+        <node concept="3Tm6S6" id="2eT$YEPLmOX" role="1B3o_S" />
+        <node concept="3uibUv" id="2eT$YEPLmPz" role="1tU5fm">
+          <ref role="3uigEE" to="q3ut:2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+        </node>
+      </node>
+      <node concept="312cEg" id="2vY7ErdhV50" role="jymVt">
+        <property role="TrG5h" value="tracked" />
+        <node concept="3Tm6S6" id="2vY7ErdhV5p" role="1B3o_S" />
+        <node concept="10P_77" id="2vY7ErdhV5K" role="1tU5fm" />
+      </node>
+      <node concept="2tJIrI" id="2vY7ErdhV5S" role="jymVt" />
+      <node concept="3clFb_" id="2vY7ErdhV6g" role="jymVt">
+        <property role="TrG5h" value="check" />
+        <node concept="3clFbS" id="2vY7ErdhV6P" role="3clF47">
+          <node concept="3clFbJ" id="6b9GW5_1VPF" role="3cqZAp">
+      <node concept="1Wc70l" id="2vY7ErdhV7V" role="3clFbw">
+              <node concept="3fqX7Q" id="1uT63xXWzur" role="3uHU7w">
+                <node concept="33vP2n" id="1uT63xXWzut" role="3fr31v">
+                  <node concept="1W57fq" id="2eT$YEPLmRT" role="lGtFl">
+                    <node concept="3IZrLx" id="2eT$YEPLmSk" role="3IZSJc">
+                      <node concept="3clFbS" id="2eT$YEPLmSp" role="2VODD2">
+                        <node concept="3clFbF" id="2eT$YEPLmSD" role="3cqZAp">
+                          <node concept="3fqX7Q" id="2eT$YEPLmSP" role="3clFbG">
+                            <node concept="1Wc70l" id="2eT$YEPLmSW" role="3fr31v">
+                              <node concept="2OqwBi" id="2eT$YEPLmTt" role="3uHU7w">
+                                <node concept="35c_gC" id="2eT$YEPLmTU" role="2Oq$k0">
+                                  <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                                <node concept="2qgKlT" id="2eT$YEPLmUp" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                                </node>
+                              </node>
+                              <node concept="3fqX7Q" id="2eT$YEPLmUL" role="3uHU7B">
+                                <node concept="2OqwBi" id="2eT$YEPLmUU" role="3fr31v">
+                                  <node concept="35c_gC" id="2eT$YEPLmVb" role="2Oq$k0">
+                                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                  <node concept="2qgKlT" id="2eT$YEPLmVq" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="gft3U" id="2eT$YEPLmVZ" role="UU_$l">
+                      <node concept="2OqwBi" id="2eT$YEPLmWm" role="gfFT$">
+                        <node concept="37vLTw" id="2eT$YEPLmWG" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2eT$YEPLmOG" resolve="checkMetrics" />
+                          <node concept="1ZhdrF" id="2eT$YEPLmWS" role="lGtFl">
+                            <property role="2qtEX8" value="variableDeclaration" />
+                            <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                            <node concept="3$xsQk" id="2eT$YEPLmWY" role="3$ytzL">
+                              <node concept="3clFbS" id="2eT$YEPLmXl" role="2VODD2">
+                                <node concept="3clFbF" id="2eT$YEPLmXw" role="3cqZAp">
+                                  <node concept="2OqwBi" id="2eT$YEPLmXT" role="3clFbG">
+                                    <node concept="1iwH7S" id="2eT$YEPLmYg" role="2Oq$k0" />
+                                    <node concept="1iwH70" id="2eT$YEPLmYp" role="2OqNvi">
+                                      <ref role="1iwH77" node="2eT$YEPLlEh" resolve="checkMetrics" />
+                                      <node concept="2OqwBi" id="2eT$YEPLmYt" role="1iwH7V">
+                                        <node concept="30H73N" id="2eT$YEPLmYQ" role="2Oq$k0" />
+                                        <node concept="2Xjw5R" id="2eT$YEPLmZ5" role="2OqNvi">
+                                          <node concept="1xMEDy" id="2eT$YEPLmZm" role="1xVPHs">
+                                            <node concept="chp4Y" id="2eT$YEPLmZU" role="ri$Ld">
+                                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="2eT$YEPLmZ_" role="2OqNvi">
+                          <ref role="37wK5l" to="q3ut:2QmWbwu4pvB" resolve="requirementChecked" />
+                          <node concept="2YIFZM" id="2eT$YEPLm$i" role="37wK5m">
+                            <ref role="37wK5l" to="wyt6:~System.nanoTime()" resolve="nanoTime" />
+                            <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                          </node>
+                          <node concept="33vP2n" id="2eT$YEPLmPX" role="37wK5m">
+                            <node concept="29HgVG" id="2eT$YEPLmQv" role="lGtFl">
+                              <node concept="3NFfHV" id="2eT$YEPLmQE" role="3NFExx">
+                                <node concept="3clFbS" id="2eT$YEPLmQI" role="2VODD2">
+                                  <node concept="3clFbF" id="2eT$YEPLmQT" role="3cqZAp">
+                                    <node concept="2OqwBi" id="2eT$YEPLmQ_" role="3clFbG">
+                                      <node concept="3TrEf2" id="2eT$YEPLmRc" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+                                      </node>
+                                      <node concept="30H73N" id="2eT$YEPLmRf" role="2Oq$k0" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="29HgVG" id="1uT63xXWzuu" role="lGtFl">
+                    <node concept="3NFfHV" id="1uT63xXWzuv" role="3NFExx">
+                      <node concept="3clFbS" id="1uT63xXWzuw" role="2VODD2">
+                        <node concept="3clFbF" id="1uT63xXWzux" role="3cqZAp">
+                          <node concept="2OqwBi" id="1uT63xXWzuy" role="3clFbG">
+                            <node concept="3TrEf2" id="1uT63xXWzuz" role="2OqNvi">
+                              <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+                            </node>
+                            <node concept="30H73N" id="1uT63xXWzu$" role="2Oq$k0" />
+                          </node>
+                        </node>
+                      </node>
                     </node>
-                    <node concept="30H73N" id="1uT63xXWzu$" role="2Oq$k0" />
                   </node>
                 </node>
               </node>
-            </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3clFbS" id="6b9GW5_1VPH" role="3clFbx">
-        <node concept="YS8fn" id="6b9GW5_1WZM" role="3cqZAp">
-          <node concept="2ShNRf" id="6b9GW5_1WZY" role="YScLw">
-            <node concept="1pGfFk" id="6b9GW5_1X3y" role="2ShVmc">
-              <ref role="37wK5l" to="q3ut:15ZwvTyKq9r" resolve="DetectedMisuseException" />
-              <node concept="Xl_RD" id="6b9GW5_4XRf" role="37wK5m">
-                <property role="Xl_RC" value="" />
-                <node concept="1W57fq" id="6b9GW5_4Y0P" role="lGtFl">
-                  <node concept="3IZrLx" id="6b9GW5_4Y0Q" role="3IZSJc">
-                    <node concept="3clFbS" id="6b9GW5_4Y0R" role="2VODD2">
-                      <node concept="3clFbF" id="6b9GW5_4Yn7" role="3cqZAp">
-                        <node concept="2OqwBi" id="6b9GW5_4YR2" role="3clFbG">
-                          <node concept="2OqwBi" id="6b9GW5_4Y$x" role="2Oq$k0">
-                            <node concept="30H73N" id="6b9GW5_4Yn6" role="2Oq$k0" />
-                            <node concept="3TrEf2" id="6b9GW5_4YHb" role="2OqNvi">
-                              <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+              <node concept="37vLTw" id="2vY7ErdhV8h" role="3uHU7B">
+                <ref role="3cqZAo" node="2vY7ErdhV50" resolve="tracked" />
+                <node concept="1ZhdrF" id="2vY7ErdhV8E" role="lGtFl">
+                  <property role="2qtEX8" value="variableDeclaration" />
+                  <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                  <node concept="3$xsQk" id="2vY7ErdhV8W" role="3$ytzL">
+                    <node concept="3clFbS" id="2vY7ErdhV9o" role="2VODD2">
+                      <node concept="3clFbF" id="2vY7ErdhV9V" role="3cqZAp">
+                        <node concept="2OqwBi" id="2vY7ErdhVaa" role="3clFbG">
+                          <node concept="1iwH7S" id="2vY7ErdhVaL" role="2Oq$k0" />
+                          <node concept="1iwH70" id="2vY7ErdhVaV" role="2OqNvi">
+                            <ref role="1iwH77" node="2vY7ErdhULa" resolve="trackedState" />
+                            <node concept="2OqwBi" id="2vY7ErdhVbe" role="1iwH7V">
+                              <node concept="30H73N" id="2vY7ErdhVbs" role="2Oq$k0" />
+                              <node concept="2Xjw5R" id="2vY7ErdhVbI" role="2OqNvi">
+                                <node concept="1xMEDy" id="2vY7ErdhVbR" role="1xVPHs">
+                                  <node concept="chp4Y" id="2vY7ErdhVcd" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                </node>
+                              </node>
                             </node>
                           </node>
-                          <node concept="3x8VRR" id="6b9GW5_4Z5n" role="2OqNvi" />
                         </node>
                       </node>
                     </node>
                   </node>
                 </node>
-                <node concept="17Uvod" id="6b9GW5_4Zd4" role="lGtFl">
-                  <property role="2qtEX9" value="value" />
-                  <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
-                  <node concept="3zFVjK" id="6b9GW5_4Zd5" role="3zH0cK">
-                    <node concept="3clFbS" id="6b9GW5_4Zd6" role="2VODD2">
-                      <node concept="3clFbF" id="6b9GW5_4ZpG" role="3cqZAp">
-                        <node concept="2OqwBi" id="6b9GW5_4Zw6" role="3clFbG">
-                          <node concept="30H73N" id="6b9GW5_4ZpF" role="2Oq$k0" />
-                          <node concept="3TrcHB" id="6b9GW5_4Zxd" role="2OqNvi">
-                            <ref role="3TsBF5" to="3ibj:6b9GW5_4fzH" resolve="errorMessage" />
+                <node concept="1W57fq" id="2vY7ErdhVcC" role="lGtFl">
+                  <node concept="3IZrLx" id="2vY7ErdhVcY" role="3IZSJc">
+                    <node concept="3clFbS" id="2vY7ErdhVdl" role="2VODD2">
+                      <node concept="3clFbF" id="2vY7ErdhVdm" role="3cqZAp">
+                        <node concept="2OqwBi" id="2vY7ErdhVdL" role="3clFbG">
+                          <node concept="2OqwBi" id="2vY7ErdhVdU" role="2Oq$k0">
+                            <node concept="30H73N" id="2vY7ErdhVes" role="2Oq$k0" />
+                            <node concept="2Xjw5R" id="2vY7ErdhVf1" role="2OqNvi">
+                              <node concept="1xMEDy" id="2vY7ErdhVfk" role="1xVPHs">
+                                <node concept="chp4Y" id="2vY7ErdhVfD" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3w_OXm" id="2vY7ErdhVfR" role="2OqNvi" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="gft3U" id="2vY7ErdhVg6" role="UU_$l">
+                    <node concept="2OqwBi" id="2vY7ErdhVgt" role="gfFT$">
+                      <node concept="37vLTw" id="2vY7ErdhVg_" role="2Oq$k0">
+                        <ref role="3cqZAo" node="2vY7ErdhV3Z" resolve="checkSampler" />
+                        <node concept="1ZhdrF" id="2vY7ErdhVhy" role="lGtFl">
+                          <property role="2qtEX8" value="variableDeclaration" />
+                          <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                          <node concept="3$xsQk" id="2vY7ErdhVhY" role="3$ytzL">
+                            <node concept="3clFbS" id="2vY7ErdhViv" role="2VODD2">
+                              <node concept="3clFbF" id="2vY7ErdhVj7" role="3cqZAp">
+                                <node concept="2OqwBi" id="2vY7ErdhVjs" role="3clFbG">
+                                  <node concept="1iwH7S" id="2vY7ErdhVjU" role="2Oq$k0" />
+                                  <node concept="1iwH70" id="2vY7ErdhVk6" role="2OqNvi">
+                                    <ref role="1iwH77" node="2vY7ErdhUKL" resolve="checkSampler" />
+                                    <node concept="2OqwBi" id="2vY7ErdhVkg" role="1iwH7V">
+                                      <node concept="30H73N" id="2vY7ErdhVkT" role="2Oq$k0" />
+                                      <node concept="2Xjw5R" id="2vY7ErdhVlq" role="2OqNvi">
+                                        <node concept="1xMEDy" id="2vY7ErdhVm0" role="1xVPHs">
+                                          <node concept="chp4Y" id="2vY7ErdhVmh" role="ri$Ld">
+                                            <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="liA8E" id="2vY7ErdhVmo" role="2OqNvi">
+                        <ref role="37wK5l" to="q3ut:3brRTWh$$I_" resolve="sample" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="6b9GW5_1VPH" role="3clFbx">
+              <node concept="3clFbF" id="2ja4jrFjJZp" role="3cqZAp">
+                <node concept="2YIFZM" id="2ja4jrFjJZr" role="3clFbG">
+                  <ref role="37wK5l" to="q3ut:3kMdKrGp9EQ" resolve="misuse" />
+                  <ref role="1Pybhc" to="q3ut:3kMdKrGp9bF" resolve="MisuseReporting" />
+                  <node concept="37vLTw" id="2ja4jrFjJZY" role="37wK5m">
+                    <ref role="3cqZAo" node="2ja4jrFjK2o" resolve="misuseClass" />
+                    <node concept="1ZhdrF" id="2ja4jrFjJ$5" role="lGtFl">
+                      <property role="2qtEX8" value="variableDeclaration" />
+                      <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                      <node concept="3$xsQk" id="2ja4jrFjJ$q" role="3$ytzL">
+                        <node concept="3clFbS" id="2ja4jrFjJ$U" role="2VODD2">
+                          <node concept="3clFbF" id="2ja4jrFjJ$V" role="3cqZAp">
+                            <node concept="2OqwBi" id="2ja4jrFjJ_1" role="3clFbG">
+                              <node concept="1iwH7S" id="2ja4jrFjJ_B" role="2Oq$k0" />
+                              <node concept="1iwH70" id="2ja4jrFjK0d" role="2OqNvi">
+                                <ref role="1iwH77" node="2ja4jrFjJOk" resolve="misuseClass" />
+                                <node concept="2OqwBi" id="2ja4jrFjK0N" role="1iwH7V">
+                                  <node concept="30H73N" id="2ja4jrFjK0W" role="2Oq$k0" />
+                                  <node concept="2Xjw5R" id="2ja4jrFjK15" role="2OqNvi">
+                                    <node concept="1xMEDy" id="2ja4jrFjK1f" role="1xVPHs">
+                                      <node concept="chp4Y" id="2ja4jrFjK1N" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="Xl_RD" id="6b9GW5_4XRf" role="37wK5m">
+                    <property role="Xl_RC" value="" />
+                    <node concept="17Uvod" id="6b9GW5_4Zd4" role="lGtFl">
+                      <property role="2qtEX9" value="value" />
+                      <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+                      <node concept="3zFVjK" id="6b9GW5_4Zd5" role="3zH0cK">
+                        <node concept="3clFbS" id="6b9GW5_4Zd6" role="2VODD2">
+                          <node concept="3clFbF" id="6b9GW5_4ZpG" role="3cqZAp">
+                            <node concept="2OqwBi" id="6b9GW5_4Zw6" role="3clFbG">
+                              <node concept="30H73N" id="6b9GW5_4ZpF" role="2Oq$k0" />
+                              <node concept="3TrcHB" id="6b9GW5_4Zxd" role="2OqNvi">
+                                <ref role="3TsBF5" to="3ibj:6b9GW5_4fzH" resolve="errorMessage" />
+                              </node>
+                            </node>
                           </node>
                         </node>
                       </node>
@@ -2277,10 +3552,13 @@
                 </node>
               </node>
             </node>
+            <node concept="raruj" id="6b9GW5_1VPR" role="lGtFl" />
           </node>
         </node>
+        <node concept="3cqZAl" id="2vY7ErdhV7g" role="3clF45" />
+        <node concept="3Tm1VV" id="2vY7ErdhV7h" role="1B3o_S" />
       </node>
-      <node concept="raruj" id="6b9GW5_1VPR" role="lGtFl" />
+      <node concept="3Tm1VV" id="2vY7ErdhV7T" role="1B3o_S" />
     </node>
   </node>
   <node concept="13MO4I" id="5diE_Q35cpt">
@@ -2312,6 +3590,11 @@
           <ref role="3uigEE" node="5diE_Q35cN9" resolve="Foo.Inner" />
         </node>
       </node>
+      <node concept="312cEg" id="3av8H9pGkCg" role="jymVt">
+        <property role="TrG5h" value="guardState" />
+        <node concept="3Tm6S6" id="3av8H9pGkCH" role="1B3o_S" />
+        <node concept="10Oyi0" id="3av8H9pGkDe" role="1tU5fm" />
+      </node>
       <node concept="2tJIrI" id="5diE_Q35cqZ" role="jymVt" />
       <node concept="3clFb_" id="5diE_Q35crZ" role="jymVt">
         <property role="TrG5h" value="getGuard" />
@@ -2341,7 +3624,29 @@
               <node concept="3IZrLx" id="5diE_Q35iH4" role="3IZSJc">
                 <node concept="3clFbS" id="5diE_Q35iH5" role="2VODD2">
                   <node concept="3clFbF" id="5diE_Q35iHb" role="3cqZAp">
-                    <node concept="3clFbC" id="5diE_Q35jML" role="3clFbG">
+                    <node concept="1Wc70l" id="3av8H9pGkyX" role="3clFbG">
+                      <node concept="3clFbC" id="3av8H9pGkzp" role="3uHU7w">
+                        <node concept="3cmrfG" id="3av8H9pGkzu" role="3uHU7w">
+                          <property role="3cmrfH" value="0" />
+                        </node>
+                        <node concept="2OqwBi" id="3av8H9pGkzB" role="3uHU7B">
+                          <node concept="2OqwBi" id="3av8H9pGkzY" role="2Oq$k0">
+                            <node concept="30H73N" id="3av8H9pGkAx" role="2Oq$k0" />
+                            <node concept="2Xjw5R" id="3av8H9pGkAT" role="2OqNvi">
+                              <node concept="1xMEDy" id="3av8H9pGkB4" role="1xVPHs">
+                                <node concept="chp4Y" id="3av8H9pGkBc" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="2qgKlT" id="3av8H9pGkBk" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                            <node concept="30H73N" id="3av8H9pGkBK" role="37wK5m" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3clFbC" id="5diE_Q35jML" role="3uHU7B">
                       <node concept="2OqwBi" id="5diE_Q35kFC" role="3uHU7w">
                         <node concept="1XH99k" id="5diE_Q35jRX" role="2Oq$k0">
                           <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
@@ -2357,6 +3662,7 @@
                         </node>
                       </node>
                     </node>
+                    </node>
                   </node>
                 </node>
               </node>
@@ -2443,25 +3749,125 @@
               <property role="huDt6" value="all typesystem messages" />
             </node>
           </node>
-        </node>
-        <node concept="3Tm1VV" id="5diE_Q35crw" role="1B3o_S" />
-        <node concept="10P_77" id="5diE_Q35crO" role="3clF45" />
-        <node concept="raruj" id="5diE_Q35csy" role="lGtFl">
-          <ref role="2sdACS" node="5diE_Q35b1P" resolve="guardGetter" />
-        </node>
-        <node concept="17Uvod" id="3Lb2nBsbPO5" role="lGtFl">
-          <property role="2qtEX9" value="name" />
-          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-          <node concept="3zFVjK" id="3Lb2nBsbPO8" role="3zH0cK">
-            <node concept="3clFbS" id="3Lb2nBsbPO9" role="2VODD2">
-              <node concept="3cpWs6" id="3Lb2nBsbZ2y" role="3cqZAp">
-                <node concept="3cpWs3" id="3Lb2nBsbZpq" role="3cqZAk">
-                  <node concept="2OqwBi" id="3Lb2nBsbZMU" role="3uHU7w">
-                    <node concept="30H73N" id="3Lb2nBsbZuk" role="2Oq$k0" />
-                    <node concept="3TrcHB" id="3Lb2nBsc04f" role="2OqNvi">
-                      <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
-                    </node>
-                  </node>
+          <node concept="3cpWs6" id="3av8H9pGkDk" role="3cqZAp">
+            <node concept="1eOMI4" id="3av8H9pGkDz" role="3cqZAk">
+              <node concept="3y3z36" id="3av8H9pGkE6" role="1eOMHV">
+                <node concept="3cmrfG" id="3av8H9pGkEk" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="1eOMI4" id="3av8H9pGkEE" role="3uHU7B">
+                  <node concept="pVHWs" id="3av8H9pGkEZ" role="1eOMHV">
+                    <node concept="3cmrfG" id="3av8H9pGkFc" role="3uHU7w">
+                      <property role="3cmrfH" value="1" />
+                      <node concept="17Uvod" id="3av8H9pGkFo" role="lGtFl">
+                        <property role="2qtEX9" value="value" />
+                        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                        <node concept="3zFVjK" id="3av8H9pGkFS" role="3zH0cK">
+                          <node concept="3clFbS" id="3av8H9pGkGn" role="2VODD2">
+                            <node concept="3clFbF" id="3av8H9pGkG$" role="3cqZAp">
+                              <node concept="2OqwBi" id="3av8H9pGkHq" role="3clFbG">
+                                <node concept="2OqwBi" id="3av8H9pGkHy" role="2Oq$k0">
+                                  <node concept="30H73N" id="3av8H9pGkHE" role="2Oq$k0" />
+                                  <node concept="2Xjw5R" id="3av8H9pGkIa" role="2OqNvi">
+                                    <node concept="1xMEDy" id="3av8H9pGkIN" role="1xVPHs">
+                                      <node concept="chp4Y" id="3av8H9pGkI$" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="2qgKlT" id="3av8H9pGkJ9" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                  <node concept="30H73N" id="3av8H9pGkJx" role="37wK5m" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="3av8H9pGkJP" role="3uHU7B">
+                      <ref role="3cqZAo" node="3av8H9pGkCg" resolve="guardState" />
+                      <node concept="1ZhdrF" id="3av8H9pGkKr" role="lGtFl">
+                        <property role="2qtEX8" value="variableDeclaration" />
+                        <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                        <node concept="3$xsQk" id="3av8H9pGkKy" role="3$ytzL">
+                          <node concept="3clFbS" id="3av8H9pGkKK" role="2VODD2">
+                            <node concept="3clFbF" id="3av8H9pGkLk" role="3cqZAp">
+                              <node concept="2OqwBi" id="3av8H9pGkLB" role="3clFbG">
+                                <node concept="1iwH7S" id="3av8H9pGkLC" role="2Oq$k0" />
+                                <node concept="1iwH70" id="3av8H9pGkLT" role="2OqNvi">
+                                  <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                                  <node concept="2OqwBi" id="3av8H9pGkMg" role="1iwH7V">
+                                    <node concept="30H73N" id="3av8H9pGkMM" role="2Oq$k0" />
+                                    <node concept="2Xjw5R" id="3av8H9pGkNh" role="2OqNvi">
+                                      <node concept="1xMEDy" id="3av8H9pGkNB" role="1xVPHs">
+                                        <node concept="chp4Y" id="3av8H9pGkNV" role="ri$Ld">
+                                          <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1W57fq" id="3av8H9pGkN$" role="lGtFl">
+              <node concept="3IZrLx" id="3av8H9pGkN_" role="3IZSJc">
+                <node concept="3clFbS" id="3av8H9pGkOC" role="2VODD2">
+                  <node concept="3clFbF" id="3av8H9pGkOL" role="3cqZAp">
+                    <node concept="3y3z36" id="3av8H9pGkPi" role="3clFbG">
+                      <node concept="3cmrfG" id="3av8H9pGkPy" role="3uHU7w">
+                        <property role="3cmrfH" value="0" />
+                      </node>
+                      <node concept="2OqwBi" id="3av8H9pGkPD" role="3uHU7B">
+                        <node concept="2OqwBi" id="3av8H9pGkPT" role="2Oq$k0">
+                          <node concept="30H73N" id="3av8H9pGkQu" role="2Oq$k0" />
+                          <node concept="2Xjw5R" id="3av8H9pGkQD" role="2OqNvi">
+                            <node concept="1xMEDy" id="3av8H9pGkR6" role="1xVPHs">
+                              <node concept="chp4Y" id="3av8H9pGkRp" role="ri$Ld">
+                                <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="2qgKlT" id="3av8H9pGkRv" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                          <node concept="30H73N" id="3av8H9pGkRQ" role="37wK5m" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="5diE_Q35crw" role="1B3o_S" />
+        <node concept="10P_77" id="5diE_Q35crO" role="3clF45" />
+        <node concept="raruj" id="5diE_Q35csy" role="lGtFl">
+          <ref role="2sdACS" node="5diE_Q35b1P" resolve="guardGetter" />
+        </node>
+        <node concept="17Uvod" id="3Lb2nBsbPO5" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="3Lb2nBsbPO8" role="3zH0cK">
+            <node concept="3clFbS" id="3Lb2nBsbPO9" role="2VODD2">
+              <node concept="3cpWs6" id="3Lb2nBsbZ2y" role="3cqZAp">
+                <node concept="3cpWs3" id="3Lb2nBsbZpq" role="3cqZAk">
+                  <node concept="2OqwBi" id="3Lb2nBsbZMU" role="3uHU7w">
+                    <node concept="30H73N" id="3Lb2nBsbZuk" role="2Oq$k0" />
+                    <node concept="3TrcHB" id="3Lb2nBsc04f" role="2OqNvi">
+                      <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                    </node>
+                  </node>
                   <node concept="Xl_RD" id="3Lb2nBsbZ3$" role="3uHU7B">
                     <property role="Xl_RC" value="getGuard__" />
                   </node>
@@ -2843,10 +4249,51 @@
             <node concept="3JmXsc" id="2915UUEaKFR" role="2P8S$">
               <node concept="3clFbS" id="2915UUEaKFS" role="2VODD2">
                 <node concept="3clFbF" id="2915UUEaKFT" role="3cqZAp">
-                  <node concept="2OqwBi" id="2915UUEaKFU" role="3clFbG">
-                    <node concept="30H73N" id="2915UUEaKFV" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="2915UUEaPBf" role="2OqNvi">
-                      <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                  <node concept="2OqwBi" id="3pbepyGBWeX" role="3clFbG">
+                    <node concept="2OqwBi" id="2915UUEaKFU" role="2Oq$k0">
+                      <node concept="30H73N" id="2915UUEaKFV" role="2Oq$k0" />
+                      <node concept="3Tsc0h" id="2915UUEaPBf" role="2OqNvi">
+                        <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                      </node>
+                    </node>
+                    <node concept="3zZkjj" id="3pbepyGBWfp" role="2OqNvi">
+                      <node concept="1bVj0M" id="3pbepyGBWfL" role="23t8la">
+                        <node concept="3clFbS" id="3pbepyGBWgi" role="1bW5cS">
+                          <node concept="3clFbF" id="3pbepyGBWgv" role="3cqZAp">
+                            <node concept="3fqX7Q" id="3pbepyGBWgC" role="3clFbG">
+                              <node concept="1Wc70l" id="3pbepyGBWhe" role="3fr31v">
+                                <node concept="2OqwBi" id="3pbepyGBWhj" role="3uHU7w">
+                                  <node concept="1PxgMI" id="3pbepyGBWhE" role="2Oq$k0">
+                                    <node concept="chp4Y" id="3pbepyGBWie" role="3oSUPX">
+                                      <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                    </node>
+                                    <node concept="37vLTw" id="3pbepyGBWii" role="1m5AlR">
+                                      <ref role="3cqZAo" node="3pbepyGBWkm" resolve="it" />
+                                    </node>
+                                  </node>
+                                  <node concept="2qgKlT" id="3pbepyGBWiv" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:26z__Lfqn9o" resolve="isStaticallySatisfied" />
+                                  </node>
+                                </node>
+                                <node concept="2OqwBi" id="3pbepyGBWiC" role="3uHU7B">
+                                  <node concept="37vLTw" id="3pbepyGBWjb" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="3pbepyGBWkm" resolve="it" />
+                                  </node>
+                                  <node concept="1mIQ4w" id="3pbepyGBWjH" role="2OqNvi">
+                                    <node concept="chp4Y" id="3pbepyGBWke" role="cj9EA">
+                                      <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="Rh6nW" id="3pbepyGBWkm" role="1bW2Oz">
+                          <property role="TrG5h" value="it" />
+                          <node concept="2jxLKc" id="3pbepyGBWks" role="1tU5fm" />
+                        </node>
+                      </node>
                     </node>
                   </node>
                 </node>
@@ -3491,11 +4938,52 @@
               <node concept="3JmXsc" id="7qUf9K5u9jZ" role="2P8S$">
                 <node concept="3clFbS" id="7qUf9K5u9k0" role="2VODD2">
                   <node concept="3clFbF" id="7qUf9K5u9k6" role="3cqZAp">
-                    <node concept="2OqwBi" id="7qUf9K5u9k1" role="3clFbG">
-                      <node concept="3Tsc0h" id="7qUf9K5u9k4" role="2OqNvi">
-                        <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                    <node concept="2OqwBi" id="3pbepyGBWk$" role="3clFbG">
+                      <node concept="2OqwBi" id="7qUf9K5u9k1" role="2Oq$k0">
+                        <node concept="3Tsc0h" id="7qUf9K5u9k4" role="2OqNvi">
+                          <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                        </node>
+                        <node concept="30H73N" id="7qUf9K5u9k5" role="2Oq$k0" />
+                      </node>
+                      <node concept="3zZkjj" id="3pbepyGBWlK" role="2OqNvi">
+                        <node concept="1bVj0M" id="3pbepyGBWlW" role="23t8la">
+                          <node concept="3clFbS" id="3pbepyGBWm1" role="1bW5cS">
+                            <node concept="3clFbF" id="3pbepyGBWms" role="3cqZAp">
+                              <node concept="3fqX7Q" id="3pbepyGBWmL" role="3clFbG">
+                                <node concept="1Wc70l" id="3pbepyGBWm_" role="3fr31v">
+                                  <node concept="2OqwBi" id="3pbepyGBWn0" role="3uHU7w">
+                                    <node concept="1PxgMI" id="3pbepyGBWn6" role="2Oq$k0">
+                                      <node concept="chp4Y" id="3pbepyGBWnA" role="3oSUPX">
+                                        <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                      </node>
+                                      <node concept="37vLTw" id="3pbepyGBWo7" role="1m5AlR">
+                                        <ref role="3cqZAo" node="3pbepyGBWpS" resolve="it" />
+                                      </node>
+                                    </node>
+                                    <node concept="2qgKlT" id="3pbepyGBWoo" role="2OqNvi">
+                                      <ref role="37wK5l" to="pw26:26z__Lfqn9o" resolve="isStaticallySatisfied" />
+                                    </node>
+                                  </node>
+                                  <node concept="2OqwBi" id="3pbepyGBWoN" role="3uHU7B">
+                                    <node concept="37vLTw" id="3pbepyGBWph" role="2Oq$k0">
+                                      <ref role="3cqZAo" node="3pbepyGBWpS" resolve="it" />
+                                    </node>
+                                    <node concept="1mIQ4w" id="3pbepyGBWpn" role="2OqNvi">
+                                      <node concept="chp4Y" id="3pbepyGBWpE" role="cj9EA">
+                                        <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="Rh6nW" id="3pbepyGBWpS" role="1bW2Oz">
+                            <property role="TrG5h" value="it" />
+                            <node concept="2jxLKc" id="3pbepyGBWqe" role="1tU5fm" />
+                          </node>
+                        </node>
                       </node>
-                      <node concept="30H73N" id="7qUf9K5u9k5" role="2Oq$k0" />
                     </node>
                   </node>
                 </node>
@@ -3613,6 +5101,44 @@
             </node>
           </node>
         </node>
+        <node concept="312cEg" id="2eT$YEPLlSo" role="jymVt">
+          <property role="TrG5h" value="registeredAt" />
+          <property role="3TUv4t" value="true" />
+          <node concept="3Tm6S6" id="2eT$YEPLlSI" role="1B3o_S" />
+          <node concept="3cpbJK" id="2eT$YEPLlT1" role="1tU5fm" />
+          <node concept="2YIFZM" id="2eT$YEPLlTp" role="33vP2m">
+            <ref role="37wK5l" to="wyt6:~System.nanoTime()" resolve="nanoTime" />
+            <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+          </node>
+          <node concept="1W57fq" id="2eT$YEPLlTs" role="lGtFl">
+            <node concept="3IZrLx" id="2eT$YEPLlTz" role="3IZSJc">
+              <node concept="3clFbS" id="2eT$YEPLlTW" role="2VODD2">
+                <node concept="3clFbF" id="2eT$YEPLlUj" role="3cqZAp">
+                  <node concept="1Wc70l" id="2eT$YEPLlUp" role="3clFbG">
+                    <node concept="2OqwBi" id="2eT$YEPLlUE" role="3uHU7w">
+                      <node concept="35c_gC" id="2eT$YEPLlV6" role="2Oq$k0">
+                        <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                      </node>
+                      <node concept="2qgKlT" id="2eT$YEPLlVq" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                      </node>
+                    </node>
+                    <node concept="3fqX7Q" id="2eT$YEPLlV_" role="3uHU7B">
+                      <node concept="2OqwBi" id="2eT$YEPLlW4" role="3fr31v">
+                        <node concept="35c_gC" id="2eT$YEPLlWo" role="2Oq$k0">
+                          <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                        </node>
+                        <node concept="2qgKlT" id="2eT$YEPLlWp" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
         <node concept="3Tm6S6" id="622NOWShjNg" role="1B3o_S" />
         <node concept="3uibUv" id="622NOWShlUh" role="EKbjA">
           <ref role="3uigEE" to="q3ut:3K5upD74hlY" resolve="FinalStateChecker" />
@@ -3622,14 +5148,78 @@
           <node concept="3Tm1VV" id="622NOWShm8j" role="1B3o_S" />
           <node concept="3cqZAl" id="622NOWShm8k" role="3clF45" />
           <node concept="3clFbS" id="622NOWShm8l" role="3clF47">
+            <node concept="3clFbF" id="2eT$YEPLlWP" role="3cqZAp">
+              <node concept="2OqwBi" id="2eT$YEPLlX2" role="3clFbG">
+                <node concept="37vLTw" id="2eT$YEPLlXd" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2eT$YEPLlEI" resolve="checkMetrics" />
+                </node>
+                <node concept="liA8E" id="2eT$YEPLlXK" role="2OqNvi">
+                  <ref role="37wK5l" to="q3ut:2QmWbwu4pGG" resolve="finalStateChecked" />
+                  <node concept="37vLTw" id="2eT$YEPLlXO" role="37wK5m">
+                    <ref role="3cqZAo" node="2eT$YEPLlSo" resolve="registeredAt" />
+                  </node>
+                </node>
+              </node>
+              <node concept="1W57fq" id="2eT$YEPLlXS" role="lGtFl">
+                <node concept="3IZrLx" id="2eT$YEPLlXV" role="3IZSJc">
+                  <node concept="3clFbS" id="2eT$YEPLlYn" role="2VODD2">
+                    <node concept="3clFbF" id="2eT$YEPLlYH" role="3cqZAp">
+                      <node concept="1Wc70l" id="2eT$YEPLlYR" role="3clFbG">
+                        <node concept="2OqwBi" id="2eT$YEPLlZ9" role="3uHU7w">
+                          <node concept="35c_gC" id="2eT$YEPLlZe" role="2Oq$k0">
+                            <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                          </node>
+                          <node concept="2qgKlT" id="2eT$YEPLlZw" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                          </node>
+                        </node>
+                        <node concept="3fqX7Q" id="2eT$YEPLlZC" role="3uHU7B">
+                          <node concept="2OqwBi" id="2eT$YEPLl$d" role="3fr31v">
+                            <node concept="35c_gC" id="2eT$YEPLl$v" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="2eT$YEPLl$W" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
             <node concept="3clFbJ" id="622NOWShnJ3" role="3cqZAp">
               <node concept="3clFbS" id="622NOWShnJ5" role="3clFbx">
-                <node concept="YS8fn" id="622NOWShoaq" role="3cqZAp">
-                  <node concept="2ShNRf" id="622NOWShodq" role="YScLw">
-                    <node concept="1pGfFk" id="622NOWShooB" role="2ShVmc">
-                      <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
-                      <node concept="Xl_RD" id="622NOWShoxY" role="37wK5m">
-                        <property role="Xl_RC" value="Invalid state at GC" />
+                <node concept="3clFbF" id="2ja4jrFjJVO" role="3cqZAp">
+                  <node concept="2YIFZM" id="2ja4jrFjJWd" role="3clFbG">
+                    <ref role="37wK5l" to="q3ut:3kMdKrGp9EQ" resolve="misuse" />
+                    <ref role="1Pybhc" to="q3ut:3kMdKrGp9bF" resolve="MisuseReporting" />
+                    <node concept="37vLTw" id="2ja4jrFjJWv" role="37wK5m">
+                      <ref role="3cqZAo" node="2ja4jrFjJOv" resolve="misuseClass" />
+                    </node>
+                    <node concept="Xl_RD" id="2ja4jrFjJWy" role="37wK5m">
+                      <property role="Xl_RC" value="Invalid state at GC" />
+                      <node concept="17Uvod" id="2ja4jrFjJWI" role="lGtFl">
+                        <property role="2qtEX9" value="value" />
+                        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+                        <node concept="3zFVjK" id="2ja4jrFjJX6" role="3zH0cK">
+                          <node concept="3clFbS" id="2ja4jrFjJXE" role="2VODD2">
+                            <node concept="3clFbF" id="2ja4jrFjJYe" role="3cqZAp">
+                              <node concept="3cpWs3" id="2ja4jrFjJYw" role="3clFbG">
+                                <node concept="2OqwBi" id="2ja4jrFjJYM" role="3uHU7w">
+                                  <node concept="30H73N" id="2ja4jrFjJYN" role="2Oq$k0" />
+                                  <node concept="3TrcHB" id="2ja4jrFjJYX" role="2OqNvi">
+                                    <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                                  </node>
+                                </node>
+                                <node concept="Xl_RD" id="2ja4jrFjJZh" role="3uHU7B">
+                                  <property role="Xl_RC" value="Invalid state at GC: " />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
                       </node>
                     </node>
                   </node>
@@ -3706,6 +5296,172 @@
             <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
           </node>
         </node>
+        <node concept="3clFb_" id="3DygHpg8aVA" role="jymVt">
+          <property role="TrG5h" value="recycle" />
+          <node concept="3clFbS" id="3DygHpg8aVU" role="3clF47">
+            <node concept="3clFbJ" id="3DygHpg8aJW" role="3cqZAp">
+              <node concept="3clFbS" id="3DygHpg8aKm" role="3clFbx">
+                <node concept="3clFbF" id="3DygHpg8aKX" role="3cqZAp">
+                  <node concept="2YIFZM" id="3DygHpg8aLe" role="3clFbG">
+                    <ref role="37wK5l" to="q3ut:3kMdKrGp9EQ" resolve="misuse" />
+                    <ref role="1Pybhc" to="q3ut:3kMdKrGp9bF" resolve="MisuseReporting" />
+                    <node concept="37vLTw" id="3DygHpg8aLg" role="37wK5m">
+                      <ref role="3cqZAo" node="2ja4jrFjJOv" resolve="misuseClass" />
+                    </node>
+                    <node concept="Xl_RD" id="3DygHpg8aLl" role="37wK5m">
+                      <property role="Xl_RC" value="Invalid state at recycle" />
+                      <node concept="17Uvod" id="3DygHpg8aLn" role="lGtFl">
+                        <property role="2qtEX9" value="value" />
+                        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+                        <node concept="3zFVjK" id="3DygHpg8aLS" role="3zH0cK">
+                          <node concept="3clFbS" id="3DygHpg8aL$" role="2VODD2">
+                            <node concept="3clFbF" id="3DygHpg8aMk" role="3cqZAp">
+                              <node concept="3cpWs3" id="3DygHpg8aMt" role="3clFbG">
+                                <node concept="2OqwBi" id="3DygHpg8aMC" role="3uHU7w">
+                                  <node concept="30H73N" id="3DygHpg8aNb" role="2Oq$k0" />
+                                  <node concept="3TrcHB" id="3DygHpg8aNt" role="2OqNvi">
+                                    <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                                  </node>
+                                </node>
+                                <node concept="Xl_RD" id="3DygHpg8aNW" role="3uHU7B">
+                                  <property role="Xl_RC" value="Invalid state at recycle: " />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="1WS0z7" id="3DygHpg8aOt" role="lGtFl">
+                <node concept="3JmXsc" id="3DygHpg8aON" role="3Jn$fo">
+                  <node concept="3clFbS" id="3DygHpg8aOX" role="2VODD2">
+                    <node concept="3clFbF" id="3DygHpg8aPd" role="3cqZAp">
+                      <node concept="2OqwBi" id="3DygHpg8aPq" role="3clFbG">
+                        <node concept="30H73N" id="3DygHpg8aPy" role="2Oq$k0" />
+                        <node concept="2qgKlT" id="3DygHpg8aPJ" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:3K5upD74l5C" resolve="guardsWithFinalStateCheck" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3y3z36" id="3DygHpg8aPK" role="3clFbw">
+                <node concept="37vLTw" id="3DygHpg8aPL" role="3uHU7B">
+                  <ref role="3cqZAo" node="6BZjXFigQ90" resolve="guard" />
+                  <node concept="1ZhdrF" id="3DygHpg8aQ4" role="lGtFl">
+                    <property role="2qtEX8" value="variableDeclaration" />
+                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                    <node concept="3$xsQk" id="3DygHpg8aQz" role="3$ytzL">
+                      <node concept="3clFbS" id="3DygHpg8aQS" role="2VODD2">
+                        <node concept="3clFbF" id="3DygHpg8aQ$" role="3cqZAp">
+                          <node concept="2OqwBi" id="3DygHpg8aRo" role="3clFbG">
+                            <node concept="1iwH7S" id="3DygHpg8aRz" role="2Oq$k0" />
+                            <node concept="1iwH70" id="3DygHpg8aRR" role="2OqNvi">
+                              <ref role="1iwH77" node="71jdFMa$Ckv" resolve="instanceGuardDeclarations" />
+                              <node concept="30H73N" id="3DygHpg8aS2" role="1iwH7V" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbT" id="3DygHpg8aSg" role="3uHU7w">
+                  <property role="3clFbU" value="true" />
+                  <node concept="17Uvod" id="3DygHpg8aSQ" role="lGtFl">
+                    <property role="2qtEX9" value="value" />
+                    <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                    <node concept="3zFVjK" id="3DygHpg8aTl" role="3zH0cK">
+                      <node concept="3clFbS" id="3DygHpg8aTn" role="2VODD2">
+                        <node concept="3clFbF" id="3DygHpg8aTu" role="3cqZAp">
+                          <node concept="3clFbC" id="3DygHpg8aT$" role="3clFbG">
+                            <node concept="2OqwBi" id="3DygHpg8aUb" role="3uHU7w">
+                              <node concept="1XH99k" id="3DygHpg8aUd" role="2Oq$k0">
+                                <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
+                              </node>
+                              <node concept="2ViDtV" id="3DygHpg8aUp" role="2OqNvi">
+                                <ref role="2ViDtZ" to="3ibj:3K5upD74dsV" resolve="set" />
+                              </node>
+                            </node>
+                            <node concept="2OqwBi" id="3DygHpg8aUE" role="3uHU7B">
+                              <node concept="30H73N" id="3DygHpg8aUO" role="2Oq$k0" />
+                              <node concept="3TrcHB" id="3DygHpg8aVc" role="2OqNvi">
+                                <ref role="3TsBF5" to="3ibj:3K5upD74dt2" resolve="finalizedState" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3DygHpg8aWh" role="3cqZAp">
+              <node concept="37vLTI" id="3DygHpg8aWB" role="3clFbG">
+                <node concept="3clFbT" id="3DygHpg8aWL" role="37vLTx">
+                  <property role="3clFbU" value="false" />
+                  <node concept="17Uvod" id="3DygHpg8aX1" role="lGtFl">
+                    <property role="2qtEX9" value="value" />
+                    <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                    <node concept="3zFVjK" id="3DygHpg8aXf" role="3zH0cK">
+                      <node concept="3clFbS" id="3DygHpg8aXz" role="2VODD2">
+                        <node concept="3clFbF" id="3DygHpg8aXS" role="3cqZAp">
+                          <node concept="2OqwBi" id="3DygHpg8aXV" role="3clFbG">
+                            <node concept="30H73N" id="3DygHpg8aYl" role="2Oq$k0" />
+                            <node concept="3TrcHB" id="3DygHpg8aYZ" role="2OqNvi">
+                              <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3DygHpg8aZx" role="37vLTJ">
+                  <ref role="3cqZAo" node="6BZjXFigQ90" resolve="guard" />
+                  <node concept="1ZhdrF" id="3DygHpg8aZQ" role="lGtFl">
+                    <property role="2qtEX8" value="variableDeclaration" />
+                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                    <node concept="3$xsQk" id="3DygHpg8aZ_" role="3$ytzL">
+                      <node concept="3clFbS" id="3DygHpg8a$q" role="2VODD2">
+                        <node concept="3clFbF" id="3DygHpg8a$V" role="3cqZAp">
+                          <node concept="2OqwBi" id="3DygHpg8a$W" role="3clFbG">
+                            <node concept="1iwH7S" id="3DygHpg8a_q" role="2Oq$k0" />
+                            <node concept="1iwH70" id="3DygHpg8b01" role="2OqNvi">
+                              <ref role="1iwH77" node="71jdFMa$Ckv" resolve="instanceGuardDeclarations" />
+                              <node concept="30H73N" id="3DygHpg8b0g" role="1iwH7V" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="1WS0z7" id="3DygHpg8b0w" role="lGtFl">
+                <node concept="3JmXsc" id="3DygHpg8b0B" role="3Jn$fo">
+                  <node concept="3clFbS" id="3DygHpg8b0M" role="2VODD2">
+                    <node concept="3clFbF" id="3DygHpg8b0U" role="3cqZAp">
+                      <node concept="2OqwBi" id="3DygHpg8b1u" role="3clFbG">
+                        <node concept="30H73N" id="3DygHpg8b1E" role="2Oq$k0" />
+                        <node concept="2qgKlT" id="3DygHpg8b29" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:3K5upD74l5C" resolve="guardsWithFinalStateCheck" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cqZAl" id="3DygHpg8b2J" role="3clF45" />
+          <node concept="3Tm1VV" id="3DygHpg8b2K" role="1B3o_S" />
+        </node>
         <node concept="1W57fq" id="622NOWSjpcR" role="lGtFl">
           <node concept="3IZrLx" id="622NOWSjpcU" role="3IZSJc">
             <node concept="3clFbS" id="622NOWSjpcV" role="2VODD2">
@@ -3721,197 +5477,178 @@
           </node>
         </node>
       </node>
-      <node concept="312cEg" id="622NOWShhxQ" role="jymVt">
-        <property role="TrG5h" value="checker" />
+      <node concept="Wx3nA" id="2vY7ErdhULy" role="jymVt">
+        <property role="TrG5h" value="checkSampler" />
         <property role="3TUv4t" value="true" />
-        <node concept="3Tm6S6" id="622NOWShhxR" role="1B3o_S" />
-        <node concept="3uibUv" id="622NOWShlwO" role="1tU5fm">
-          <ref role="3uigEE" node="622NOWShkkt" resolve="_StateChecker" />
+        <node concept="3Tm6S6" id="2vY7ErdhULH" role="1B3o_S" />
+        <node concept="3uibUv" id="2vY7ErdhULK" role="1tU5fm">
+          <ref role="3uigEE" to="q3ut:3brRTWh$$hJ" resolve="CheckSampler" />
         </node>
-        <node concept="2ShNRf" id="622NOWShhxT" role="33vP2m">
-          <node concept="HV5vD" id="622NOWShhxU" role="2ShVmc">
-            <ref role="HV5vE" node="622NOWShkkt" resolve="_StateChecker" />
+        <node concept="2YIFZM" id="2vY7ErdhUMj" role="33vP2m">
+          <ref role="37wK5l" to="q3ut:3brRTWh$$YE" resolve="forKey" />
+          <ref role="1Pybhc" to="q3ut:3brRTWh$$OI" resolve="CheckSampling" />
+          <node concept="2OqwBi" id="2vY7ErdhUMy" role="37wK5m">
+            <node concept="3VsKOn" id="2vY7ErdhUM_" role="2Oq$k0">
+              <ref role="3VsUkX" node="622NOWSgWpL" resolve="reduce_VerifiedClass" />
+            </node>
+            <node concept="liA8E" id="2vY7ErdhUN7" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+            </node>
           </node>
         </node>
-        <node concept="17Uvod" id="622NOWShhxV" role="lGtFl">
+        <node concept="17Uvod" id="2vY7ErdhUNj" role="lGtFl">
           <property role="2qtEX9" value="name" />
           <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-          <node concept="3zFVjK" id="622NOWShhxW" role="3zH0cK">
-            <node concept="3clFbS" id="622NOWShhxX" role="2VODD2">
-              <node concept="3clFbF" id="622NOWShhxY" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWShhxZ" role="3clFbG">
-                  <node concept="1iwH7S" id="622NOWShhy0" role="2Oq$k0" />
-                  <node concept="2piZGk" id="622NOWShhy1" role="2OqNvi">
-                    <node concept="Xl_RD" id="622NOWShhy2" role="2piZGb">
-                      <property role="Xl_RC" value="checker" />
+          <node concept="3zFVjK" id="2vY7ErdhUNB" role="3zH0cK">
+            <node concept="3clFbS" id="2vY7ErdhUOc" role="2VODD2">
+              <node concept="3clFbF" id="2vY7ErdhUOM" role="3cqZAp">
+                <node concept="2OqwBi" id="2vY7ErdhUPh" role="3clFbG">
+                  <node concept="1iwH7S" id="2vY7ErdhUPt" role="2Oq$k0" />
+                  <node concept="2piZGk" id="2vY7ErdhUP_" role="2OqNvi">
+                    <node concept="Xl_RD" id="2vY7ErdhUQy" role="2piZGb">
+                      <property role="Xl_RC" value="checkSampler" />
                     </node>
-                    <node concept="30H73N" id="622NOWShhy3" role="2pr8EU" />
+                    <node concept="30H73N" id="2vY7ErdhUQY" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1W57fq" id="622NOWSjpBN" role="lGtFl">
-          <node concept="3IZrLx" id="622NOWSjpBO" role="3IZSJc">
-            <node concept="3clFbS" id="622NOWSjpBP" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99RaWX" role="3cqZAp">
-                <node concept="2OqwBi" id="HN1h99RaWY" role="3clFbG">
-                  <node concept="30H73N" id="HN1h99RaWZ" role="2Oq$k0" />
-                  <node concept="2qgKlT" id="HN1h99RaX0" role="2OqNvi">
-                    <ref role="37wK5l" to="pw26:HN1h99Qucn" resolve="needsFinalStateChecks" />
+        <node concept="1W57fq" id="2vY7ErdhURq" role="lGtFl">
+          <node concept="3IZrLx" id="2vY7ErdhURw" role="3IZSJc">
+            <node concept="3clFbS" id="2vY7ErdhURV" role="2VODD2">
+              <node concept="3clFbF" id="2vY7ErdhUSj" role="3cqZAp">
+                <node concept="3fqX7Q" id="2vY7ErdhUSl" role="3clFbG">
+                  <node concept="2OqwBi" id="2vY7ErdhUSH" role="3fr31v">
+                    <node concept="35c_gC" id="2vY7ErdhUSL" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="2vY7ErdhUTa" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="2ZBi8u" id="622NOWShhy4" role="lGtFl">
-          <ref role="2rW$FS" node="5diE_Q35hAH" resolve="stateChecker" />
+        <node concept="2ZBi8u" id="2vY7ErdhUTH" role="lGtFl">
+          <ref role="2rW$FS" node="2vY7ErdhUKL" resolve="checkSampler" />
         </node>
       </node>
-      <node concept="3KIgzJ" id="622NOWShfDZ" role="jymVt">
-        <node concept="3clFbS" id="622NOWShfE0" role="3KIlGz">
-          <node concept="3clFbF" id="622NOWShfE1" role="3cqZAp">
-            <node concept="2YIFZM" id="622NOWShfE2" role="3clFbG">
-              <ref role="1Pybhc" to="q3ut:3K5upD74g3Z" resolve="FinalizedStateChecks" />
-              <ref role="37wK5l" to="q3ut:3K5upD74hxe" resolve="registerObject" />
-              <node concept="Xjq3P" id="622NOWShfE3" role="37wK5m" />
-              <node concept="37vLTw" id="622NOWShlIU" role="37wK5m">
-                <ref role="3cqZAo" node="622NOWShhxQ" resolve="checker" />
+      <node concept="Wx3nA" id="2ja4jrFjJOv" role="jymVt">
+        <property role="TrG5h" value="misuseClass" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="2ja4jrFjJOB" role="1B3o_S" />
+        <node concept="17QB3L" id="2ja4jrFjJO_" role="1tU5fm" />
+        <node concept="2OqwBi" id="2ja4jrFjJPz" role="33vP2m">
+          <node concept="3VsKOn" id="2ja4jrFjJPQ" role="2Oq$k0">
+            <ref role="3VsUkX" node="622NOWSgWpL" resolve="reduce_VerifiedClass" />
+          </node>
+          <node concept="liA8E" id="2ja4jrFjJQr" role="2OqNvi">
+            <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+          </node>
+        </node>
+        <node concept="17Uvod" id="2ja4jrFjJQ$" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="2ja4jrFjJRA" role="3zH0cK">
+            <node concept="3clFbS" id="2ja4jrFjJS5" role="2VODD2">
+              <node concept="3clFbF" id="2ja4jrFjJSd" role="3cqZAp">
+                <node concept="2OqwBi" id="2ja4jrFjJSj" role="3clFbG">
+                  <node concept="1iwH7S" id="2ja4jrFjJSq" role="2Oq$k0" />
+                  <node concept="2piZGk" id="2ja4jrFjJSW" role="2OqNvi">
+                    <node concept="Xl_RD" id="2ja4jrFjJSZ" role="2piZGb">
+                      <property role="Xl_RC" value="misuseClass" />
+                    </node>
+                    <node concept="30H73N" id="2ja4jrFjJTt" role="2pr8EU" />
+                  </node>
+                </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1W57fq" id="622NOWShfE5" role="lGtFl">
-          <node concept="3IZrLx" id="622NOWShfE6" role="3IZSJc">
-            <node concept="3clFbS" id="622NOWShfE7" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99Rb2t" role="3cqZAp">
-                <node concept="2OqwBi" id="HN1h99Rb2u" role="3clFbG">
-                  <node concept="30H73N" id="HN1h99Rb2v" role="2Oq$k0" />
-                  <node concept="2qgKlT" id="HN1h99Rb2w" role="2OqNvi">
-                    <ref role="37wK5l" to="pw26:HN1h99Qucn" resolve="needsFinalStateChecks" />
+        <node concept="1W57fq" id="2ja4jrFjJTw" role="lGtFl">
+          <node concept="3IZrLx" id="2ja4jrFjJTz" role="3IZSJc">
+            <node concept="3clFbS" id="2ja4jrFjJTT" role="2VODD2">
+              <node concept="3clFbF" id="2ja4jrFjJTZ" role="3cqZAp">
+                <node concept="3fqX7Q" id="2ja4jrFjJU3" role="3clFbG">
+                  <node concept="2OqwBi" id="2ja4jrFjJUx" role="3fr31v">
+                    <node concept="35c_gC" id="2ja4jrFjJUM" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="2ja4jrFjJUY" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
+        <node concept="2ZBi8u" id="2ja4jrFjJVz" role="lGtFl">
+          <ref role="2rW$FS" node="2ja4jrFjJOk" resolve="misuseClass" />
+        </node>
       </node>
-      <node concept="2tJIrI" id="622NOWShet7" role="jymVt" />
-      <node concept="2tJIrI" id="622NOWSgZ0W" role="jymVt">
-        <node concept="2b32R4" id="622NOWSgZ0X" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSgZ0Y" role="2P8S$">
-            <node concept="3clFbS" id="622NOWSgZ0Z" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSgZ10" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSgZ11" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWSgZ12" role="2Oq$k0">
-                    <node concept="30H73N" id="622NOWSgZ13" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="622NOWSgZ14" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+      <node concept="Wx3nA" id="2eT$YEPLlEI" role="jymVt">
+        <property role="TrG5h" value="checkMetrics" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="2eT$YEPLlF4" role="1B3o_S" />
+        <node concept="3uibUv" id="2eT$YEPLlFm" role="1tU5fm">
+          <ref role="3uigEE" to="q3ut:2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+        </node>
+        <node concept="2YIFZM" id="2eT$YEPLlFZ" role="33vP2m">
+          <ref role="37wK5l" to="q3ut:2QmWbwu4qDK" resolve="forClass" />
+          <ref role="1Pybhc" to="q3ut:2QmWbwu4qv2" resolve="CheckMetrics" />
+          <node concept="2OqwBi" id="2eT$YEPLlGg" role="37wK5m">
+            <node concept="3VsKOn" id="2eT$YEPLlGT" role="2Oq$k0">
+              <ref role="3VsUkX" node="622NOWSgWpL" resolve="reduce_VerifiedClass" />
+            </node>
+            <node concept="liA8E" id="2eT$YEPLlHs" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+            </node>
+          </node>
+        </node>
+        <node concept="17Uvod" id="2eT$YEPLlHv" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="2eT$YEPLlHR" role="3zH0cK">
+            <node concept="3clFbS" id="2eT$YEPLlIc" role="2VODD2">
+              <node concept="3clFbF" id="2eT$YEPLlIh" role="3cqZAp">
+                <node concept="2OqwBi" id="2eT$YEPLlIs" role="3clFbG">
+                  <node concept="1iwH7S" id="2eT$YEPLlIN" role="2Oq$k0" />
+                  <node concept="2piZGk" id="2eT$YEPLlJo" role="2OqNvi">
+                    <node concept="Xl_RD" id="2eT$YEPLlJL" role="2piZGb">
+                      <property role="Xl_RC" value="checkMetrics" />
                     </node>
+                    <node concept="30H73N" id="2eT$YEPLlK8" role="2pr8EU" />
                   </node>
-                  <node concept="3zZkjj" id="622NOWSgZ15" role="2OqNvi">
-                    <node concept="1bVj0M" id="622NOWSgZ16" role="23t8la">
-                      <node concept="3clFbS" id="622NOWSgZ17" role="1bW5cS">
-                        <node concept="3clFbJ" id="HN1h99R6W3" role="3cqZAp">
-                          <node concept="3clFbS" id="HN1h99R6W5" role="3clFbx">
-                            <node concept="3cpWs6" id="HN1h99R9sL" role="3cqZAp">
-                              <node concept="3clFbT" id="HN1h99R9th" role="3cqZAk" />
-                            </node>
-                          </node>
-                          <node concept="1Wc70l" id="HN1h99R8u9" role="3clFbw">
-                            <node concept="2OqwBi" id="HN1h99R7pz" role="3uHU7B">
-                              <node concept="37vLTw" id="HN1h99R72f" role="2Oq$k0">
-                                <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
-                              </node>
-                              <node concept="1mIQ4w" id="HN1h99R7Zh" role="2OqNvi">
-                                <node concept="chp4Y" id="HN1h99R859" role="cj9EA">
-                                  <ref role="cht4Q" to="3ibj:HN1h99Q$dl" resolve="JGuardSpecific" />
-                                </node>
-                              </node>
-                            </node>
-                            <node concept="2OqwBi" id="HN1h99R8$q" role="3uHU7w">
-                              <node concept="35c_gC" id="HN1h99R8$r" role="2Oq$k0">
-                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-                              </node>
-                              <node concept="2qgKlT" id="HN1h99R8$s" role="2OqNvi">
-                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
-                              </node>
-                            </node>
-                          </node>
-                        </node>
-                        <node concept="3clFbJ" id="622NOWSgZ18" role="3cqZAp">
-                          <node concept="3clFbS" id="622NOWSgZ19" role="3clFbx">
-                            <node concept="3cpWs6" id="622NOWSgZ1a" role="3cqZAp">
-                              <node concept="3clFbC" id="622NOWSgZ1b" role="3cqZAk">
-                                <node concept="2OqwBi" id="622NOWSgZ1c" role="3uHU7w">
-                                  <node concept="1XH99k" id="622NOWSgZ1d" role="2Oq$k0">
-                                    <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
-                                  </node>
-                                  <node concept="2ViDtV" id="622NOWSgZ1e" role="2OqNvi">
-                                    <ref role="2ViDtZ" to="3ibj:3K5upD74dsU" resolve="ignore" />
-                                  </node>
-                                </node>
-                                <node concept="2OqwBi" id="622NOWSgZ1f" role="3uHU7B">
-                                  <node concept="1PxgMI" id="622NOWSgZ1g" role="2Oq$k0">
-                                    <node concept="chp4Y" id="622NOWSgZ1h" role="3oSUPX">
-                                      <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
-                                    </node>
-                                    <node concept="37vLTw" id="622NOWSgZ1i" role="1m5AlR">
-                                      <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
-                                    </node>
-                                  </node>
-                                  <node concept="3TrcHB" id="622NOWSgZ1j" role="2OqNvi">
-                                    <ref role="3TsBF5" to="3ibj:3K5upD74dt2" resolve="finalizedState" />
-                                  </node>
-                                </node>
-                              </node>
-                            </node>
-                          </node>
-                          <node concept="2OqwBi" id="622NOWSgZ1k" role="3clFbw">
-                            <node concept="37vLTw" id="622NOWSgZ1l" role="2Oq$k0">
-                              <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
-                            </node>
-                            <node concept="1mIQ4w" id="622NOWSgZ1m" role="2OqNvi">
-                              <node concept="chp4Y" id="622NOWSgZ1n" role="cj9EA">
-                                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
-                              </node>
-                            </node>
-                          </node>
-                        </node>
-                        <node concept="3cpWs6" id="622NOWSgZ1o" role="3cqZAp">
-                          <node concept="1Wc70l" id="622NOWSgZ1p" role="3cqZAk">
-                            <node concept="3fqX7Q" id="622NOWSgZ1q" role="3uHU7w">
-                              <node concept="2OqwBi" id="622NOWSgZ1r" role="3fr31v">
-                                <node concept="37vLTw" id="622NOWSgZ1s" role="2Oq$k0">
-                                  <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
-                                </node>
-                                <node concept="1mIQ4w" id="622NOWSgZ1t" role="2OqNvi">
-                                  <node concept="chp4Y" id="622NOWSgZ1u" role="cj9EA">
-                                    <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
-                                  </node>
-                                </node>
-                              </node>
-                            </node>
-                            <node concept="3fqX7Q" id="622NOWSgZ1v" role="3uHU7B">
-                              <node concept="2OqwBi" id="622NOWSgZ1w" role="3fr31v">
-                                <node concept="37vLTw" id="622NOWSgZ1x" role="2Oq$k0">
-                                  <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
-                                </node>
-                                <node concept="1mIQ4w" id="622NOWSgZ1y" role="2OqNvi">
-                                  <node concept="chp4Y" id="622NOWSgZ1z" role="cj9EA">
-                                    <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
-                                  </node>
-                                </node>
-                              </node>
-                            </node>
-                          </node>
-                        </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1W57fq" id="2eT$YEPLlKj" role="lGtFl">
+          <node concept="3IZrLx" id="2eT$YEPLlKO" role="3IZSJc">
+            <node concept="3clFbS" id="2eT$YEPLlKZ" role="2VODD2">
+              <node concept="3clFbF" id="2eT$YEPLlLb" role="3cqZAp">
+                <node concept="1Wc70l" id="2eT$YEPLlLp" role="3clFbG">
+                  <node concept="2OqwBi" id="2eT$YEPLlLN" role="3uHU7w">
+                    <node concept="35c_gC" id="2eT$YEPLlMl" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="2eT$YEPLlMG" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                    </node>
+                  </node>
+                  <node concept="3fqX7Q" id="2eT$YEPLlMH" role="3uHU7B">
+                    <node concept="2OqwBi" id="2eT$YEPLlMJ" role="3fr31v">
+                      <node concept="35c_gC" id="2eT$YEPLlN9" role="2Oq$k0">
+                        <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
                       </node>
-                      <node concept="Rh6nW" id="622NOWSgZ1$" role="1bW2Oz">
-                        <property role="TrG5h" value="it" />
-                        <node concept="2jxLKc" id="622NOWSgZ1_" role="1tU5fm" />
+                      <node concept="2qgKlT" id="2eT$YEPLlNn" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                       </node>
                     </node>
                   </node>
@@ -3920,18 +5657,51 @@
             </node>
           </node>
         </node>
+        <node concept="2ZBi8u" id="2eT$YEPLlNP" role="lGtFl">
+          <ref role="2rW$FS" node="2eT$YEPLlEh" resolve="checkMetrics" />
+        </node>
       </node>
-      <node concept="2tJIrI" id="622NOWSh1Ad" role="jymVt">
-        <node concept="1W57fq" id="HN1h99R2FY" role="lGtFl">
-          <node concept="3IZrLx" id="HN1h99R2G1" role="3IZSJc">
-            <node concept="3clFbS" id="HN1h99R2G2" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99R6fn" role="3cqZAp">
-                <node concept="3fqX7Q" id="HN1h99R6fo" role="3clFbG">
-                  <node concept="2OqwBi" id="HN1h99R6fp" role="3fr31v">
-                    <node concept="35c_gC" id="HN1h99R6fq" role="2Oq$k0">
+      <node concept="Wx3nA" id="3Oe$NgNANr9" role="jymVt">
+        <property role="TrG5h" value="verifiedProtocol" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3Oe$NgNANrb" role="1B3o_S" />
+        <node concept="17QB3L" id="3Oe$NgNANrN" role="1tU5fm" />
+        <node concept="Xl_RD" id="3Oe$NgNANs7" role="33vP2m">
+          <property role="Xl_RC" value="" />
+          <node concept="17Uvod" id="3Oe$NgNANsd" role="lGtFl">
+            <property role="2qtEX9" value="value" />
+            <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+            <node concept="3zFVjK" id="3Oe$NgNANst" role="3zH0cK">
+              <node concept="3clFbS" id="3Oe$NgNANsF" role="2VODD2">
+                <node concept="3clFbF" id="3Oe$NgNANtf" role="3cqZAp">
+                  <node concept="2YIFZM" id="3Oe$NgNANtg" role="3clFbG">
+                    <ref role="37wK5l" to="wyt6:~String.join(java.lang.CharSequence,java.lang.Iterable)" resolve="join" />
+                    <ref role="1Pybhc" to="wyt6:~String" resolve="String" />
+                    <node concept="Xl_RD" id="3Oe$NgNANtM" role="37wK5m">
+                      <property role="Xl_RC" value=";" />
+                    </node>
+                    <node concept="2OqwBi" id="3Oe$NgNANt_" role="37wK5m">
+                      <node concept="30H73N" id="3Oe$NgNANu3" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3Oe$NgNANup" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:2ZoeAXTjRkI" resolve="protocol" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1W57fq" id="3Oe$NgNANur" role="lGtFl">
+          <node concept="3IZrLx" id="3Oe$NgNANuE" role="3IZSJc">
+            <node concept="3clFbS" id="3Oe$NgNANuW" role="2VODD2">
+              <node concept="3clFbF" id="3Oe$NgNANv8" role="3cqZAp">
+                <node concept="3fqX7Q" id="3Oe$NgNANvs" role="3clFbG">
+                  <node concept="2OqwBi" id="3Oe$NgNANvQ" role="3fr31v">
+                    <node concept="35c_gC" id="3Oe$NgNANw8" role="2Oq$k0">
                       <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
                     </node>
-                    <node concept="2qgKlT" id="HN1h99R6fr" role="2OqNvi">
+                    <node concept="2qgKlT" id="3Oe$NgNANwb" role="2OqNvi">
                       <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                     </node>
                   </node>
@@ -3940,20 +5710,24 @@
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="622NOWSh1KU" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSh1KX" role="3Jn$fo">
-            <node concept="3clFbS" id="622NOWSh1KY" role="2VODD2">
-              <node concept="3clFbF" id="622NOWShcWW" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWShcWX" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWShcWY" role="2Oq$k0">
-                    <node concept="30H73N" id="622NOWShcWZ" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="622NOWShcX0" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                    </node>
-                  </node>
-                  <node concept="v3k3i" id="622NOWShcX1" role="2OqNvi">
-                    <node concept="chp4Y" id="622NOWShcX2" role="v3oSu">
-                      <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+      </node>
+      <node concept="Wx3nA" id="30HsgFIsO6T" role="jymVt">
+        <property role="TrG5h" value="verifiedSpecification" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="30HsgFIsO7q" role="1B3o_S" />
+        <node concept="17QB3L" id="30HsgFIsO7H" role="1tU5fm" />
+        <node concept="Xl_RD" id="30HsgFIsO83" role="33vP2m">
+          <property role="Xl_RC" value="" />
+          <node concept="17Uvod" id="30HsgFIsO8j" role="lGtFl">
+            <property role="2qtEX9" value="value" />
+            <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+            <node concept="3zFVjK" id="30HsgFIsO8B" role="3zH0cK">
+              <node concept="3clFbS" id="30HsgFIsO8K" role="2VODD2">
+                <node concept="3clFbF" id="30HsgFIsO8S" role="3cqZAp">
+                  <node concept="2OqwBi" id="30HsgFIsO9r" role="3clFbG">
+                    <node concept="30H73N" id="30HsgFIsO9t" role="2Oq$k0" />
+                    <node concept="2qgKlT" id="30HsgFIsO9D" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:3rusWXb8Zt2" resolve="specification" />
                     </node>
                   </node>
                 </node>
@@ -3961,21 +5735,16 @@
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="622NOWSh1Ae" role="lGtFl">
-          <ref role="v9R2y" node="5diE_Q35cpt" resolve="reduce_GuardDeclaration_Getter" />
-        </node>
-      </node>
-      <node concept="2tJIrI" id="622NOWSh25j" role="jymVt">
-        <node concept="1W57fq" id="HN1h99R2NA" role="lGtFl">
-          <node concept="3IZrLx" id="HN1h99R2ND" role="3IZSJc">
-            <node concept="3clFbS" id="HN1h99R2NE" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99R69H" role="3cqZAp">
-                <node concept="3fqX7Q" id="HN1h99R69I" role="3clFbG">
-                  <node concept="2OqwBi" id="HN1h99R69J" role="3fr31v">
-                    <node concept="35c_gC" id="HN1h99R69K" role="2Oq$k0">
+        <node concept="1W57fq" id="30HsgFIsOa5" role="lGtFl">
+          <node concept="3IZrLx" id="30HsgFIsOal" role="3IZSJc">
+            <node concept="3clFbS" id="30HsgFIsOaC" role="2VODD2">
+              <node concept="3clFbF" id="30HsgFIsOaT" role="3cqZAp">
+                <node concept="3fqX7Q" id="30HsgFIsOb5" role="3clFbG">
+                  <node concept="2OqwBi" id="30HsgFIsObm" role="3fr31v">
+                    <node concept="35c_gC" id="30HsgFIsObN" role="2Oq$k0">
                       <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
                     </node>
-                    <node concept="2qgKlT" id="HN1h99R69L" role="2OqNvi">
+                    <node concept="2qgKlT" id="30HsgFIsOch" role="2OqNvi">
                       <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                     </node>
                   </node>
@@ -3984,52 +5753,116 @@
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="622NOWSh2PA" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSh2PD" role="3Jn$fo">
-            <node concept="3clFbS" id="622NOWSh2PE" role="2VODD2">
-              <node concept="3clFbF" id="622NOWShcJY" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWShcJZ" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWShcK0" role="2Oq$k0">
-                    <node concept="30H73N" id="622NOWShcK1" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="622NOWShcK2" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                    </node>
-                  </node>
-                  <node concept="v3k3i" id="622NOWShcK3" role="2OqNvi">
-                    <node concept="chp4Y" id="622NOWShcK4" role="v3oSu">
-                      <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+      </node>
+      <node concept="312cEg" id="39DcfeU18dQ" role="jymVt">
+        <property role="TrG5h" value="owner" />
+        <node concept="3Tm6S6" id="39DcfeU18e0" role="1B3o_S" />
+        <node concept="3uibUv" id="39DcfeU18et" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+        <node concept="17Uvod" id="39DcfeU18eZ" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="39DcfeU18fw" role="3zH0cK">
+            <node concept="3clFbS" id="39DcfeU18fJ" role="2VODD2">
+              <node concept="3clFbF" id="39DcfeU18g3" role="3cqZAp">
+                <node concept="2OqwBi" id="39DcfeU18go" role="3clFbG">
+                  <node concept="1iwH7S" id="39DcfeU18gS" role="2Oq$k0" />
+                  <node concept="2piZGk" id="39DcfeU18gZ" role="2OqNvi">
+                    <node concept="Xl_RD" id="39DcfeU18ha" role="2piZGb">
+                      <property role="Xl_RC" value="owner" />
                     </node>
+                    <node concept="30H73N" id="39DcfeU18hn" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="622NOWSh25k" role="lGtFl">
-          <ref role="v9R2y" node="xJb$LDJP_W" resolve="reduce_VerifiedMethod_PreconditionAndBody" />
-          <node concept="2OqwBi" id="622NOWSh25l" role="v9R3O">
-            <node concept="2OqwBi" id="622NOWSh25m" role="2Oq$k0">
-              <node concept="30H73N" id="622NOWSh25n" role="2Oq$k0" />
-              <node concept="3Tsc0h" id="622NOWSheb7" role="2OqNvi">
-                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+        <node concept="1W57fq" id="39DcfeU18hN" role="lGtFl">
+          <node concept="3IZrLx" id="39DcfeU18ik" role="3IZSJc">
+            <node concept="3clFbS" id="39DcfeU18iH" role="2VODD2">
+              <node concept="3clFbF" id="39DcfeU18iP" role="3cqZAp">
+                <node concept="1Wc70l" id="39DcfeU18je" role="3clFbG">
+                  <node concept="2OqwBi" id="39DcfeU18jF" role="3uHU7w">
+                    <node concept="30H73N" id="39DcfeU18jY" role="2Oq$k0" />
+                    <node concept="2qgKlT" id="39DcfeU18kg" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:3RJrI244l4d" resolve="isThreadConfined" />
+                    </node>
+                  </node>
+                  <node concept="3fqX7Q" id="39DcfeU18kz" role="3uHU7B">
+                    <node concept="2OqwBi" id="39DcfeU18kJ" role="3fr31v">
+                      <node concept="35c_gC" id="39DcfeU18l7" role="2Oq$k0">
+                        <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                      </node>
+                      <node concept="2qgKlT" id="39DcfeU18li" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
               </node>
             </node>
-            <node concept="3GX2aA" id="622NOWSh25p" role="2OqNvi" />
           </node>
         </node>
       </node>
-      <node concept="2tJIrI" id="622NOWSh34C" role="jymVt">
-        <node concept="1W57fq" id="HN1h99R2Up" role="lGtFl">
-          <node concept="3IZrLx" id="HN1h99R2Us" role="3IZSJc">
-            <node concept="3clFbS" id="HN1h99R2Ut" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99R64m" role="3cqZAp">
-                <node concept="3fqX7Q" id="HN1h99R64n" role="3clFbG">
-                  <node concept="2OqwBi" id="HN1h99R64o" role="3fr31v">
-                    <node concept="35c_gC" id="HN1h99R64p" role="2Oq$k0">
-                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+      <node concept="3clFb_" id="39DcfeU18lk" role="jymVt">
+        <property role="TrG5h" value="checkConfinement" />
+        <node concept="3clFbS" id="39DcfeU18lY" role="3clF47">
+          <node concept="3cpWs8" id="39DcfeU18m6" role="3cqZAp">
+            <node concept="3cpWsn" id="39DcfeU18mm" role="3cpWs9">
+              <property role="TrG5h" value="current" />
+              <node concept="3uibUv" id="39DcfeU18mA" role="1tU5fm">
+                <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+              </node>
+              <node concept="2YIFZM" id="39DcfeU18mD" role="33vP2m">
+                <ref role="37wK5l" to="wyt6:~Thread.currentThread()" resolve="currentThread" />
+                <ref role="1Pybhc" to="wyt6:~Thread" resolve="Thread" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="39DcfeU18n1" role="3cqZAp">
+            <node concept="3clFbC" id="39DcfeU18ne" role="3clFbw">
+              <node concept="10Nm6u" id="39DcfeU18nm" role="3uHU7w" />
+              <node concept="37vLTw" id="39DcfeU18nZ" role="3uHU7B">
+                <ref role="3cqZAo" node="39DcfeU18dQ" resolve="owner" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="39DcfeU18o9" role="3clFbx">
+              <node concept="3clFbF" id="39DcfeU18ob" role="3cqZAp">
+                <node concept="37vLTI" id="39DcfeU18oP" role="3clFbG">
+                  <node concept="37vLTw" id="39DcfeU18pm" role="37vLTx">
+                    <ref role="3cqZAo" node="39DcfeU18mm" resolve="current" />
+                  </node>
+                  <node concept="37vLTw" id="39DcfeU18pJ" role="37vLTJ">
+                    <ref role="3cqZAo" node="39DcfeU18dQ" resolve="owner" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="9aQIb" id="39DcfeU18q9" role="9aQIa">
+              <node concept="3clFbS" id="39DcfeU18qM" role="9aQI4">
+                <node concept="3clFbJ" id="39DcfeU18q$" role="3cqZAp">
+                  <node concept="3y3z36" id="39DcfeU18rm" role="3clFbw">
+                    <node concept="37vLTw" id="39DcfeU18rQ" role="3uHU7w">
+                      <ref role="3cqZAo" node="39DcfeU18mm" resolve="current" />
                     </node>
-                    <node concept="2qgKlT" id="HN1h99R64q" role="2OqNvi">
-                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    <node concept="37vLTw" id="39DcfeU18sd" role="3uHU7B">
+                      <ref role="3cqZAo" node="39DcfeU18dQ" resolve="owner" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="39DcfeU18sj" role="3clFbx">
+                    <node concept="3clFbF" id="39DcfeU18sq" role="3cqZAp">
+                      <node concept="2YIFZM" id="39DcfeU18sC" role="3clFbG">
+                        <ref role="37wK5l" to="q3ut:3EwaYGcC$G8" resolve="confinementViolated" />
+                        <ref role="1Pybhc" to="q3ut:3kMdKrGp9bF" resolve="MisuseReporting" />
+                        <node concept="37vLTw" id="39DcfeU18t5" role="37wK5m">
+                          <ref role="3cqZAo" node="2ja4jrFjJOv" resolve="misuseClass" />
+                        </node>
+                        <node concept="37vLTw" id="39DcfeU18tb" role="37wK5m">
+                          <ref role="3cqZAo" node="39DcfeU18dQ" resolve="owner" />
+                        </node>
+                      </node>
                     </node>
                   </node>
                 </node>
@@ -4037,44 +5870,45 @@
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="622NOWSh3Db" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSh3De" role="3Jn$fo">
-            <node concept="3clFbS" id="622NOWSh3Df" role="2VODD2">
-              <node concept="3clFbF" id="622NOWShci7" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWShci8" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWShci9" role="2Oq$k0">
-                    <node concept="2OqwBi" id="622NOWShcia" role="2Oq$k0">
-                      <node concept="30H73N" id="622NOWShcib" role="2Oq$k0" />
-                      <node concept="3Tsc0h" id="622NOWShcic" role="2OqNvi">
-                        <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                      </node>
+        <node concept="3cqZAl" id="39DcfeU18tO" role="3clF45" />
+        <node concept="3Tm6S6" id="39DcfeU18tU" role="1B3o_S" />
+        <node concept="17Uvod" id="39DcfeU18tY" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="39DcfeU18tZ" role="3zH0cK">
+            <node concept="3clFbS" id="39DcfeU18u9" role="2VODD2">
+              <node concept="3clFbF" id="39DcfeU18ul" role="3cqZAp">
+                <node concept="2OqwBi" id="39DcfeU18uo" role="3clFbG">
+                  <node concept="1iwH7S" id="39DcfeU18uw" role="2Oq$k0" />
+                  <node concept="2piZGk" id="39DcfeU18v1" role="2OqNvi">
+                    <node concept="Xl_RD" id="39DcfeU18vh" role="2piZGb">
+                      <property role="Xl_RC" value="checkConfinement" />
                     </node>
-                    <node concept="v3k3i" id="622NOWShcid" role="2OqNvi">
-                      <node concept="chp4Y" id="622NOWShcie" role="v3oSu">
-                        <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
-                      </node>
+                    <node concept="30H73N" id="39DcfeU18vz" role="2pr8EU" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1W57fq" id="39DcfeU18vR" role="lGtFl">
+          <node concept="3IZrLx" id="39DcfeU18w6" role="3IZSJc">
+            <node concept="3clFbS" id="39DcfeU18wv" role="2VODD2">
+              <node concept="3clFbF" id="39DcfeU18w$" role="3cqZAp">
+                <node concept="1Wc70l" id="39DcfeU18xq" role="3clFbG">
+                  <node concept="2OqwBi" id="39DcfeU18x$" role="3uHU7w">
+                    <node concept="30H73N" id="39DcfeU18yr" role="2Oq$k0" />
+                    <node concept="2qgKlT" id="39DcfeU18yP" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:3RJrI244l4d" resolve="isThreadConfined" />
                     </node>
                   </node>
-                  <node concept="3zZkjj" id="622NOWShcif" role="2OqNvi">
-                    <node concept="1bVj0M" id="622NOWShcig" role="23t8la">
-                      <node concept="3clFbS" id="622NOWShcih" role="1bW5cS">
-                        <node concept="3clFbF" id="622NOWShcii" role="3cqZAp">
-                          <node concept="2OqwBi" id="622NOWShcij" role="3clFbG">
-                            <node concept="2OqwBi" id="622NOWShcik" role="2Oq$k0">
-                              <node concept="37vLTw" id="622NOWShcil" role="2Oq$k0">
-                                <ref role="3cqZAo" node="622NOWShcio" resolve="it" />
-                              </node>
-                              <node concept="3Tsc0h" id="622NOWShcim" role="2OqNvi">
-                                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
-                              </node>
-                            </node>
-                            <node concept="3GX2aA" id="622NOWShcin" role="2OqNvi" />
-                          </node>
-                        </node>
+                  <node concept="3fqX7Q" id="39DcfeU18zf" role="3uHU7B">
+                    <node concept="2OqwBi" id="39DcfeU18zM" role="3fr31v">
+                      <node concept="35c_gC" id="39DcfeU18A4" role="2Oq$k0">
+                        <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
                       </node>
-                      <node concept="Rh6nW" id="622NOWShcio" role="1bW2Oz">
-                        <property role="TrG5h" value="it" />
-                        <node concept="2jxLKc" id="622NOWShcip" role="1tU5fm" />
+                      <node concept="2qgKlT" id="39DcfeU18Af" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                       </node>
                     </node>
                   </node>
@@ -4083,41 +5917,53 @@
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="622NOWSh34D" role="lGtFl">
-          <ref role="v9R2y" node="xJb$LDMDOz" resolve="reduce_VerifiedMethod_ConsequencesMapper" />
+        <node concept="2ZBi8u" id="39DcfeU18AA" role="lGtFl">
+          <ref role="2rW$FS" node="39DcfeU18dA" resolve="confinementCheck" />
         </node>
       </node>
-      <node concept="2tJIrI" id="6BZjXFis_Bn" role="jymVt">
-        <node concept="1W57fq" id="6BZjXFisBy_" role="lGtFl">
-          <node concept="3IZrLx" id="6BZjXFisByC" role="3IZSJc">
-            <node concept="3clFbS" id="6BZjXFisByD" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFisBL2" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFisBL4" role="3clFbG">
-                  <node concept="35c_gC" id="6BZjXFisBL5" role="2Oq$k0">
-                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-                  </node>
-                  <node concept="2qgKlT" id="6BZjXFisBL6" role="2OqNvi">
-                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+      <node concept="312cEg" id="2vY7ErdhUUj" role="jymVt">
+        <property role="TrG5h" value="tracked" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="2vY7ErdhUUS" role="1B3o_S" />
+        <node concept="10P_77" id="2vY7ErdhUU$" role="1tU5fm" />
+        <node concept="2OqwBi" id="2vY7ErdhUVt" role="33vP2m">
+          <node concept="37vLTw" id="2vY7ErdhUW3" role="2Oq$k0">
+            <ref role="3cqZAo" node="2vY7ErdhULy" resolve="checkSampler" />
+          </node>
+          <node concept="liA8E" id="2vY7ErdhUWy" role="2OqNvi">
+            <ref role="37wK5l" to="q3ut:3brRTWh$$I_" resolve="sample" />
+          </node>
+        </node>
+        <node concept="17Uvod" id="2vY7ErdhUXa" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="2vY7ErdhUXs" role="3zH0cK">
+            <node concept="3clFbS" id="2vY7ErdhUXU" role="2VODD2">
+              <node concept="3clFbF" id="2vY7ErdhUXZ" role="3cqZAp">
+                <node concept="2OqwBi" id="2vY7ErdhUYu" role="3clFbG">
+                  <node concept="1iwH7S" id="2vY7ErdhUYV" role="2Oq$k0" />
+                  <node concept="2piZGk" id="2vY7ErdhUYX" role="2OqNvi">
+                    <node concept="Xl_RD" id="2vY7ErdhUZq" role="2piZGb">
+                      <property role="Xl_RC" value="tracked" />
+                    </node>
+                    <node concept="30H73N" id="2vY7ErdhUZx" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="6BZjXFisBlq" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFisBlt" role="3Jn$fo">
-            <node concept="3clFbS" id="6BZjXFisBlu" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFisCoO" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFisCoP" role="3clFbG">
-                  <node concept="2OqwBi" id="6BZjXFisCoQ" role="2Oq$k0">
-                    <node concept="30H73N" id="6BZjXFisCoR" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="6BZjXFisCoS" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+        <node concept="1W57fq" id="2vY7ErdhUZ$" role="lGtFl">
+          <node concept="3IZrLx" id="2vY7ErdhU$c" role="3IZSJc">
+            <node concept="3clFbS" id="2vY7ErdhU$I" role="2VODD2">
+              <node concept="3clFbF" id="2vY7ErdhU_k" role="3cqZAp">
+                <node concept="3fqX7Q" id="2vY7ErdhU_D" role="3clFbG">
+                  <node concept="2OqwBi" id="2vY7ErdhV07" role="3fr31v">
+                    <node concept="35c_gC" id="2vY7ErdhV0C" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
                     </node>
-                  </node>
-                  <node concept="v3k3i" id="6BZjXFisCoT" role="2OqNvi">
-                    <node concept="chp4Y" id="6BZjXFisCoU" role="v3oSu">
-                      <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                    <node concept="2qgKlT" id="2vY7ErdhV1b" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                     </node>
                   </node>
                 </node>
@@ -4125,121 +5971,151 @@
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="6BZjXFisBgw" role="lGtFl">
-          <ref role="v9R2y" node="6BZjXFisqLI" resolve="reduce_VerifiedMethod_WithoutChecks" />
+        <node concept="2ZBi8u" id="2vY7ErdhV1G" role="lGtFl">
+          <ref role="2rW$FS" node="2vY7ErdhULa" resolve="trackedState" />
         </node>
       </node>
-      <node concept="2tJIrI" id="622NOWSh1ou" role="jymVt" />
-      <node concept="2tJIrI" id="622NOWSh7Uh" role="jymVt">
-        <node concept="1W57fq" id="HN1h99R30X" role="lGtFl">
-          <node concept="3IZrLx" id="HN1h99R310" role="3IZSJc">
-            <node concept="3clFbS" id="HN1h99R311" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99R5Z8" role="3cqZAp">
-                <node concept="3fqX7Q" id="HN1h99R5Z9" role="3clFbG">
-                  <node concept="2OqwBi" id="HN1h99R5Za" role="3fr31v">
-                    <node concept="35c_gC" id="HN1h99R5Zb" role="2Oq$k0">
-                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-                    </node>
-                    <node concept="2qgKlT" id="HN1h99R5Zc" role="2OqNvi">
-                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+      <node concept="312cEg" id="622NOWShhxQ" role="jymVt">
+        <property role="TrG5h" value="checker" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="622NOWShhxR" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWShlwO" role="1tU5fm">
+          <ref role="3uigEE" node="622NOWShkkt" resolve="_StateChecker" />
+        </node>
+        <node concept="2ShNRf" id="622NOWShhxT" role="33vP2m">
+          <node concept="HV5vD" id="622NOWShhxU" role="2ShVmc">
+            <ref role="HV5vE" node="622NOWShkkt" resolve="_StateChecker" />
+          </node>
+        </node>
+        <node concept="17Uvod" id="622NOWShhxV" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="622NOWShhxW" role="3zH0cK">
+            <node concept="3clFbS" id="622NOWShhxX" role="2VODD2">
+              <node concept="3clFbF" id="622NOWShhxY" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWShhxZ" role="3clFbG">
+                  <node concept="1iwH7S" id="622NOWShhy0" role="2Oq$k0" />
+                  <node concept="2piZGk" id="622NOWShhy1" role="2OqNvi">
+                    <node concept="Xl_RD" id="622NOWShhy2" role="2piZGb">
+                      <property role="Xl_RC" value="checker" />
                     </node>
+                    <node concept="30H73N" id="622NOWShhy3" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="622NOWSh8Pq" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSh8Pt" role="3Jn$fo">
-            <node concept="3clFbS" id="622NOWSh8Pu" role="2VODD2">
-              <node concept="3clFbF" id="622NOWShaag" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWShaah" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWShaai" role="2Oq$k0">
-                    <node concept="30H73N" id="622NOWShaaj" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="622NOWShaak" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                    </node>
-                  </node>
-                  <node concept="v3k3i" id="622NOWShaal" role="2OqNvi">
-                    <node concept="chp4Y" id="622NOWShaam" role="v3oSu">
-                      <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
-                    </node>
+        <node concept="1W57fq" id="622NOWSjpBN" role="lGtFl">
+          <node concept="3IZrLx" id="622NOWSjpBO" role="3IZSJc">
+            <node concept="3clFbS" id="622NOWSjpBP" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99RaWX" role="3cqZAp">
+                <node concept="2OqwBi" id="HN1h99RaWY" role="3clFbG">
+                  <node concept="30H73N" id="HN1h99RaWZ" role="2Oq$k0" />
+                  <node concept="2qgKlT" id="HN1h99RaX0" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:HN1h99Qucn" resolve="needsFinalStateChecks" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="622NOWSh7Ui" role="lGtFl">
-          <ref role="v9R2y" node="2915UUEaAOj" resolve="reduce_StaticVerified_PreconditionAndBody" />
-          <node concept="2OqwBi" id="622NOWSh7Uj" role="v9R3O">
-            <node concept="2OqwBi" id="622NOWShb2L" role="2Oq$k0">
-              <node concept="30H73N" id="622NOWSh7Ul" role="2Oq$k0" />
-              <node concept="3Tsc0h" id="622NOWShc01" role="2OqNvi">
-                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+        <node concept="2ZBi8u" id="622NOWShhy4" role="lGtFl">
+          <ref role="2rW$FS" node="5diE_Q35hAH" resolve="stateChecker" />
+        </node>
+      </node>
+      <node concept="312cEg" id="3av8H9pGklD" role="jymVt">
+        <property role="TrG5h" value="guardState" />
+        <node concept="3Tm6S6" id="3av8H9pGklZ" role="1B3o_S" />
+        <node concept="10Oyi0" id="3av8H9pGkmB" role="1tU5fm" />
+        <node concept="3cmrfG" id="3av8H9pGkm$" role="33vP2m">
+          <property role="3cmrfH" value="0" />
+          <node concept="17Uvod" id="3av8H9pGknz" role="lGtFl">
+            <property role="2qtEX9" value="value" />
+            <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+            <node concept="3zFVjK" id="3av8H9pGknC" role="3zH0cK">
+              <node concept="3clFbS" id="3av8H9pGko8" role="2VODD2">
+                <node concept="3clFbF" id="3av8H9pGkoF" role="3cqZAp">
+                  <node concept="2OqwBi" id="3av8H9pGkp0" role="3clFbG">
+                    <node concept="30H73N" id="3av8H9pGkp1" role="2Oq$k0" />
+                    <node concept="2qgKlT" id="3av8H9pGkpx" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:3fIrGf8Ho7S" resolve="packedGuardsInitialState" />
+                    </node>
+                  </node>
+                </node>
               </node>
             </node>
-            <node concept="3GX2aA" id="622NOWSh7Un" role="2OqNvi" />
           </node>
         </node>
-      </node>
-      <node concept="2tJIrI" id="622NOWSh8VM" role="jymVt">
-        <node concept="1W57fq" id="HN1h99R37N" role="lGtFl">
-          <node concept="3IZrLx" id="HN1h99R37Q" role="3IZSJc">
-            <node concept="3clFbS" id="HN1h99R37R" role="2VODD2">
-              <node concept="3clFbF" id="HN1h99R5XM" role="3cqZAp">
-                <node concept="3fqX7Q" id="HN1h99R5XN" role="3clFbG">
-                  <node concept="2OqwBi" id="HN1h99R5XO" role="3fr31v">
-                    <node concept="35c_gC" id="HN1h99R5XP" role="2Oq$k0">
-                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-                    </node>
-                    <node concept="2qgKlT" id="HN1h99R5XQ" role="2OqNvi">
-                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+        <node concept="17Uvod" id="3av8H9pGkpW" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="3av8H9pGkqa" role="3zH0cK">
+            <node concept="3clFbS" id="3av8H9pGkqc" role="2VODD2">
+              <node concept="3clFbF" id="3av8H9pGkqw" role="3cqZAp">
+                <node concept="2OqwBi" id="3av8H9pGkqI" role="3clFbG">
+                  <node concept="1iwH7S" id="3av8H9pGkrk" role="2Oq$k0" />
+                  <node concept="2piZGk" id="3av8H9pGkrV" role="2OqNvi">
+                    <node concept="Xl_RD" id="3av8H9pGkrX" role="2piZGb">
+                      <property role="Xl_RC" value="guardState" />
                     </node>
+                    <node concept="30H73N" id="3av8H9pGksw" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="622NOWSh9ge" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSh9gh" role="3Jn$fo">
-            <node concept="3clFbS" id="622NOWSh9gi" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSh9DW" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSh9DX" role="3clFbG">
-                  <node concept="2OqwBi" id="622NOWSh9DY" role="2Oq$k0">
-                    <node concept="2OqwBi" id="622NOWSh9DZ" role="2Oq$k0">
-                      <node concept="30H73N" id="622NOWSh9E0" role="2Oq$k0" />
-                      <node concept="3Tsc0h" id="622NOWSh9E1" role="2OqNvi">
-                        <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                      </node>
-                    </node>
-                    <node concept="v3k3i" id="622NOWSh9E2" role="2OqNvi">
-                      <node concept="chp4Y" id="622NOWSh9E3" role="v3oSu">
-                        <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
-                      </node>
-                    </node>
+        <node concept="1W57fq" id="3av8H9pGksW" role="lGtFl">
+          <node concept="3IZrLx" id="3av8H9pGktb" role="3IZSJc">
+            <node concept="3clFbS" id="3av8H9pGktg" role="2VODD2">
+              <node concept="3clFbF" id="3av8H9pGkto" role="3cqZAp">
+                <node concept="2OqwBi" id="3av8H9pGkt_" role="3clFbG">
+                  <node concept="30H73N" id="3av8H9pGkui" role="2Oq$k0" />
+                  <node concept="2qgKlT" id="3av8H9pGkuM" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:3fIrGf8Ho0s" resolve="hasPackedGuards" />
                   </node>
-                  <node concept="3zZkjj" id="622NOWSh9E4" role="2OqNvi">
-                    <node concept="1bVj0M" id="622NOWSh9E5" role="23t8la">
-                      <node concept="3clFbS" id="622NOWSh9E6" role="1bW5cS">
-                        <node concept="3clFbF" id="622NOWSh9E7" role="3cqZAp">
-                          <node concept="2OqwBi" id="622NOWSh9E8" role="3clFbG">
-                            <node concept="2OqwBi" id="622NOWSh9E9" role="2Oq$k0">
-                              <node concept="37vLTw" id="622NOWSh9Ea" role="2Oq$k0">
-                                <ref role="3cqZAo" node="622NOWSh9Ed" resolve="it" />
-                              </node>
-                              <node concept="3Tsc0h" id="622NOWSh9Eb" role="2OqNvi">
-                                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
-                              </node>
-                            </node>
-                            <node concept="3GX2aA" id="622NOWSh9Ec" role="2OqNvi" />
-                          </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2ZBi8u" id="3av8H9pGkv4" role="lGtFl">
+          <ref role="2rW$FS" node="3av8H9pGklb" resolve="packedGuardState" />
+        </node>
+      </node>
+      <node concept="Wx3nA" id="2qf_fiE40e6" role="jymVt">
+        <property role="TrG5h" value="guardStateHandle" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="2qf_fiE40e9" role="1B3o_S" />
+        <node concept="3uibUv" id="2qf_fiE40eC" role="1tU5fm">
+          <ref role="3uigEE" to="lsg0:~VarHandle" resolve="VarHandle" />
+        </node>
+        <node concept="2YIFZM" id="2qf_fiE40eF" role="33vP2m">
+          <ref role="37wK5l" to="q3ut:2BH_CsmQ64t" resolve="stateHandle" />
+          <ref role="1Pybhc" to="q3ut:2BH_CsmQ64k" resolve="PackedGuards" />
+          <node concept="2YIFZM" id="2qf_fiE40eI" role="37wK5m">
+            <ref role="37wK5l" to="lsg0:~MethodHandles.lookup()" resolve="lookup" />
+            <ref role="1Pybhc" to="lsg0:~MethodHandles" resolve="MethodHandles" />
+          </node>
+          <node concept="Xl_RD" id="2qf_fiE40eL" role="37wK5m">
+            <property role="Xl_RC" value="guardState" />
+            <node concept="17Uvod" id="2qf_fiE40eO" role="lGtFl">
+              <property role="2qtEX9" value="value" />
+              <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1070475926800/1070475926801" />
+              <node concept="3zFVjK" id="2qf_fiE40eR" role="3zH0cK">
+                <node concept="3clFbS" id="2qf_fiE40eU" role="2VODD2">
+                  <node concept="3clFbF" id="2qf_fiE40eX" role="3cqZAp">
+                    <node concept="2OqwBi" id="2qf_fiE40ea" role="3clFbG">
+                      <node concept="2OqwBi" id="2qf_fiE40ed" role="2Oq$k0">
+                        <node concept="1iwH7S" id="2qf_fiE40eg" role="2Oq$k0" />
+                        <node concept="1iwH70" id="2qf_fiE40ej" role="2OqNvi">
+                          <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                          <node concept="30H73N" id="2qf_fiE40em" role="1iwH7V" />
                         </node>
                       </node>
-                      <node concept="Rh6nW" id="622NOWSh9Ed" role="1bW2Oz">
-                        <property role="TrG5h" value="it" />
-                        <node concept="2jxLKc" id="622NOWSh9Ee" role="1tU5fm" />
+                      <node concept="3TrcHB" id="2qf_fiE40ep" role="2OqNvi">
+                        <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
                       </node>
                     </node>
                   </node>
@@ -4248,329 +6124,355 @@
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="622NOWSh8VN" role="lGtFl">
-          <ref role="v9R2y" node="2915UUEaZt4" resolve="reduce_StaticVerified_ConsequencesMapper" />
-        </node>
-      </node>
-      <node concept="2tJIrI" id="6BZjXFiuLgv" role="jymVt">
-        <node concept="1W57fq" id="6BZjXFiuNXa" role="lGtFl">
-          <node concept="3IZrLx" id="6BZjXFiuNXd" role="3IZSJc">
-            <node concept="3clFbS" id="6BZjXFiuNXe" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuOgG" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuOgH" role="3clFbG">
-                  <node concept="35c_gC" id="6BZjXFiuOgI" role="2Oq$k0">
-                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-                  </node>
-                  <node concept="2qgKlT" id="6BZjXFiuOgJ" role="2OqNvi">
-                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+        <node concept="17Uvod" id="2qf_fiE40es" role="lGtFl">
+          <property role="2qtEX9" value="name" />
+          <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+          <node concept="3zFVjK" id="2qf_fiE40ev" role="3zH0cK">
+            <node concept="3clFbS" id="2qf_fiE40ey" role="2VODD2">
+              <node concept="3clFbF" id="2qf_fiE40e_" role="3cqZAp">
+                <node concept="2OqwBi" id="2qf_fiE40f2" role="3clFbG">
+                  <node concept="1iwH7S" id="2qf_fiE40f5" role="2Oq$k0" />
+                  <node concept="2piZGk" id="2qf_fiE40f8" role="2OqNvi">
+                    <node concept="Xl_RD" id="2qf_fiE40fB" role="2piZGb">
+                      <property role="Xl_RC" value="guardStateHandle" />
+                    </node>
+                    <node concept="30H73N" id="2qf_fiE40fE" role="2pr8EU" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="1WS0z7" id="6BZjXFiuN5u" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFiuN5x" role="3Jn$fo">
-            <node concept="3clFbS" id="6BZjXFiuN5y" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuNbZ" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuNc0" role="3clFbG">
-                  <node concept="2OqwBi" id="6BZjXFiuNc1" role="2Oq$k0">
-                    <node concept="30H73N" id="6BZjXFiuNc2" role="2Oq$k0" />
-                    <node concept="3Tsc0h" id="6BZjXFiuNc3" role="2OqNvi">
-                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
-                    </node>
-                  </node>
-                  <node concept="v3k3i" id="6BZjXFiuNc4" role="2OqNvi">
-                    <node concept="chp4Y" id="6BZjXFiuNc5" role="v3oSu">
-                      <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
-                    </node>
+        <node concept="1W57fq" id="2qf_fiE40fH" role="lGtFl">
+          <node concept="3IZrLx" id="2qf_fiE40fK" role="3IZSJc">
+            <node concept="3clFbS" id="2qf_fiE40fN" role="2VODD2">
+              <node concept="3clFbF" id="2qf_fiE40fQ" role="3cqZAp">
+                <node concept="2OqwBi" id="2qf_fiE40fT" role="3clFbG">
+                  <node concept="30H73N" id="2qf_fiE40fW" role="2Oq$k0" />
+                  <node concept="2qgKlT" id="2qf_fiE40fZ" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:4fFrSY2P0e3" resolve="packsGuardsAtomically" />
                   </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="5jKBG" id="6BZjXFiuN0$" role="lGtFl">
-          <ref role="v9R2y" node="6BZjXFiuGV8" resolve="reduce_StaticVerfied_WithoutChecks" />
+        <node concept="2ZBi8u" id="2qf_fiE40fc" role="lGtFl">
+          <ref role="2rW$FS" node="2qf_fiE40e3" resolve="packedGuardStateHandle" />
         </node>
       </node>
-      <node concept="3Tm1VV" id="622NOWSgWpM" role="1B3o_S">
-        <node concept="29HgVG" id="622NOWSgWtM" role="lGtFl">
-          <node concept="3NFfHV" id="622NOWSgWtN" role="3NFExx">
-            <node concept="3clFbS" id="622NOWSgWtO" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSgWtU" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSgWtP" role="3clFbG">
-                  <node concept="3TrEf2" id="622NOWSgWtS" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+      <node concept="3clFb_" id="3DygHpg8b2Z" role="jymVt">
+        <property role="TrG5h" value="recycle" />
+        <node concept="3clFbS" id="3DygHpg8b2$" role="3clF47">
+          <node concept="3clFbF" id="7y1Jqq3S0e3" role="3cqZAp">
+            <node concept="3nyPlj" id="7y1Jqq3S0e6" role="3clFbG">
+              <ref role="37wK5l" to="q3ut:3uK$Pg$AXMu" resolve="recycle" />
+            </node>
+            <node concept="1W57fq" id="7y1Jqq3S0e9" role="lGtFl">
+              <node concept="3IZrLx" id="7y1Jqq3S0eC" role="3IZSJc">
+                <node concept="3clFbS" id="7y1Jqq3S0eF" role="2VODD2">
+                  <node concept="3clFbF" id="7y1Jqq3S0eI" role="3cqZAp">
+                    <node concept="2OqwBi" id="7y1Jqq3S0eL" role="3clFbG">
+                      <node concept="30H73N" id="7y1Jqq3S0eO" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="7y1Jqq3S0eR" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:5zgTjUXR0e3" resolve="hasVerifiedSuperclass" />
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="622NOWSgWtT" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
-        </node>
-      </node>
-      <node concept="raruj" id="622NOWSgWrV" role="lGtFl" />
-      <node concept="17Uvod" id="622NOWSgWNF" role="lGtFl">
-        <property role="2qtEX9" value="name" />
-        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-        <node concept="3zFVjK" id="622NOWSgWNI" role="3zH0cK">
-          <node concept="3clFbS" id="622NOWSgWNJ" role="2VODD2">
-            <node concept="3clFbF" id="622NOWSgWNP" role="3cqZAp">
-              <node concept="2OqwBi" id="622NOWSgWNK" role="3clFbG">
-                <node concept="3TrcHB" id="622NOWSgWNN" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
-                </node>
-                <node concept="30H73N" id="622NOWSgWNO" role="2Oq$k0" />
+          <node concept="3clFbF" id="3DygHpg8b3x" role="3cqZAp">
+            <node concept="2OqwBi" id="3DygHpg8b3V" role="3clFbG">
+              <node concept="37vLTw" id="3DygHpg8b4p" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWShhxQ" resolve="checker" />
               </node>
-            </node>
-          </node>
-        </node>
-      </node>
-      <node concept="17Uvod" id="622NOWSgX5r" role="lGtFl">
-        <property role="2qtEX9" value="packageName" />
-        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1107461130800/2791683072064593257" />
-        <node concept="3zFVjK" id="622NOWSgX5u" role="3zH0cK">
-          <node concept="3clFbS" id="622NOWSgX5v" role="2VODD2">
-            <node concept="3clFbF" id="622NOWSgX5_" role="3cqZAp">
-              <node concept="2OqwBi" id="622NOWSgX5w" role="3clFbG">
-                <node concept="3TrcHB" id="622NOWSgX5z" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpck:hnGE5uv" resolve="virtualPackage" />
-                </node>
-                <node concept="30H73N" id="622NOWSgX5$" role="2Oq$k0" />
+              <node concept="liA8E" id="3DygHpg8b51" role="2OqNvi">
+                <ref role="37wK5l" node="3DygHpg8aVA" resolve="recycle" />
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="17Uvod" id="622NOWSgXjP" role="lGtFl">
-        <property role="2qtEX9" value="abstractClass" />
-        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068390468198/1075300953594" />
-        <node concept="3zFVjK" id="622NOWSgXjS" role="3zH0cK">
-          <node concept="3clFbS" id="622NOWSgXjT" role="2VODD2">
-            <node concept="3clFbF" id="622NOWSgXjZ" role="3cqZAp">
-              <node concept="2OqwBi" id="622NOWSgXjU" role="3clFbG">
-                <node concept="3TrcHB" id="622NOWSgXjX" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpee:fDsVARU" resolve="abstractClass" />
+            <node concept="1W57fq" id="3DygHpg8b5j" role="lGtFl">
+              <node concept="3IZrLx" id="3DygHpg8b5z" role="3IZSJc">
+                <node concept="3clFbS" id="3DygHpg8b64" role="2VODD2">
+                  <node concept="3clFbF" id="3DygHpg8b6m" role="3cqZAp">
+                    <node concept="2OqwBi" id="3DygHpg8b6t" role="3clFbG">
+                      <node concept="30H73N" id="3DygHpg8b6Y" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3DygHpg8b7x" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:HN1h99Qucn" resolve="needsFinalStateChecks" />
+                      </node>
+                    </node>
+                  </node>
                 </node>
-                <node concept="30H73N" id="622NOWSgXjY" role="2Oq$k0" />
               </node>
             </node>
           </node>
-        </node>
-      </node>
-      <node concept="16euLQ" id="622NOWSgXsl" role="16eVyc">
-        <property role="TrG5h" value="T" />
-        <node concept="2b32R4" id="622NOWSgY14" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSgY17" role="2P8S$">
-            <node concept="3clFbS" id="622NOWSgY18" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSgY1e" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSgY19" role="3clFbG">
-                  <node concept="3Tsc0h" id="622NOWSgY1c" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:g96eVAe" resolve="typeVariableDeclaration" />
+          <node concept="3clFbF" id="3DygHpg8b87" role="3cqZAp">
+            <node concept="37vLTI" id="3DygHpg8b8I" role="3clFbG">
+              <node concept="3clFbT" id="3DygHpg8b8L" role="37vLTx">
+                <property role="3clFbU" value="false" />
+                <node concept="17Uvod" id="3DygHpg8b92" role="lGtFl">
+                  <property role="2qtEX9" value="value" />
+                  <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+                  <node concept="3zFVjK" id="3DygHpg8b9c" role="3zH0cK">
+                    <node concept="3clFbS" id="3DygHpg8b9f" role="2VODD2">
+                      <node concept="3clFbF" id="3DygHpg8b9m" role="3cqZAp">
+                        <node concept="2OqwBi" id="3DygHpg8b9Y" role="3clFbG">
+                          <node concept="30H73N" id="3DygHpg8bak" role="2Oq$k0" />
+                          <node concept="3TrcHB" id="3DygHpg8baR" role="2OqNvi">
+                            <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="622NOWSgY1d" role="2Oq$k0" />
                 </node>
               </node>
-            </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3uibUv" id="622NOWSgY6Q" role="1zkMxy">
-        <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
-        <node concept="29HgVG" id="622NOWSgYDC" role="lGtFl">
-          <node concept="3NFfHV" id="622NOWSgYDD" role="3NFExx">
-            <node concept="3clFbS" id="622NOWSgYDE" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSgYDK" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSgYDF" role="3clFbG">
-                  <node concept="3TrEf2" id="622NOWSgYDI" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+              <node concept="37vLTw" id="3DygHpg8bbg" role="37vLTJ">
+                <ref role="3cqZAo" node="6BZjXFigQ90" resolve="guard" />
+                <node concept="1ZhdrF" id="3DygHpg8bbk" role="lGtFl">
+                  <property role="2qtEX8" value="variableDeclaration" />
+                  <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                  <node concept="3$xsQk" id="3DygHpg8bbU" role="3$ytzL">
+                    <node concept="3clFbS" id="3DygHpg8bcf" role="2VODD2">
+                      <node concept="3clFbF" id="3DygHpg8bcP" role="3cqZAp">
+                        <node concept="2OqwBi" id="3DygHpg8bcR" role="3clFbG">
+                          <node concept="1iwH7S" id="3DygHpg8bdk" role="2Oq$k0" />
+                          <node concept="1iwH70" id="3DygHpg8bdv" role="2OqNvi">
+                            <ref role="1iwH77" node="71jdFMa$Ckv" resolve="instanceGuardDeclarations" />
+                            <node concept="30H73N" id="3DygHpg8bdw" role="1iwH7V" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="622NOWSgYDJ" role="2Oq$k0" />
                 </node>
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3uibUv" id="622NOWSgYrp" role="EKbjA">
-        <ref role="3uigEE" to="wyt6:~Cloneable" resolve="Cloneable" />
-        <node concept="2b32R4" id="622NOWSgYuP" role="lGtFl">
-          <node concept="3JmXsc" id="622NOWSgYuS" role="2P8S$">
-            <node concept="3clFbS" id="622NOWSgYuT" role="2VODD2">
-              <node concept="3clFbF" id="622NOWSgYuZ" role="3cqZAp">
-                <node concept="2OqwBi" id="622NOWSgYuU" role="3clFbG">
-                  <node concept="3Tsc0h" id="622NOWSgYuX" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:fWEKbgp" resolve="implementedInterface" />
+            <node concept="1WS0z7" id="3DygHpg8bdT" role="lGtFl">
+              <node concept="3JmXsc" id="3DygHpg8be7" role="3Jn$fo">
+                <node concept="3clFbS" id="3DygHpg8beD" role="2VODD2">
+                  <node concept="3clFbF" id="3DygHpg8beY" role="3cqZAp">
+                    <node concept="2OqwBi" id="3DygHpg8bf5" role="3clFbG">
+                      <node concept="30H73N" id="3DygHpg8bfp" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3DygHpg8bfz" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3RnrEBvdhct" resolve="unpackedGuardsWithoutFinalStateCheck" />
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="622NOWSgYuY" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
-        </node>
-      </node>
-    </node>
-  </node>
-  <node concept="13MO4I" id="3U9TwylRqLC">
-    <property role="TrG5h" value="reduce_ExpandoVariable" />
-    <property role="3GE5qa" value="expando" />
-    <ref role="3gUMe" to="3ibj:3U9TwylHNnJ" resolve="ExpandoVariable" />
-    <node concept="312cEg" id="3U9TwylRqO1" role="13RCb5">
-      <property role="TrG5h" value="field" />
-      <node concept="3Tm1VV" id="3U9TwylRqOu" role="1B3o_S" />
-      <node concept="3uibUv" id="3U9TwylRqO9" role="1tU5fm">
-        <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-        <node concept="29HgVG" id="3U9TwylRqO$" role="lGtFl">
-          <node concept="3NFfHV" id="3U9TwylRqO_" role="3NFExx">
-            <node concept="3clFbS" id="3U9TwylRqOA" role="2VODD2">
-              <node concept="3clFbF" id="3U9TwylRqOG" role="3cqZAp">
-                <node concept="2OqwBi" id="3U9TwylRqOB" role="3clFbG">
-                  <node concept="3TrEf2" id="3U9TwylRqOE" role="2OqNvi">
-                    <ref role="3Tt5mk" to="3ibj:3U9TwylHNpn" resolve="type" />
+          <node concept="3clFbF" id="3DygHpg8bfF" role="3cqZAp">
+            <node concept="37vLTI" id="3DygHpg8bgd" role="3clFbG">
+              <node concept="3cmrfG" id="3DygHpg8bgr" role="37vLTx">
+                <property role="3cmrfH" value="0" />
+                <node concept="17Uvod" id="3DygHpg8bh1" role="lGtFl">
+                  <property role="2qtEX9" value="value" />
+                  <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                  <node concept="3zFVjK" id="3DygHpg8bhx" role="3zH0cK">
+                    <node concept="3clFbS" id="3DygHpg8bhG" role="2VODD2">
+                      <node concept="3clFbF" id="3DygHpg8bia" role="3cqZAp">
+                        <node concept="2OqwBi" id="3DygHpg8biG" role="3clFbG">
+                          <node concept="30H73N" id="3DygHpg8biL" role="2Oq$k0" />
+                          <node concept="2qgKlT" id="3DygHpg8biR" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:3fIrGf8Ho7S" resolve="packedGuardsInitialState" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="3U9TwylRqOF" role="2Oq$k0" />
                 </node>
               </node>
+              <node concept="37vLTw" id="3DygHpg8bjk" role="37vLTJ">
+                <ref role="3cqZAo" node="3av8H9pGklD" resolve="guardState" />
+              </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="33vP2n" id="3U9TwylRqOi" role="33vP2m">
-        <node concept="29HgVG" id="3U9TwylRqUF" role="lGtFl">
-          <node concept="3NFfHV" id="3U9TwylRqUG" role="3NFExx">
-            <node concept="3clFbS" id="3U9TwylRqUH" role="2VODD2">
-              <node concept="3clFbF" id="3U9TwylRqUN" role="3cqZAp">
-                <node concept="2OqwBi" id="3U9TwylRqUI" role="3clFbG">
-                  <node concept="3TrEf2" id="3U9TwylRqUL" role="2OqNvi">
-                    <ref role="3Tt5mk" to="3ibj:3U9TwylHNC4" resolve="defaultValue" />
+            <node concept="1W57fq" id="3DygHpg8bjQ" role="lGtFl">
+              <node concept="3IZrLx" id="3DygHpg8bkl" role="3IZSJc">
+                <node concept="3clFbS" id="3DygHpg8bkK" role="2VODD2">
+                  <node concept="3clFbF" id="3DygHpg8bl0" role="3cqZAp">
+                    <node concept="2OqwBi" id="3DygHpg8blk" role="3clFbG">
+                      <node concept="30H73N" id="3DygHpg8blR" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3DygHpg8bm9" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:3fIrGf8Ho0s" resolve="hasPackedGuards" />
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="3U9TwylRqUM" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
-        </node>
-      </node>
-      <node concept="raruj" id="3U9TwylRqOq" role="lGtFl" />
-      <node concept="17Uvod" id="3U9TwylRr1$" role="lGtFl">
-        <property role="2qtEX9" value="name" />
-        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-        <node concept="3zFVjK" id="3U9TwylRr1B" role="3zH0cK">
-          <node concept="3clFbS" id="3U9TwylRr1C" role="2VODD2">
-            <node concept="3clFbF" id="3U9TwylRr1I" role="3cqZAp">
-              <node concept="2OqwBi" id="3U9TwylRr1D" role="3clFbG">
-                <node concept="3TrcHB" id="3U9TwylRr1G" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+          <node concept="3clFbF" id="3DygHpg8bmm" role="3cqZAp">
+            <node concept="37vLTI" id="3DygHpg8bmv" role="3clFbG">
+              <node concept="10Nm6u" id="3DygHpg8bmG" role="37vLTx" />
+              <node concept="37vLTw" id="3DygHpg8bmS" role="37vLTJ">
+                <ref role="3cqZAo" node="39DcfeU18dQ" resolve="owner" />
+              </node>
+            </node>
+            <node concept="1W57fq" id="3DygHpg8bni" role="lGtFl">
+              <node concept="3IZrLx" id="3DygHpg8bnR" role="3IZSJc">
+                <node concept="3clFbS" id="3DygHpg8bnY" role="2VODD2">
+                  <node concept="3clFbF" id="3DygHpg8bo7" role="3cqZAp">
+                    <node concept="1Wc70l" id="3DygHpg8boH" role="3clFbG">
+                      <node concept="2OqwBi" id="3DygHpg8boU" role="3uHU7w">
+                        <node concept="30H73N" id="3DygHpg8bp9" role="2Oq$k0" />
+                        <node concept="2qgKlT" id="3DygHpg8bpE" role="2OqNvi">
+                          <ref role="37wK5l" to="pw26:3RJrI244l4d" resolve="isThreadConfined" />
+                        </node>
+                      </node>
+                      <node concept="3fqX7Q" id="3DygHpg8bpS" role="3uHU7B">
+                        <node concept="2OqwBi" id="3DygHpg8bqd" role="3fr31v">
+                          <node concept="35c_gC" id="3DygHpg8bqi" role="2Oq$k0">
+                            <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                          </node>
+                          <node concept="2qgKlT" id="3DygHpg8bqP" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
                 </node>
-                <node concept="30H73N" id="3U9TwylRr1H" role="2Oq$k0" />
               </node>
             </node>
           </node>
         </node>
-      </node>
-    </node>
-  </node>
-  <node concept="312cEu" id="3U9TwylT3UH">
-    <property role="TrG5h" value="map_ExpandoDeclaration" />
-    <property role="3GE5qa" value="expando" />
-    <node concept="3clFbW" id="3U9TwylT4YB" role="jymVt">
-      <node concept="3cqZAl" id="3U9TwylT4YC" role="3clF45" />
-      <node concept="3Tm6S6" id="3U9TwylT4YD" role="1B3o_S" />
-      <node concept="3clFbS" id="3U9TwylT4YE" role="3clF47" />
-    </node>
-    <node concept="Wx3nA" id="3U9TwylT5lA" role="jymVt">
-      <property role="TrG5h" value="variables" />
-      <node concept="3uibUv" id="3U9TwylT5lB" role="1tU5fm">
-        <ref role="3uigEE" to="33ny:~WeakHashMap" resolve="WeakHashMap" />
-        <node concept="3uibUv" id="3U9TwylT5lC" role="11_B2D">
-          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
-        </node>
-        <node concept="3uibUv" id="3U9TwylT8kV" role="11_B2D">
-          <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
-        </node>
-      </node>
-      <node concept="2ShNRf" id="3U9TwylT5lE" role="33vP2m">
-        <node concept="1pGfFk" id="3U9TwylT5lF" role="2ShVmc">
-          <ref role="37wK5l" to="33ny:~WeakHashMap.&lt;init&gt;()" resolve="WeakHashMap" />
-          <node concept="3uibUv" id="3U9TwylT5lG" role="1pMfVU">
-            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
-          </node>
-          <node concept="3uibUv" id="3U9TwylT8By" role="1pMfVU">
-            <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
-          </node>
+        <node concept="3cqZAl" id="3DygHpg8br3" role="3clF45" />
+        <node concept="3Tm1VV" id="3DygHpg8brx" role="1B3o_S" />
+        <node concept="2AHcQZ" id="3DygHpg8brE" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
         </node>
-      </node>
-      <node concept="3Tm6S6" id="3U9TwylT5lI" role="1B3o_S" />
-    </node>
-    <node concept="2tJIrI" id="3U9TwylUfiT" role="jymVt">
-      <node concept="2b32R4" id="3U9TwylUfxH" role="lGtFl">
-        <ref role="2rW$FS" node="3U9TwylRbaK" resolve="expandoVariable" />
-        <node concept="3JmXsc" id="3U9TwylUfxI" role="2P8S$">
-          <node concept="3clFbS" id="3U9TwylUfxJ" role="2VODD2">
-            <node concept="3clFbF" id="3U9TwylUfyq" role="3cqZAp">
-              <node concept="2OqwBi" id="3U9TwylUfJr" role="3clFbG">
-                <node concept="30H73N" id="3U9TwylUfyp" role="2Oq$k0" />
-                <node concept="3Tsc0h" id="3U9TwylUfVY" role="2OqNvi">
-                  <ref role="3TtcxE" to="3ibj:3U9TwylHPG8" resolve="variables" />
+        <node concept="1W57fq" id="3DygHpg8brZ" role="lGtFl">
+          <node concept="3IZrLx" id="3DygHpg8bs0" role="3IZSJc">
+            <node concept="3clFbS" id="3DygHpg8bs1" role="2VODD2">
+              <node concept="3clFbF" id="3DygHpg8bsm" role="3cqZAp">
+                <node concept="3fqX7Q" id="3DygHpg8bsC" role="3clFbG">
+                  <node concept="2OqwBi" id="3DygHpg8bsQ" role="3fr31v">
+                    <node concept="35c_gC" id="3DygHpg8bsS" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="3DygHpg8bt9" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
+                  </node>
                 </node>
               </node>
             </node>
           </node>
         </node>
       </node>
-    </node>
-    <node concept="2YIFZL" id="3U9TwylT6hl" role="jymVt">
-      <property role="TrG5h" value="of" />
-      <node concept="3clFbS" id="3U9TwylT6hm" role="3clF47">
-        <node concept="3cpWs6" id="3U9TwylT6hn" role="3cqZAp">
-          <node concept="2OqwBi" id="3U9TwylT6ho" role="3cqZAk">
-            <node concept="liA8E" id="3U9TwylT6hp" role="2OqNvi">
-              <ref role="37wK5l" to="33ny:~Map.computeIfAbsent(java.lang.Object,java.util.function.Function)" resolve="computeIfAbsent" />
-              <node concept="37vLTw" id="3U9TwylT6hq" role="37wK5m">
-                <ref role="3cqZAo" node="3U9TwylT6h$" resolve="target" />
+      <node concept="3KIgzJ" id="622NOWShfDZ" role="jymVt">
+        <node concept="3clFbS" id="622NOWShfE0" role="3KIlGz">
+          <node concept="3clFbJ" id="2vY7ErdhV26" role="3cqZAp">
+            <node concept="37vLTw" id="2vY7ErdhV2B" role="3clFbw">
+              <ref role="3cqZAo" node="2vY7ErdhUUj" resolve="tracked" />
+            </node>
+            <node concept="3clFbS" id="2vY7ErdhV32" role="3clFbx">
+              <node concept="3clFbF" id="622NOWShfE1" role="3cqZAp">
+                <node concept="2YIFZM" id="622NOWShfE2" role="3clFbG">
+                  <ref role="1Pybhc" to="q3ut:3K5upD74g3Z" resolve="FinalizedStateChecks" />
+                  <ref role="37wK5l" to="q3ut:3K5upD74hxe" resolve="registerObject" />
+                  <node concept="Xjq3P" id="622NOWShfE3" role="37wK5m" />
+                  <node concept="37vLTw" id="622NOWShlIU" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWShhxQ" resolve="checker" />
+                  </node>
+                </node>
+                <node concept="1W57fq" id="38GiUc4i4so" role="lGtFl">
+                  <node concept="3IZrLx" id="38GiUc4i4sW" role="3IZSJc">
+                    <node concept="3clFbS" id="38GiUc4i4t4" role="2VODD2">
+                      <node concept="3clFbF" id="38GiUc4i4td" role="3cqZAp">
+                        <node concept="3fqX7Q" id="38GiUc4i4tj" role="3clFbG">
+                          <node concept="2OqwBi" id="38GiUc4i4ts" role="3fr31v">
+                            <node concept="35c_gC" id="38GiUc4i4t$" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="38GiUc4i4ug" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:2PTc8VcWmhl" resolve="batchFinalStateChecksInGeneration" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
               </node>
-              <node concept="1bVj0M" id="3U9TwylT6hr" role="37wK5m">
-                <node concept="3clFbS" id="3U9TwylT6hs" role="1bW5cS">
-                  <node concept="3clFbF" id="3U9TwylT6ht" role="3cqZAp">
-                    <node concept="2ShNRf" id="3U9TwylT6hu" role="3clFbG">
-                      <node concept="1pGfFk" id="3U9TwylT6hv" role="2ShVmc">
-                        <ref role="37wK5l" node="3U9TwylT4YB" resolve="map_ExpandoDeclaration" />
+              <node concept="3clFbF" id="38GiUc4i4uQ" role="3cqZAp">
+                <node concept="2YIFZM" id="38GiUc4i4v6" role="3clFbG">
+                  <ref role="1Pybhc" to="q3ut:3K5upD74g3Z" resolve="FinalizedStateChecks" />
+                  <ref role="37wK5l" to="q3ut:206NDCWfdQl" resolve="registerObjectBatched" />
+                  <node concept="Xjq3P" id="38GiUc4i4vv" role="37wK5m" />
+                  <node concept="37vLTw" id="38GiUc4i4vE" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWShhxQ" resolve="checker" />
+                  </node>
+                </node>
+                <node concept="1W57fq" id="38GiUc4i4vP" role="lGtFl">
+                  <node concept="3IZrLx" id="38GiUc4i4vW" role="3IZSJc">
+                    <node concept="3clFbS" id="38GiUc4i4wx" role="2VODD2">
+                      <node concept="3clFbF" id="38GiUc4i4wW" role="3cqZAp">
+                        <node concept="2OqwBi" id="38GiUc4i4xd" role="3clFbG">
+                          <node concept="35c_gC" id="38GiUc4i4xH" role="2Oq$k0">
+                            <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                          </node>
+                          <node concept="2qgKlT" id="38GiUc4i4y2" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:2PTc8VcWmhl" resolve="batchFinalStateChecksInGeneration" />
+                          </node>
+                        </node>
                       </node>
                     </node>
                   </node>
                 </node>
-                <node concept="37vLTG" id="3U9TwylT6hw" role="1bW2Oz">
-                  <property role="TrG5h" value="name" />
-                  <node concept="3uibUv" id="3U9TwylT6hx" role="1tU5fm">
-                    <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+              </node>
+              <node concept="3clFbF" id="2eT$YEPLlNR" role="3cqZAp">
+                <node concept="2OqwBi" id="2eT$YEPLlNS" role="3clFbG">
+                  <node concept="37vLTw" id="2eT$YEPLlNW" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2eT$YEPLlEI" resolve="checkMetrics" />
+                  </node>
+                  <node concept="liA8E" id="2eT$YEPLlOb" role="2OqNvi">
+                    <ref role="37wK5l" to="q3ut:2QmWbwu4pDV" resolve="registered" />
+                  </node>
+                </node>
+                <node concept="1W57fq" id="2eT$YEPLlOE" role="lGtFl">
+                  <node concept="3IZrLx" id="2eT$YEPLlOK" role="3IZSJc">
+                    <node concept="3clFbS" id="2eT$YEPLlPl" role="2VODD2">
+                      <node concept="3clFbF" id="2eT$YEPLlPo" role="3cqZAp">
+                        <node concept="1Wc70l" id="2eT$YEPLlPE" role="3clFbG">
+                          <node concept="2OqwBi" id="2eT$YEPLlQ4" role="3uHU7w">
+                            <node concept="35c_gC" id="2eT$YEPLlQ8" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="2eT$YEPLlQm" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                            </node>
+                          </node>
+                          <node concept="3fqX7Q" id="2eT$YEPLlQs" role="3uHU7B">
+                            <node concept="2OqwBi" id="2eT$YEPLlR2" role="3fr31v">
+                              <node concept="35c_gC" id="2eT$YEPLlRz" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="2eT$YEPLlS6" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
                 </node>
               </node>
             </node>
-            <node concept="37vLTw" id="3U9TwylT7JR" role="2Oq$k0">
-              <ref role="3cqZAo" node="3U9TwylT5lA" resolve="variables" />
-            </node>
           </node>
         </node>
-      </node>
-      <node concept="3uibUv" id="3U9TwylT7dC" role="3clF45">
-        <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
-      </node>
-      <node concept="3Tm1VV" id="3U9TwylT6hz" role="1B3o_S" />
-      <node concept="37vLTG" id="3U9TwylT6h$" role="3clF46">
-        <property role="TrG5h" value="target" />
-        <node concept="3uibUv" id="3U9TwylT6h_" role="1tU5fm">
-          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
-          <node concept="29HgVG" id="3U9TwylT6hA" role="lGtFl">
-            <node concept="3NFfHV" id="3U9TwylT6hB" role="3NFExx">
-              <node concept="3clFbS" id="3U9TwylT6hC" role="2VODD2">
-                <node concept="3clFbF" id="3U9TwylT6hD" role="3cqZAp">
-                  <node concept="2OqwBi" id="3U9TwylT6hE" role="3clFbG">
-                    <node concept="3TrEf2" id="3U9TwylT6hF" role="2OqNvi">
-                      <ref role="3Tt5mk" to="3ibj:3U9TwylHNm3" resolve="for" />
-                    </node>
-                    <node concept="30H73N" id="3U9TwylT6hG" role="2Oq$k0" />
+        <node concept="1W57fq" id="622NOWShfE5" role="lGtFl">
+          <node concept="3IZrLx" id="622NOWShfE6" role="3IZSJc">
+            <node concept="3clFbS" id="622NOWShfE7" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99Rb2t" role="3cqZAp">
+                <node concept="2OqwBi" id="HN1h99Rb2u" role="3clFbG">
+                  <node concept="30H73N" id="HN1h99Rb2v" role="2Oq$k0" />
+                  <node concept="2qgKlT" id="HN1h99Rb2w" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:HN1h99Qucn" resolve="needsFinalStateChecks" />
                   </node>
                 </node>
               </node>
@@ -4578,375 +6480,1358 @@
           </node>
         </node>
       </node>
-    </node>
-    <node concept="3Tm1VV" id="3U9TwylT3UI" role="1B3o_S" />
-    <node concept="n94m4" id="3U9TwylT3UJ" role="lGtFl">
-      <ref role="n9lRv" to="3ibj:3U9TwylHNgl" resolve="ExpandoDeclaration" />
-    </node>
-    <node concept="17Uvod" id="3U9TwylT6LY" role="lGtFl">
-      <property role="2qtEX9" value="name" />
-      <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-      <node concept="3zFVjK" id="3U9TwylT6M1" role="3zH0cK">
-        <node concept="3clFbS" id="3U9TwylT6M2" role="2VODD2">
-          <node concept="3clFbF" id="3U9TwylT6M8" role="3cqZAp">
-            <node concept="2OqwBi" id="3U9TwylT6M3" role="3clFbG">
-              <node concept="3TrcHB" id="3U9TwylT6M6" role="2OqNvi">
-                <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
-              </node>
-              <node concept="30H73N" id="3U9TwylT6M7" role="2Oq$k0" />
-            </node>
-          </node>
-        </node>
-      </node>
-    </node>
-    <node concept="2ZBi8u" id="20xP4Gng8Zp" role="lGtFl">
-      <ref role="2rW$FS" node="3U9TwylRaVa" resolve="expandoDeclaration" />
-    </node>
-  </node>
-  <node concept="13MO4I" id="3U9TwylVVix">
-    <property role="TrG5h" value="reduce_ExpandoReference" />
-    <property role="3GE5qa" value="expando" />
-    <ref role="3gUMe" to="3ibj:3U9TwylP4cm" resolve="ExpandoReference" />
-    <node concept="312cEu" id="20xP4GnhVh9" role="13RCb5">
-      <property role="TrG5h" value="X" />
-      <node concept="2YIFZL" id="20xP4GnhVj_" role="jymVt">
-        <property role="TrG5h" value="of" />
-        <node concept="3clFbS" id="20xP4GnhVjC" role="3clF47">
-          <node concept="3cpWs6" id="20xP4GniYfc" role="3cqZAp">
-            <node concept="10Nm6u" id="20xP4GniYfp" role="3cqZAk" />
-          </node>
-        </node>
-        <node concept="3Tm6S6" id="20xP4GnhViR" role="1B3o_S" />
-        <node concept="3uibUv" id="20xP4GnhVjq" role="3clF45">
-          <ref role="3uigEE" node="20xP4GnhVh9" resolve="X" />
-        </node>
-        <node concept="37vLTG" id="20xP4GnkNzP" role="3clF46">
-          <property role="TrG5h" value="x" />
-          <node concept="3uibUv" id="20xP4GnkNzO" role="1tU5fm">
-            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-          </node>
-        </node>
-      </node>
-      <node concept="312cEg" id="20xP4GnmAfb" role="jymVt">
-        <property role="TrG5h" value="y" />
-        <node concept="3Tm6S6" id="20xP4GnmAbL" role="1B3o_S" />
-        <node concept="10P_77" id="20xP4GnmAeY" role="1tU5fm" />
-      </node>
-      <node concept="3clFb_" id="20xP4GnhVhZ" role="jymVt">
-        <property role="TrG5h" value="reduce" />
-        <node concept="3clFbS" id="20xP4GnhVi2" role="3clF47">
-          <node concept="3cpWs8" id="20xP4GnmCdJ" role="3cqZAp">
-            <node concept="3cpWsn" id="20xP4GnmCdM" role="3cpWs9">
-              <property role="TrG5h" value="z" />
-              <node concept="10P_77" id="20xP4GnmCdH" role="1tU5fm" />
-              <node concept="2OqwBi" id="20xP4GnmCAP" role="33vP2m">
-                <node concept="2YIFZM" id="20xP4GnmCro" role="2Oq$k0">
-                  <ref role="37wK5l" node="20xP4GnhVj_" resolve="of" />
-                  <ref role="1Pybhc" node="20xP4GnhVh9" resolve="X" />
-                  <node concept="10Nm6u" id="20xP4GnmDz$" role="37wK5m">
-                    <node concept="29HgVG" id="20xP4GnmDz_" role="lGtFl">
-                      <node concept="3NFfHV" id="20xP4GnmDzA" role="3NFExx">
-                        <node concept="3clFbS" id="20xP4GnmDzB" role="2VODD2">
-                          <node concept="3clFbF" id="20xP4GnmDzC" role="3cqZAp">
-                            <node concept="2OqwBi" id="20xP4GnmDzD" role="3clFbG">
-                              <node concept="3TrEf2" id="20xP4GnmDzE" role="2OqNvi">
-                                <ref role="3Tt5mk" to="3ibj:3U9TwylXFy6" resolve="receiver" />
+      <node concept="2tJIrI" id="622NOWShet7" role="jymVt" />
+      <node concept="2tJIrI" id="622NOWSgZ0W" role="jymVt">
+        <node concept="2b32R4" id="622NOWSgZ0X" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSgZ0Y" role="2P8S$">
+            <node concept="3clFbS" id="622NOWSgZ0Z" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSgZ10" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSgZ11" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWSgZ12" role="2Oq$k0">
+                    <node concept="30H73N" id="622NOWSgZ13" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="622NOWSgZ14" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                    </node>
+                  </node>
+                  <node concept="3zZkjj" id="622NOWSgZ15" role="2OqNvi">
+                    <node concept="1bVj0M" id="622NOWSgZ16" role="23t8la">
+                      <node concept="3clFbS" id="622NOWSgZ17" role="1bW5cS">
+                        <node concept="3clFbJ" id="HN1h99R6W3" role="3cqZAp">
+                          <node concept="3clFbS" id="HN1h99R6W5" role="3clFbx">
+                            <node concept="3cpWs6" id="HN1h99R9sL" role="3cqZAp">
+                              <node concept="3clFbT" id="HN1h99R9th" role="3cqZAk" />
+                            </node>
+                          </node>
+                          <node concept="1Wc70l" id="HN1h99R8u9" role="3clFbw">
+                            <node concept="2OqwBi" id="HN1h99R7pz" role="3uHU7B">
+                              <node concept="37vLTw" id="HN1h99R72f" role="2Oq$k0">
+                                <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                              </node>
+                              <node concept="1mIQ4w" id="HN1h99R7Zh" role="2OqNvi">
+                                <node concept="chp4Y" id="HN1h99R859" role="cj9EA">
+                                  <ref role="cht4Q" to="3ibj:HN1h99Q$dl" resolve="JGuardSpecific" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="2OqwBi" id="HN1h99R8$q" role="3uHU7w">
+                              <node concept="35c_gC" id="HN1h99R8$r" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="HN1h99R8$s" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                               </node>
-                              <node concept="30H73N" id="20xP4GnmDzF" role="2Oq$k0" />
                             </node>
                           </node>
                         </node>
-                      </node>
-                    </node>
-                  </node>
-                  <node concept="1ZhdrF" id="20xP4GnmCSY" role="lGtFl">
-                    <property role="2qtEX8" value="classConcept" />
-                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1081236700937/1144433194310" />
-                    <node concept="3$xsQk" id="20xP4GnmCT1" role="3$ytzL">
-                      <node concept="3clFbS" id="20xP4GnmCT2" role="2VODD2">
-                        <node concept="3clFbF" id="20xP4GnmD9M" role="3cqZAp">
-                          <node concept="2OqwBi" id="20xP4GnmD9N" role="3clFbG">
-                            <node concept="1iwH7S" id="20xP4GnmD9O" role="2Oq$k0" />
-                            <node concept="1iwH70" id="20xP4GnmD9P" role="2OqNvi">
-                              <ref role="1iwH77" node="3U9TwylRaVa" resolve="expandoDeclaration" />
-                              <node concept="2OqwBi" id="20xP4GnmD9Q" role="1iwH7V">
-                                <node concept="30H73N" id="20xP4GnmD9R" role="2Oq$k0" />
-                                <node concept="3TrEf2" id="20xP4GnmD9S" role="2OqNvi">
-                                  <ref role="3Tt5mk" to="3ibj:3U9TwylP4eO" resolve="expando" />
+                        <node concept="3clFbJ" id="622NOWSgZ18" role="3cqZAp">
+                          <node concept="3clFbS" id="622NOWSgZ19" role="3clFbx">
+                            <node concept="3cpWs6" id="622NOWSgZ1a" role="3cqZAp">
+                              <node concept="1Wc70l" id="3av8H9pGkvg" role="3cqZAk">
+                                <node concept="3clFbC" id="3av8H9pGkvP" role="3uHU7w">
+                                  <node concept="3cmrfG" id="3av8H9pGkvX" role="3uHU7w">
+                                    <property role="3cmrfH" value="0" />
+                                  </node>
+                                  <node concept="2OqwBi" id="3av8H9pGkwr" role="3uHU7B">
+                                    <node concept="30H73N" id="3av8H9pGkwZ" role="2Oq$k0" />
+                                    <node concept="2qgKlT" id="3av8H9pGkx7" role="2OqNvi">
+                                      <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                      <node concept="1PxgMI" id="3av8H9pGkxC" role="37wK5m">
+                                        <node concept="chp4Y" id="3av8H9pGkxD" role="3oSUPX">
+                                          <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+                                        </node>
+                                        <node concept="37vLTw" id="3av8H9pGky3" role="1m5AlR">
+                                          <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3clFbC" id="622NOWSgZ1b" role="3uHU7B">
+                                <node concept="2OqwBi" id="622NOWSgZ1c" role="3uHU7w">
+                                  <node concept="1XH99k" id="622NOWSgZ1d" role="2Oq$k0">
+                                    <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
+                                  </node>
+                                  <node concept="2ViDtV" id="622NOWSgZ1e" role="2OqNvi">
+                                    <ref role="2ViDtZ" to="3ibj:3K5upD74dsU" resolve="ignore" />
+                                  </node>
+                                </node>
+                                <node concept="2OqwBi" id="622NOWSgZ1f" role="3uHU7B">
+                                  <node concept="1PxgMI" id="622NOWSgZ1g" role="2Oq$k0">
+                                    <node concept="chp4Y" id="622NOWSgZ1h" role="3oSUPX">
+                                      <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+                                    </node>
+                                    <node concept="37vLTw" id="622NOWSgZ1i" role="1m5AlR">
+                                      <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                                    </node>
+                                  </node>
+                                  <node concept="3TrcHB" id="622NOWSgZ1j" role="2OqNvi">
+                                    <ref role="3TsBF5" to="3ibj:3K5upD74dt2" resolve="finalizedState" />
+                                  </node>
                                 </node>
                               </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="2OqwBi" id="622NOWSgZ1k" role="3clFbw">
+                            <node concept="37vLTw" id="622NOWSgZ1l" role="2Oq$k0">
+                              <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                            </node>
+                            <node concept="1mIQ4w" id="622NOWSgZ1m" role="2OqNvi">
+                              <node concept="chp4Y" id="622NOWSgZ1n" role="cj9EA">
+                                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+                              </node>
                             </node>
                           </node>
                         </node>
-                      </node>
-                    </node>
-                  </node>
-                </node>
-                <node concept="2OwXpG" id="20xP4GnmCK1" role="2OqNvi">
-                  <ref role="2Oxat5" node="20xP4GnmAfb" resolve="y" />
-                  <node concept="1ZhdrF" id="20xP4Gnq8AC" role="lGtFl">
-                    <property role="2qtEX8" value="fieldDeclaration" />
-                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1197029447546/1197029500499" />
-                    <node concept="3$xsQk" id="20xP4Gnq8AF" role="3$ytzL">
-                      <node concept="3clFbS" id="20xP4Gnq8AG" role="2VODD2">
-                        <node concept="3clFbF" id="20xP4Gnq97u" role="3cqZAp">
-                          <node concept="2OqwBi" id="20xP4Gnq9nQ" role="3clFbG">
-                            <node concept="1iwH7S" id="20xP4Gnq97t" role="2Oq$k0" />
-                            <node concept="1iwH70" id="20xP4Gnq9wk" role="2OqNvi">
-                              <ref role="1iwH77" node="3U9TwylRbaK" resolve="expandoVariable" />
-                              <node concept="2OqwBi" id="20xP4Gnq9ZJ" role="1iwH7V">
-                                <node concept="30H73N" id="20xP4Gnq9Nu" role="2Oq$k0" />
-                                <node concept="3TrEf2" id="20xP4Gnqacn" role="2OqNvi">
-                                  <ref role="3Tt5mk" to="3ibj:3U9TwylP4eU" resolve="variable" />
+                        <node concept="3cpWs6" id="622NOWSgZ1o" role="3cqZAp">
+                          <node concept="1Wc70l" id="622NOWSgZ1p" role="3cqZAk">
+                            <node concept="3fqX7Q" id="622NOWSgZ1q" role="3uHU7w">
+                              <node concept="2OqwBi" id="622NOWSgZ1r" role="3fr31v">
+                                <node concept="37vLTw" id="622NOWSgZ1s" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                                </node>
+                                <node concept="1mIQ4w" id="622NOWSgZ1t" role="2OqNvi">
+                                  <node concept="chp4Y" id="622NOWSgZ1u" role="cj9EA">
+                                    <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3fqX7Q" id="622NOWSgZ1v" role="3uHU7B">
+                              <node concept="2OqwBi" id="622NOWSgZ1w" role="3fr31v">
+                                <node concept="37vLTw" id="622NOWSgZ1x" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="622NOWSgZ1$" resolve="it" />
+                                </node>
+                                <node concept="1mIQ4w" id="622NOWSgZ1y" role="2OqNvi">
+                                  <node concept="chp4Y" id="622NOWSgZ1z" role="cj9EA">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                                  </node>
                                 </node>
                               </node>
                             </node>
                           </node>
                         </node>
                       </node>
+                      <node concept="Rh6nW" id="622NOWSgZ1$" role="1bW2Oz">
+                        <property role="TrG5h" value="it" />
+                        <node concept="2jxLKc" id="622NOWSgZ1_" role="1tU5fm" />
+                      </node>
                     </node>
                   </node>
                 </node>
-                <node concept="raruj" id="20xP4GnoqEf" role="lGtFl" />
               </node>
             </node>
           </node>
         </node>
-        <node concept="3Tm6S6" id="20xP4GnhVhJ" role="1B3o_S" />
-        <node concept="3cqZAl" id="20xP4GnhVhO" role="3clF45" />
       </node>
-      <node concept="3Tm6S6" id="20xP4GnhVho" role="1B3o_S" />
-    </node>
-  </node>
-  <node concept="13MO4I" id="20xP4Gn6Dq_">
-    <property role="TrG5h" value="reduce_ReturnValue" />
-    <property role="3GE5qa" value="consequences" />
-    <ref role="3gUMe" to="3ibj:20xP4Gn37fc" resolve="ReturnValue" />
-    <node concept="9aQIb" id="20xP4Gn6Drp" role="13RCb5">
-      <node concept="3clFbS" id="20xP4Gn6Drq" role="9aQI4">
-        <node concept="3cpWs8" id="20xP4Gn6Dry" role="3cqZAp">
-          <node concept="3cpWsn" id="20xP4Gn6Drz" role="3cpWs9">
-            <property role="TrG5h" value="name" />
-            <node concept="3uibUv" id="20xP4Gn6Dr$" role="1tU5fm">
-              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-            </node>
-          </node>
-        </node>
-        <node concept="3clFbF" id="20xP4Gn6Ds6" role="3cqZAp">
-          <node concept="37vLTI" id="20xP4Gn6DHN" role="3clFbG">
-            <node concept="37vLTw" id="20xP4Gn6DI4" role="37vLTx">
-              <ref role="3cqZAo" node="20xP4Gn6Drz" resolve="name" />
-              <node concept="raruj" id="20xP4Gn6Eim" role="lGtFl" />
-              <node concept="1ZhdrF" id="20xP4Gn6Ein" role="lGtFl">
-                <property role="2qtEX8" value="variableDeclaration" />
-                <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
-                <node concept="3$xsQk" id="20xP4Gn6Eio" role="3$ytzL">
-                  <node concept="3clFbS" id="20xP4Gn6Eip" role="2VODD2">
-                    <node concept="3clFbF" id="20xP4Gn6Ent" role="3cqZAp">
-                      <node concept="2OqwBi" id="20xP4Gn6EYv" role="3clFbG">
-                        <node concept="1iwH7S" id="20xP4Gn6EOf" role="2Oq$k0" />
-                        <node concept="1iwH70" id="20xP4Gn6F41" role="2OqNvi">
-                          <ref role="1iwH77" node="xJb$LDPcFX" resolve="returnValue" />
-                          <node concept="2OqwBi" id="20xP4Gn6FpA" role="1iwH7V">
-                            <node concept="30H73N" id="20xP4Gn6FdY" role="2Oq$k0" />
-                            <node concept="2Xjw5R" id="20xP4Gn6F$n" role="2OqNvi">
-                              <node concept="1xMEDy" id="20xP4Gn6F$p" role="1xVPHs">
-                                <node concept="chp4Y" id="20xP4Gn6GII" role="ri$Ld">
-                                  <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
-                                </node>
-                              </node>
-                            </node>
-                          </node>
-                        </node>
-                      </node>
+      <node concept="2tJIrI" id="622NOWSh1Ad" role="jymVt">
+        <node concept="1W57fq" id="HN1h99R2FY" role="lGtFl">
+          <node concept="3IZrLx" id="HN1h99R2G1" role="3IZSJc">
+            <node concept="3clFbS" id="HN1h99R2G2" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99R6fn" role="3cqZAp">
+                <node concept="3fqX7Q" id="HN1h99R6fo" role="3clFbG">
+                  <node concept="2OqwBi" id="HN1h99R6fp" role="3fr31v">
+                    <node concept="35c_gC" id="HN1h99R6fq" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="HN1h99R6fr" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
                     </node>
                   </node>
                 </node>
               </node>
             </node>
-            <node concept="37vLTw" id="20xP4Gn6Ds4" role="37vLTJ">
-              <ref role="3cqZAo" node="20xP4Gn6Drz" resolve="name" />
-            </node>
-          </node>
-        </node>
-      </node>
-    </node>
-  </node>
-  <node concept="13MO4I" id="20xP4Gn6H6G">
-    <property role="TrG5h" value="reduce_SetsExpandoState" />
-    <property role="3GE5qa" value="consequences" />
-    <ref role="3gUMe" to="3ibj:20xP4Gn0S9s" resolve="SetsExpandoState" />
-    <node concept="9aQIb" id="20xP4Gn6L21" role="13RCb5">
-      <node concept="3clFbS" id="20xP4Gn6L22" role="9aQI4">
-        <node concept="3cpWs8" id="20xP4Gn6OUd" role="3cqZAp">
-          <node concept="3cpWsn" id="20xP4Gn6OUe" role="3cpWs9">
-            <property role="TrG5h" value="y" />
-            <node concept="3uibUv" id="20xP4Gn6OUf" role="1tU5fm">
-              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-            </node>
           </node>
         </node>
-        <node concept="3clFbF" id="20xP4Gn6OUu" role="3cqZAp">
-          <node concept="37vLTI" id="20xP4Gn6Pcb" role="3clFbG">
-            <node concept="Xl_RD" id="20xP4Gn6Pcs" role="37vLTx">
-              <property role="Xl_RC" value="" />
-              <node concept="29HgVG" id="20xP4Gn6PmH" role="lGtFl">
-                <node concept="3NFfHV" id="20xP4Gn6PmI" role="3NFExx">
-                  <node concept="3clFbS" id="20xP4Gn6PmJ" role="2VODD2">
-                    <node concept="3clFbF" id="20xP4Gn6PmP" role="3cqZAp">
-                      <node concept="2OqwBi" id="20xP4Gn6PmK" role="3clFbG">
-                        <node concept="3TrEf2" id="20xP4Gn6PmN" role="2OqNvi">
-                          <ref role="3Tt5mk" to="3ibj:20xP4Gn0SoF" resolve="value" />
-                        </node>
-                        <node concept="30H73N" id="20xP4Gn6PmO" role="2Oq$k0" />
-                      </node>
+        <node concept="1WS0z7" id="622NOWSh1KU" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSh1KX" role="3Jn$fo">
+            <node concept="3clFbS" id="622NOWSh1KY" role="2VODD2">
+              <node concept="3clFbF" id="622NOWShcWW" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWShcWX" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWShcWY" role="2Oq$k0">
+                    <node concept="30H73N" id="622NOWShcWZ" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="622NOWShcX0" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
                     </node>
                   </node>
-                </node>
-              </node>
-            </node>
-            <node concept="33vP2n" id="20xP4Gn6Q3L" role="37vLTJ">
-              <node concept="29HgVG" id="20xP4Gn6Q4v" role="lGtFl">
-                <node concept="3NFfHV" id="20xP4Gn6Q4w" role="3NFExx">
-                  <node concept="3clFbS" id="20xP4Gn6Q4x" role="2VODD2">
-                    <node concept="3clFbF" id="20xP4Gn6Q4B" role="3cqZAp">
-                      <node concept="2OqwBi" id="20xP4Gn6Q4y" role="3clFbG">
-                        <node concept="3TrEf2" id="20xP4Gn6Q4_" role="2OqNvi">
-                          <ref role="3Tt5mk" to="3ibj:20xP4Gn0SoD" resolve="reference" />
-                        </node>
-                        <node concept="30H73N" id="20xP4Gn6Q4A" role="2Oq$k0" />
-                      </node>
+                  <node concept="v3k3i" id="622NOWShcX1" role="2OqNvi">
+                    <node concept="chp4Y" id="622NOWShcX2" role="v3oSu">
+                      <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
                     </node>
                   </node>
                 </node>
               </node>
             </node>
           </node>
-          <node concept="raruj" id="20xP4Gn6PmC" role="lGtFl" />
         </node>
-      </node>
-    </node>
-  </node>
-  <node concept="312cEu" id="HN1h99RdjL">
-    <property role="TrG5h" value="map_VerifiedClass" />
-    <node concept="3Tm1VV" id="HN1h99RdjM" role="1B3o_S" />
-    <node concept="n94m4" id="HN1h99RdjN" role="lGtFl">
-      <ref role="n9lRv" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
-    </node>
-    <node concept="5jKBG" id="HN1h99RdmM" role="lGtFl">
-      <ref role="v9R2y" node="622NOWSgWdj" resolve="reduce_VerifiedClass" />
-    </node>
-  </node>
-  <node concept="13MO4I" id="6BZjXFisqLI">
-    <property role="TrG5h" value="reduce_VerifiedMethod_WithoutChecks" />
-    <ref role="3gUMe" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
-    <node concept="3clFb_" id="6BZjXFissfS" role="13RCb5">
-      <property role="TrG5h" value="name" />
-      <node concept="3cqZAl" id="6BZjXFissfT" role="3clF45">
-        <node concept="29HgVG" id="6BZjXFissYI" role="lGtFl">
-          <node concept="3NFfHV" id="6BZjXFissYJ" role="3NFExx">
-            <node concept="3clFbS" id="6BZjXFissYK" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFissYQ" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFissYL" role="3clFbG">
-                  <node concept="3TrEf2" id="6BZjXFissYO" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
-                  </node>
-                  <node concept="30H73N" id="6BZjXFissYP" role="2Oq$k0" />
-                </node>
-              </node>
-            </node>
-          </node>
+        <node concept="5jKBG" id="622NOWSh1Ae" role="lGtFl">
+          <ref role="v9R2y" node="5diE_Q35cpt" resolve="reduce_GuardDeclaration_Getter" />
         </node>
       </node>
-      <node concept="3Tm1VV" id="6BZjXFissfU" role="1B3o_S">
-        <node concept="29HgVG" id="6BZjXFissLw" role="lGtFl">
-          <node concept="3NFfHV" id="6BZjXFissLx" role="3NFExx">
-            <node concept="3clFbS" id="6BZjXFissLy" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFissLC" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFissLz" role="3clFbG">
-                  <node concept="3TrEf2" id="6BZjXFissLA" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+      <node concept="2tJIrI" id="622NOWSh25j" role="jymVt">
+        <node concept="1W57fq" id="HN1h99R2NA" role="lGtFl">
+          <node concept="3IZrLx" id="HN1h99R2ND" role="3IZSJc">
+            <node concept="3clFbS" id="HN1h99R2NE" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99R69H" role="3cqZAp">
+                <node concept="3fqX7Q" id="HN1h99R69I" role="3clFbG">
+                  <node concept="2OqwBi" id="HN1h99R69J" role="3fr31v">
+                    <node concept="35c_gC" id="HN1h99R69K" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="HN1h99R69L" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFissLB" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
         </node>
-      </node>
-      <node concept="3clFbS" id="6BZjXFissfV" role="3clF47">
-        <node concept="29HgVG" id="6BZjXFiszxB" role="lGtFl">
-          <node concept="3NFfHV" id="6BZjXFiszxC" role="3NFExx">
-            <node concept="3clFbS" id="6BZjXFiszxD" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiszxJ" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiszxE" role="3clFbG">
-                  <node concept="3TrEf2" id="6BZjXFiszxH" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:fzclF7Z" resolve="body" />
+        <node concept="1WS0z7" id="622NOWSh2PA" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSh2PD" role="3Jn$fo">
+            <node concept="3clFbS" id="622NOWSh2PE" role="2VODD2">
+              <node concept="3clFbF" id="622NOWShcJY" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWShcJZ" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWShcK0" role="2Oq$k0">
+                    <node concept="30H73N" id="622NOWShcK1" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="622NOWShcK2" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                    </node>
+                  </node>
+                  <node concept="v3k3i" id="622NOWShcK3" role="2OqNvi">
+                    <node concept="chp4Y" id="622NOWShcK4" role="v3oSu">
+                      <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFiszxI" role="2Oq$k0" />
-                </node>
-              </node>
-            </node>
-          </node>
-        </node>
-      </node>
-      <node concept="raruj" id="6BZjXFissux" role="lGtFl" />
-      <node concept="17Uvod" id="6BZjXFist5e" role="lGtFl">
-        <property role="2qtEX9" value="name" />
-        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-        <node concept="3zFVjK" id="6BZjXFist5h" role="3zH0cK">
-          <node concept="3clFbS" id="6BZjXFist5i" role="2VODD2">
-            <node concept="3clFbF" id="6BZjXFist5o" role="3cqZAp">
-              <node concept="2OqwBi" id="6BZjXFist5j" role="3clFbG">
-                <node concept="3TrcHB" id="6BZjXFist5m" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
                 </node>
-                <node concept="30H73N" id="6BZjXFist5n" role="2Oq$k0" />
               </node>
             </node>
           </node>
         </node>
-      </node>
-      <node concept="37vLTG" id="6BZjXFisuin" role="3clF46">
-        <property role="TrG5h" value="param" />
-        <node concept="3uibUv" id="6BZjXFisuim" role="1tU5fm">
-          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-        </node>
-        <node concept="2b32R4" id="6BZjXFisup6" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFisup9" role="2P8S$">
-            <node concept="3clFbS" id="6BZjXFisupa" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFisupg" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFisupb" role="3clFbG">
-                  <node concept="3Tsc0h" id="6BZjXFisupe" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
-                  </node>
-                  <node concept="30H73N" id="6BZjXFisupf" role="2Oq$k0" />
-                </node>
+        <node concept="5jKBG" id="622NOWSh25k" role="lGtFl">
+          <ref role="v9R2y" node="xJb$LDJP_W" resolve="reduce_VerifiedMethod_PreconditionAndBody" />
+          <node concept="2OqwBi" id="622NOWSh25l" role="v9R3O">
+            <node concept="2OqwBi" id="622NOWSh25m" role="2Oq$k0">
+              <node concept="30H73N" id="622NOWSh25n" role="2Oq$k0" />
+              <node concept="3Tsc0h" id="622NOWSheb7" role="2OqNvi">
+                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
               </node>
             </node>
+            <node concept="3GX2aA" id="622NOWSh25p" role="2OqNvi" />
           </node>
         </node>
       </node>
-      <node concept="3uibUv" id="6BZjXFisyMt" role="Sfmx6">
-        <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
-        <node concept="2b32R4" id="6BZjXFisyUC" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFisyUF" role="2P8S$">
-            <node concept="3clFbS" id="6BZjXFisyUG" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFisyUM" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFisyUH" role="3clFbG">
-                  <node concept="3Tsc0h" id="6BZjXFisyUK" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:gWSfm_9" resolve="throwsItem" />
+      <node concept="2tJIrI" id="622NOWSh34C" role="jymVt">
+        <node concept="1W57fq" id="HN1h99R2Up" role="lGtFl">
+          <node concept="3IZrLx" id="HN1h99R2Us" role="3IZSJc">
+            <node concept="3clFbS" id="HN1h99R2Ut" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99R64m" role="3cqZAp">
+                <node concept="3fqX7Q" id="HN1h99R64n" role="3clFbG">
+                  <node concept="2OqwBi" id="HN1h99R64o" role="3fr31v">
+                    <node concept="35c_gC" id="HN1h99R64p" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="HN1h99R64q" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFisyUL" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
         </node>
-      </node>
-      <node concept="16euLQ" id="6BZjXFis$Gj" role="16eVyc">
-        <property role="TrG5h" value="T" />
-        <node concept="2b32R4" id="6BZjXFis$V6" role="lGtFl">
+        <node concept="1WS0z7" id="622NOWSh3Db" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSh3De" role="3Jn$fo">
+            <node concept="3clFbS" id="622NOWSh3Df" role="2VODD2">
+              <node concept="3clFbF" id="622NOWShci7" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWShci8" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWShci9" role="2Oq$k0">
+                    <node concept="2OqwBi" id="622NOWShcia" role="2Oq$k0">
+                      <node concept="30H73N" id="622NOWShcib" role="2Oq$k0" />
+                      <node concept="3Tsc0h" id="622NOWShcic" role="2OqNvi">
+                        <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                      </node>
+                    </node>
+                    <node concept="v3k3i" id="622NOWShcid" role="2OqNvi">
+                      <node concept="chp4Y" id="622NOWShcie" role="v3oSu">
+                        <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3zZkjj" id="622NOWShcif" role="2OqNvi">
+                    <node concept="1bVj0M" id="622NOWShcig" role="23t8la">
+                      <node concept="3clFbS" id="622NOWShcih" role="1bW5cS">
+                        <node concept="3clFbF" id="622NOWShcii" role="3cqZAp">
+                          <node concept="2OqwBi" id="622NOWShcij" role="3clFbG">
+                            <node concept="2OqwBi" id="622NOWShcik" role="2Oq$k0">
+                              <node concept="37vLTw" id="622NOWShcil" role="2Oq$k0">
+                                <ref role="3cqZAo" node="622NOWShcio" resolve="it" />
+                              </node>
+                              <node concept="3Tsc0h" id="622NOWShcim" role="2OqNvi">
+                                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                              </node>
+                            </node>
+                            <node concept="3GX2aA" id="622NOWShcin" role="2OqNvi" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="Rh6nW" id="622NOWShcio" role="1bW2Oz">
+                        <property role="TrG5h" value="it" />
+                        <node concept="2jxLKc" id="622NOWShcip" role="1tU5fm" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="622NOWSh34D" role="lGtFl">
+          <ref role="v9R2y" node="xJb$LDMDOz" resolve="reduce_VerifiedMethod_ConsequencesMapper" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="3GunMzSAEce" role="jymVt">
+        <node concept="1W57fq" id="3GunMzSAEcr" role="lGtFl">
+          <node concept="3IZrLx" id="3GunMzSAEcN" role="3IZSJc">
+            <node concept="3clFbS" id="3GunMzSAEdl" role="2VODD2">
+              <node concept="3clFbF" id="3GunMzSAEdY" role="3cqZAp">
+                <node concept="1Wc70l" id="3GunMzSAEe7" role="3clFbG">
+                  <node concept="2OqwBi" id="3GunMzSAEeF" role="3uHU7w">
+                    <node concept="35c_gC" id="3GunMzSAEf6" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="3GunMzSAEfs" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:23QpVD5mCpb" resolve="outlineConsequencesInGeneration" />
+                    </node>
+                  </node>
+                  <node concept="3fqX7Q" id="3GunMzSAEfE" role="3uHU7B">
+                    <node concept="2OqwBi" id="3GunMzSAEf_" role="3fr31v">
+                      <node concept="35c_gC" id="3GunMzSAEgh" role="2Oq$k0">
+                        <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                      </node>
+                      <node concept="2qgKlT" id="3GunMzSAEgv" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1WS0z7" id="3GunMzSAEhu" role="lGtFl">
+          <node concept="3JmXsc" id="3GunMzSAEhx" role="3Jn$fo">
+            <node concept="3clFbS" id="3GunMzSAEhF" role="2VODD2">
+              <node concept="3clFbF" id="3GunMzSAEi9" role="3cqZAp">
+                <node concept="2OqwBi" id="3GunMzSAEit" role="3clFbG">
+                  <node concept="2OqwBi" id="3GunMzSAEiM" role="2Oq$k0">
+                    <node concept="2OqwBi" id="3GunMzSAEiR" role="2Oq$k0">
+                      <node concept="30H73N" id="3GunMzSAEjk" role="2Oq$k0" />
+                      <node concept="3Tsc0h" id="3GunMzSAEjw" role="2OqNvi">
+                        <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                      </node>
+                    </node>
+                    <node concept="v3k3i" id="3GunMzSAEjP" role="2OqNvi">
+                      <node concept="chp4Y" id="3GunMzSAEkk" role="v3oSu">
+                        <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3zZkjj" id="3GunMzSAEkn" role="2OqNvi">
+                    <node concept="1bVj0M" id="3GunMzSAEkV" role="23t8la">
+                      <node concept="3clFbS" id="3GunMzSAEln" role="1bW5cS">
+                        <node concept="3clFbF" id="3GunMzSAElK" role="3cqZAp">
+                          <node concept="2OqwBi" id="3GunMzSAEmd" role="3clFbG">
+                            <node concept="2OqwBi" id="3GunMzSAEmq" role="2Oq$k0">
+                              <node concept="37vLTw" id="3GunMzSAEmA" role="2Oq$k0">
+                                <ref role="3cqZAo" node="3GunMzSAEn6" resolve="it" />
+                              </node>
+                              <node concept="3Tsc0h" id="3GunMzSAEmO" role="2OqNvi">
+                                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                              </node>
+                            </node>
+                            <node concept="3GX2aA" id="3GunMzSAEmT" role="2OqNvi" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="Rh6nW" id="3GunMzSAEn6" role="1bW2Oz">
+                        <property role="TrG5h" value="it" />
+                        <node concept="2jxLKc" id="3GunMzSAEnh" role="1tU5fm" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1W57fq" id="3GunMzSAEgD" role="lGtFl">
+          <node concept="3IZrLx" id="3GunMzSAE5K" role="3IZSJc">
+            <node concept="3clFbS" id="3GunMzSAE6l" role="2VODD2">
+              <node concept="3clFbF" id="3GunMzSAE6C" role="3cqZAp">
+                <node concept="2OqwBi" id="3GunMzSAE6X" role="3clFbG">
+                  <node concept="2OqwBi" id="3GunMzSAE77" role="2Oq$k0">
+                    <node concept="30H73N" id="3GunMzSAE7A" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="3GunMzSAE7I" role="2OqNvi">
+                      <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                    </node>
+                  </node>
+                  <node concept="2HwmR7" id="3GunMzSAE7N" role="2OqNvi">
+                    <node concept="1bVj0M" id="3GunMzSAE8f" role="23t8la">
+                      <node concept="3clFbS" id="3GunMzSAE8w" role="1bW5cS">
+                        <node concept="3clFbF" id="3GunMzSAE8F" role="3cqZAp">
+                          <node concept="2OqwBi" id="3GunMzSAE8Q" role="3clFbG">
+                            <node concept="2OqwBi" id="3GunMzSAE9q" role="2Oq$k0">
+                              <node concept="37vLTw" id="3GunMzSAE9_" role="2Oq$k0">
+                                <ref role="3cqZAo" node="3GunMzSAEbg" resolve="it" />
+                              </node>
+                              <node concept="3TrEf2" id="3GunMzSAEa0" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                              </node>
+                            </node>
+                            <node concept="1mIQ4w" id="3GunMzSAEaA" role="2OqNvi">
+                              <node concept="chp4Y" id="3GunMzSAEaR" role="cj9EA">
+                                <ref role="cht4Q" to="3ibj:56pRkR163TQ" resolve="WhenThrows" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="Rh6nW" id="3GunMzSAEbg" role="1bW2Oz">
+                        <property role="TrG5h" value="it" />
+                        <node concept="2jxLKc" id="3GunMzSAEbN" role="1tU5fm" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="3GunMzSAEhg" role="lGtFl">
+          <ref role="v9R2y" node="3GunMzSADG0" resolve="reduce_VerifiedMethod_ThrowConsequences" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="6BZjXFis_Bn" role="jymVt">
+        <node concept="1W57fq" id="6BZjXFisBy_" role="lGtFl">
+          <node concept="3IZrLx" id="6BZjXFisByC" role="3IZSJc">
+            <node concept="3clFbS" id="6BZjXFisByD" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFisBL2" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFisBL4" role="3clFbG">
+                  <node concept="35c_gC" id="6BZjXFisBL5" role="2Oq$k0">
+                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                  </node>
+                  <node concept="2qgKlT" id="6BZjXFisBL6" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1WS0z7" id="6BZjXFisBlq" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFisBlt" role="3Jn$fo">
+            <node concept="3clFbS" id="6BZjXFisBlu" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFisCoO" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFisCoP" role="3clFbG">
+                  <node concept="2OqwBi" id="6BZjXFisCoQ" role="2Oq$k0">
+                    <node concept="30H73N" id="6BZjXFisCoR" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="6BZjXFisCoS" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                    </node>
+                  </node>
+                  <node concept="v3k3i" id="6BZjXFisCoT" role="2OqNvi">
+                    <node concept="chp4Y" id="6BZjXFisCoU" role="v3oSu">
+                      <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="6BZjXFisBgw" role="lGtFl">
+          <ref role="v9R2y" node="6BZjXFisqLI" resolve="reduce_VerifiedMethod_WithoutChecks" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="622NOWSh1ou" role="jymVt" />
+      <node concept="2tJIrI" id="622NOWSh7Uh" role="jymVt">
+        <node concept="1W57fq" id="HN1h99R30X" role="lGtFl">
+          <node concept="3IZrLx" id="HN1h99R310" role="3IZSJc">
+            <node concept="3clFbS" id="HN1h99R311" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99R5Z8" role="3cqZAp">
+                <node concept="3fqX7Q" id="HN1h99R5Z9" role="3clFbG">
+                  <node concept="2OqwBi" id="HN1h99R5Za" role="3fr31v">
+                    <node concept="35c_gC" id="HN1h99R5Zb" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="HN1h99R5Zc" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1WS0z7" id="622NOWSh8Pq" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSh8Pt" role="3Jn$fo">
+            <node concept="3clFbS" id="622NOWSh8Pu" role="2VODD2">
+              <node concept="3clFbF" id="622NOWShaag" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWShaah" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWShaai" role="2Oq$k0">
+                    <node concept="30H73N" id="622NOWShaaj" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="622NOWShaak" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                    </node>
+                  </node>
+                  <node concept="v3k3i" id="622NOWShaal" role="2OqNvi">
+                    <node concept="chp4Y" id="622NOWShaam" role="v3oSu">
+                      <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="622NOWSh7Ui" role="lGtFl">
+          <ref role="v9R2y" node="2915UUEaAOj" resolve="reduce_StaticVerified_PreconditionAndBody" />
+          <node concept="2OqwBi" id="622NOWSh7Uj" role="v9R3O">
+            <node concept="2OqwBi" id="622NOWShb2L" role="2Oq$k0">
+              <node concept="30H73N" id="622NOWSh7Ul" role="2Oq$k0" />
+              <node concept="3Tsc0h" id="622NOWShc01" role="2OqNvi">
+                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+              </node>
+            </node>
+            <node concept="3GX2aA" id="622NOWSh7Un" role="2OqNvi" />
+          </node>
+        </node>
+      </node>
+      <node concept="2tJIrI" id="622NOWSh8VM" role="jymVt">
+        <node concept="1W57fq" id="HN1h99R37N" role="lGtFl">
+          <node concept="3IZrLx" id="HN1h99R37Q" role="3IZSJc">
+            <node concept="3clFbS" id="HN1h99R37R" role="2VODD2">
+              <node concept="3clFbF" id="HN1h99R5XM" role="3cqZAp">
+                <node concept="3fqX7Q" id="HN1h99R5XN" role="3clFbG">
+                  <node concept="2OqwBi" id="HN1h99R5XO" role="3fr31v">
+                    <node concept="35c_gC" id="HN1h99R5XP" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="HN1h99R5XQ" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1WS0z7" id="622NOWSh9ge" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSh9gh" role="3Jn$fo">
+            <node concept="3clFbS" id="622NOWSh9gi" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSh9DW" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSh9DX" role="3clFbG">
+                  <node concept="2OqwBi" id="622NOWSh9DY" role="2Oq$k0">
+                    <node concept="2OqwBi" id="622NOWSh9DZ" role="2Oq$k0">
+                      <node concept="30H73N" id="622NOWSh9E0" role="2Oq$k0" />
+                      <node concept="3Tsc0h" id="622NOWSh9E1" role="2OqNvi">
+                        <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                      </node>
+                    </node>
+                    <node concept="v3k3i" id="622NOWSh9E2" role="2OqNvi">
+                      <node concept="chp4Y" id="622NOWSh9E3" role="v3oSu">
+                        <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3zZkjj" id="622NOWSh9E4" role="2OqNvi">
+                    <node concept="1bVj0M" id="622NOWSh9E5" role="23t8la">
+                      <node concept="3clFbS" id="622NOWSh9E6" role="1bW5cS">
+                        <node concept="3clFbF" id="622NOWSh9E7" role="3cqZAp">
+                          <node concept="2OqwBi" id="622NOWSh9E8" role="3clFbG">
+                            <node concept="2OqwBi" id="622NOWSh9E9" role="2Oq$k0">
+                              <node concept="37vLTw" id="622NOWSh9Ea" role="2Oq$k0">
+                                <ref role="3cqZAo" node="622NOWSh9Ed" resolve="it" />
+                              </node>
+                              <node concept="3Tsc0h" id="622NOWSh9Eb" role="2OqNvi">
+                                <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                              </node>
+                            </node>
+                            <node concept="3GX2aA" id="622NOWSh9Ec" role="2OqNvi" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="Rh6nW" id="622NOWSh9Ed" role="1bW2Oz">
+                        <property role="TrG5h" value="it" />
+                        <node concept="2jxLKc" id="622NOWSh9Ee" role="1tU5fm" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="622NOWSh8VN" role="lGtFl">
+          <ref role="v9R2y" node="2915UUEaZt4" resolve="reduce_StaticVerified_ConsequencesMapper" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="6BZjXFiuLgv" role="jymVt">
+        <node concept="1W57fq" id="6BZjXFiuNXa" role="lGtFl">
+          <node concept="3IZrLx" id="6BZjXFiuNXd" role="3IZSJc">
+            <node concept="3clFbS" id="6BZjXFiuNXe" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuOgG" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuOgH" role="3clFbG">
+                  <node concept="35c_gC" id="6BZjXFiuOgI" role="2Oq$k0">
+                    <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                  </node>
+                  <node concept="2qgKlT" id="6BZjXFiuOgJ" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1WS0z7" id="6BZjXFiuN5u" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFiuN5x" role="3Jn$fo">
+            <node concept="3clFbS" id="6BZjXFiuN5y" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuNbZ" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuNc0" role="3clFbG">
+                  <node concept="2OqwBi" id="6BZjXFiuNc1" role="2Oq$k0">
+                    <node concept="30H73N" id="6BZjXFiuNc2" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="6BZjXFiuNc3" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:4EqhHTp4Mw3" resolve="member" />
+                    </node>
+                  </node>
+                  <node concept="v3k3i" id="6BZjXFiuNc4" role="2OqNvi">
+                    <node concept="chp4Y" id="6BZjXFiuNc5" role="v3oSu">
+                      <ref role="cht4Q" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="5jKBG" id="6BZjXFiuN0$" role="lGtFl">
+          <ref role="v9R2y" node="6BZjXFiuGV8" resolve="reduce_StaticVerfied_WithoutChecks" />
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="622NOWSgWpM" role="1B3o_S">
+        <node concept="29HgVG" id="622NOWSgWtM" role="lGtFl">
+          <node concept="3NFfHV" id="622NOWSgWtN" role="3NFExx">
+            <node concept="3clFbS" id="622NOWSgWtO" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSgWtU" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSgWtP" role="3clFbG">
+                  <node concept="3TrEf2" id="622NOWSgWtS" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+                  </node>
+                  <node concept="30H73N" id="622NOWSgWtT" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="raruj" id="622NOWSgWrV" role="lGtFl" />
+      <node concept="17Uvod" id="622NOWSgWNF" role="lGtFl">
+        <property role="2qtEX9" value="name" />
+        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+        <node concept="3zFVjK" id="622NOWSgWNI" role="3zH0cK">
+          <node concept="3clFbS" id="622NOWSgWNJ" role="2VODD2">
+            <node concept="3clFbF" id="622NOWSgWNP" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWSgWNK" role="3clFbG">
+                <node concept="3TrcHB" id="622NOWSgWNN" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                </node>
+                <node concept="30H73N" id="622NOWSgWNO" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="17Uvod" id="622NOWSgX5r" role="lGtFl">
+        <property role="2qtEX9" value="packageName" />
+        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1107461130800/2791683072064593257" />
+        <node concept="3zFVjK" id="622NOWSgX5u" role="3zH0cK">
+          <node concept="3clFbS" id="622NOWSgX5v" role="2VODD2">
+            <node concept="3clFbF" id="622NOWSgX5_" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWSgX5w" role="3clFbG">
+                <node concept="3TrcHB" id="622NOWSgX5z" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpck:hnGE5uv" resolve="virtualPackage" />
+                </node>
+                <node concept="30H73N" id="622NOWSgX5$" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="17Uvod" id="622NOWSgXjP" role="lGtFl">
+        <property role="2qtEX9" value="abstractClass" />
+        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068390468198/1075300953594" />
+        <node concept="3zFVjK" id="622NOWSgXjS" role="3zH0cK">
+          <node concept="3clFbS" id="622NOWSgXjT" role="2VODD2">
+            <node concept="3clFbF" id="622NOWSgXjZ" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWSgXjU" role="3clFbG">
+                <node concept="3TrcHB" id="622NOWSgXjX" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpee:fDsVARU" resolve="abstractClass" />
+                </node>
+                <node concept="30H73N" id="622NOWSgXjY" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="17Uvod" id="3JWakgf_2r6" role="lGtFl">
+        <property role="2qtEX9" value="isFinal" />
+        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068390468198/1221565133444" />
+        <node concept="3zFVjK" id="3JWakgf_2rw" role="3zH0cK">
+          <node concept="3clFbS" id="3JWakgf_2ry" role="2VODD2">
+            <node concept="3clFbF" id="3JWakgf_2rG" role="3cqZAp">
+              <node concept="22lmx$" id="3JWakgf_2rH" role="3clFbG">
+                <node concept="1Wc70l" id="3ZGaUtnF0e3" role="3uHU7w">
+                  <node concept="1Wc70l" id="3JWakgf_2rO" role="3uHU7B">
+                    <node concept="2OqwBi" id="3JWakgf_2sl" role="3uHU7w">
+                      <node concept="30H73N" id="3JWakgf_2sJ" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3JWakgf_2tl" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:27F$qg$WgO_" resolve="isDelegatingWrapper" />
+                      </node>
+                    </node>
+                    <node concept="3fqX7Q" id="3JWakgf_2tv" role="3uHU7B">
+                      <node concept="2OqwBi" id="3JWakgf_2tH" role="3fr31v">
+                        <node concept="30H73N" id="3JWakgf_2t$" role="2Oq$k0" />
+                        <node concept="3TrcHB" id="3JWakgf_2u1" role="2OqNvi">
+                          <ref role="3TsBF5" to="tpee:fDsVARU" resolve="abstractClass" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3fqX7Q" id="3ZGaUtnF0e6" role="3uHU7w">
+                    <node concept="2OqwBi" id="3ZGaUtnF0e9" role="3fr31v">
+                      <node concept="30H73N" id="3ZGaUtnF0eC" role="2Oq$k0" />
+                      <node concept="2qgKlT" id="3ZGaUtnF0eF" role="2OqNvi">
+                        <ref role="37wK5l" to="pw26:5mc6Gyaw0e3" resolve="hasSubclasses" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="3JWakgf_2uE" role="3uHU7B">
+                  <node concept="30H73N" id="3JWakgf_2v4" role="2Oq$k0" />
+                  <node concept="3TrcHB" id="3JWakgf_2vg" role="2OqNvi">
+                    <ref role="3TsBF5" to="tpee:hLEXba4" resolve="isFinal" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16euLQ" id="622NOWSgXsl" role="16eVyc">
+        <property role="TrG5h" value="T" />
+        <node concept="2b32R4" id="622NOWSgY14" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSgY17" role="2P8S$">
+            <node concept="3clFbS" id="622NOWSgY18" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSgY1e" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSgY19" role="3clFbG">
+                  <node concept="3Tsc0h" id="622NOWSgY1c" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:g96eVAe" resolve="typeVariableDeclaration" />
+                  </node>
+                  <node concept="30H73N" id="622NOWSgY1d" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="622NOWSgY6Q" role="1zkMxy">
+        <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        <node concept="29HgVG" id="622NOWSgYDC" role="lGtFl">
+          <node concept="3NFfHV" id="622NOWSgYDD" role="3NFExx">
+            <node concept="3clFbS" id="622NOWSgYDE" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSgYDK" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSgYDF" role="3clFbG">
+                  <node concept="3TrEf2" id="622NOWSgYDI" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+                  </node>
+                  <node concept="30H73N" id="622NOWSgYDJ" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="622NOWSgYrp" role="EKbjA">
+        <ref role="3uigEE" to="wyt6:~Cloneable" resolve="Cloneable" />
+        <node concept="2b32R4" id="622NOWSgYuP" role="lGtFl">
+          <node concept="3JmXsc" id="622NOWSgYuS" role="2P8S$">
+            <node concept="3clFbS" id="622NOWSgYuT" role="2VODD2">
+              <node concept="3clFbF" id="622NOWSgYuZ" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWSgYuU" role="3clFbG">
+                  <node concept="3Tsc0h" id="622NOWSgYuX" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:fWEKbgp" resolve="implementedInterface" />
+                  </node>
+                  <node concept="30H73N" id="622NOWSgYuY" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="3DygHpg8btc" role="EKbjA">
+        <ref role="3uigEE" to="q3ut:3uK$Pg$AXM4" resolve="Recyclable" />
+        <node concept="1W57fq" id="3DygHpg8btJ" role="lGtFl">
+          <node concept="3IZrLx" id="3DygHpg8buc" role="3IZSJc">
+            <node concept="3clFbS" id="3DygHpg8bup" role="2VODD2">
+              <node concept="3clFbF" id="3DygHpg8bu$" role="3cqZAp">
+                <node concept="3fqX7Q" id="3DygHpg8bv7" role="3clFbG">
+                  <node concept="2OqwBi" id="3DygHpg8bvA" role="3fr31v">
+                    <node concept="35c_gC" id="3DygHpg8bvZ" role="2Oq$k0">
+                      <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                    </node>
+                    <node concept="2qgKlT" id="3DygHpg8bw9" role="2OqNvi">
+                      <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="13MO4I" id="3U9TwylRqLC">
+    <property role="TrG5h" value="reduce_ExpandoVariable" />
+    <property role="3GE5qa" value="expando" />
+    <ref role="3gUMe" to="3ibj:3U9TwylHNnJ" resolve="ExpandoVariable" />
+    <node concept="312cEg" id="3U9TwylRqO1" role="13RCb5">
+      <property role="TrG5h" value="field" />
+      <node concept="3Tm1VV" id="3U9TwylRqOu" role="1B3o_S" />
+      <node concept="3uibUv" id="3U9TwylRqO9" role="1tU5fm">
+        <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        <node concept="29HgVG" id="3U9TwylRqO$" role="lGtFl">
+          <node concept="3NFfHV" id="3U9TwylRqO_" role="3NFExx">
+            <node concept="3clFbS" id="3U9TwylRqOA" role="2VODD2">
+              <node concept="3clFbF" id="3U9TwylRqOG" role="3cqZAp">
+                <node concept="2OqwBi" id="3U9TwylRqOB" role="3clFbG">
+                  <node concept="3TrEf2" id="3U9TwylRqOE" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:3U9TwylHNpn" resolve="type" />
+                  </node>
+                  <node concept="30H73N" id="3U9TwylRqOF" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="33vP2n" id="3U9TwylRqOi" role="33vP2m">
+        <node concept="29HgVG" id="3U9TwylRqUF" role="lGtFl">
+          <node concept="3NFfHV" id="3U9TwylRqUG" role="3NFExx">
+            <node concept="3clFbS" id="3U9TwylRqUH" role="2VODD2">
+              <node concept="3clFbF" id="3U9TwylRqUN" role="3cqZAp">
+                <node concept="2OqwBi" id="3U9TwylRqUI" role="3clFbG">
+                  <node concept="3TrEf2" id="3U9TwylRqUL" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:3U9TwylHNC4" resolve="defaultValue" />
+                  </node>
+                  <node concept="30H73N" id="3U9TwylRqUM" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="raruj" id="3U9TwylRqOq" role="lGtFl" />
+      <node concept="17Uvod" id="3U9TwylRr1$" role="lGtFl">
+        <property role="2qtEX9" value="name" />
+        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+        <node concept="3zFVjK" id="3U9TwylRr1B" role="3zH0cK">
+          <node concept="3clFbS" id="3U9TwylRr1C" role="2VODD2">
+            <node concept="3clFbF" id="3U9TwylRr1I" role="3cqZAp">
+              <node concept="2OqwBi" id="3U9TwylRr1D" role="3clFbG">
+                <node concept="3TrcHB" id="3U9TwylRr1G" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                </node>
+                <node concept="30H73N" id="3U9TwylRr1H" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="312cEu" id="3U9TwylT3UH">
+    <property role="TrG5h" value="map_ExpandoDeclaration" />
+    <property role="3GE5qa" value="expando" />
+    <node concept="3clFbW" id="3U9TwylT4YB" role="jymVt">
+      <node concept="3cqZAl" id="3U9TwylT4YC" role="3clF45" />
+      <node concept="3Tm6S6" id="3U9TwylT4YD" role="1B3o_S" />
+      <node concept="3clFbS" id="3U9TwylT4YE" role="3clF47" />
+    </node>
+    <node concept="Wx3nA" id="3U9TwylT5lA" role="jymVt">
+      <property role="TrG5h" value="variables" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3uibUv" id="3U9TwylT5lB" role="1tU5fm">
+        <ref role="3uigEE" to="q3ut:3JJ_7nbYl5k" resolve="ConcurrentWeakIdentityMap" />
+        <node concept="3uibUv" id="3U9TwylT8kV" role="11_B2D">
+          <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3U9TwylT5lE" role="33vP2m">
+        <node concept="1pGfFk" id="3U9TwylT5lF" role="2ShVmc">
+          <ref role="37wK5l" to="q3ut:3JJ_7nbYlcu" resolve="ConcurrentWeakIdentityMap" />
+          <node concept="3uibUv" id="3U9TwylT8By" role="1pMfVU">
+            <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="3U9TwylT5lI" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3U9TwylUfiT" role="jymVt">
+      <node concept="2b32R4" id="3U9TwylUfxH" role="lGtFl">
+        <ref role="2rW$FS" node="3U9TwylRbaK" resolve="expandoVariable" />
+        <node concept="3JmXsc" id="3U9TwylUfxI" role="2P8S$">
+          <node concept="3clFbS" id="3U9TwylUfxJ" role="2VODD2">
+            <node concept="3clFbF" id="3U9TwylUfyq" role="3cqZAp">
+              <node concept="2OqwBi" id="3U9TwylUfJr" role="3clFbG">
+                <node concept="30H73N" id="3U9TwylUfyp" role="2Oq$k0" />
+                <node concept="3Tsc0h" id="3U9TwylUfVY" role="2OqNvi">
+                  <ref role="3TtcxE" to="3ibj:3U9TwylHPG8" resolve="variables" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2YIFZL" id="3U9TwylT6hl" role="jymVt">
+      <property role="TrG5h" value="of" />
+      <node concept="3clFbS" id="3U9TwylT6hm" role="3clF47">
+        <node concept="3cpWs6" id="3U9TwylT6hn" role="3cqZAp">
+          <node concept="2OqwBi" id="3U9TwylT6ho" role="3cqZAk">
+            <node concept="liA8E" id="3U9TwylT6hp" role="2OqNvi">
+              <ref role="37wK5l" to="q3ut:3JJ_7nbYlij" resolve="computeIfAbsent" />
+              <node concept="37vLTw" id="3U9TwylT6hq" role="37wK5m">
+                <ref role="3cqZAo" node="3U9TwylT6h$" resolve="target" />
+              </node>
+              <node concept="1bVj0M" id="3U9TwylT6hr" role="37wK5m">
+                <node concept="3clFbS" id="3U9TwylT6hs" role="1bW5cS">
+                  <node concept="3clFbF" id="3U9TwylT6ht" role="3cqZAp">
+                    <node concept="2ShNRf" id="3U9TwylT6hu" role="3clFbG">
+                      <node concept="1pGfFk" id="3U9TwylT6hv" role="2ShVmc">
+                        <ref role="37wK5l" node="3U9TwylT4YB" resolve="map_ExpandoDeclaration" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTG" id="3U9TwylT6hw" role="1bW2Oz">
+                  <property role="TrG5h" value="name" />
+                  <node concept="3uibUv" id="3U9TwylT6hx" role="1tU5fm">
+                    <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="37vLTw" id="3U9TwylT7JR" role="2Oq$k0">
+              <ref role="3cqZAo" node="3U9TwylT5lA" resolve="variables" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="3U9TwylT7dC" role="3clF45">
+        <ref role="3uigEE" node="3U9TwylT3UH" resolve="map_ExpandoDeclaration" />
+      </node>
+      <node concept="3Tm1VV" id="3U9TwylT6hz" role="1B3o_S" />
+      <node concept="37vLTG" id="3U9TwylT6h$" role="3clF46">
+        <property role="TrG5h" value="target" />
+        <node concept="3uibUv" id="3U9TwylT6h_" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          <node concept="29HgVG" id="3U9TwylT6hA" role="lGtFl">
+            <node concept="3NFfHV" id="3U9TwylT6hB" role="3NFExx">
+              <node concept="3clFbS" id="3U9TwylT6hC" role="2VODD2">
+                <node concept="3clFbF" id="3U9TwylT6hD" role="3cqZAp">
+                  <node concept="2OqwBi" id="3U9TwylT6hE" role="3clFbG">
+                    <node concept="3TrEf2" id="3U9TwylT6hF" role="2OqNvi">
+                      <ref role="3Tt5mk" to="3ibj:3U9TwylHNm3" resolve="for" />
+                    </node>
+                    <node concept="30H73N" id="3U9TwylT6hG" role="2Oq$k0" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3U9TwylT3UI" role="1B3o_S" />
+    <node concept="n94m4" id="3U9TwylT3UJ" role="lGtFl">
+      <ref role="n9lRv" to="3ibj:3U9TwylHNgl" resolve="ExpandoDeclaration" />
+    </node>
+    <node concept="17Uvod" id="3U9TwylT6LY" role="lGtFl">
+      <property role="2qtEX9" value="name" />
+      <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+      <node concept="3zFVjK" id="3U9TwylT6M1" role="3zH0cK">
+        <node concept="3clFbS" id="3U9TwylT6M2" role="2VODD2">
+          <node concept="3clFbF" id="3U9TwylT6M8" role="3cqZAp">
+            <node concept="2OqwBi" id="3U9TwylT6M3" role="3clFbG">
+              <node concept="3TrcHB" id="3U9TwylT6M6" role="2OqNvi">
+                <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+              </node>
+              <node concept="30H73N" id="3U9TwylT6M7" role="2Oq$k0" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2ZBi8u" id="20xP4Gng8Zp" role="lGtFl">
+      <ref role="2rW$FS" node="3U9TwylRaVa" resolve="expandoDeclaration" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="3U9TwylVVix">
+    <property role="TrG5h" value="reduce_ExpandoReference" />
+    <property role="3GE5qa" value="expando" />
+    <ref role="3gUMe" to="3ibj:3U9TwylP4cm" resolve="ExpandoReference" />
+    <node concept="312cEu" id="20xP4GnhVh9" role="13RCb5">
+      <property role="TrG5h" value="X" />
+      <node concept="2YIFZL" id="20xP4GnhVj_" role="jymVt">
+        <property role="TrG5h" value="of" />
+        <node concept="3clFbS" id="20xP4GnhVjC" role="3clF47">
+          <node concept="3cpWs6" id="20xP4GniYfc" role="3cqZAp">
+            <node concept="10Nm6u" id="20xP4GniYfp" role="3cqZAk" />
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="20xP4GnhViR" role="1B3o_S" />
+        <node concept="3uibUv" id="20xP4GnhVjq" role="3clF45">
+          <ref role="3uigEE" node="20xP4GnhVh9" resolve="X" />
+        </node>
+        <node concept="37vLTG" id="20xP4GnkNzP" role="3clF46">
+          <property role="TrG5h" value="x" />
+          <node concept="3uibUv" id="20xP4GnkNzO" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+      </node>
+      <node concept="312cEg" id="20xP4GnmAfb" role="jymVt">
+        <property role="TrG5h" value="y" />
+        <node concept="3Tm6S6" id="20xP4GnmAbL" role="1B3o_S" />
+        <node concept="10P_77" id="20xP4GnmAeY" role="1tU5fm" />
+      </node>
+      <node concept="3clFb_" id="20xP4GnhVhZ" role="jymVt">
+        <property role="TrG5h" value="reduce" />
+        <node concept="3clFbS" id="20xP4GnhVi2" role="3clF47">
+          <node concept="3cpWs8" id="20xP4GnmCdJ" role="3cqZAp">
+            <node concept="3cpWsn" id="20xP4GnmCdM" role="3cpWs9">
+              <property role="TrG5h" value="z" />
+              <node concept="10P_77" id="20xP4GnmCdH" role="1tU5fm" />
+              <node concept="2OqwBi" id="20xP4GnmCAP" role="33vP2m">
+                <node concept="2YIFZM" id="20xP4GnmCro" role="2Oq$k0">
+                  <ref role="37wK5l" node="20xP4GnhVj_" resolve="of" />
+                  <ref role="1Pybhc" node="20xP4GnhVh9" resolve="X" />
+                  <node concept="10Nm6u" id="20xP4GnmDz$" role="37wK5m">
+                    <node concept="29HgVG" id="20xP4GnmDz_" role="lGtFl">
+                      <node concept="3NFfHV" id="20xP4GnmDzA" role="3NFExx">
+                        <node concept="3clFbS" id="20xP4GnmDzB" role="2VODD2">
+                          <node concept="3clFbF" id="20xP4GnmDzC" role="3cqZAp">
+                            <node concept="2OqwBi" id="20xP4GnmDzD" role="3clFbG">
+                              <node concept="3TrEf2" id="20xP4GnmDzE" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:3U9TwylXFy6" resolve="receiver" />
+                              </node>
+                              <node concept="30H73N" id="20xP4GnmDzF" role="2Oq$k0" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1ZhdrF" id="20xP4GnmCSY" role="lGtFl">
+                    <property role="2qtEX8" value="classConcept" />
+                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1081236700937/1144433194310" />
+                    <node concept="3$xsQk" id="20xP4GnmCT1" role="3$ytzL">
+                      <node concept="3clFbS" id="20xP4GnmCT2" role="2VODD2">
+                        <node concept="3clFbF" id="20xP4GnmD9M" role="3cqZAp">
+                          <node concept="2OqwBi" id="20xP4GnmD9N" role="3clFbG">
+                            <node concept="1iwH7S" id="20xP4GnmD9O" role="2Oq$k0" />
+                            <node concept="1iwH70" id="20xP4GnmD9P" role="2OqNvi">
+                              <ref role="1iwH77" node="3U9TwylRaVa" resolve="expandoDeclaration" />
+                              <node concept="2OqwBi" id="20xP4GnmD9Q" role="1iwH7V">
+                                <node concept="30H73N" id="20xP4GnmD9R" role="2Oq$k0" />
+                                <node concept="3TrEf2" id="20xP4GnmD9S" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3U9TwylP4eO" resolve="expando" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="2OwXpG" id="20xP4GnmCK1" role="2OqNvi">
+                  <ref role="2Oxat5" node="20xP4GnmAfb" resolve="y" />
+                  <node concept="1ZhdrF" id="20xP4Gnq8AC" role="lGtFl">
+                    <property role="2qtEX8" value="fieldDeclaration" />
+                    <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1197029447546/1197029500499" />
+                    <node concept="3$xsQk" id="20xP4Gnq8AF" role="3$ytzL">
+                      <node concept="3clFbS" id="20xP4Gnq8AG" role="2VODD2">
+                        <node concept="3clFbF" id="20xP4Gnq97u" role="3cqZAp">
+                          <node concept="2OqwBi" id="20xP4Gnq9nQ" role="3clFbG">
+                            <node concept="1iwH7S" id="20xP4Gnq97t" role="2Oq$k0" />
+                            <node concept="1iwH70" id="20xP4Gnq9wk" role="2OqNvi">
+                              <ref role="1iwH77" node="3U9TwylRbaK" resolve="expandoVariable" />
+                              <node concept="2OqwBi" id="20xP4Gnq9ZJ" role="1iwH7V">
+                                <node concept="30H73N" id="20xP4Gnq9Nu" role="2Oq$k0" />
+                                <node concept="3TrEf2" id="20xP4Gnqacn" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3U9TwylP4eU" resolve="variable" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="raruj" id="20xP4GnoqEf" role="lGtFl" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="20xP4GnhVhJ" role="1B3o_S" />
+        <node concept="3cqZAl" id="20xP4GnhVhO" role="3clF45" />
+      </node>
+      <node concept="3Tm6S6" id="20xP4GnhVho" role="1B3o_S" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="20xP4Gn6Dq_">
+    <property role="TrG5h" value="reduce_ReturnValue" />
+    <property role="3GE5qa" value="consequences" />
+    <ref role="3gUMe" to="3ibj:20xP4Gn37fc" resolve="ReturnValue" />
+    <node concept="9aQIb" id="20xP4Gn6Drp" role="13RCb5">
+      <node concept="3clFbS" id="20xP4Gn6Drq" role="9aQI4">
+        <node concept="3cpWs8" id="20xP4Gn6Dry" role="3cqZAp">
+          <node concept="3cpWsn" id="20xP4Gn6Drz" role="3cpWs9">
+            <property role="TrG5h" value="name" />
+            <node concept="3uibUv" id="20xP4Gn6Dr$" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="20xP4Gn6Ds6" role="3cqZAp">
+          <node concept="37vLTI" id="20xP4Gn6DHN" role="3clFbG">
+            <node concept="37vLTw" id="20xP4Gn6DI4" role="37vLTx">
+              <ref role="3cqZAo" node="20xP4Gn6Drz" resolve="name" />
+              <node concept="raruj" id="20xP4Gn6Eim" role="lGtFl" />
+              <node concept="1ZhdrF" id="20xP4Gn6Ein" role="lGtFl">
+                <property role="2qtEX8" value="variableDeclaration" />
+                <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                <node concept="3$xsQk" id="20xP4Gn6Eio" role="3$ytzL">
+                  <node concept="3clFbS" id="20xP4Gn6Eip" role="2VODD2">
+                    <node concept="3clFbF" id="20xP4Gn6Ent" role="3cqZAp">
+                      <node concept="2OqwBi" id="20xP4Gn6EYv" role="3clFbG">
+                        <node concept="1iwH7S" id="20xP4Gn6EOf" role="2Oq$k0" />
+                        <node concept="1iwH70" id="20xP4Gn6F41" role="2OqNvi">
+                          <ref role="1iwH77" node="xJb$LDPcFX" resolve="returnValue" />
+                          <node concept="2OqwBi" id="20xP4Gn6FpA" role="1iwH7V">
+                            <node concept="30H73N" id="20xP4Gn6FdY" role="2Oq$k0" />
+                            <node concept="2Xjw5R" id="20xP4Gn6F$n" role="2OqNvi">
+                              <node concept="1xMEDy" id="20xP4Gn6F$p" role="1xVPHs">
+                                <node concept="chp4Y" id="20xP4Gn6GII" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="37vLTw" id="20xP4Gn6Ds4" role="37vLTJ">
+              <ref role="3cqZAo" node="20xP4Gn6Drz" resolve="name" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="13MO4I" id="20xP4Gn6H6G">
+    <property role="TrG5h" value="reduce_SetsExpandoState" />
+    <property role="3GE5qa" value="consequences" />
+    <ref role="3gUMe" to="3ibj:20xP4Gn0S9s" resolve="SetsExpandoState" />
+    <node concept="9aQIb" id="20xP4Gn6L21" role="13RCb5">
+      <node concept="3clFbS" id="20xP4Gn6L22" role="9aQI4">
+        <node concept="3cpWs8" id="20xP4Gn6OUd" role="3cqZAp">
+          <node concept="3cpWsn" id="20xP4Gn6OUe" role="3cpWs9">
+            <property role="TrG5h" value="y" />
+            <node concept="3uibUv" id="20xP4Gn6OUf" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="20xP4Gn6OUu" role="3cqZAp">
+          <node concept="37vLTI" id="20xP4Gn6Pcb" role="3clFbG">
+            <node concept="Xl_RD" id="20xP4Gn6Pcs" role="37vLTx">
+              <property role="Xl_RC" value="" />
+              <node concept="29HgVG" id="20xP4Gn6PmH" role="lGtFl">
+                <node concept="3NFfHV" id="20xP4Gn6PmI" role="3NFExx">
+                  <node concept="3clFbS" id="20xP4Gn6PmJ" role="2VODD2">
+                    <node concept="3clFbF" id="20xP4Gn6PmP" role="3cqZAp">
+                      <node concept="2OqwBi" id="20xP4Gn6PmK" role="3clFbG">
+                        <node concept="3TrEf2" id="20xP4Gn6PmN" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:20xP4Gn0SoF" resolve="value" />
+                        </node>
+                        <node concept="30H73N" id="20xP4Gn6PmO" role="2Oq$k0" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="33vP2n" id="20xP4Gn6Q3L" role="37vLTJ">
+              <node concept="29HgVG" id="20xP4Gn6Q4v" role="lGtFl">
+                <node concept="3NFfHV" id="20xP4Gn6Q4w" role="3NFExx">
+                  <node concept="3clFbS" id="20xP4Gn6Q4x" role="2VODD2">
+                    <node concept="3clFbF" id="20xP4Gn6Q4B" role="3cqZAp">
+                      <node concept="2OqwBi" id="20xP4Gn6Q4y" role="3clFbG">
+                        <node concept="3TrEf2" id="20xP4Gn6Q4_" role="2OqNvi">
+                          <ref role="3Tt5mk" to="3ibj:20xP4Gn0SoD" resolve="reference" />
+                        </node>
+                        <node concept="30H73N" id="20xP4Gn6Q4A" role="2Oq$k0" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="raruj" id="20xP4Gn6PmC" role="lGtFl" />
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="312cEu" id="HN1h99RdjL">
+    <property role="TrG5h" value="map_VerifiedClass" />
+    <node concept="3Tm1VV" id="HN1h99RdjM" role="1B3o_S" />
+    <node concept="n94m4" id="HN1h99RdjN" role="lGtFl">
+      <ref role="n9lRv" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+    </node>
+    <node concept="5jKBG" id="HN1h99RdmM" role="lGtFl">
+      <ref role="v9R2y" node="622NOWSgWdj" resolve="reduce_VerifiedClass" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="6BZjXFisqLI">
+    <property role="TrG5h" value="reduce_VerifiedMethod_WithoutChecks" />
+    <ref role="3gUMe" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+    <node concept="3clFb_" id="6BZjXFissfS" role="13RCb5">
+      <property role="TrG5h" value="name" />
+      <node concept="3cqZAl" id="6BZjXFissfT" role="3clF45">
+        <node concept="29HgVG" id="6BZjXFissYI" role="lGtFl">
+          <node concept="3NFfHV" id="6BZjXFissYJ" role="3NFExx">
+            <node concept="3clFbS" id="6BZjXFissYK" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFissYQ" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFissYL" role="3clFbG">
+                  <node concept="3TrEf2" id="6BZjXFissYO" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fzclF7X" resolve="returnType" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFissYP" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="6BZjXFissfU" role="1B3o_S">
+        <node concept="29HgVG" id="6BZjXFissLw" role="lGtFl">
+          <node concept="3NFfHV" id="6BZjXFissLx" role="3NFExx">
+            <node concept="3clFbS" id="6BZjXFissLy" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFissLC" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFissLz" role="3clFbG">
+                  <node concept="3TrEf2" id="6BZjXFissLA" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFissLB" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbS" id="6BZjXFissfV" role="3clF47">
+        <node concept="29HgVG" id="6BZjXFiszxB" role="lGtFl">
+          <node concept="3NFfHV" id="6BZjXFiszxC" role="3NFExx">
+            <node concept="3clFbS" id="6BZjXFiszxD" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiszxJ" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiszxE" role="3clFbG">
+                  <node concept="3TrEf2" id="6BZjXFiszxH" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fzclF7Z" resolve="body" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiszxI" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="raruj" id="6BZjXFissux" role="lGtFl" />
+      <node concept="17Uvod" id="6BZjXFist5e" role="lGtFl">
+        <property role="2qtEX9" value="name" />
+        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+        <node concept="3zFVjK" id="6BZjXFist5h" role="3zH0cK">
+          <node concept="3clFbS" id="6BZjXFist5i" role="2VODD2">
+            <node concept="3clFbF" id="6BZjXFist5o" role="3cqZAp">
+              <node concept="2OqwBi" id="6BZjXFist5j" role="3clFbG">
+                <node concept="3TrcHB" id="6BZjXFist5m" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                </node>
+                <node concept="30H73N" id="6BZjXFist5n" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="6BZjXFisuin" role="3clF46">
+        <property role="TrG5h" value="param" />
+        <node concept="3uibUv" id="6BZjXFisuim" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="2b32R4" id="6BZjXFisup6" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFisup9" role="2P8S$">
+            <node concept="3clFbS" id="6BZjXFisupa" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFisupg" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFisupb" role="3clFbG">
+                  <node concept="3Tsc0h" id="6BZjXFisupe" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFisupf" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="6BZjXFisyMt" role="Sfmx6">
+        <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+        <node concept="2b32R4" id="6BZjXFisyUC" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFisyUF" role="2P8S$">
+            <node concept="3clFbS" id="6BZjXFisyUG" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFisyUM" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFisyUH" role="3clFbG">
+                  <node concept="3Tsc0h" id="6BZjXFisyUK" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:gWSfm_9" resolve="throwsItem" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFisyUL" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16euLQ" id="6BZjXFis$Gj" role="16eVyc">
+        <property role="TrG5h" value="T" />
+        <node concept="2b32R4" id="6BZjXFis$V6" role="lGtFl">
           <node concept="3JmXsc" id="6BZjXFis$V9" role="2P8S$">
             <node concept="3clFbS" id="6BZjXFis$Va" role="2VODD2">
               <node concept="3clFbF" id="6BZjXFis$Vg" role="3cqZAp">
@@ -4954,119 +7839,1267 @@
                   <node concept="3Tsc0h" id="6BZjXFis$Ve" role="2OqNvi">
                     <ref role="3TtcxE" to="tpee:g96eVAe" resolve="typeVariableDeclaration" />
                   </node>
-                  <node concept="30H73N" id="6BZjXFis$Vf" role="2Oq$k0" />
+                  <node concept="30H73N" id="6BZjXFis$Vf" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="13MO4I" id="6BZjXFiuGV8">
+    <property role="TrG5h" value="reduce_StaticVerfied_WithoutChecks" />
+    <ref role="3gUMe" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
+    <node concept="2YIFZL" id="6BZjXFiuIBr" role="13RCb5">
+      <property role="TrG5h" value="name" />
+      <node concept="3cqZAl" id="6BZjXFiuJf6" role="3clF45" />
+      <node concept="3Tm1VV" id="6BZjXFiuIBt" role="1B3o_S">
+        <node concept="29HgVG" id="6BZjXFiuKru" role="lGtFl">
+          <node concept="3NFfHV" id="6BZjXFiuKrv" role="3NFExx">
+            <node concept="3clFbS" id="6BZjXFiuKrw" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuKrA" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuKrx" role="3clFbG">
+                  <node concept="3TrEf2" id="6BZjXFiuKr$" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiuKr_" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbS" id="6BZjXFiuIBu" role="3clF47">
+        <node concept="29HgVG" id="6BZjXFiuKyY" role="lGtFl">
+          <node concept="3NFfHV" id="6BZjXFiuKyZ" role="3NFExx">
+            <node concept="3clFbS" id="6BZjXFiuKz0" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuKz6" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuKz1" role="3clFbG">
+                  <node concept="3TrEf2" id="6BZjXFiuKz4" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fzclF7Z" resolve="body" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiuKz5" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="raruj" id="6BZjXFiuIGo" role="lGtFl" />
+      <node concept="37vLTG" id="6BZjXFiuIQ5" role="3clF46">
+        <property role="TrG5h" value="param" />
+        <node concept="3uibUv" id="6BZjXFiuIQ4" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="2b32R4" id="6BZjXFiuJKB" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFiuJKE" role="2P8S$">
+            <node concept="3clFbS" id="6BZjXFiuJKF" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuJKL" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuJKG" role="3clFbG">
+                  <node concept="3Tsc0h" id="6BZjXFiuJKJ" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiuJKK" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="6BZjXFiuJ9x" role="Sfmx6">
+        <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+        <node concept="1WS0z7" id="6BZjXFiuJZ2" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFiuJZ5" role="3Jn$fo">
+            <node concept="3clFbS" id="6BZjXFiuJZ6" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuJZc" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuJZ7" role="3clFbG">
+                  <node concept="3Tsc0h" id="6BZjXFiuJZa" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:gWSfm_9" resolve="throwsItem" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiuJZb" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16euLQ" id="6BZjXFiuJk2" role="16eVyc">
+        <property role="TrG5h" value="T" />
+        <node concept="1WS0z7" id="6BZjXFiuKl4" role="lGtFl">
+          <node concept="3JmXsc" id="6BZjXFiuKl7" role="3Jn$fo">
+            <node concept="3clFbS" id="6BZjXFiuKl8" role="2VODD2">
+              <node concept="3clFbF" id="6BZjXFiuKle" role="3cqZAp">
+                <node concept="2OqwBi" id="6BZjXFiuKl9" role="3clFbG">
+                  <node concept="3Tsc0h" id="6BZjXFiuKlc" role="2OqNvi">
+                    <ref role="3TtcxE" to="tpee:g96eVAe" resolve="typeVariableDeclaration" />
+                  </node>
+                  <node concept="30H73N" id="6BZjXFiuKld" role="2Oq$k0" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="17Uvod" id="6BZjXFiuK82" role="lGtFl">
+        <property role="2qtEX9" value="name" />
+        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
+        <node concept="3zFVjK" id="6BZjXFiuK85" role="3zH0cK">
+          <node concept="3clFbS" id="6BZjXFiuK86" role="2VODD2">
+            <node concept="3clFbF" id="6BZjXFiuK8c" role="3cqZAp">
+              <node concept="2OqwBi" id="6BZjXFiuK87" role="3clFbG">
+                <node concept="3TrcHB" id="6BZjXFiuK8a" role="2OqNvi">
+                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                </node>
+                <node concept="30H73N" id="6BZjXFiuK8b" role="2Oq$k0" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
+  <node concept="13MO4I" id="3av8H9pGlpp">
+    <property role="3GE5qa" value="guards" />
+    <property role="TrG5h" value="reduce_LocalGuardReference_packed" />
+    <ref role="3gUMe" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+    <node concept="312cEu" id="3av8H9pGlpA" role="13RCb5">
+      <property role="TrG5h" value="Foo" />
+      <node concept="312cEg" id="3av8H9pGlpH" role="jymVt">
+        <property role="TrG5h" value="guardState" />
+        <node concept="3Tm6S6" id="3av8H9pGlq6" role="1B3o_S" />
+        <node concept="10Oyi0" id="3av8H9pGlq8" role="1tU5fm" />
+      </node>
+      <node concept="3clFb_" id="3av8H9pGlqr" role="jymVt">
+        <property role="TrG5h" value="isSet" />
+        <node concept="3clFbS" id="3av8H9pGlr2" role="3clF47">
+          <node concept="3cpWs6" id="3av8H9pGlrn" role="3cqZAp">
+            <node concept="1eOMI4" id="3av8H9pGlrR" role="3cqZAk">
+              <node concept="3y3z36" id="3av8H9pGls4" role="1eOMHV">
+                <node concept="3cmrfG" id="3av8H9pGls6" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="1eOMI4" id="3av8H9pGlsA" role="3uHU7B">
+                  <node concept="pVHWs" id="3av8H9pGltb" role="1eOMHV">
+                    <node concept="3cmrfG" id="3av8H9pGltm" role="3uHU7w">
+                      <property role="3cmrfH" value="1" />
+                      <node concept="17Uvod" id="3av8H9pGltO" role="lGtFl">
+                        <property role="2qtEX9" value="value" />
+                        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                        <node concept="3zFVjK" id="3av8H9pGlun" role="3zH0cK">
+                          <node concept="3clFbS" id="3av8H9pGluZ" role="2VODD2">
+                            <node concept="3clFbF" id="3av8H9pGlvt" role="3cqZAp">
+                              <node concept="2OqwBi" id="3av8H9pGlvT" role="3clFbG">
+                                <node concept="2OqwBi" id="3av8H9pGlwf" role="2Oq$k0">
+                                  <node concept="2OqwBi" id="3av8H9pGlwS" role="2Oq$k0">
+                                    <node concept="30H73N" id="3av8H9pGlxe" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="3av8H9pGlxu" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                    </node>
+                                  </node>
+                                  <node concept="2Xjw5R" id="3av8H9pGlxH" role="2OqNvi">
+                                    <node concept="1xMEDy" id="3av8H9pGlxM" role="1xVPHs">
+                                      <node concept="chp4Y" id="3av8H9pGlxV" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="2qgKlT" id="3av8H9pGly9" role="2OqNvi">
+                                  <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                  <node concept="2OqwBi" id="3av8H9pGlys" role="37wK5m">
+                                    <node concept="30H73N" id="3av8H9pGlyE" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="3av8H9pGlyY" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="3av8H9pGlzs" role="3uHU7B">
+                      <ref role="3cqZAo" node="3av8H9pGlpH" resolve="guardState" />
+                      <node concept="1ZhdrF" id="3av8H9pGlzJ" role="lGtFl">
+                        <property role="2qtEX8" value="variableDeclaration" />
+                        <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                        <node concept="3$xsQk" id="3av8H9pGlz$" role="3$ytzL">
+                          <node concept="3clFbS" id="3av8H9pGlAy" role="2VODD2">
+                            <node concept="3clFbF" id="3av8H9pGlAO" role="3cqZAp">
+                              <node concept="2OqwBi" id="3av8H9pGlAZ" role="3clFbG">
+                                <node concept="1iwH7S" id="3av8H9pGlBA" role="2Oq$k0" />
+                                <node concept="1iwH70" id="3av8H9pGlC5" role="2OqNvi">
+                                  <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                                  <node concept="2OqwBi" id="3av8H9pGlCv" role="1iwH7V">
+                                    <node concept="2OqwBi" id="3av8H9pGlD7" role="2Oq$k0">
+                                      <node concept="30H73N" id="3av8H9pGlDk" role="2Oq$k0" />
+                                      <node concept="3TrEf2" id="3av8H9pGlDA" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                      </node>
+                                    </node>
+                                    <node concept="2Xjw5R" id="3av8H9pGlDH" role="2OqNvi">
+                                      <node concept="1xMEDy" id="3av8H9pGlE7" role="1xVPHs">
+                                        <node concept="chp4Y" id="3av8H9pGlEp" role="ri$Ld">
+                                          <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="raruj" id="3av8H9pGlEN" role="lGtFl" />
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="3av8H9pGlFk" role="3clF45" />
+        <node concept="3Tm1VV" id="3av8H9pGlFs" role="1B3o_S" />
+      </node>
+      <node concept="14ZrTv" id="3pbepyGBW0i" role="14ZwWg">
+        <node concept="30G5F_" id="3pbepyGBW0W" role="150hEN">
+          <node concept="3clFbS" id="3pbepyGBW1s" role="2VODD2">
+            <node concept="3clFbF" id="3pbepyGBW22" role="3cqZAp">
+              <node concept="1Wc70l" id="3pbepyGBW2u" role="3clFbG">
+                <node concept="3fqX7Q" id="3pbepyGBW2_" role="3uHU7w">
+                  <node concept="2OqwBi" id="3pbepyGBW3v" role="3fr31v">
+                    <node concept="2OqwBi" id="3pbepyGBW3K" role="2Oq$k0">
+                      <node concept="30H73N" id="3pbepyGBW3U" role="2Oq$k0" />
+                      <node concept="1mfA1w" id="3pbepyGBW48" role="2OqNvi" />
+                    </node>
+                    <node concept="1mIQ4w" id="3pbepyGBW4y" role="2OqNvi">
+                      <node concept="chp4Y" id="3pbepyGBW59" role="cj9EA">
+                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="3pbepyGBW5I" role="3uHU7B">
+                  <node concept="2OqwBi" id="3pbepyGBW5R" role="2Oq$k0">
+                    <node concept="30H73N" id="3pbepyGBW60" role="2Oq$k0" />
+                    <node concept="3TrEf2" id="3pbepyGBW6C" role="2OqNvi">
+                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                    </node>
+                  </node>
+                  <node concept="2qgKlT" id="3pbepyGBW6M" role="2OqNvi">
+                    <ref role="37wK5l" to="pw26:26z__LfqmYM" resolve="isConstantInGeneration" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="j$656" id="3pbepyGBW76" role="150oIE">
+          <ref role="v9R2y" node="3pbepyGBVXP" resolve="reduce_LocalGuardReference_constant" />
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="3av8H9pGlFX" role="1B3o_S" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="3av8H9pGkRZ">
+    <property role="3GE5qa" value="consequences" />
+    <property role="TrG5h" value="reduce_ChangesGuard_packed" />
+    <ref role="3gUMe" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+    <node concept="9aQIb" id="3av8H9pGkS9" role="13RCb5">
+      <node concept="3clFbS" id="3av8H9pGkSB" role="9aQI4">
+        <node concept="3cpWs8" id="3av8H9pGkT0" role="3cqZAp">
+          <node concept="3cpWsn" id="3av8H9pGkTx" role="3cpWs9">
+            <property role="TrG5h" value="guardState" />
+            <node concept="10Oyi0" id="3av8H9pGkTI" role="1tU5fm" />
+          </node>
+        </node>
+        <node concept="3cpWs8" id="2eT$YEPLmco" role="3cqZAp">
+          <node concept="3cpWsn" id="2eT$YEPLmcE" role="3cpWs9">
+            <property role="TrG5h" value="checkMetrics" />
+            <node concept="3uibUv" id="2eT$YEPLmcP" role="1tU5fm">
+              <ref role="3uigEE" to="q3ut:2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3av8H9pGkTY" role="3cqZAp">
+          <node concept="37vLTI" id="3av8H9pGkUh" role="3clFbG">
+            <node concept="pVOtf" id="3av8H9pGkUr" role="37vLTx">
+              <node concept="3cmrfG" id="3av8H9pGkUw" role="3uHU7w">
+                <property role="3cmrfH" value="0" />
+                <node concept="17Uvod" id="3av8H9pGkU_" role="lGtFl">
+                  <property role="2qtEX9" value="value" />
+                  <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                  <node concept="3zFVjK" id="3av8H9pGkV3" role="3zH0cK">
+                    <node concept="3clFbS" id="3av8H9pGkVe" role="2VODD2">
+                      <node concept="3clFbF" id="3av8H9pGkVP" role="3cqZAp">
+                        <node concept="3K4zz7" id="3av8H9pGkWe" role="3clFbG">
+                          <node concept="2OqwBi" id="3av8H9pGkWl" role="3K4Cdx">
+                            <node concept="30H73N" id="3av8H9pGkWy" role="2Oq$k0" />
+                            <node concept="3TrcHB" id="3av8H9pGkWS" role="2OqNvi">
+                              <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                            </node>
+                          </node>
+                          <node concept="2OqwBi" id="3av8H9pGkXu" role="3K4E3e">
+                            <node concept="2OqwBi" id="3av8H9pGkXx" role="2Oq$k0">
+                              <node concept="2OqwBi" id="3av8H9pGkXU" role="2Oq$k0">
+                                <node concept="1PxgMI" id="3av8H9pGkY7" role="2Oq$k0">
+                                  <node concept="chp4Y" id="3av8H9pGkYb" role="3oSUPX">
+                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                  </node>
+                                  <node concept="2OqwBi" id="3av8H9pGkYg" role="1m5AlR">
+                                    <node concept="30H73N" id="3av8H9pGkYH" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="3av8H9pGkZg" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3TrEf2" id="3av8H9pGkZC" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                </node>
+                              </node>
+                              <node concept="2Xjw5R" id="3av8H9pGkZS" role="2OqNvi">
+                                <node concept="1xMEDy" id="3av8H9pGk$j" role="1xVPHs">
+                                  <node concept="chp4Y" id="3av8H9pGk$p" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="2qgKlT" id="3av8H9pGk$X" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                              <node concept="2OqwBi" id="3av8H9pGk_k" role="37wK5m">
+                                <node concept="1PxgMI" id="3av8H9pGk_O" role="2Oq$k0">
+                                  <node concept="chp4Y" id="3av8H9pGl07" role="3oSUPX">
+                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                  </node>
+                                  <node concept="2OqwBi" id="3av8H9pGl0q" role="1m5AlR">
+                                    <node concept="30H73N" id="3av8H9pGl0z" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="3av8H9pGl0W" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3TrEf2" id="3av8H9pGl1u" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="3av8H9pGl1G" role="3K4GZi">
+                            <property role="3cmrfH" value="0" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="1eOMI4" id="3av8H9pGl2i" role="3uHU7B">
+                <node concept="pVHWs" id="3av8H9pGl2j" role="1eOMHV">
+                  <node concept="3cmrfG" id="3av8H9pGl2K" role="3uHU7w">
+                    <property role="3cmrfH" value="0" />
+                    <node concept="17Uvod" id="3av8H9pGl2Y" role="lGtFl">
+                      <property role="2qtEX9" value="value" />
+                      <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                      <node concept="3zFVjK" id="3av8H9pGl3t" role="3zH0cK">
+                        <node concept="3clFbS" id="3av8H9pGl41" role="2VODD2">
+                          <node concept="3clFbF" id="3av8H9pGl4F" role="3cqZAp">
+                            <node concept="3cpWsd" id="3av8H9pGliq" role="3clFbG">
+                              <node concept="3cmrfG" id="3av8H9pGliX" role="3uHU7w">
+                                <property role="3cmrfH" value="1" />
+                              </node>
+                              <node concept="1ZRNhn" id="3av8H9pGljc" role="3uHU7B">
+                                <node concept="2OqwBi" id="3av8H9pGljH" role="2$L3a6">
+                                  <node concept="2OqwBi" id="3av8H9pGljR" role="2Oq$k0">
+                                    <node concept="2OqwBi" id="3av8H9pGlk0" role="2Oq$k0">
+                                      <node concept="1PxgMI" id="3av8H9pGlki" role="2Oq$k0">
+                                        <node concept="chp4Y" id="3av8H9pGlkv" role="3oSUPX">
+                                          <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                        </node>
+                                        <node concept="2OqwBi" id="3av8H9pGlkQ" role="1m5AlR">
+                                          <node concept="30H73N" id="3av8H9pGlkS" role="2Oq$k0" />
+                                          <node concept="3TrEf2" id="3av8H9pGll8" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                      <node concept="3TrEf2" id="3av8H9pGllv" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                      </node>
+                                    </node>
+                                    <node concept="2Xjw5R" id="3av8H9pGllM" role="2OqNvi">
+                                      <node concept="1xMEDy" id="3av8H9pGlm9" role="1xVPHs">
+                                        <node concept="chp4Y" id="3av8H9pGlmF" role="ri$Ld">
+                                          <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                  <node concept="2qgKlT" id="3av8H9pGln7" role="2OqNvi">
+                                    <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                    <node concept="2OqwBi" id="3av8H9pGlnj" role="37wK5m">
+                                      <node concept="1PxgMI" id="3av8H9pGlnT" role="2Oq$k0">
+                                        <node concept="chp4Y" id="3av8H9pGlo9" role="3oSUPX">
+                                          <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                        </node>
+                                        <node concept="2OqwBi" id="3av8H9pGloD" role="1m5AlR">
+                                          <node concept="30H73N" id="3av8H9pGloH" role="2Oq$k0" />
+                                          <node concept="3TrEf2" id="3av8H9pGloJ" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                      <node concept="3TrEf2" id="3av8H9pGlpg" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="3av8H9pGl50" role="3uHU7B">
+                    <ref role="3cqZAo" node="3av8H9pGkTx" resolve="guardState" />
+                    <node concept="1ZhdrF" id="3av8H9pGl5b" role="lGtFl">
+                      <property role="2qtEX8" value="variableDeclaration" />
+                      <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                      <node concept="3$xsQk" id="3av8H9pGl5O" role="3$ytzL">
+                        <node concept="3clFbS" id="3av8H9pGl5Q" role="2VODD2">
+                          <node concept="3clFbF" id="3av8H9pGl5S" role="3cqZAp">
+                            <node concept="2OqwBi" id="3av8H9pGl68" role="3clFbG">
+                              <node concept="1iwH7S" id="3av8H9pGl6J" role="2Oq$k0" />
+                              <node concept="1iwH70" id="3av8H9pGl7g" role="2OqNvi">
+                                <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                                <node concept="2OqwBi" id="3av8H9pGl7M" role="1iwH7V">
+                                  <node concept="2OqwBi" id="3av8H9pGl8i" role="2Oq$k0">
+                                    <node concept="1PxgMI" id="3av8H9pGl8M" role="2Oq$k0">
+                                      <node concept="chp4Y" id="3av8H9pGl9j" role="3oSUPX">
+                                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                      </node>
+                                      <node concept="2OqwBi" id="3av8H9pGl9q" role="1m5AlR">
+                                        <node concept="30H73N" id="3av8H9pGl9N" role="2Oq$k0" />
+                                        <node concept="3TrEf2" id="3av8H9pGla5" role="2OqNvi">
+                                          <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="3TrEf2" id="3av8H9pGlap" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                    </node>
+                                  </node>
+                                  <node concept="2Xjw5R" id="3av8H9pGlax" role="2OqNvi">
+                                    <node concept="1xMEDy" id="3av8H9pGlb8" role="1xVPHs">
+                                      <node concept="chp4Y" id="3av8H9pGlbg" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="1W57fq" id="2eT$YEPLmFc" role="lGtFl">
+                <node concept="3IZrLx" id="2eT$YEPLmFo" role="3IZSJc">
+                  <node concept="3clFbS" id="2eT$YEPLmFK" role="2VODD2">
+                    <node concept="3clFbF" id="2eT$YEPLmFT" role="3cqZAp">
+                      <node concept="3fqX7Q" id="2eT$YEPLmG9" role="3clFbG">
+                        <node concept="1Wc70l" id="2eT$YEPLmGr" role="3fr31v">
+                          <node concept="2OqwBi" id="2eT$YEPLmG_" role="3uHU7w">
+                            <node concept="35c_gC" id="2eT$YEPLmH8" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="2eT$YEPLmHC" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                            </node>
+                          </node>
+                          <node concept="3fqX7Q" id="2eT$YEPLmHK" role="3uHU7B">
+                            <node concept="2OqwBi" id="2eT$YEPLmHL" role="3fr31v">
+                              <node concept="35c_gC" id="2eT$YEPLmIh" role="2Oq$k0">
+                                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                              </node>
+                              <node concept="2qgKlT" id="2eT$YEPLmIx" role="2OqNvi">
+                                <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="gft3U" id="2eT$YEPLmIV" role="UU_$l">
+                  <node concept="2OqwBi" id="2eT$YEPLmJv" role="gfFT$">
+                    <node concept="37vLTw" id="2eT$YEPLmJS" role="2Oq$k0">
+                      <ref role="3cqZAo" node="2eT$YEPLmcE" resolve="checkMetrics" />
+                      <node concept="1ZhdrF" id="2eT$YEPLmJ_" role="lGtFl">
+                        <property role="2qtEX8" value="variableDeclaration" />
+                        <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                        <node concept="3$xsQk" id="2eT$YEPLmKD" role="3$ytzL">
+                          <node concept="3clFbS" id="2eT$YEPLmKW" role="2VODD2">
+                            <node concept="3clFbF" id="2eT$YEPLmLq" role="3cqZAp">
+                              <node concept="2OqwBi" id="2eT$YEPLmLu" role="3clFbG">
+                                <node concept="1iwH7S" id="2eT$YEPLmLv" role="2Oq$k0" />
+                                <node concept="1iwH70" id="2eT$YEPLmM7" role="2OqNvi">
+                                  <ref role="1iwH77" node="2eT$YEPLlEh" resolve="checkMetrics" />
+                                  <node concept="2OqwBi" id="2eT$YEPLmMj" role="1iwH7V">
+                                    <node concept="30H73N" id="2eT$YEPLmMO" role="2Oq$k0" />
+                                    <node concept="2Xjw5R" id="2eT$YEPLmNl" role="2OqNvi">
+                                      <node concept="1xMEDy" id="2eT$YEPLmNC" role="1xVPHs">
+                                        <node concept="chp4Y" id="2eT$YEPLmNI" role="ri$Ld">
+                                          <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="liA8E" id="2eT$YEPLmO5" role="2OqNvi">
+                      <ref role="37wK5l" to="q3ut:2QmWbwu4pr2" resolve="guardStateChanged" />
+                      <node concept="pVOtf" id="2eT$YEPLmdm" role="37wK5m">
+                        <node concept="3cmrfG" id="2eT$YEPLmdZ" role="3uHU7w">
+                          <property role="3cmrfH" value="0" />
+                          <node concept="17Uvod" id="2eT$YEPLmen" role="lGtFl">
+                            <property role="2qtEX9" value="value" />
+                            <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                            <node concept="3zFVjK" id="2eT$YEPLmeo" role="3zH0cK">
+                              <node concept="3clFbS" id="2eT$YEPLmeF" role="2VODD2">
+                                <node concept="3clFbF" id="2eT$YEPLmeL" role="3cqZAp">
+                                  <node concept="3K4zz7" id="2eT$YEPLmfj" role="3clFbG">
+                                    <node concept="2OqwBi" id="2eT$YEPLmfn" role="3K4Cdx">
+                                      <node concept="30H73N" id="2eT$YEPLmfH" role="2Oq$k0" />
+                                      <node concept="3TrcHB" id="2eT$YEPLmfL" role="2OqNvi">
+                                        <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                      </node>
+                                    </node>
+                                    <node concept="2OqwBi" id="2eT$YEPLmgh" role="3K4E3e">
+                                      <node concept="2OqwBi" id="2eT$YEPLmgm" role="2Oq$k0">
+                                        <node concept="2OqwBi" id="2eT$YEPLmgB" role="2Oq$k0">
+                                          <node concept="1PxgMI" id="2eT$YEPLmh6" role="2Oq$k0">
+                                            <node concept="chp4Y" id="2eT$YEPLmhA" role="3oSUPX">
+                                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                            </node>
+                                            <node concept="2OqwBi" id="2eT$YEPLmi4" role="1m5AlR">
+                                              <node concept="30H73N" id="2eT$YEPLmi6" role="2Oq$k0" />
+                                              <node concept="3TrEf2" id="2eT$YEPLmia" role="2OqNvi">
+                                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                          <node concept="3TrEf2" id="2eT$YEPLmiE" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                          </node>
+                                        </node>
+                                        <node concept="2Xjw5R" id="2eT$YEPLmiW" role="2OqNvi">
+                                          <node concept="1xMEDy" id="2eT$YEPLmjq" role="1xVPHs">
+                                            <node concept="chp4Y" id="2eT$YEPLmjP" role="ri$Ld">
+                                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                      <node concept="2qgKlT" id="2eT$YEPLmjZ" role="2OqNvi">
+                                        <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                        <node concept="2OqwBi" id="2eT$YEPLmkB" role="37wK5m">
+                                          <node concept="1PxgMI" id="2eT$YEPLml1" role="2Oq$k0">
+                                            <node concept="chp4Y" id="2eT$YEPLmlr" role="3oSUPX">
+                                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                            </node>
+                                            <node concept="2OqwBi" id="2eT$YEPLml_" role="1m5AlR">
+                                              <node concept="30H73N" id="2eT$YEPLmmC" role="2Oq$k0" />
+                                              <node concept="3TrEf2" id="2eT$YEPLmn1" role="2OqNvi">
+                                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                          <node concept="3TrEf2" id="2eT$YEPLmnn" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="3cmrfG" id="2eT$YEPLmnt" role="3K4GZi">
+                                      <property role="3cmrfH" value="0" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="1eOMI4" id="2eT$YEPLmnS" role="3uHU7B">
+                          <node concept="pVHWs" id="2eT$YEPLmoe" role="1eOMHV">
+                            <node concept="3cmrfG" id="2eT$YEPLmor" role="3uHU7w">
+                              <property role="3cmrfH" value="0" />
+                              <node concept="17Uvod" id="2eT$YEPLmoN" role="lGtFl">
+                                <property role="2qtEX9" value="value" />
+                                <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                                <node concept="3zFVjK" id="2eT$YEPLmpk" role="3zH0cK">
+                                  <node concept="3clFbS" id="2eT$YEPLmpE" role="2VODD2">
+                                    <node concept="3clFbF" id="2eT$YEPLmqa" role="3cqZAp">
+                                      <node concept="3cpWsd" id="2eT$YEPLmqA" role="3clFbG">
+                                        <node concept="3cmrfG" id="2eT$YEPLmrc" role="3uHU7w">
+                                          <property role="3cmrfH" value="1" />
+                                        </node>
+                                        <node concept="1ZRNhn" id="2eT$YEPLmrF" role="3uHU7B">
+                                          <node concept="2OqwBi" id="2eT$YEPLmrV" role="2$L3a6">
+                                            <node concept="2OqwBi" id="2eT$YEPLmsh" role="2Oq$k0">
+                                              <node concept="2OqwBi" id="2eT$YEPLmsT" role="2Oq$k0">
+                                                <node concept="1PxgMI" id="2eT$YEPLmsZ" role="2Oq$k0">
+                                                  <node concept="chp4Y" id="2eT$YEPLmtg" role="3oSUPX">
+                                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                                  </node>
+                                                  <node concept="2OqwBi" id="2eT$YEPLmtM" role="1m5AlR">
+                                                    <node concept="30H73N" id="2eT$YEPLmtU" role="2Oq$k0" />
+                                                    <node concept="3TrEf2" id="2eT$YEPLmug" role="2OqNvi">
+                                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                                    </node>
+                                                  </node>
+                                                </node>
+                                                <node concept="3TrEf2" id="2eT$YEPLmuv" role="2OqNvi">
+                                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                                </node>
+                                              </node>
+                                              <node concept="2Xjw5R" id="2eT$YEPLmuT" role="2OqNvi">
+                                                <node concept="1xMEDy" id="2eT$YEPLmuU" role="1xVPHs">
+                                                  <node concept="chp4Y" id="2eT$YEPLmv6" role="ri$Ld">
+                                                    <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                                  </node>
+                                                </node>
+                                              </node>
+                                            </node>
+                                            <node concept="2qgKlT" id="2eT$YEPLmvB" role="2OqNvi">
+                                              <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                              <node concept="2OqwBi" id="2eT$YEPLmw6" role="37wK5m">
+                                                <node concept="1PxgMI" id="2eT$YEPLmwa" role="2Oq$k0">
+                                                  <node concept="chp4Y" id="2eT$YEPLmwp" role="3oSUPX">
+                                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                                  </node>
+                                                  <node concept="2OqwBi" id="2eT$YEPLmx1" role="1m5AlR">
+                                                    <node concept="30H73N" id="2eT$YEPLmx4" role="2Oq$k0" />
+                                                    <node concept="3TrEf2" id="2eT$YEPLmxp" role="2OqNvi">
+                                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                                    </node>
+                                                  </node>
+                                                </node>
+                                                <node concept="3TrEf2" id="2eT$YEPLmxZ" role="2OqNvi">
+                                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                                </node>
+                                              </node>
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="37vLTw" id="2eT$YEPLmyy" role="3uHU7B">
+                              <ref role="3cqZAo" node="3av8H9pGkTx" resolve="guardState" />
+                              <node concept="1ZhdrF" id="2eT$YEPLmz8" role="lGtFl">
+                                <property role="2qtEX8" value="variableDeclaration" />
+                                <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                                <node concept="3$xsQk" id="2eT$YEPLmze" role="3$ytzL">
+                                  <node concept="3clFbS" id="2eT$YEPLmzN" role="2VODD2">
+                                    <node concept="3clFbF" id="2eT$YEPLmAd" role="3cqZAp">
+                                      <node concept="2OqwBi" id="2eT$YEPLmAB" role="3clFbG">
+                                        <node concept="1iwH7S" id="2eT$YEPLmBd" role="2Oq$k0" />
+                                        <node concept="1iwH70" id="2eT$YEPLmBG" role="2OqNvi">
+                                          <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                                          <node concept="2OqwBi" id="2eT$YEPLmBS" role="1iwH7V">
+                                            <node concept="2OqwBi" id="2eT$YEPLmCi" role="2Oq$k0">
+                                              <node concept="1PxgMI" id="2eT$YEPLmCS" role="2Oq$k0">
+                                                <node concept="chp4Y" id="2eT$YEPLmCV" role="3oSUPX">
+                                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                                </node>
+                                                <node concept="2OqwBi" id="2eT$YEPLmD0" role="1m5AlR">
+                                                  <node concept="30H73N" id="2eT$YEPLmD1" role="2Oq$k0" />
+                                                  <node concept="3TrEf2" id="2eT$YEPLmDD" role="2OqNvi">
+                                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                                  </node>
+                                                </node>
+                                              </node>
+                                              <node concept="3TrEf2" id="2eT$YEPLmDS" role="2OqNvi">
+                                                <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                              </node>
+                                            </node>
+                                            <node concept="2Xjw5R" id="2eT$YEPLmD_" role="2OqNvi">
+                                              <node concept="1xMEDy" id="2eT$YEPLmEt" role="1xVPHs">
+                                                <node concept="chp4Y" id="2eT$YEPLmEQ" role="ri$Ld">
+                                                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                                </node>
+                                              </node>
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="37vLTw" id="3av8H9pGlbP" role="37vLTJ">
+              <ref role="3cqZAo" node="3av8H9pGkTx" resolve="guardState" />
+              <node concept="1ZhdrF" id="3av8H9pGlbQ" role="lGtFl">
+                <property role="2qtEX8" value="variableDeclaration" />
+                <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                <node concept="3$xsQk" id="3av8H9pGlco" role="3$ytzL">
+                  <node concept="3clFbS" id="3av8H9pGlcC" role="2VODD2">
+                    <node concept="3clFbF" id="3av8H9pGlcN" role="3cqZAp">
+                      <node concept="2OqwBi" id="3av8H9pGldn" role="3clFbG">
+                        <node concept="1iwH7S" id="3av8H9pGldA" role="2Oq$k0" />
+                        <node concept="1iwH70" id="3av8H9pGld_" role="2OqNvi">
+                          <ref role="1iwH77" node="3av8H9pGklb" resolve="packedGuardState" />
+                          <node concept="2OqwBi" id="3av8H9pGle1" role="1iwH7V">
+                            <node concept="2OqwBi" id="3av8H9pGler" role="2Oq$k0">
+                              <node concept="1PxgMI" id="3av8H9pGlew" role="2Oq$k0">
+                                <node concept="chp4Y" id="3av8H9pGlf3" role="3oSUPX">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                </node>
+                                <node concept="2OqwBi" id="3av8H9pGlfi" role="1m5AlR">
+                                  <node concept="30H73N" id="3av8H9pGlfw" role="2Oq$k0" />
+                                  <node concept="3TrEf2" id="3av8H9pGlfL" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3TrEf2" id="3av8H9pGlgn" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                              </node>
+                            </node>
+                            <node concept="2Xjw5R" id="3av8H9pGlgY" role="2OqNvi">
+                              <node concept="1xMEDy" id="3av8H9pGlhw" role="1xVPHs">
+                                <node concept="chp4Y" id="3av8H9pGli5" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
                 </node>
               </node>
             </node>
           </node>
+          <node concept="raruj" id="3av8H9pGlif" role="lGtFl" />
         </node>
       </node>
     </node>
   </node>
-  <node concept="13MO4I" id="6BZjXFiuGV8">
-    <property role="TrG5h" value="reduce_StaticVerfied_WithoutChecks" />
-    <ref role="3gUMe" to="3ibj:2915UUE6Zv4" resolve="StaticVerifiedMethod" />
-    <node concept="2YIFZL" id="6BZjXFiuIBr" role="13RCb5">
-      <property role="TrG5h" value="name" />
-      <node concept="3cqZAl" id="6BZjXFiuJf6" role="3clF45" />
-      <node concept="3Tm1VV" id="6BZjXFiuIBt" role="1B3o_S">
-        <node concept="29HgVG" id="6BZjXFiuKru" role="lGtFl">
-          <node concept="3NFfHV" id="6BZjXFiuKrv" role="3NFExx">
-            <node concept="3clFbS" id="6BZjXFiuKrw" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuKrA" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuKrx" role="3clFbG">
-                  <node concept="3TrEf2" id="6BZjXFiuKr$" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:h9B3oxE" resolve="visibility" />
-                  </node>
-                  <node concept="30H73N" id="6BZjXFiuKr_" role="2Oq$k0" />
-                </node>
-              </node>
+  <node concept="13MO4I" id="2qf_fiE40hd">
+    <property role="3GE5qa" value="consequences" />
+    <property role="TrG5h" value="reduce_ChangesGuard_packedAtomic" />
+    <ref role="3gUMe" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+    <node concept="9aQIb" id="2qf_fiE40hg" role="13RCb5">
+      <node concept="3clFbS" id="2qf_fiE40hj" role="9aQI4">
+        <node concept="3cpWs8" id="2qf_fiE40hm" role="3cqZAp">
+          <node concept="3cpWsn" id="2qf_fiE40hp" role="3cpWs9">
+            <property role="TrG5h" value="guardStateHandle" />
+            <node concept="3uibUv" id="2qf_fiE40hs" role="1tU5fm">
+              <ref role="3uigEE" to="lsg0:~VarHandle" resolve="VarHandle" />
             </node>
           </node>
         </node>
-      </node>
-      <node concept="3clFbS" id="6BZjXFiuIBu" role="3clF47">
-        <node concept="29HgVG" id="6BZjXFiuKyY" role="lGtFl">
-          <node concept="3NFfHV" id="6BZjXFiuKyZ" role="3NFExx">
-            <node concept="3clFbS" id="6BZjXFiuKz0" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuKz6" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuKz1" role="3clFbG">
-                  <node concept="3TrEf2" id="6BZjXFiuKz4" role="2OqNvi">
-                    <ref role="3Tt5mk" to="tpee:fzclF7Z" resolve="body" />
+        <node concept="3cpWs8" id="2qf_fiE40hv" role="3cqZAp">
+          <node concept="3cpWsn" id="2qf_fiE40hy" role="3cpWs9">
+            <property role="TrG5h" value="checkMetrics" />
+            <node concept="3uibUv" id="2qf_fiE40h_" role="1tU5fm">
+              <ref role="3uigEE" to="q3ut:2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2qf_fiE40i2" role="3cqZAp">
+          <node concept="2YIFZM" id="2qf_fiE40i5" role="3clFbG">
+            <ref role="37wK5l" to="q3ut:2BH_CsmQ6dg" resolve="update" />
+            <ref role="1Pybhc" to="q3ut:2BH_CsmQ64k" resolve="PackedGuards" />
+            <node concept="37vLTw" id="2qf_fiE40i8" role="37wK5m">
+              <ref role="3cqZAo" node="2qf_fiE40hp" resolve="guardStateHandle" />
+              <node concept="1ZhdrF" id="2qf_fiE40iB" role="lGtFl">
+                <property role="2qtEX8" value="variableDeclaration" />
+                <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                <node concept="3$xsQk" id="2qf_fiE40iE" role="3$ytzL">
+                  <node concept="3clFbS" id="2qf_fiE40iH" role="2VODD2">
+                    <node concept="3clFbF" id="2qf_fiE40iK" role="3cqZAp">
+                      <node concept="2OqwBi" id="2qf_fiE40iN" role="3clFbG">
+                        <node concept="1iwH7S" id="2qf_fiE40iQ" role="2Oq$k0" />
+                        <node concept="1iwH70" id="2qf_fiE40iT" role="2OqNvi">
+                          <ref role="1iwH77" node="2qf_fiE40e3" resolve="packedGuardStateHandle" />
+                          <node concept="2OqwBi" id="2qf_fiE40iW" role="1iwH7V">
+                            <node concept="2OqwBi" id="2qf_fiE40iZ" role="2Oq$k0">
+                              <node concept="1PxgMI" id="2qf_fiE40ic" role="2Oq$k0">
+                                <node concept="chp4Y" id="2qf_fiE40if" role="3oSUPX">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                </node>
+                                <node concept="2OqwBi" id="2qf_fiE40ii" role="1m5AlR">
+                                  <node concept="30H73N" id="2qf_fiE40il" role="2Oq$k0" />
+                                  <node concept="3TrEf2" id="2qf_fiE40io" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3TrEf2" id="2qf_fiE40ir" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                              </node>
+                            </node>
+                            <node concept="2Xjw5R" id="2qf_fiE40iu" role="2OqNvi">
+                              <node concept="1xMEDy" id="2qf_fiE40ix" role="1xVPHs">
+                                <node concept="chp4Y" id="2qf_fiE40i$" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFiuKz5" role="2Oq$k0" />
                 </node>
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="raruj" id="6BZjXFiuIGo" role="lGtFl" />
-      <node concept="37vLTG" id="6BZjXFiuIQ5" role="3clF46">
-        <property role="TrG5h" value="param" />
-        <node concept="3uibUv" id="6BZjXFiuIQ4" role="1tU5fm">
-          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
-        </node>
-        <node concept="2b32R4" id="6BZjXFiuJKB" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFiuJKE" role="2P8S$">
-            <node concept="3clFbS" id="6BZjXFiuJKF" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuJKL" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuJKG" role="3clFbG">
-                  <node concept="3Tsc0h" id="6BZjXFiuJKJ" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
+            <node concept="Xjq3P" id="2qf_fiE40j1" role="37wK5m" />
+            <node concept="3cmrfG" id="2qf_fiE40j4" role="37wK5m">
+              <property role="3cmrfH" value="0" />
+              <node concept="17Uvod" id="2qf_fiE40j7" role="lGtFl">
+                <property role="2qtEX9" value="value" />
+                <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                <node concept="3zFVjK" id="2qf_fiE40jA" role="3zH0cK">
+                  <node concept="3clFbS" id="2qf_fiE40jD" role="2VODD2">
+                    <node concept="3clFbF" id="2qf_fiE40jG" role="3cqZAp">
+                      <node concept="3cpWsd" id="2qf_fiE40jJ" role="3clFbG">
+                        <node concept="3cmrfG" id="2qf_fiE40jM" role="3uHU7w">
+                          <property role="3cmrfH" value="1" />
+                        </node>
+                        <node concept="1ZRNhn" id="2qf_fiE40jP" role="3uHU7B">
+                          <node concept="2OqwBi" id="2qf_fiE40jS" role="2$L3a6">
+                            <node concept="2OqwBi" id="2qf_fiE40jV" role="2Oq$k0">
+                              <node concept="2OqwBi" id="2qf_fiE40jY" role="2Oq$k0">
+                                <node concept="1PxgMI" id="2qf_fiE40jb" role="2Oq$k0">
+                                  <node concept="chp4Y" id="2qf_fiE40je" role="3oSUPX">
+                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                  </node>
+                                  <node concept="2OqwBi" id="2qf_fiE40jh" role="1m5AlR">
+                                    <node concept="30H73N" id="2qf_fiE40jk" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="2qf_fiE40jn" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3TrEf2" id="2qf_fiE40jq" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                </node>
+                              </node>
+                              <node concept="2Xjw5R" id="2qf_fiE40jt" role="2OqNvi">
+                                <node concept="1xMEDy" id="2qf_fiE40jw" role="1xVPHs">
+                                  <node concept="chp4Y" id="2qf_fiE40jz" role="ri$Ld">
+                                    <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="2qgKlT" id="2qf_fiE40k0" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                              <node concept="2OqwBi" id="2qf_fiE40k3" role="37wK5m">
+                                <node concept="1PxgMI" id="2qf_fiE40k6" role="2Oq$k0">
+                                  <node concept="chp4Y" id="2qf_fiE40k9" role="3oSUPX">
+                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                  </node>
+                                  <node concept="2OqwBi" id="2qf_fiE40kC" role="1m5AlR">
+                                    <node concept="30H73N" id="2qf_fiE40kF" role="2Oq$k0" />
+                                    <node concept="3TrEf2" id="2qf_fiE40kI" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3TrEf2" id="2qf_fiE40kL" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFiuJKK" role="2Oq$k0" />
                 </node>
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="3uibUv" id="6BZjXFiuJ9x" role="Sfmx6">
-        <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
-        <node concept="1WS0z7" id="6BZjXFiuJZ2" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFiuJZ5" role="3Jn$fo">
-            <node concept="3clFbS" id="6BZjXFiuJZ6" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuJZc" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuJZ7" role="3clFbG">
-                  <node concept="3Tsc0h" id="6BZjXFiuJZa" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:gWSfm_9" resolve="throwsItem" />
+            <node concept="3cmrfG" id="2qf_fiE40kO" role="37wK5m">
+              <property role="3cmrfH" value="0" />
+              <node concept="17Uvod" id="2qf_fiE40kR" role="lGtFl">
+                <property role="2qtEX9" value="value" />
+                <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                <node concept="3zFVjK" id="2qf_fiE40kU" role="3zH0cK">
+                  <node concept="3clFbS" id="2qf_fiE40kX" role="2VODD2">
+                    <node concept="3clFbF" id="2qf_fiE40ka" role="3cqZAp">
+                      <node concept="3K4zz7" id="2qf_fiE40kd" role="3clFbG">
+                        <node concept="2OqwBi" id="2qf_fiE40kg" role="3K4Cdx">
+                          <node concept="30H73N" id="2qf_fiE40kj" role="2Oq$k0" />
+                          <node concept="3TrcHB" id="2qf_fiE40km" role="2OqNvi">
+                            <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="2qf_fiE40kp" role="3K4E3e">
+                          <node concept="2OqwBi" id="2qf_fiE40ks" role="2Oq$k0">
+                            <node concept="2OqwBi" id="2qf_fiE40kv" role="2Oq$k0">
+                              <node concept="1PxgMI" id="2qf_fiE40ky" role="2Oq$k0">
+                                <node concept="chp4Y" id="2qf_fiE40k_" role="3oSUPX">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                </node>
+                                <node concept="2OqwBi" id="2qf_fiE40l2" role="1m5AlR">
+                                  <node concept="30H73N" id="2qf_fiE40l5" role="2Oq$k0" />
+                                  <node concept="3TrEf2" id="2qf_fiE40l8" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3TrEf2" id="2qf_fiE40lB" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                              </node>
+                            </node>
+                            <node concept="2Xjw5R" id="2qf_fiE40lE" role="2OqNvi">
+                              <node concept="1xMEDy" id="2qf_fiE40lH" role="1xVPHs">
+                                <node concept="chp4Y" id="2qf_fiE40lK" role="ri$Ld">
+                                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="2qgKlT" id="2qf_fiE40lN" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                            <node concept="2OqwBi" id="2qf_fiE40lQ" role="37wK5m">
+                              <node concept="1PxgMI" id="2qf_fiE40lT" role="2Oq$k0">
+                                <node concept="chp4Y" id="2qf_fiE40lW" role="3oSUPX">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                </node>
+                                <node concept="2OqwBi" id="2qf_fiE40lZ" role="1m5AlR">
+                                  <node concept="30H73N" id="2qf_fiE40lc" role="2Oq$k0" />
+                                  <node concept="3TrEf2" id="2qf_fiE40lf" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3TrEf2" id="2qf_fiE40li" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cmrfG" id="2qf_fiE40ll" role="3K4GZi">
+                          <property role="3cmrfH" value="0" />
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFiuJZb" role="2Oq$k0" />
                 </node>
               </node>
             </node>
-          </node>
-        </node>
-      </node>
-      <node concept="16euLQ" id="6BZjXFiuJk2" role="16eVyc">
-        <property role="TrG5h" value="T" />
-        <node concept="1WS0z7" id="6BZjXFiuKl4" role="lGtFl">
-          <node concept="3JmXsc" id="6BZjXFiuKl7" role="3Jn$fo">
-            <node concept="3clFbS" id="6BZjXFiuKl8" role="2VODD2">
-              <node concept="3clFbF" id="6BZjXFiuKle" role="3cqZAp">
-                <node concept="2OqwBi" id="6BZjXFiuKl9" role="3clFbG">
-                  <node concept="3Tsc0h" id="6BZjXFiuKlc" role="2OqNvi">
-                    <ref role="3TtcxE" to="tpee:g96eVAe" resolve="typeVariableDeclaration" />
+            <node concept="1W57fq" id="2qf_fiE40lo" role="lGtFl">
+              <node concept="3IZrLx" id="2qf_fiE40lr" role="3IZSJc">
+                <node concept="3clFbS" id="2qf_fiE40lu" role="2VODD2">
+                  <node concept="3clFbF" id="2qf_fiE40lx" role="3cqZAp">
+                    <node concept="3fqX7Q" id="2qf_fiE40l$" role="3clFbG">
+                      <node concept="1Wc70l" id="2qf_fiE40m1" role="3fr31v">
+                        <node concept="2OqwBi" id="2qf_fiE40m4" role="3uHU7w">
+                          <node concept="35c_gC" id="2qf_fiE40m7" role="2Oq$k0">
+                            <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                          </node>
+                          <node concept="2qgKlT" id="2qf_fiE40mA" role="2OqNvi">
+                            <ref role="37wK5l" to="pw26:3WDjy4S3JBp" resolve="instrumentChecksInGeneration" />
+                          </node>
+                        </node>
+                        <node concept="3fqX7Q" id="2qf_fiE40mD" role="3uHU7B">
+                          <node concept="2OqwBi" id="2qf_fiE40mG" role="3fr31v">
+                            <node concept="35c_gC" id="2qf_fiE40mJ" role="2Oq$k0">
+                              <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                            </node>
+                            <node concept="2qgKlT" id="2qf_fiE40mM" role="2OqNvi">
+                              <ref role="37wK5l" to="pw26:HN1h99Qrj3" resolve="disableChecksInGeneration" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="gft3U" id="2qf_fiE40mP" role="UU_$l">
+                <node concept="2OqwBi" id="2qf_fiE40mS" role="gfFT$">
+                  <node concept="37vLTw" id="2qf_fiE40mV" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2qf_fiE40hy" resolve="checkMetrics" />
+                    <node concept="1ZhdrF" id="2qf_fiE40mY" role="lGtFl">
+                      <property role="2qtEX8" value="variableDeclaration" />
+                      <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                      <node concept="3$xsQk" id="2qf_fiE40mb" role="3$ytzL">
+                        <node concept="3clFbS" id="2qf_fiE40me" role="2VODD2">
+                          <node concept="3clFbF" id="2qf_fiE40mh" role="3cqZAp">
+                            <node concept="2OqwBi" id="2qf_fiE40mk" role="3clFbG">
+                              <node concept="1iwH7S" id="2qf_fiE40mn" role="2Oq$k0" />
+                              <node concept="1iwH70" id="2qf_fiE40mq" role="2OqNvi">
+                                <ref role="1iwH77" node="2eT$YEPLlEh" resolve="checkMetrics" />
+                                <node concept="2OqwBi" id="2qf_fiE40mt" role="1iwH7V">
+                                  <node concept="30H73N" id="2qf_fiE40mw" role="2Oq$k0" />
+                                  <node concept="2Xjw5R" id="2qf_fiE40mz" role="2OqNvi">
+                                    <node concept="1xMEDy" id="2qf_fiE40n0" role="1xVPHs">
+                                      <node concept="chp4Y" id="2qf_fiE40n3" role="ri$Ld">
+                                        <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="2qf_fiE40n6" role="2OqNvi">
+                    <ref role="37wK5l" to="q3ut:2QmWbwu4pr2" resolve="guardStateChanged" />
+                    <node concept="2YIFZM" id="2qf_fiE40n9" role="37wK5m">
+                      <ref role="37wK5l" to="q3ut:2BH_CsmQ6dg" resolve="update" />
+                      <ref role="1Pybhc" to="q3ut:2BH_CsmQ64k" resolve="PackedGuards" />
+                      <node concept="37vLTw" id="2qf_fiE40nC" role="37wK5m">
+                        <ref role="3cqZAo" node="2qf_fiE40hp" resolve="guardStateHandle" />
+                        <node concept="1ZhdrF" id="2qf_fiE40nF" role="lGtFl">
+                          <property role="2qtEX8" value="variableDeclaration" />
+                          <property role="P3scX" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068498886296/1068581517664" />
+                          <node concept="3$xsQk" id="2qf_fiE40nI" role="3$ytzL">
+                            <node concept="3clFbS" id="2qf_fiE40nL" role="2VODD2">
+                              <node concept="3clFbF" id="2qf_fiE40nO" role="3cqZAp">
+                                <node concept="2OqwBi" id="2qf_fiE40nR" role="3clFbG">
+                                  <node concept="1iwH7S" id="2qf_fiE40nU" role="2Oq$k0" />
+                                  <node concept="1iwH70" id="2qf_fiE40nX" role="2OqNvi">
+                                    <ref role="1iwH77" node="2qf_fiE40e3" resolve="packedGuardStateHandle" />
+                                    <node concept="2OqwBi" id="2qf_fiE40na" role="1iwH7V">
+                                      <node concept="2OqwBi" id="2qf_fiE40nd" role="2Oq$k0">
+                                        <node concept="1PxgMI" id="2qf_fiE40ng" role="2Oq$k0">
+                                          <node concept="chp4Y" id="2qf_fiE40nj" role="3oSUPX">
+                                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                          </node>
+                                          <node concept="2OqwBi" id="2qf_fiE40nm" role="1m5AlR">
+                                            <node concept="30H73N" id="2qf_fiE40np" role="2Oq$k0" />
+                                            <node concept="3TrEf2" id="2qf_fiE40ns" role="2OqNvi">
+                                              <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                        <node concept="3TrEf2" id="2qf_fiE40nv" role="2OqNvi">
+                                          <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                        </node>
+                                      </node>
+                                      <node concept="2Xjw5R" id="2qf_fiE40ny" role="2OqNvi">
+                                        <node concept="1xMEDy" id="2qf_fiE40n_" role="1xVPHs">
+                                          <node concept="chp4Y" id="2qf_fiE40o2" role="ri$Ld">
+                                            <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="Xjq3P" id="2qf_fiE40o5" role="37wK5m" />
+                      <node concept="3cmrfG" id="2qf_fiE40o8" role="37wK5m">
+                        <property role="3cmrfH" value="0" />
+                        <node concept="17Uvod" id="2qf_fiE40oB" role="lGtFl">
+                          <property role="2qtEX9" value="value" />
+                          <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                          <node concept="3zFVjK" id="2qf_fiE40oE" role="3zH0cK">
+                            <node concept="3clFbS" id="2qf_fiE40oH" role="2VODD2">
+                              <node concept="3clFbF" id="2qf_fiE40oK" role="3cqZAp">
+                                <node concept="3cpWsd" id="2qf_fiE40oN" role="3clFbG">
+                                  <node concept="3cmrfG" id="2qf_fiE40oQ" role="3uHU7w">
+                                    <property role="3cmrfH" value="1" />
+                                  </node>
+                                  <node concept="1ZRNhn" id="2qf_fiE40oT" role="3uHU7B">
+                                    <node concept="2OqwBi" id="2qf_fiE40oW" role="2$L3a6">
+                                      <node concept="2OqwBi" id="2qf_fiE40oZ" role="2Oq$k0">
+                                        <node concept="2OqwBi" id="2qf_fiE40oc" role="2Oq$k0">
+                                          <node concept="1PxgMI" id="2qf_fiE40of" role="2Oq$k0">
+                                            <node concept="chp4Y" id="2qf_fiE40oi" role="3oSUPX">
+                                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                            </node>
+                                            <node concept="2OqwBi" id="2qf_fiE40ol" role="1m5AlR">
+                                              <node concept="30H73N" id="2qf_fiE40oo" role="2Oq$k0" />
+                                              <node concept="3TrEf2" id="2qf_fiE40or" role="2OqNvi">
+                                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                          <node concept="3TrEf2" id="2qf_fiE40ou" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                          </node>
+                                        </node>
+                                        <node concept="2Xjw5R" id="2qf_fiE40ox" role="2OqNvi">
+                                          <node concept="1xMEDy" id="2qf_fiE40o$" role="1xVPHs">
+                                            <node concept="chp4Y" id="2qf_fiE40p1" role="ri$Ld">
+                                              <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                      <node concept="2qgKlT" id="2qf_fiE40p4" role="2OqNvi">
+                                        <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                        <node concept="2OqwBi" id="2qf_fiE40p7" role="37wK5m">
+                                          <node concept="1PxgMI" id="2qf_fiE40pA" role="2Oq$k0">
+                                            <node concept="chp4Y" id="2qf_fiE40pD" role="3oSUPX">
+                                              <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                            </node>
+                                            <node concept="2OqwBi" id="2qf_fiE40pG" role="1m5AlR">
+                                              <node concept="30H73N" id="2qf_fiE40pJ" role="2Oq$k0" />
+                                              <node concept="3TrEf2" id="2qf_fiE40pM" role="2OqNvi">
+                                                <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                          <node concept="3TrEf2" id="2qf_fiE40pP" role="2OqNvi">
+                                            <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="2qf_fiE40pS" role="37wK5m">
+                        <property role="3cmrfH" value="0" />
+                        <node concept="17Uvod" id="2qf_fiE40pV" role="lGtFl">
+                          <property role="2qtEX9" value="value" />
+                          <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580320020/1068580320021" />
+                          <node concept="3zFVjK" id="2qf_fiE40pY" role="3zH0cK">
+                            <node concept="3clFbS" id="2qf_fiE40pb" role="2VODD2">
+                              <node concept="3clFbF" id="2qf_fiE40pe" role="3cqZAp">
+                                <node concept="3K4zz7" id="2qf_fiE40ph" role="3clFbG">
+                                  <node concept="2OqwBi" id="2qf_fiE40pk" role="3K4Cdx">
+                                    <node concept="30H73N" id="2qf_fiE40pn" role="2Oq$k0" />
+                                    <node concept="3TrcHB" id="2qf_fiE40pq" role="2OqNvi">
+                                      <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                    </node>
+                                  </node>
+                                  <node concept="2OqwBi" id="2qf_fiE40pt" role="3K4E3e">
+                                    <node concept="2OqwBi" id="2qf_fiE40pw" role="2Oq$k0">
+                                      <node concept="2OqwBi" id="2qf_fiE40pz" role="2Oq$k0">
+                                        <node concept="1PxgMI" id="2qf_fiE40q0" role="2Oq$k0">
+                                          <node concept="chp4Y" id="2qf_fiE40q3" role="3oSUPX">
+                                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                          </node>
+                                          <node concept="2OqwBi" id="2qf_fiE40q6" role="1m5AlR">
+                                            <node concept="30H73N" id="2qf_fiE40q9" role="2Oq$k0" />
+                                            <node concept="3TrEf2" id="2qf_fiE40qC" role="2OqNvi">
+                                              <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                        <node concept="3TrEf2" id="2qf_fiE40qF" role="2OqNvi">
+                                          <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                        </node>
+                                      </node>
+                                      <node concept="2Xjw5R" id="2qf_fiE40qI" role="2OqNvi">
+                                        <node concept="1xMEDy" id="2qf_fiE40qL" role="1xVPHs">
+                                          <node concept="chp4Y" id="2qf_fiE40qO" role="ri$Ld">
+                                            <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="2qgKlT" id="2qf_fiE40qR" role="2OqNvi">
+                                      <ref role="37wK5l" to="pw26:3fIrGf8HnFS" resolve="packedGuardMask" />
+                                      <node concept="2OqwBi" id="2qf_fiE40qU" role="37wK5m">
+                                        <node concept="1PxgMI" id="2qf_fiE40qX" role="2Oq$k0">
+                                          <node concept="chp4Y" id="2qf_fiE40qa" role="3oSUPX">
+                                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                          </node>
+                                          <node concept="2OqwBi" id="2qf_fiE40qd" role="1m5AlR">
+                                            <node concept="30H73N" id="2qf_fiE40qg" role="2Oq$k0" />
+                                            <node concept="3TrEf2" id="2qf_fiE40qj" role="2OqNvi">
+                                              <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                        <node concept="3TrEf2" id="2qf_fiE40qm" role="2OqNvi">
+                                          <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                  <node concept="3cmrfG" id="2qf_fiE40qp" role="3K4GZi">
+                                    <property role="3cmrfH" value="0" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
                   </node>
-                  <node concept="30H73N" id="6BZjXFiuKld" role="2Oq$k0" />
                 </node>
               </node>
             </node>
           </node>
+          <node concept="raruj" id="2qf_fiE40qs" role="lGtFl" />
         </node>
       </node>
-      <node concept="17Uvod" id="6BZjXFiuK82" role="lGtFl">
-        <property role="2qtEX9" value="name" />
-        <property role="P4ACc" value="ceab5195-25ea-4f22-9b92-103b95ca8c0c/1169194658468/1169194664001" />
-        <node concept="3zFVjK" id="6BZjXFiuK85" role="3zH0cK">
-          <node concept="3clFbS" id="6BZjXFiuK86" role="2VODD2">
-            <node concept="3clFbF" id="6BZjXFiuK8c" role="3cqZAp">
-              <node concept="2OqwBi" id="6BZjXFiuK87" role="3clFbG">
-                <node concept="3TrcHB" id="6BZjXFiuK8a" role="2OqNvi">
-                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+    </node>
+  </node>
+  <node concept="13MO4I" id="3pbepyGBVXP">
+    <property role="3GE5qa" value="guards" />
+    <property role="TrG5h" value="reduce_LocalGuardReference_constant" />
+    <ref role="3gUMe" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+    <node concept="3clFbT" id="3pbepyGBVYd" role="13RCb5">
+      <node concept="raruj" id="3pbepyGBVYA" role="lGtFl" />
+      <node concept="17Uvod" id="3pbepyGBVZ6" role="lGtFl">
+        <property role="2qtEX9" value="value" />
+        <property role="P4ACc" value="f3061a53-9226-4cc5-a443-f952ceaf5816/1068580123137/1068580123138" />
+        <node concept="3zFVjK" id="3pbepyGBVZF" role="3zH0cK">
+          <node concept="3clFbS" id="3pbepyGBVZZ" role="2VODD2">
+            <node concept="3clFbF" id="3pbepyGBV$i" role="3cqZAp">
+              <node concept="2OqwBi" id="3pbepyGBV$E" role="3clFbG">
+                <node concept="2OqwBi" id="3pbepyGBV_b" role="2Oq$k0">
+                  <node concept="30H73N" id="3pbepyGBV_v" role="2Oq$k0" />
+                  <node concept="3TrEf2" id="3pbepyGBV_N" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                  </node>
+                </node>
+                <node concept="3TrcHB" id="3pbepyGBW0c" role="2OqNvi">
+                  <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
                 </node>
-                <node concept="30H73N" id="6BZjXFiuK8b" role="2Oq$k0" />
               </node>
             </node>
           </node>
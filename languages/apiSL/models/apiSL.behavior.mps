@@ -15,7 +15,11 @@
     <import index="tpek" ref="r:00000000-0000-4000-0000-011c895902c0(jetbrains.mps.baseLanguage.behavior)" />
     <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
     <import index="3ibj" ref="r:8f8074ee-e727-43bd-aa9d-a9d57025abf9(apiSL.structure)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="mhbf" ref="8865b7a8-5271-43d3-884c-6fd1d9cfdd34/java:org.jetbrains.mps.openapi.model(MPS.OpenAPI/)" />
+    <import index="lui2" ref="8865b7a8-5271-43d3-884c-6fd1d9cfdd34/java:org.jetbrains.mps.openapi.module(MPS.OpenAPI/)" />
     <import index="tpck" ref="r:00000000-0000-4000-0000-011c89590288(jetbrains.mps.lang.core.structure)" implicit="true" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" implicit="true" />
   </imports>
   <registry>
     <language id="af65afd8-f0dd-4942-87d9-63a55f2a9db1" name="jetbrains.mps.lang.behavior">
@@ -75,6 +79,7 @@
       <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
         <child id="1068580123160" name="condition" index="3clFbw" />
         <child id="1068580123161" name="ifTrue" index="3clFbx" />
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
       </concept>
       <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
         <child id="1068581517665" name="statement" index="3cqZAp" />
@@ -93,9 +98,12 @@
         <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
         <child id="1068499141038" name="actualArgument" index="37wK5m" />
       </concept>
-      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
       <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
         <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
       </concept>
       <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
         <child id="1081773367579" name="rightExpression" index="3uHU7w" />
@@ -107,6 +115,63 @@
       </concept>
       <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
       <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1144226303539" name="jetbrains.mps.baseLanguage.structure.ForeachStatement" flags="nn" index="1DcWWT">
+        <child id="1144226360166" name="iterable" index="1DdaDG" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225271177708" name="jetbrains.mps.baseLanguage.structure.StringType" flags="in" index="17QB3L" />
     </language>
     <language id="fd392034-7849-419d-9071-12563d152375" name="jetbrains.mps.baseLanguage.closures">
       <concept id="1199569711397" name="jetbrains.mps.baseLanguage.closures.structure.ClosureLiteral" flags="nn" index="1bVj0M">
@@ -158,6 +223,23 @@
       <concept id="5779574625830813396" name="jetbrains.mps.lang.smodel.structure.EnumerationIdRefExpression" flags="ng" index="1XH99k">
         <reference id="5779574625830813397" name="enumDeclaration" index="1XH99l" />
       </concept>
+      <concept id="1139613262185" name="jetbrains.mps.lang.smodel.structure.Node_GetParentOperation" flags="nn" index="1mfA1w" />
+      <concept id="1139621453865" name="jetbrains.mps.lang.smodel.structure.Node_IsInstanceOfOperation" flags="nn" index="1mIQ4w">
+        <child id="1177027386292" name="conceptArgument" index="cj9EA" />
+      </concept>
+      <concept id="1140137987495" name="jetbrains.mps.lang.smodel.structure.SNodeTypeCastExpression" flags="nn" index="1PxgMI" />
+      <concept id="1172008320231" name="jetbrains.mps.lang.smodel.structure.Node_IsNotNullOperation" flags="nn" index="3x8VRR" />
+      <concept id="2396822768958367367" name="jetbrains.mps.lang.smodel.structure.AbstractTypeCastExpression" flags="nn" index="$5XWr">
+        <child id="6733348108486823193" name="leftExpression" index="1m5AlR" />
+        <child id="3906496115198199033" name="conceptArgument" index="3oSUPX" />
+      </concept>
+      <concept id="2644386474300074836" name="jetbrains.mps.lang.smodel.structure.ConceptIdRefExpression" flags="nn" index="35c_gC">
+        <reference id="2644386474300074837" name="conceptDeclaration" index="35c_gD" />
+      </concept>
+      <concept id="7835263205327057228" name="jetbrains.mps.lang.smodel.structure.Node_GetChildrenAndChildAttributesOperation" flags="ng" index="Bykcj" />
+      <concept id="1145404486709" name="jetbrains.mps.lang.smodel.structure.SemanticDowncastExpression" flags="nn" index="2JrnkZ">
+        <child id="1145404616321" name="leftExpression" index="2JrQYb" />
+      </concept>
     </language>
     <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
       <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
@@ -387,6 +469,341 @@
         </node>
       </node>
     </node>
+    <node concept="13i0hz" id="2PTc8VcWmhl" role="13h7CS">
+      <property role="TrG5h" value="batchFinalStateChecksInGeneration" />
+      <property role="2Ki8OM" value="true" />
+      <node concept="3Tm1VV" id="2PTc8VcWmhs" role="1B3o_S" />
+      <node concept="10P_77" id="2PTc8VcWmhW" role="3clF45" />
+      <node concept="3clFbS" id="2PTc8VcWmie" role="3clF47">
+        <node concept="3cpWs6" id="2PTc8VcWmiP" role="3cqZAp">
+          <node concept="3clFbT" id="2PTc8VcWmjl" role="3cqZAk" />
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3fIrGf8HnE6" role="13h7CS">
+      <property role="TrG5h" value="packGuardsInGeneration" />
+      <property role="2Ki8OM" value="true" />
+      <node concept="3Tm1VV" id="3fIrGf8HnE9" role="1B3o_S" />
+      <node concept="10P_77" id="3fIrGf8HnEG" role="3clF45" />
+      <node concept="3clFbS" id="3fIrGf8HnF2" role="3clF47">
+        <node concept="3cpWs6" id="3fIrGf8HnFc" role="3cqZAp">
+          <node concept="3clFbT" id="3fIrGf8HnFu" role="3cqZAk">
+            <property role="3clFbU" value="true" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3fIrGf8HnFS" role="13h7CS">
+      <property role="TrG5h" value="packedGuardMask" />
+      <node concept="3Tm1VV" id="3fIrGf8HnG4" role="1B3o_S" />
+      <node concept="10Oyi0" id="3fIrGf8HnGG" role="3clF45" />
+      <node concept="3clFbS" id="3fIrGf8HnGT" role="3clF47">
+        <node concept="3clFbJ" id="3fIrGf8HnHf" role="3cqZAp">
+          <node concept="3fqX7Q" id="3fIrGf8HnHi" role="3clFbw">
+            <node concept="BsUDl" id="3fIrGf8HnHB" role="3fr31v">
+              <ref role="37wK5l" node="3fIrGf8HnE6" resolve="packGuardsInGeneration" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3fIrGf8HnI7" role="3clFbx">
+            <node concept="3cpWs6" id="3fIrGf8HnIA" role="3cqZAp">
+              <node concept="3cmrfG" id="3fIrGf8HnJ5" role="3cqZAk">
+                <property role="3cmrfH" value="0" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3fIrGf8HnJt" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8HnJW" role="3cpWs9">
+            <property role="TrG5h" value="bit" />
+            <node concept="10Oyi0" id="3fIrGf8HnJY" role="1tU5fm" />
+            <node concept="3cmrfG" id="3fIrGf8HnKw" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3fIrGf8HnKU" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8HnLo" role="3cpWs9">
+            <property role="TrG5h" value="count" />
+            <node concept="10Oyi0" id="3fIrGf8HnLM" role="1tU5fm" />
+            <node concept="3cmrfG" id="3fIrGf8HnM3" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="3fIrGf8HnM8" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8HnMA" role="1Duv9x">
+            <property role="TrG5h" value="candidate" />
+            <node concept="3Tqbb2" id="3fIrGf8HnN9" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="3fIrGf8HnNK" role="1DdaDG">
+            <node concept="2OqwBi" id="3fIrGf8HnOj" role="2Oq$k0">
+              <node concept="13iPFW" id="3fIrGf8HnOI" role="2Oq$k0" />
+              <node concept="2qgKlT" id="3fIrGf8HnPf" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="3fIrGf8HnPL" role="2OqNvi">
+              <node concept="chp4Y" id="3fIrGf8HnQa" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3fIrGf8HnQq" role="2LFqv$">
+            <node concept="3clFbJ" id="3fIrGf8HnQr" role="3cqZAp">
+              <node concept="3clFbC" id="3fIrGf8HnQP" role="3clFbw">
+                <node concept="2OqwBi" id="3fIrGf8HnRq" role="3uHU7w">
+                  <node concept="1XH99k" id="3fIrGf8HnRU" role="2Oq$k0">
+                    <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
+                  </node>
+                  <node concept="2ViDtV" id="3fIrGf8HnS3" role="2OqNvi">
+                    <ref role="2ViDtZ" to="3ibj:3K5upD74dsU" resolve="ignore" />
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="3fIrGf8HnSs" role="3uHU7B">
+                  <node concept="37vLTw" id="3fIrGf8HnSZ" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3fIrGf8HnMA" resolve="candidate" />
+                  </node>
+                  <node concept="3TrcHB" id="3fIrGf8HnTi" role="2OqNvi">
+                    <ref role="3TsBF5" to="3ibj:3K5upD74dt2" resolve="finalizedState" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="3fIrGf8HnTs" role="3clFbx">
+                <node concept="3clFbJ" id="3fIrGf8HnTZ" role="3cqZAp">
+                  <node concept="3clFbC" id="3fIrGf8HnT$" role="3clFbw">
+                    <node concept="37vLTw" id="3fIrGf8HnUq" role="3uHU7w">
+                      <ref role="3cqZAo" node="3fIrGf8Hn_H" resolve="guard" />
+                    </node>
+                    <node concept="37vLTw" id="3fIrGf8HnUF" role="3uHU7B">
+                      <ref role="3cqZAo" node="3fIrGf8HnMA" resolve="candidate" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3fIrGf8HnV0" role="3clFbx">
+                    <node concept="3clFbF" id="3fIrGf8HnVE" role="3cqZAp">
+                      <node concept="37vLTI" id="3fIrGf8HnVO" role="3clFbG">
+                        <node concept="1GRDU$" id="3fIrGf8HnWp" role="37vLTx">
+                          <node concept="37vLTw" id="3fIrGf8HnW_" role="3uHU7w">
+                            <ref role="3cqZAo" node="3fIrGf8HnLo" resolve="count" />
+                          </node>
+                          <node concept="3cmrfG" id="3fIrGf8HnXl" role="3uHU7B">
+                            <property role="3cmrfH" value="1" />
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="3fIrGf8HnXy" role="37vLTJ">
+                          <ref role="3cqZAo" node="3fIrGf8HnJW" resolve="bit" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="3fIrGf8HnXR" role="3cqZAp">
+                  <node concept="3uNrnE" id="3fIrGf8HnY1" role="3clFbG">
+                    <node concept="37vLTw" id="3fIrGf8HnY3" role="2$L3a6">
+                      <ref role="3cqZAo" node="3fIrGf8HnLo" resolve="count" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3fIrGf8HnY8" role="3cqZAp">
+          <node concept="3K4zz7" id="3fIrGf8HnYn" role="3cqZAk">
+            <node concept="1Wc70l" id="3fIrGf8HnYW" role="3K4Cdx">
+              <node concept="2dkUwp" id="3fIrGf8HnZa" role="3uHU7w">
+                <node concept="3cmrfG" id="3fIrGf8HnZG" role="3uHU7w">
+                  <property role="3cmrfH" value="32" />
+                </node>
+                <node concept="37vLTw" id="3fIrGf8HnZZ" role="3uHU7B">
+                  <ref role="3cqZAo" node="3fIrGf8HnLo" resolve="count" />
+                </node>
+              </node>
+              <node concept="2d3UOw" id="3fIrGf8Hn$s" role="3uHU7B">
+                <node concept="3cmrfG" id="3fIrGf8Hn$u" role="3uHU7w">
+                  <property role="3cmrfH" value="2" />
+                </node>
+                <node concept="37vLTw" id="3fIrGf8Hn$P" role="3uHU7B">
+                  <ref role="3cqZAo" node="3fIrGf8HnLo" resolve="count" />
+                </node>
+              </node>
+            </node>
+            <node concept="37vLTw" id="3fIrGf8Hn_m" role="3K4E3e">
+              <ref role="3cqZAo" node="3fIrGf8HnJW" resolve="bit" />
+            </node>
+            <node concept="3cmrfG" id="3fIrGf8Hn_q" role="3K4GZi">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="3fIrGf8Hn_H" role="3clF46">
+        <property role="TrG5h" value="guard" />
+        <node concept="3Tqbb2" id="3fIrGf8Hn_Q" role="1tU5fm">
+          <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3fIrGf8Ho0s" role="13h7CS">
+      <property role="TrG5h" value="hasPackedGuards" />
+      <node concept="3Tm1VV" id="3fIrGf8Ho14" role="1B3o_S" />
+      <node concept="10P_77" id="3fIrGf8Ho17" role="3clF45" />
+      <node concept="3clFbS" id="3fIrGf8Ho1a" role="3clF47">
+        <node concept="1DcWWT" id="3fIrGf8Ho1L" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8Ho1U" role="1Duv9x">
+            <property role="TrG5h" value="guard" />
+            <node concept="3Tqbb2" id="3fIrGf8Ho20" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="3fIrGf8Ho2t" role="1DdaDG">
+            <node concept="2OqwBi" id="3fIrGf8Ho35" role="2Oq$k0">
+              <node concept="13iPFW" id="3fIrGf8Ho3f" role="2Oq$k0" />
+              <node concept="2qgKlT" id="3fIrGf8Ho3x" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="3fIrGf8Ho3X" role="2OqNvi">
+              <node concept="chp4Y" id="3fIrGf8Ho4g" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3fIrGf8Ho4M" role="2LFqv$">
+            <node concept="3clFbJ" id="3fIrGf8Ho4T" role="3cqZAp">
+              <node concept="3y3z36" id="3fIrGf8Ho5c" role="3clFbw">
+                <node concept="3cmrfG" id="3fIrGf8Ho5C" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="BsUDl" id="3fIrGf8Ho5E" role="3uHU7B">
+                  <ref role="37wK5l" node="3fIrGf8HnFS" resolve="packedGuardMask" />
+                  <node concept="37vLTw" id="3fIrGf8Ho5V" role="37wK5m">
+                    <ref role="3cqZAo" node="3fIrGf8Ho1U" resolve="guard" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="3fIrGf8Ho6t" role="3clFbx">
+                <node concept="3cpWs6" id="3fIrGf8Ho6z" role="3cqZAp">
+                  <node concept="3clFbT" id="3fIrGf8Ho6A" role="3cqZAk">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3fIrGf8Ho6S" role="3cqZAp">
+          <node concept="3clFbT" id="3fIrGf8Ho7f" role="3cqZAk">
+            <property role="3clFbU" value="false" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3fIrGf8Ho7S" role="13h7CS">
+      <property role="TrG5h" value="packedGuardsInitialState" />
+      <node concept="3Tm1VV" id="3fIrGf8Ho8k" role="1B3o_S" />
+      <node concept="10Oyi0" id="3fIrGf8Ho8t" role="3clF45" />
+      <node concept="3clFbS" id="3fIrGf8Ho8O" role="3clF47">
+        <node concept="3cpWs8" id="3fIrGf8Ho99" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8Ho9a" role="3cpWs9">
+            <property role="TrG5h" value="state" />
+            <node concept="10Oyi0" id="3fIrGf8Ho9y" role="1tU5fm" />
+            <node concept="3cmrfG" id="3fIrGf8Hoa4" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="3fIrGf8HoaG" role="3cqZAp">
+          <node concept="3cpWsn" id="3fIrGf8Hobi" role="1Duv9x">
+            <property role="TrG5h" value="guard" />
+            <node concept="3Tqbb2" id="3fIrGf8HobD" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="3fIrGf8Hoc1" role="1DdaDG">
+            <node concept="2OqwBi" id="3fIrGf8Hoc7" role="2Oq$k0">
+              <node concept="13iPFW" id="3fIrGf8HocE" role="2Oq$k0" />
+              <node concept="2qgKlT" id="3fIrGf8HocL" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="3fIrGf8HocT" role="2OqNvi">
+              <node concept="chp4Y" id="3fIrGf8Hod3" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3fIrGf8Hod4" role="2LFqv$">
+            <node concept="3clFbJ" id="3fIrGf8Hod9" role="3cqZAp">
+              <node concept="2OqwBi" id="3fIrGf8HodM" role="3clFbw">
+                <node concept="37vLTw" id="3fIrGf8HodP" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3fIrGf8Hobi" resolve="guard" />
+                </node>
+                <node concept="3TrcHB" id="3fIrGf8Hoe8" role="2OqNvi">
+                  <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3fIrGf8Hoev" role="3clFbx">
+                <node concept="3clFbF" id="3fIrGf8HoeR" role="3cqZAp">
+                  <node concept="3vZ8r8" id="3fIrGf8Hof2" role="3clFbG">
+                    <node concept="BsUDl" id="3fIrGf8Hofn" role="37vLTx">
+                      <ref role="37wK5l" node="3fIrGf8HnFS" resolve="packedGuardMask" />
+                      <node concept="37vLTw" id="3fIrGf8HofE" role="37wK5m">
+                        <ref role="3cqZAo" node="3fIrGf8Hobi" resolve="guard" />
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="3fIrGf8Hof_" role="37vLTJ">
+                      <ref role="3cqZAo" node="3fIrGf8Ho9a" resolve="state" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3fIrGf8Hog0" role="3cqZAp">
+          <node concept="37vLTw" id="3fIrGf8Hogm" role="3cqZAk">
+            <ref role="3cqZAo" node="3fIrGf8Ho9a" resolve="state" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="26z__LfqmK4" role="13h7CS">
+      <property role="TrG5h" value="eliminateConstantGuardsInGeneration" />
+      <property role="2Ki8OM" value="true" />
+      <node concept="3Tm1VV" id="26z__LfqmKd" role="1B3o_S" />
+      <node concept="10P_77" id="26z__LfqmKr" role="3clF45" />
+      <node concept="3clFbS" id="26z__LfqmKN" role="3clF47">
+        <node concept="3cpWs6" id="26z__LfqmKR" role="3cqZAp">
+          <node concept="3clFbT" id="26z__LfqmL0" role="3cqZAk">
+            <property role="3clFbU" value="true" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3WDjy4S3JBp" role="13h7CS">
+      <property role="TrG5h" value="instrumentChecksInGeneration" />
+      <property role="2Ki8OM" value="true" />
+      <node concept="3Tm1VV" id="3WDjy4S3JBy" role="1B3o_S" />
+      <node concept="10P_77" id="3WDjy4S3JBW" role="3clF45" />
+      <node concept="3clFbS" id="3WDjy4S3JC7" role="3clF47">
+        <node concept="3cpWs6" id="3WDjy4S3JCm" role="3cqZAp">
+          <node concept="3clFbT" id="3WDjy4S3JCZ" role="3cqZAk" />
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="23QpVD5mCpb" role="13h7CS">
+      <property role="TrG5h" value="outlineConsequencesInGeneration" />
+      <property role="2Ki8OM" value="true" />
+      <node concept="3Tm1VV" id="23QpVD5mCpl" role="1B3o_S" />
+      <node concept="10P_77" id="23QpVD5mCpq" role="3clF45" />
+      <node concept="3clFbS" id="23QpVD5mCpC" role="3clF47">
+        <node concept="3cpWs6" id="23QpVD5mCqb" role="3cqZAp">
+          <node concept="3clFbT" id="23QpVD5mCqx" role="3cqZAk" />
+        </node>
+      </node>
+    </node>
     <node concept="13i0hz" id="HN1h99Qucn" role="13h7CS">
       <property role="TrG5h" value="needsFinalStateChecks" />
       <node concept="3Tm1VV" id="HN1h99Quco" role="1B3o_S" />
@@ -508,78 +925,145 @@
         </node>
       </node>
     </node>
-    <node concept="13i0hz" id="13NHI8wppfK" role="13h7CS">
-      <property role="TrG5h" value="metaVariables" />
-      <node concept="3Tm1VV" id="13NHI8wppfL" role="1B3o_S" />
-      <node concept="A3Dl8" id="13NHI8wppl_" role="3clF45">
-        <node concept="3Tqbb2" id="13NHI8wpplM" role="A3Ik2">
-          <ref role="ehGHo" to="3ibj:4ZklUblAm2B" resolve="MetaVariableDeclaration" />
+    <node concept="13i0hz" id="3RnrEBvdhct" role="13h7CS">
+      <property role="TrG5h" value="unpackedGuardsWithoutFinalStateCheck" />
+      <node concept="3Tm1VV" id="3RnrEBvdhcS" role="1B3o_S" />
+      <node concept="A3Dl8" id="3RnrEBvdhdn" role="3clF45">
+        <node concept="3Tqbb2" id="3RnrEBvdhdN" role="A3Ik2">
+          <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
         </node>
       </node>
-      <node concept="3clFbS" id="13NHI8wppfN" role="3clF47">
-        <node concept="3clFbF" id="13NHI8wppmm" role="3cqZAp">
-          <node concept="2OqwBi" id="13NHI8wprCB" role="3clFbG">
-            <node concept="2OqwBi" id="13NHI8wpqH9" role="2Oq$k0">
-              <node concept="13iPFW" id="13NHI8wppml" role="2Oq$k0" />
-              <node concept="2qgKlT" id="13NHI8wprhL" role="2OqNvi">
-                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+      <node concept="3clFbS" id="3RnrEBvdhec" role="3clF47">
+        <node concept="3clFbF" id="3RnrEBvdhez" role="3cqZAp">
+          <node concept="2OqwBi" id="3RnrEBvdhf5" role="3clFbG">
+            <node concept="2OqwBi" id="3RnrEBvdhfq" role="2Oq$k0">
+              <node concept="2OqwBi" id="3RnrEBvdhfD" role="2Oq$k0">
+                <node concept="13iPFW" id="3RnrEBvdhfO" role="2Oq$k0" />
+                <node concept="2qgKlT" id="3RnrEBvdhge" role="2OqNvi">
+                  <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+                </node>
+              </node>
+              <node concept="v3k3i" id="3RnrEBvdhgE" role="2OqNvi">
+                <node concept="chp4Y" id="3RnrEBvdhgN" role="v3oSu">
+                  <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+                </node>
               </node>
             </node>
-            <node concept="v3k3i" id="13NHI8wprMi" role="2OqNvi">
-              <node concept="chp4Y" id="13NHI8wprNm" role="v3oSu">
-                <ref role="cht4Q" to="3ibj:4ZklUblAm2B" resolve="MetaVariableDeclaration" />
+            <node concept="3zZkjj" id="3RnrEBvdhhh" role="2OqNvi">
+              <node concept="1bVj0M" id="3RnrEBvdhhi" role="23t8la">
+                <node concept="3clFbS" id="3RnrEBvdhhr" role="1bW5cS">
+                  <node concept="3clFbF" id="3RnrEBvdhi1" role="3cqZAp">
+                    <node concept="1Wc70l" id="3RnrEBvdhmg" role="3clFbG">
+                      <node concept="3clFbC" id="3RnrEBvdhmm" role="3uHU7w">
+                        <node concept="3cmrfG" id="3RnrEBvdhmA" role="3uHU7w">
+                          <property role="3cmrfH" value="0" />
+                        </node>
+                        <node concept="BsUDl" id="3RnrEBvdhmZ" role="3uHU7B">
+                          <ref role="37wK5l" node="3fIrGf8HnFS" resolve="packedGuardMask" />
+                          <node concept="37vLTw" id="3RnrEBvdhn3" role="37wK5m">
+                            <ref role="3cqZAo" node="3RnrEBvdhlE" resolve="it" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3clFbC" id="3RnrEBvdhim" role="3uHU7B">
+                        <node concept="2OqwBi" id="3RnrEBvdhiT" role="3uHU7B">
+                          <node concept="37vLTw" id="3RnrEBvdhjj" role="2Oq$k0">
+                            <ref role="3cqZAo" node="3RnrEBvdhlE" resolve="it" />
+                          </node>
+                          <node concept="3TrcHB" id="3RnrEBvdhjy" role="2OqNvi">
+                            <ref role="3TsBF5" to="3ibj:3K5upD74dt2" resolve="finalizedState" />
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="3RnrEBvdhj$" role="3uHU7w">
+                          <node concept="1XH99k" id="3RnrEBvdhkx" role="2Oq$k0">
+                            <ref role="1XH99l" to="3ibj:3K5upD74dsT" resolve="FinalizedState" />
+                          </node>
+                          <node concept="2ViDtV" id="3RnrEBvdhl2" role="2OqNvi">
+                            <ref role="2ViDtZ" to="3ibj:3K5upD74dsU" resolve="ignore" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="Rh6nW" id="3RnrEBvdhlE" role="1bW2Oz">
+                  <property role="TrG5h" value="it" />
+                  <node concept="2jxLKc" id="3RnrEBvdhl$" role="1tU5fm" />
+                </node>
               </node>
             </node>
           </node>
         </node>
       </node>
     </node>
-    <node concept="13hLZK" id="3AO7oGWVNyU" role="13h7CW">
-      <node concept="3clFbS" id="3AO7oGWVNyV" role="2VODD2" />
-    </node>
-  </node>
-  <node concept="13h7C7" id="3AO7oGXao1a">
-    <property role="3GE5qa" value="guards" />
-    <ref role="13h7C2" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
-    <node concept="13hLZK" id="3AO7oGXao1b" role="13h7CW">
-      <node concept="3clFbS" id="3AO7oGXao1c" role="2VODD2" />
-    </node>
-    <node concept="13i0hz" id="3AO7oGXapMr" role="13h7CS">
-      <property role="TrG5h" value="populateMember" />
-      <ref role="13i0hy" to="tpek:6r77ob2UW9O" resolve="populateMember" />
-      <node concept="3Tm1VV" id="3AO7oGXapMs" role="1B3o_S" />
-      <node concept="3clFbS" id="3AO7oGXapMD" role="3clF47">
-        <node concept="3clFbJ" id="3AO7oGXavKw" role="3cqZAp">
-          <node concept="3clFbS" id="3AO7oGXavKy" role="3clFbx">
-            <node concept="3cpWs6" id="3AO7oGXaA7A" role="3cqZAp" />
-          </node>
-          <node concept="3fqX7Q" id="3AO7oGXavUp" role="3clFbw">
-            <node concept="2OqwBi" id="3AO7oGXaw1u" role="3fr31v">
-              <node concept="37vLTw" id="3AO7oGXavUt" role="2Oq$k0">
-                <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+    <node concept="13i0hz" id="2ZoeAXTjRkI" role="13h7CS">
+      <property role="TrG5h" value="protocol" />
+      <node concept="3Tm1VV" id="2ZoeAXTjRk$" role="1B3o_S" />
+      <node concept="3uibUv" id="2ZoeAXTjRl1" role="3clF45">
+        <ref role="3uigEE" to="33ny:~List" resolve="List" />
+        <node concept="17QB3L" id="2ZoeAXTjRlu" role="11_B2D" />
+      </node>
+      <node concept="3clFbS" id="2ZoeAXTjRlR" role="3clF47">
+        <node concept="3cpWs8" id="2ZoeAXTjRlW" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjRmd" role="3cpWs9">
+            <property role="TrG5h" value="setGuards" />
+            <node concept="3uibUv" id="2ZoeAXTjRmF" role="1tU5fm">
+              <ref role="3uigEE" to="33ny:~Set" resolve="Set" />
+              <node concept="3Tqbb2" id="2ZoeAXTjRn6" role="11_B2D">
+                <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
               </node>
-              <node concept="liA8E" id="3AO7oGXaw6x" role="2OqNvi">
-                <ref role="37wK5l" to="fnmy:4wi8xvc$OpI" resolve="isElementVisible" />
-                <node concept="13iPFW" id="3AO7oGXaw7q" role="37wK5m" />
+            </node>
+            <node concept="2ShNRf" id="2ZoeAXTjRnD" role="33vP2m">
+              <node concept="1pGfFk" id="2ZoeAXTjRn$" role="2ShVmc">
+                <ref role="37wK5l" to="33ny:~HashSet.&lt;init&gt;()" resolve="HashSet" />
+                <node concept="3Tqbb2" id="2ZoeAXTjRoj" role="1pMfVU">
+                  <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+                </node>
               </node>
             </node>
           </node>
         </node>
-        <node concept="3clFbF" id="3AO7oGXaAa6" role="3cqZAp">
-          <node concept="2OqwBi" id="3AO7oGXaAhG" role="3clFbG">
-            <node concept="37vLTw" id="3AO7oGXaAa4" role="2Oq$k0">
-              <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+        <node concept="1DcWWT" id="2ZoeAXTjRoJ" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjRpb" role="1Duv9x">
+            <property role="TrG5h" value="guard" />
+            <node concept="3Tqbb2" id="2ZoeAXTjRpq" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
             </node>
-            <node concept="liA8E" id="3AO7oGXaAna" role="2OqNvi">
-              <ref role="37wK5l" to="fnmy:5U4HErzRY$m" resolve="exposeMember" />
-              <node concept="13iPFW" id="3AO7oGXaAnZ" role="37wK5m" />
-              <node concept="2ShNRf" id="3AO7oGXaAT4" role="37wK5m">
-                <node concept="1pGfFk" id="3AO7oGXaB5g" role="2ShVmc">
-                  <ref role="37wK5l" to="fnmy:6OATPVCTTfF" resolve="FieldSignature" />
-                  <node concept="2OqwBi" id="3AO7oGXaBkp" role="37wK5m">
-                    <node concept="13iPFW" id="3AO7oGXaB6A" role="2Oq$k0" />
-                    <node concept="3TrcHB" id="3AO7oGXaBBX" role="2OqNvi">
-                      <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+          </node>
+          <node concept="2OqwBi" id="2ZoeAXTjRpU" role="1DdaDG">
+            <node concept="2OqwBi" id="2ZoeAXTjRq4" role="2Oq$k0">
+              <node concept="13iPFW" id="2ZoeAXTjRqv" role="2Oq$k0" />
+              <node concept="2qgKlT" id="2ZoeAXTjRr0" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="2ZoeAXTjRrv" role="2OqNvi">
+              <node concept="chp4Y" id="2ZoeAXTjRrQ" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjRsb" role="2LFqv$">
+            <node concept="3clFbJ" id="2ZoeAXTjRsz" role="3cqZAp">
+              <node concept="2OqwBi" id="2ZoeAXTjRt4" role="3clFbw">
+                <node concept="37vLTw" id="2ZoeAXTjRt9" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2ZoeAXTjRpb" resolve="guard" />
+                </node>
+                <node concept="3TrcHB" id="2ZoeAXTjRtH" role="2OqNvi">
+                  <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="2ZoeAXTjRtX" role="3clFbx">
+                <node concept="3clFbF" id="2ZoeAXTjRud" role="3cqZAp">
+                  <node concept="2OqwBi" id="2ZoeAXTjRun" role="3clFbG">
+                    <node concept="37vLTw" id="2ZoeAXTjRuV" role="2Oq$k0">
+                      <ref role="3cqZAo" node="2ZoeAXTjRmd" resolve="setGuards" />
+                    </node>
+                    <node concept="liA8E" id="2ZoeAXTjRvu" role="2OqNvi">
+                      <ref role="37wK5l" to="33ny:~Set.add(java.lang.Object)" resolve="add" />
+                      <node concept="37vLTw" id="2ZoeAXTjRvy" role="37wK5m">
+                        <ref role="3cqZAo" node="2ZoeAXTjRpb" resolve="guard" />
+                      </node>
                     </node>
                   </node>
                 </node>
@@ -587,14 +1071,1712 @@
             </node>
           </node>
         </node>
-        <node concept="3clFbF" id="3AO7oGXaBPR" role="3cqZAp">
-          <node concept="2OqwBi" id="3AO7oGXaC0j" role="3clFbG">
-            <node concept="37vLTw" id="3AO7oGXaBPP" role="2Oq$k0">
-              <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+        <node concept="3cpWs8" id="2ZoeAXTjRv_" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjRwz" role="3cpWs9">
+            <property role="TrG5h" value="pending" />
+            <node concept="3uibUv" id="2ZoeAXTjRwV" role="1tU5fm">
+              <ref role="3uigEE" to="33ny:~List" resolve="List" />
+              <node concept="3Tqbb2" id="2ZoeAXTjRwZ" role="11_B2D">
+                <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+              </node>
             </node>
-            <node concept="liA8E" id="3AO7oGXaC6r" role="2OqNvi">
-              <ref role="37wK5l" to="fnmy:5U4HErzRY$g" resolve="hideMembersForAncestors" />
-              <node concept="2ShNRf" id="3AO7oGXaC7n" role="37wK5m">
+            <node concept="2ShNRf" id="2ZoeAXTjRxy" role="33vP2m">
+              <node concept="1pGfFk" id="2ZoeAXTjRx$" role="2ShVmc">
+                <ref role="37wK5l" to="33ny:~ArrayList.&lt;init&gt;()" resolve="ArrayList" />
+                <node concept="3Tqbb2" id="2ZoeAXTjRye" role="1pMfVU">
+                  <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="2ZoeAXTjRyo" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjRyV" role="1Duv9x">
+            <property role="TrG5h" value="method" />
+            <node concept="3Tqbb2" id="2ZoeAXTjRyY" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="2ZoeAXTjRzn" role="1DdaDG">
+            <node concept="2OqwBi" id="2ZoeAXTjRzN" role="2Oq$k0">
+              <node concept="13iPFW" id="2ZoeAXTjRAo" role="2Oq$k0" />
+              <node concept="2qgKlT" id="2ZoeAXTjRAu" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="2ZoeAXTjRAA" role="2OqNvi">
+              <node concept="chp4Y" id="2ZoeAXTjRB5" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjRBf" role="2LFqv$">
+            <node concept="3clFbF" id="2ZoeAXTjRBw" role="3cqZAp">
+              <node concept="2OqwBi" id="2ZoeAXTjRBC" role="3clFbG">
+                <node concept="37vLTw" id="2ZoeAXTjRBR" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2ZoeAXTjRwz" resolve="pending" />
+                </node>
+                <node concept="liA8E" id="2ZoeAXTjRCf" role="2OqNvi">
+                  <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                  <node concept="37vLTw" id="2ZoeAXTjRCA" role="37wK5m">
+                    <ref role="3cqZAo" node="2ZoeAXTjRyV" resolve="method" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="2ZoeAXTjRCE" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjRCO" role="3cpWs9">
+            <property role="TrG5h" value="calls" />
+            <node concept="3uibUv" id="2ZoeAXTjRD2" role="1tU5fm">
+              <ref role="3uigEE" to="33ny:~List" resolve="List" />
+              <node concept="17QB3L" id="2ZoeAXTjRD9" role="11_B2D" />
+            </node>
+            <node concept="2ShNRf" id="2ZoeAXTjRDm" role="33vP2m">
+              <node concept="1pGfFk" id="2ZoeAXTjRDo" role="2ShVmc">
+                <ref role="37wK5l" to="33ny:~ArrayList.&lt;init&gt;()" resolve="ArrayList" />
+                <node concept="17QB3L" id="2ZoeAXTjRDS" role="1pMfVU" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="2ZoeAXTjREi" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjREF" role="3cpWs9">
+            <property role="TrG5h" value="progress" />
+            <node concept="10P_77" id="2ZoeAXTjRE_" role="1tU5fm" />
+            <node concept="3clFbT" id="2ZoeAXTjRF6" role="33vP2m">
+              <property role="3clFbU" value="true" />
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="2ZoeAXTjRFg" role="3cqZAp">
+          <node concept="37vLTw" id="2ZoeAXTjRFL" role="2$JKZa">
+            <ref role="3cqZAo" node="2ZoeAXTjREF" resolve="progress" />
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjRGc" role="2LFqv$">
+            <node concept="3clFbF" id="2ZoeAXTjRGz" role="3cqZAp">
+              <node concept="37vLTI" id="2ZoeAXTjRHb" role="3clFbG">
+                <node concept="3clFbT" id="2ZoeAXTjRHN" role="37vLTx">
+                  <property role="3clFbU" value="false" />
+                </node>
+                <node concept="37vLTw" id="2ZoeAXTjRIc" role="37vLTJ">
+                  <ref role="3cqZAo" node="2ZoeAXTjREF" resolve="progress" />
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="2ZoeAXTjRIB" role="3cqZAp">
+              <node concept="3cpWsn" id="2ZoeAXTjRIJ" role="1Duv9x">
+                <property role="TrG5h" value="i" />
+                <node concept="10Oyi0" id="2ZoeAXTjRJf" role="1tU5fm" />
+                <node concept="3cmrfG" id="2ZoeAXTjRJw" role="33vP2m">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3eOVzh" id="2ZoeAXTjRJT" role="1Dwp0S">
+                <node concept="2OqwBi" id="2ZoeAXTjRJV" role="3uHU7w">
+                  <node concept="37vLTw" id="2ZoeAXTjRKt" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2ZoeAXTjRwz" resolve="pending" />
+                  </node>
+                  <node concept="liA8E" id="2ZoeAXTjRL1" role="2OqNvi">
+                    <ref role="37wK5l" to="33ny:~List.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="2ZoeAXTjRLo" role="3uHU7B">
+                  <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                </node>
+              </node>
+              <node concept="3uNrnE" id="2ZoeAXTjRLD" role="1Dwrff">
+                <node concept="37vLTw" id="2ZoeAXTjRLU" role="2$L3a6">
+                  <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="2ZoeAXTjRM4" role="2LFqv$">
+                <node concept="3cpWs8" id="2ZoeAXTjRMb" role="3cqZAp">
+                  <node concept="3cpWsn" id="2ZoeAXTjRMm" role="3cpWs9">
+                    <property role="TrG5h" value="method" />
+                    <node concept="3Tqbb2" id="2ZoeAXTjRMY" role="1tU5fm">
+                      <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+                    </node>
+                    <node concept="2OqwBi" id="2ZoeAXTjRN1" role="33vP2m">
+                      <node concept="37vLTw" id="2ZoeAXTjRNw" role="2Oq$k0">
+                        <ref role="3cqZAo" node="2ZoeAXTjRwz" resolve="pending" />
+                      </node>
+                      <node concept="liA8E" id="2ZoeAXTjRO5" role="2OqNvi">
+                        <ref role="37wK5l" to="33ny:~List.get(int)" resolve="get" />
+                        <node concept="37vLTw" id="2ZoeAXTjROI" role="37wK5m">
+                          <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="2ZoeAXTjRPi" role="3cqZAp">
+                  <node concept="BsUDl" id="2ZoeAXTjRPq" role="3clFbw">
+                    <ref role="37wK5l" node="2ZoeAXTjQV5" resolve="isCallableWith" />
+                    <node concept="37vLTw" id="2ZoeAXTjRPY" role="37wK5m">
+                      <ref role="3cqZAo" node="2ZoeAXTjRMm" resolve="method" />
+                    </node>
+                    <node concept="37vLTw" id="2ZoeAXTjRQ2" role="37wK5m">
+                      <ref role="3cqZAo" node="2ZoeAXTjRmd" resolve="setGuards" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="2ZoeAXTjRQu" role="3clFbx">
+                    <node concept="3cpWs8" id="2ZoeAXTjRQZ" role="3cqZAp">
+                      <node concept="3cpWsn" id="2ZoeAXTjRRr" role="3cpWs9">
+                        <property role="TrG5h" value="arity" />
+                        <node concept="10Oyi0" id="2ZoeAXTjRRX" role="1tU5fm" />
+                        <node concept="3cmrfG" id="2ZoeAXTjRS6" role="33vP2m">
+                          <property role="3cmrfH" value="0" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="1DcWWT" id="2ZoeAXTjRSe" role="3cqZAp">
+                      <node concept="3cpWsn" id="2ZoeAXTjRSz" role="1Duv9x">
+                        <property role="TrG5h" value="parameter" />
+                        <node concept="3Tqbb2" id="2ZoeAXTjRSC" role="1tU5fm" />
+                      </node>
+                      <node concept="2OqwBi" id="2ZoeAXTjRS$" role="1DdaDG">
+                        <node concept="37vLTw" id="2ZoeAXTjRTt" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2ZoeAXTjRMm" resolve="method" />
+                        </node>
+                        <node concept="3Tsc0h" id="2ZoeAXTjRTP" role="2OqNvi">
+                          <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
+                        </node>
+                      </node>
+                      <node concept="3clFbS" id="2ZoeAXTjRUl" role="2LFqv$">
+                        <node concept="3clFbF" id="2ZoeAXTjRUA" role="3cqZAp">
+                          <node concept="3uNrnE" id="2ZoeAXTjRV1" role="3clFbG">
+                            <node concept="37vLTw" id="2ZoeAXTjRVl" role="2$L3a6">
+                              <ref role="3cqZAo" node="2ZoeAXTjRRr" resolve="arity" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="2ZoeAXTjRVs" role="3cqZAp">
+                      <node concept="2OqwBi" id="2ZoeAXTjRVE" role="3clFbG">
+                        <node concept="37vLTw" id="2ZoeAXTjRWc" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2ZoeAXTjRCO" resolve="calls" />
+                        </node>
+                        <node concept="liA8E" id="2ZoeAXTjRWg" role="2OqNvi">
+                          <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                          <node concept="3cpWs3" id="2ZoeAXTjRWh" role="37wK5m">
+                            <node concept="37vLTw" id="2ZoeAXTjRWL" role="3uHU7w">
+                              <ref role="3cqZAo" node="2ZoeAXTjRRr" resolve="arity" />
+                            </node>
+                            <node concept="3cpWs3" id="2ZoeAXTjRWX" role="3uHU7B">
+                              <node concept="Xl_RD" id="2ZoeAXTjRX3" role="3uHU7w">
+                                <property role="Xl_RC" value="/" />
+                              </node>
+                              <node concept="2OqwBi" id="2ZoeAXTjRXo" role="3uHU7B">
+                                <node concept="37vLTw" id="2ZoeAXTjRXw" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="2ZoeAXTjRMm" resolve="method" />
+                                </node>
+                                <node concept="3TrcHB" id="2ZoeAXTjRY8" role="2OqNvi">
+                                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="1DcWWT" id="2ZoeAXTjRYI" role="3cqZAp">
+                      <node concept="3cpWsn" id="2ZoeAXTjRZj" role="1Duv9x">
+                        <property role="TrG5h" value="consequence" />
+                        <node concept="3Tqbb2" id="2ZoeAXTjRZo" role="1tU5fm" />
+                      </node>
+                      <node concept="2OqwBi" id="2ZoeAXTjRZZ" role="1DdaDG">
+                        <node concept="37vLTw" id="2ZoeAXTjR$s" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2ZoeAXTjRMm" resolve="method" />
+                        </node>
+                        <node concept="3Tsc0h" id="2ZoeAXTjR$O" role="2OqNvi">
+                          <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                        </node>
+                      </node>
+                      <node concept="3clFbS" id="2ZoeAXTjR_4" role="2LFqv$">
+                        <node concept="3cpWs8" id="2ZoeAXTjR_H" role="3cqZAp">
+                          <node concept="3cpWsn" id="2ZoeAXTjS0a" role="3cpWs9">
+                            <property role="TrG5h" value="then" />
+                            <node concept="3Tqbb2" id="2ZoeAXTjS0b" role="1tU5fm" />
+                            <node concept="2OqwBi" id="2ZoeAXTjS0o" role="33vP2m">
+                              <node concept="37vLTw" id="2ZoeAXTjS0N" role="2Oq$k0">
+                                <ref role="3cqZAo" node="2ZoeAXTjRZj" resolve="consequence" />
+                              </node>
+                              <node concept="3TrEf2" id="2ZoeAXTjS0R" role="2OqNvi">
+                                <ref role="3Tt5mk" to="3ibj:4H88Ni3cr12" resolve="then" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3clFbJ" id="2ZoeAXTjS17" role="3cqZAp">
+                          <node concept="1Wc70l" id="2ZoeAXTjS1f" role="3clFbw">
+                            <node concept="2OqwBi" id="2ZoeAXTjS1t" role="3uHU7w">
+                              <node concept="37vLTw" id="2ZoeAXTjS1N" role="2Oq$k0">
+                                <ref role="3cqZAo" node="2ZoeAXTjS0a" resolve="then" />
+                              </node>
+                              <node concept="1mIQ4w" id="2ZoeAXTjS2n" role="2OqNvi">
+                                <node concept="chp4Y" id="2ZoeAXTjS2H" role="cj9EA">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="2OqwBi" id="2ZoeAXTjS2$" role="3uHU7B">
+                              <node concept="2OqwBi" id="2ZoeAXTjS3r" role="2Oq$k0">
+                                <node concept="37vLTw" id="2ZoeAXTjS3u" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="2ZoeAXTjRZj" resolve="consequence" />
+                                </node>
+                                <node concept="3TrEf2" id="2ZoeAXTjS3y" role="2OqNvi">
+                                  <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                                </node>
+                              </node>
+                              <node concept="1mIQ4w" id="2ZoeAXTjS3T" role="2OqNvi">
+                                <node concept="chp4Y" id="2ZoeAXTjS43" role="cj9EA">
+                                  <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3clFbS" id="2ZoeAXTjS4G" role="3clFbx">
+                            <node concept="3cpWs8" id="2ZoeAXTjS4P" role="3cqZAp">
+                              <node concept="3cpWsn" id="2ZoeAXTjS4$" role="3cpWs9">
+                                <property role="TrG5h" value="change" />
+                                <node concept="3Tqbb2" id="2ZoeAXTjS58" role="1tU5fm">
+                                  <ref role="ehGHo" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                                </node>
+                                <node concept="1PxgMI" id="2ZoeAXTjS5p" role="33vP2m">
+                                  <node concept="chp4Y" id="2ZoeAXTjS5R" role="3oSUPX">
+                                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                                  </node>
+                                  <node concept="37vLTw" id="2ZoeAXTjS5V" role="1m5AlR">
+                                    <ref role="3cqZAo" node="2ZoeAXTjS0a" resolve="then" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3cpWs8" id="2ZoeAXTjS6l" role="3cqZAp">
+                              <node concept="3cpWsn" id="2ZoeAXTjS6L" role="3cpWs9">
+                                <property role="TrG5h" value="guard" />
+                                <node concept="3Tqbb2" id="2ZoeAXTjS7g" role="1tU5fm">
+                                  <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+                                </node>
+                                <node concept="2OqwBi" id="2ZoeAXTjS7I" role="33vP2m">
+                                  <node concept="2OqwBi" id="2ZoeAXTjS8i" role="2Oq$k0">
+                                    <node concept="37vLTw" id="2ZoeAXTjS8P" role="2Oq$k0">
+                                      <ref role="3cqZAo" node="2ZoeAXTjS4$" resolve="change" />
+                                    </node>
+                                    <node concept="3TrEf2" id="2ZoeAXTjS9d" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                    </node>
+                                  </node>
+                                  <node concept="3TrEf2" id="2ZoeAXTjS9k" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3clFbJ" id="2ZoeAXTjS9V" role="3cqZAp">
+                              <node concept="1Wc70l" id="3R$ZJ7x70e3" role="3clFbw">
+                                <node concept="2OqwBi" id="2ZoeAXTjSar" role="3uHU7B">
+                                  <node concept="37vLTw" id="2ZoeAXTjSax" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="2ZoeAXTjS4$" resolve="change" />
+                                  </node>
+                                  <node concept="3TrcHB" id="2ZoeAXTjSb9" role="2OqNvi">
+                                    <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                  </node>
+                                </node>
+                                <node concept="3fqX7Q" id="3R$ZJ7x70e6" role="3uHU7w">
+                                  <node concept="2OqwBi" id="3R$ZJ7x70e9" role="3fr31v">
+                                    <node concept="2OqwBi" id="3R$ZJ7x70eC" role="2Oq$k0">
+                                      <node concept="37vLTw" id="3R$ZJ7x70eF" role="2Oq$k0">
+                                        <ref role="3cqZAo" node="2ZoeAXTjRZj" resolve="consequence" />
+                                      </node>
+                                      <node concept="3TrEf2" id="3R$ZJ7x70eI" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                                      </node>
+                                    </node>
+                                    <node concept="2qgKlT" id="3R$ZJ7x70eL" role="2OqNvi">
+                                      <ref role="37wK5l" node="xJb$LDPmPd" resolve="hasAdditionalFilter" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3clFbS" id="2ZoeAXTjSbH" role="3clFbx">
+                                <node concept="3clFbF" id="2ZoeAXTjSbI" role="3cqZAp">
+                                  <node concept="2OqwBi" id="2ZoeAXTjSc0" role="3clFbG">
+                                    <node concept="37vLTw" id="2ZoeAXTjSc6" role="2Oq$k0">
+                                      <ref role="3cqZAo" node="2ZoeAXTjRmd" resolve="setGuards" />
+                                    </node>
+                                    <node concept="liA8E" id="2ZoeAXTjScG" role="2OqNvi">
+                                      <ref role="37wK5l" to="33ny:~Set.add(java.lang.Object)" resolve="add" />
+                                      <node concept="37vLTw" id="2ZoeAXTjSde" role="37wK5m">
+                                        <ref role="3cqZAo" node="2ZoeAXTjS6L" resolve="guard" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="9aQIb" id="2ZoeAXTjSdO" role="9aQIa">
+                                <node concept="3clFbS" id="2ZoeAXTjSej" role="9aQI4">
+                                  <node concept="3clFbF" id="2ZoeAXTjSeW" role="3cqZAp">
+                                    <node concept="2OqwBi" id="2ZoeAXTjSfm" role="3clFbG">
+                                      <node concept="37vLTw" id="2ZoeAXTjSfK" role="2Oq$k0">
+                                        <ref role="3cqZAo" node="2ZoeAXTjRmd" resolve="setGuards" />
+                                      </node>
+                                      <node concept="liA8E" id="2ZoeAXTjSgm" role="2OqNvi">
+                                        <ref role="37wK5l" to="33ny:~Set.remove(java.lang.Object)" resolve="remove" />
+                                        <node concept="37vLTw" id="2ZoeAXTjSgP" role="37wK5m">
+                                          <ref role="3cqZAo" node="2ZoeAXTjS6L" resolve="guard" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="2ZoeAXTjShb" role="3cqZAp">
+                      <node concept="2OqwBi" id="2ZoeAXTjShE" role="3clFbG">
+                        <node concept="37vLTw" id="2ZoeAXTjShW" role="2Oq$k0">
+                          <ref role="3cqZAo" node="2ZoeAXTjRwz" resolve="pending" />
+                        </node>
+                        <node concept="liA8E" id="2ZoeAXTjSie" role="2OqNvi">
+                          <ref role="37wK5l" to="33ny:~List.remove(int)" resolve="remove" />
+                          <node concept="37vLTw" id="2ZoeAXTjSiC" role="37wK5m">
+                            <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="2ZoeAXTjSiL" role="3cqZAp">
+                      <node concept="37vLTI" id="2ZoeAXTjSj6" role="3clFbG">
+                        <node concept="3cpWsd" id="2ZoeAXTjSja" role="37vLTx">
+                          <node concept="3cmrfG" id="2ZoeAXTjSjD" role="3uHU7w">
+                            <property role="3cmrfH" value="1" />
+                          </node>
+                          <node concept="37vLTw" id="2ZoeAXTjSk1" role="3uHU7B">
+                            <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="2ZoeAXTjSkv" role="37vLTJ">
+                          <ref role="3cqZAo" node="2ZoeAXTjRIJ" resolve="i" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="2ZoeAXTjSky" role="3cqZAp">
+                      <node concept="37vLTI" id="2ZoeAXTjSkM" role="3clFbG">
+                        <node concept="3clFbT" id="2ZoeAXTjSlm" role="37vLTx">
+                          <property role="3clFbU" value="true" />
+                        </node>
+                        <node concept="37vLTw" id="2ZoeAXTjSlt" role="37vLTJ">
+                          <ref role="3cqZAo" node="2ZoeAXTjREF" resolve="progress" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2ZoeAXTjSlL" role="3cqZAp">
+          <node concept="37vLTw" id="2ZoeAXTjSm8" role="3cqZAk">
+            <ref role="3cqZAo" node="2ZoeAXTjRCO" resolve="calls" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3rusWXb8Zt2" role="13h7CS">
+      <property role="TrG5h" value="specification" />
+      <node concept="3Tm1VV" id="3rusWXb8ZtC" role="1B3o_S" />
+      <node concept="17QB3L" id="3rusWXb8ZtH" role="3clF45" />
+      <node concept="3clFbS" id="3rusWXb8ZtV" role="3clF47">
+        <node concept="3cpWs8" id="3rusWXb8Zuk" role="3cqZAp">
+          <node concept="3cpWsn" id="3rusWXb8ZuB" role="3cpWs9">
+            <property role="TrG5h" value="entries" />
+            <node concept="3uibUv" id="3rusWXb8ZuT" role="1tU5fm">
+              <ref role="3uigEE" to="33ny:~List" resolve="List" />
+              <node concept="17QB3L" id="3rusWXb8ZuV" role="11_B2D" />
+            </node>
+            <node concept="2ShNRf" id="3rusWXb8Zv0" role="33vP2m">
+              <node concept="1pGfFk" id="3rusWXb8Zvz" role="2ShVmc">
+                <ref role="37wK5l" to="33ny:~ArrayList.&lt;init&gt;()" resolve="ArrayList" />
+                <node concept="17QB3L" id="3rusWXb8ZvH" role="1pMfVU" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="3rusWXb8ZvU" role="3cqZAp">
+          <node concept="3cpWsn" id="3rusWXb8Zw1" role="1Duv9x">
+            <property role="TrG5h" value="guard" />
+            <node concept="3Tqbb2" id="3rusWXb8Zw7" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="3rusWXb8Zwh" role="1DdaDG">
+            <node concept="2OqwBi" id="3rusWXb8ZwB" role="2Oq$k0">
+              <node concept="13iPFW" id="3rusWXb8ZwP" role="2Oq$k0" />
+              <node concept="2qgKlT" id="3rusWXb8ZwU" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="3rusWXb8ZwY" role="2OqNvi">
+              <node concept="chp4Y" id="3rusWXb8Zx0" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:2NWWHY$D46L" resolve="GuardDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3rusWXb8ZxB" role="2LFqv$">
+            <node concept="3clFbF" id="3rusWXb8Zy9" role="3cqZAp">
+              <node concept="2OqwBi" id="3rusWXb8Zyv" role="3clFbG">
+                <node concept="37vLTw" id="3rusWXb8ZyZ" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3rusWXb8ZuB" resolve="entries" />
+                </node>
+                <node concept="liA8E" id="3rusWXb8Zzs" role="2OqNvi">
+                  <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                  <node concept="3cpWs3" id="3rusWXb8ZzA" role="37wK5m">
+                    <node concept="3K4zz7" id="3rusWXb8ZzO" role="3uHU7w">
+                      <node concept="2OqwBi" id="3rusWXb8ZAi" role="3K4Cdx">
+                        <node concept="37vLTw" id="3rusWXb8ZAr" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8Zw1" resolve="guard" />
+                        </node>
+                        <node concept="3TrcHB" id="3rusWXb8ZB1" role="2OqNvi">
+                          <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                        </node>
+                      </node>
+                      <node concept="Xl_RD" id="3rusWXb8ZBk" role="3K4E3e">
+                        <property role="Xl_RC" value=" 1" />
+                      </node>
+                      <node concept="Xl_RD" id="3rusWXb8ZBl" role="3K4GZi">
+                        <property role="Xl_RC" value=" 0" />
+                      </node>
+                    </node>
+                    <node concept="3cpWs3" id="3rusWXb8ZBo" role="3uHU7B">
+                      <node concept="2OqwBi" id="3rusWXb8ZBN" role="3uHU7w">
+                        <node concept="37vLTw" id="3rusWXb8ZBX" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8Zw1" resolve="guard" />
+                        </node>
+                        <node concept="3TrcHB" id="3rusWXb8ZCr" role="2OqNvi">
+                          <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                        </node>
+                      </node>
+                      <node concept="Xl_RD" id="3rusWXb8ZCS" role="3uHU7B">
+                        <property role="Xl_RC" value="G " />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="3rusWXb8ZD7" role="3cqZAp">
+          <node concept="3cpWsn" id="3rusWXb8ZDn" role="1Duv9x">
+            <property role="TrG5h" value="method" />
+            <node concept="3Tqbb2" id="3rusWXb8ZDP" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="3rusWXb8ZEc" role="1DdaDG">
+            <node concept="2OqwBi" id="3rusWXb8ZEj" role="2Oq$k0">
+              <node concept="13iPFW" id="3rusWXb8ZEC" role="2Oq$k0" />
+              <node concept="2qgKlT" id="3rusWXb8ZEH" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="3rusWXb8ZFh" role="2OqNvi">
+              <node concept="chp4Y" id="3rusWXb8ZFQ" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3rusWXb8ZG1" role="2LFqv$">
+            <node concept="3cpWs8" id="3rusWXb8ZGe" role="3cqZAp">
+              <node concept="3cpWsn" id="3rusWXb8ZGB" role="3cpWs9">
+                <property role="TrG5h" value="arity" />
+                <node concept="10Oyi0" id="3rusWXb8ZGJ" role="1tU5fm" />
+                <node concept="3cmrfG" id="3rusWXb8ZGT" role="33vP2m">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+            </node>
+            <node concept="1DcWWT" id="3rusWXb8ZH6" role="3cqZAp">
+              <node concept="3cpWsn" id="3rusWXb8ZHa" role="1Duv9x">
+                <property role="TrG5h" value="parameter" />
+                <node concept="3Tqbb2" id="3rusWXb8ZHE" role="1tU5fm" />
+              </node>
+              <node concept="2OqwBi" id="3rusWXb8ZI7" role="1DdaDG">
+                <node concept="37vLTw" id="3rusWXb8ZIr" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3rusWXb8ZDn" resolve="method" />
+                </node>
+                <node concept="3Tsc0h" id="3rusWXb8ZIF" role="2OqNvi">
+                  <ref role="3TtcxE" to="tpee:fzclF7Y" resolve="parameter" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3rusWXb8ZJ4" role="2LFqv$">
+                <node concept="3clFbF" id="3rusWXb8ZJd" role="3cqZAp">
+                  <node concept="3uNrnE" id="3rusWXb8ZJQ" role="3clFbG">
+                    <node concept="37vLTw" id="3rusWXb8ZKh" role="2$L3a6">
+                      <ref role="3cqZAo" node="3rusWXb8ZGB" resolve="arity" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3rusWXb8ZKO" role="3cqZAp">
+              <node concept="2OqwBi" id="3rusWXb8ZLh" role="3clFbG">
+                <node concept="37vLTw" id="3rusWXb8ZLu" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3rusWXb8ZuB" resolve="entries" />
+                </node>
+                <node concept="liA8E" id="3rusWXb8ZL_" role="2OqNvi">
+                  <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                  <node concept="3cpWs3" id="3rusWXb8ZMC" role="37wK5m">
+                    <node concept="37vLTw" id="3rusWXb8ZNb" role="3uHU7w">
+                      <ref role="3cqZAo" node="3rusWXb8ZGB" resolve="arity" />
+                    </node>
+                    <node concept="3cpWs3" id="3rusWXb8ZNB" role="3uHU7B">
+                      <node concept="Xl_RD" id="3rusWXb8ZNT" role="3uHU7w">
+                        <property role="Xl_RC" value="/" />
+                      </node>
+                      <node concept="3cpWs3" id="3rusWXb8ZOv" role="3uHU7B">
+                        <node concept="2OqwBi" id="3rusWXb8ZOW" role="3uHU7w">
+                          <node concept="37vLTw" id="3rusWXb8ZP0" role="2Oq$k0">
+                            <ref role="3cqZAo" node="3rusWXb8ZDn" resolve="method" />
+                          </node>
+                          <node concept="3TrcHB" id="3rusWXb8ZPm" role="2OqNvi">
+                            <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                          </node>
+                        </node>
+                        <node concept="Xl_RD" id="3rusWXb8ZP$" role="3uHU7B">
+                          <property role="Xl_RC" value="M " />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1DcWWT" id="3rusWXb8ZQh" role="3cqZAp">
+              <node concept="3cpWsn" id="3rusWXb8ZQI" role="1Duv9x">
+                <property role="TrG5h" value="requirement" />
+                <node concept="3Tqbb2" id="3rusWXb8ZRg" role="1tU5fm">
+                  <ref role="ehGHo" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                </node>
+              </node>
+              <node concept="2OqwBi" id="3rusWXb8ZRB" role="1DdaDG">
+                <node concept="2OqwBi" id="3rusWXb8ZRT" role="2Oq$k0">
+                  <node concept="37vLTw" id="3rusWXb8ZSe" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3rusWXb8ZDn" resolve="method" />
+                  </node>
+                  <node concept="3Tsc0h" id="3rusWXb8ZSS" role="2OqNvi">
+                    <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+                  </node>
+                </node>
+                <node concept="v3k3i" id="3rusWXb8ZTp" role="2OqNvi">
+                  <node concept="chp4Y" id="3rusWXb8ZTu" role="v3oSu">
+                    <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="3rusWXb8ZTv" role="2LFqv$">
+                <node concept="3cpWs8" id="3rusWXb8ZTM" role="3cqZAp">
+                  <node concept="3cpWsn" id="3rusWXb8ZU9" role="3cpWs9">
+                    <property role="TrG5h" value="condition" />
+                    <node concept="3Tqbb2" id="3rusWXb8ZUw" role="1tU5fm" />
+                    <node concept="2OqwBi" id="3rusWXb8ZUB" role="33vP2m">
+                      <node concept="37vLTw" id="3rusWXb8ZV4" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3rusWXb8ZQI" resolve="requirement" />
+                      </node>
+                      <node concept="3TrEf2" id="3rusWXb8ZVi" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="3rusWXb8ZVC" role="3cqZAp">
+                  <node concept="3cpWsn" id="3rusWXb8ZVY" role="3cpWs9">
+                    <property role="TrG5h" value="expected" />
+                    <node concept="10P_77" id="3rusWXb8ZW7" role="1tU5fm" />
+                    <node concept="3clFbT" id="3rusWXb8ZWt" role="33vP2m">
+                      <property role="3clFbU" value="true" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3rusWXb8ZWA" role="3cqZAp">
+                  <node concept="2OqwBi" id="3rusWXb8ZWD" role="3clFbw">
+                    <node concept="37vLTw" id="3rusWXb8ZXa" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3rusWXb8ZU9" resolve="condition" />
+                    </node>
+                    <node concept="1mIQ4w" id="3rusWXb8ZXo" role="2OqNvi">
+                      <node concept="chp4Y" id="3rusWXb8ZXy" role="cj9EA">
+                        <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3rusWXb8ZX$" role="3clFbx">
+                    <node concept="3clFbF" id="3rusWXb8ZY9" role="3cqZAp">
+                      <node concept="37vLTI" id="3rusWXb8ZYG" role="3clFbG">
+                        <node concept="2OqwBi" id="3rusWXb8ZYT" role="37vLTx">
+                          <node concept="1PxgMI" id="3rusWXb8ZZi" role="2Oq$k0">
+                            <node concept="chp4Y" id="3rusWXb8ZZq" role="3oSUPX">
+                              <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+                            </node>
+                            <node concept="37vLTw" id="3rusWXb8ZZL" role="1m5AlR">
+                              <ref role="3cqZAo" node="3rusWXb8ZU9" resolve="condition" />
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="3rusWXb8Z$7" role="2OqNvi">
+                            <ref role="3Tt5mk" to="tpee:fJfr32$" resolve="expression" />
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="3rusWXb8Z$m" role="37vLTJ">
+                          <ref role="3cqZAo" node="3rusWXb8ZU9" resolve="condition" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3rusWXb8Z$C" role="3cqZAp">
+                      <node concept="37vLTI" id="3rusWXb8Z_b" role="3clFbG">
+                        <node concept="3clFbT" id="3rusWXb8Z_r" role="37vLTx">
+                          <property role="3clFbU" value="false" />
+                        </node>
+                        <node concept="37vLTw" id="3rusWXb8Z_O" role="37vLTJ">
+                          <ref role="3cqZAo" node="3rusWXb8ZVY" resolve="expected" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3rusWXb8$0j" role="3cqZAp">
+                  <node concept="2OqwBi" id="3rusWXb8$0O" role="3clFbw">
+                    <node concept="37vLTw" id="3rusWXb8$12" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3rusWXb8ZU9" resolve="condition" />
+                    </node>
+                    <node concept="1mIQ4w" id="3rusWXb8$1B" role="2OqNvi">
+                      <node concept="chp4Y" id="3rusWXb8$1L" role="cj9EA">
+                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3rusWXb8$2h" role="3clFbx">
+                    <node concept="3clFbF" id="3rusWXb8$2U" role="3cqZAp">
+                      <node concept="2OqwBi" id="3rusWXb8$3u" role="3clFbG">
+                        <node concept="37vLTw" id="3rusWXb8$3Y" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8ZuB" resolve="entries" />
+                        </node>
+                        <node concept="liA8E" id="3rusWXb8$4j" role="2OqNvi">
+                          <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                          <node concept="3cpWs3" id="3rusWXb8$4u" role="37wK5m">
+                            <node concept="3K4zz7" id="3rusWXb8$4v" role="3uHU7w">
+                              <node concept="37vLTw" id="3rusWXb8$4W" role="3K4Cdx">
+                                <ref role="3cqZAo" node="3rusWXb8ZVY" resolve="expected" />
+                              </node>
+                              <node concept="Xl_RD" id="3rusWXb8$5q" role="3K4E3e">
+                                <property role="Xl_RC" value=" 1" />
+                              </node>
+                              <node concept="Xl_RD" id="3rusWXb8$5y" role="3K4GZi">
+                                <property role="Xl_RC" value=" 0" />
+                              </node>
+                            </node>
+                            <node concept="3cpWs3" id="3rusWXb8$67" role="3uHU7B">
+                              <node concept="2OqwBi" id="3rusWXb8$6b" role="3uHU7w">
+                                <node concept="2OqwBi" id="3rusWXb8$6K" role="2Oq$k0">
+                                  <node concept="1PxgMI" id="3rusWXb8$71" role="2Oq$k0">
+                                    <node concept="chp4Y" id="3rusWXb8$75" role="3oSUPX">
+                                      <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                                    </node>
+                                    <node concept="37vLTw" id="3rusWXb8$7E" role="1m5AlR">
+                                      <ref role="3cqZAo" node="3rusWXb8ZU9" resolve="condition" />
+                                    </node>
+                                  </node>
+                                  <node concept="3TrEf2" id="3rusWXb8$7G" role="2OqNvi">
+                                    <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                  </node>
+                                </node>
+                                <node concept="3TrcHB" id="3rusWXb8$88" role="2OqNvi">
+                                  <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                                </node>
+                              </node>
+                              <node concept="Xl_RD" id="3rusWXb8$8C" role="3uHU7B">
+                                <property role="Xl_RC" value="R " />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1DcWWT" id="3rusWXb8$8K" role="3cqZAp">
+              <node concept="3cpWsn" id="3rusWXb8$8$" role="1Duv9x">
+                <property role="TrG5h" value="consequence" />
+                <node concept="3Tqbb2" id="3rusWXb8$9n" role="1tU5fm" />
+              </node>
+              <node concept="2OqwBi" id="3rusWXb8$9w" role="1DdaDG">
+                <node concept="37vLTw" id="3rusWXb8$a0" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3rusWXb8ZDn" resolve="method" />
+                </node>
+                <node concept="3Tsc0h" id="3rusWXb8$az" role="2OqNvi">
+                  <ref role="3TtcxE" to="3ibj:4H88Ni3cvtM" resolve="consequences" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3rusWXb8$aA" role="2LFqv$">
+                <node concept="3cpWs8" id="3rusWXb8$b7" role="3cqZAp">
+                  <node concept="3cpWsn" id="3rusWXb8$bJ" role="3cpWs9">
+                    <property role="TrG5h" value="then" />
+                    <node concept="3Tqbb2" id="3rusWXb8$bT" role="1tU5fm" />
+                    <node concept="2OqwBi" id="3rusWXb8$ci" role="33vP2m">
+                      <node concept="37vLTw" id="3rusWXb8$cN" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3rusWXb8$8$" resolve="consequence" />
+                      </node>
+                      <node concept="3TrEf2" id="3rusWXb8$cS" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:4H88Ni3cr12" resolve="then" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="3rusWXb8$dj" role="3cqZAp">
+                  <node concept="3cpWsn" id="3rusWXb8$dQ" role="3cpWs9">
+                    <property role="TrG5h" value="when" />
+                    <node concept="3Tqbb2" id="3rusWXb8$ea" role="1tU5fm" />
+                    <node concept="2OqwBi" id="3rusWXb8$eA" role="33vP2m">
+                      <node concept="37vLTw" id="3rusWXb8$eN" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3rusWXb8$8$" resolve="consequence" />
+                      </node>
+                      <node concept="3TrEf2" id="3rusWXb8$f3" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbza" resolve="when" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3rusWXb8$fl" role="3cqZAp">
+                  <node concept="1Wc70l" id="3rusWXb8$fA" role="3clFbw">
+                    <node concept="22lmx$" id="3rusWXb8$fN" role="3uHU7w">
+                      <node concept="2OqwBi" id="3rusWXb8$gd" role="3uHU7w">
+                        <node concept="37vLTw" id="3rusWXb8$gp" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                        </node>
+                        <node concept="1mIQ4w" id="3rusWXb8$gr" role="2OqNvi">
+                          <node concept="chp4Y" id="3rusWXb8$gS" role="cj9EA">
+                            <ref role="cht4Q" to="3ibj:56pRkR163TQ" resolve="WhenThrows" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2OqwBi" id="3rusWXb8$hi" role="3uHU7B">
+                        <node concept="37vLTw" id="3rusWXb8$hz" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                        </node>
+                        <node concept="1mIQ4w" id="3rusWXb8$hP" role="2OqNvi">
+                          <node concept="chp4Y" id="3rusWXb8$ic" role="cj9EA">
+                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2OqwBi" id="3rusWXb8$iM" role="3uHU7B">
+                      <node concept="37vLTw" id="3rusWXb8$j8" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3rusWXb8$bJ" resolve="then" />
+                      </node>
+                      <node concept="1mIQ4w" id="3rusWXb8$jF" role="2OqNvi">
+                        <node concept="chp4Y" id="3rusWXb8$kh" role="cj9EA">
+                          <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3rusWXb8$kL" role="3clFbx">
+                    <node concept="3cpWs8" id="3rusWXb8$kZ" role="3cqZAp">
+                      <node concept="3cpWsn" id="3rusWXb8$l9" role="3cpWs9">
+                        <property role="TrG5h" value="change" />
+                        <node concept="3Tqbb2" id="3rusWXb8$lM" role="1tU5fm">
+                          <ref role="ehGHo" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                        </node>
+                        <node concept="1PxgMI" id="3rusWXb8$mb" role="33vP2m">
+                          <node concept="chp4Y" id="3rusWXb8$mA" role="3oSUPX">
+                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                          </node>
+                          <node concept="37vLTw" id="3rusWXb8$mE" role="1m5AlR">
+                            <ref role="3cqZAo" node="3rusWXb8$bJ" resolve="then" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3cpWs8" id="3rusWXb8$mH" role="3cqZAp">
+                      <node concept="3cpWsn" id="3rusWXb8$mP" role="3cpWs9">
+                        <property role="TrG5h" value="kind" />
+                        <node concept="17QB3L" id="3rusWXb8$nh" role="1tU5fm" />
+                        <node concept="3K4zz7" id="3rusWXb8$nM" role="33vP2m">
+                          <node concept="2OqwBi" id="3rusWXb8$og" role="3K4Cdx">
+                            <node concept="37vLTw" id="3rusWXb8$on" role="2Oq$k0">
+                              <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                            </node>
+                            <node concept="1mIQ4w" id="3rusWXb8$oW" role="2OqNvi">
+                              <node concept="chp4Y" id="3rusWXb8$oX" role="cj9EA">
+                                <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="Xl_RD" id="3rusWXb8$p5" role="3K4E3e">
+                            <property role="Xl_RC" value="T " />
+                          </node>
+                          <node concept="Xl_RD" id="3rusWXb8$pt" role="3K4GZi">
+                            <property role="Xl_RC" value="X " />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3rusWXb8$pH" role="3cqZAp">
+                      <node concept="2OqwBi" id="3rusWXb8$pY" role="3clFbG">
+                        <node concept="37vLTw" id="3rusWXb8$qw" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3rusWXb8ZuB" resolve="entries" />
+                        </node>
+                        <node concept="liA8E" id="3rusWXb8$qT" role="2OqNvi">
+                          <ref role="37wK5l" to="33ny:~List.add(java.lang.Object)" resolve="add" />
+                          <node concept="3cpWs3" id="7relcEps0e3" role="37wK5m">
+                            <node concept="3K4zz7" id="7MrjWyj60e3" role="3uHU7w">
+                              <node concept="1Wc70l" id="7MrjWyj60e6" role="3K4Cdx">
+                                <node concept="2OqwBi" id="7MrjWyj60e9" role="3uHU7B">
+                                  <node concept="37vLTw" id="7MrjWyj60eC" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                                  </node>
+                                  <node concept="1mIQ4w" id="7MrjWyj60eF" role="2OqNvi">
+                                    <node concept="chp4Y" id="7MrjWyj60eI" role="cj9EA">
+                                      <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="2OqwBi" id="7MrjWyj60eL" role="3uHU7w">
+                                  <node concept="2OqwBi" id="7MrjWyj60eO" role="2Oq$k0">
+                                    <node concept="1PxgMI" id="7MrjWyj60eR" role="2Oq$k0">
+                                      <node concept="chp4Y" id="7MrjWyj60eU" role="3oSUPX">
+                                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                                      </node>
+                                      <node concept="37vLTw" id="7MrjWyj60eX" role="1m5AlR">
+                                        <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                                      </node>
+                                    </node>
+                                    <node concept="3TrEf2" id="7MrjWyj60ea" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbz8" resolve="value" />
+                                    </node>
+                                  </node>
+                                  <node concept="3x8VRR" id="7MrjWyj60ed" role="2OqNvi" />
+                                </node>
+                              </node>
+                              <node concept="3K4zz7" id="7MrjWyj60eg" role="3K4E3e">
+                                <node concept="2OqwBi" id="7MrjWyj60ej" role="3K4Cdx">
+                                  <node concept="2OqwBi" id="7MrjWyj60em" role="2Oq$k0">
+                                    <node concept="1PxgMI" id="7MrjWyj60ep" role="2Oq$k0">
+                                      <node concept="chp4Y" id="7MrjWyj60es" role="3oSUPX">
+                                        <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                                      </node>
+                                      <node concept="37vLTw" id="7MrjWyj60ev" role="1m5AlR">
+                                        <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                                      </node>
+                                    </node>
+                                    <node concept="3TrEf2" id="7MrjWyj60ey" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbz8" resolve="value" />
+                                    </node>
+                                  </node>
+                                  <node concept="1mIQ4w" id="7MrjWyj60e_" role="2OqNvi">
+                                    <node concept="chp4Y" id="7MrjWyj60f2" role="cj9EA">
+                                      <ref role="cht4Q" to="tpee:fzclF81" resolve="BooleanConstant" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3K4zz7" id="7MrjWyj60f5" role="3K4E3e">
+                                  <node concept="2OqwBi" id="7MrjWyj60f8" role="3K4Cdx">
+                                    <node concept="1PxgMI" id="7MrjWyj60fB" role="2Oq$k0">
+                                      <node concept="chp4Y" id="7MrjWyj60fE" role="3oSUPX">
+                                        <ref role="cht4Q" to="tpee:fzclF81" resolve="BooleanConstant" />
+                                      </node>
+                                      <node concept="2OqwBi" id="7MrjWyj60fH" role="1m5AlR">
+                                        <node concept="1PxgMI" id="7MrjWyj60fK" role="2Oq$k0">
+                                          <node concept="chp4Y" id="7MrjWyj60fN" role="3oSUPX">
+                                            <ref role="cht4Q" to="3ibj:2NWWHY$Dbz7" resolve="WhenReturns" />
+                                          </node>
+                                          <node concept="37vLTw" id="7MrjWyj60fQ" role="1m5AlR">
+                                            <ref role="3cqZAo" node="3rusWXb8$dQ" resolve="when" />
+                                          </node>
+                                        </node>
+                                        <node concept="3TrEf2" id="7MrjWyj60fT" role="2OqNvi">
+                                          <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbz8" resolve="value" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="3TrcHB" id="7MrjWyj60fW" role="2OqNvi">
+                                      <ref role="3TsBF5" to="tpee:fzclF82" resolve="value" />
+                                    </node>
+                                  </node>
+                                  <node concept="Xl_RD" id="7MrjWyj60fZ" role="3K4E3e">
+                                    <property role="Xl_RC" value=" 1" />
+                                  </node>
+                                  <node concept="Xl_RD" id="7MrjWyj60fc" role="3K4GZi">
+                                    <property role="Xl_RC" value=" 0" />
+                                  </node>
+                                </node>
+                                <node concept="Xl_RD" id="7MrjWyj60ff" role="3K4GZi">
+                                  <property role="Xl_RC" value=" ?" />
+                                </node>
+                              </node>
+                              <node concept="Xl_RD" id="7MrjWyj60fi" role="3K4GZi">
+                                <property role="Xl_RC" value="" />
+                              </node>
+                            </node>
+                            <node concept="3cpWs3" id="3rusWXb8$ri" role="3uHU7B">
+                              <node concept="3K4zz7" id="3rusWXb8$rl" role="3uHU7w">
+                                <node concept="2OqwBi" id="3rusWXb8$rJ" role="3K4Cdx">
+                                  <node concept="37vLTw" id="3rusWXb8$sg" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="3rusWXb8$l9" resolve="change" />
+                                  </node>
+                                  <node concept="3TrcHB" id="3rusWXb8$sh" role="2OqNvi">
+                                    <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                                  </node>
+                                </node>
+                                <node concept="Xl_RD" id="3rusWXb8$sL" role="3K4E3e">
+                                  <property role="Xl_RC" value=" 1" />
+                                </node>
+                                <node concept="Xl_RD" id="3rusWXb8$tg" role="3K4GZi">
+                                  <property role="Xl_RC" value=" 0" />
+                                </node>
+                              </node>
+                              <node concept="3cpWs3" id="3rusWXb8$tu" role="3uHU7B">
+                                <node concept="2OqwBi" id="3rusWXb8$tH" role="3uHU7w">
+                                  <node concept="2OqwBi" id="3rusWXb8$tP" role="2Oq$k0">
+                                    <node concept="2OqwBi" id="3rusWXb8$tZ" role="2Oq$k0">
+                                      <node concept="37vLTw" id="3rusWXb8$uz" role="2Oq$k0">
+                                        <ref role="3cqZAo" node="3rusWXb8$l9" resolve="change" />
+                                      </node>
+                                      <node concept="3TrEf2" id="3rusWXb8$uZ" role="2OqNvi">
+                                        <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                                      </node>
+                                    </node>
+                                    <node concept="3TrEf2" id="3rusWXb8$vj" role="2OqNvi">
+                                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                                    </node>
+                                  </node>
+                                  <node concept="3TrcHB" id="3rusWXb8$vv" role="2OqNvi">
+                                    <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                                  </node>
+                                </node>
+                                <node concept="37vLTw" id="3rusWXb8$vJ" role="3uHU7B">
+                                  <ref role="3cqZAo" node="3rusWXb8$mP" resolve="kind" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3rusWXb8$wf" role="3cqZAp">
+          <node concept="2YIFZM" id="3rusWXb8$wk" role="3cqZAk">
+            <ref role="37wK5l" to="wyt6:~String.join(java.lang.CharSequence,java.lang.Iterable)" resolve="join" />
+            <ref role="1Pybhc" to="wyt6:~String" resolve="String" />
+            <node concept="Xl_RD" id="3rusWXb8$wK" role="37wK5m">
+              <property role="Xl_RC" value=";" />
+            </node>
+            <node concept="37vLTw" id="3rusWXb8$wU" role="37wK5m">
+              <ref role="3cqZAo" node="3rusWXb8ZuB" resolve="entries" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="27F$qg$WgO_" role="13h7CS">
+      <property role="TrG5h" value="isDelegatingWrapper" />
+      <node concept="3Tm1VV" id="27F$qg$WgP4" role="1B3o_S" />
+      <node concept="10P_77" id="27F$qg$WgPA" role="3clF45" />
+      <node concept="3clFbS" id="27F$qg$WgPO" role="3clF47">
+        <node concept="1DcWWT" id="27F$qg$WgQk" role="3cqZAp">
+          <node concept="3cpWsn" id="27F$qg$WgQC" role="1Duv9x">
+            <property role="TrG5h" value="field" />
+            <node concept="3Tqbb2" id="27F$qg$WgQJ" role="1tU5fm">
+              <ref role="ehGHo" to="tpee:fz12cDC" resolve="FieldDeclaration" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="27F$qg$WgR7" role="1DdaDG">
+            <node concept="2OqwBi" id="27F$qg$WgRt" role="2Oq$k0">
+              <node concept="13iPFW" id="27F$qg$WgRB" role="2Oq$k0" />
+              <node concept="2qgKlT" id="27F$qg$WgS7" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="27F$qg$WgSb" role="2OqNvi">
+              <node concept="chp4Y" id="27F$qg$WgSr" role="v3oSu">
+                <ref role="cht4Q" to="tpee:fz12cDC" resolve="FieldDeclaration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="27F$qg$WgSG" role="2LFqv$">
+            <node concept="3cpWs8" id="27F$qg$WgT9" role="3cqZAp">
+              <node concept="3cpWsn" id="27F$qg$WgTN" role="3cpWs9">
+                <property role="TrG5h" value="type" />
+                <node concept="3Tqbb2" id="27F$qg$WgTS" role="1tU5fm" />
+                <node concept="2OqwBi" id="27F$qg$WgUd" role="33vP2m">
+                  <node concept="37vLTw" id="27F$qg$WgUN" role="2Oq$k0">
+                    <ref role="3cqZAo" node="27F$qg$WgQC" resolve="field" />
+                  </node>
+                  <node concept="3TrEf2" id="27F$qg$WgVg" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:4VkOLwjf83e" resolve="type" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="27F$qg$WgVE" role="3cqZAp">
+              <node concept="2OqwBi" id="27F$qg$WgVM" role="3clFbw">
+                <node concept="37vLTw" id="27F$qg$WgWa" role="2Oq$k0">
+                  <ref role="3cqZAo" node="27F$qg$WgTN" resolve="type" />
+                </node>
+                <node concept="1mIQ4w" id="27F$qg$WgWn" role="2OqNvi">
+                  <node concept="chp4Y" id="27F$qg$WgWU" role="cj9EA">
+                    <ref role="cht4Q" to="tpee:g7uibYu" resolve="ClassifierType" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="27F$qg$WgW_" role="3clFbx">
+                <node concept="3cpWs8" id="27F$qg$WgXB" role="3cqZAp">
+                  <node concept="3cpWsn" id="27F$qg$WgXG" role="3cpWs9">
+                    <property role="TrG5h" value="delegate" />
+                    <node concept="3Tqbb2" id="27F$qg$WgXU" role="1tU5fm" />
+                    <node concept="2OqwBi" id="27F$qg$WgYr" role="33vP2m">
+                      <node concept="1PxgMI" id="27F$qg$WgYS" role="2Oq$k0">
+                        <node concept="chp4Y" id="27F$qg$WgZf" role="3oSUPX">
+                          <ref role="cht4Q" to="tpee:g7uibYu" resolve="ClassifierType" />
+                        </node>
+                        <node concept="37vLTw" id="27F$qg$WgZN" role="1m5AlR">
+                          <ref role="3cqZAo" node="27F$qg$WgTN" resolve="type" />
+                        </node>
+                      </node>
+                      <node concept="3TrEf2" id="27F$qg$Wg$h" role="2OqNvi">
+                        <ref role="3Tt5mk" to="tpee:g7uigIF" resolve="classifier" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="1DcWWT" id="27F$qg$Wg$v" role="3cqZAp">
+                  <node concept="3cpWsn" id="27F$qg$Wg$O" role="1Duv9x">
+                    <property role="TrG5h" value="wrapped" />
+                    <node concept="3Tqbb2" id="27F$qg$Wg$S" role="1tU5fm">
+                      <ref role="ehGHo" to="tpee:g7uibYu" resolve="ClassifierType" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="27F$qg$Wg_6" role="1DdaDG">
+                    <node concept="13iPFW" id="27F$qg$Wg_p" role="2Oq$k0" />
+                    <node concept="3Tsc0h" id="27F$qg$Wg_Q" role="2OqNvi">
+                      <ref role="3TtcxE" to="tpee:fWEKbgp" resolve="implementedInterface" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="27F$qg$Wh0b" role="2LFqv$">
+                    <node concept="3clFbJ" id="27F$qg$Wh0h" role="3cqZAp">
+                      <node concept="3clFbC" id="27F$qg$Wh0K" role="3clFbw">
+                        <node concept="37vLTw" id="27F$qg$Wh12" role="3uHU7w">
+                          <ref role="3cqZAo" node="27F$qg$WgXG" resolve="delegate" />
+                        </node>
+                        <node concept="2OqwBi" id="27F$qg$Wh1F" role="3uHU7B">
+                          <node concept="37vLTw" id="27F$qg$Wh1V" role="2Oq$k0">
+                            <ref role="3cqZAo" node="27F$qg$Wg$O" resolve="wrapped" />
+                          </node>
+                          <node concept="3TrEf2" id="27F$qg$Wh2m" role="2OqNvi">
+                            <ref role="3Tt5mk" to="tpee:g7uigIF" resolve="classifier" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3clFbS" id="27F$qg$Wh2r" role="3clFbx">
+                        <node concept="3cpWs6" id="27F$qg$Wh2K" role="3cqZAp">
+                          <node concept="3clFbT" id="27F$qg$Wh3a" role="3cqZAk">
+                            <property role="3clFbU" value="true" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="27F$qg$Wh3e" role="3cqZAp">
+                  <node concept="3cpWsn" id="27F$qg$Wh3G" role="3cpWs9">
+                    <property role="TrG5h" value="superclass" />
+                    <node concept="3Tqbb2" id="27F$qg$Wh3H" role="1tU5fm">
+                      <ref role="ehGHo" to="tpee:g7uibYu" resolve="ClassifierType" />
+                    </node>
+                    <node concept="2OqwBi" id="27F$qg$Wh3L" role="33vP2m">
+                      <node concept="13iPFW" id="27F$qg$Wh4m" role="2Oq$k0" />
+                      <node concept="3TrEf2" id="27F$qg$Wh4o" role="2OqNvi">
+                        <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="27F$qg$Wh4y" role="3cqZAp">
+                  <node concept="1Wc70l" id="27F$qg$Wh4P" role="3clFbw">
+                    <node concept="3clFbC" id="27F$qg$Wh4Q" role="3uHU7w">
+                      <node concept="37vLTw" id="27F$qg$Wh4U" role="3uHU7w">
+                        <ref role="3cqZAo" node="27F$qg$WgXG" resolve="delegate" />
+                      </node>
+                      <node concept="2OqwBi" id="27F$qg$Wh52" role="3uHU7B">
+                        <node concept="37vLTw" id="27F$qg$Wh5z" role="2Oq$k0">
+                          <ref role="3cqZAo" node="27F$qg$Wh3G" resolve="superclass" />
+                        </node>
+                        <node concept="3TrEf2" id="27F$qg$Wh5K" role="2OqNvi">
+                          <ref role="3Tt5mk" to="tpee:g7uigIF" resolve="classifier" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3y3z36" id="27F$qg$Wh6m" role="3uHU7B">
+                      <node concept="10Nm6u" id="27F$qg$Wh6z" role="3uHU7w" />
+                      <node concept="37vLTw" id="27F$qg$Wh6R" role="3uHU7B">
+                        <ref role="3cqZAo" node="27F$qg$Wh3G" resolve="superclass" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="27F$qg$Wh7h" role="3clFbx">
+                    <node concept="3cpWs6" id="27F$qg$Wh7R" role="3cqZAp">
+                      <node concept="3clFbT" id="27F$qg$Wh83" role="3cqZAk">
+                        <property role="3clFbU" value="true" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="27F$qg$Wh86" role="3cqZAp">
+          <node concept="3clFbT" id="27F$qg$Wh88" role="3cqZAk">
+            <property role="3clFbU" value="false" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="5mc6Gyaw0e3" role="13h7CS">
+      <property role="TrG5h" value="hasSubclasses" />
+      <node concept="3Tm1VV" id="5mc6Gyaw0e6" role="1B3o_S" />
+      <node concept="10P_77" id="5mc6Gyaw0e9" role="3clF45" />
+      <node concept="3clFbS" id="5mc6Gyaw0eC" role="3clF47">
+        <node concept="1DcWWT" id="5mc6Gyaw0eF" role="3cqZAp">
+          <node concept="3cpWsn" id="5mc6Gyaw0eI" role="1Duv9x">
+            <property role="TrG5h" value="model" />
+            <node concept="3uibUv" id="5mc6Gyaw0eL" role="1tU5fm">
+              <ref role="3uigEE" to="mhbf:~SModel" resolve="SModel" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="5mc6Gyaw0eO" role="1DdaDG">
+            <node concept="2OqwBi" id="5mc6Gyaw0eR" role="2Oq$k0">
+              <node concept="2OqwBi" id="5mc6Gyaw0eU" role="2Oq$k0">
+                <node concept="2JrnkZ" id="5mc6Gyaw0eX" role="2Oq$k0">
+                  <node concept="13iPFW" id="5mc6Gyaw0ea" role="2JrQYb" />
+                </node>
+                <node concept="liA8E" id="5mc6Gyaw0ed" role="2OqNvi">
+                  <ref role="37wK5l" to="mhbf:~SNode.getModel()" resolve="getModel" />
+                </node>
+              </node>
+              <node concept="liA8E" id="5mc6Gyaw0eg" role="2OqNvi">
+                <ref role="37wK5l" to="mhbf:~SModel.getModule()" resolve="getModule" />
+              </node>
+            </node>
+            <node concept="liA8E" id="5mc6Gyaw0ej" role="2OqNvi">
+              <ref role="37wK5l" to="lui2:~SModule.getModels()" resolve="getModels" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="5mc6Gyaw0em" role="2LFqv$">
+            <node concept="1DcWWT" id="5mc6Gyaw0ep" role="3cqZAp">
+              <node concept="3cpWsn" id="5mc6Gyaw0es" role="1Duv9x">
+                <property role="TrG5h" value="root" />
+                <node concept="3Tqbb2" id="5mc6Gyaw0ev" role="1tU5fm" />
+              </node>
+              <node concept="2OqwBi" id="5mc6Gyaw0ey" role="1DdaDG">
+                <node concept="37vLTw" id="5mc6Gyaw0e_" role="2Oq$k0">
+                  <ref role="3cqZAo" node="5mc6Gyaw0eI" resolve="model" />
+                </node>
+                <node concept="liA8E" id="5mc6Gyaw0f2" role="2OqNvi">
+                  <ref role="37wK5l" to="mhbf:~SModel.getRootNodes()" resolve="getRootNodes" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="5mc6Gyaw0f5" role="2LFqv$">
+                <node concept="3clFbJ" id="5mc6Gyaw0f8" role="3cqZAp">
+                  <node concept="1Wc70l" id="5mc6Gyaw0fB" role="3clFbw">
+                    <node concept="2OqwBi" id="5mc6Gyaw0fE" role="3uHU7B">
+                      <node concept="37vLTw" id="5mc6Gyaw0fH" role="2Oq$k0">
+                        <ref role="3cqZAo" node="5mc6Gyaw0es" resolve="root" />
+                      </node>
+                      <node concept="1mIQ4w" id="5mc6Gyaw0fK" role="2OqNvi">
+                        <node concept="chp4Y" id="5mc6Gyaw0fN" role="cj9EA">
+                          <ref role="cht4Q" to="tpee:fz12cDA" resolve="ClassConcept" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbC" id="5mc6Gyaw0fQ" role="3uHU7w">
+                      <node concept="13iPFW" id="5mc6Gyaw0fT" role="3uHU7w" />
+                      <node concept="2OqwBi" id="5mc6Gyaw0fW" role="3uHU7B">
+                        <node concept="2OqwBi" id="5mc6Gyaw0fZ" role="2Oq$k0">
+                          <node concept="1PxgMI" id="5mc6Gyaw0fc" role="2Oq$k0">
+                            <node concept="chp4Y" id="5mc6Gyaw0ff" role="3oSUPX">
+                              <ref role="cht4Q" to="tpee:fz12cDA" resolve="ClassConcept" />
+                            </node>
+                            <node concept="37vLTw" id="5mc6Gyaw0fi" role="1m5AlR">
+                              <ref role="3cqZAo" node="5mc6Gyaw0es" resolve="root" />
+                            </node>
+                          </node>
+                          <node concept="3TrEf2" id="5mc6Gyaw0fl" role="2OqNvi">
+                            <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+                          </node>
+                        </node>
+                        <node concept="3TrEf2" id="5mc6Gyaw0fo" role="2OqNvi">
+                          <ref role="3Tt5mk" to="tpee:g7uigIF" resolve="classifier" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="5mc6Gyaw0fr" role="3clFbx">
+                    <node concept="3cpWs6" id="5mc6Gyaw0fu" role="3cqZAp">
+                      <node concept="3clFbT" id="5mc6Gyaw0fx" role="3cqZAk">
+                        <property role="3clFbU" value="true" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="5mc6Gyaw0f$" role="3cqZAp">
+          <node concept="3clFbT" id="5mc6Gyaw0g1" role="3cqZAk" />
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="3RJrI244l4d" role="13h7CS">
+      <property role="TrG5h" value="isThreadConfined" />
+      <node concept="3Tm1VV" id="3RJrI244l4x" role="1B3o_S" />
+      <node concept="10P_77" id="3RJrI244l4Z" role="3clF45" />
+      <node concept="3clFbS" id="3RJrI244l5p" role="3clF47">
+        <node concept="3cpWs6" id="3RJrI244l5z" role="3cqZAp">
+          <node concept="2OqwBi" id="3RJrI244l5J" role="3cqZAk">
+            <node concept="13iPFW" id="3RJrI244l6i" role="2Oq$k0" />
+            <node concept="2qgKlT" id="3RJrI244l6F" role="2OqNvi">
+              <ref role="37wK5l" to="tpek:3WDGf12Eb7o" resolve="hasAnnotation" />
+              <node concept="2tJFMh" id="3RJrI244l78" role="37wK5m">
+                <node concept="ZC_QK" id="3RJrI244l7r" role="2tJFKM">
+                  <ref role="2aWVGs" to="q3ut:3EwaYGcC$TC" resolve="ThreadConfined" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="4fFrSY2P0e3" role="13h7CS">
+      <property role="TrG5h" value="packsGuardsAtomically" />
+      <node concept="3Tm1VV" id="4fFrSY2P0e6" role="1B3o_S" />
+      <node concept="10P_77" id="4fFrSY2P0e9" role="3clF45" />
+      <node concept="3clFbS" id="4fFrSY2P0eC" role="3clF47">
+        <node concept="3cpWs6" id="4fFrSY2P0eF" role="3cqZAp">
+          <node concept="1Wc70l" id="4fFrSY2P0eI" role="3cqZAk">
+            <node concept="BsUDl" id="4fFrSY2P0eL" role="3uHU7B">
+              <ref role="37wK5l" node="3fIrGf8Ho0s" resolve="hasPackedGuards" />
+            </node>
+            <node concept="3fqX7Q" id="4fFrSY2P0eO" role="3uHU7w">
+              <node concept="BsUDl" id="4fFrSY2P0eR" role="3fr31v">
+                <ref role="37wK5l" node="3RJrI244l4d" resolve="isThreadConfined" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="5zgTjUXR0e3" role="13h7CS">
+      <property role="TrG5h" value="hasVerifiedSuperclass" />
+      <node concept="3Tm1VV" id="5zgTjUXR0e6" role="1B3o_S" />
+      <node concept="10P_77" id="5zgTjUXR0e9" role="3clF45" />
+      <node concept="3clFbS" id="5zgTjUXR0eC" role="3clF47">
+        <node concept="3cpWs6" id="5zgTjUXR0eF" role="3cqZAp">
+          <node concept="1Wc70l" id="5zgTjUXR0eI" role="3cqZAk">
+            <node concept="2OqwBi" id="5zgTjUXR0eL" role="3uHU7B">
+              <node concept="2OqwBi" id="5zgTjUXR0eO" role="2Oq$k0">
+                <node concept="13iPFW" id="5zgTjUXR0eR" role="2Oq$k0" />
+                <node concept="3TrEf2" id="5zgTjUXR0eU" role="2OqNvi">
+                  <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+                </node>
+              </node>
+              <node concept="3x8VRR" id="5zgTjUXR0eX" role="2OqNvi" />
+            </node>
+            <node concept="2OqwBi" id="5zgTjUXR0ea" role="3uHU7w">
+              <node concept="2OqwBi" id="5zgTjUXR0ed" role="2Oq$k0">
+                <node concept="2OqwBi" id="5zgTjUXR0eg" role="2Oq$k0">
+                  <node concept="13iPFW" id="5zgTjUXR0ej" role="2Oq$k0" />
+                  <node concept="3TrEf2" id="5zgTjUXR0em" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:gXzkM_H" resolve="superclass" />
+                  </node>
+                </node>
+                <node concept="3TrEf2" id="5zgTjUXR0ep" role="2OqNvi">
+                  <ref role="3Tt5mk" to="tpee:g7uigIF" resolve="classifier" />
+                </node>
+              </node>
+              <node concept="1mIQ4w" id="5zgTjUXR0es" role="2OqNvi">
+                <node concept="chp4Y" id="5zgTjUXR0ev" role="cj9EA">
+                  <ref role="cht4Q" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="2ZoeAXTjQV5" role="13h7CS">
+      <property role="TrG5h" value="isCallableWith" />
+      <node concept="3Tm6S6" id="2ZoeAXTjQVj" role="1B3o_S" />
+      <node concept="10P_77" id="2ZoeAXTjQVv" role="3clF45" />
+      <node concept="3clFbS" id="2ZoeAXTjQVK" role="3clF47">
+        <node concept="1DcWWT" id="2ZoeAXTjQWi" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjQWK" role="1Duv9x">
+            <property role="TrG5h" value="requirement" />
+            <node concept="3Tqbb2" id="2ZoeAXTjQX3" role="1tU5fm">
+              <ref role="ehGHo" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="2ZoeAXTjQX5" role="1DdaDG">
+            <node concept="2OqwBi" id="2ZoeAXTjQXf" role="2Oq$k0">
+              <node concept="37vLTw" id="2ZoeAXTjQXs" role="2Oq$k0">
+                <ref role="3cqZAo" node="2ZoeAXTjR0N" resolve="method" />
+              </node>
+              <node concept="3Tsc0h" id="2ZoeAXTjQY2" role="2OqNvi">
+                <ref role="3TtcxE" to="3ibj:2915UUE6sBT" resolve="requirements" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="2ZoeAXTjQY4" role="2OqNvi">
+              <node concept="chp4Y" id="2ZoeAXTjQYA" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjQYP" role="2LFqv$">
+            <node concept="3clFbJ" id="2ZoeAXTjQZq" role="3cqZAp">
+              <node concept="3fqX7Q" id="2ZoeAXTjQ$2" role="3clFbw">
+                <node concept="2OqwBi" id="2ZoeAXTjQ$g" role="3fr31v">
+                  <node concept="37vLTw" id="2ZoeAXTjQ$K" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2ZoeAXTjQWK" resolve="requirement" />
+                  </node>
+                  <node concept="2qgKlT" id="2ZoeAXTjQ$M" role="2OqNvi">
+                    <ref role="37wK5l" node="2ZoeAXTjR25" resolve="isSatisfiedBy" />
+                    <node concept="37vLTw" id="2ZoeAXTjQ_b" role="37wK5m">
+                      <ref role="3cqZAo" node="2ZoeAXTjR1E" resolve="setGuards" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="2ZoeAXTjQ_z" role="3clFbx">
+                <node concept="3cpWs6" id="2ZoeAXTjQ_W" role="3cqZAp">
+                  <node concept="3clFbT" id="2ZoeAXTjQ_X" role="3cqZAk">
+                    <property role="3clFbU" value="false" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2ZoeAXTjR01" role="3cqZAp">
+          <node concept="3clFbT" id="2ZoeAXTjR0i" role="3cqZAk">
+            <property role="3clFbU" value="true" />
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="2ZoeAXTjR0N" role="3clF46">
+        <property role="TrG5h" value="method" />
+        <node concept="3Tqbb2" id="2ZoeAXTjR1b" role="1tU5fm">
+          <ref role="ehGHo" to="3ibj:20_wVa6Utya" resolve="VerifiedMethod" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="2ZoeAXTjR1E" role="3clF46">
+        <property role="TrG5h" value="setGuards" />
+        <node concept="3uibUv" id="2ZoeAXTjR1S" role="1tU5fm">
+          <ref role="3uigEE" to="33ny:~Set" resolve="Set" />
+          <node concept="3Tqbb2" id="2ZoeAXTjR1$" role="11_B2D">
+            <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="13NHI8wppfK" role="13h7CS">
+      <property role="TrG5h" value="metaVariables" />
+      <node concept="3Tm1VV" id="13NHI8wppfL" role="1B3o_S" />
+      <node concept="A3Dl8" id="13NHI8wppl_" role="3clF45">
+        <node concept="3Tqbb2" id="13NHI8wpplM" role="A3Ik2">
+          <ref role="ehGHo" to="3ibj:4ZklUblAm2B" resolve="MetaVariableDeclaration" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="13NHI8wppfN" role="3clF47">
+        <node concept="3clFbF" id="13NHI8wppmm" role="3cqZAp">
+          <node concept="2OqwBi" id="13NHI8wprCB" role="3clFbG">
+            <node concept="2OqwBi" id="13NHI8wpqH9" role="2Oq$k0">
+              <node concept="13iPFW" id="13NHI8wppml" role="2Oq$k0" />
+              <node concept="2qgKlT" id="13NHI8wprhL" role="2OqNvi">
+                <ref role="37wK5l" to="tpek:1hodSy8nQmC" resolve="members" />
+              </node>
+            </node>
+            <node concept="v3k3i" id="13NHI8wprMi" role="2OqNvi">
+              <node concept="chp4Y" id="13NHI8wprNm" role="v3oSu">
+                <ref role="cht4Q" to="3ibj:4ZklUblAm2B" resolve="MetaVariableDeclaration" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13hLZK" id="3AO7oGWVNyU" role="13h7CW">
+      <node concept="3clFbS" id="3AO7oGWVNyV" role="2VODD2" />
+    </node>
+  </node>
+  <node concept="13h7C7" id="3AO7oGXao1a">
+    <property role="3GE5qa" value="guards" />
+    <ref role="13h7C2" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+    <node concept="13hLZK" id="3AO7oGXao1b" role="13h7CW">
+      <node concept="3clFbS" id="3AO7oGXao1c" role="2VODD2" />
+    </node>
+    <node concept="13i0hz" id="26z__LfqmYM" role="13h7CS">
+      <property role="TrG5h" value="isConstantInGeneration" />
+      <node concept="3Tm1VV" id="26z__LfqmZ3" role="1B3o_S" />
+      <node concept="10P_77" id="26z__LfqmZm" role="3clF45" />
+      <node concept="3clFbS" id="26z__LfqmZp" role="3clF47">
+        <node concept="3clFbJ" id="26z__LfqmZH" role="3cqZAp">
+          <node concept="3fqX7Q" id="26z__LfqmZL" role="3clFbw">
+            <node concept="2OqwBi" id="26z__LfqmZV" role="3fr31v">
+              <node concept="35c_gC" id="26z__LfqmZW" role="2Oq$k0">
+                <ref role="35c_gD" to="3ibj:20_wVa6SZzG" resolve="VerifiedClass" />
+              </node>
+              <node concept="2qgKlT" id="26z__Lfqm$b" role="2OqNvi">
+                <ref role="37wK5l" node="26z__LfqmK4" resolve="eliminateConstantGuardsInGeneration" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="26z__Lfqm$A" role="3clFbx">
+            <node concept="3cpWs6" id="26z__Lfqm_8" role="3cqZAp">
+              <node concept="3clFbT" id="26z__Lfqm_t" role="3cqZAk">
+                <property role="3clFbU" value="false" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="26z__Lfqm__" role="3cqZAp">
+          <node concept="3cpWsn" id="26z__Lfqn0c" role="3cpWs9">
+            <property role="TrG5h" value="root" />
+            <node concept="3Tqbb2" id="26z__Lfqn0o" role="1tU5fm" />
+            <node concept="13iPFW" id="26z__Lfqn0_" role="33vP2m" />
+          </node>
+        </node>
+        <node concept="2$JKZl" id="26z__Lfqn19" role="3cqZAp">
+          <node concept="2OqwBi" id="26z__Lfqn1n" role="2$JKZa">
+            <node concept="2OqwBi" id="26z__Lfqn1P" role="2Oq$k0">
+              <node concept="37vLTw" id="26z__Lfqn28" role="2Oq$k0">
+                <ref role="3cqZAo" node="26z__Lfqn0c" resolve="root" />
+              </node>
+              <node concept="1mfA1w" id="26z__Lfqn29" role="2OqNvi" />
+            </node>
+            <node concept="3x8VRR" id="26z__Lfqn2c" role="2OqNvi" />
+          </node>
+          <node concept="3clFbS" id="26z__Lfqn2P" role="2LFqv$">
+            <node concept="3clFbF" id="26z__Lfqn3a" role="3cqZAp">
+              <node concept="37vLTI" id="26z__Lfqn3A" role="3clFbG">
+                <node concept="2OqwBi" id="26z__Lfqn3X" role="37vLTx">
+                  <node concept="37vLTw" id="26z__Lfqn43" role="2Oq$k0">
+                    <ref role="3cqZAo" node="26z__Lfqn0c" resolve="root" />
+                  </node>
+                  <node concept="1mfA1w" id="26z__Lfqn4u" role="2OqNvi" />
+                </node>
+                <node concept="37vLTw" id="26z__Lfqn4J" role="37vLTJ">
+                  <ref role="3cqZAo" node="26z__Lfqn0c" resolve="root" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="26z__Lfqn53" role="3cqZAp">
+          <node concept="3fqX7Q" id="26z__Lfqn5h" role="3cqZAk">
+            <node concept="BsUDl" id="26z__Lfqn5q" role="3fr31v">
+              <ref role="37wK5l" node="26z__LfqmLa" resolve="isChangedIn" />
+              <node concept="37vLTw" id="26z__Lfqn5A" role="37wK5m">
+                <ref role="3cqZAo" node="26z__Lfqn0c" resolve="root" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="26z__LfqmLa" role="13h7CS">
+      <property role="TrG5h" value="isChangedIn" />
+      <node concept="3Tm6S6" id="26z__LfqmLq" role="1B3o_S" />
+      <node concept="10P_77" id="26z__LfqmM1" role="3clF45" />
+      <node concept="3clFbS" id="26z__LfqmMn" role="3clF47">
+        <node concept="3clFbJ" id="26z__LfqmMv" role="3cqZAp">
+          <node concept="2OqwBi" id="26z__LfqmMU" role="3clFbw">
+            <node concept="37vLTw" id="26z__LfqmMV" role="2Oq$k0">
+              <ref role="3cqZAo" node="26z__LfqmYr" resolve="container" />
+            </node>
+            <node concept="1mIQ4w" id="26z__LfqmNp" role="2OqNvi">
+              <node concept="chp4Y" id="26z__LfqmNt" role="cj9EA">
+                <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="26z__LfqmNZ" role="3clFbx">
+            <node concept="3cpWs8" id="26z__LfqmOx" role="3cqZAp">
+              <node concept="3cpWsn" id="26z__LfqmP9" role="3cpWs9">
+                <property role="TrG5h" value="change" />
+                <node concept="3Tqbb2" id="26z__LfqmPi" role="1tU5fm">
+                  <ref role="ehGHo" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                </node>
+                <node concept="1PxgMI" id="26z__LfqmPo" role="33vP2m">
+                  <node concept="chp4Y" id="26z__LfqmPW" role="3oSUPX">
+                    <ref role="cht4Q" to="3ibj:2NWWHY$Dbzd" resolve="ChangesGuard" />
+                  </node>
+                  <node concept="37vLTw" id="26z__LfqmQ8" role="1m5AlR">
+                    <ref role="3cqZAo" node="26z__LfqmYr" resolve="container" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="26z__LfqmQy" role="3cqZAp">
+              <node concept="1Wc70l" id="26z__LfqmQX" role="3clFbw">
+                <node concept="3y3z36" id="26z__LfqmR8" role="3uHU7w">
+                  <node concept="2OqwBi" id="26z__LfqmRm" role="3uHU7w">
+                    <node concept="13iPFW" id="26z__LfqmRu" role="2Oq$k0" />
+                    <node concept="3TrcHB" id="26z__LfqmRI" role="2OqNvi">
+                      <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="26z__LfqmS9" role="3uHU7B">
+                    <node concept="37vLTw" id="26z__LfqmSy" role="2Oq$k0">
+                      <ref role="3cqZAo" node="26z__LfqmP9" resolve="change" />
+                    </node>
+                    <node concept="3TrcHB" id="26z__LfqmSz" role="2OqNvi">
+                      <ref role="3TsBF5" to="3ibj:2NWWHY$Dbzg" resolve="newValue" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbC" id="26z__LfqmT0" role="3uHU7B">
+                  <node concept="13iPFW" id="26z__LfqmTo" role="3uHU7w" />
+                  <node concept="2OqwBi" id="26z__LfqmTO" role="3uHU7B">
+                    <node concept="2OqwBi" id="26z__LfqmTU" role="2Oq$k0">
+                      <node concept="37vLTw" id="26z__LfqmUf" role="2Oq$k0">
+                        <ref role="3cqZAo" node="26z__LfqmP9" resolve="change" />
+                      </node>
+                      <node concept="3TrEf2" id="26z__LfqmUs" role="2OqNvi">
+                        <ref role="3Tt5mk" to="3ibj:2NWWHY$Dbze" resolve="guard" />
+                      </node>
+                    </node>
+                    <node concept="3TrEf2" id="26z__LfqmV3" role="2OqNvi">
+                      <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="26z__LfqmVp" role="3clFbx">
+                <node concept="3cpWs6" id="26z__LfqmVL" role="3cqZAp">
+                  <node concept="3clFbT" id="26z__LfqmWa" role="3cqZAk">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1DcWWT" id="26z__LfqmWN" role="3cqZAp">
+          <node concept="3cpWsn" id="26z__LfqmXo" role="1Duv9x">
+            <property role="TrG5h" value="child" />
+            <node concept="3Tqbb2" id="26z__LfqmXK" role="1tU5fm" />
+          </node>
+          <node concept="2OqwBi" id="26z__LfqmXO" role="1DdaDG">
+            <node concept="37vLTw" id="26z__LfqmXP" role="2Oq$k0">
+              <ref role="3cqZAo" node="26z__LfqmYr" resolve="container" />
+            </node>
+            <node concept="Bykcj" id="26z__LfqmXX" role="2OqNvi" />
+          </node>
+          <node concept="3clFbS" id="26z__Lfqn5V" role="2LFqv$">
+            <node concept="3clFbJ" id="26z__Lfqn6e" role="3cqZAp">
+              <node concept="BsUDl" id="26z__Lfqn6x" role="3clFbw">
+                <ref role="37wK5l" node="26z__LfqmLa" resolve="isChangedIn" />
+                <node concept="37vLTw" id="26z__Lfqn77" role="37wK5m">
+                  <ref role="3cqZAo" node="26z__LfqmXo" resolve="child" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="26z__Lfqn7o" role="3clFbx">
+                <node concept="3cpWs6" id="26z__Lfqn7x" role="3cqZAp">
+                  <node concept="3clFbT" id="26z__Lfqn7E" role="3cqZAk">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="26z__LfqmYk" role="3cqZAp">
+          <node concept="3clFbT" id="26z__LfqmYm" role="3cqZAk">
+            <property role="3clFbU" value="false" />
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="26z__LfqmYr" role="3clF46">
+        <property role="TrG5h" value="container" />
+        <node concept="3Tqbb2" id="26z__LfqmYH" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="13i0hz" id="3AO7oGXapMr" role="13h7CS">
+      <property role="TrG5h" value="populateMember" />
+      <ref role="13i0hy" to="tpek:6r77ob2UW9O" resolve="populateMember" />
+      <node concept="3Tm1VV" id="3AO7oGXapMs" role="1B3o_S" />
+      <node concept="3clFbS" id="3AO7oGXapMD" role="3clF47">
+        <node concept="3clFbJ" id="3AO7oGXavKw" role="3cqZAp">
+          <node concept="3clFbS" id="3AO7oGXavKy" role="3clFbx">
+            <node concept="3cpWs6" id="3AO7oGXaA7A" role="3cqZAp" />
+          </node>
+          <node concept="3fqX7Q" id="3AO7oGXavUp" role="3clFbw">
+            <node concept="2OqwBi" id="3AO7oGXaw1u" role="3fr31v">
+              <node concept="37vLTw" id="3AO7oGXavUt" role="2Oq$k0">
+                <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+              </node>
+              <node concept="liA8E" id="3AO7oGXaw6x" role="2OqNvi">
+                <ref role="37wK5l" to="fnmy:4wi8xvc$OpI" resolve="isElementVisible" />
+                <node concept="13iPFW" id="3AO7oGXaw7q" role="37wK5m" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3AO7oGXaAa6" role="3cqZAp">
+          <node concept="2OqwBi" id="3AO7oGXaAhG" role="3clFbG">
+            <node concept="37vLTw" id="3AO7oGXaAa4" role="2Oq$k0">
+              <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+            </node>
+            <node concept="liA8E" id="3AO7oGXaAna" role="2OqNvi">
+              <ref role="37wK5l" to="fnmy:5U4HErzRY$m" resolve="exposeMember" />
+              <node concept="13iPFW" id="3AO7oGXaAnZ" role="37wK5m" />
+              <node concept="2ShNRf" id="3AO7oGXaAT4" role="37wK5m">
+                <node concept="1pGfFk" id="3AO7oGXaB5g" role="2ShVmc">
+                  <ref role="37wK5l" to="fnmy:6OATPVCTTfF" resolve="FieldSignature" />
+                  <node concept="2OqwBi" id="3AO7oGXaBkp" role="37wK5m">
+                    <node concept="13iPFW" id="3AO7oGXaB6A" role="2Oq$k0" />
+                    <node concept="3TrcHB" id="3AO7oGXaBBX" role="2OqNvi">
+                      <ref role="3TsBF5" to="tpck:h0TrG11" resolve="name" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3AO7oGXaBPR" role="3cqZAp">
+          <node concept="2OqwBi" id="3AO7oGXaC0j" role="3clFbG">
+            <node concept="37vLTw" id="3AO7oGXaBPP" role="2Oq$k0">
+              <ref role="3cqZAo" node="3AO7oGXapME" resolve="context" />
+            </node>
+            <node concept="liA8E" id="3AO7oGXaC6r" role="2OqNvi">
+              <ref role="37wK5l" to="fnmy:5U4HErzRY$g" resolve="hideMembersForAncestors" />
+              <node concept="2ShNRf" id="3AO7oGXaC7n" role="37wK5m">
                 <node concept="1pGfFk" id="3AO7oGXaCgu" role="2ShVmc">
                   <ref role="37wK5l" to="fnmy:6OATPVCTTfF" resolve="FieldSignature" />
                   <node concept="2OqwBi" id="3AO7oGXaCtW" role="37wK5m">
@@ -676,5 +2858,288 @@
       <node concept="3clFbS" id="2915UUEaT9a" role="2VODD2" />
     </node>
   </node>
+  <node concept="13h7C7" id="26z__Lfqn7X">
+    <property role="3GE5qa" value="requirements" />
+    <ref role="13h7C2" to="3ibj:6b9GW5_1KvG" resolve="ExpressionRequirement" />
+    <node concept="13hLZK" id="26z__Lfqn8i" role="13h7CW">
+      <node concept="3clFbS" id="26z__Lfqn8P" role="2VODD2" />
+    </node>
+    <node concept="13i0hz" id="26z__Lfqn9o" role="13h7CS">
+      <property role="TrG5h" value="isStaticallySatisfied" />
+      <node concept="3Tm1VV" id="26z__Lfqn9F" role="1B3o_S" />
+      <node concept="10P_77" id="26z__Lfqna7" role="3clF45" />
+      <node concept="3clFbS" id="26z__Lfqnah" role="3clF47">
+        <node concept="3cpWs8" id="26z__Lfqnax" role="3cqZAp">
+          <node concept="3cpWsn" id="26z__Lfqnb0" role="3cpWs9">
+            <property role="TrG5h" value="condition" />
+            <node concept="3Tqbb2" id="26z__LfqnbA" role="1tU5fm" />
+            <node concept="2OqwBi" id="26z__Lfqncb" role="33vP2m">
+              <node concept="13iPFW" id="26z__Lfqnck" role="2Oq$k0" />
+              <node concept="3TrEf2" id="26z__LfqncQ" role="2OqNvi">
+                <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="26z__Lfqnde" role="3cqZAp">
+          <node concept="3cpWsn" id="26z__LfqndP" role="3cpWs9">
+            <property role="TrG5h" value="expected" />
+            <node concept="10P_77" id="26z__Lfqnd$" role="1tU5fm" />
+            <node concept="3clFbT" id="26z__Lfqnei" role="33vP2m">
+              <property role="3clFbU" value="true" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="26z__Lfqney" role="3cqZAp">
+          <node concept="2OqwBi" id="26z__LfqneK" role="3clFbw">
+            <node concept="37vLTw" id="26z__Lfqnf7" role="2Oq$k0">
+              <ref role="3cqZAo" node="26z__Lfqnb0" resolve="condition" />
+            </node>
+            <node concept="1mIQ4w" id="26z__Lfqnff" role="2OqNvi">
+              <node concept="chp4Y" id="26z__LfqnfL" role="cj9EA">
+                <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="26z__Lfqnge" role="3clFbx">
+            <node concept="3clFbF" id="26z__Lfqngt" role="3cqZAp">
+              <node concept="37vLTI" id="26z__LfqngI" role="3clFbG">
+                <node concept="2OqwBi" id="26z__Lfqnhi" role="37vLTx">
+                  <node concept="1PxgMI" id="26z__LfqnhV" role="2Oq$k0">
+                    <node concept="chp4Y" id="26z__Lfqnie" role="3oSUPX">
+                      <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+                    </node>
+                    <node concept="37vLTw" id="26z__LfqniH" role="1m5AlR">
+                      <ref role="3cqZAo" node="26z__Lfqnb0" resolve="condition" />
+                    </node>
+                  </node>
+                  <node concept="3TrEf2" id="26z__LfqniI" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fJfr32$" resolve="expression" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="26z__LfqniJ" role="37vLTJ">
+                  <ref role="3cqZAo" node="26z__Lfqnb0" resolve="condition" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="26z__Lfqnj6" role="3cqZAp">
+              <node concept="37vLTI" id="26z__Lfqnjd" role="3clFbG">
+                <node concept="3clFbT" id="26z__LfqnjP" role="37vLTx">
+                  <property role="3clFbU" value="false" />
+                </node>
+                <node concept="37vLTw" id="26z__Lfqnk2" role="37vLTJ">
+                  <ref role="3cqZAo" node="26z__LfqndP" resolve="expected" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="26z__Lfqnkl" role="3cqZAp">
+          <node concept="2OqwBi" id="26z__Lfqnkw" role="3clFbw">
+            <node concept="37vLTw" id="26z__LfqnkB" role="2Oq$k0">
+              <ref role="3cqZAo" node="26z__Lfqnb0" resolve="condition" />
+            </node>
+            <node concept="1mIQ4w" id="26z__LfqnkT" role="2OqNvi">
+              <node concept="chp4Y" id="26z__LfqnkW" role="cj9EA">
+                <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="26z__Lfqnlq" role="3clFbx">
+            <node concept="3cpWs8" id="26z__LfqnlL" role="3cqZAp">
+              <node concept="3cpWsn" id="26z__Lfqnmj" role="3cpWs9">
+                <property role="TrG5h" value="guard" />
+                <node concept="3Tqbb2" id="26z__LfqnmT" role="1tU5fm">
+                  <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+                </node>
+                <node concept="2OqwBi" id="26z__Lfqnnl" role="33vP2m">
+                  <node concept="1PxgMI" id="26z__LfqnnQ" role="2Oq$k0">
+                    <node concept="chp4Y" id="26z__Lfqnor" role="3oSUPX">
+                      <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                    </node>
+                    <node concept="37vLTw" id="26z__LfqnoV" role="1m5AlR">
+                      <ref role="3cqZAo" node="26z__Lfqnb0" resolve="condition" />
+                    </node>
+                  </node>
+                  <node concept="3TrEf2" id="26z__Lfqnpi" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs6" id="26z__LfqnpK" role="3cqZAp">
+              <node concept="1Wc70l" id="26z__Lfqnqf" role="3cqZAk">
+                <node concept="3clFbC" id="26z__Lfqnqn" role="3uHU7w">
+                  <node concept="37vLTw" id="26z__LfqnqP" role="3uHU7w">
+                    <ref role="3cqZAo" node="26z__LfqndP" resolve="expected" />
+                  </node>
+                  <node concept="2OqwBi" id="26z__LfqnqV" role="3uHU7B">
+                    <node concept="37vLTw" id="26z__Lfqnrm" role="2Oq$k0">
+                      <ref role="3cqZAo" node="26z__Lfqnmj" resolve="guard" />
+                    </node>
+                    <node concept="3TrcHB" id="26z__Lfqnru" role="2OqNvi">
+                      <ref role="3TsBF5" to="3ibj:2NWWHY$Dbtk" resolve="initiallySet" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="26z__Lfqns6" role="3uHU7B">
+                  <node concept="37vLTw" id="26z__Lfqnsq" role="2Oq$k0">
+                    <ref role="3cqZAo" node="26z__Lfqnmj" resolve="guard" />
+                  </node>
+                  <node concept="2qgKlT" id="26z__Lfqnt2" role="2OqNvi">
+                    <ref role="37wK5l" node="26z__LfqmYM" resolve="isConstantInGeneration" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="26z__Lfqnt7" role="3cqZAp">
+          <node concept="3clFbT" id="26z__Lfqnt9" role="3cqZAk">
+            <property role="3clFbU" value="false" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="13i0hz" id="2ZoeAXTjR25" role="13h7CS">
+      <property role="TrG5h" value="isSatisfiedBy" />
+      <node concept="3Tm1VV" id="2ZoeAXTjR2m" role="1B3o_S" />
+      <node concept="10P_77" id="2ZoeAXTjR2X" role="3clF45" />
+      <node concept="3clFbS" id="2ZoeAXTjR3o" role="3clF47">
+        <node concept="3cpWs8" id="2ZoeAXTjR3R" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjR3W" role="3cpWs9">
+            <property role="TrG5h" value="condition" />
+            <node concept="3Tqbb2" id="2ZoeAXTjR4o" role="1tU5fm" />
+            <node concept="2OqwBi" id="2ZoeAXTjR4X" role="33vP2m">
+              <node concept="13iPFW" id="2ZoeAXTjR5x" role="2Oq$k0" />
+              <node concept="3TrEf2" id="2ZoeAXTjR61" role="2OqNvi">
+                <ref role="3Tt5mk" to="3ibj:6b9GW5_1KvH" resolve="expression" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="2ZoeAXTjR63" role="3cqZAp">
+          <node concept="3cpWsn" id="2ZoeAXTjR6n" role="3cpWs9">
+            <property role="TrG5h" value="expected" />
+            <node concept="10P_77" id="2ZoeAXTjR6$" role="1tU5fm" />
+            <node concept="3clFbT" id="2ZoeAXTjR7s" role="33vP2m">
+              <property role="3clFbU" value="true" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="2ZoeAXTjR7M" role="3cqZAp">
+          <node concept="2OqwBi" id="2ZoeAXTjR7U" role="3clFbw">
+            <node concept="37vLTw" id="2ZoeAXTjR8r" role="2Oq$k0">
+              <ref role="3cqZAo" node="2ZoeAXTjR3W" resolve="condition" />
+            </node>
+            <node concept="1mIQ4w" id="2ZoeAXTjR8A" role="2OqNvi">
+              <node concept="chp4Y" id="2ZoeAXTjR96" role="cj9EA">
+                <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjR9o" role="3clFbx">
+            <node concept="3clFbF" id="2ZoeAXTjRa0" role="3cqZAp">
+              <node concept="37vLTI" id="2ZoeAXTjRaE" role="3clFbG">
+                <node concept="2OqwBi" id="2ZoeAXTjRb3" role="37vLTx">
+                  <node concept="1PxgMI" id="2ZoeAXTjRbo" role="2Oq$k0">
+                    <node concept="chp4Y" id="2ZoeAXTjRbC" role="3oSUPX">
+                      <ref role="cht4Q" to="tpee:fJfqX4d" resolve="NotExpression" />
+                    </node>
+                    <node concept="37vLTw" id="2ZoeAXTjRc2" role="1m5AlR">
+                      <ref role="3cqZAo" node="2ZoeAXTjR3W" resolve="condition" />
+                    </node>
+                  </node>
+                  <node concept="3TrEf2" id="2ZoeAXTjRce" role="2OqNvi">
+                    <ref role="3Tt5mk" to="tpee:fJfr32$" resolve="expression" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="2ZoeAXTjRcn" role="37vLTJ">
+                  <ref role="3cqZAo" node="2ZoeAXTjR3W" resolve="condition" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="2ZoeAXTjRcY" role="3cqZAp">
+              <node concept="37vLTI" id="2ZoeAXTjRdz" role="3clFbG">
+                <node concept="3clFbT" id="2ZoeAXTjRdO" role="37vLTx">
+                  <property role="3clFbU" value="false" />
+                </node>
+                <node concept="37vLTw" id="2ZoeAXTjRe0" role="37vLTJ">
+                  <ref role="3cqZAo" node="2ZoeAXTjR6n" resolve="expected" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="2ZoeAXTjRec" role="3cqZAp">
+          <node concept="2OqwBi" id="2ZoeAXTjRes" role="3clFbw">
+            <node concept="37vLTw" id="2ZoeAXTjReH" role="2Oq$k0">
+              <ref role="3cqZAo" node="2ZoeAXTjR3W" resolve="condition" />
+            </node>
+            <node concept="1mIQ4w" id="2ZoeAXTjRf5" role="2OqNvi">
+              <node concept="chp4Y" id="2ZoeAXTjRfc" role="cj9EA">
+                <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="2ZoeAXTjRfI" role="3clFbx">
+            <node concept="3cpWs8" id="2ZoeAXTjRfR" role="3cqZAp">
+              <node concept="3cpWsn" id="2ZoeAXTjRfX" role="3cpWs9">
+                <property role="TrG5h" value="guard" />
+                <node concept="3Tqbb2" id="2ZoeAXTjRgs" role="1tU5fm">
+                  <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+                </node>
+                <node concept="2OqwBi" id="2ZoeAXTjRgw" role="33vP2m">
+                  <node concept="1PxgMI" id="2ZoeAXTjRgW" role="2Oq$k0">
+                    <node concept="chp4Y" id="2ZoeAXTjRg_" role="3oSUPX">
+                      <ref role="cht4Q" to="3ibj:2NWWHY$Dbto" resolve="LocalGuardReference" />
+                    </node>
+                    <node concept="37vLTw" id="2ZoeAXTjRh2" role="1m5AlR">
+                      <ref role="3cqZAo" node="2ZoeAXTjR3W" resolve="condition" />
+                    </node>
+                  </node>
+                  <node concept="3TrEf2" id="2ZoeAXTjRh6" role="2OqNvi">
+                    <ref role="3Tt5mk" to="3ibj:3AO7oGWVGTm" resolve="guard" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs6" id="2ZoeAXTjRhd" role="3cqZAp">
+              <node concept="3clFbC" id="2ZoeAXTjRhN" role="3cqZAk">
+                <node concept="37vLTw" id="2ZoeAXTjRhP" role="3uHU7w">
+                  <ref role="3cqZAo" node="2ZoeAXTjR6n" resolve="expected" />
+                </node>
+                <node concept="2OqwBi" id="2ZoeAXTjRi4" role="3uHU7B">
+                  <node concept="37vLTw" id="2ZoeAXTjRiC" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2ZoeAXTjRj_" resolve="setGuards" />
+                  </node>
+                  <node concept="liA8E" id="2ZoeAXTjRj9" role="2OqNvi">
+                    <ref role="37wK5l" to="33ny:~Set.contains(java.lang.Object)" resolve="contains" />
+                    <node concept="37vLTw" id="2ZoeAXTjRjF" role="37wK5m">
+                      <ref role="3cqZAo" node="2ZoeAXTjRfX" resolve="guard" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2ZoeAXTjRjO" role="3cqZAp">
+          <node concept="3clFbT" id="2ZoeAXTjRjT" role="3cqZAk">
+            <property role="3clFbU" value="true" />
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="2ZoeAXTjRj_" role="3clF46">
+        <property role="TrG5h" value="setGuards" />
+        <node concept="3uibUv" id="2ZoeAXTjRkh" role="1tU5fm">
+          <ref role="3uigEE" to="33ny:~Set" resolve="Set" />
+          <node concept="3Tqbb2" id="2ZoeAXTjRkF" role="11_B2D">
+            <ref role="ehGHo" to="3ibj:2NWWHY$E7CG" resolve="BaseGuardDeclaration" />
+          </node>
+        </node>
+      </node>
+    </node>
+  </node>
 </model>
 
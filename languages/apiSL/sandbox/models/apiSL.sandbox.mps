@@ -100,6 +100,7 @@
         <property id="1068580123138" name="value" index="3clFbU" />
       </concept>
       <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
       <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
         <property id="1068580320021" name="value" index="3cmrfH" />
       </concept>
@@ -501,6 +502,9 @@
       </node>
     </node>
     <node concept="3Tm1VV" id="6hW56x43OuS" role="1B3o_S" />
+    <node concept="2AHcQZ" id="3_313kH7BSy" role="2AJF6D">
+      <ref role="2AI5Lk" to="q3ut:3EwaYGcC$TC" resolve="ThreadConfined" />
+    </node>
     <node concept="16euLQ" id="6hW56x43O$6" role="16eVyc">
       <property role="TrG5h" value="T" />
     </node>
@@ -752,5 +756,203 @@
     <node concept="2tJIrI" id="7eNqNTBNkqI" role="jymVt" />
     <node concept="3Tm1VV" id="7eNqNTBNkoK" role="1B3o_S" />
   </node>
+  <node concept="2ALBHu" id="34TjVPYp0e3">
+    <property role="TrG5h" value="PooledChannel" />
+    <node concept="28mbdI" id="34TjVPYp0e6" role="jymVt">
+      <property role="TrG5h" value="isBound" />
+      <node concept="3Tm6S6" id="34TjVPYp0e9" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="34TjVPYp0eC" role="jymVt" />
+    <node concept="2AN5GS" id="34TjVPYp0eF" role="jymVt">
+      <property role="TrG5h" value="bind" />
+      <node concept="28m4Cq" id="34TjVPYp0eI" role="38uth6">
+        <node concept="28m4Co" id="34TjVPYp0eL" role="28m4Cl" />
+        <node concept="28m4Ci" id="34TjVPYp0eO" role="38updQ">
+          <property role="28m4Cf" value="true" />
+          <node concept="28m4m7" id="34TjVPYp0eR" role="28m4Ch">
+            <ref role="5mHft" node="34TjVPYp0e6" resolve="isBound" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="34TjVPYp0eU" role="3clF45" />
+      <node concept="3Tm1VV" id="34TjVPYp0eX" role="1B3o_S" />
+      <node concept="3clFbS" id="34TjVPYp0ea" role="3clF47" />
+      <node concept="7NFgH" id="34TjVPYp0ed" role="28mdTn">
+        <node concept="3fqX7Q" id="34TjVPYp0eg" role="7NFgG">
+          <node concept="28m4m7" id="34TjVPYp0ej" role="3fr31v">
+            <ref role="5mHft" node="34TjVPYp0e6" resolve="isBound" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="34TjVPYp0em" role="jymVt" />
+    <node concept="2AN5GS" id="34TjVPYp0ep" role="jymVt">
+      <property role="TrG5h" value="send" />
+      <node concept="3cqZAl" id="34TjVPYp0es" role="3clF45" />
+      <node concept="3Tm1VV" id="34TjVPYp0ev" role="1B3o_S" />
+      <node concept="3clFbS" id="34TjVPYp0ey" role="3clF47" />
+      <node concept="7NFgH" id="34TjVPYp0e_" role="28mdTn">
+        <node concept="28m4m7" id="34TjVPYp0f2" role="7NFgG">
+          <ref role="5mHft" node="34TjVPYp0e6" resolve="isBound" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="34TjVPYp0f5" role="1B3o_S" />
+  </node>
+  <node concept="2ALBHu" id="34TjVPYp0f8">
+    <property role="TrG5h" value="PooledSecureChannel" />
+    <node concept="28mbdI" id="34TjVPYp0fB" role="jymVt">
+      <property role="TrG5h" value="isAuthenticated" />
+      <node concept="3Tm6S6" id="34TjVPYp0fE" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="34TjVPYp0fH" role="jymVt" />
+    <node concept="2AN5GS" id="34TjVPYp0fK" role="jymVt">
+      <property role="TrG5h" value="authenticate" />
+      <node concept="28m4Cq" id="34TjVPYp0fN" role="38uth6">
+        <node concept="28m4Co" id="34TjVPYp0fQ" role="28m4Cl" />
+        <node concept="28m4Ci" id="34TjVPYp0fT" role="38updQ">
+          <property role="28m4Cf" value="true" />
+          <node concept="28m4m7" id="34TjVPYp0fW" role="28m4Ch">
+            <ref role="5mHft" node="34TjVPYp0fB" resolve="isAuthenticated" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="34TjVPYp0fZ" role="3clF45" />
+      <node concept="3Tm1VV" id="34TjVPYp0fc" role="1B3o_S" />
+      <node concept="3clFbS" id="34TjVPYp0ff" role="3clF47" />
+      <node concept="7NFgH" id="34TjVPYp0fi" role="28mdTn">
+        <node concept="3fqX7Q" id="34TjVPYp0fl" role="7NFgG">
+          <node concept="28m4m7" id="34TjVPYp0fo" role="3fr31v">
+            <ref role="5mHft" node="34TjVPYp0fB" resolve="isAuthenticated" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="34TjVPYp0fr" role="jymVt" />
+    <node concept="2AN5GS" id="34TjVPYp0fu" role="jymVt">
+      <property role="TrG5h" value="sendSecure" />
+      <node concept="3cqZAl" id="34TjVPYp0fx" role="3clF45" />
+      <node concept="3Tm1VV" id="34TjVPYp0f$" role="1B3o_S" />
+      <node concept="3clFbS" id="34TjVPYp0g1" role="3clF47">
+        <node concept="3clFbF" id="34TjVPYp0g4" role="3cqZAp">
+          <node concept="1rXfSq" id="34TjVPYp0g7" role="3clFbG">
+            <ref role="37wK5l" node="34TjVPYp0ep" resolve="send" />
+          </node>
+        </node>
+      </node>
+      <node concept="7NFgH" id="34TjVPYp0gA" role="28mdTn">
+        <node concept="28m4m7" id="34TjVPYp0gD" role="7NFgG">
+          <ref role="5mHft" node="34TjVPYp0fB" resolve="isAuthenticated" />
+        </node>
+      </node>
+    </node>
+    <node concept="3uibUv" id="34TjVPYp0gG" role="1zkMxy">
+      <ref role="3uigEE" node="34TjVPYp0e3" resolve="PooledChannel" />
+    </node>
+    <node concept="3Tm1VV" id="34TjVPYp0gJ" role="1B3o_S" />
+  </node>
+  <node concept="2ALBHu" id="6Cfq6JGu0e3">
+    <property role="TrG5h" value="VerifiedConnection" />
+    <node concept="28mbdI" id="6Cfq6JGu0e6" role="jymVt">
+      <property role="TrG5h" value="isOpen" />
+      <node concept="3Tm6S6" id="6Cfq6JGu0e9" role="1B3o_S" />
+    </node>
+    <node concept="28mbdI" id="6Cfq6JGu0eC" role="jymVt">
+      <property role="TrG5h" value="isAuthenticated" />
+      <node concept="3Tm6S6" id="6Cfq6JGu0eF" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="6Cfq6JGu0eI" role="jymVt" />
+    <node concept="2AN5GS" id="6Cfq6JGu0eL" role="jymVt">
+      <property role="TrG5h" value="open" />
+      <node concept="28m4Cq" id="6Cfq6JGu0eO" role="38uth6">
+        <node concept="28m4Co" id="6Cfq6JGu0eR" role="28m4Cl" />
+        <node concept="28m4Ci" id="6Cfq6JGu0eU" role="38updQ">
+          <property role="28m4Cf" value="true" />
+          <node concept="28m4m7" id="6Cfq6JGu0eX" role="28m4Ch">
+            <ref role="5mHft" node="6Cfq6JGu0e6" resolve="isOpen" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="6Cfq6JGu0ea" role="3clF45" />
+      <node concept="3Tm1VV" id="6Cfq6JGu0ed" role="1B3o_S" />
+      <node concept="3clFbS" id="6Cfq6JGu0eg" role="3clF47" />
+      <node concept="7NFgH" id="6Cfq6JGu0ej" role="28mdTn">
+        <node concept="3fqX7Q" id="6Cfq6JGu0em" role="7NFgG">
+          <node concept="28m4m7" id="6Cfq6JGu0ep" role="3fr31v">
+            <ref role="5mHft" node="6Cfq6JGu0e6" resolve="isOpen" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="6Cfq6JGu0es" role="jymVt" />
+    <node concept="2AN5GS" id="6Cfq6JGu0ev" role="jymVt">
+      <property role="TrG5h" value="authenticate" />
+      <node concept="28m4Cq" id="6Cfq6JGu0ey" role="38uth6">
+        <node concept="28m4Co" id="6Cfq6JGu0e_" role="28m4Cl" />
+        <node concept="28m4Ci" id="6Cfq6JGu0f2" role="38updQ">
+          <property role="28m4Cf" value="true" />
+          <node concept="28m4m7" id="6Cfq6JGu0f5" role="28m4Ch">
+            <ref role="5mHft" node="6Cfq6JGu0eC" resolve="isAuthenticated" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="6Cfq6JGu0f8" role="3clF45" />
+      <node concept="3Tm1VV" id="6Cfq6JGu0fB" role="1B3o_S" />
+      <node concept="3clFbS" id="6Cfq6JGu0fE" role="3clF47" />
+      <node concept="7NFgH" id="6Cfq6JGu0fH" role="28mdTn">
+        <node concept="28m4m7" id="6Cfq6JGu0fK" role="7NFgG">
+          <ref role="5mHft" node="6Cfq6JGu0e6" resolve="isOpen" />
+        </node>
+      </node>
+      <node concept="7NFgH" id="6Cfq6JGu0fN" role="28mdTn">
+        <node concept="3fqX7Q" id="6Cfq6JGu0fQ" role="7NFgG">
+          <node concept="28m4m7" id="6Cfq6JGu0fT" role="3fr31v">
+            <ref role="5mHft" node="6Cfq6JGu0eC" resolve="isAuthenticated" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="6Cfq6JGu0fW" role="jymVt" />
+    <node concept="2AN5GS" id="6Cfq6JGu0fZ" role="jymVt">
+      <property role="TrG5h" value="send" />
+      <node concept="3cqZAl" id="6Cfq6JGu0fc" role="3clF45" />
+      <node concept="3Tm1VV" id="6Cfq6JGu0ff" role="1B3o_S" />
+      <node concept="3clFbS" id="6Cfq6JGu0fi" role="3clF47" />
+      <node concept="7NFgH" id="6Cfq6JGu0fl" role="28mdTn">
+        <node concept="28m4m7" id="6Cfq6JGu0fo" role="7NFgG">
+          <ref role="5mHft" node="6Cfq6JGu0eC" resolve="isAuthenticated" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="6Cfq6JGu0fr" role="jymVt" />
+    <node concept="2AN5GS" id="6Cfq6JGu0fu" role="jymVt">
+      <property role="TrG5h" value="close" />
+      <node concept="28m4Cq" id="6Cfq6JGu0fx" role="38uth6">
+        <node concept="28m4Co" id="6Cfq6JGu0f$" role="28m4Cl" />
+        <node concept="28m4Ci" id="6Cfq6JGu0g1" role="38updQ">
+          <node concept="28m4m7" id="6Cfq6JGu0g4" role="28m4Ch">
+            <ref role="5mHft" node="6Cfq6JGu0e6" resolve="isOpen" />
+          </node>
+        </node>
+      </node>
+      <node concept="28m4Cq" id="6Cfq6JGu0g7" role="38uth6">
+        <node concept="28m4Co" id="6Cfq6JGu0gA" role="28m4Cl" />
+        <node concept="28m4Ci" id="6Cfq6JGu0gD" role="38updQ">
+          <node concept="28m4m7" id="6Cfq6JGu0gG" role="28m4Ch">
+            <ref role="5mHft" node="6Cfq6JGu0eC" resolve="isAuthenticated" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="6Cfq6JGu0gJ" role="3clF45" />
+      <node concept="3Tm1VV" id="6Cfq6JGu0gM" role="1B3o_S" />
+      <node concept="3clFbS" id="6Cfq6JGu0gP" role="3clF47" />
+      <node concept="7NFgH" id="6Cfq6JGu0gS" role="28mdTn">
+        <node concept="28m4m7" id="6Cfq6JGu0gV" role="7NFgG">
+          <ref role="5mHft" node="6Cfq6JGu0e6" resolve="isOpen" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="6Cfq6JGu0gY" role="1B3o_S" />
+  </node>
 </model>
 
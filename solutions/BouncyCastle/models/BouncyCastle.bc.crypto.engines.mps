@@ -0,0 +1,5226 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<model ref="r:4c1df6d8-2e00-5ead-b7ff-d6e63854d7f3(BouncyCastle.bc.crypto.engines)">
+  <persistence version="9" />
+  <languages>
+    <use id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage" version="11" />
+    <use id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL" version="0" />
+    <use id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc" version="2" />
+  </languages>
+  <imports>
+    <import index="xlxw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.math(JDK/)" />
+    <import index="c790" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math.ec(BouncyCastle/)" />
+    <import index="gz2w" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math(BouncyCastle/)" />
+    <import index="mgsy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.util(BouncyCastle/)" />
+    <import index="xewt" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.generators(BouncyCastle/)" />
+    <import index="6y4x" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto(BouncyCastle/)" />
+    <import index="25z7" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.params(BouncyCastle/)" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" />
+    <import index="c0ik" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.symmetric.util(BouncyCastle/)" />
+    <import index="pfyx" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto(JDK/)" />
+    <import index="jgjw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security(JDK/)" />
+    <import index="guwi" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.io(JDK/)" />
+    <import index="41y5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.spec(JDK/)" />
+    <import index="aql8" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.util(BouncyCastle/)" />
+    <import index="7lc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.spec(JDK/)" />
+    <import index="kdo4" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.pkcs(BouncyCastle/)" />
+    <import index="9djp" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.spec(BouncyCastle/)" />
+    <import index="559f" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jce.provider(BouncyCastle/)" />
+    <import index="t6h5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.reflect(JDK/)" />
+    <import index="b4ur" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.modes(BouncyCastle/)" />
+    <import index="zfbc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.nio(JDK/)" />
+    <import index="s8fy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.fpe(BouncyCastle/)" />
+    <import index="xf7z" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.interfaces(JDK/)" />
+    <import index="pvh0" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce(BouncyCastle/)" />
+    <import index="qrpw" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.engines(BouncyCastle/)" />
+    <import index="4pdr" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.paddings(BouncyCastle/)" />
+    <import index="9oed" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1(BouncyCastle/)" />
+    <import index="oln5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.internal.asn1.cms(BouncyCastle/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="eqo5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.config(BouncyCastle/)" />
+    <import index="j2lh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.nist(BouncyCastle/)" />
+    <import index="g9oq" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.bc(BouncyCastle/)" />
+    <import index="pbt1" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.util(BouncyCastle/)" />
+    <import index="iflh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.misc(BouncyCastle/)" />
+    <import index="t1mn" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.util(BouncyCastle/)" />
+    <import index="g6ri" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.security.auth(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="fuic" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.oiw(BouncyCastle/)" />
+    <import index="8tnb" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.util(BouncyCastle/)" />
+    <import index="ef3w" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.interfaces(JDK/)" />
+    <import index="w3v" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.rsa(BouncyCastle/)" />
+    <import index="oc9b" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.x509(BouncyCastle/)" />
+    <import index="nji9" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.macs(BouncyCastle/)" />
+    <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
+    <import index="1xn6" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.digests(BouncyCastle/)" implicit="true" />
+    <import index="quxv" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.encodings(BouncyCastle/)" implicit="true" />
+  </imports>
+  <registry>
+    <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1215695201514" name="jetbrains.mps.baseLanguage.structure.MinusAssignmentExpression" flags="nn" index="d5anL" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1202948039474" name="jetbrains.mps.baseLanguage.structure.InstanceMethodCallOperation" flags="nn" index="liA8E" />
+      <concept id="1179360813171" name="jetbrains.mps.baseLanguage.structure.HexIntegerLiteral" flags="nn" index="2nou5x">
+        <property id="1179360856892" name="value" index="2noCCI" />
+      </concept>
+      <concept id="8118189177080264853" name="jetbrains.mps.baseLanguage.structure.AlternativeType" flags="ig" index="nSUau">
+        <child id="8118189177080264854" name="alternative" index="nSUat" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1224500799915" name="jetbrains.mps.baseLanguage.structure.BitwiseXorExpression" flags="nn" index="pVQyQ" />
+      <concept id="1465982738277781862" name="jetbrains.mps.baseLanguage.structure.PlaceholderMember" flags="nn" index="2tJIrI" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1188207840427" name="jetbrains.mps.baseLanguage.structure.AnnotationInstance" flags="nn" index="2AHcQZ">
+        <reference id="1188208074048" name="annotation" index="2AI5Lk" />
+      </concept>
+      <concept id="1188208481402" name="jetbrains.mps.baseLanguage.structure.HasAnnotation" flags="ng" index="2AJDlI">
+        <child id="1188208488637" name="annotation" index="2AJF6D" />
+      </concept>
+      <concept id="1188220165133" name="jetbrains.mps.baseLanguage.structure.ArrayLiteral" flags="nn" index="2BsdOp">
+        <child id="1188220173759" name="item" index="2BsfMF" />
+      </concept>
+      <concept id="1095950406618" name="jetbrains.mps.baseLanguage.structure.DivExpression" flags="nn" index="FJ1c_" />
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1177666668936" name="jetbrains.mps.baseLanguage.structure.DoWhileStatement" flags="nn" index="MpOyq">
+        <child id="1177666688034" name="condition" index="MpTkK" />
+      </concept>
+      <concept id="1251851371723515367" name="jetbrains.mps.baseLanguage.structure.ArrayClassExpression" flags="nn" index="2MthRn">
+        <child id="1251851371723515368" name="arrayType" index="2MthRo" />
+      </concept>
+      <concept id="1197027756228" name="jetbrains.mps.baseLanguage.structure.DotExpression" flags="nn" index="2OqwBi">
+        <child id="1197027771414" name="operand" index="2Oq$k0" />
+        <child id="1197027833540" name="operation" index="2OqNvi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1083260308424" name="jetbrains.mps.baseLanguage.structure.EnumConstantReference" flags="nn" index="Rm8GO">
+        <reference id="1083260308426" name="enumConstantDeclaration" index="Rm8GQ" />
+        <reference id="1144432896254" name="enumClass" index="1Px2BO" />
+      </concept>
+      <concept id="1145552977093" name="jetbrains.mps.baseLanguage.structure.GenericNewExpression" flags="nn" index="2ShNRf">
+        <child id="1145553007750" name="creator" index="2ShVmc" />
+      </concept>
+      <concept id="1070462154015" name="jetbrains.mps.baseLanguage.structure.StaticFieldDeclaration" flags="ig" index="Wx3nA" />
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070475587102" name="jetbrains.mps.baseLanguage.structure.SuperConstructorInvocation" flags="nn" index="XkiVB" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="4952749571008284462" name="jetbrains.mps.baseLanguage.structure.CatchVariable" flags="ng" index="XOnhg" />
+      <concept id="1182160077978" name="jetbrains.mps.baseLanguage.structure.AnonymousClassCreator" flags="nn" index="YeOm9">
+        <child id="1182160096073" name="cls" index="YeSDq" />
+      </concept>
+      <concept id="1081236700938" name="jetbrains.mps.baseLanguage.structure.StaticMethodDeclaration" flags="ig" index="2YIFZL" />
+      <concept id="1081236700937" name="jetbrains.mps.baseLanguage.structure.StaticMethodCall" flags="nn" index="2YIFZM">
+        <reference id="1144433194310" name="classConcept" index="1Pybhc" />
+      </concept>
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070533982221" name="jetbrains.mps.baseLanguage.structure.ShortType" flags="in" index="10N3zO" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534555686" name="jetbrains.mps.baseLanguage.structure.CharType" flags="in" index="10Pfzv" />
+      <concept id="1070534604311" name="jetbrains.mps.baseLanguage.structure.ByteType" flags="in" index="10PrrI" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg">
+        <property id="8606350594693632173" name="isTransient" index="eg7rD" />
+      </concept>
+      <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
+        <property id="1075300953594" name="abstractClass" index="1sVAO0" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
+        <child id="1165602531693" name="superclass" index="1zkMxy" />
+      </concept>
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <property id="1176718929932" name="isFinal" index="3TUv4t" />
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1068498886296" name="jetbrains.mps.baseLanguage.structure.VariableReference" flags="nn" index="37vLTw">
+        <reference id="1068581517664" name="variableDeclaration" index="3cqZAo" />
+      </concept>
+      <concept id="1068498886292" name="jetbrains.mps.baseLanguage.structure.ParameterDeclaration" flags="ir" index="37vLTG" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1225271221393" name="jetbrains.mps.baseLanguage.structure.NPENotEqualsExpression" flags="nn" index="17QLQc" />
+      <concept id="4972933694980447171" name="jetbrains.mps.baseLanguage.structure.BaseVariableDeclaration" flags="ng" index="19Szcq">
+        <child id="5680397130376446158" name="type" index="1tU5fm" />
+      </concept>
+      <concept id="1068580123132" name="jetbrains.mps.baseLanguage.structure.BaseMethodDeclaration" flags="ng" index="3clF44">
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
+        <property id="1181808852946" name="isFinal" index="DiZV1" />
+        <child id="1164879685961" name="throwsItem" index="Sfmx6" />
+        <child id="1068580123133" name="returnType" index="3clF45" />
+        <child id="1068580123134" name="parameter" index="3clF46" />
+        <child id="1068580123135" name="body" index="3clF47" />
+      </concept>
+      <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
+        <child id="1068580123156" name="expression" index="3clFbG" />
+      </concept>
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+      </concept>
+      <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
+        <child id="1068581517665" name="statement" index="3cqZAp" />
+      </concept>
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1154542696413" name="jetbrains.mps.baseLanguage.structure.ArrayCreatorWithInitializer" flags="nn" index="3g6Rrh">
+        <child id="1154542793668" name="componentType" index="3g7fb8" />
+        <child id="1154542803372" name="initValue" index="3g7hyw" />
+      </concept>
+      <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
+        <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
+        <child id="1068499141038" name="actualArgument" index="37wK5m" />
+      </concept>
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1107461130800" name="jetbrains.mps.baseLanguage.structure.Classifier" flags="ng" index="3pOWGL">
+        <property id="521412098689998745" name="nonStatic" index="2bfB8j" />
+        <property id="2791683072064593257" name="packageName" index="2HnT6v" />
+        <child id="5375687026011219971" name="member" index="jymVt" unordered="true" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
+        <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
+        <child id="8276990574895933173" name="catchBody" index="1zc67A" />
+        <child id="8276990574895933172" name="throwable" index="1zc67B" />
+      </concept>
+      <concept id="7024111702304501414" name="jetbrains.mps.baseLanguage.structure.RemAssignmentExpression" flags="nn" index="3vZ8r6" />
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="7024111702304501420" name="jetbrains.mps.baseLanguage.structure.XorAssignmentExpression" flags="nn" index="3vZ8rc" />
+      <concept id="8276990574909231788" name="jetbrains.mps.baseLanguage.structure.FinallyClause" flags="ng" index="1wplmZ">
+        <child id="8276990574909234106" name="finallyBody" index="1wplMD" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1178549954367" name="jetbrains.mps.baseLanguage.structure.IVisible" flags="ng" index="1B3ioH">
+        <child id="1178549979242" name="visibility" index="1B3o_S" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1225892319711" name="jetbrains.mps.baseLanguage.structure.ShiftRightExpression" flags="nn" index="1GS532" />
+      <concept id="1107796713796" name="jetbrains.mps.baseLanguage.structure.Interface" flags="ig" index="3HP615" />
+      <concept id="5351203823916832286" name="jetbrains.mps.baseLanguage.structure.ResourceVariable" flags="ng" index="3J1hQo" />
+      <concept id="5351203823916750322" name="jetbrains.mps.baseLanguage.structure.TryUniversalStatement" flags="nn" index="3J1_TO">
+        <child id="8276990574886367510" name="catchClause" index="1zxBo5" />
+        <child id="8276990574886367509" name="finallyClause" index="1zxBo6" />
+        <child id="8276990574886367508" name="body" index="1zxBo7" />
+        <child id="5351203823916750334" name="resource" index="3J1_TS" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1163670490218" name="jetbrains.mps.baseLanguage.structure.SwitchStatement" flags="nn" index="3KaCP$">
+        <child id="1163670592366" name="defaultBlock" index="3Kb1Dw" />
+        <child id="1163670766145" name="expression" index="3KbGdf" />
+        <child id="1163670772911" name="case" index="3KbHQx" />
+      </concept>
+      <concept id="1163670641947" name="jetbrains.mps.baseLanguage.structure.SwitchCase" flags="ng" index="3KbdKl">
+        <child id="1163670677455" name="expression" index="3Kbmr1" />
+        <child id="1163670683720" name="body" index="3Kbo56" />
+      </concept>
+      <concept id="1082113931046" name="jetbrains.mps.baseLanguage.structure.ContinueStatement" flags="nn" index="3N13vt" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="6329021646629104954" name="jetbrains.mps.baseLanguage.structure.SingleLineComment" flags="nn" index="3SKdUt">
+        <child id="8356039341262087992" name="line" index="1aUNEU" />
+      </concept>
+      <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1146644641414" name="jetbrains.mps.baseLanguage.structure.ProtectedVisibility" flags="nn" index="3Tmbuc" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1178893518978" name="jetbrains.mps.baseLanguage.structure.ThisConstructorInvocation" flags="nn" index="1VxSAg" />
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1200397529627" name="jetbrains.mps.baseLanguage.structure.CharConstant" flags="nn" index="1Xhbcc">
+        <property id="1200397540847" name="charConstant" index="1XhdNS" />
+      </concept>
+      <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
+        <reference id="1170346070688" name="classifier" index="1Y3XeK" />
+      </concept>
+      <concept id="320030840061144153" name="jetbrains.mps.baseLanguage.structure.ShiftRightUnsignedExpression" flags="nn" index="1ZsPo3" />
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+    </language>
+    <language id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc">
+      <concept id="6832197706140896242" name="jetbrains.mps.baseLanguage.javadoc.structure.FieldDocComment" flags="ng" index="z59LJ" />
+      <concept id="5349172909345501395" name="jetbrains.mps.baseLanguage.javadoc.structure.BaseDocComment" flags="ng" index="P$AiS">
+        <child id="8465538089690331502" name="body" index="TZ5H$" />
+      </concept>
+      <concept id="5349172909345532724" name="jetbrains.mps.baseLanguage.javadoc.structure.MethodDocComment" flags="ng" index="P$JXv" />
+      <concept id="8465538089690331500" name="jetbrains.mps.baseLanguage.javadoc.structure.CommentLine" flags="ng" index="TZ5HA">
+        <child id="8970989240999019149" name="part" index="1dT_Ay" />
+      </concept>
+      <concept id="8970989240999019143" name="jetbrains.mps.baseLanguage.javadoc.structure.TextCommentLinePart" flags="ng" index="1dT_AC">
+        <property id="8970989240999019144" name="text" index="1dT_AB" />
+      </concept>
+      <concept id="2068944020170241612" name="jetbrains.mps.baseLanguage.javadoc.structure.ClassifierDocComment" flags="ng" index="3UR2Jj" />
+    </language>
+    <language id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL">
+      <concept id="4157980839829753419" name="apiSL.structure.BaseGuardReference" flags="ng" index="5mHf0">
+        <reference id="4157980839829753430" name="guard" index="5mHft" />
+      </concept>
+      <concept id="7118418329240799211" name="apiSL.structure.Requirement" flags="ng" index="7NFgE">
+        <property id="7118418329241450733" name="errorMessage" index="7QkGG" />
+      </concept>
+      <concept id="7118418329240799212" name="apiSL.structure.ExpressionRequirement" flags="ng" index="7NFgH">
+        <child id="7118418329240799213" name="expression" index="7NFgG" />
+      </concept>
+      <concept id="3241732874153801560" name="apiSL.structure.LocalGuardReference" flags="ng" index="28m4m7" />
+      <concept id="3241732874153801933" name="apiSL.structure.ChangesGuard" flags="ng" index="28m4Ci">
+        <property id="3241732874153801936" name="newValue" index="28m4Cf" />
+        <child id="3241732874153801934" name="guard" index="28m4Ch" />
+      </concept>
+      <concept id="3241732874153801927" name="apiSL.structure.WhenReturns" flags="ng" index="28m4Co" />
+      <concept id="3241732874153801925" name="apiSL.structure.Consequence" flags="ng" index="28m4Cq">
+        <child id="3241732874153801930" name="when" index="28m4Cl" />
+        <child id="5424624459614105666" name="then" index="38updQ" />
+      </concept>
+      <concept id="3241732874153771441" name="apiSL.structure.GuardDeclaration" flags="ng" index="28mbdI" />
+      <concept id="2468280109721306674" name="apiSL.structure.IVerifiedMethod" flags="ng" index="28md6s">
+        <child id="2468280109721307641" name="requirements" index="28mdTn" />
+        <child id="5424624459614123890" name="consequences" index="38uth6" />
+      </concept>
+      <concept id="2468280109721450436" name="apiSL.structure.StaticVerifiedMethod" flags="ig" index="28mI1E" />
+      <concept id="5752318980938883239" name="apiSL.structure.MetaVariableDeclaration" flags="ng" index="2qjjs5">
+        <child id="6976864374266609290" name="type" index="2iVZe$" />
+        <child id="1709424164472981217" name="defaultValue" index="1Em9Vp" />
+      </concept>
+      <concept id="2316402386142492908" name="apiSL.structure.VerifiedClass" flags="ig" index="2ALBHu" />
+      <concept id="2316402386142877834" name="apiSL.structure.VerifiedMethod" flags="ig" index="2AN5GS" />
+      <concept id="4506385826706830357" name="apiSL.structure.ExpandoDeclaration" flags="ng" index="2FfH8t">
+        <child id="4506385826706840328" name="variables" index="2FfFO0" />
+        <child id="4506385826706830723" name="for" index="2FfHeb" />
+      </concept>
+      <concept id="4506385826706830831" name="apiSL.structure.ExpandoVariable" flags="ng" index="2FfHfB">
+        <child id="4506385826706830935" name="type" index="2FfH1v" />
+        <child id="4506385826706831876" name="defaultValue" index="2FfHKc" />
+      </concept>
+      <concept id="4506385826708734742" name="apiSL.structure.ExpandoReference" flags="ng" index="2Fnqku">
+        <reference id="4506385826708734906" name="variable" index="2FnqmM" />
+        <reference id="4506385826708734900" name="expando" index="2FnqmW" />
+        <child id="4506385826710993030" name="receiver" index="2FvPUe" />
+      </concept>
+      <concept id="2315365102418887260" name="apiSL.structure.SetsExpandoState" flags="ng" index="R8_on">
+        <child id="2315365102418888235" name="value" index="R8_9w" />
+        <child id="2315365102418888233" name="reference" index="R8_9y" />
+      </concept>
+      <concept id="2315365102419473356" name="apiSL.structure.ReturnValue" flags="ng" index="Rbqu7" />
+      <concept id="7921791665431015203" name="apiSL.structure.MetaVariableReference" flags="ng" index="RhriJ">
+        <reference id="7921791665431015204" name="variable" index="RhriC" />
+      </concept>
+      <concept id="8555217082947640889" name="apiSL.structure.VerifiedConstructor" flags="ig" index="1NMaa_" />
+    </language>
+    <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
+      <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
+        <property id="1193676396447" name="virtualPackage" index="3GE5qa" />
+        <child id="5169995583184591170" name="smodelAttribute" index="lGtFl" />
+      </concept>
+      <concept id="1169194658468" name="jetbrains.mps.lang.core.structure.INamedConcept" flags="ng" index="TrEIO">
+        <property id="1169194664001" name="name" index="TrG5h" />
+      </concept>
+    </language>
+    <language id="c7fb639f-be78-4307-89b0-b5959c3fa8c8" name="jetbrains.mps.lang.text">
+      <concept id="155656958578482948" name="jetbrains.mps.lang.text.structure.Word" flags="nn" index="3oM_SD">
+        <property id="155656958578482949" name="value" index="3oM_SC" />
+      </concept>
+      <concept id="2535923850359271782" name="jetbrains.mps.lang.text.structure.Line" flags="nn" index="1PaTwC">
+        <child id="2535923850359271783" name="elements" index="1PaTwD" />
+      </concept>
+    </language>
+  </registry>
+  <node concept="2ALBHu" id="7qUf9K5qhDa">
+    <property role="2bfB8j" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.crypto.engines" />
+    <property role="TrG5h" value="DESEngine" />
+    <node concept="3Tm1VV" id="7qUf9K5qhDb" role="1B3o_S" />
+    <node concept="Wx3nA" id="7qUf9K5pBjk" role="jymVt">
+      <property role="TrG5h" value="BLOCK_SIZE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Oyi0" id="7qUf9K5pBjl" role="1tU5fm" />
+      <node concept="3cmrfG" id="7qUf9K5pBjm" role="33vP2m">
+        <property role="3cmrfH" value="8" />
+      </node>
+      <node concept="3Tmbuc" id="7qUf9K5pBjn" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="7qUf9K5pBjo" role="jymVt">
+      <property role="TrG5h" value="workingKey" />
+      <node concept="10Q1$e" id="7qUf9K5pBjr" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBjq" role="10Q1$1" />
+      </node>
+      <node concept="10Nm6u" id="7qUf9K5pBjs" role="33vP2m" />
+      <node concept="3Tm6S6" id="7qUf9K5pBjt" role="1B3o_S" />
+    </node>
+    <node concept="2qjjs5" id="7qUf9K5vpMz" role="jymVt">
+      <property role="TrG5h" value="desAllowed" />
+      <node concept="10P_77" id="7qUf9K5vqHm" role="2iVZe$" />
+      <node concept="3clFbT" id="7qUf9K5vr9k" role="1Em9Vp" />
+    </node>
+    <node concept="2tJIrI" id="7qUf9K5vnJH" role="jymVt" />
+    <node concept="1NMaa_" id="7qUf9K5vmOc" role="jymVt">
+      <node concept="3cqZAl" id="7qUf9K5vmOe" role="3clF45" />
+      <node concept="3Tm1VV" id="7qUf9K5vmOf" role="1B3o_S" />
+      <node concept="3clFbS" id="7qUf9K5vmOg" role="3clF47" />
+      <node concept="7NFgH" id="7qUf9K5vrsq" role="28mdTn">
+        <property role="7QkGG" value="DES is considered insecure and should not be used!" />
+        <node concept="RhriJ" id="7qUf9K5vr$l" role="7NFgG">
+          <ref role="RhriC" node="7qUf9K5vpMz" resolve="desAllowed" />
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBuX" role="jymVt">
+      <property role="TrG5h" value="init" />
+      <node concept="37vLTG" id="7qUf9K5pBuY" role="3clF46">
+        <property role="TrG5h" value="encrypting" />
+        <node concept="10P_77" id="7qUf9K5pBuZ" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBv0" role="3clF46">
+        <property role="TrG5h" value="params" />
+        <node concept="3uibUv" id="7qUf9K5pBv1" role="1tU5fm">
+          <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="7qUf9K5pBv2" role="3clF47">
+        <node concept="3clFbJ" id="7qUf9K5pBv3" role="3cqZAp">
+          <node concept="2ZW3vV" id="7qUf9K5pBv6" role="3clFbw">
+            <node concept="37vLTw" id="7qUf9K5pBv4" role="2ZW6bz">
+              <ref role="3cqZAo" node="7qUf9K5pBv0" resolve="params" />
+            </node>
+            <node concept="3uibUv" id="7qUf9K5pBv5" role="2ZW6by">
+              <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBv8" role="3clFbx">
+            <node concept="3clFbJ" id="7qUf9K5pBv9" role="3cqZAp">
+              <node concept="3eOSWO" id="7qUf9K5pBva" role="3clFbw">
+                <node concept="2OqwBi" id="7qUf9K5pBvb" role="3uHU7B">
+                  <node concept="2OqwBi" id="7qUf9K5pBvc" role="2Oq$k0">
+                    <node concept="1eOMI4" id="7qUf9K5pBvg" role="2Oq$k0">
+                      <node concept="10QFUN" id="7qUf9K5pBvd" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBve" role="10QFUP">
+                          <ref role="3cqZAo" node="7qUf9K5pBv0" resolve="params" />
+                        </node>
+                        <node concept="3uibUv" id="7qUf9K5pBvf" role="10QFUM">
+                          <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="liA8E" id="7qUf9K5pBvh" role="2OqNvi">
+                      <ref role="37wK5l" to="25z7:~KeyParameter.getKey()" resolve="getKey" />
+                    </node>
+                  </node>
+                  <node concept="1Rwk04" id="7qUf9K5pDiU" role="2OqNvi" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBvj" role="3uHU7w">
+                  <property role="3cmrfH" value="8" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="7qUf9K5pBvl" role="3clFbx">
+                <node concept="YS8fn" id="7qUf9K5pBvo" role="3cqZAp">
+                  <node concept="2ShNRf" id="7qUf9K5pG$W" role="YScLw">
+                    <node concept="1pGfFk" id="7qUf9K5pGDp" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~IllegalArgumentException.&lt;init&gt;(java.lang.String)" resolve="IllegalArgumentException" />
+                      <node concept="Xl_RD" id="7qUf9K5pGDq" role="37wK5m">
+                        <property role="Xl_RC" value="DES key too long - should be 8 bytes" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBvp" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBvq" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBvr" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBjo" resolve="workingKey" />
+                </node>
+                <node concept="1rXfSq" id="7qUf9K5pBvs" role="37vLTx">
+                  <ref role="37wK5l" node="7qUf9K5pBwR" resolve="generateWorkingKey" />
+                  <node concept="37vLTw" id="7qUf9K5pBvt" role="37wK5m">
+                    <ref role="3cqZAo" node="7qUf9K5pBuY" resolve="encrypting" />
+                  </node>
+                  <node concept="2OqwBi" id="7qUf9K5pBvu" role="37wK5m">
+                    <node concept="1eOMI4" id="7qUf9K5pBvy" role="2Oq$k0">
+                      <node concept="10QFUN" id="7qUf9K5pBvv" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBvw" role="10QFUP">
+                          <ref role="3cqZAo" node="7qUf9K5pBv0" resolve="params" />
+                        </node>
+                        <node concept="3uibUv" id="7qUf9K5pBvx" role="10QFUM">
+                          <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="liA8E" id="7qUf9K5pBvz" role="2OqNvi">
+                      <ref role="37wK5l" to="25z7:~KeyParameter.getKey()" resolve="getKey" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs6" id="7qUf9K5pBv$" role="3cqZAp" />
+          </node>
+        </node>
+        <node concept="YS8fn" id="7qUf9K5pBvF" role="3cqZAp">
+          <node concept="2ShNRf" id="7qUf9K5pGDI" role="YScLw">
+            <node concept="1pGfFk" id="7qUf9K5pGEa" role="2ShVmc">
+              <ref role="37wK5l" to="wyt6:~IllegalArgumentException.&lt;init&gt;(java.lang.String)" resolve="IllegalArgumentException" />
+              <node concept="3cpWs3" id="7qUf9K5pGEb" role="37wK5m">
+                <node concept="Xl_RD" id="7qUf9K5pGEc" role="3uHU7B">
+                  <property role="Xl_RC" value="invalid parameter passed to DES init - " />
+                </node>
+                <node concept="2OqwBi" id="7qUf9K5pKMw" role="3uHU7w">
+                  <node concept="2OqwBi" id="7qUf9K5pH$S" role="2Oq$k0">
+                    <node concept="37vLTw" id="7qUf9K5pH$R" role="2Oq$k0">
+                      <ref role="3cqZAo" node="7qUf9K5pBv0" resolve="params" />
+                    </node>
+                    <node concept="liA8E" id="7qUf9K5pH$T" role="2OqNvi">
+                      <ref role="37wK5l" to="wyt6:~Object.getClass()" resolve="getClass" />
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="7qUf9K5pLmU" role="2OqNvi">
+                    <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="7qUf9K5pBvG" role="1B3o_S" />
+      <node concept="3cqZAl" id="7qUf9K5pBvH" role="3clF45" />
+      <node concept="P$JXv" id="7qUf9K5pBvI" role="lGtFl">
+        <node concept="TZ5HA" id="7qUf9K5pBK3" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBK4" role="1dT_Ay">
+            <property role="1dT_AB" value=" initialise a DES cipher." />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBK5" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBK6" role="1dT_Ay">
+            <property role="1dT_AB" value="" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBK7" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBK8" role="1dT_Ay">
+            <property role="1dT_AB" value=" @param encrypting whether or not we are for encryption." />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBK9" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKa" role="1dT_Ay">
+            <property role="1dT_AB" value=" @param params the parameters required to set up the cipher." />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKb" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKc" role="1dT_Ay">
+            <property role="1dT_AB" value=" @exception IllegalArgumentException if the params argument is" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKd" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKe" role="1dT_Ay">
+            <property role="1dT_AB" value=" inappropriate." />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBvJ" role="jymVt">
+      <property role="TrG5h" value="getAlgorithmName" />
+      <node concept="3clFbS" id="7qUf9K5pBvK" role="3clF47">
+        <node concept="3cpWs6" id="7qUf9K5pBvL" role="3cqZAp">
+          <node concept="Xl_RD" id="7qUf9K5pBvM" role="3cqZAk">
+            <property role="Xl_RC" value="DES" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="7qUf9K5pBvN" role="1B3o_S" />
+      <node concept="3uibUv" id="7qUf9K5pBvO" role="3clF45">
+        <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBvP" role="jymVt">
+      <property role="TrG5h" value="getBlockSize" />
+      <node concept="3clFbS" id="7qUf9K5pBvQ" role="3clF47">
+        <node concept="3cpWs6" id="7qUf9K5pBvR" role="3cqZAp">
+          <node concept="37vLTw" id="7qUf9K5pBvS" role="3cqZAk">
+            <ref role="3cqZAo" node="7qUf9K5pBjk" resolve="BLOCK_SIZE" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="7qUf9K5pBvT" role="1B3o_S" />
+      <node concept="10Oyi0" id="7qUf9K5pBvU" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBvV" role="jymVt">
+      <property role="TrG5h" value="processBlock" />
+      <node concept="37vLTG" id="7qUf9K5pBvW" role="3clF46">
+        <property role="TrG5h" value="in" />
+        <node concept="10Q1$e" id="7qUf9K5pBvY" role="1tU5fm">
+          <node concept="10PrrI" id="7qUf9K5pBvX" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBvZ" role="3clF46">
+        <property role="TrG5h" value="inOff" />
+        <node concept="10Oyi0" id="7qUf9K5pBw0" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBw1" role="3clF46">
+        <property role="TrG5h" value="out" />
+        <node concept="10Q1$e" id="7qUf9K5pBw3" role="1tU5fm">
+          <node concept="10PrrI" id="7qUf9K5pBw2" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBw4" role="3clF46">
+        <property role="TrG5h" value="outOff" />
+        <node concept="10Oyi0" id="7qUf9K5pBw5" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="7qUf9K5pBw6" role="3clF47">
+        <node concept="3clFbJ" id="7qUf9K5pBw7" role="3cqZAp">
+          <node concept="3clFbC" id="7qUf9K5pBw8" role="3clFbw">
+            <node concept="37vLTw" id="7qUf9K5pBw9" role="3uHU7B">
+              <ref role="3cqZAo" node="7qUf9K5pBjo" resolve="workingKey" />
+            </node>
+            <node concept="10Nm6u" id="7qUf9K5pBwa" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBwc" role="3clFbx">
+            <node concept="YS8fn" id="7qUf9K5pBwf" role="3cqZAp">
+              <node concept="2ShNRf" id="7qUf9K5pGG8" role="YScLw">
+                <node concept="1pGfFk" id="7qUf9K5pGGn" role="2ShVmc">
+                  <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
+                  <node concept="Xl_RD" id="7qUf9K5pGGo" role="37wK5m">
+                    <property role="Xl_RC" value="DES engine not initialised" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="7qUf9K5pBwg" role="3cqZAp">
+          <node concept="3eOSWO" id="7qUf9K5pBwh" role="3clFbw">
+            <node concept="1eOMI4" id="7qUf9K5pBwl" role="3uHU7B">
+              <node concept="3cpWs3" id="7qUf9K5pBwi" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBwj" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBvZ" resolve="inOff" />
+                </node>
+                <node concept="37vLTw" id="7qUf9K5pBwk" role="3uHU7w">
+                  <ref role="3cqZAo" node="7qUf9K5pBjk" resolve="BLOCK_SIZE" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="7qUf9K5pGzc" role="3uHU7w">
+              <node concept="37vLTw" id="7qUf9K5pGzb" role="2Oq$k0">
+                <ref role="3cqZAo" node="7qUf9K5pBvW" resolve="in" />
+              </node>
+              <node concept="1Rwk04" id="7qUf9K5pIvj" role="2OqNvi" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBwo" role="3clFbx">
+            <node concept="YS8fn" id="7qUf9K5pBwr" role="3cqZAp">
+              <node concept="2ShNRf" id="7qUf9K5pGFS" role="YScLw">
+                <node concept="1pGfFk" id="7qUf9K5pGG3" role="2ShVmc">
+                  <ref role="37wK5l" to="6y4x:~DataLengthException.&lt;init&gt;(java.lang.String)" resolve="DataLengthException" />
+                  <node concept="Xl_RD" id="7qUf9K5pGG4" role="37wK5m">
+                    <property role="Xl_RC" value="input buffer too short" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="7qUf9K5pBws" role="3cqZAp">
+          <node concept="3eOSWO" id="7qUf9K5pBwt" role="3clFbw">
+            <node concept="1eOMI4" id="7qUf9K5pBwx" role="3uHU7B">
+              <node concept="3cpWs3" id="7qUf9K5pBwu" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBwv" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBw4" resolve="outOff" />
+                </node>
+                <node concept="37vLTw" id="7qUf9K5pBww" role="3uHU7w">
+                  <ref role="3cqZAo" node="7qUf9K5pBjk" resolve="BLOCK_SIZE" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="7qUf9K5pGEy" role="3uHU7w">
+              <node concept="37vLTw" id="7qUf9K5pGEx" role="2Oq$k0">
+                <ref role="3cqZAo" node="7qUf9K5pBw1" resolve="out" />
+              </node>
+              <node concept="1Rwk04" id="7qUf9K5pIvk" role="2OqNvi" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBw$" role="3clFbx">
+            <node concept="YS8fn" id="7qUf9K5pBwB" role="3cqZAp">
+              <node concept="2ShNRf" id="7qUf9K5pGDu" role="YScLw">
+                <node concept="1pGfFk" id="7qUf9K5pGDD" role="2ShVmc">
+                  <ref role="37wK5l" to="6y4x:~OutputLengthException.&lt;init&gt;(java.lang.String)" resolve="OutputLengthException" />
+                  <node concept="Xl_RD" id="7qUf9K5pGDE" role="37wK5m">
+                    <property role="Xl_RC" value="output buffer too short" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBwC" role="3cqZAp">
+          <node concept="1rXfSq" id="7qUf9K5pBwD" role="3clFbG">
+            <ref role="37wK5l" node="7qUf9K5pBAR" resolve="desFunc" />
+            <node concept="37vLTw" id="7qUf9K5pBwE" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBjo" resolve="workingKey" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBwF" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBvW" resolve="in" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBwG" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBvZ" resolve="inOff" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBwH" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBw1" resolve="out" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBwI" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBw4" resolve="outOff" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="7qUf9K5pBwJ" role="3cqZAp">
+          <node concept="37vLTw" id="7qUf9K5pBwK" role="3cqZAk">
+            <ref role="3cqZAo" node="7qUf9K5pBjk" resolve="BLOCK_SIZE" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="7qUf9K5pBwL" role="1B3o_S" />
+      <node concept="10Oyi0" id="7qUf9K5pBwM" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBwN" role="jymVt">
+      <property role="TrG5h" value="reset" />
+      <node concept="3clFbS" id="7qUf9K5pBwO" role="3clF47" />
+      <node concept="3Tm1VV" id="7qUf9K5pBwP" role="1B3o_S" />
+      <node concept="3cqZAl" id="7qUf9K5pBwQ" role="3clF45" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBju" role="jymVt">
+      <property role="TrG5h" value="bytebit" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBjw" role="1tU5fm">
+        <node concept="10N3zO" id="7qUf9K5pBjv" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBjD" role="33vP2m">
+        <node concept="3cmrfG" id="7qUf9K5pBjx" role="2BsfMF">
+          <property role="3cmrfH" value="128" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBjy" role="2BsfMF">
+          <property role="3cmrfH" value="64" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBjz" role="2BsfMF">
+          <property role="3cmrfH" value="32" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBj$" role="2BsfMF">
+          <property role="3cmrfH" value="16" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBj_" role="2BsfMF">
+          <property role="3cmrfH" value="8" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBjA" role="2BsfMF">
+          <property role="3cmrfH" value="4" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBjB" role="2BsfMF">
+          <property role="3cmrfH" value="2" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBjC" role="2BsfMF">
+          <property role="3cmrfH" value="1" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBjE" role="1B3o_S" />
+      <node concept="z59LJ" id="7qUf9K5pBjF" role="lGtFl">
+        <node concept="TZ5HA" id="7qUf9K5pBKf" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKg" role="1dT_Ay">
+            <property role="1dT_AB" value="what follows is mainly taken from &quot;Applied Cryptography&quot;, by" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKh" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKi" role="1dT_Ay">
+            <property role="1dT_AB" value="Bruce Schneier, however it also bears great resemblance to Richard" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKj" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKk" role="1dT_Ay">
+            <property role="1dT_AB" value="Outerbridge's D3DES..." />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBjG" role="jymVt">
+      <property role="TrG5h" value="bigbyte" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBjI" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBjH" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBk7" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBjJ" role="2BsfMF">
+          <property role="2noCCI" value="800000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjK" role="2BsfMF">
+          <property role="2noCCI" value="400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjL" role="2BsfMF">
+          <property role="2noCCI" value="200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjM" role="2BsfMF">
+          <property role="2noCCI" value="100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjN" role="2BsfMF">
+          <property role="2noCCI" value="80000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjO" role="2BsfMF">
+          <property role="2noCCI" value="40000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjP" role="2BsfMF">
+          <property role="2noCCI" value="20000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjQ" role="2BsfMF">
+          <property role="2noCCI" value="10000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjR" role="2BsfMF">
+          <property role="2noCCI" value="8000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjS" role="2BsfMF">
+          <property role="2noCCI" value="4000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjT" role="2BsfMF">
+          <property role="2noCCI" value="2000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjU" role="2BsfMF">
+          <property role="2noCCI" value="1000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjV" role="2BsfMF">
+          <property role="2noCCI" value="800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjW" role="2BsfMF">
+          <property role="2noCCI" value="400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjX" role="2BsfMF">
+          <property role="2noCCI" value="200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjY" role="2BsfMF">
+          <property role="2noCCI" value="100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBjZ" role="2BsfMF">
+          <property role="2noCCI" value="80" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk0" role="2BsfMF">
+          <property role="2noCCI" value="40" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk1" role="2BsfMF">
+          <property role="2noCCI" value="20" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk2" role="2BsfMF">
+          <property role="2noCCI" value="10" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk3" role="2BsfMF">
+          <property role="2noCCI" value="8" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk4" role="2BsfMF">
+          <property role="2noCCI" value="4" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk5" role="2BsfMF">
+          <property role="2noCCI" value="2" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBk6" role="2BsfMF">
+          <property role="2noCCI" value="1" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBk8" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBk9" role="jymVt">
+      <property role="TrG5h" value="pc1" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBkb" role="1tU5fm">
+        <node concept="10PrrI" id="7qUf9K5pBka" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBl4" role="33vP2m">
+        <node concept="3cmrfG" id="7qUf9K5pBkc" role="2BsfMF">
+          <property role="3cmrfH" value="56" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkd" role="2BsfMF">
+          <property role="3cmrfH" value="48" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBke" role="2BsfMF">
+          <property role="3cmrfH" value="40" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkf" role="2BsfMF">
+          <property role="3cmrfH" value="32" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkg" role="2BsfMF">
+          <property role="3cmrfH" value="24" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkh" role="2BsfMF">
+          <property role="3cmrfH" value="16" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBki" role="2BsfMF">
+          <property role="3cmrfH" value="8" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkj" role="2BsfMF">
+          <property role="3cmrfH" value="0" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkk" role="2BsfMF">
+          <property role="3cmrfH" value="57" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkl" role="2BsfMF">
+          <property role="3cmrfH" value="49" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkm" role="2BsfMF">
+          <property role="3cmrfH" value="41" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkn" role="2BsfMF">
+          <property role="3cmrfH" value="33" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBko" role="2BsfMF">
+          <property role="3cmrfH" value="25" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkp" role="2BsfMF">
+          <property role="3cmrfH" value="17" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkq" role="2BsfMF">
+          <property role="3cmrfH" value="9" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkr" role="2BsfMF">
+          <property role="3cmrfH" value="1" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBks" role="2BsfMF">
+          <property role="3cmrfH" value="58" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkt" role="2BsfMF">
+          <property role="3cmrfH" value="50" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBku" role="2BsfMF">
+          <property role="3cmrfH" value="42" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkv" role="2BsfMF">
+          <property role="3cmrfH" value="34" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkw" role="2BsfMF">
+          <property role="3cmrfH" value="26" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkx" role="2BsfMF">
+          <property role="3cmrfH" value="18" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBky" role="2BsfMF">
+          <property role="3cmrfH" value="10" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkz" role="2BsfMF">
+          <property role="3cmrfH" value="2" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBk$" role="2BsfMF">
+          <property role="3cmrfH" value="59" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBk_" role="2BsfMF">
+          <property role="3cmrfH" value="51" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkA" role="2BsfMF">
+          <property role="3cmrfH" value="43" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkB" role="2BsfMF">
+          <property role="3cmrfH" value="35" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkC" role="2BsfMF">
+          <property role="3cmrfH" value="62" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkD" role="2BsfMF">
+          <property role="3cmrfH" value="54" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkE" role="2BsfMF">
+          <property role="3cmrfH" value="46" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkF" role="2BsfMF">
+          <property role="3cmrfH" value="38" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkG" role="2BsfMF">
+          <property role="3cmrfH" value="30" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkH" role="2BsfMF">
+          <property role="3cmrfH" value="22" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkI" role="2BsfMF">
+          <property role="3cmrfH" value="14" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkJ" role="2BsfMF">
+          <property role="3cmrfH" value="6" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkK" role="2BsfMF">
+          <property role="3cmrfH" value="61" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkL" role="2BsfMF">
+          <property role="3cmrfH" value="53" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkM" role="2BsfMF">
+          <property role="3cmrfH" value="45" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkN" role="2BsfMF">
+          <property role="3cmrfH" value="37" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkO" role="2BsfMF">
+          <property role="3cmrfH" value="29" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkP" role="2BsfMF">
+          <property role="3cmrfH" value="21" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkQ" role="2BsfMF">
+          <property role="3cmrfH" value="13" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkR" role="2BsfMF">
+          <property role="3cmrfH" value="5" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkS" role="2BsfMF">
+          <property role="3cmrfH" value="60" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkT" role="2BsfMF">
+          <property role="3cmrfH" value="52" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkU" role="2BsfMF">
+          <property role="3cmrfH" value="44" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkV" role="2BsfMF">
+          <property role="3cmrfH" value="36" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkW" role="2BsfMF">
+          <property role="3cmrfH" value="28" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkX" role="2BsfMF">
+          <property role="3cmrfH" value="20" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkY" role="2BsfMF">
+          <property role="3cmrfH" value="12" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBkZ" role="2BsfMF">
+          <property role="3cmrfH" value="4" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl0" role="2BsfMF">
+          <property role="3cmrfH" value="27" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl1" role="2BsfMF">
+          <property role="3cmrfH" value="19" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl2" role="2BsfMF">
+          <property role="3cmrfH" value="11" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl3" role="2BsfMF">
+          <property role="3cmrfH" value="3" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBl5" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBl6" role="jymVt">
+      <property role="TrG5h" value="totrot" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBl8" role="1tU5fm">
+        <node concept="10PrrI" id="7qUf9K5pBl7" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBlp" role="33vP2m">
+        <node concept="3cmrfG" id="7qUf9K5pBl9" role="2BsfMF">
+          <property role="3cmrfH" value="1" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBla" role="2BsfMF">
+          <property role="3cmrfH" value="2" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlb" role="2BsfMF">
+          <property role="3cmrfH" value="4" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlc" role="2BsfMF">
+          <property role="3cmrfH" value="6" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBld" role="2BsfMF">
+          <property role="3cmrfH" value="8" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBle" role="2BsfMF">
+          <property role="3cmrfH" value="10" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlf" role="2BsfMF">
+          <property role="3cmrfH" value="12" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlg" role="2BsfMF">
+          <property role="3cmrfH" value="14" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlh" role="2BsfMF">
+          <property role="3cmrfH" value="15" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBli" role="2BsfMF">
+          <property role="3cmrfH" value="17" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlj" role="2BsfMF">
+          <property role="3cmrfH" value="19" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlk" role="2BsfMF">
+          <property role="3cmrfH" value="21" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBll" role="2BsfMF">
+          <property role="3cmrfH" value="23" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlm" role="2BsfMF">
+          <property role="3cmrfH" value="25" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBln" role="2BsfMF">
+          <property role="3cmrfH" value="27" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlo" role="2BsfMF">
+          <property role="3cmrfH" value="28" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBlq" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBlr" role="jymVt">
+      <property role="TrG5h" value="pc2" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBlt" role="1tU5fm">
+        <node concept="10PrrI" id="7qUf9K5pBls" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBme" role="33vP2m">
+        <node concept="3cmrfG" id="7qUf9K5pBlu" role="2BsfMF">
+          <property role="3cmrfH" value="13" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlv" role="2BsfMF">
+          <property role="3cmrfH" value="16" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlw" role="2BsfMF">
+          <property role="3cmrfH" value="10" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlx" role="2BsfMF">
+          <property role="3cmrfH" value="23" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBly" role="2BsfMF">
+          <property role="3cmrfH" value="0" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlz" role="2BsfMF">
+          <property role="3cmrfH" value="4" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl$" role="2BsfMF">
+          <property role="3cmrfH" value="2" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBl_" role="2BsfMF">
+          <property role="3cmrfH" value="27" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlA" role="2BsfMF">
+          <property role="3cmrfH" value="14" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlB" role="2BsfMF">
+          <property role="3cmrfH" value="5" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlC" role="2BsfMF">
+          <property role="3cmrfH" value="20" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlD" role="2BsfMF">
+          <property role="3cmrfH" value="9" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlE" role="2BsfMF">
+          <property role="3cmrfH" value="22" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlF" role="2BsfMF">
+          <property role="3cmrfH" value="18" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlG" role="2BsfMF">
+          <property role="3cmrfH" value="11" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlH" role="2BsfMF">
+          <property role="3cmrfH" value="3" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlI" role="2BsfMF">
+          <property role="3cmrfH" value="25" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlJ" role="2BsfMF">
+          <property role="3cmrfH" value="7" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlK" role="2BsfMF">
+          <property role="3cmrfH" value="15" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlL" role="2BsfMF">
+          <property role="3cmrfH" value="6" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlM" role="2BsfMF">
+          <property role="3cmrfH" value="26" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlN" role="2BsfMF">
+          <property role="3cmrfH" value="19" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlO" role="2BsfMF">
+          <property role="3cmrfH" value="12" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlP" role="2BsfMF">
+          <property role="3cmrfH" value="1" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlQ" role="2BsfMF">
+          <property role="3cmrfH" value="40" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlR" role="2BsfMF">
+          <property role="3cmrfH" value="51" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlS" role="2BsfMF">
+          <property role="3cmrfH" value="30" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlT" role="2BsfMF">
+          <property role="3cmrfH" value="36" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlU" role="2BsfMF">
+          <property role="3cmrfH" value="46" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlV" role="2BsfMF">
+          <property role="3cmrfH" value="54" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlW" role="2BsfMF">
+          <property role="3cmrfH" value="29" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlX" role="2BsfMF">
+          <property role="3cmrfH" value="39" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlY" role="2BsfMF">
+          <property role="3cmrfH" value="50" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBlZ" role="2BsfMF">
+          <property role="3cmrfH" value="44" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm0" role="2BsfMF">
+          <property role="3cmrfH" value="32" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm1" role="2BsfMF">
+          <property role="3cmrfH" value="47" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm2" role="2BsfMF">
+          <property role="3cmrfH" value="43" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm3" role="2BsfMF">
+          <property role="3cmrfH" value="48" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm4" role="2BsfMF">
+          <property role="3cmrfH" value="38" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm5" role="2BsfMF">
+          <property role="3cmrfH" value="55" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm6" role="2BsfMF">
+          <property role="3cmrfH" value="33" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm7" role="2BsfMF">
+          <property role="3cmrfH" value="52" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm8" role="2BsfMF">
+          <property role="3cmrfH" value="45" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBm9" role="2BsfMF">
+          <property role="3cmrfH" value="41" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBma" role="2BsfMF">
+          <property role="3cmrfH" value="49" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBmb" role="2BsfMF">
+          <property role="3cmrfH" value="35" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBmc" role="2BsfMF">
+          <property role="3cmrfH" value="28" />
+        </node>
+        <node concept="3cmrfG" id="7qUf9K5pBmd" role="2BsfMF">
+          <property role="3cmrfH" value="31" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBmf" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBmg" role="jymVt">
+      <property role="TrG5h" value="SP1" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBmi" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBmh" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBnj" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBmj" role="2BsfMF">
+          <property role="2noCCI" value="01010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmk" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBml" role="2BsfMF">
+          <property role="2noCCI" value="00010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmm" role="2BsfMF">
+          <property role="2noCCI" value="01010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmn" role="2BsfMF">
+          <property role="2noCCI" value="01010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmo" role="2BsfMF">
+          <property role="2noCCI" value="00010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmp" role="2BsfMF">
+          <property role="2noCCI" value="00000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmq" role="2BsfMF">
+          <property role="2noCCI" value="00010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmr" role="2BsfMF">
+          <property role="2noCCI" value="00000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBms" role="2BsfMF">
+          <property role="2noCCI" value="01010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmt" role="2BsfMF">
+          <property role="2noCCI" value="01010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmu" role="2BsfMF">
+          <property role="2noCCI" value="00000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmv" role="2BsfMF">
+          <property role="2noCCI" value="01000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmw" role="2BsfMF">
+          <property role="2noCCI" value="01010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmx" role="2BsfMF">
+          <property role="2noCCI" value="01000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmy" role="2BsfMF">
+          <property role="2noCCI" value="00000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmz" role="2BsfMF">
+          <property role="2noCCI" value="00000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBm$" role="2BsfMF">
+          <property role="2noCCI" value="01000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBm_" role="2BsfMF">
+          <property role="2noCCI" value="01000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmA" role="2BsfMF">
+          <property role="2noCCI" value="00010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmB" role="2BsfMF">
+          <property role="2noCCI" value="00010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmC" role="2BsfMF">
+          <property role="2noCCI" value="01010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmD" role="2BsfMF">
+          <property role="2noCCI" value="01010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmE" role="2BsfMF">
+          <property role="2noCCI" value="01000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmF" role="2BsfMF">
+          <property role="2noCCI" value="00010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmG" role="2BsfMF">
+          <property role="2noCCI" value="01000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmH" role="2BsfMF">
+          <property role="2noCCI" value="01000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmI" role="2BsfMF">
+          <property role="2noCCI" value="00010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmJ" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmK" role="2BsfMF">
+          <property role="2noCCI" value="00000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmL" role="2BsfMF">
+          <property role="2noCCI" value="00010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmM" role="2BsfMF">
+          <property role="2noCCI" value="01000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmN" role="2BsfMF">
+          <property role="2noCCI" value="00010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmO" role="2BsfMF">
+          <property role="2noCCI" value="01010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmP" role="2BsfMF">
+          <property role="2noCCI" value="00000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmQ" role="2BsfMF">
+          <property role="2noCCI" value="01010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmR" role="2BsfMF">
+          <property role="2noCCI" value="01010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmS" role="2BsfMF">
+          <property role="2noCCI" value="01000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmT" role="2BsfMF">
+          <property role="2noCCI" value="01000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmU" role="2BsfMF">
+          <property role="2noCCI" value="00000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmV" role="2BsfMF">
+          <property role="2noCCI" value="01010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmW" role="2BsfMF">
+          <property role="2noCCI" value="00010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmX" role="2BsfMF">
+          <property role="2noCCI" value="00010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmY" role="2BsfMF">
+          <property role="2noCCI" value="01000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBmZ" role="2BsfMF">
+          <property role="2noCCI" value="00000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn0" role="2BsfMF">
+          <property role="2noCCI" value="00000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn1" role="2BsfMF">
+          <property role="2noCCI" value="01000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn2" role="2BsfMF">
+          <property role="2noCCI" value="00010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn3" role="2BsfMF">
+          <property role="2noCCI" value="01010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn4" role="2BsfMF">
+          <property role="2noCCI" value="00010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn5" role="2BsfMF">
+          <property role="2noCCI" value="01010000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn6" role="2BsfMF">
+          <property role="2noCCI" value="01000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn7" role="2BsfMF">
+          <property role="2noCCI" value="01000004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn8" role="2BsfMF">
+          <property role="2noCCI" value="00000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn9" role="2BsfMF">
+          <property role="2noCCI" value="00010404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBna" role="2BsfMF">
+          <property role="2noCCI" value="01010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnb" role="2BsfMF">
+          <property role="2noCCI" value="00000404" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnc" role="2BsfMF">
+          <property role="2noCCI" value="01000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnd" role="2BsfMF">
+          <property role="2noCCI" value="01000400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBne" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnf" role="2BsfMF">
+          <property role="2noCCI" value="00010004" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBng" role="2BsfMF">
+          <property role="2noCCI" value="00010400" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnh" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBni" role="2BsfMF">
+          <property role="2noCCI" value="01010004" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBnk" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBnl" role="jymVt">
+      <property role="TrG5h" value="SP2" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBnn" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBnm" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBoo" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBno" role="2BsfMF">
+          <property role="2noCCI" value="80108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnp" role="2BsfMF">
+          <property role="2noCCI" value="80008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnq" role="2BsfMF">
+          <property role="2noCCI" value="00008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnr" role="2BsfMF">
+          <property role="2noCCI" value="00108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBns" role="2BsfMF">
+          <property role="2noCCI" value="00100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnt" role="2BsfMF">
+          <property role="2noCCI" value="00000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnu" role="2BsfMF">
+          <property role="2noCCI" value="80100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnv" role="2BsfMF">
+          <property role="2noCCI" value="80008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnw" role="2BsfMF">
+          <property role="2noCCI" value="80000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnx" role="2BsfMF">
+          <property role="2noCCI" value="80108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBny" role="2BsfMF">
+          <property role="2noCCI" value="80108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnz" role="2BsfMF">
+          <property role="2noCCI" value="80000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn$" role="2BsfMF">
+          <property role="2noCCI" value="80008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBn_" role="2BsfMF">
+          <property role="2noCCI" value="00100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnA" role="2BsfMF">
+          <property role="2noCCI" value="00000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnB" role="2BsfMF">
+          <property role="2noCCI" value="80100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnC" role="2BsfMF">
+          <property role="2noCCI" value="00108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnD" role="2BsfMF">
+          <property role="2noCCI" value="00100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnE" role="2BsfMF">
+          <property role="2noCCI" value="80008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnF" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnG" role="2BsfMF">
+          <property role="2noCCI" value="80000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnH" role="2BsfMF">
+          <property role="2noCCI" value="00008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnI" role="2BsfMF">
+          <property role="2noCCI" value="00108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnJ" role="2BsfMF">
+          <property role="2noCCI" value="80100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnK" role="2BsfMF">
+          <property role="2noCCI" value="00100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnL" role="2BsfMF">
+          <property role="2noCCI" value="80000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnM" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnN" role="2BsfMF">
+          <property role="2noCCI" value="00108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnO" role="2BsfMF">
+          <property role="2noCCI" value="00008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnP" role="2BsfMF">
+          <property role="2noCCI" value="80108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnQ" role="2BsfMF">
+          <property role="2noCCI" value="80100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnR" role="2BsfMF">
+          <property role="2noCCI" value="00008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnS" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnT" role="2BsfMF">
+          <property role="2noCCI" value="00108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnU" role="2BsfMF">
+          <property role="2noCCI" value="80100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnV" role="2BsfMF">
+          <property role="2noCCI" value="00100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnW" role="2BsfMF">
+          <property role="2noCCI" value="80008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnX" role="2BsfMF">
+          <property role="2noCCI" value="80100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnY" role="2BsfMF">
+          <property role="2noCCI" value="80108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBnZ" role="2BsfMF">
+          <property role="2noCCI" value="00008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo0" role="2BsfMF">
+          <property role="2noCCI" value="80100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo1" role="2BsfMF">
+          <property role="2noCCI" value="80008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo2" role="2BsfMF">
+          <property role="2noCCI" value="00000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo3" role="2BsfMF">
+          <property role="2noCCI" value="80108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo4" role="2BsfMF">
+          <property role="2noCCI" value="00108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo5" role="2BsfMF">
+          <property role="2noCCI" value="00000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo6" role="2BsfMF">
+          <property role="2noCCI" value="00008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo7" role="2BsfMF">
+          <property role="2noCCI" value="80000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo8" role="2BsfMF">
+          <property role="2noCCI" value="00008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo9" role="2BsfMF">
+          <property role="2noCCI" value="80108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoa" role="2BsfMF">
+          <property role="2noCCI" value="00100000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBob" role="2BsfMF">
+          <property role="2noCCI" value="80000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoc" role="2BsfMF">
+          <property role="2noCCI" value="00100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBod" role="2BsfMF">
+          <property role="2noCCI" value="80008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoe" role="2BsfMF">
+          <property role="2noCCI" value="80000020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBof" role="2BsfMF">
+          <property role="2noCCI" value="00100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBog" role="2BsfMF">
+          <property role="2noCCI" value="00108000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoh" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoi" role="2BsfMF">
+          <property role="2noCCI" value="80008000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoj" role="2BsfMF">
+          <property role="2noCCI" value="00008020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBok" role="2BsfMF">
+          <property role="2noCCI" value="80000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBol" role="2BsfMF">
+          <property role="2noCCI" value="80100020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBom" role="2BsfMF">
+          <property role="2noCCI" value="80108020" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBon" role="2BsfMF">
+          <property role="2noCCI" value="00108000" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBop" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBoq" role="jymVt">
+      <property role="TrG5h" value="SP3" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBos" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBor" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBpt" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBot" role="2BsfMF">
+          <property role="2noCCI" value="00000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBou" role="2BsfMF">
+          <property role="2noCCI" value="08020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBov" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBow" role="2BsfMF">
+          <property role="2noCCI" value="08020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBox" role="2BsfMF">
+          <property role="2noCCI" value="08000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoy" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoz" role="2BsfMF">
+          <property role="2noCCI" value="00020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo$" role="2BsfMF">
+          <property role="2noCCI" value="08000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBo_" role="2BsfMF">
+          <property role="2noCCI" value="00020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoA" role="2BsfMF">
+          <property role="2noCCI" value="08000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoB" role="2BsfMF">
+          <property role="2noCCI" value="08000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoC" role="2BsfMF">
+          <property role="2noCCI" value="00020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoD" role="2BsfMF">
+          <property role="2noCCI" value="08020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoE" role="2BsfMF">
+          <property role="2noCCI" value="00020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoF" role="2BsfMF">
+          <property role="2noCCI" value="08020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoG" role="2BsfMF">
+          <property role="2noCCI" value="00000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoH" role="2BsfMF">
+          <property role="2noCCI" value="08000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoI" role="2BsfMF">
+          <property role="2noCCI" value="00000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoJ" role="2BsfMF">
+          <property role="2noCCI" value="08020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoK" role="2BsfMF">
+          <property role="2noCCI" value="00000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoL" role="2BsfMF">
+          <property role="2noCCI" value="00020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoM" role="2BsfMF">
+          <property role="2noCCI" value="08020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoN" role="2BsfMF">
+          <property role="2noCCI" value="08020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoO" role="2BsfMF">
+          <property role="2noCCI" value="00020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoP" role="2BsfMF">
+          <property role="2noCCI" value="08000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoQ" role="2BsfMF">
+          <property role="2noCCI" value="00020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoR" role="2BsfMF">
+          <property role="2noCCI" value="00020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoS" role="2BsfMF">
+          <property role="2noCCI" value="08000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoT" role="2BsfMF">
+          <property role="2noCCI" value="00000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoU" role="2BsfMF">
+          <property role="2noCCI" value="08020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoV" role="2BsfMF">
+          <property role="2noCCI" value="00000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoW" role="2BsfMF">
+          <property role="2noCCI" value="08000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoX" role="2BsfMF">
+          <property role="2noCCI" value="08020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoY" role="2BsfMF">
+          <property role="2noCCI" value="08000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBoZ" role="2BsfMF">
+          <property role="2noCCI" value="00020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp0" role="2BsfMF">
+          <property role="2noCCI" value="00000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp1" role="2BsfMF">
+          <property role="2noCCI" value="00020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp2" role="2BsfMF">
+          <property role="2noCCI" value="08020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp3" role="2BsfMF">
+          <property role="2noCCI" value="08000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp4" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp5" role="2BsfMF">
+          <property role="2noCCI" value="00000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp6" role="2BsfMF">
+          <property role="2noCCI" value="00020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp7" role="2BsfMF">
+          <property role="2noCCI" value="08020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp8" role="2BsfMF">
+          <property role="2noCCI" value="08000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp9" role="2BsfMF">
+          <property role="2noCCI" value="08000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpa" role="2BsfMF">
+          <property role="2noCCI" value="00000200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpb" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpc" role="2BsfMF">
+          <property role="2noCCI" value="08020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpd" role="2BsfMF">
+          <property role="2noCCI" value="08000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpe" role="2BsfMF">
+          <property role="2noCCI" value="00020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpf" role="2BsfMF">
+          <property role="2noCCI" value="08000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpg" role="2BsfMF">
+          <property role="2noCCI" value="08020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBph" role="2BsfMF">
+          <property role="2noCCI" value="00000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpi" role="2BsfMF">
+          <property role="2noCCI" value="00020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpj" role="2BsfMF">
+          <property role="2noCCI" value="00020200" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpk" role="2BsfMF">
+          <property role="2noCCI" value="08000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpl" role="2BsfMF">
+          <property role="2noCCI" value="08020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpm" role="2BsfMF">
+          <property role="2noCCI" value="08000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpn" role="2BsfMF">
+          <property role="2noCCI" value="00000208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpo" role="2BsfMF">
+          <property role="2noCCI" value="08020000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpp" role="2BsfMF">
+          <property role="2noCCI" value="00020208" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpq" role="2BsfMF">
+          <property role="2noCCI" value="00000008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpr" role="2BsfMF">
+          <property role="2noCCI" value="08020008" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBps" role="2BsfMF">
+          <property role="2noCCI" value="00020200" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBpu" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBpv" role="jymVt">
+      <property role="TrG5h" value="SP4" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBpx" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBpw" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBqy" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBpy" role="2BsfMF">
+          <property role="2noCCI" value="00802001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpz" role="2BsfMF">
+          <property role="2noCCI" value="00002081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp$" role="2BsfMF">
+          <property role="2noCCI" value="00002081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBp_" role="2BsfMF">
+          <property role="2noCCI" value="00000080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpA" role="2BsfMF">
+          <property role="2noCCI" value="00802080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpB" role="2BsfMF">
+          <property role="2noCCI" value="00800081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpC" role="2BsfMF">
+          <property role="2noCCI" value="00800001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpD" role="2BsfMF">
+          <property role="2noCCI" value="00002001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpE" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpF" role="2BsfMF">
+          <property role="2noCCI" value="00802000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpG" role="2BsfMF">
+          <property role="2noCCI" value="00802000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpH" role="2BsfMF">
+          <property role="2noCCI" value="00802081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpI" role="2BsfMF">
+          <property role="2noCCI" value="00000081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpJ" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpK" role="2BsfMF">
+          <property role="2noCCI" value="00800080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpL" role="2BsfMF">
+          <property role="2noCCI" value="00800001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpM" role="2BsfMF">
+          <property role="2noCCI" value="00000001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpN" role="2BsfMF">
+          <property role="2noCCI" value="00002000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpO" role="2BsfMF">
+          <property role="2noCCI" value="00800000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpP" role="2BsfMF">
+          <property role="2noCCI" value="00802001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpQ" role="2BsfMF">
+          <property role="2noCCI" value="00000080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpR" role="2BsfMF">
+          <property role="2noCCI" value="00800000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpS" role="2BsfMF">
+          <property role="2noCCI" value="00002001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpT" role="2BsfMF">
+          <property role="2noCCI" value="00002080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpU" role="2BsfMF">
+          <property role="2noCCI" value="00800081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpV" role="2BsfMF">
+          <property role="2noCCI" value="00000001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpW" role="2BsfMF">
+          <property role="2noCCI" value="00002080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpX" role="2BsfMF">
+          <property role="2noCCI" value="00800080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpY" role="2BsfMF">
+          <property role="2noCCI" value="00002000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBpZ" role="2BsfMF">
+          <property role="2noCCI" value="00802080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq0" role="2BsfMF">
+          <property role="2noCCI" value="00802081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq1" role="2BsfMF">
+          <property role="2noCCI" value="00000081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq2" role="2BsfMF">
+          <property role="2noCCI" value="00800080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq3" role="2BsfMF">
+          <property role="2noCCI" value="00800001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq4" role="2BsfMF">
+          <property role="2noCCI" value="00802000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq5" role="2BsfMF">
+          <property role="2noCCI" value="00802081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq6" role="2BsfMF">
+          <property role="2noCCI" value="00000081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq7" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq8" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBq9" role="2BsfMF">
+          <property role="2noCCI" value="00802000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqa" role="2BsfMF">
+          <property role="2noCCI" value="00002080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqb" role="2BsfMF">
+          <property role="2noCCI" value="00800080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqc" role="2BsfMF">
+          <property role="2noCCI" value="00800081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqd" role="2BsfMF">
+          <property role="2noCCI" value="00000001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqe" role="2BsfMF">
+          <property role="2noCCI" value="00802001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqf" role="2BsfMF">
+          <property role="2noCCI" value="00002081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqg" role="2BsfMF">
+          <property role="2noCCI" value="00002081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqh" role="2BsfMF">
+          <property role="2noCCI" value="00000080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqi" role="2BsfMF">
+          <property role="2noCCI" value="00802081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqj" role="2BsfMF">
+          <property role="2noCCI" value="00000081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqk" role="2BsfMF">
+          <property role="2noCCI" value="00000001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBql" role="2BsfMF">
+          <property role="2noCCI" value="00002000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqm" role="2BsfMF">
+          <property role="2noCCI" value="00800001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqn" role="2BsfMF">
+          <property role="2noCCI" value="00002001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqo" role="2BsfMF">
+          <property role="2noCCI" value="00802080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqp" role="2BsfMF">
+          <property role="2noCCI" value="00800081" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqq" role="2BsfMF">
+          <property role="2noCCI" value="00002001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqr" role="2BsfMF">
+          <property role="2noCCI" value="00002080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqs" role="2BsfMF">
+          <property role="2noCCI" value="00800000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqt" role="2BsfMF">
+          <property role="2noCCI" value="00802001" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqu" role="2BsfMF">
+          <property role="2noCCI" value="00000080" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqv" role="2BsfMF">
+          <property role="2noCCI" value="00800000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqw" role="2BsfMF">
+          <property role="2noCCI" value="00002000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqx" role="2BsfMF">
+          <property role="2noCCI" value="00802080" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBqz" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBq$" role="jymVt">
+      <property role="TrG5h" value="SP5" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBqA" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBq_" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBrB" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBqB" role="2BsfMF">
+          <property role="2noCCI" value="00000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqC" role="2BsfMF">
+          <property role="2noCCI" value="02080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqD" role="2BsfMF">
+          <property role="2noCCI" value="02080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqE" role="2BsfMF">
+          <property role="2noCCI" value="42000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqF" role="2BsfMF">
+          <property role="2noCCI" value="00080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqG" role="2BsfMF">
+          <property role="2noCCI" value="00000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqH" role="2BsfMF">
+          <property role="2noCCI" value="40000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqI" role="2BsfMF">
+          <property role="2noCCI" value="02080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqJ" role="2BsfMF">
+          <property role="2noCCI" value="40080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqK" role="2BsfMF">
+          <property role="2noCCI" value="00080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqL" role="2BsfMF">
+          <property role="2noCCI" value="02000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqM" role="2BsfMF">
+          <property role="2noCCI" value="40080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqN" role="2BsfMF">
+          <property role="2noCCI" value="42000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqO" role="2BsfMF">
+          <property role="2noCCI" value="42080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqP" role="2BsfMF">
+          <property role="2noCCI" value="00080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqQ" role="2BsfMF">
+          <property role="2noCCI" value="40000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqR" role="2BsfMF">
+          <property role="2noCCI" value="02000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqS" role="2BsfMF">
+          <property role="2noCCI" value="40080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqT" role="2BsfMF">
+          <property role="2noCCI" value="40080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqU" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqV" role="2BsfMF">
+          <property role="2noCCI" value="40000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqW" role="2BsfMF">
+          <property role="2noCCI" value="42080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqX" role="2BsfMF">
+          <property role="2noCCI" value="42080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqY" role="2BsfMF">
+          <property role="2noCCI" value="02000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBqZ" role="2BsfMF">
+          <property role="2noCCI" value="42080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr0" role="2BsfMF">
+          <property role="2noCCI" value="40000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr1" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr2" role="2BsfMF">
+          <property role="2noCCI" value="42000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr3" role="2BsfMF">
+          <property role="2noCCI" value="02080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr4" role="2BsfMF">
+          <property role="2noCCI" value="02000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr5" role="2BsfMF">
+          <property role="2noCCI" value="42000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr6" role="2BsfMF">
+          <property role="2noCCI" value="00080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr7" role="2BsfMF">
+          <property role="2noCCI" value="00080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr8" role="2BsfMF">
+          <property role="2noCCI" value="42000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr9" role="2BsfMF">
+          <property role="2noCCI" value="00000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBra" role="2BsfMF">
+          <property role="2noCCI" value="02000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrb" role="2BsfMF">
+          <property role="2noCCI" value="40000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrc" role="2BsfMF">
+          <property role="2noCCI" value="02080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrd" role="2BsfMF">
+          <property role="2noCCI" value="42000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBre" role="2BsfMF">
+          <property role="2noCCI" value="40080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrf" role="2BsfMF">
+          <property role="2noCCI" value="02000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrg" role="2BsfMF">
+          <property role="2noCCI" value="40000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrh" role="2BsfMF">
+          <property role="2noCCI" value="42080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBri" role="2BsfMF">
+          <property role="2noCCI" value="02080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrj" role="2BsfMF">
+          <property role="2noCCI" value="40080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrk" role="2BsfMF">
+          <property role="2noCCI" value="00000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrl" role="2BsfMF">
+          <property role="2noCCI" value="02000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrm" role="2BsfMF">
+          <property role="2noCCI" value="42080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrn" role="2BsfMF">
+          <property role="2noCCI" value="42080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBro" role="2BsfMF">
+          <property role="2noCCI" value="00080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrp" role="2BsfMF">
+          <property role="2noCCI" value="42000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrq" role="2BsfMF">
+          <property role="2noCCI" value="42080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrr" role="2BsfMF">
+          <property role="2noCCI" value="02080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrs" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrt" role="2BsfMF">
+          <property role="2noCCI" value="40080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBru" role="2BsfMF">
+          <property role="2noCCI" value="42000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrv" role="2BsfMF">
+          <property role="2noCCI" value="00080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrw" role="2BsfMF">
+          <property role="2noCCI" value="02000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrx" role="2BsfMF">
+          <property role="2noCCI" value="40000100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBry" role="2BsfMF">
+          <property role="2noCCI" value="00080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrz" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr$" role="2BsfMF">
+          <property role="2noCCI" value="40080000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBr_" role="2BsfMF">
+          <property role="2noCCI" value="02080100" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrA" role="2BsfMF">
+          <property role="2noCCI" value="40000100" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBrC" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBrD" role="jymVt">
+      <property role="TrG5h" value="SP6" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBrF" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBrE" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBsG" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBrG" role="2BsfMF">
+          <property role="2noCCI" value="20000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrH" role="2BsfMF">
+          <property role="2noCCI" value="20400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrI" role="2BsfMF">
+          <property role="2noCCI" value="00004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrJ" role="2BsfMF">
+          <property role="2noCCI" value="20404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrK" role="2BsfMF">
+          <property role="2noCCI" value="20400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrL" role="2BsfMF">
+          <property role="2noCCI" value="00000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrM" role="2BsfMF">
+          <property role="2noCCI" value="20404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrN" role="2BsfMF">
+          <property role="2noCCI" value="00400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrO" role="2BsfMF">
+          <property role="2noCCI" value="20004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrP" role="2BsfMF">
+          <property role="2noCCI" value="00404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrQ" role="2BsfMF">
+          <property role="2noCCI" value="00400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrR" role="2BsfMF">
+          <property role="2noCCI" value="20000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrS" role="2BsfMF">
+          <property role="2noCCI" value="00400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrT" role="2BsfMF">
+          <property role="2noCCI" value="20004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrU" role="2BsfMF">
+          <property role="2noCCI" value="20000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrV" role="2BsfMF">
+          <property role="2noCCI" value="00004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrW" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrX" role="2BsfMF">
+          <property role="2noCCI" value="00400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrY" role="2BsfMF">
+          <property role="2noCCI" value="20004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBrZ" role="2BsfMF">
+          <property role="2noCCI" value="00004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs0" role="2BsfMF">
+          <property role="2noCCI" value="00404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs1" role="2BsfMF">
+          <property role="2noCCI" value="20004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs2" role="2BsfMF">
+          <property role="2noCCI" value="00000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs3" role="2BsfMF">
+          <property role="2noCCI" value="20400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs4" role="2BsfMF">
+          <property role="2noCCI" value="20400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs5" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs6" role="2BsfMF">
+          <property role="2noCCI" value="00404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs7" role="2BsfMF">
+          <property role="2noCCI" value="20404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs8" role="2BsfMF">
+          <property role="2noCCI" value="00004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs9" role="2BsfMF">
+          <property role="2noCCI" value="00404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsa" role="2BsfMF">
+          <property role="2noCCI" value="20404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsb" role="2BsfMF">
+          <property role="2noCCI" value="20000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsc" role="2BsfMF">
+          <property role="2noCCI" value="20004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsd" role="2BsfMF">
+          <property role="2noCCI" value="00000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBse" role="2BsfMF">
+          <property role="2noCCI" value="20400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsf" role="2BsfMF">
+          <property role="2noCCI" value="00404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsg" role="2BsfMF">
+          <property role="2noCCI" value="20404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsh" role="2BsfMF">
+          <property role="2noCCI" value="00400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsi" role="2BsfMF">
+          <property role="2noCCI" value="00004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsj" role="2BsfMF">
+          <property role="2noCCI" value="20000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsk" role="2BsfMF">
+          <property role="2noCCI" value="00400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsl" role="2BsfMF">
+          <property role="2noCCI" value="20004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsm" role="2BsfMF">
+          <property role="2noCCI" value="20000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsn" role="2BsfMF">
+          <property role="2noCCI" value="00004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBso" role="2BsfMF">
+          <property role="2noCCI" value="20000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsp" role="2BsfMF">
+          <property role="2noCCI" value="20404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsq" role="2BsfMF">
+          <property role="2noCCI" value="00404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsr" role="2BsfMF">
+          <property role="2noCCI" value="20400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBss" role="2BsfMF">
+          <property role="2noCCI" value="00404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBst" role="2BsfMF">
+          <property role="2noCCI" value="20404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsu" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsv" role="2BsfMF">
+          <property role="2noCCI" value="20400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsw" role="2BsfMF">
+          <property role="2noCCI" value="00000010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsx" role="2BsfMF">
+          <property role="2noCCI" value="00004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsy" role="2BsfMF">
+          <property role="2noCCI" value="20400000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsz" role="2BsfMF">
+          <property role="2noCCI" value="00404010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs$" role="2BsfMF">
+          <property role="2noCCI" value="00004000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBs_" role="2BsfMF">
+          <property role="2noCCI" value="00400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsA" role="2BsfMF">
+          <property role="2noCCI" value="20004010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsB" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsC" role="2BsfMF">
+          <property role="2noCCI" value="20404000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsD" role="2BsfMF">
+          <property role="2noCCI" value="20000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsE" role="2BsfMF">
+          <property role="2noCCI" value="00400010" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsF" role="2BsfMF">
+          <property role="2noCCI" value="20004010" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBsH" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBsI" role="jymVt">
+      <property role="TrG5h" value="SP7" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBsK" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBsJ" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBtL" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBsL" role="2BsfMF">
+          <property role="2noCCI" value="00200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsM" role="2BsfMF">
+          <property role="2noCCI" value="04200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsN" role="2BsfMF">
+          <property role="2noCCI" value="04000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsO" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsP" role="2BsfMF">
+          <property role="2noCCI" value="00000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsQ" role="2BsfMF">
+          <property role="2noCCI" value="04000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsR" role="2BsfMF">
+          <property role="2noCCI" value="00200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsS" role="2BsfMF">
+          <property role="2noCCI" value="04200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsT" role="2BsfMF">
+          <property role="2noCCI" value="04200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsU" role="2BsfMF">
+          <property role="2noCCI" value="00200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsV" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsW" role="2BsfMF">
+          <property role="2noCCI" value="04000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsX" role="2BsfMF">
+          <property role="2noCCI" value="00000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsY" role="2BsfMF">
+          <property role="2noCCI" value="04000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBsZ" role="2BsfMF">
+          <property role="2noCCI" value="04200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt0" role="2BsfMF">
+          <property role="2noCCI" value="00000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt1" role="2BsfMF">
+          <property role="2noCCI" value="04000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt2" role="2BsfMF">
+          <property role="2noCCI" value="00200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt3" role="2BsfMF">
+          <property role="2noCCI" value="00200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt4" role="2BsfMF">
+          <property role="2noCCI" value="04000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt5" role="2BsfMF">
+          <property role="2noCCI" value="04000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt6" role="2BsfMF">
+          <property role="2noCCI" value="04200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt7" role="2BsfMF">
+          <property role="2noCCI" value="04200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt8" role="2BsfMF">
+          <property role="2noCCI" value="00200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt9" role="2BsfMF">
+          <property role="2noCCI" value="04200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBta" role="2BsfMF">
+          <property role="2noCCI" value="00000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtb" role="2BsfMF">
+          <property role="2noCCI" value="00000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtc" role="2BsfMF">
+          <property role="2noCCI" value="04200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtd" role="2BsfMF">
+          <property role="2noCCI" value="00200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBte" role="2BsfMF">
+          <property role="2noCCI" value="00000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtf" role="2BsfMF">
+          <property role="2noCCI" value="04000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtg" role="2BsfMF">
+          <property role="2noCCI" value="00200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBth" role="2BsfMF">
+          <property role="2noCCI" value="04000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBti" role="2BsfMF">
+          <property role="2noCCI" value="00200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtj" role="2BsfMF">
+          <property role="2noCCI" value="00200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtk" role="2BsfMF">
+          <property role="2noCCI" value="04000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtl" role="2BsfMF">
+          <property role="2noCCI" value="04000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtm" role="2BsfMF">
+          <property role="2noCCI" value="04200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtn" role="2BsfMF">
+          <property role="2noCCI" value="04200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBto" role="2BsfMF">
+          <property role="2noCCI" value="00000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtp" role="2BsfMF">
+          <property role="2noCCI" value="00200002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtq" role="2BsfMF">
+          <property role="2noCCI" value="04000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtr" role="2BsfMF">
+          <property role="2noCCI" value="04000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBts" role="2BsfMF">
+          <property role="2noCCI" value="00200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtt" role="2BsfMF">
+          <property role="2noCCI" value="04200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtu" role="2BsfMF">
+          <property role="2noCCI" value="00000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtv" role="2BsfMF">
+          <property role="2noCCI" value="00200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtw" role="2BsfMF">
+          <property role="2noCCI" value="04200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtx" role="2BsfMF">
+          <property role="2noCCI" value="00000802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBty" role="2BsfMF">
+          <property role="2noCCI" value="04000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtz" role="2BsfMF">
+          <property role="2noCCI" value="04200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt$" role="2BsfMF">
+          <property role="2noCCI" value="04200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBt_" role="2BsfMF">
+          <property role="2noCCI" value="00200800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtA" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtB" role="2BsfMF">
+          <property role="2noCCI" value="00000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtC" role="2BsfMF">
+          <property role="2noCCI" value="04200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtD" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtE" role="2BsfMF">
+          <property role="2noCCI" value="00200802" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtF" role="2BsfMF">
+          <property role="2noCCI" value="04200000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtG" role="2BsfMF">
+          <property role="2noCCI" value="00000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtH" role="2BsfMF">
+          <property role="2noCCI" value="04000002" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtI" role="2BsfMF">
+          <property role="2noCCI" value="04000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtJ" role="2BsfMF">
+          <property role="2noCCI" value="00000800" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtK" role="2BsfMF">
+          <property role="2noCCI" value="00200002" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBtM" role="1B3o_S" />
+    </node>
+    <node concept="Wx3nA" id="7qUf9K5pBtN" role="jymVt">
+      <property role="TrG5h" value="SP8" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="7qUf9K5pBtP" role="1tU5fm">
+        <node concept="10Oyi0" id="7qUf9K5pBtO" role="10Q1$1" />
+      </node>
+      <node concept="2BsdOp" id="7qUf9K5pBuQ" role="33vP2m">
+        <node concept="2nou5x" id="7qUf9K5pBtQ" role="2BsfMF">
+          <property role="2noCCI" value="10001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtR" role="2BsfMF">
+          <property role="2noCCI" value="00001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtS" role="2BsfMF">
+          <property role="2noCCI" value="00040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtT" role="2BsfMF">
+          <property role="2noCCI" value="10041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtU" role="2BsfMF">
+          <property role="2noCCI" value="10000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtV" role="2BsfMF">
+          <property role="2noCCI" value="10001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtW" role="2BsfMF">
+          <property role="2noCCI" value="00000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtX" role="2BsfMF">
+          <property role="2noCCI" value="10000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtY" role="2BsfMF">
+          <property role="2noCCI" value="00040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBtZ" role="2BsfMF">
+          <property role="2noCCI" value="10040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu0" role="2BsfMF">
+          <property role="2noCCI" value="10041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu1" role="2BsfMF">
+          <property role="2noCCI" value="00041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu2" role="2BsfMF">
+          <property role="2noCCI" value="10041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu3" role="2BsfMF">
+          <property role="2noCCI" value="00041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu4" role="2BsfMF">
+          <property role="2noCCI" value="00001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu5" role="2BsfMF">
+          <property role="2noCCI" value="00000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu6" role="2BsfMF">
+          <property role="2noCCI" value="10040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu7" role="2BsfMF">
+          <property role="2noCCI" value="10000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu8" role="2BsfMF">
+          <property role="2noCCI" value="10001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu9" role="2BsfMF">
+          <property role="2noCCI" value="00001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBua" role="2BsfMF">
+          <property role="2noCCI" value="00041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBub" role="2BsfMF">
+          <property role="2noCCI" value="00040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuc" role="2BsfMF">
+          <property role="2noCCI" value="10040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBud" role="2BsfMF">
+          <property role="2noCCI" value="10041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBue" role="2BsfMF">
+          <property role="2noCCI" value="00001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuf" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBug" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuh" role="2BsfMF">
+          <property role="2noCCI" value="10040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBui" role="2BsfMF">
+          <property role="2noCCI" value="10000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuj" role="2BsfMF">
+          <property role="2noCCI" value="10001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuk" role="2BsfMF">
+          <property role="2noCCI" value="00041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBul" role="2BsfMF">
+          <property role="2noCCI" value="00040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBum" role="2BsfMF">
+          <property role="2noCCI" value="00041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBun" role="2BsfMF">
+          <property role="2noCCI" value="00040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuo" role="2BsfMF">
+          <property role="2noCCI" value="10041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBup" role="2BsfMF">
+          <property role="2noCCI" value="00001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuq" role="2BsfMF">
+          <property role="2noCCI" value="00000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBur" role="2BsfMF">
+          <property role="2noCCI" value="10040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBus" role="2BsfMF">
+          <property role="2noCCI" value="00001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBut" role="2BsfMF">
+          <property role="2noCCI" value="00041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuu" role="2BsfMF">
+          <property role="2noCCI" value="10001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuv" role="2BsfMF">
+          <property role="2noCCI" value="00000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuw" role="2BsfMF">
+          <property role="2noCCI" value="10000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBux" role="2BsfMF">
+          <property role="2noCCI" value="10040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuy" role="2BsfMF">
+          <property role="2noCCI" value="10040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuz" role="2BsfMF">
+          <property role="2noCCI" value="10000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu$" role="2BsfMF">
+          <property role="2noCCI" value="00040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBu_" role="2BsfMF">
+          <property role="2noCCI" value="10001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuA" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuB" role="2BsfMF">
+          <property role="2noCCI" value="10041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuC" role="2BsfMF">
+          <property role="2noCCI" value="00040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuD" role="2BsfMF">
+          <property role="2noCCI" value="10000040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuE" role="2BsfMF">
+          <property role="2noCCI" value="10040000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuF" role="2BsfMF">
+          <property role="2noCCI" value="10001000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuG" role="2BsfMF">
+          <property role="2noCCI" value="10001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuH" role="2BsfMF">
+          <property role="2noCCI" value="00000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuI" role="2BsfMF">
+          <property role="2noCCI" value="10041040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuJ" role="2BsfMF">
+          <property role="2noCCI" value="00041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuK" role="2BsfMF">
+          <property role="2noCCI" value="00041000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuL" role="2BsfMF">
+          <property role="2noCCI" value="00001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuM" role="2BsfMF">
+          <property role="2noCCI" value="00001040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuN" role="2BsfMF">
+          <property role="2noCCI" value="00040040" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuO" role="2BsfMF">
+          <property role="2noCCI" value="10000000" />
+        </node>
+        <node concept="2nou5x" id="7qUf9K5pBuP" role="2BsfMF">
+          <property role="2noCCI" value="10041000" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="7qUf9K5pBuR" role="1B3o_S" />
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBwR" role="jymVt">
+      <property role="TrG5h" value="generateWorkingKey" />
+      <node concept="37vLTG" id="7qUf9K5pBwS" role="3clF46">
+        <property role="TrG5h" value="encrypting" />
+        <node concept="10P_77" id="7qUf9K5pBwT" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBwU" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="10Q1$e" id="7qUf9K5pBwW" role="1tU5fm">
+          <node concept="10PrrI" id="7qUf9K5pBwV" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="7qUf9K5pBwX" role="3clF47">
+        <node concept="3cpWs8" id="7qUf9K5pBwZ" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBwY" role="3cpWs9">
+            <property role="TrG5h" value="newKey" />
+            <node concept="10Q1$e" id="7qUf9K5pBx1" role="1tU5fm">
+              <node concept="10Oyi0" id="7qUf9K5pBx0" role="10Q1$1" />
+            </node>
+            <node concept="2ShNRf" id="7qUf9K5pBx6" role="33vP2m">
+              <node concept="3$_iS1" id="7qUf9K5pBx4" role="2ShVmc">
+                <node concept="3$GHV9" id="7qUf9K5pBx5" role="3$GQph">
+                  <node concept="3cmrfG" id="7qUf9K5pBx3" role="3$I4v7">
+                    <property role="3cmrfH" value="32" />
+                  </node>
+                </node>
+                <node concept="10Oyi0" id="7qUf9K5pBx2" role="3$_nBY" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="7qUf9K5pBx8" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBx7" role="3cpWs9">
+            <property role="TrG5h" value="pc1m" />
+            <node concept="10Q1$e" id="7qUf9K5pBxa" role="1tU5fm">
+              <node concept="10P_77" id="7qUf9K5pBx9" role="10Q1$1" />
+            </node>
+            <node concept="2ShNRf" id="7qUf9K5pBxf" role="33vP2m">
+              <node concept="3$_iS1" id="7qUf9K5pBxd" role="2ShVmc">
+                <node concept="3$GHV9" id="7qUf9K5pBxe" role="3$GQph">
+                  <node concept="3cmrfG" id="7qUf9K5pBxc" role="3$I4v7">
+                    <property role="3cmrfH" value="56" />
+                  </node>
+                </node>
+                <node concept="10P_77" id="7qUf9K5pBxb" role="3$_nBY" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="7qUf9K5pBxh" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBxg" role="3cpWs9">
+            <property role="TrG5h" value="pcr" />
+            <node concept="10Q1$e" id="7qUf9K5pBxj" role="1tU5fm">
+              <node concept="10P_77" id="7qUf9K5pBxi" role="10Q1$1" />
+            </node>
+            <node concept="2ShNRf" id="7qUf9K5pBxo" role="33vP2m">
+              <node concept="3$_iS1" id="7qUf9K5pBxm" role="2ShVmc">
+                <node concept="3$GHV9" id="7qUf9K5pBxn" role="3$GQph">
+                  <node concept="3cmrfG" id="7qUf9K5pBxl" role="3$I4v7">
+                    <property role="3cmrfH" value="56" />
+                  </node>
+                </node>
+                <node concept="10P_77" id="7qUf9K5pBxk" role="3$_nBY" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="7qUf9K5pBxp" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBxq" role="1Duv9x">
+            <property role="TrG5h" value="j" />
+            <node concept="10Oyi0" id="7qUf9K5pBxs" role="1tU5fm" />
+            <node concept="3cmrfG" id="7qUf9K5pBxt" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="7qUf9K5pBxu" role="1Dwp0S">
+            <node concept="37vLTw" id="7qUf9K5pBxv" role="3uHU7B">
+              <ref role="3cqZAo" node="7qUf9K5pBxq" resolve="j" />
+            </node>
+            <node concept="3cmrfG" id="7qUf9K5pBxw" role="3uHU7w">
+              <property role="3cmrfH" value="56" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="7qUf9K5pBxy" role="1Dwrff">
+            <node concept="37vLTw" id="7qUf9K5pBxz" role="2$L3a6">
+              <ref role="3cqZAo" node="7qUf9K5pBxq" resolve="j" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBx_" role="2LFqv$">
+            <node concept="3cpWs8" id="7qUf9K5pBxB" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pBxA" role="3cpWs9">
+                <property role="TrG5h" value="l" />
+                <node concept="10Oyi0" id="7qUf9K5pBxC" role="1tU5fm" />
+                <node concept="AH0OO" id="7qUf9K5pBxD" role="33vP2m">
+                  <node concept="37vLTw" id="7qUf9K5pBxE" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBk9" resolve="pc1" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBxF" role="AHEQo">
+                    <ref role="3cqZAo" node="7qUf9K5pBxq" resolve="j" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBxG" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBxH" role="3clFbG">
+                <node concept="AH0OO" id="7qUf9K5pBxI" role="37vLTJ">
+                  <node concept="37vLTw" id="7qUf9K5pBxJ" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBx7" resolve="pc1m" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBxK" role="AHEQo">
+                    <ref role="3cqZAo" node="7qUf9K5pBxq" resolve="j" />
+                  </node>
+                </node>
+                <node concept="1eOMI4" id="7qUf9K5pBxZ" role="37vLTx">
+                  <node concept="3y3z36" id="7qUf9K5pBxL" role="1eOMHV">
+                    <node concept="1eOMI4" id="7qUf9K5pBxX" role="3uHU7B">
+                      <node concept="pVHWs" id="7qUf9K5pBxM" role="1eOMHV">
+                        <node concept="AH0OO" id="7qUf9K5pBxN" role="3uHU7B">
+                          <node concept="37vLTw" id="7qUf9K5pBxO" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBwU" resolve="key" />
+                          </node>
+                          <node concept="1ZsPo3" id="7qUf9K5pBxP" role="AHEQo">
+                            <node concept="37vLTw" id="7qUf9K5pBxQ" role="3uHU7B">
+                              <ref role="3cqZAo" node="7qUf9K5pBxA" resolve="l" />
+                            </node>
+                            <node concept="3cmrfG" id="7qUf9K5pBxR" role="3uHU7w">
+                              <property role="3cmrfH" value="3" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="7qUf9K5pBxS" role="3uHU7w">
+                          <node concept="37vLTw" id="7qUf9K5pBxT" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBju" resolve="bytebit" />
+                          </node>
+                          <node concept="pVHWs" id="7qUf9K5pBxU" role="AHEQo">
+                            <node concept="37vLTw" id="7qUf9K5pBxV" role="3uHU7B">
+                              <ref role="3cqZAo" node="7qUf9K5pBxA" resolve="l" />
+                            </node>
+                            <node concept="3cmrfG" id="7qUf9K5pBxW" role="3uHU7w">
+                              <property role="3cmrfH" value="7" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pBxY" role="3uHU7w">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="7qUf9K5pBy0" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBy1" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="7qUf9K5pBy3" role="1tU5fm" />
+            <node concept="3cmrfG" id="7qUf9K5pBy4" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="7qUf9K5pBy5" role="1Dwp0S">
+            <node concept="37vLTw" id="7qUf9K5pBy6" role="3uHU7B">
+              <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+            </node>
+            <node concept="3cmrfG" id="7qUf9K5pBy7" role="3uHU7w">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="7qUf9K5pBy9" role="1Dwrff">
+            <node concept="37vLTw" id="7qUf9K5pBya" role="2$L3a6">
+              <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pByc" role="2LFqv$">
+            <node concept="3cpWs8" id="7qUf9K5pBye" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pByd" role="3cpWs9">
+                <property role="TrG5h" value="l" />
+                <node concept="10Oyi0" id="7qUf9K5pByf" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3cpWs8" id="7qUf9K5pByh" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pByg" role="3cpWs9">
+                <property role="TrG5h" value="m" />
+                <node concept="10Oyi0" id="7qUf9K5pByi" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3cpWs8" id="7qUf9K5pByk" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pByj" role="3cpWs9">
+                <property role="TrG5h" value="n" />
+                <node concept="10Oyi0" id="7qUf9K5pByl" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="7qUf9K5pBym" role="3cqZAp">
+              <node concept="37vLTw" id="7qUf9K5pByn" role="3clFbw">
+                <ref role="3cqZAo" node="7qUf9K5pBwS" resolve="encrypting" />
+              </node>
+              <node concept="9aQIb" id="7qUf9K5pByw" role="9aQIa">
+                <node concept="3clFbS" id="7qUf9K5pByx" role="9aQI4">
+                  <node concept="3clFbF" id="7qUf9K5pByy" role="3cqZAp">
+                    <node concept="37vLTI" id="7qUf9K5pByz" role="3clFbG">
+                      <node concept="37vLTw" id="7qUf9K5pBy$" role="37vLTJ">
+                        <ref role="3cqZAo" node="7qUf9K5pByg" resolve="m" />
+                      </node>
+                      <node concept="1GRDU$" id="7qUf9K5pBy_" role="37vLTx">
+                        <node concept="1eOMI4" id="7qUf9K5pByD" role="3uHU7B">
+                          <node concept="3cpWsd" id="7qUf9K5pByA" role="1eOMHV">
+                            <node concept="3cmrfG" id="7qUf9K5pByB" role="3uHU7B">
+                              <property role="3cmrfH" value="15" />
+                            </node>
+                            <node concept="37vLTw" id="7qUf9K5pByC" role="3uHU7w">
+                              <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pByE" role="3uHU7w">
+                          <property role="3cmrfH" value="1" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="7qUf9K5pByp" role="3clFbx">
+                <node concept="3clFbF" id="7qUf9K5pByq" role="3cqZAp">
+                  <node concept="37vLTI" id="7qUf9K5pByr" role="3clFbG">
+                    <node concept="37vLTw" id="7qUf9K5pBys" role="37vLTJ">
+                      <ref role="3cqZAo" node="7qUf9K5pByg" resolve="m" />
+                    </node>
+                    <node concept="1GRDU$" id="7qUf9K5pByt" role="37vLTx">
+                      <node concept="37vLTw" id="7qUf9K5pByu" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pByv" role="3uHU7w">
+                        <property role="3cmrfH" value="1" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pByF" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pByG" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pByH" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pByj" resolve="n" />
+                </node>
+                <node concept="3cpWs3" id="7qUf9K5pByI" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pByJ" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pByg" resolve="m" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pByK" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pByL" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pByM" role="3clFbG">
+                <node concept="AH0OO" id="7qUf9K5pByN" role="37vLTJ">
+                  <node concept="37vLTw" id="7qUf9K5pByO" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pByP" role="AHEQo">
+                    <ref role="3cqZAo" node="7qUf9K5pByg" resolve="m" />
+                  </node>
+                </node>
+                <node concept="37vLTI" id="7qUf9K5pByQ" role="37vLTx">
+                  <node concept="AH0OO" id="7qUf9K5pByR" role="37vLTJ">
+                    <node concept="37vLTw" id="7qUf9K5pByS" role="AHHXb">
+                      <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                    </node>
+                    <node concept="37vLTw" id="7qUf9K5pByT" role="AHEQo">
+                      <ref role="3cqZAo" node="7qUf9K5pByj" resolve="n" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pByU" role="37vLTx">
+                    <property role="3cmrfH" value="0" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="7qUf9K5pByV" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pByW" role="1Duv9x">
+                <property role="TrG5h" value="j" />
+                <node concept="10Oyi0" id="7qUf9K5pByY" role="1tU5fm" />
+                <node concept="3cmrfG" id="7qUf9K5pByZ" role="33vP2m">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3eOVzh" id="7qUf9K5pBz0" role="1Dwp0S">
+                <node concept="37vLTw" id="7qUf9K5pBz1" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pByW" resolve="j" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBz2" role="3uHU7w">
+                  <property role="3cmrfH" value="28" />
+                </node>
+              </node>
+              <node concept="3uNrnE" id="7qUf9K5pBz4" role="1Dwrff">
+                <node concept="37vLTw" id="7qUf9K5pBz5" role="2$L3a6">
+                  <ref role="3cqZAo" node="7qUf9K5pByW" resolve="j" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="7qUf9K5pBz7" role="2LFqv$">
+                <node concept="3clFbF" id="7qUf9K5pBz8" role="3cqZAp">
+                  <node concept="37vLTI" id="7qUf9K5pBz9" role="3clFbG">
+                    <node concept="37vLTw" id="7qUf9K5pBza" role="37vLTJ">
+                      <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                    </node>
+                    <node concept="3cpWs3" id="7qUf9K5pBzb" role="37vLTx">
+                      <node concept="37vLTw" id="7qUf9K5pBzc" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pByW" resolve="j" />
+                      </node>
+                      <node concept="AH0OO" id="7qUf9K5pBzd" role="3uHU7w">
+                        <node concept="37vLTw" id="7qUf9K5pBze" role="AHHXb">
+                          <ref role="3cqZAo" node="7qUf9K5pBl6" resolve="totrot" />
+                        </node>
+                        <node concept="37vLTw" id="7qUf9K5pBzf" role="AHEQo">
+                          <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="7qUf9K5pBzg" role="3cqZAp">
+                  <node concept="3eOVzh" id="7qUf9K5pBzh" role="3clFbw">
+                    <node concept="37vLTw" id="7qUf9K5pBzi" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pBzj" role="3uHU7w">
+                      <property role="3cmrfH" value="28" />
+                    </node>
+                  </node>
+                  <node concept="9aQIb" id="7qUf9K5pBzu" role="9aQIa">
+                    <node concept="3clFbS" id="7qUf9K5pBzv" role="9aQI4">
+                      <node concept="3clFbF" id="7qUf9K5pBzw" role="3cqZAp">
+                        <node concept="37vLTI" id="7qUf9K5pBzx" role="3clFbG">
+                          <node concept="AH0OO" id="7qUf9K5pBzy" role="37vLTJ">
+                            <node concept="37vLTw" id="7qUf9K5pBzz" role="AHHXb">
+                              <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                            </node>
+                            <node concept="37vLTw" id="7qUf9K5pBz$" role="AHEQo">
+                              <ref role="3cqZAo" node="7qUf9K5pByW" resolve="j" />
+                            </node>
+                          </node>
+                          <node concept="AH0OO" id="7qUf9K5pBz_" role="37vLTx">
+                            <node concept="37vLTw" id="7qUf9K5pBzA" role="AHHXb">
+                              <ref role="3cqZAo" node="7qUf9K5pBx7" resolve="pc1m" />
+                            </node>
+                            <node concept="3cpWsd" id="7qUf9K5pBzB" role="AHEQo">
+                              <node concept="37vLTw" id="7qUf9K5pBzC" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                              </node>
+                              <node concept="3cmrfG" id="7qUf9K5pBzD" role="3uHU7w">
+                                <property role="3cmrfH" value="28" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="7qUf9K5pBzl" role="3clFbx">
+                    <node concept="3clFbF" id="7qUf9K5pBzm" role="3cqZAp">
+                      <node concept="37vLTI" id="7qUf9K5pBzn" role="3clFbG">
+                        <node concept="AH0OO" id="7qUf9K5pBzo" role="37vLTJ">
+                          <node concept="37vLTw" id="7qUf9K5pBzp" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pBzq" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pByW" resolve="j" />
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="7qUf9K5pBzr" role="37vLTx">
+                          <node concept="37vLTw" id="7qUf9K5pBzs" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBx7" resolve="pc1m" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pBzt" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="7qUf9K5pBzE" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pBzF" role="1Duv9x">
+                <property role="TrG5h" value="j" />
+                <node concept="10Oyi0" id="7qUf9K5pBzH" role="1tU5fm" />
+                <node concept="3cmrfG" id="7qUf9K5pBzI" role="33vP2m">
+                  <property role="3cmrfH" value="28" />
+                </node>
+              </node>
+              <node concept="3eOVzh" id="7qUf9K5pBzJ" role="1Dwp0S">
+                <node concept="37vLTw" id="7qUf9K5pBzK" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBzF" resolve="j" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBzL" role="3uHU7w">
+                  <property role="3cmrfH" value="56" />
+                </node>
+              </node>
+              <node concept="3uNrnE" id="7qUf9K5pBzN" role="1Dwrff">
+                <node concept="37vLTw" id="7qUf9K5pBzO" role="2$L3a6">
+                  <ref role="3cqZAo" node="7qUf9K5pBzF" resolve="j" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="7qUf9K5pBzQ" role="2LFqv$">
+                <node concept="3clFbF" id="7qUf9K5pBzR" role="3cqZAp">
+                  <node concept="37vLTI" id="7qUf9K5pBzS" role="3clFbG">
+                    <node concept="37vLTw" id="7qUf9K5pBzT" role="37vLTJ">
+                      <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                    </node>
+                    <node concept="3cpWs3" id="7qUf9K5pBzU" role="37vLTx">
+                      <node concept="37vLTw" id="7qUf9K5pBzV" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBzF" resolve="j" />
+                      </node>
+                      <node concept="AH0OO" id="7qUf9K5pBzW" role="3uHU7w">
+                        <node concept="37vLTw" id="7qUf9K5pBzX" role="AHHXb">
+                          <ref role="3cqZAo" node="7qUf9K5pBl6" resolve="totrot" />
+                        </node>
+                        <node concept="37vLTw" id="7qUf9K5pBzY" role="AHEQo">
+                          <ref role="3cqZAo" node="7qUf9K5pBy1" resolve="i" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="7qUf9K5pBzZ" role="3cqZAp">
+                  <node concept="3eOVzh" id="7qUf9K5pB$0" role="3clFbw">
+                    <node concept="37vLTw" id="7qUf9K5pB$1" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pB$2" role="3uHU7w">
+                      <property role="3cmrfH" value="56" />
+                    </node>
+                  </node>
+                  <node concept="9aQIb" id="7qUf9K5pB$d" role="9aQIa">
+                    <node concept="3clFbS" id="7qUf9K5pB$e" role="9aQI4">
+                      <node concept="3clFbF" id="7qUf9K5pB$f" role="3cqZAp">
+                        <node concept="37vLTI" id="7qUf9K5pB$g" role="3clFbG">
+                          <node concept="AH0OO" id="7qUf9K5pB$h" role="37vLTJ">
+                            <node concept="37vLTw" id="7qUf9K5pB$i" role="AHHXb">
+                              <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                            </node>
+                            <node concept="37vLTw" id="7qUf9K5pB$j" role="AHEQo">
+                              <ref role="3cqZAo" node="7qUf9K5pBzF" resolve="j" />
+                            </node>
+                          </node>
+                          <node concept="AH0OO" id="7qUf9K5pB$k" role="37vLTx">
+                            <node concept="37vLTw" id="7qUf9K5pB$l" role="AHHXb">
+                              <ref role="3cqZAo" node="7qUf9K5pBx7" resolve="pc1m" />
+                            </node>
+                            <node concept="3cpWsd" id="7qUf9K5pB$m" role="AHEQo">
+                              <node concept="37vLTw" id="7qUf9K5pB$n" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                              </node>
+                              <node concept="3cmrfG" id="7qUf9K5pB$o" role="3uHU7w">
+                                <property role="3cmrfH" value="28" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="7qUf9K5pB$4" role="3clFbx">
+                    <node concept="3clFbF" id="7qUf9K5pB$5" role="3cqZAp">
+                      <node concept="37vLTI" id="7qUf9K5pB$6" role="3clFbG">
+                        <node concept="AH0OO" id="7qUf9K5pB$7" role="37vLTJ">
+                          <node concept="37vLTw" id="7qUf9K5pB$8" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB$9" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pBzF" resolve="j" />
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="7qUf9K5pB$a" role="37vLTx">
+                          <node concept="37vLTw" id="7qUf9K5pB$b" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBx7" resolve="pc1m" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB$c" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pByd" resolve="l" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="7qUf9K5pB$p" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pB$q" role="1Duv9x">
+                <property role="TrG5h" value="j" />
+                <node concept="10Oyi0" id="7qUf9K5pB$s" role="1tU5fm" />
+                <node concept="3cmrfG" id="7qUf9K5pB$t" role="33vP2m">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3eOVzh" id="7qUf9K5pB$u" role="1Dwp0S">
+                <node concept="37vLTw" id="7qUf9K5pB$v" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pB$w" role="3uHU7w">
+                  <property role="3cmrfH" value="24" />
+                </node>
+              </node>
+              <node concept="3uNrnE" id="7qUf9K5pB$y" role="1Dwrff">
+                <node concept="37vLTw" id="7qUf9K5pB$z" role="2$L3a6">
+                  <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="7qUf9K5pB$_" role="2LFqv$">
+                <node concept="3clFbJ" id="7qUf9K5pB$A" role="3cqZAp">
+                  <node concept="AH0OO" id="7qUf9K5pB$B" role="3clFbw">
+                    <node concept="37vLTw" id="7qUf9K5pB$C" role="AHHXb">
+                      <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                    </node>
+                    <node concept="AH0OO" id="7qUf9K5pB$D" role="AHEQo">
+                      <node concept="37vLTw" id="7qUf9K5pB$E" role="AHHXb">
+                        <ref role="3cqZAo" node="7qUf9K5pBlr" resolve="pc2" />
+                      </node>
+                      <node concept="37vLTw" id="7qUf9K5pB$F" role="AHEQo">
+                        <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="7qUf9K5pB$H" role="3clFbx">
+                    <node concept="3clFbF" id="7qUf9K5pB$I" role="3cqZAp">
+                      <node concept="3vZ8r8" id="7qUf9K5pB$J" role="3clFbG">
+                        <node concept="AH0OO" id="7qUf9K5pB$K" role="37vLTJ">
+                          <node concept="37vLTw" id="7qUf9K5pB$L" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB$M" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pByg" resolve="m" />
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="7qUf9K5pB$N" role="37vLTx">
+                          <node concept="37vLTw" id="7qUf9K5pB$O" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBjG" resolve="bigbyte" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB$P" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="7qUf9K5pB$Q" role="3cqZAp">
+                  <node concept="AH0OO" id="7qUf9K5pB$R" role="3clFbw">
+                    <node concept="37vLTw" id="7qUf9K5pB$S" role="AHHXb">
+                      <ref role="3cqZAo" node="7qUf9K5pBxg" resolve="pcr" />
+                    </node>
+                    <node concept="AH0OO" id="7qUf9K5pB$T" role="AHEQo">
+                      <node concept="37vLTw" id="7qUf9K5pB$U" role="AHHXb">
+                        <ref role="3cqZAo" node="7qUf9K5pBlr" resolve="pc2" />
+                      </node>
+                      <node concept="3cpWs3" id="7qUf9K5pB$V" role="AHEQo">
+                        <node concept="37vLTw" id="7qUf9K5pB$W" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pB$X" role="3uHU7w">
+                          <property role="3cmrfH" value="24" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="7qUf9K5pB$Z" role="3clFbx">
+                    <node concept="3clFbF" id="7qUf9K5pB_0" role="3cqZAp">
+                      <node concept="3vZ8r8" id="7qUf9K5pB_1" role="3clFbG">
+                        <node concept="AH0OO" id="7qUf9K5pB_2" role="37vLTJ">
+                          <node concept="37vLTw" id="7qUf9K5pB_3" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB_4" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pByj" resolve="n" />
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="7qUf9K5pB_5" role="37vLTx">
+                          <node concept="37vLTw" id="7qUf9K5pB_6" role="AHHXb">
+                            <ref role="3cqZAo" node="7qUf9K5pBjG" resolve="bigbyte" />
+                          </node>
+                          <node concept="37vLTw" id="7qUf9K5pB_7" role="AHEQo">
+                            <ref role="3cqZAo" node="7qUf9K5pB$q" resolve="j" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="7qUf9K5pBKv" role="3cqZAp">
+          <node concept="1PaTwC" id="7qUf9K5pBKw" role="1aUNEU">
+            <node concept="3oM_SD" id="7qUf9K5pBKx" role="1PaTwD">
+              <property role="3oM_SC" value="store" />
+            </node>
+            <node concept="3oM_SD" id="7qUf9K5pBKy" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+            <node concept="3oM_SD" id="7qUf9K5pBKz" role="1PaTwD">
+              <property role="3oM_SC" value="processed" />
+            </node>
+            <node concept="3oM_SD" id="7qUf9K5pBK$" role="1PaTwD">
+              <property role="3oM_SC" value="key" />
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="7qUf9K5pB_8" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pB_9" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="7qUf9K5pB_b" role="1tU5fm" />
+            <node concept="3cmrfG" id="7qUf9K5pB_c" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3y3z36" id="7qUf9K5pB_d" role="1Dwp0S">
+            <node concept="37vLTw" id="7qUf9K5pB_e" role="3uHU7B">
+              <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+            </node>
+            <node concept="3cmrfG" id="7qUf9K5pB_f" role="3uHU7w">
+              <property role="3cmrfH" value="32" />
+            </node>
+          </node>
+          <node concept="d57v9" id="7qUf9K5pB_h" role="1Dwrff">
+            <node concept="37vLTw" id="7qUf9K5pB_i" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+            </node>
+            <node concept="3cmrfG" id="7qUf9K5pB_j" role="37vLTx">
+              <property role="3cmrfH" value="2" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pB_l" role="2LFqv$">
+            <node concept="3cpWs8" id="7qUf9K5pB_n" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pB_m" role="3cpWs9">
+                <property role="TrG5h" value="i1" />
+                <node concept="10Oyi0" id="7qUf9K5pB_o" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3cpWs8" id="7qUf9K5pB_q" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pB_p" role="3cpWs9">
+                <property role="TrG5h" value="i2" />
+                <node concept="10Oyi0" id="7qUf9K5pB_r" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pB_s" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pB_t" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pB_u" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pB_m" resolve="i1" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pB_v" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pB_w" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pB_x" role="AHEQo">
+                    <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pB_y" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pB_z" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pB_$" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pB_p" resolve="i2" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pB__" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pB_A" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                  </node>
+                  <node concept="3cpWs3" id="7qUf9K5pB_B" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pB_C" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pB_D" role="3uHU7w">
+                      <property role="3cmrfH" value="1" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pB_E" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pB_F" role="3clFbG">
+                <node concept="AH0OO" id="7qUf9K5pB_G" role="37vLTJ">
+                  <node concept="37vLTw" id="7qUf9K5pB_H" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pB_I" role="AHEQo">
+                    <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+                  </node>
+                </node>
+                <node concept="pVOtf" id="7qUf9K5pB_J" role="37vLTx">
+                  <node concept="pVOtf" id="7qUf9K5pB_K" role="3uHU7B">
+                    <node concept="pVOtf" id="7qUf9K5pB_L" role="3uHU7B">
+                      <node concept="1eOMI4" id="7qUf9K5pB_S" role="3uHU7B">
+                        <node concept="1GRDU$" id="7qUf9K5pB_M" role="1eOMHV">
+                          <node concept="1eOMI4" id="7qUf9K5pB_Q" role="3uHU7B">
+                            <node concept="pVHWs" id="7qUf9K5pB_N" role="1eOMHV">
+                              <node concept="37vLTw" id="7qUf9K5pB_O" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pB_m" resolve="i1" />
+                              </node>
+                              <node concept="2nou5x" id="7qUf9K5pB_P" role="3uHU7w">
+                                <property role="2noCCI" value="00fc0000" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="7qUf9K5pB_R" role="3uHU7w">
+                            <property role="3cmrfH" value="6" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="1eOMI4" id="7qUf9K5pB_Z" role="3uHU7w">
+                        <node concept="1GRDU$" id="7qUf9K5pB_T" role="1eOMHV">
+                          <node concept="1eOMI4" id="7qUf9K5pB_X" role="3uHU7B">
+                            <node concept="pVHWs" id="7qUf9K5pB_U" role="1eOMHV">
+                              <node concept="37vLTw" id="7qUf9K5pB_V" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pB_m" resolve="i1" />
+                              </node>
+                              <node concept="2nou5x" id="7qUf9K5pB_W" role="3uHU7w">
+                                <property role="2noCCI" value="00000fc0" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="7qUf9K5pB_Y" role="3uHU7w">
+                            <property role="3cmrfH" value="10" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="1eOMI4" id="7qUf9K5pBA6" role="3uHU7w">
+                      <node concept="1ZsPo3" id="7qUf9K5pBA0" role="1eOMHV">
+                        <node concept="1eOMI4" id="7qUf9K5pBA4" role="3uHU7B">
+                          <node concept="pVHWs" id="7qUf9K5pBA1" role="1eOMHV">
+                            <node concept="37vLTw" id="7qUf9K5pBA2" role="3uHU7B">
+                              <ref role="3cqZAo" node="7qUf9K5pB_p" resolve="i2" />
+                            </node>
+                            <node concept="2nou5x" id="7qUf9K5pBA3" role="3uHU7w">
+                              <property role="2noCCI" value="00fc0000" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBA5" role="3uHU7w">
+                          <property role="3cmrfH" value="10" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1eOMI4" id="7qUf9K5pBAd" role="3uHU7w">
+                    <node concept="1ZsPo3" id="7qUf9K5pBA7" role="1eOMHV">
+                      <node concept="1eOMI4" id="7qUf9K5pBAb" role="3uHU7B">
+                        <node concept="pVHWs" id="7qUf9K5pBA8" role="1eOMHV">
+                          <node concept="37vLTw" id="7qUf9K5pBA9" role="3uHU7B">
+                            <ref role="3cqZAo" node="7qUf9K5pB_p" resolve="i2" />
+                          </node>
+                          <node concept="2nou5x" id="7qUf9K5pBAa" role="3uHU7w">
+                            <property role="2noCCI" value="00000fc0" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBAc" role="3uHU7w">
+                        <property role="3cmrfH" value="6" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBAe" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBAf" role="3clFbG">
+                <node concept="AH0OO" id="7qUf9K5pBAg" role="37vLTJ">
+                  <node concept="37vLTw" id="7qUf9K5pBAh" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+                  </node>
+                  <node concept="3cpWs3" id="7qUf9K5pBAi" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pBAj" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pB_9" resolve="i" />
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pBAk" role="3uHU7w">
+                      <property role="3cmrfH" value="1" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="pVOtf" id="7qUf9K5pBAl" role="37vLTx">
+                  <node concept="pVOtf" id="7qUf9K5pBAm" role="3uHU7B">
+                    <node concept="pVOtf" id="7qUf9K5pBAn" role="3uHU7B">
+                      <node concept="1eOMI4" id="7qUf9K5pBAu" role="3uHU7B">
+                        <node concept="1GRDU$" id="7qUf9K5pBAo" role="1eOMHV">
+                          <node concept="1eOMI4" id="7qUf9K5pBAs" role="3uHU7B">
+                            <node concept="pVHWs" id="7qUf9K5pBAp" role="1eOMHV">
+                              <node concept="37vLTw" id="7qUf9K5pBAq" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pB_m" resolve="i1" />
+                              </node>
+                              <node concept="2nou5x" id="7qUf9K5pBAr" role="3uHU7w">
+                                <property role="2noCCI" value="0003f000" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="7qUf9K5pBAt" role="3uHU7w">
+                            <property role="3cmrfH" value="12" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="1eOMI4" id="7qUf9K5pBA_" role="3uHU7w">
+                        <node concept="1GRDU$" id="7qUf9K5pBAv" role="1eOMHV">
+                          <node concept="1eOMI4" id="7qUf9K5pBAz" role="3uHU7B">
+                            <node concept="pVHWs" id="7qUf9K5pBAw" role="1eOMHV">
+                              <node concept="37vLTw" id="7qUf9K5pBAx" role="3uHU7B">
+                                <ref role="3cqZAo" node="7qUf9K5pB_m" resolve="i1" />
+                              </node>
+                              <node concept="2nou5x" id="7qUf9K5pBAy" role="3uHU7w">
+                                <property role="2noCCI" value="0000003f" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="7qUf9K5pBA$" role="3uHU7w">
+                            <property role="3cmrfH" value="16" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="1eOMI4" id="7qUf9K5pBAG" role="3uHU7w">
+                      <node concept="1ZsPo3" id="7qUf9K5pBAA" role="1eOMHV">
+                        <node concept="1eOMI4" id="7qUf9K5pBAE" role="3uHU7B">
+                          <node concept="pVHWs" id="7qUf9K5pBAB" role="1eOMHV">
+                            <node concept="37vLTw" id="7qUf9K5pBAC" role="3uHU7B">
+                              <ref role="3cqZAo" node="7qUf9K5pB_p" resolve="i2" />
+                            </node>
+                            <node concept="2nou5x" id="7qUf9K5pBAD" role="3uHU7w">
+                              <property role="2noCCI" value="0003f000" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBAF" role="3uHU7w">
+                          <property role="3cmrfH" value="4" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1eOMI4" id="7qUf9K5pBAK" role="3uHU7w">
+                    <node concept="pVHWs" id="7qUf9K5pBAH" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBAI" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pB_p" resolve="i2" />
+                      </node>
+                      <node concept="2nou5x" id="7qUf9K5pBAJ" role="3uHU7w">
+                        <property role="2noCCI" value="0000003f" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="7qUf9K5pBAL" role="3cqZAp">
+          <node concept="37vLTw" id="7qUf9K5pBAM" role="3cqZAk">
+            <ref role="3cqZAo" node="7qUf9K5pBwY" resolve="newKey" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="7qUf9K5pBAN" role="1B3o_S" />
+      <node concept="10Q1$e" id="7qUf9K5pBAP" role="3clF45">
+        <node concept="10Oyi0" id="7qUf9K5pBAO" role="10Q1$1" />
+      </node>
+      <node concept="P$JXv" id="7qUf9K5pBAQ" role="lGtFl">
+        <node concept="TZ5HA" id="7qUf9K5pBKl" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKm" role="1dT_Ay">
+            <property role="1dT_AB" value=" generate an integer based working key based on our secret key" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKn" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKo" role="1dT_Ay">
+            <property role="1dT_AB" value=" and what we processing we are planning to do." />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKp" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKq" role="1dT_Ay">
+            <property role="1dT_AB" value="" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKr" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKs" role="1dT_Ay">
+            <property role="1dT_AB" value=" Acknowledgements for this routine go to James Gillogly &amp;amp; Phil Karn." />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="7qUf9K5pBKt" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKu" role="1dT_Ay">
+            <property role="1dT_AB" value="         (whoever, and wherever they are!)." />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="7qUf9K5pBAR" role="jymVt">
+      <property role="TrG5h" value="desFunc" />
+      <node concept="37vLTG" id="7qUf9K5pBAS" role="3clF46">
+        <property role="TrG5h" value="wKey" />
+        <node concept="10Q1$e" id="7qUf9K5pBAU" role="1tU5fm">
+          <node concept="10Oyi0" id="7qUf9K5pBAT" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBAV" role="3clF46">
+        <property role="TrG5h" value="in" />
+        <node concept="10Q1$e" id="7qUf9K5pBAX" role="1tU5fm">
+          <node concept="10PrrI" id="7qUf9K5pBAW" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBAY" role="3clF46">
+        <property role="TrG5h" value="inOff" />
+        <node concept="10Oyi0" id="7qUf9K5pBAZ" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBB0" role="3clF46">
+        <property role="TrG5h" value="out" />
+        <node concept="10Q1$e" id="7qUf9K5pBB2" role="1tU5fm">
+          <node concept="10PrrI" id="7qUf9K5pBB1" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="7qUf9K5pBB3" role="3clF46">
+        <property role="TrG5h" value="outOff" />
+        <node concept="10Oyi0" id="7qUf9K5pBB4" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="7qUf9K5pBB5" role="3clF47">
+        <node concept="3cpWs8" id="7qUf9K5pBB7" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBB6" role="3cpWs9">
+            <property role="TrG5h" value="work" />
+            <node concept="10Oyi0" id="7qUf9K5pBB8" role="1tU5fm" />
+          </node>
+        </node>
+        <node concept="3cpWs8" id="7qUf9K5pBBa" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBB9" role="3cpWs9">
+            <property role="TrG5h" value="right" />
+            <node concept="10Oyi0" id="7qUf9K5pBBb" role="1tU5fm" />
+          </node>
+        </node>
+        <node concept="3cpWs8" id="7qUf9K5pBBd" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBBc" role="3cpWs9">
+            <property role="TrG5h" value="left" />
+            <node concept="10Oyi0" id="7qUf9K5pBBe" role="1tU5fm" />
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBf" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBBg" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBh" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="2YIFZM" id="7qUf9K5pGHC" role="37vLTx">
+              <ref role="1Pybhc" to="mgsy:~Pack" resolve="Pack" />
+              <ref role="37wK5l" to="mgsy:~Pack.bigEndianToInt(byte[],int)" resolve="bigEndianToInt" />
+              <node concept="37vLTw" id="7qUf9K5pGHD" role="37wK5m">
+                <ref role="3cqZAo" node="7qUf9K5pBAV" resolve="in" />
+              </node>
+              <node concept="37vLTw" id="7qUf9K5pGHE" role="37wK5m">
+                <ref role="3cqZAo" node="7qUf9K5pBAY" resolve="inOff" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBl" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBBm" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBn" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="2YIFZM" id="7qUf9K5pGFD" role="37vLTx">
+              <ref role="1Pybhc" to="mgsy:~Pack" resolve="Pack" />
+              <ref role="37wK5l" to="mgsy:~Pack.bigEndianToInt(byte[],int)" resolve="bigEndianToInt" />
+              <node concept="37vLTw" id="7qUf9K5pGFE" role="37wK5m">
+                <ref role="3cqZAo" node="7qUf9K5pBAV" resolve="in" />
+              </node>
+              <node concept="3cpWs3" id="7qUf9K5pGFF" role="37wK5m">
+                <node concept="37vLTw" id="7qUf9K5pGFG" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBAY" resolve="inOff" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pGFH" role="3uHU7w">
+                  <property role="3cmrfH" value="4" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBt" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBBu" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBv" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBBw" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBBB" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBBx" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBB_" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBBy" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBBz" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBB$" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBBA" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBBC" role="3uHU7w">
+                <property role="2noCCI" value="0f0f0f0f" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBD" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBBE" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBF" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBBG" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBH" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBBI" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBJ" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBBN" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBBK" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBBL" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBBM" role="3uHU7w">
+                  <property role="3cmrfH" value="4" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBBO" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBBP" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBBQ" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBBR" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBBY" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBBS" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBBW" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBBT" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBBU" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBBV" role="3uHU7w">
+                        <property role="3cmrfH" value="16" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBBX" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBBZ" role="3uHU7w">
+                <property role="2noCCI" value="0000ffff" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBC0" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBC1" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBC2" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBC3" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBC4" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBC5" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBC6" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBCa" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBC7" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBC8" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBC9" role="3uHU7w">
+                  <property role="3cmrfH" value="16" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCb" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBCc" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCd" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBCe" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBCl" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBCf" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBCj" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBCg" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBCh" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBCi" role="3uHU7w">
+                        <property role="3cmrfH" value="2" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBCk" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBCm" role="3uHU7w">
+                <property role="2noCCI" value="33333333" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCn" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBCo" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCp" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBCq" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCr" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBCs" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCt" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBCx" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBCu" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBCv" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBCw" role="3uHU7w">
+                  <property role="3cmrfH" value="2" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCy" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBCz" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBC$" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBC_" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBCG" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBCA" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBCE" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBCB" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBCC" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBCD" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBCF" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBCH" role="3uHU7w">
+                <property role="2noCCI" value="00ff00ff" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCI" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBCJ" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCK" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBCL" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCM" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBCN" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCO" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBCS" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBCP" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBCQ" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBCR" role="3uHU7w">
+                  <property role="3cmrfH" value="8" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBCT" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBCU" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBCV" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="pVOtf" id="7qUf9K5pBCW" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBD0" role="3uHU7B">
+                <node concept="1GRDU$" id="7qUf9K5pBCX" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBCY" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBCZ" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="1eOMI4" id="7qUf9K5pBD4" role="3uHU7w">
+                <node concept="1ZsPo3" id="7qUf9K5pBD1" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBD2" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBD3" role="3uHU7w">
+                    <property role="3cmrfH" value="31" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBD5" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBD6" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBD7" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBD8" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBDc" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBD9" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBDa" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBDb" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBDd" role="3uHU7w">
+                <property role="2noCCI" value="aaaaaaaa" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBDe" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBDf" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBDg" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBDh" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBDi" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBDj" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBDk" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBDl" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBDm" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBDn" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBDo" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="pVOtf" id="7qUf9K5pBDp" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBDt" role="3uHU7B">
+                <node concept="1GRDU$" id="7qUf9K5pBDq" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBDr" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBDs" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="1eOMI4" id="7qUf9K5pBDx" role="3uHU7w">
+                <node concept="1ZsPo3" id="7qUf9K5pBDu" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBDv" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBDw" role="3uHU7w">
+                    <property role="3cmrfH" value="31" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="7qUf9K5pBDy" role="3cqZAp">
+          <node concept="3cpWsn" id="7qUf9K5pBDz" role="1Duv9x">
+            <property role="TrG5h" value="round" />
+            <node concept="10Oyi0" id="7qUf9K5pBD_" role="1tU5fm" />
+            <node concept="3cmrfG" id="7qUf9K5pBDA" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="7qUf9K5pBDB" role="1Dwp0S">
+            <node concept="37vLTw" id="7qUf9K5pBDC" role="3uHU7B">
+              <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+            </node>
+            <node concept="3cmrfG" id="7qUf9K5pBDD" role="3uHU7w">
+              <property role="3cmrfH" value="8" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="7qUf9K5pBDF" role="1Dwrff">
+            <node concept="37vLTw" id="7qUf9K5pBDG" role="2$L3a6">
+              <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="7qUf9K5pBDI" role="2LFqv$">
+            <node concept="3cpWs8" id="7qUf9K5pBDK" role="3cqZAp">
+              <node concept="3cpWsn" id="7qUf9K5pBDJ" role="3cpWs9">
+                <property role="TrG5h" value="fval" />
+                <node concept="10Oyi0" id="7qUf9K5pBDL" role="1tU5fm" />
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBDM" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBDN" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBDO" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="pVOtf" id="7qUf9K5pBDP" role="37vLTx">
+                  <node concept="1eOMI4" id="7qUf9K5pBDT" role="3uHU7B">
+                    <node concept="1GRDU$" id="7qUf9K5pBDQ" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBDR" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBDS" role="3uHU7w">
+                        <property role="3cmrfH" value="28" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1eOMI4" id="7qUf9K5pBDX" role="3uHU7w">
+                    <node concept="1ZsPo3" id="7qUf9K5pBDU" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBDV" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBDW" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBDY" role="3cqZAp">
+              <node concept="3vZ8rc" id="7qUf9K5pBDZ" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBE0" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBE1" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBE2" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBAS" resolve="wKey" />
+                  </node>
+                  <node concept="3cpWs3" id="7qUf9K5pBE3" role="AHEQo">
+                    <node concept="17qRlL" id="7qUf9K5pBE4" role="3uHU7B">
+                      <node concept="37vLTw" id="7qUf9K5pBE5" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBE6" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pBE7" role="3uHU7w">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBE8" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBE9" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEa" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBEb" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBEc" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBsI" resolve="SP7" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBEd" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pBEe" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBEf" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBEg" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBEh" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEi" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBEj" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBEk" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBq$" resolve="SP5" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBEl" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBEp" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBEm" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBEn" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBEo" role="3uHU7w">
+                          <property role="3cmrfH" value="8" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBEq" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBEr" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBEs" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEt" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBEu" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBEv" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBoq" resolve="SP3" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBEw" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBE$" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBEx" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBEy" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBEz" role="3uHU7w">
+                          <property role="3cmrfH" value="16" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBE_" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBEA" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBEB" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEC" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBED" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBEE" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBmg" resolve="SP1" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBEF" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBEJ" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBEG" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBEH" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBEI" role="3uHU7w">
+                          <property role="3cmrfH" value="24" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBEK" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBEL" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBEM" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEN" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="pVQyQ" id="7qUf9K5pBEO" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBEP" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                  <node concept="AH0OO" id="7qUf9K5pBEQ" role="3uHU7w">
+                    <node concept="37vLTw" id="7qUf9K5pBER" role="AHHXb">
+                      <ref role="3cqZAo" node="7qUf9K5pBAS" resolve="wKey" />
+                    </node>
+                    <node concept="3cpWs3" id="7qUf9K5pBES" role="AHEQo">
+                      <node concept="17qRlL" id="7qUf9K5pBET" role="3uHU7B">
+                        <node concept="37vLTw" id="7qUf9K5pBEU" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBEV" role="3uHU7w">
+                          <property role="3cmrfH" value="4" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBEW" role="3uHU7w">
+                        <property role="3cmrfH" value="1" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBEX" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBEY" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBEZ" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBF0" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBF1" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBtN" resolve="SP8" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBF2" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pBF3" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBF4" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBF5" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBF6" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBF7" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBF8" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBF9" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBrD" resolve="SP6" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBFa" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBFe" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBFb" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBFc" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBFd" role="3uHU7w">
+                          <property role="3cmrfH" value="8" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBFf" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBFg" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBFh" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBFi" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBFj" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBFk" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBpv" resolve="SP4" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBFl" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBFp" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBFm" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBFn" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBFo" role="3uHU7w">
+                          <property role="3cmrfH" value="16" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBFq" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBFr" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBFs" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBFt" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBFu" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBFv" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBnl" resolve="SP2" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBFw" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBF$" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBFx" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBFy" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBFz" role="3uHU7w">
+                          <property role="3cmrfH" value="24" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBF_" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBFA" role="3cqZAp">
+              <node concept="3vZ8rc" id="7qUf9K5pBFB" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBFC" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                </node>
+                <node concept="37vLTw" id="7qUf9K5pBFD" role="37vLTx">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBFE" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBFF" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBFG" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="pVOtf" id="7qUf9K5pBFH" role="37vLTx">
+                  <node concept="1eOMI4" id="7qUf9K5pBFL" role="3uHU7B">
+                    <node concept="1GRDU$" id="7qUf9K5pBFI" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBFJ" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBFK" role="3uHU7w">
+                        <property role="3cmrfH" value="28" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="1eOMI4" id="7qUf9K5pBFP" role="3uHU7w">
+                    <node concept="1ZsPo3" id="7qUf9K5pBFM" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBFN" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBFO" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBFQ" role="3cqZAp">
+              <node concept="3vZ8rc" id="7qUf9K5pBFR" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBFS" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBFT" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBFU" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBAS" resolve="wKey" />
+                  </node>
+                  <node concept="3cpWs3" id="7qUf9K5pBFV" role="AHEQo">
+                    <node concept="17qRlL" id="7qUf9K5pBFW" role="3uHU7B">
+                      <node concept="37vLTw" id="7qUf9K5pBFX" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBFY" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="7qUf9K5pBFZ" role="3uHU7w">
+                      <property role="3cmrfH" value="2" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBG0" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBG1" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBG2" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBG3" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBG4" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBsI" resolve="SP7" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBG5" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pBG6" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBG7" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBG8" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBG9" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGa" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBGb" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBGc" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBq$" resolve="SP5" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBGd" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBGh" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBGe" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBGf" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBGg" role="3uHU7w">
+                          <property role="3cmrfH" value="8" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBGi" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBGj" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBGk" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGl" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBGm" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBGn" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBoq" resolve="SP3" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBGo" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBGs" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBGp" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBGq" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBGr" role="3uHU7w">
+                          <property role="3cmrfH" value="16" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBGt" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBGu" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBGv" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGw" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBGx" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBGy" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBmg" resolve="SP1" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBGz" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBGB" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBG$" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBG_" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBGA" role="3uHU7w">
+                          <property role="3cmrfH" value="24" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBGC" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBGD" role="3cqZAp">
+              <node concept="37vLTI" id="7qUf9K5pBGE" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGF" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="pVQyQ" id="7qUf9K5pBGG" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBGH" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="AH0OO" id="7qUf9K5pBGI" role="3uHU7w">
+                    <node concept="37vLTw" id="7qUf9K5pBGJ" role="AHHXb">
+                      <ref role="3cqZAo" node="7qUf9K5pBAS" resolve="wKey" />
+                    </node>
+                    <node concept="3cpWs3" id="7qUf9K5pBGK" role="AHEQo">
+                      <node concept="17qRlL" id="7qUf9K5pBGL" role="3uHU7B">
+                        <node concept="37vLTw" id="7qUf9K5pBGM" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBDz" resolve="round" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBGN" role="3uHU7w">
+                          <property role="3cmrfH" value="4" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBGO" role="3uHU7w">
+                        <property role="3cmrfH" value="3" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBGP" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBGQ" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGR" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBGS" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBGT" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBtN" resolve="SP8" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBGU" role="AHEQo">
+                    <node concept="37vLTw" id="7qUf9K5pBGV" role="3uHU7B">
+                      <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBGW" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBGX" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBGY" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBGZ" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBH0" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBH1" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBrD" resolve="SP6" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBH2" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBH6" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBH3" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBH4" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBH5" role="3uHU7w">
+                          <property role="3cmrfH" value="8" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBH7" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBH8" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBH9" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBHa" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBHb" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBHc" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBpv" resolve="SP4" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBHd" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBHh" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBHe" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBHf" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBHg" role="3uHU7w">
+                          <property role="3cmrfH" value="16" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBHi" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBHj" role="3cqZAp">
+              <node concept="3vZ8r8" id="7qUf9K5pBHk" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBHl" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+                <node concept="AH0OO" id="7qUf9K5pBHm" role="37vLTx">
+                  <node concept="37vLTw" id="7qUf9K5pBHn" role="AHHXb">
+                    <ref role="3cqZAo" node="7qUf9K5pBnl" resolve="SP2" />
+                  </node>
+                  <node concept="pVHWs" id="7qUf9K5pBHo" role="AHEQo">
+                    <node concept="1eOMI4" id="7qUf9K5pBHs" role="3uHU7B">
+                      <node concept="1ZsPo3" id="7qUf9K5pBHp" role="1eOMHV">
+                        <node concept="37vLTw" id="7qUf9K5pBHq" role="3uHU7B">
+                          <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                        </node>
+                        <node concept="3cmrfG" id="7qUf9K5pBHr" role="3uHU7w">
+                          <property role="3cmrfH" value="24" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2nou5x" id="7qUf9K5pBHt" role="3uHU7w">
+                      <property role="2noCCI" value="3f" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="7qUf9K5pBHu" role="3cqZAp">
+              <node concept="3vZ8rc" id="7qUf9K5pBHv" role="3clFbG">
+                <node concept="37vLTw" id="7qUf9K5pBHw" role="37vLTJ">
+                  <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                </node>
+                <node concept="37vLTw" id="7qUf9K5pBHx" role="37vLTx">
+                  <ref role="3cqZAo" node="7qUf9K5pBDJ" resolve="fval" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBHy" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBHz" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBH$" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="pVOtf" id="7qUf9K5pBH_" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBHD" role="3uHU7B">
+                <node concept="1GRDU$" id="7qUf9K5pBHA" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBHB" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBHC" role="3uHU7w">
+                    <property role="3cmrfH" value="31" />
+                  </node>
+                </node>
+              </node>
+              <node concept="1eOMI4" id="7qUf9K5pBHH" role="3uHU7w">
+                <node concept="1ZsPo3" id="7qUf9K5pBHE" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBHF" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBHG" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBHI" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBHJ" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBHK" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBHL" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBHP" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBHM" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBHN" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBHO" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBHQ" role="3uHU7w">
+                <property role="2noCCI" value="aaaaaaaa" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBHR" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBHS" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBHT" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBHU" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBHV" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBHW" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBHX" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBHY" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBHZ" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBI0" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBI1" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="pVOtf" id="7qUf9K5pBI2" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBI6" role="3uHU7B">
+                <node concept="1GRDU$" id="7qUf9K5pBI3" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBI4" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBI5" role="3uHU7w">
+                    <property role="3cmrfH" value="31" />
+                  </node>
+                </node>
+              </node>
+              <node concept="1eOMI4" id="7qUf9K5pBIa" role="3uHU7w">
+                <node concept="1ZsPo3" id="7qUf9K5pBI7" role="1eOMHV">
+                  <node concept="37vLTw" id="7qUf9K5pBI8" role="3uHU7B">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                  <node concept="3cmrfG" id="7qUf9K5pBI9" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIb" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBIc" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBId" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBIe" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBIl" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBIf" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBIj" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBIg" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBIh" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBIi" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBIk" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBIm" role="3uHU7w">
+                <property role="2noCCI" value="00ff00ff" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIn" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBIo" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBIp" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBIq" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIr" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBIs" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBIt" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBIx" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBIu" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBIv" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBIw" role="3uHU7w">
+                  <property role="3cmrfH" value="8" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIy" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBIz" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBI$" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBI_" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBIG" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBIA" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBIE" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBIB" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBIC" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBID" role="3uHU7w">
+                        <property role="3cmrfH" value="2" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBIF" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBIH" role="3uHU7w">
+                <property role="2noCCI" value="33333333" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBII" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBIJ" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBIK" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBIL" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIM" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBIN" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBIO" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBIS" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBIP" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBIQ" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBIR" role="3uHU7w">
+                  <property role="3cmrfH" value="2" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBIT" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBIU" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBIV" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBIW" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBJ3" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBIX" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBJ1" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBIY" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBIZ" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBJ0" role="3uHU7w">
+                        <property role="3cmrfH" value="16" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBJ2" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBJ4" role="3uHU7w">
+                <property role="2noCCI" value="0000ffff" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJ5" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBJ6" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBJ7" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBJ8" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJ9" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBJa" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBJb" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBJf" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBJc" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBJd" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBJe" role="3uHU7w">
+                  <property role="3cmrfH" value="16" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJg" role="3cqZAp">
+          <node concept="37vLTI" id="7qUf9K5pBJh" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBJi" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+            <node concept="pVHWs" id="7qUf9K5pBJj" role="37vLTx">
+              <node concept="1eOMI4" id="7qUf9K5pBJq" role="3uHU7B">
+                <node concept="pVQyQ" id="7qUf9K5pBJk" role="1eOMHV">
+                  <node concept="1eOMI4" id="7qUf9K5pBJo" role="3uHU7B">
+                    <node concept="1ZsPo3" id="7qUf9K5pBJl" role="1eOMHV">
+                      <node concept="37vLTw" id="7qUf9K5pBJm" role="3uHU7B">
+                        <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+                      </node>
+                      <node concept="3cmrfG" id="7qUf9K5pBJn" role="3uHU7w">
+                        <property role="3cmrfH" value="4" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="7qUf9K5pBJp" role="3uHU7w">
+                    <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2nou5x" id="7qUf9K5pBJr" role="3uHU7w">
+                <property role="2noCCI" value="0f0f0f0f" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJs" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBJt" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBJu" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pBJv" role="37vLTx">
+              <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJw" role="3cqZAp">
+          <node concept="3vZ8rc" id="7qUf9K5pBJx" role="3clFbG">
+            <node concept="37vLTw" id="7qUf9K5pBJy" role="37vLTJ">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="1eOMI4" id="7qUf9K5pBJA" role="37vLTx">
+              <node concept="1GRDU$" id="7qUf9K5pBJz" role="1eOMHV">
+                <node concept="37vLTw" id="7qUf9K5pBJ$" role="3uHU7B">
+                  <ref role="3cqZAo" node="7qUf9K5pBB6" resolve="work" />
+                </node>
+                <node concept="3cmrfG" id="7qUf9K5pBJ_" role="3uHU7w">
+                  <property role="3cmrfH" value="4" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJB" role="3cqZAp">
+          <node concept="2YIFZM" id="7qUf9K5pGHP" role="3clFbG">
+            <ref role="1Pybhc" to="mgsy:~Pack" resolve="Pack" />
+            <ref role="37wK5l" to="mgsy:~Pack.intToBigEndian(int,byte[],int)" resolve="intToBigEndian" />
+            <node concept="37vLTw" id="7qUf9K5pGHQ" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBB9" resolve="right" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pGHR" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBB0" resolve="out" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pGHS" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBB3" resolve="outOff" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="7qUf9K5pBJG" role="3cqZAp">
+          <node concept="2YIFZM" id="7qUf9K5pGGu" role="3clFbG">
+            <ref role="1Pybhc" to="mgsy:~Pack" resolve="Pack" />
+            <ref role="37wK5l" to="mgsy:~Pack.intToBigEndian(int,byte[],int)" resolve="intToBigEndian" />
+            <node concept="37vLTw" id="7qUf9K5pGGv" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBBc" resolve="left" />
+            </node>
+            <node concept="37vLTw" id="7qUf9K5pGGw" role="37wK5m">
+              <ref role="3cqZAo" node="7qUf9K5pBB0" resolve="out" />
+            </node>
+            <node concept="3cpWs3" id="7qUf9K5pGGx" role="37wK5m">
+              <node concept="37vLTw" id="7qUf9K5pGGy" role="3uHU7B">
+                <ref role="3cqZAo" node="7qUf9K5pBB3" resolve="outOff" />
+              </node>
+              <node concept="3cmrfG" id="7qUf9K5pGGz" role="3uHU7w">
+                <property role="3cmrfH" value="4" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="7qUf9K5pBJN" role="1B3o_S" />
+      <node concept="3cqZAl" id="7qUf9K5pBJO" role="3clF45" />
+      <node concept="P$JXv" id="7qUf9K5pBJP" role="lGtFl">
+        <node concept="TZ5HA" id="7qUf9K5pBK_" role="TZ5H$">
+          <node concept="1dT_AC" id="7qUf9K5pBKA" role="1dT_Ay">
+            <property role="1dT_AB" value="the DES engine." />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3uibUv" id="7qUf9K5pBjj" role="EKbjA">
+      <ref role="3uigEE" to="6y4x:~BlockCipher" resolve="BlockCipher" />
+    </node>
+  </node>
+</model>
+
@@ -0,0 +1,2427 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<model ref="r:3f6270f5-c8d8-5449-9c91-f7c13d834806(BouncyCastle.bc.crypto.generators)">
+  <persistence version="9" />
+  <languages>
+    <use id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage" version="11" />
+    <use id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL" version="0" />
+    <use id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc" version="2" />
+  </languages>
+  <imports>
+    <import index="xlxw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.math(JDK/)" />
+    <import index="c790" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math.ec(BouncyCastle/)" />
+    <import index="gz2w" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math(BouncyCastle/)" />
+    <import index="mgsy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.util(BouncyCastle/)" />
+    <import index="xewt" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.generators(BouncyCastle/)" />
+    <import index="6y4x" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto(BouncyCastle/)" />
+    <import index="25z7" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.params(BouncyCastle/)" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" />
+    <import index="c0ik" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.symmetric.util(BouncyCastle/)" />
+    <import index="pfyx" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto(JDK/)" />
+    <import index="jgjw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security(JDK/)" />
+    <import index="guwi" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.io(JDK/)" />
+    <import index="41y5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.spec(JDK/)" />
+    <import index="aql8" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.util(BouncyCastle/)" />
+    <import index="7lc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.spec(JDK/)" />
+    <import index="kdo4" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.pkcs(BouncyCastle/)" />
+    <import index="9djp" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.spec(BouncyCastle/)" />
+    <import index="559f" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jce.provider(BouncyCastle/)" />
+    <import index="t6h5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.reflect(JDK/)" />
+    <import index="b4ur" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.modes(BouncyCastle/)" />
+    <import index="zfbc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.nio(JDK/)" />
+    <import index="s8fy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.fpe(BouncyCastle/)" />
+    <import index="xf7z" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.interfaces(JDK/)" />
+    <import index="pvh0" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce(BouncyCastle/)" />
+    <import index="qrpw" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.engines(BouncyCastle/)" />
+    <import index="4pdr" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.paddings(BouncyCastle/)" />
+    <import index="9oed" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1(BouncyCastle/)" />
+    <import index="oln5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.internal.asn1.cms(BouncyCastle/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="eqo5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.config(BouncyCastle/)" />
+    <import index="j2lh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.nist(BouncyCastle/)" />
+    <import index="g9oq" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.bc(BouncyCastle/)" />
+    <import index="pbt1" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.util(BouncyCastle/)" />
+    <import index="iflh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.misc(BouncyCastle/)" />
+    <import index="t1mn" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.util(BouncyCastle/)" />
+    <import index="g6ri" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.security.auth(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="fuic" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.oiw(BouncyCastle/)" />
+    <import index="8tnb" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.util(BouncyCastle/)" />
+    <import index="ef3w" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.interfaces(JDK/)" />
+    <import index="w3v" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.rsa(BouncyCastle/)" />
+    <import index="oc9b" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.x509(BouncyCastle/)" />
+    <import index="nji9" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.macs(BouncyCastle/)" />
+    <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
+    <import index="1xn6" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.digests(BouncyCastle/)" implicit="true" />
+    <import index="quxv" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.encodings(BouncyCastle/)" implicit="true" />
+  </imports>
+  <registry>
+    <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1215695201514" name="jetbrains.mps.baseLanguage.structure.MinusAssignmentExpression" flags="nn" index="d5anL" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1202948039474" name="jetbrains.mps.baseLanguage.structure.InstanceMethodCallOperation" flags="nn" index="liA8E" />
+      <concept id="1179360813171" name="jetbrains.mps.baseLanguage.structure.HexIntegerLiteral" flags="nn" index="2nou5x">
+        <property id="1179360856892" name="value" index="2noCCI" />
+      </concept>
+      <concept id="8118189177080264853" name="jetbrains.mps.baseLanguage.structure.AlternativeType" flags="ig" index="nSUau">
+        <child id="8118189177080264854" name="alternative" index="nSUat" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1224500799915" name="jetbrains.mps.baseLanguage.structure.BitwiseXorExpression" flags="nn" index="pVQyQ" />
+      <concept id="1465982738277781862" name="jetbrains.mps.baseLanguage.structure.PlaceholderMember" flags="nn" index="2tJIrI" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1188207840427" name="jetbrains.mps.baseLanguage.structure.AnnotationInstance" flags="nn" index="2AHcQZ">
+        <reference id="1188208074048" name="annotation" index="2AI5Lk" />
+      </concept>
+      <concept id="1188208481402" name="jetbrains.mps.baseLanguage.structure.HasAnnotation" flags="ng" index="2AJDlI">
+        <child id="1188208488637" name="annotation" index="2AJF6D" />
+      </concept>
+      <concept id="1188220165133" name="jetbrains.mps.baseLanguage.structure.ArrayLiteral" flags="nn" index="2BsdOp">
+        <child id="1188220173759" name="item" index="2BsfMF" />
+      </concept>
+      <concept id="1095950406618" name="jetbrains.mps.baseLanguage.structure.DivExpression" flags="nn" index="FJ1c_" />
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1177666668936" name="jetbrains.mps.baseLanguage.structure.DoWhileStatement" flags="nn" index="MpOyq">
+        <child id="1177666688034" name="condition" index="MpTkK" />
+      </concept>
+      <concept id="1251851371723515367" name="jetbrains.mps.baseLanguage.structure.ArrayClassExpression" flags="nn" index="2MthRn">
+        <child id="1251851371723515368" name="arrayType" index="2MthRo" />
+      </concept>
+      <concept id="1197027756228" name="jetbrains.mps.baseLanguage.structure.DotExpression" flags="nn" index="2OqwBi">
+        <child id="1197027771414" name="operand" index="2Oq$k0" />
+        <child id="1197027833540" name="operation" index="2OqNvi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1083260308424" name="jetbrains.mps.baseLanguage.structure.EnumConstantReference" flags="nn" index="Rm8GO">
+        <reference id="1083260308426" name="enumConstantDeclaration" index="Rm8GQ" />
+        <reference id="1144432896254" name="enumClass" index="1Px2BO" />
+      </concept>
+      <concept id="1145552977093" name="jetbrains.mps.baseLanguage.structure.GenericNewExpression" flags="nn" index="2ShNRf">
+        <child id="1145553007750" name="creator" index="2ShVmc" />
+      </concept>
+      <concept id="1070462154015" name="jetbrains.mps.baseLanguage.structure.StaticFieldDeclaration" flags="ig" index="Wx3nA" />
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070475587102" name="jetbrains.mps.baseLanguage.structure.SuperConstructorInvocation" flags="nn" index="XkiVB" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="4952749571008284462" name="jetbrains.mps.baseLanguage.structure.CatchVariable" flags="ng" index="XOnhg" />
+      <concept id="1182160077978" name="jetbrains.mps.baseLanguage.structure.AnonymousClassCreator" flags="nn" index="YeOm9">
+        <child id="1182160096073" name="cls" index="YeSDq" />
+      </concept>
+      <concept id="1081236700938" name="jetbrains.mps.baseLanguage.structure.StaticMethodDeclaration" flags="ig" index="2YIFZL" />
+      <concept id="1081236700937" name="jetbrains.mps.baseLanguage.structure.StaticMethodCall" flags="nn" index="2YIFZM">
+        <reference id="1144433194310" name="classConcept" index="1Pybhc" />
+      </concept>
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070533982221" name="jetbrains.mps.baseLanguage.structure.ShortType" flags="in" index="10N3zO" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534555686" name="jetbrains.mps.baseLanguage.structure.CharType" flags="in" index="10Pfzv" />
+      <concept id="1070534604311" name="jetbrains.mps.baseLanguage.structure.ByteType" flags="in" index="10PrrI" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg">
+        <property id="8606350594693632173" name="isTransient" index="eg7rD" />
+      </concept>
+      <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
+        <property id="1075300953594" name="abstractClass" index="1sVAO0" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
+        <child id="1165602531693" name="superclass" index="1zkMxy" />
+      </concept>
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <property id="1176718929932" name="isFinal" index="3TUv4t" />
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1068498886296" name="jetbrains.mps.baseLanguage.structure.VariableReference" flags="nn" index="37vLTw">
+        <reference id="1068581517664" name="variableDeclaration" index="3cqZAo" />
+      </concept>
+      <concept id="1068498886292" name="jetbrains.mps.baseLanguage.structure.ParameterDeclaration" flags="ir" index="37vLTG" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1225271221393" name="jetbrains.mps.baseLanguage.structure.NPENotEqualsExpression" flags="nn" index="17QLQc" />
+      <concept id="4972933694980447171" name="jetbrains.mps.baseLanguage.structure.BaseVariableDeclaration" flags="ng" index="19Szcq">
+        <child id="5680397130376446158" name="type" index="1tU5fm" />
+      </concept>
+      <concept id="1068580123132" name="jetbrains.mps.baseLanguage.structure.BaseMethodDeclaration" flags="ng" index="3clF44">
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
+        <property id="1181808852946" name="isFinal" index="DiZV1" />
+        <child id="1164879685961" name="throwsItem" index="Sfmx6" />
+        <child id="1068580123133" name="returnType" index="3clF45" />
+        <child id="1068580123134" name="parameter" index="3clF46" />
+        <child id="1068580123135" name="body" index="3clF47" />
+      </concept>
+      <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
+        <child id="1068580123156" name="expression" index="3clFbG" />
+      </concept>
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+      </concept>
+      <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
+        <child id="1068581517665" name="statement" index="3cqZAp" />
+      </concept>
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1154542696413" name="jetbrains.mps.baseLanguage.structure.ArrayCreatorWithInitializer" flags="nn" index="3g6Rrh">
+        <child id="1154542793668" name="componentType" index="3g7fb8" />
+        <child id="1154542803372" name="initValue" index="3g7hyw" />
+      </concept>
+      <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
+        <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
+        <child id="1068499141038" name="actualArgument" index="37wK5m" />
+      </concept>
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1107461130800" name="jetbrains.mps.baseLanguage.structure.Classifier" flags="ng" index="3pOWGL">
+        <property id="521412098689998745" name="nonStatic" index="2bfB8j" />
+        <property id="2791683072064593257" name="packageName" index="2HnT6v" />
+        <child id="5375687026011219971" name="member" index="jymVt" unordered="true" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
+        <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
+        <child id="8276990574895933173" name="catchBody" index="1zc67A" />
+        <child id="8276990574895933172" name="throwable" index="1zc67B" />
+      </concept>
+      <concept id="7024111702304501414" name="jetbrains.mps.baseLanguage.structure.RemAssignmentExpression" flags="nn" index="3vZ8r6" />
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="7024111702304501420" name="jetbrains.mps.baseLanguage.structure.XorAssignmentExpression" flags="nn" index="3vZ8rc" />
+      <concept id="8276990574909231788" name="jetbrains.mps.baseLanguage.structure.FinallyClause" flags="ng" index="1wplmZ">
+        <child id="8276990574909234106" name="finallyBody" index="1wplMD" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1178549954367" name="jetbrains.mps.baseLanguage.structure.IVisible" flags="ng" index="1B3ioH">
+        <child id="1178549979242" name="visibility" index="1B3o_S" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1225892319711" name="jetbrains.mps.baseLanguage.structure.ShiftRightExpression" flags="nn" index="1GS532" />
+      <concept id="1107796713796" name="jetbrains.mps.baseLanguage.structure.Interface" flags="ig" index="3HP615" />
+      <concept id="5351203823916832286" name="jetbrains.mps.baseLanguage.structure.ResourceVariable" flags="ng" index="3J1hQo" />
+      <concept id="5351203823916750322" name="jetbrains.mps.baseLanguage.structure.TryUniversalStatement" flags="nn" index="3J1_TO">
+        <child id="8276990574886367510" name="catchClause" index="1zxBo5" />
+        <child id="8276990574886367509" name="finallyClause" index="1zxBo6" />
+        <child id="8276990574886367508" name="body" index="1zxBo7" />
+        <child id="5351203823916750334" name="resource" index="3J1_TS" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1163670490218" name="jetbrains.mps.baseLanguage.structure.SwitchStatement" flags="nn" index="3KaCP$">
+        <child id="1163670592366" name="defaultBlock" index="3Kb1Dw" />
+        <child id="1163670766145" name="expression" index="3KbGdf" />
+        <child id="1163670772911" name="case" index="3KbHQx" />
+      </concept>
+      <concept id="1163670641947" name="jetbrains.mps.baseLanguage.structure.SwitchCase" flags="ng" index="3KbdKl">
+        <child id="1163670677455" name="expression" index="3Kbmr1" />
+        <child id="1163670683720" name="body" index="3Kbo56" />
+      </concept>
+      <concept id="1082113931046" name="jetbrains.mps.baseLanguage.structure.ContinueStatement" flags="nn" index="3N13vt" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="6329021646629104954" name="jetbrains.mps.baseLanguage.structure.SingleLineComment" flags="nn" index="3SKdUt">
+        <child id="8356039341262087992" name="line" index="1aUNEU" />
+      </concept>
+      <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1146644641414" name="jetbrains.mps.baseLanguage.structure.ProtectedVisibility" flags="nn" index="3Tmbuc" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1178893518978" name="jetbrains.mps.baseLanguage.structure.ThisConstructorInvocation" flags="nn" index="1VxSAg" />
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1200397529627" name="jetbrains.mps.baseLanguage.structure.CharConstant" flags="nn" index="1Xhbcc">
+        <property id="1200397540847" name="charConstant" index="1XhdNS" />
+      </concept>
+      <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
+        <reference id="1170346070688" name="classifier" index="1Y3XeK" />
+      </concept>
+      <concept id="320030840061144153" name="jetbrains.mps.baseLanguage.structure.ShiftRightUnsignedExpression" flags="nn" index="1ZsPo3" />
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+    </language>
+    <language id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc">
+      <concept id="6832197706140896242" name="jetbrains.mps.baseLanguage.javadoc.structure.FieldDocComment" flags="ng" index="z59LJ" />
+      <concept id="5349172909345501395" name="jetbrains.mps.baseLanguage.javadoc.structure.BaseDocComment" flags="ng" index="P$AiS">
+        <child id="8465538089690331502" name="body" index="TZ5H$" />
+      </concept>
+      <concept id="5349172909345532724" name="jetbrains.mps.baseLanguage.javadoc.structure.MethodDocComment" flags="ng" index="P$JXv" />
+      <concept id="8465538089690331500" name="jetbrains.mps.baseLanguage.javadoc.structure.CommentLine" flags="ng" index="TZ5HA">
+        <child id="8970989240999019149" name="part" index="1dT_Ay" />
+      </concept>
+      <concept id="8970989240999019143" name="jetbrains.mps.baseLanguage.javadoc.structure.TextCommentLinePart" flags="ng" index="1dT_AC">
+        <property id="8970989240999019144" name="text" index="1dT_AB" />
+      </concept>
+      <concept id="2068944020170241612" name="jetbrains.mps.baseLanguage.javadoc.structure.ClassifierDocComment" flags="ng" index="3UR2Jj" />
+    </language>
+    <language id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL">
+      <concept id="4157980839829753419" name="apiSL.structure.BaseGuardReference" flags="ng" index="5mHf0">
+        <reference id="4157980839829753430" name="guard" index="5mHft" />
+      </concept>
+      <concept id="7118418329240799211" name="apiSL.structure.Requirement" flags="ng" index="7NFgE">
+        <property id="7118418329241450733" name="errorMessage" index="7QkGG" />
+      </concept>
+      <concept id="7118418329240799212" name="apiSL.structure.ExpressionRequirement" flags="ng" index="7NFgH">
+        <child id="7118418329240799213" name="expression" index="7NFgG" />
+      </concept>
+      <concept id="3241732874153801560" name="apiSL.structure.LocalGuardReference" flags="ng" index="28m4m7" />
+      <concept id="3241732874153801933" name="apiSL.structure.ChangesGuard" flags="ng" index="28m4Ci">
+        <property id="3241732874153801936" name="newValue" index="28m4Cf" />
+        <child id="3241732874153801934" name="guard" index="28m4Ch" />
+      </concept>
+      <concept id="3241732874153801927" name="apiSL.structure.WhenReturns" flags="ng" index="28m4Co" />
+      <concept id="3241732874153801925" name="apiSL.structure.Consequence" flags="ng" index="28m4Cq">
+        <child id="3241732874153801930" name="when" index="28m4Cl" />
+        <child id="5424624459614105666" name="then" index="38updQ" />
+      </concept>
+      <concept id="3241732874153771441" name="apiSL.structure.GuardDeclaration" flags="ng" index="28mbdI" />
+      <concept id="2468280109721306674" name="apiSL.structure.IVerifiedMethod" flags="ng" index="28md6s">
+        <child id="2468280109721307641" name="requirements" index="28mdTn" />
+        <child id="5424624459614123890" name="consequences" index="38uth6" />
+      </concept>
+      <concept id="2468280109721450436" name="apiSL.structure.StaticVerifiedMethod" flags="ig" index="28mI1E" />
+      <concept id="5752318980938883239" name="apiSL.structure.MetaVariableDeclaration" flags="ng" index="2qjjs5">
+        <child id="6976864374266609290" name="type" index="2iVZe$" />
+        <child id="1709424164472981217" name="defaultValue" index="1Em9Vp" />
+      </concept>
+      <concept id="2316402386142492908" name="apiSL.structure.VerifiedClass" flags="ig" index="2ALBHu" />
+      <concept id="2316402386142877834" name="apiSL.structure.VerifiedMethod" flags="ig" index="2AN5GS" />
+      <concept id="4506385826706830357" name="apiSL.structure.ExpandoDeclaration" flags="ng" index="2FfH8t">
+        <child id="4506385826706840328" name="variables" index="2FfFO0" />
+        <child id="4506385826706830723" name="for" index="2FfHeb" />
+      </concept>
+      <concept id="4506385826706830831" name="apiSL.structure.ExpandoVariable" flags="ng" index="2FfHfB">
+        <child id="4506385826706830935" name="type" index="2FfH1v" />
+        <child id="4506385826706831876" name="defaultValue" index="2FfHKc" />
+      </concept>
+      <concept id="4506385826708734742" name="apiSL.structure.ExpandoReference" flags="ng" index="2Fnqku">
+        <reference id="4506385826708734906" name="variable" index="2FnqmM" />
+        <reference id="4506385826708734900" name="expando" index="2FnqmW" />
+        <child id="4506385826710993030" name="receiver" index="2FvPUe" />
+      </concept>
+      <concept id="2315365102418887260" name="apiSL.structure.SetsExpandoState" flags="ng" index="R8_on">
+        <child id="2315365102418888235" name="value" index="R8_9w" />
+        <child id="2315365102418888233" name="reference" index="R8_9y" />
+      </concept>
+      <concept id="2315365102419473356" name="apiSL.structure.ReturnValue" flags="ng" index="Rbqu7" />
+      <concept id="7921791665431015203" name="apiSL.structure.MetaVariableReference" flags="ng" index="RhriJ">
+        <reference id="7921791665431015204" name="variable" index="RhriC" />
+      </concept>
+      <concept id="8555217082947640889" name="apiSL.structure.VerifiedConstructor" flags="ig" index="1NMaa_" />
+    </language>
+    <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
+      <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
+        <property id="1193676396447" name="virtualPackage" index="3GE5qa" />
+        <child id="5169995583184591170" name="smodelAttribute" index="lGtFl" />
+      </concept>
+      <concept id="1169194658468" name="jetbrains.mps.lang.core.structure.INamedConcept" flags="ng" index="TrEIO">
+        <property id="1169194664001" name="name" index="TrG5h" />
+      </concept>
+    </language>
+    <language id="c7fb639f-be78-4307-89b0-b5959c3fa8c8" name="jetbrains.mps.lang.text">
+      <concept id="155656958578482948" name="jetbrains.mps.lang.text.structure.Word" flags="nn" index="3oM_SD">
+        <property id="155656958578482949" name="value" index="3oM_SC" />
+      </concept>
+      <concept id="2535923850359271782" name="jetbrains.mps.lang.text.structure.Line" flags="nn" index="1PaTwC">
+        <child id="2535923850359271783" name="elements" index="1PaTwD" />
+      </concept>
+    </language>
+  </registry>
+  <node concept="2ALBHu" id="4yG_ycIoR7O">
+    <property role="2bfB8j" value="true" />
+    <property role="TrG5h" value="RSAKeyPairGenerator" />
+    <property role="3GE5qa" value="org.bouncycastle.crypto.generators" />
+    <node concept="3Tm1VV" id="4yG_ycIoR7P" role="1B3o_S" />
+    <node concept="Wx3nA" id="4yG_ycIosuY" role="jymVt">
+      <property role="TrG5h" value="ONE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3uibUv" id="4yG_ycIosuZ" role="1tU5fm">
+        <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+      </node>
+      <node concept="2YIFZM" id="4yG_ycIounz" role="33vP2m">
+        <ref role="1Pybhc" to="xlxw:~BigInteger" resolve="BigInteger" />
+        <ref role="37wK5l" to="xlxw:~BigInteger.valueOf(long)" resolve="valueOf" />
+        <node concept="3cmrfG" id="4yG_ycIoun$" role="37wK5m">
+          <property role="3cmrfH" value="1" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="4yG_ycIosv2" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="4yG_ycIosv3" role="jymVt">
+      <property role="TrG5h" value="param" />
+      <node concept="3uibUv" id="4yG_ycIoLhk" role="1tU5fm">
+        <ref role="3uigEE" to="25z7:~RSAKeyGenerationParameters" resolve="RSAKeyGenerationParameters" />
+      </node>
+      <node concept="3Tm6S6" id="4yG_ycIosv6" role="1B3o_S" />
+    </node>
+    <node concept="28mbdI" id="4yG_ycIoXk3" role="jymVt">
+      <property role="TrG5h" value="isInitialized" />
+      <node concept="3Tm6S6" id="4yG_ycIoYec" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="4yG_ycItwz4" role="jymVt" />
+    <node concept="2AN5GS" id="4yG_ycItjPg" role="jymVt">
+      <property role="TrG5h" value="init" />
+      <node concept="28m4Cq" id="4yG_ycItzPO" role="38uth6">
+        <node concept="28m4Co" id="4yG_ycIt$wb" role="28m4Cl" />
+        <node concept="28m4Ci" id="4yG_ycIt$wm" role="38updQ">
+          <property role="28m4Cf" value="true" />
+          <node concept="28m4m7" id="4yG_ycIt$wB" role="28m4Ch">
+            <ref role="5mHft" node="4yG_ycIoXk3" resolve="isInitialized" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="4yG_ycItjPi" role="3clF45" />
+      <node concept="3Tm1VV" id="4yG_ycItjPj" role="1B3o_S" />
+      <node concept="3clFbS" id="4yG_ycItjPk" role="3clF47">
+        <node concept="3clFbF" id="4yG_ycItlzH" role="3cqZAp">
+          <node concept="37vLTI" id="4yG_ycItnqP" role="3clFbG">
+            <node concept="2OqwBi" id="4yG_ycItmbQ" role="37vLTJ">
+              <node concept="Xjq3P" id="4yG_ycItlzG" role="2Oq$k0" />
+              <node concept="2OwXpG" id="4yG_ycItmU_" role="2OqNvi">
+                <ref role="2Oxat5" node="4yG_ycIosv3" resolve="param" />
+              </node>
+            </node>
+            <node concept="10QFUN" id="4yG_ycItudG" role="37vLTx">
+              <node concept="3uibUv" id="4yG_ycItuFT" role="10QFUM">
+                <ref role="3uigEE" to="25z7:~RSAKeyGenerationParameters" resolve="RSAKeyGenerationParameters" />
+              </node>
+              <node concept="37vLTw" id="4yG_ycIttNr" role="10QFUP">
+                <ref role="3cqZAo" node="4yG_ycItl5T" resolve="param" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="4yG_ycItl5T" role="3clF46">
+        <property role="TrG5h" value="param" />
+        <node concept="3uibUv" id="4yG_ycItl5S" role="1tU5fm">
+          <ref role="3uigEE" to="6y4x:~KeyGenerationParameters" resolve="KeyGenerationParameters" />
+        </node>
+      </node>
+      <node concept="2AHcQZ" id="4yG_ycIty0E" role="2AJF6D">
+        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="4yG_ycItzfs" role="jymVt" />
+    <node concept="2AN5GS" id="4yG_ycIzroY" role="jymVt">
+      <property role="TrG5h" value="generateKeyPair" />
+      <node concept="3uibUv" id="4yG_ycIoMn7" role="3clF45">
+        <ref role="3uigEE" to="6y4x:~AsymmetricCipherKeyPair" resolve="AsymmetricCipherKeyPair" />
+      </node>
+      <node concept="3clFbS" id="4yG_ycIosvm" role="3clF47">
+        <node concept="3cpWs8" id="4yG_ycIosvo" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvn" role="3cpWs9">
+            <property role="TrG5h" value="result" />
+            <node concept="3uibUv" id="4yG_ycIoNa5" role="1tU5fm">
+              <ref role="3uigEE" to="6y4x:~AsymmetricCipherKeyPair" resolve="AsymmetricCipherKeyPair" />
+            </node>
+            <node concept="10Nm6u" id="4yG_ycIosvq" role="33vP2m" />
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIosvs" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvr" role="3cpWs9">
+            <property role="TrG5h" value="done" />
+            <node concept="10P_77" id="4yG_ycIosvt" role="1tU5fm" />
+            <node concept="3clFbT" id="4yG_ycIosvu" role="33vP2m" />
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosBk" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosBl" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosBm" role="1PaTwD">
+              <property role="3oM_SC" value="p" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBn" role="1PaTwD">
+              <property role="3oM_SC" value="and" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBo" role="1PaTwD">
+              <property role="3oM_SC" value="q" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBp" role="1PaTwD">
+              <property role="3oM_SC" value="values" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBq" role="1PaTwD">
+              <property role="3oM_SC" value="should" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBr" role="1PaTwD">
+              <property role="3oM_SC" value="have" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBs" role="1PaTwD">
+              <property role="3oM_SC" value="a" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBt" role="1PaTwD">
+              <property role="3oM_SC" value="length" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBu" role="1PaTwD">
+              <property role="3oM_SC" value="of" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBv" role="1PaTwD">
+              <property role="3oM_SC" value="half" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBw" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBx" role="1PaTwD">
+              <property role="3oM_SC" value="strength" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBy" role="1PaTwD">
+              <property role="3oM_SC" value="in" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBz" role="1PaTwD">
+              <property role="3oM_SC" value="bits" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIosvw" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvv" role="3cpWs9">
+            <property role="TrG5h" value="strength" />
+            <node concept="10Oyi0" id="4yG_ycIosvx" role="1tU5fm" />
+            <node concept="2OqwBi" id="4yG_ycIou6h" role="33vP2m">
+              <node concept="37vLTw" id="4yG_ycIou6g" role="2Oq$k0">
+                <ref role="3cqZAo" node="4yG_ycIosv3" resolve="param" />
+              </node>
+              <node concept="liA8E" id="4yG_ycIou6i" role="2OqNvi">
+                <ref role="37wK5l" to="6y4x:~KeyGenerationParameters.getStrength()" resolve="getStrength" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIosv$" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvz" role="3cpWs9">
+            <property role="TrG5h" value="pbitlength" />
+            <node concept="10Oyi0" id="4yG_ycIosv_" role="1tU5fm" />
+            <node concept="FJ1c_" id="4yG_ycIosvA" role="33vP2m">
+              <node concept="1eOMI4" id="4yG_ycIosvE" role="3uHU7B">
+                <node concept="3cpWs3" id="4yG_ycIosvB" role="1eOMHV">
+                  <node concept="37vLTw" id="4yG_ycIosvC" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIosvD" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3cmrfG" id="4yG_ycIosvF" role="3uHU7w">
+                <property role="3cmrfH" value="2" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIosvH" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvG" role="3cpWs9">
+            <property role="TrG5h" value="qbitlength" />
+            <node concept="10Oyi0" id="4yG_ycIosvI" role="1tU5fm" />
+            <node concept="3cpWsd" id="4yG_ycIosvJ" role="33vP2m">
+              <node concept="37vLTw" id="4yG_ycIosvK" role="3uHU7B">
+                <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+              </node>
+              <node concept="37vLTw" id="4yG_ycIosvL" role="3uHU7w">
+                <ref role="3cqZAo" node="4yG_ycIosvz" resolve="pbitlength" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIosvN" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosvM" role="3cpWs9">
+            <property role="TrG5h" value="mindiffbits" />
+            <node concept="10Oyi0" id="4yG_ycIosvO" role="1tU5fm" />
+            <node concept="3cpWsd" id="4yG_ycIosvP" role="33vP2m">
+              <node concept="1eOMI4" id="4yG_ycIosvT" role="3uHU7B">
+                <node concept="FJ1c_" id="4yG_ycIosvQ" role="1eOMHV">
+                  <node concept="37vLTw" id="4yG_ycIosvR" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIosvS" role="3uHU7w">
+                    <property role="3cmrfH" value="2" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3cmrfG" id="4yG_ycIosvU" role="3uHU7w">
+                <property role="3cmrfH" value="100" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="4yG_ycIosvV" role="3cqZAp">
+          <node concept="3eOVzh" id="4yG_ycIosvW" role="3clFbw">
+            <node concept="37vLTw" id="4yG_ycIosvX" role="3uHU7B">
+              <ref role="3cqZAo" node="4yG_ycIosvM" resolve="mindiffbits" />
+            </node>
+            <node concept="FJ1c_" id="4yG_ycIosvY" role="3uHU7w">
+              <node concept="37vLTw" id="4yG_ycIosvZ" role="3uHU7B">
+                <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+              </node>
+              <node concept="3cmrfG" id="4yG_ycIosw0" role="3uHU7w">
+                <property role="3cmrfH" value="3" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="4yG_ycIosw2" role="3clFbx">
+            <node concept="3clFbF" id="4yG_ycIosw3" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosw4" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosw5" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIosvM" resolve="mindiffbits" />
+                </node>
+                <node concept="FJ1c_" id="4yG_ycIosw6" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIosw7" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIosw8" role="3uHU7w">
+                    <property role="3cmrfH" value="3" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIoswa" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosw9" role="3cpWs9">
+            <property role="TrG5h" value="minWeight" />
+            <node concept="10Oyi0" id="4yG_ycIoswb" role="1tU5fm" />
+            <node concept="1GS532" id="4yG_ycIoswc" role="33vP2m">
+              <node concept="37vLTw" id="4yG_ycIoswd" role="3uHU7B">
+                <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+              </node>
+              <node concept="3cmrfG" id="4yG_ycIoswe" role="3uHU7w">
+                <property role="3cmrfH" value="2" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosB$" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosB_" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosBA" role="1PaTwD">
+              <property role="3oM_SC" value="d" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBB" role="1PaTwD">
+              <property role="3oM_SC" value="lower" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBC" role="1PaTwD">
+              <property role="3oM_SC" value="bound" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBD" role="1PaTwD">
+              <property role="3oM_SC" value="is" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBE" role="1PaTwD">
+              <property role="3oM_SC" value="2^(strength" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBF" role="1PaTwD">
+              <property role="3oM_SC" value="/" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBG" role="1PaTwD">
+              <property role="3oM_SC" value="2)" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIoswg" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIoswf" role="3cpWs9">
+            <property role="TrG5h" value="dLowerBound" />
+            <node concept="3uibUv" id="4yG_ycIoswh" role="1tU5fm">
+              <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+            </node>
+            <node concept="2OqwBi" id="4yG_ycIoswi" role="33vP2m">
+              <node concept="2YIFZM" id="4yG_ycIotAw" role="2Oq$k0">
+                <ref role="1Pybhc" to="xlxw:~BigInteger" resolve="BigInteger" />
+                <ref role="37wK5l" to="xlxw:~BigInteger.valueOf(long)" resolve="valueOf" />
+                <node concept="3cmrfG" id="4yG_ycIotAx" role="37wK5m">
+                  <property role="3cmrfH" value="2" />
+                </node>
+              </node>
+              <node concept="liA8E" id="4yG_ycIoswl" role="2OqNvi">
+                <ref role="37wK5l" to="xlxw:~BigInteger.pow(int)" resolve="pow" />
+                <node concept="FJ1c_" id="4yG_ycIoswm" role="37wK5m">
+                  <node concept="37vLTw" id="4yG_ycIoswn" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIoswo" role="3uHU7w">
+                    <property role="3cmrfH" value="2" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosBH" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosBI" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosBJ" role="1PaTwD">
+              <property role="3oM_SC" value="squared" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBK" role="1PaTwD">
+              <property role="3oM_SC" value="bound" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBL" role="1PaTwD">
+              <property role="3oM_SC" value="(sqrt(2)*2^(nlen/2-1))^2" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIoswq" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIoswp" role="3cpWs9">
+            <property role="TrG5h" value="squaredBound" />
+            <node concept="3uibUv" id="4yG_ycIoswr" role="1tU5fm">
+              <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+            </node>
+            <node concept="2OqwBi" id="4yG_ycIotPa" role="33vP2m">
+              <node concept="37vLTw" id="4yG_ycIotP9" role="2Oq$k0">
+                <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+              </node>
+              <node concept="liA8E" id="4yG_ycIotPb" role="2OqNvi">
+                <ref role="37wK5l" to="xlxw:~BigInteger.shiftLeft(int)" resolve="shiftLeft" />
+                <node concept="3cpWsd" id="4yG_ycIotPc" role="37wK5m">
+                  <node concept="37vLTw" id="4yG_ycIotPd" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIotPe" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosBM" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosBN" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosBO" role="1PaTwD">
+              <property role="3oM_SC" value="2^(nlen/2" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBP" role="1PaTwD">
+              <property role="3oM_SC" value="-" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosBQ" role="1PaTwD">
+              <property role="3oM_SC" value="100)" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="4yG_ycIoswx" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIosww" role="3cpWs9">
+            <property role="TrG5h" value="minDiff" />
+            <node concept="3uibUv" id="4yG_ycIoswy" role="1tU5fm">
+              <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+            </node>
+            <node concept="2OqwBi" id="4yG_ycIotKK" role="33vP2m">
+              <node concept="37vLTw" id="4yG_ycIotKJ" role="2Oq$k0">
+                <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+              </node>
+              <node concept="liA8E" id="4yG_ycIotKL" role="2OqNvi">
+                <ref role="37wK5l" to="xlxw:~BigInteger.shiftLeft(int)" resolve="shiftLeft" />
+                <node concept="37vLTw" id="4yG_ycIotKM" role="37wK5m">
+                  <ref role="3cqZAo" node="4yG_ycIosvM" resolve="mindiffbits" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="4yG_ycIoszO" role="3cqZAp">
+          <node concept="3fqX7Q" id="4yG_ycIosw_" role="2$JKZa">
+            <node concept="37vLTw" id="4yG_ycIoswA" role="3fr31v">
+              <ref role="3cqZAo" node="4yG_ycIosvr" resolve="done" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="4yG_ycIoswC" role="2LFqv$">
+            <node concept="3cpWs8" id="4yG_ycIoswE" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswD" role="3cpWs9">
+                <property role="TrG5h" value="p" />
+                <node concept="3uibUv" id="4yG_ycIoswF" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswH" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswG" role="3cpWs9">
+                <property role="TrG5h" value="q" />
+                <node concept="3uibUv" id="4yG_ycIoswI" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswK" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswJ" role="3cpWs9">
+                <property role="TrG5h" value="n" />
+                <node concept="3uibUv" id="4yG_ycIoswL" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswN" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswM" role="3cpWs9">
+                <property role="TrG5h" value="d" />
+                <node concept="3uibUv" id="4yG_ycIoswO" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswQ" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswP" role="3cpWs9">
+                <property role="TrG5h" value="e" />
+                <node concept="3uibUv" id="4yG_ycIoswR" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswT" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswS" role="3cpWs9">
+                <property role="TrG5h" value="pSub1" />
+                <node concept="3uibUv" id="4yG_ycIoswU" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswW" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswV" role="3cpWs9">
+                <property role="TrG5h" value="qSub1" />
+                <node concept="3uibUv" id="4yG_ycIoswX" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoswZ" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoswY" role="3cpWs9">
+                <property role="TrG5h" value="gcd" />
+                <node concept="3uibUv" id="4yG_ycIosx0" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIosx2" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIosx1" role="3cpWs9">
+                <property role="TrG5h" value="lcm" />
+                <node concept="3uibUv" id="4yG_ycIosx3" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosx4" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosx5" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosx6" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIouap" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIouao" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIosv3" resolve="param" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIouaq" role="2OqNvi">
+                    <ref role="37wK5l" to="25z7:~RSAKeyGenerationParameters.getPublicExponent()" resolve="getPublicExponent" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosx8" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosx9" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosxa" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                </node>
+                <node concept="1rXfSq" id="4yG_ycIosxb" role="37vLTx">
+                  <ref role="37wK5l" node="4yG_ycIoszT" resolve="chooseRandomPrime" />
+                  <node concept="37vLTw" id="4yG_ycIosxc" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIosvz" resolve="pbitlength" />
+                  </node>
+                  <node concept="37vLTw" id="4yG_ycIosxd" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                  </node>
+                  <node concept="37vLTw" id="4yG_ycIosxe" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIoswp" resolve="squaredBound" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3SKdUt" id="4yG_ycIosBR" role="3cqZAp">
+              <node concept="1PaTwC" id="4yG_ycIosBS" role="1aUNEU">
+                <node concept="3oM_SD" id="4yG_ycIosBT" role="1PaTwD">
+                  <property role="3oM_SC" value="generate" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBU" role="1PaTwD">
+                  <property role="3oM_SC" value="a" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBV" role="1PaTwD">
+                  <property role="3oM_SC" value="modulus" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBW" role="1PaTwD">
+                  <property role="3oM_SC" value="of" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBX" role="1PaTwD">
+                  <property role="3oM_SC" value="the" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBY" role="1PaTwD">
+                  <property role="3oM_SC" value="required" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosBZ" role="1PaTwD">
+                  <property role="3oM_SC" value="length" />
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="4yG_ycIosxf" role="3cqZAp">
+              <node concept="3clFbS" id="4yG_ycIosxh" role="2LFqv$">
+                <node concept="3clFbF" id="4yG_ycIosxi" role="3cqZAp">
+                  <node concept="37vLTI" id="4yG_ycIosxj" role="3clFbG">
+                    <node concept="37vLTw" id="4yG_ycIosxk" role="37vLTJ">
+                      <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                    </node>
+                    <node concept="1rXfSq" id="4yG_ycIosxl" role="37vLTx">
+                      <ref role="37wK5l" node="4yG_ycIoszT" resolve="chooseRandomPrime" />
+                      <node concept="37vLTw" id="4yG_ycIosxm" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIosvG" resolve="qbitlength" />
+                      </node>
+                      <node concept="37vLTw" id="4yG_ycIosxn" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                      </node>
+                      <node concept="37vLTw" id="4yG_ycIosxo" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIoswp" resolve="squaredBound" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosC0" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosC1" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosC2" role="1PaTwD">
+                      <property role="3oM_SC" value="p" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC3" role="1PaTwD">
+                      <property role="3oM_SC" value="and" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC4" role="1PaTwD">
+                      <property role="3oM_SC" value="q" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC5" role="1PaTwD">
+                      <property role="3oM_SC" value="should" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC6" role="1PaTwD">
+                      <property role="3oM_SC" value="not" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC7" role="1PaTwD">
+                      <property role="3oM_SC" value="be" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC8" role="1PaTwD">
+                      <property role="3oM_SC" value="too" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosC9" role="1PaTwD">
+                      <property role="3oM_SC" value="close" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCa" role="1PaTwD">
+                      <property role="3oM_SC" value="together" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCb" role="1PaTwD">
+                      <property role="3oM_SC" value="(or" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCc" role="1PaTwD">
+                      <property role="3oM_SC" value="equal!)" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="4yG_ycIosxq" role="3cqZAp">
+                  <node concept="3cpWsn" id="4yG_ycIosxp" role="3cpWs9">
+                    <property role="TrG5h" value="diff" />
+                    <node concept="3uibUv" id="4yG_ycIosxr" role="1tU5fm">
+                      <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                    </node>
+                    <node concept="2OqwBi" id="4yG_ycIosxs" role="33vP2m">
+                      <node concept="2OqwBi" id="4yG_ycIouMk" role="2Oq$k0">
+                        <node concept="37vLTw" id="4yG_ycIouMj" role="2Oq$k0">
+                          <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                        </node>
+                        <node concept="liA8E" id="4yG_ycIouMl" role="2OqNvi">
+                          <ref role="37wK5l" to="xlxw:~BigInteger.subtract(java.math.BigInteger)" resolve="subtract" />
+                          <node concept="37vLTw" id="4yG_ycIouMm" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="liA8E" id="4yG_ycIosxv" role="2OqNvi">
+                        <ref role="37wK5l" to="xlxw:~BigInteger.abs()" resolve="abs" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="4yG_ycIosxw" role="3cqZAp">
+                  <node concept="22lmx$" id="4yG_ycIosxx" role="3clFbw">
+                    <node concept="3eOVzh" id="4yG_ycIosxy" role="3uHU7B">
+                      <node concept="2OqwBi" id="4yG_ycIouJD" role="3uHU7B">
+                        <node concept="37vLTw" id="4yG_ycIouJC" role="2Oq$k0">
+                          <ref role="3cqZAo" node="4yG_ycIosxp" resolve="diff" />
+                        </node>
+                        <node concept="liA8E" id="4yG_ycIouJE" role="2OqNvi">
+                          <ref role="37wK5l" to="xlxw:~BigInteger.bitLength()" resolve="bitLength" />
+                        </node>
+                      </node>
+                      <node concept="37vLTw" id="4yG_ycIosx$" role="3uHU7w">
+                        <ref role="3cqZAo" node="4yG_ycIosvM" resolve="mindiffbits" />
+                      </node>
+                    </node>
+                    <node concept="2dkUwp" id="4yG_ycIosx_" role="3uHU7w">
+                      <node concept="2OqwBi" id="4yG_ycIotBO" role="3uHU7B">
+                        <node concept="37vLTw" id="4yG_ycIotBN" role="2Oq$k0">
+                          <ref role="3cqZAo" node="4yG_ycIosxp" resolve="diff" />
+                        </node>
+                        <node concept="liA8E" id="4yG_ycIotBP" role="2OqNvi">
+                          <ref role="37wK5l" to="xlxw:~BigInteger.compareTo(java.math.BigInteger)" resolve="compareTo" />
+                          <node concept="37vLTw" id="4yG_ycIotBQ" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIosww" resolve="minDiff" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIosxC" role="3uHU7w">
+                        <property role="3cmrfH" value="0" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="4yG_ycIosxE" role="3clFbx">
+                    <node concept="3N13vt" id="4yG_ycIosxF" role="3cqZAp" />
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosCd" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosCe" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosCf" role="1PaTwD">
+                      <property role="3oM_SC" value="calculate" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCg" role="1PaTwD">
+                      <property role="3oM_SC" value="the" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCh" role="1PaTwD">
+                      <property role="3oM_SC" value="modulus" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="4yG_ycIosxG" role="3cqZAp">
+                  <node concept="37vLTI" id="4yG_ycIosxH" role="3clFbG">
+                    <node concept="37vLTw" id="4yG_ycIosxI" role="37vLTJ">
+                      <ref role="3cqZAo" node="4yG_ycIoswJ" resolve="n" />
+                    </node>
+                    <node concept="2OqwBi" id="4yG_ycIoulo" role="37vLTx">
+                      <node concept="37vLTw" id="4yG_ycIouln" role="2Oq$k0">
+                        <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                      </node>
+                      <node concept="liA8E" id="4yG_ycIoulp" role="2OqNvi">
+                        <ref role="37wK5l" to="xlxw:~BigInteger.multiply(java.math.BigInteger)" resolve="multiply" />
+                        <node concept="37vLTw" id="4yG_ycIoulq" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="4yG_ycIosxL" role="3cqZAp">
+                  <node concept="3y3z36" id="4yG_ycIosxM" role="3clFbw">
+                    <node concept="2OqwBi" id="4yG_ycIouXc" role="3uHU7B">
+                      <node concept="37vLTw" id="4yG_ycIouXb" role="2Oq$k0">
+                        <ref role="3cqZAo" node="4yG_ycIoswJ" resolve="n" />
+                      </node>
+                      <node concept="liA8E" id="4yG_ycIouXd" role="2OqNvi">
+                        <ref role="37wK5l" to="xlxw:~BigInteger.bitLength()" resolve="bitLength" />
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="4yG_ycIosxO" role="3uHU7w">
+                      <ref role="3cqZAo" node="4yG_ycIosvv" resolve="strength" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="4yG_ycIosxQ" role="3clFbx">
+                    <node concept="3SKdUt" id="4yG_ycIosCi" role="3cqZAp">
+                      <node concept="1PaTwC" id="4yG_ycIosCj" role="1aUNEU">
+                        <node concept="3oM_SD" id="4yG_ycIosCk" role="1PaTwD">
+                          <property role="3oM_SC" value="if" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCl" role="1PaTwD">
+                          <property role="3oM_SC" value="we" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCm" role="1PaTwD">
+                          <property role="3oM_SC" value="get" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCn" role="1PaTwD">
+                          <property role="3oM_SC" value="here" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCo" role="1PaTwD">
+                          <property role="3oM_SC" value="our" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCp" role="1PaTwD">
+                          <property role="3oM_SC" value="primes" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCq" role="1PaTwD">
+                          <property role="3oM_SC" value="aren't" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCr" role="1PaTwD">
+                          <property role="3oM_SC" value="big" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCs" role="1PaTwD">
+                          <property role="3oM_SC" value="enough," />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCt" role="1PaTwD">
+                          <property role="3oM_SC" value="make" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCu" role="1PaTwD">
+                          <property role="3oM_SC" value="the" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCv" role="1PaTwD">
+                          <property role="3oM_SC" value="largest" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3SKdUt" id="4yG_ycIosCw" role="3cqZAp">
+                      <node concept="1PaTwC" id="4yG_ycIosCx" role="1aUNEU">
+                        <node concept="3oM_SD" id="4yG_ycIosCy" role="1PaTwD">
+                          <property role="3oM_SC" value="of" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCz" role="1PaTwD">
+                          <property role="3oM_SC" value="the" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosC$" role="1PaTwD">
+                          <property role="3oM_SC" value="two" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosC_" role="1PaTwD">
+                          <property role="3oM_SC" value="p" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCA" role="1PaTwD">
+                          <property role="3oM_SC" value="and" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCB" role="1PaTwD">
+                          <property role="3oM_SC" value="try" />
+                        </node>
+                        <node concept="3oM_SD" id="4yG_ycIosCC" role="1PaTwD">
+                          <property role="3oM_SC" value="again" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="4yG_ycIosxR" role="3cqZAp">
+                      <node concept="37vLTI" id="4yG_ycIosxS" role="3clFbG">
+                        <node concept="37vLTw" id="4yG_ycIosxT" role="37vLTJ">
+                          <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                        </node>
+                        <node concept="2OqwBi" id="4yG_ycIouin" role="37vLTx">
+                          <node concept="37vLTw" id="4yG_ycIouim" role="2Oq$k0">
+                            <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                          </node>
+                          <node concept="liA8E" id="4yG_ycIouio" role="2OqNvi">
+                            <ref role="37wK5l" to="xlxw:~BigInteger.max(java.math.BigInteger)" resolve="max" />
+                            <node concept="37vLTw" id="4yG_ycIouip" role="37wK5m">
+                              <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3N13vt" id="4yG_ycIosxW" role="3cqZAp" />
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosCD" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosCE" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosCF" role="1PaTwD">
+                      <property role="3oM_SC" value="Require" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCG" role="1PaTwD">
+                      <property role="3oM_SC" value="a" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCH" role="1PaTwD">
+                      <property role="3oM_SC" value="minimum" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCI" role="1PaTwD">
+                      <property role="3oM_SC" value="weight" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCJ" role="1PaTwD">
+                      <property role="3oM_SC" value="of" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCK" role="1PaTwD">
+                      <property role="3oM_SC" value="the" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCL" role="1PaTwD">
+                      <property role="3oM_SC" value="NAF" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCM" role="1PaTwD">
+                      <property role="3oM_SC" value="representation," />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCN" role="1PaTwD">
+                      <property role="3oM_SC" value="since" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCO" role="1PaTwD">
+                      <property role="3oM_SC" value="low-weight" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCP" role="1PaTwD">
+                      <property role="3oM_SC" value="composites" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCQ" role="1PaTwD">
+                      <property role="3oM_SC" value="may" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosCR" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosCS" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosCT" role="1PaTwD">
+                      <property role="3oM_SC" value="be" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCU" role="1PaTwD">
+                      <property role="3oM_SC" value="weak" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCV" role="1PaTwD">
+                      <property role="3oM_SC" value="against" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCW" role="1PaTwD">
+                      <property role="3oM_SC" value="a" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCX" role="1PaTwD">
+                      <property role="3oM_SC" value="version" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCY" role="1PaTwD">
+                      <property role="3oM_SC" value="of" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosCZ" role="1PaTwD">
+                      <property role="3oM_SC" value="the" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosD0" role="1PaTwD">
+                      <property role="3oM_SC" value="number-field-sieve" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosD1" role="1PaTwD">
+                      <property role="3oM_SC" value="for" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosD2" role="1PaTwD">
+                      <property role="3oM_SC" value="factoring." />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosD3" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosD4" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosD5" role="1PaTwD">
+                      <property role="3oM_SC" value="" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3SKdUt" id="4yG_ycIosD6" role="3cqZAp">
+                  <node concept="1PaTwC" id="4yG_ycIosD7" role="1aUNEU">
+                    <node concept="3oM_SD" id="4yG_ycIosD8" role="1PaTwD">
+                      <property role="3oM_SC" value="See" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosD9" role="1PaTwD">
+                      <property role="3oM_SC" value="&quot;The" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDa" role="1PaTwD">
+                      <property role="3oM_SC" value="number" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDb" role="1PaTwD">
+                      <property role="3oM_SC" value="field" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDc" role="1PaTwD">
+                      <property role="3oM_SC" value="sieve" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDd" role="1PaTwD">
+                      <property role="3oM_SC" value="for" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDe" role="1PaTwD">
+                      <property role="3oM_SC" value="integers" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDf" role="1PaTwD">
+                      <property role="3oM_SC" value="of" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDg" role="1PaTwD">
+                      <property role="3oM_SC" value="low" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDh" role="1PaTwD">
+                      <property role="3oM_SC" value="weight&quot;," />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDi" role="1PaTwD">
+                      <property role="3oM_SC" value="Oliver" />
+                    </node>
+                    <node concept="3oM_SD" id="4yG_ycIosDj" role="1PaTwD">
+                      <property role="3oM_SC" value="Schirokauer." />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="4yG_ycIosxX" role="3cqZAp">
+                  <node concept="3eOVzh" id="4yG_ycIosxY" role="3clFbw">
+                    <node concept="2YIFZM" id="4yG_ycIoH5K" role="3uHU7B">
+                      <ref role="1Pybhc" to="c790:~WNafUtil" resolve="WNafUtil" />
+                      <ref role="37wK5l" to="c790:~WNafUtil.getNafWeight(java.math.BigInteger)" resolve="getNafWeight" />
+                      <node concept="37vLTw" id="4yG_ycIoH5L" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIoswJ" resolve="n" />
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="4yG_ycIosy1" role="3uHU7w">
+                      <ref role="3cqZAo" node="4yG_ycIosw9" resolve="minWeight" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="4yG_ycIosy3" role="3clFbx">
+                    <node concept="3clFbF" id="4yG_ycIosy4" role="3cqZAp">
+                      <node concept="37vLTI" id="4yG_ycIosy5" role="3clFbG">
+                        <node concept="37vLTw" id="4yG_ycIosy6" role="37vLTJ">
+                          <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                        </node>
+                        <node concept="1rXfSq" id="4yG_ycIosy7" role="37vLTx">
+                          <ref role="37wK5l" node="4yG_ycIoszT" resolve="chooseRandomPrime" />
+                          <node concept="37vLTw" id="4yG_ycIosy8" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIosvz" resolve="pbitlength" />
+                          </node>
+                          <node concept="37vLTw" id="4yG_ycIosy9" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                          </node>
+                          <node concept="37vLTw" id="4yG_ycIosya" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIoswp" resolve="squaredBound" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3N13vt" id="4yG_ycIosyb" role="3cqZAp" />
+                  </node>
+                </node>
+                <node concept="3zACq4" id="4yG_ycIosyc" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIosyd" role="3cqZAp">
+              <node concept="3eOVzh" id="4yG_ycIosye" role="3clFbw">
+                <node concept="2OqwBi" id="4yG_ycIouYg" role="3uHU7B">
+                  <node concept="37vLTw" id="4yG_ycIouYf" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIouYh" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.compareTo(java.math.BigInteger)" resolve="compareTo" />
+                    <node concept="37vLTw" id="4yG_ycIouYi" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="4yG_ycIosyh" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIosyj" role="3clFbx">
+                <node concept="3clFbF" id="4yG_ycIosyk" role="3cqZAp">
+                  <node concept="37vLTI" id="4yG_ycIosyl" role="3clFbG">
+                    <node concept="37vLTw" id="4yG_ycIosym" role="37vLTJ">
+                      <ref role="3cqZAo" node="4yG_ycIoswY" resolve="gcd" />
+                    </node>
+                    <node concept="37vLTw" id="4yG_ycIosyn" role="37vLTx">
+                      <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="4yG_ycIosyo" role="3cqZAp">
+                  <node concept="37vLTI" id="4yG_ycIosyp" role="3clFbG">
+                    <node concept="37vLTw" id="4yG_ycIosyq" role="37vLTJ">
+                      <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                    </node>
+                    <node concept="37vLTw" id="4yG_ycIosyr" role="37vLTx">
+                      <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="4yG_ycIosys" role="3cqZAp">
+                  <node concept="37vLTI" id="4yG_ycIosyt" role="3clFbG">
+                    <node concept="37vLTw" id="4yG_ycIosyu" role="37vLTJ">
+                      <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                    </node>
+                    <node concept="37vLTw" id="4yG_ycIosyv" role="37vLTx">
+                      <ref role="3cqZAo" node="4yG_ycIoswY" resolve="gcd" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosyw" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosyx" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosyy" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswS" resolve="pSub1" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIotMY" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIotMX" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIotMZ" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.subtract(java.math.BigInteger)" resolve="subtract" />
+                    <node concept="37vLTw" id="4yG_ycIotN0" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosy_" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosyA" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosyB" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswV" resolve="qSub1" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIotCU" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIotCT" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIotCV" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.subtract(java.math.BigInteger)" resolve="subtract" />
+                    <node concept="37vLTw" id="4yG_ycIotCW" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosyE" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosyF" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosyG" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswY" resolve="gcd" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIou5b" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIou5a" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswS" resolve="pSub1" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIou5c" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.gcd(java.math.BigInteger)" resolve="gcd" />
+                    <node concept="37vLTw" id="4yG_ycIou5d" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswV" resolve="qSub1" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosyJ" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosyK" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosyL" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIosx1" resolve="lcm" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIosyM" role="37vLTx">
+                  <node concept="2OqwBi" id="4yG_ycIou1L" role="2Oq$k0">
+                    <node concept="37vLTw" id="4yG_ycIou1K" role="2Oq$k0">
+                      <ref role="3cqZAo" node="4yG_ycIoswS" resolve="pSub1" />
+                    </node>
+                    <node concept="liA8E" id="4yG_ycIou1M" role="2OqNvi">
+                      <ref role="37wK5l" to="xlxw:~BigInteger.divide(java.math.BigInteger)" resolve="divide" />
+                      <node concept="37vLTw" id="4yG_ycIou1N" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIoswY" resolve="gcd" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIosyP" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.multiply(java.math.BigInteger)" resolve="multiply" />
+                    <node concept="37vLTw" id="4yG_ycIosyQ" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswV" resolve="qSub1" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3SKdUt" id="4yG_ycIosDk" role="3cqZAp">
+              <node concept="1PaTwC" id="4yG_ycIosDl" role="1aUNEU">
+                <node concept="3oM_SD" id="4yG_ycIosDm" role="1PaTwD">
+                  <property role="3oM_SC" value="calculate" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDn" role="1PaTwD">
+                  <property role="3oM_SC" value="the" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDo" role="1PaTwD">
+                  <property role="3oM_SC" value="private" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDp" role="1PaTwD">
+                  <property role="3oM_SC" value="exponent" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIosyR" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosyS" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosyT" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoswM" resolve="d" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIot_r" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIot_q" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIot_s" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.modInverse(java.math.BigInteger)" resolve="modInverse" />
+                    <node concept="37vLTw" id="4yG_ycIot_t" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIosx1" resolve="lcm" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIosyW" role="3cqZAp">
+              <node concept="2dkUwp" id="4yG_ycIosyX" role="3clFbw">
+                <node concept="2OqwBi" id="4yG_ycIoumu" role="3uHU7B">
+                  <node concept="37vLTw" id="4yG_ycIoumt" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswM" resolve="d" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIoumv" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.compareTo(java.math.BigInteger)" resolve="compareTo" />
+                    <node concept="37vLTw" id="4yG_ycIoumw" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswf" resolve="dLowerBound" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="4yG_ycIosz0" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="9aQIb" id="4yG_ycIosz4" role="9aQIa">
+                <node concept="3clFbS" id="4yG_ycIosz5" role="9aQI4">
+                  <node concept="3clFbF" id="4yG_ycIosz6" role="3cqZAp">
+                    <node concept="37vLTI" id="4yG_ycIosz7" role="3clFbG">
+                      <node concept="37vLTw" id="4yG_ycIosz8" role="37vLTJ">
+                        <ref role="3cqZAo" node="4yG_ycIosvr" resolve="done" />
+                      </node>
+                      <node concept="3clFbT" id="4yG_ycIosz9" role="37vLTx">
+                        <property role="3clFbU" value="true" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIosz2" role="3clFbx">
+                <node concept="3N13vt" id="4yG_ycIosz3" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3SKdUt" id="4yG_ycIosDq" role="3cqZAp">
+              <node concept="1PaTwC" id="4yG_ycIosDr" role="1aUNEU">
+                <node concept="3oM_SD" id="4yG_ycIosDs" role="1PaTwD">
+                  <property role="3oM_SC" value="calculate" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDt" role="1PaTwD">
+                  <property role="3oM_SC" value="the" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDu" role="1PaTwD">
+                  <property role="3oM_SC" value="CRT" />
+                </node>
+                <node concept="3oM_SD" id="4yG_ycIosDv" role="1PaTwD">
+                  <property role="3oM_SC" value="factors" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoszb" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIosza" role="3cpWs9">
+                <property role="TrG5h" value="dP" />
+                <node concept="3uibUv" id="4yG_ycIoszc" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIosze" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoszd" role="3cpWs9">
+                <property role="TrG5h" value="dQ" />
+                <node concept="3uibUv" id="4yG_ycIoszf" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="4yG_ycIoszh" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIoszg" role="3cpWs9">
+                <property role="TrG5h" value="qInv" />
+                <node concept="3uibUv" id="4yG_ycIoszi" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIoszj" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIoszk" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIoszl" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIosza" resolve="dP" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIot$l" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIot$k" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswM" resolve="d" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIot$m" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.remainder(java.math.BigInteger)" resolve="remainder" />
+                    <node concept="37vLTw" id="4yG_ycIot$n" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswS" resolve="pSub1" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIoszo" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIoszp" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIoszq" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoszd" resolve="dQ" />
+                </node>
+                <node concept="2OqwBi" id="4yG_ycIotO4" role="37vLTx">
+                  <node concept="37vLTw" id="4yG_ycIotO3" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIoswM" resolve="d" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIotO5" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.remainder(java.math.BigInteger)" resolve="remainder" />
+                    <node concept="37vLTw" id="4yG_ycIotO6" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoswV" resolve="qSub1" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIoszt" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIoszu" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIoszv" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIoszg" resolve="qInv" />
+                </node>
+                <node concept="2YIFZM" id="4yG_ycIoHbE" role="37vLTx">
+                  <ref role="1Pybhc" to="mgsy:~BigIntegers" resolve="BigIntegers" />
+                  <ref role="37wK5l" to="mgsy:~BigIntegers.modOddInverse(java.math.BigInteger,java.math.BigInteger)" resolve="modOddInverse" />
+                  <node concept="37vLTw" id="4yG_ycIoHbF" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                  </node>
+                  <node concept="37vLTw" id="4yG_ycIoHbG" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="4yG_ycIoszz" role="3cqZAp">
+              <node concept="37vLTI" id="4yG_ycIosz$" role="3clFbG">
+                <node concept="37vLTw" id="4yG_ycIosz_" role="37vLTJ">
+                  <ref role="3cqZAo" node="4yG_ycIosvn" resolve="result" />
+                </node>
+                <node concept="2ShNRf" id="4yG_ycIoH6I" role="37vLTx">
+                  <node concept="1pGfFk" id="4yG_ycIoHb9" role="2ShVmc">
+                    <ref role="37wK5l" to="6y4x:~AsymmetricCipherKeyPair.&lt;init&gt;(org.bouncycastle.crypto.params.AsymmetricKeyParameter,org.bouncycastle.crypto.params.AsymmetricKeyParameter)" resolve="AsymmetricCipherKeyPair" />
+                    <node concept="2ShNRf" id="4yG_ycIoHba" role="37wK5m">
+                      <node concept="1pGfFk" id="4yG_ycIoHbb" role="2ShVmc">
+                        <ref role="37wK5l" to="25z7:~RSAKeyParameters.&lt;init&gt;(boolean,java.math.BigInteger,java.math.BigInteger)" resolve="RSAKeyParameters" />
+                        <node concept="3clFbT" id="4yG_ycIoHbc" role="37wK5m" />
+                        <node concept="37vLTw" id="4yG_ycIoHbd" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswJ" resolve="n" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHbe" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="2ShNRf" id="4yG_ycIoHAk" role="37wK5m">
+                      <node concept="1pGfFk" id="4yG_ycIoHAv" role="2ShVmc">
+                        <ref role="37wK5l" to="25z7:~RSAPrivateCrtKeyParameters.&lt;init&gt;(java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger)" resolve="RSAPrivateCrtKeyParameters" />
+                        <node concept="37vLTw" id="4yG_ycIoHAw" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswJ" resolve="n" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHAx" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswP" resolve="e" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHAy" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswM" resolve="d" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHAz" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswD" resolve="p" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHA$" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoswG" resolve="q" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHA_" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIosza" resolve="dP" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHAA" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoszd" resolve="dQ" />
+                        </node>
+                        <node concept="37vLTw" id="4yG_ycIoHAB" role="37wK5m">
+                          <ref role="3cqZAo" node="4yG_ycIoszg" resolve="qInv" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="4yG_ycIoszP" role="3cqZAp">
+          <node concept="37vLTw" id="4yG_ycIoszQ" role="3cqZAk">
+            <ref role="3cqZAo" node="4yG_ycIosvn" resolve="result" />
+          </node>
+        </node>
+      </node>
+      <node concept="2AHcQZ" id="4yG_ycIoQ8A" role="2AJF6D">
+        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+      </node>
+      <node concept="3Tm1VV" id="4yG_ycIzshD" role="1B3o_S" />
+      <node concept="7NFgH" id="4yG_ycIzN8R" role="28mdTn">
+        <property role="7QkGG" value="Illegal call to generateKeyPair() before init() was called!" />
+        <node concept="28m4m7" id="4yG_ycIzNyQ" role="7NFgG">
+          <ref role="5mHft" node="4yG_ycIoXk3" resolve="isInitialized" />
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="4yG_ycIoszT" role="jymVt">
+      <property role="TrG5h" value="chooseRandomPrime" />
+      <node concept="37vLTG" id="4yG_ycIoszU" role="3clF46">
+        <property role="TrG5h" value="bitlength" />
+        <node concept="10Oyi0" id="4yG_ycIoszV" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="4yG_ycIoszW" role="3clF46">
+        <property role="TrG5h" value="e" />
+        <node concept="3uibUv" id="4yG_ycIoszX" role="1tU5fm">
+          <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="4yG_ycIoszY" role="3clF46">
+        <property role="TrG5h" value="sqrdBound" />
+        <node concept="3uibUv" id="4yG_ycIoszZ" role="1tU5fm">
+          <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="4yG_ycIos$0" role="3clF47">
+        <node concept="1Dw8fO" id="4yG_ycIos$1" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIos$2" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="4yG_ycIos$4" role="1tU5fm" />
+            <node concept="3cmrfG" id="4yG_ycIos$5" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3y3z36" id="4yG_ycIos$6" role="1Dwp0S">
+            <node concept="37vLTw" id="4yG_ycIos$7" role="3uHU7B">
+              <ref role="3cqZAo" node="4yG_ycIos$2" resolve="i" />
+            </node>
+            <node concept="17qRlL" id="4yG_ycIos$8" role="3uHU7w">
+              <node concept="3cmrfG" id="4yG_ycIos$9" role="3uHU7B">
+                <property role="3cmrfH" value="5" />
+              </node>
+              <node concept="37vLTw" id="4yG_ycIos$a" role="3uHU7w">
+                <ref role="3cqZAo" node="4yG_ycIoszU" resolve="bitlength" />
+              </node>
+            </node>
+          </node>
+          <node concept="3uNrnE" id="4yG_ycIos$c" role="1Dwrff">
+            <node concept="37vLTw" id="4yG_ycIos$d" role="2$L3a6">
+              <ref role="3cqZAo" node="4yG_ycIos$2" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="4yG_ycIos$f" role="2LFqv$">
+            <node concept="3cpWs8" id="4yG_ycIos$h" role="3cqZAp">
+              <node concept="3cpWsn" id="4yG_ycIos$g" role="3cpWs9">
+                <property role="TrG5h" value="p" />
+                <node concept="3uibUv" id="4yG_ycIos$i" role="1tU5fm">
+                  <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+                </node>
+                <node concept="2YIFZM" id="4yG_ycIoH5V" role="33vP2m">
+                  <ref role="1Pybhc" to="mgsy:~BigIntegers" resolve="BigIntegers" />
+                  <ref role="37wK5l" to="mgsy:~BigIntegers.createRandomPrime(int,int,java.security.SecureRandom)" resolve="createRandomPrime" />
+                  <node concept="37vLTw" id="4yG_ycIoH5W" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIoszU" resolve="bitlength" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIoH5X" role="37wK5m">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                  <node concept="2OqwBi" id="4yG_ycIoH5Y" role="37wK5m">
+                    <node concept="37vLTw" id="4yG_ycIoH5Z" role="2Oq$k0">
+                      <ref role="3cqZAo" node="4yG_ycIosv3" resolve="param" />
+                    </node>
+                    <node concept="liA8E" id="4yG_ycIoH60" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~KeyGenerationParameters.getRandom()" resolve="getRandom" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIos$n" role="3cqZAp">
+              <node concept="2OqwBi" id="4yG_ycIos$o" role="3clFbw">
+                <node concept="2OqwBi" id="4yG_ycIotE0" role="2Oq$k0">
+                  <node concept="37vLTw" id="4yG_ycIotDZ" role="2Oq$k0">
+                    <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIotE1" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.mod(java.math.BigInteger)" resolve="mod" />
+                    <node concept="37vLTw" id="4yG_ycIotE2" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoszW" resolve="e" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="liA8E" id="4yG_ycIos$r" role="2OqNvi">
+                  <ref role="37wK5l" to="xlxw:~BigInteger.equals(java.lang.Object)" resolve="equals" />
+                  <node concept="37vLTw" id="4yG_ycIos$s" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIos$u" role="3clFbx">
+                <node concept="3N13vt" id="4yG_ycIos$v" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIos$w" role="3cqZAp">
+              <node concept="3eOVzh" id="4yG_ycIos$x" role="3clFbw">
+                <node concept="2OqwBi" id="4yG_ycIos$y" role="3uHU7B">
+                  <node concept="2OqwBi" id="4yG_ycIotHq" role="2Oq$k0">
+                    <node concept="37vLTw" id="4yG_ycIotHp" role="2Oq$k0">
+                      <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+                    </node>
+                    <node concept="liA8E" id="4yG_ycIotHr" role="2OqNvi">
+                      <ref role="37wK5l" to="xlxw:~BigInteger.multiply(java.math.BigInteger)" resolve="multiply" />
+                      <node concept="37vLTw" id="4yG_ycIotHs" role="37wK5m">
+                        <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIos$_" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.compareTo(java.math.BigInteger)" resolve="compareTo" />
+                    <node concept="37vLTw" id="4yG_ycIos$A" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIoszY" resolve="sqrdBound" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="4yG_ycIos$B" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIos$D" role="3clFbx">
+                <node concept="3N13vt" id="4yG_ycIos$E" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIos$F" role="3cqZAp">
+              <node concept="3fqX7Q" id="4yG_ycIos$G" role="3clFbw">
+                <node concept="1rXfSq" id="4yG_ycIos$H" role="3fr31v">
+                  <ref role="37wK5l" node="4yG_ycIos_5" resolve="isProbablePrime" />
+                  <node concept="37vLTw" id="4yG_ycIos$I" role="37wK5m">
+                    <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIos$K" role="3clFbx">
+                <node concept="3N13vt" id="4yG_ycIos$L" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIos$M" role="3cqZAp">
+              <node concept="3fqX7Q" id="4yG_ycIos$N" role="3clFbw">
+                <node concept="2OqwBi" id="4yG_ycIos$O" role="3fr31v">
+                  <node concept="2OqwBi" id="4yG_ycIouSG" role="2Oq$k0">
+                    <node concept="37vLTw" id="4yG_ycIouSF" role="2Oq$k0">
+                      <ref role="3cqZAo" node="4yG_ycIoszW" resolve="e" />
+                    </node>
+                    <node concept="liA8E" id="4yG_ycIouSH" role="2OqNvi">
+                      <ref role="37wK5l" to="xlxw:~BigInteger.gcd(java.math.BigInteger)" resolve="gcd" />
+                      <node concept="2OqwBi" id="4yG_ycIouSI" role="37wK5m">
+                        <node concept="37vLTw" id="4yG_ycIouSJ" role="2Oq$k0">
+                          <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+                        </node>
+                        <node concept="liA8E" id="4yG_ycIouSK" role="2OqNvi">
+                          <ref role="37wK5l" to="xlxw:~BigInteger.subtract(java.math.BigInteger)" resolve="subtract" />
+                          <node concept="37vLTw" id="4yG_ycIouSL" role="37wK5m">
+                            <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="4yG_ycIos$S" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.equals(java.lang.Object)" resolve="equals" />
+                    <node concept="37vLTw" id="4yG_ycIos$T" role="37wK5m">
+                      <ref role="3cqZAo" node="4yG_ycIosuY" resolve="ONE" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIos$V" role="3clFbx">
+                <node concept="3N13vt" id="4yG_ycIos$W" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3cpWs6" id="4yG_ycIos$X" role="3cqZAp">
+              <node concept="37vLTw" id="4yG_ycIos$Y" role="3cqZAk">
+                <ref role="3cqZAo" node="4yG_ycIos$g" resolve="p" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="YS8fn" id="4yG_ycIos_1" role="3cqZAp">
+          <node concept="2ShNRf" id="4yG_ycIotRF" role="YScLw">
+            <node concept="1pGfFk" id="4yG_ycIotW8" role="2ShVmc">
+              <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
+              <node concept="Xl_RD" id="4yG_ycIotW9" role="37wK5m">
+                <property role="Xl_RC" value="unable to generate prime number for RSA key" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="4yG_ycIos_2" role="1B3o_S" />
+      <node concept="3uibUv" id="4yG_ycIos_3" role="3clF45">
+        <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+      </node>
+      <node concept="P$JXv" id="4yG_ycIos_4" role="lGtFl">
+        <node concept="TZ5HA" id="4yG_ycIosDw" role="TZ5H$">
+          <node concept="1dT_AC" id="4yG_ycIosDx" role="1dT_Ay">
+            <property role="1dT_AB" value=" Choose a random prime value for use with RSA" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="4yG_ycIosDy" role="TZ5H$">
+          <node concept="1dT_AC" id="4yG_ycIosDz" role="1dT_Ay">
+            <property role="1dT_AB" value="" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="4yG_ycIosD$" role="TZ5H$">
+          <node concept="1dT_AC" id="4yG_ycIosD_" role="1dT_Ay">
+            <property role="1dT_AB" value=" @param bitlength the bit-length of the returned prime" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="4yG_ycIosDA" role="TZ5H$">
+          <node concept="1dT_AC" id="4yG_ycIosDB" role="1dT_Ay">
+            <property role="1dT_AB" value=" @param e         the RSA public exponent" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="4yG_ycIosDC" role="TZ5H$">
+          <node concept="1dT_AC" id="4yG_ycIosDD" role="1dT_Ay">
+            <property role="1dT_AB" value=" @return A prime p, with (p-1) relatively prime to e" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="4yG_ycIos_5" role="jymVt">
+      <property role="TrG5h" value="isProbablePrime" />
+      <node concept="37vLTG" id="4yG_ycIos_6" role="3clF46">
+        <property role="TrG5h" value="x" />
+        <node concept="3uibUv" id="4yG_ycIos_7" role="1tU5fm">
+          <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="4yG_ycIos_8" role="3clF47">
+        <node concept="3cpWs8" id="4yG_ycIos_a" role="3cqZAp">
+          <node concept="3cpWsn" id="4yG_ycIos_9" role="3cpWs9">
+            <property role="TrG5h" value="iterations" />
+            <node concept="10Oyi0" id="4yG_ycIos_b" role="1tU5fm" />
+            <node concept="1rXfSq" id="4yG_ycIos_c" role="33vP2m">
+              <ref role="37wK5l" node="4yG_ycIos_q" resolve="getNumberOfIterations" />
+              <node concept="2OqwBi" id="4yG_ycIoujt" role="37wK5m">
+                <node concept="37vLTw" id="4yG_ycIoujs" role="2Oq$k0">
+                  <ref role="3cqZAo" node="4yG_ycIos_6" resolve="x" />
+                </node>
+                <node concept="liA8E" id="4yG_ycIouju" role="2OqNvi">
+                  <ref role="37wK5l" to="xlxw:~BigInteger.bitLength()" resolve="bitLength" />
+                </node>
+              </node>
+              <node concept="2OqwBi" id="4yG_ycIou0O" role="37wK5m">
+                <node concept="37vLTw" id="4yG_ycIou0N" role="2Oq$k0">
+                  <ref role="3cqZAo" node="4yG_ycIosv3" resolve="param" />
+                </node>
+                <node concept="liA8E" id="4yG_ycIou0P" role="2OqNvi">
+                  <ref role="37wK5l" to="25z7:~RSAKeyGenerationParameters.getCertainty()" resolve="getCertainty" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosDE" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosDF" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosDG" role="1PaTwD">
+              <property role="3oM_SC" value="Primes" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDH" role="1PaTwD">
+              <property role="3oM_SC" value="class" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDI" role="1PaTwD">
+              <property role="3oM_SC" value="for" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDJ" role="1PaTwD">
+              <property role="3oM_SC" value="FIPS" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDK" role="1PaTwD">
+              <property role="3oM_SC" value="186-4" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDL" role="1PaTwD">
+              <property role="3oM_SC" value="C.3" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDM" role="1PaTwD">
+              <property role="3oM_SC" value="primality" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDN" role="1PaTwD">
+              <property role="3oM_SC" value="checking" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="4yG_ycIos_f" role="3cqZAp">
+          <node concept="1Wc70l" id="4yG_ycIos_g" role="3cqZAk">
+            <node concept="3fqX7Q" id="4yG_ycIos_h" role="3uHU7B">
+              <node concept="2YIFZM" id="4yG_ycIoH6e" role="3fr31v">
+                <ref role="1Pybhc" to="gz2w:~Primes" resolve="Primes" />
+                <ref role="37wK5l" to="gz2w:~Primes.hasAnySmallFactors(java.math.BigInteger)" resolve="hasAnySmallFactors" />
+                <node concept="37vLTw" id="4yG_ycIoH6f" role="37wK5m">
+                  <ref role="3cqZAo" node="4yG_ycIos_6" resolve="x" />
+                </node>
+              </node>
+            </node>
+            <node concept="2YIFZM" id="4yG_ycIoH6p" role="3uHU7w">
+              <ref role="1Pybhc" to="gz2w:~Primes" resolve="Primes" />
+              <ref role="37wK5l" to="gz2w:~Primes.isMRProbablePrime(java.math.BigInteger,java.security.SecureRandom,int)" resolve="isMRProbablePrime" />
+              <node concept="37vLTw" id="4yG_ycIoH6q" role="37wK5m">
+                <ref role="3cqZAo" node="4yG_ycIos_6" resolve="x" />
+              </node>
+              <node concept="2OqwBi" id="4yG_ycIoH6r" role="37wK5m">
+                <node concept="37vLTw" id="4yG_ycIoH6s" role="2Oq$k0">
+                  <ref role="3cqZAo" node="4yG_ycIosv3" resolve="param" />
+                </node>
+                <node concept="liA8E" id="4yG_ycIoH6t" role="2OqNvi">
+                  <ref role="37wK5l" to="6y4x:~KeyGenerationParameters.getRandom()" resolve="getRandom" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="4yG_ycIoH6u" role="37wK5m">
+                <ref role="3cqZAo" node="4yG_ycIos_9" resolve="iterations" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="4yG_ycIos_o" role="1B3o_S" />
+      <node concept="10P_77" id="4yG_ycIos_p" role="3clF45" />
+    </node>
+    <node concept="2YIFZL" id="4yG_ycIos_q" role="jymVt">
+      <property role="TrG5h" value="getNumberOfIterations" />
+      <node concept="37vLTG" id="4yG_ycIos_r" role="3clF46">
+        <property role="TrG5h" value="bits" />
+        <node concept="10Oyi0" id="4yG_ycIos_s" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="4yG_ycIos_t" role="3clF46">
+        <property role="TrG5h" value="certainty" />
+        <node concept="10Oyi0" id="4yG_ycIos_u" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="4yG_ycIos_v" role="3clF47">
+        <node concept="3SKdUt" id="4yG_ycIosDO" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosDP" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosDQ" role="1PaTwD">
+              <property role="3oM_SC" value="NOTE:" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDR" role="1PaTwD">
+              <property role="3oM_SC" value="We" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDS" role="1PaTwD">
+              <property role="3oM_SC" value="enforce" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDT" role="1PaTwD">
+              <property role="3oM_SC" value="a" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDU" role="1PaTwD">
+              <property role="3oM_SC" value="minimum" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDV" role="1PaTwD">
+              <property role="3oM_SC" value="'certainty'" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDW" role="1PaTwD">
+              <property role="3oM_SC" value="of" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDX" role="1PaTwD">
+              <property role="3oM_SC" value="100" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDY" role="1PaTwD">
+              <property role="3oM_SC" value="for" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosDZ" role="1PaTwD">
+              <property role="3oM_SC" value="bits" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE0" role="1PaTwD">
+              <property role="3oM_SC" value="&gt;=" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE1" role="1PaTwD">
+              <property role="3oM_SC" value="1024" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE2" role="1PaTwD">
+              <property role="3oM_SC" value="(else" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE3" role="1PaTwD">
+              <property role="3oM_SC" value="80)." />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE4" role="1PaTwD">
+              <property role="3oM_SC" value="Where" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE5" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosE6" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosE7" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosE8" role="1PaTwD">
+              <property role="3oM_SC" value="certainty" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosE9" role="1PaTwD">
+              <property role="3oM_SC" value="is" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEa" role="1PaTwD">
+              <property role="3oM_SC" value="higher" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEb" role="1PaTwD">
+              <property role="3oM_SC" value="than" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEc" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEd" role="1PaTwD">
+              <property role="3oM_SC" value="FIPS" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEe" role="1PaTwD">
+              <property role="3oM_SC" value="186-4" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEf" role="1PaTwD">
+              <property role="3oM_SC" value="tables" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEg" role="1PaTwD">
+              <property role="3oM_SC" value="(C.2/C.3)" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEh" role="1PaTwD">
+              <property role="3oM_SC" value="cater" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEi" role="1PaTwD">
+              <property role="3oM_SC" value="to," />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEj" role="1PaTwD">
+              <property role="3oM_SC" value="extra" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEk" role="1PaTwD">
+              <property role="3oM_SC" value="iterations" />
+            </node>
+          </node>
+        </node>
+        <node concept="3SKdUt" id="4yG_ycIosEl" role="3cqZAp">
+          <node concept="1PaTwC" id="4yG_ycIosEm" role="1aUNEU">
+            <node concept="3oM_SD" id="4yG_ycIosEn" role="1PaTwD">
+              <property role="3oM_SC" value="are" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEo" role="1PaTwD">
+              <property role="3oM_SC" value="added" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEp" role="1PaTwD">
+              <property role="3oM_SC" value="at" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEq" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEr" role="1PaTwD">
+              <property role="3oM_SC" value="&quot;worst" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEs" role="1PaTwD">
+              <property role="3oM_SC" value="case" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEt" role="1PaTwD">
+              <property role="3oM_SC" value="rate&quot;" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEu" role="1PaTwD">
+              <property role="3oM_SC" value="for" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEv" role="1PaTwD">
+              <property role="3oM_SC" value="the" />
+            </node>
+            <node concept="3oM_SD" id="4yG_ycIosEw" role="1PaTwD">
+              <property role="3oM_SC" value="excess." />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="4yG_ycIos_w" role="3cqZAp">
+          <node concept="2d3UOw" id="4yG_ycIos_x" role="3clFbw">
+            <node concept="37vLTw" id="4yG_ycIos_y" role="3uHU7B">
+              <ref role="3cqZAo" node="4yG_ycIos_r" resolve="bits" />
+            </node>
+            <node concept="3cmrfG" id="4yG_ycIos_z" role="3uHU7w">
+              <property role="3cmrfH" value="1536" />
+            </node>
+          </node>
+          <node concept="3clFbJ" id="4yG_ycIos_V" role="9aQIa">
+            <node concept="2d3UOw" id="4yG_ycIos_W" role="3clFbw">
+              <node concept="37vLTw" id="4yG_ycIos_X" role="3uHU7B">
+                <ref role="3cqZAo" node="4yG_ycIos_r" resolve="bits" />
+              </node>
+              <node concept="3cmrfG" id="4yG_ycIos_Y" role="3uHU7w">
+                <property role="3cmrfH" value="1024" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="4yG_ycIosAm" role="9aQIa">
+              <node concept="2d3UOw" id="4yG_ycIosAn" role="3clFbw">
+                <node concept="37vLTw" id="4yG_ycIosAo" role="3uHU7B">
+                  <ref role="3cqZAo" node="4yG_ycIos_r" resolve="bits" />
+                </node>
+                <node concept="3cmrfG" id="4yG_ycIosAp" role="3uHU7w">
+                  <property role="3cmrfH" value="512" />
+                </node>
+              </node>
+              <node concept="9aQIb" id="4yG_ycIosAL" role="9aQIa">
+                <node concept="3clFbS" id="4yG_ycIosAM" role="9aQI4">
+                  <node concept="3cpWs6" id="4yG_ycIosAN" role="3cqZAp">
+                    <node concept="3K4zz7" id="4yG_ycIosB2" role="3cqZAk">
+                      <node concept="2dkUwp" id="4yG_ycIosAO" role="3K4Cdx">
+                        <node concept="37vLTw" id="4yG_ycIosAP" role="3uHU7B">
+                          <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                        </node>
+                        <node concept="3cmrfG" id="4yG_ycIosAQ" role="3uHU7w">
+                          <property role="3cmrfH" value="80" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIosAR" role="3K4E3e">
+                        <property role="3cmrfH" value="40" />
+                      </node>
+                      <node concept="3cpWs3" id="4yG_ycIosAS" role="3K4GZi">
+                        <node concept="3cmrfG" id="4yG_ycIosAT" role="3uHU7B">
+                          <property role="3cmrfH" value="40" />
+                        </node>
+                        <node concept="FJ1c_" id="4yG_ycIosAU" role="3uHU7w">
+                          <node concept="1eOMI4" id="4yG_ycIosB0" role="3uHU7B">
+                            <node concept="3cpWs3" id="4yG_ycIosAV" role="1eOMHV">
+                              <node concept="3cpWsd" id="4yG_ycIosAW" role="3uHU7B">
+                                <node concept="37vLTw" id="4yG_ycIosAX" role="3uHU7B">
+                                  <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                                </node>
+                                <node concept="3cmrfG" id="4yG_ycIosAY" role="3uHU7w">
+                                  <property role="3cmrfH" value="80" />
+                                </node>
+                              </node>
+                              <node concept="3cmrfG" id="4yG_ycIosAZ" role="3uHU7w">
+                                <property role="3cmrfH" value="1" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="4yG_ycIosB1" role="3uHU7w">
+                            <property role="3cmrfH" value="2" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="4yG_ycIosAr" role="3clFbx">
+                <node concept="3cpWs6" id="4yG_ycIosAs" role="3cqZAp">
+                  <node concept="3K4zz7" id="4yG_ycIosAK" role="3cqZAk">
+                    <node concept="2dkUwp" id="4yG_ycIosAt" role="3K4Cdx">
+                      <node concept="37vLTw" id="4yG_ycIosAu" role="3uHU7B">
+                        <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIosAv" role="3uHU7w">
+                        <property role="3cmrfH" value="80" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="4yG_ycIosAw" role="3K4E3e">
+                      <property role="3cmrfH" value="5" />
+                    </node>
+                    <node concept="3K4zz7" id="4yG_ycIosAJ" role="3K4GZi">
+                      <node concept="2dkUwp" id="4yG_ycIosAx" role="3K4Cdx">
+                        <node concept="37vLTw" id="4yG_ycIosAy" role="3uHU7B">
+                          <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                        </node>
+                        <node concept="3cmrfG" id="4yG_ycIosAz" role="3uHU7w">
+                          <property role="3cmrfH" value="100" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIosA$" role="3K4E3e">
+                        <property role="3cmrfH" value="7" />
+                      </node>
+                      <node concept="3cpWs3" id="4yG_ycIosA_" role="3K4GZi">
+                        <node concept="3cmrfG" id="4yG_ycIosAA" role="3uHU7B">
+                          <property role="3cmrfH" value="7" />
+                        </node>
+                        <node concept="FJ1c_" id="4yG_ycIosAB" role="3uHU7w">
+                          <node concept="1eOMI4" id="4yG_ycIosAH" role="3uHU7B">
+                            <node concept="3cpWs3" id="4yG_ycIosAC" role="1eOMHV">
+                              <node concept="3cpWsd" id="4yG_ycIosAD" role="3uHU7B">
+                                <node concept="37vLTw" id="4yG_ycIosAE" role="3uHU7B">
+                                  <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                                </node>
+                                <node concept="3cmrfG" id="4yG_ycIosAF" role="3uHU7w">
+                                  <property role="3cmrfH" value="100" />
+                                </node>
+                              </node>
+                              <node concept="3cmrfG" id="4yG_ycIosAG" role="3uHU7w">
+                                <property role="3cmrfH" value="1" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="4yG_ycIosAI" role="3uHU7w">
+                            <property role="3cmrfH" value="2" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="4yG_ycIosA0" role="3clFbx">
+              <node concept="3cpWs6" id="4yG_ycIosA1" role="3cqZAp">
+                <node concept="3K4zz7" id="4yG_ycIosAl" role="3cqZAk">
+                  <node concept="2dkUwp" id="4yG_ycIosA2" role="3K4Cdx">
+                    <node concept="37vLTw" id="4yG_ycIosA3" role="3uHU7B">
+                      <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                    </node>
+                    <node concept="3cmrfG" id="4yG_ycIosA4" role="3uHU7w">
+                      <property role="3cmrfH" value="100" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIosA5" role="3K4E3e">
+                    <property role="3cmrfH" value="4" />
+                  </node>
+                  <node concept="3K4zz7" id="4yG_ycIosAk" role="3K4GZi">
+                    <node concept="2dkUwp" id="4yG_ycIosA6" role="3K4Cdx">
+                      <node concept="37vLTw" id="4yG_ycIosA7" role="3uHU7B">
+                        <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIosA8" role="3uHU7w">
+                        <property role="3cmrfH" value="112" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="4yG_ycIosA9" role="3K4E3e">
+                      <property role="3cmrfH" value="5" />
+                    </node>
+                    <node concept="3cpWs3" id="4yG_ycIosAa" role="3K4GZi">
+                      <node concept="3cmrfG" id="4yG_ycIosAb" role="3uHU7B">
+                        <property role="3cmrfH" value="5" />
+                      </node>
+                      <node concept="FJ1c_" id="4yG_ycIosAc" role="3uHU7w">
+                        <node concept="1eOMI4" id="4yG_ycIosAi" role="3uHU7B">
+                          <node concept="3cpWs3" id="4yG_ycIosAd" role="1eOMHV">
+                            <node concept="3cpWsd" id="4yG_ycIosAe" role="3uHU7B">
+                              <node concept="37vLTw" id="4yG_ycIosAf" role="3uHU7B">
+                                <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                              </node>
+                              <node concept="3cmrfG" id="4yG_ycIosAg" role="3uHU7w">
+                                <property role="3cmrfH" value="112" />
+                              </node>
+                            </node>
+                            <node concept="3cmrfG" id="4yG_ycIosAh" role="3uHU7w">
+                              <property role="3cmrfH" value="1" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cmrfG" id="4yG_ycIosAj" role="3uHU7w">
+                          <property role="3cmrfH" value="2" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="4yG_ycIos__" role="3clFbx">
+            <node concept="3cpWs6" id="4yG_ycIos_A" role="3cqZAp">
+              <node concept="3K4zz7" id="4yG_ycIos_U" role="3cqZAk">
+                <node concept="2dkUwp" id="4yG_ycIos_B" role="3K4Cdx">
+                  <node concept="37vLTw" id="4yG_ycIos_C" role="3uHU7B">
+                    <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIos_D" role="3uHU7w">
+                    <property role="3cmrfH" value="100" />
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="4yG_ycIos_E" role="3K4E3e">
+                  <property role="3cmrfH" value="3" />
+                </node>
+                <node concept="3K4zz7" id="4yG_ycIos_T" role="3K4GZi">
+                  <node concept="2dkUwp" id="4yG_ycIos_F" role="3K4Cdx">
+                    <node concept="37vLTw" id="4yG_ycIos_G" role="3uHU7B">
+                      <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                    </node>
+                    <node concept="3cmrfG" id="4yG_ycIos_H" role="3uHU7w">
+                      <property role="3cmrfH" value="128" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="4yG_ycIos_I" role="3K4E3e">
+                    <property role="3cmrfH" value="4" />
+                  </node>
+                  <node concept="3cpWs3" id="4yG_ycIos_J" role="3K4GZi">
+                    <node concept="3cmrfG" id="4yG_ycIos_K" role="3uHU7B">
+                      <property role="3cmrfH" value="4" />
+                    </node>
+                    <node concept="FJ1c_" id="4yG_ycIos_L" role="3uHU7w">
+                      <node concept="1eOMI4" id="4yG_ycIos_R" role="3uHU7B">
+                        <node concept="3cpWs3" id="4yG_ycIos_M" role="1eOMHV">
+                          <node concept="3cpWsd" id="4yG_ycIos_N" role="3uHU7B">
+                            <node concept="37vLTw" id="4yG_ycIos_O" role="3uHU7B">
+                              <ref role="3cqZAo" node="4yG_ycIos_t" resolve="certainty" />
+                            </node>
+                            <node concept="3cmrfG" id="4yG_ycIos_P" role="3uHU7w">
+                              <property role="3cmrfH" value="128" />
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="4yG_ycIos_Q" role="3uHU7w">
+                            <property role="3cmrfH" value="1" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="4yG_ycIos_S" role="3uHU7w">
+                        <property role="3cmrfH" value="2" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="4yG_ycIosB3" role="1B3o_S" />
+      <node concept="10Oyi0" id="4yG_ycIosB4" role="3clF45" />
+    </node>
+    <node concept="3uibUv" id="4yG_ycIoSZv" role="EKbjA">
+      <ref role="3uigEE" to="6y4x:~AsymmetricCipherKeyPairGenerator" resolve="AsymmetricCipherKeyPairGenerator" />
+    </node>
+  </node>
+</model>
+
@@ -0,0 +1,529 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<model ref="r:43931021-fd4f-5826-b2a2-4ab6a576fa3c(BouncyCastle.bc.crypto.params)">
+  <persistence version="9" />
+  <languages>
+    <use id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage" version="11" />
+    <use id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL" version="0" />
+    <use id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc" version="2" />
+  </languages>
+  <imports>
+    <import index="xlxw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.math(JDK/)" />
+    <import index="c790" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math.ec(BouncyCastle/)" />
+    <import index="gz2w" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math(BouncyCastle/)" />
+    <import index="mgsy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.util(BouncyCastle/)" />
+    <import index="xewt" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.generators(BouncyCastle/)" />
+    <import index="6y4x" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto(BouncyCastle/)" />
+    <import index="25z7" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.params(BouncyCastle/)" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" />
+    <import index="c0ik" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.symmetric.util(BouncyCastle/)" />
+    <import index="pfyx" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto(JDK/)" />
+    <import index="jgjw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security(JDK/)" />
+    <import index="guwi" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.io(JDK/)" />
+    <import index="41y5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.spec(JDK/)" />
+    <import index="aql8" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.util(BouncyCastle/)" />
+    <import index="7lc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.spec(JDK/)" />
+    <import index="kdo4" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.pkcs(BouncyCastle/)" />
+    <import index="9djp" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.spec(BouncyCastle/)" />
+    <import index="559f" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jce.provider(BouncyCastle/)" />
+    <import index="t6h5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.reflect(JDK/)" />
+    <import index="b4ur" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.modes(BouncyCastle/)" />
+    <import index="zfbc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.nio(JDK/)" />
+    <import index="s8fy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.fpe(BouncyCastle/)" />
+    <import index="xf7z" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.interfaces(JDK/)" />
+    <import index="pvh0" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce(BouncyCastle/)" />
+    <import index="qrpw" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.engines(BouncyCastle/)" />
+    <import index="4pdr" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.paddings(BouncyCastle/)" />
+    <import index="9oed" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1(BouncyCastle/)" />
+    <import index="oln5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.internal.asn1.cms(BouncyCastle/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="eqo5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.config(BouncyCastle/)" />
+    <import index="j2lh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.nist(BouncyCastle/)" />
+    <import index="g9oq" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.bc(BouncyCastle/)" />
+    <import index="pbt1" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.util(BouncyCastle/)" />
+    <import index="iflh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.misc(BouncyCastle/)" />
+    <import index="t1mn" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.util(BouncyCastle/)" />
+    <import index="g6ri" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.security.auth(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="fuic" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.oiw(BouncyCastle/)" />
+    <import index="8tnb" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.util(BouncyCastle/)" />
+    <import index="ef3w" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.interfaces(JDK/)" />
+    <import index="w3v" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.rsa(BouncyCastle/)" />
+    <import index="oc9b" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.x509(BouncyCastle/)" />
+    <import index="nji9" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.macs(BouncyCastle/)" />
+    <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
+    <import index="1xn6" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.digests(BouncyCastle/)" implicit="true" />
+    <import index="quxv" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.encodings(BouncyCastle/)" implicit="true" />
+  </imports>
+  <registry>
+    <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1215695201514" name="jetbrains.mps.baseLanguage.structure.MinusAssignmentExpression" flags="nn" index="d5anL" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1202948039474" name="jetbrains.mps.baseLanguage.structure.InstanceMethodCallOperation" flags="nn" index="liA8E" />
+      <concept id="1179360813171" name="jetbrains.mps.baseLanguage.structure.HexIntegerLiteral" flags="nn" index="2nou5x">
+        <property id="1179360856892" name="value" index="2noCCI" />
+      </concept>
+      <concept id="8118189177080264853" name="jetbrains.mps.baseLanguage.structure.AlternativeType" flags="ig" index="nSUau">
+        <child id="8118189177080264854" name="alternative" index="nSUat" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1224500799915" name="jetbrains.mps.baseLanguage.structure.BitwiseXorExpression" flags="nn" index="pVQyQ" />
+      <concept id="1465982738277781862" name="jetbrains.mps.baseLanguage.structure.PlaceholderMember" flags="nn" index="2tJIrI" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1188207840427" name="jetbrains.mps.baseLanguage.structure.AnnotationInstance" flags="nn" index="2AHcQZ">
+        <reference id="1188208074048" name="annotation" index="2AI5Lk" />
+      </concept>
+      <concept id="1188208481402" name="jetbrains.mps.baseLanguage.structure.HasAnnotation" flags="ng" index="2AJDlI">
+        <child id="1188208488637" name="annotation" index="2AJF6D" />
+      </concept>
+      <concept id="1188220165133" name="jetbrains.mps.baseLanguage.structure.ArrayLiteral" flags="nn" index="2BsdOp">
+        <child id="1188220173759" name="item" index="2BsfMF" />
+      </concept>
+      <concept id="1095950406618" name="jetbrains.mps.baseLanguage.structure.DivExpression" flags="nn" index="FJ1c_" />
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1177666668936" name="jetbrains.mps.baseLanguage.structure.DoWhileStatement" flags="nn" index="MpOyq">
+        <child id="1177666688034" name="condition" index="MpTkK" />
+      </concept>
+      <concept id="1251851371723515367" name="jetbrains.mps.baseLanguage.structure.ArrayClassExpression" flags="nn" index="2MthRn">
+        <child id="1251851371723515368" name="arrayType" index="2MthRo" />
+      </concept>
+      <concept id="1197027756228" name="jetbrains.mps.baseLanguage.structure.DotExpression" flags="nn" index="2OqwBi">
+        <child id="1197027771414" name="operand" index="2Oq$k0" />
+        <child id="1197027833540" name="operation" index="2OqNvi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1083260308424" name="jetbrains.mps.baseLanguage.structure.EnumConstantReference" flags="nn" index="Rm8GO">
+        <reference id="1083260308426" name="enumConstantDeclaration" index="Rm8GQ" />
+        <reference id="1144432896254" name="enumClass" index="1Px2BO" />
+      </concept>
+      <concept id="1145552977093" name="jetbrains.mps.baseLanguage.structure.GenericNewExpression" flags="nn" index="2ShNRf">
+        <child id="1145553007750" name="creator" index="2ShVmc" />
+      </concept>
+      <concept id="1070462154015" name="jetbrains.mps.baseLanguage.structure.StaticFieldDeclaration" flags="ig" index="Wx3nA" />
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070475587102" name="jetbrains.mps.baseLanguage.structure.SuperConstructorInvocation" flags="nn" index="XkiVB" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="4952749571008284462" name="jetbrains.mps.baseLanguage.structure.CatchVariable" flags="ng" index="XOnhg" />
+      <concept id="1182160077978" name="jetbrains.mps.baseLanguage.structure.AnonymousClassCreator" flags="nn" index="YeOm9">
+        <child id="1182160096073" name="cls" index="YeSDq" />
+      </concept>
+      <concept id="1081236700938" name="jetbrains.mps.baseLanguage.structure.StaticMethodDeclaration" flags="ig" index="2YIFZL" />
+      <concept id="1081236700937" name="jetbrains.mps.baseLanguage.structure.StaticMethodCall" flags="nn" index="2YIFZM">
+        <reference id="1144433194310" name="classConcept" index="1Pybhc" />
+      </concept>
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070533982221" name="jetbrains.mps.baseLanguage.structure.ShortType" flags="in" index="10N3zO" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534555686" name="jetbrains.mps.baseLanguage.structure.CharType" flags="in" index="10Pfzv" />
+      <concept id="1070534604311" name="jetbrains.mps.baseLanguage.structure.ByteType" flags="in" index="10PrrI" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg">
+        <property id="8606350594693632173" name="isTransient" index="eg7rD" />
+      </concept>
+      <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
+        <property id="1075300953594" name="abstractClass" index="1sVAO0" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
+        <child id="1165602531693" name="superclass" index="1zkMxy" />
+      </concept>
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <property id="1176718929932" name="isFinal" index="3TUv4t" />
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1068498886296" name="jetbrains.mps.baseLanguage.structure.VariableReference" flags="nn" index="37vLTw">
+        <reference id="1068581517664" name="variableDeclaration" index="3cqZAo" />
+      </concept>
+      <concept id="1068498886292" name="jetbrains.mps.baseLanguage.structure.ParameterDeclaration" flags="ir" index="37vLTG" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1225271221393" name="jetbrains.mps.baseLanguage.structure.NPENotEqualsExpression" flags="nn" index="17QLQc" />
+      <concept id="4972933694980447171" name="jetbrains.mps.baseLanguage.structure.BaseVariableDeclaration" flags="ng" index="19Szcq">
+        <child id="5680397130376446158" name="type" index="1tU5fm" />
+      </concept>
+      <concept id="1068580123132" name="jetbrains.mps.baseLanguage.structure.BaseMethodDeclaration" flags="ng" index="3clF44">
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
+        <property id="1181808852946" name="isFinal" index="DiZV1" />
+        <child id="1164879685961" name="throwsItem" index="Sfmx6" />
+        <child id="1068580123133" name="returnType" index="3clF45" />
+        <child id="1068580123134" name="parameter" index="3clF46" />
+        <child id="1068580123135" name="body" index="3clF47" />
+      </concept>
+      <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
+        <child id="1068580123156" name="expression" index="3clFbG" />
+      </concept>
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+      </concept>
+      <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
+        <child id="1068581517665" name="statement" index="3cqZAp" />
+      </concept>
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1154542696413" name="jetbrains.mps.baseLanguage.structure.ArrayCreatorWithInitializer" flags="nn" index="3g6Rrh">
+        <child id="1154542793668" name="componentType" index="3g7fb8" />
+        <child id="1154542803372" name="initValue" index="3g7hyw" />
+      </concept>
+      <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
+        <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
+        <child id="1068499141038" name="actualArgument" index="37wK5m" />
+      </concept>
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1107461130800" name="jetbrains.mps.baseLanguage.structure.Classifier" flags="ng" index="3pOWGL">
+        <property id="521412098689998745" name="nonStatic" index="2bfB8j" />
+        <property id="2791683072064593257" name="packageName" index="2HnT6v" />
+        <child id="5375687026011219971" name="member" index="jymVt" unordered="true" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
+        <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
+        <child id="8276990574895933173" name="catchBody" index="1zc67A" />
+        <child id="8276990574895933172" name="throwable" index="1zc67B" />
+      </concept>
+      <concept id="7024111702304501414" name="jetbrains.mps.baseLanguage.structure.RemAssignmentExpression" flags="nn" index="3vZ8r6" />
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="7024111702304501420" name="jetbrains.mps.baseLanguage.structure.XorAssignmentExpression" flags="nn" index="3vZ8rc" />
+      <concept id="8276990574909231788" name="jetbrains.mps.baseLanguage.structure.FinallyClause" flags="ng" index="1wplmZ">
+        <child id="8276990574909234106" name="finallyBody" index="1wplMD" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1178549954367" name="jetbrains.mps.baseLanguage.structure.IVisible" flags="ng" index="1B3ioH">
+        <child id="1178549979242" name="visibility" index="1B3o_S" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1225892319711" name="jetbrains.mps.baseLanguage.structure.ShiftRightExpression" flags="nn" index="1GS532" />
+      <concept id="1107796713796" name="jetbrains.mps.baseLanguage.structure.Interface" flags="ig" index="3HP615" />
+      <concept id="5351203823916832286" name="jetbrains.mps.baseLanguage.structure.ResourceVariable" flags="ng" index="3J1hQo" />
+      <concept id="5351203823916750322" name="jetbrains.mps.baseLanguage.structure.TryUniversalStatement" flags="nn" index="3J1_TO">
+        <child id="8276990574886367510" name="catchClause" index="1zxBo5" />
+        <child id="8276990574886367509" name="finallyClause" index="1zxBo6" />
+        <child id="8276990574886367508" name="body" index="1zxBo7" />
+        <child id="5351203823916750334" name="resource" index="3J1_TS" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1163670490218" name="jetbrains.mps.baseLanguage.structure.SwitchStatement" flags="nn" index="3KaCP$">
+        <child id="1163670592366" name="defaultBlock" index="3Kb1Dw" />
+        <child id="1163670766145" name="expression" index="3KbGdf" />
+        <child id="1163670772911" name="case" index="3KbHQx" />
+      </concept>
+      <concept id="1163670641947" name="jetbrains.mps.baseLanguage.structure.SwitchCase" flags="ng" index="3KbdKl">
+        <child id="1163670677455" name="expression" index="3Kbmr1" />
+        <child id="1163670683720" name="body" index="3Kbo56" />
+      </concept>
+      <concept id="1082113931046" name="jetbrains.mps.baseLanguage.structure.ContinueStatement" flags="nn" index="3N13vt" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="6329021646629104954" name="jetbrains.mps.baseLanguage.structure.SingleLineComment" flags="nn" index="3SKdUt">
+        <child id="8356039341262087992" name="line" index="1aUNEU" />
+      </concept>
+      <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1146644641414" name="jetbrains.mps.baseLanguage.structure.ProtectedVisibility" flags="nn" index="3Tmbuc" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1178893518978" name="jetbrains.mps.baseLanguage.structure.ThisConstructorInvocation" flags="nn" index="1VxSAg" />
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1200397529627" name="jetbrains.mps.baseLanguage.structure.CharConstant" flags="nn" index="1Xhbcc">
+        <property id="1200397540847" name="charConstant" index="1XhdNS" />
+      </concept>
+      <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
+        <reference id="1170346070688" name="classifier" index="1Y3XeK" />
+      </concept>
+      <concept id="320030840061144153" name="jetbrains.mps.baseLanguage.structure.ShiftRightUnsignedExpression" flags="nn" index="1ZsPo3" />
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+    </language>
+    <language id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc">
+      <concept id="6832197706140896242" name="jetbrains.mps.baseLanguage.javadoc.structure.FieldDocComment" flags="ng" index="z59LJ" />
+      <concept id="5349172909345501395" name="jetbrains.mps.baseLanguage.javadoc.structure.BaseDocComment" flags="ng" index="P$AiS">
+        <child id="8465538089690331502" name="body" index="TZ5H$" />
+      </concept>
+      <concept id="5349172909345532724" name="jetbrains.mps.baseLanguage.javadoc.structure.MethodDocComment" flags="ng" index="P$JXv" />
+      <concept id="8465538089690331500" name="jetbrains.mps.baseLanguage.javadoc.structure.CommentLine" flags="ng" index="TZ5HA">
+        <child id="8970989240999019149" name="part" index="1dT_Ay" />
+      </concept>
+      <concept id="8970989240999019143" name="jetbrains.mps.baseLanguage.javadoc.structure.TextCommentLinePart" flags="ng" index="1dT_AC">
+        <property id="8970989240999019144" name="text" index="1dT_AB" />
+      </concept>
+      <concept id="2068944020170241612" name="jetbrains.mps.baseLanguage.javadoc.structure.ClassifierDocComment" flags="ng" index="3UR2Jj" />
+    </language>
+    <language id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL">
+      <concept id="4157980839829753419" name="apiSL.structure.BaseGuardReference" flags="ng" index="5mHf0">
+        <reference id="4157980839829753430" name="guard" index="5mHft" />
+      </concept>
+      <concept id="7118418329240799211" name="apiSL.structure.Requirement" flags="ng" index="7NFgE">
+        <property id="7118418329241450733" name="errorMessage" index="7QkGG" />
+      </concept>
+      <concept id="7118418329240799212" name="apiSL.structure.ExpressionRequirement" flags="ng" index="7NFgH">
+        <child id="7118418329240799213" name="expression" index="7NFgG" />
+      </concept>
+      <concept id="3241732874153801560" name="apiSL.structure.LocalGuardReference" flags="ng" index="28m4m7" />
+      <concept id="3241732874153801933" name="apiSL.structure.ChangesGuard" flags="ng" index="28m4Ci">
+        <property id="3241732874153801936" name="newValue" index="28m4Cf" />
+        <child id="3241732874153801934" name="guard" index="28m4Ch" />
+      </concept>
+      <concept id="3241732874153801927" name="apiSL.structure.WhenReturns" flags="ng" index="28m4Co" />
+      <concept id="3241732874153801925" name="apiSL.structure.Consequence" flags="ng" index="28m4Cq">
+        <child id="3241732874153801930" name="when" index="28m4Cl" />
+        <child id="5424624459614105666" name="then" index="38updQ" />
+      </concept>
+      <concept id="3241732874153771441" name="apiSL.structure.GuardDeclaration" flags="ng" index="28mbdI" />
+      <concept id="2468280109721306674" name="apiSL.structure.IVerifiedMethod" flags="ng" index="28md6s">
+        <child id="2468280109721307641" name="requirements" index="28mdTn" />
+        <child id="5424624459614123890" name="consequences" index="38uth6" />
+      </concept>
+      <concept id="2468280109721450436" name="apiSL.structure.StaticVerifiedMethod" flags="ig" index="28mI1E" />
+      <concept id="5752318980938883239" name="apiSL.structure.MetaVariableDeclaration" flags="ng" index="2qjjs5">
+        <child id="6976864374266609290" name="type" index="2iVZe$" />
+        <child id="1709424164472981217" name="defaultValue" index="1Em9Vp" />
+      </concept>
+      <concept id="2316402386142492908" name="apiSL.structure.VerifiedClass" flags="ig" index="2ALBHu" />
+      <concept id="2316402386142877834" name="apiSL.structure.VerifiedMethod" flags="ig" index="2AN5GS" />
+      <concept id="4506385826706830357" name="apiSL.structure.ExpandoDeclaration" flags="ng" index="2FfH8t">
+        <child id="4506385826706840328" name="variables" index="2FfFO0" />
+        <child id="4506385826706830723" name="for" index="2FfHeb" />
+      </concept>
+      <concept id="4506385826706830831" name="apiSL.structure.ExpandoVariable" flags="ng" index="2FfHfB">
+        <child id="4506385826706830935" name="type" index="2FfH1v" />
+        <child id="4506385826706831876" name="defaultValue" index="2FfHKc" />
+      </concept>
+      <concept id="4506385826708734742" name="apiSL.structure.ExpandoReference" flags="ng" index="2Fnqku">
+        <reference id="4506385826708734906" name="variable" index="2FnqmM" />
+        <reference id="4506385826708734900" name="expando" index="2FnqmW" />
+        <child id="4506385826710993030" name="receiver" index="2FvPUe" />
+      </concept>
+      <concept id="2315365102418887260" name="apiSL.structure.SetsExpandoState" flags="ng" index="R8_on">
+        <child id="2315365102418888235" name="value" index="R8_9w" />
+        <child id="2315365102418888233" name="reference" index="R8_9y" />
+      </concept>
+      <concept id="2315365102419473356" name="apiSL.structure.ReturnValue" flags="ng" index="Rbqu7" />
+      <concept id="7921791665431015203" name="apiSL.structure.MetaVariableReference" flags="ng" index="RhriJ">
+        <reference id="7921791665431015204" name="variable" index="RhriC" />
+      </concept>
+      <concept id="8555217082947640889" name="apiSL.structure.VerifiedConstructor" flags="ig" index="1NMaa_" />
+    </language>
+    <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
+      <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
+        <property id="1193676396447" name="virtualPackage" index="3GE5qa" />
+        <child id="5169995583184591170" name="smodelAttribute" index="lGtFl" />
+      </concept>
+      <concept id="1169194658468" name="jetbrains.mps.lang.core.structure.INamedConcept" flags="ng" index="TrEIO">
+        <property id="1169194664001" name="name" index="TrG5h" />
+      </concept>
+    </language>
+    <language id="c7fb639f-be78-4307-89b0-b5959c3fa8c8" name="jetbrains.mps.lang.text">
+      <concept id="155656958578482948" name="jetbrains.mps.lang.text.structure.Word" flags="nn" index="3oM_SD">
+        <property id="155656958578482949" name="value" index="3oM_SC" />
+      </concept>
+      <concept id="2535923850359271782" name="jetbrains.mps.lang.text.structure.Line" flags="nn" index="1PaTwC">
+        <child id="2535923850359271783" name="elements" index="1PaTwD" />
+      </concept>
+    </language>
+  </registry>
+  <node concept="2ALBHu" id="1kIVL7USjFh">
+    <property role="3GE5qa" value="org.bouncycastle.crypto.params" />
+    <property role="TrG5h" value="ParametersWithIV" />
+    <node concept="312cEg" id="1kIVL7USmMZ" role="jymVt">
+      <property role="TrG5h" value="iv" />
+      <node concept="3Tm6S6" id="1kIVL7USmMs" role="1B3o_S" />
+      <node concept="10Q1$e" id="1kIVL7USmMD" role="1tU5fm">
+        <node concept="10PrrI" id="1kIVL7USmMB" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="312cEg" id="1kIVL7USmOk" role="jymVt">
+      <property role="TrG5h" value="paremters" />
+      <node concept="3Tm6S6" id="1kIVL7USmN_" role="1B3o_S" />
+      <node concept="3uibUv" id="1kIVL7USmO3" role="1tU5fm">
+        <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="1kIVL7USmOI" role="jymVt" />
+    <node concept="3clFbW" id="1kIVL7USmPF" role="jymVt">
+      <node concept="3cqZAl" id="1kIVL7USmPH" role="3clF45" />
+      <node concept="3Tm1VV" id="1kIVL7USmPI" role="1B3o_S" />
+      <node concept="3clFbS" id="1kIVL7USmPJ" role="3clF47">
+        <node concept="3clFbF" id="1kIVL7USmSG" role="3cqZAp">
+          <node concept="37vLTI" id="1kIVL7USn6u" role="3clFbG">
+            <node concept="37vLTw" id="1kIVL7USn7C" role="37vLTx">
+              <ref role="3cqZAo" node="1kIVL7USmQY" resolve="iv" />
+            </node>
+            <node concept="2OqwBi" id="1kIVL7USmYP" role="37vLTJ">
+              <node concept="Xjq3P" id="1kIVL7USmSF" role="2Oq$k0" />
+              <node concept="2OwXpG" id="1kIVL7USn2E" role="2OqNvi">
+                <ref role="2Oxat5" node="1kIVL7USmMZ" resolve="iv" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="1kIVL7USnau" role="3cqZAp">
+          <node concept="37vLTI" id="1kIVL7USnxp" role="3clFbG">
+            <node concept="37vLTw" id="1kIVL7USn$a" role="37vLTx">
+              <ref role="3cqZAo" node="1kIVL7USmQp" resolve="parameters" />
+            </node>
+            <node concept="2OqwBi" id="1kIVL7USnnv" role="37vLTJ">
+              <node concept="Xjq3P" id="1kIVL7USnas" role="2Oq$k0" />
+              <node concept="2OwXpG" id="1kIVL7USnq2" role="2OqNvi">
+                <ref role="2Oxat5" node="1kIVL7USmOk" resolve="paremters" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="1kIVL7USmQp" role="3clF46">
+        <property role="TrG5h" value="parameters" />
+        <node concept="3uibUv" id="1kIVL7USmQo" role="1tU5fm">
+          <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="1kIVL7USmQY" role="3clF46">
+        <property role="TrG5h" value="iv" />
+        <node concept="10Q1$e" id="1kIVL7USmRQ" role="1tU5fm">
+          <node concept="10PrrI" id="1kIVL7USmRy" role="10Q1$1" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="1kIVL7USnAh" role="jymVt" />
+    <node concept="3clFb_" id="1kIVL7USnGy" role="jymVt">
+      <property role="TrG5h" value="getIV" />
+      <node concept="3clFbS" id="1kIVL7USnG_" role="3clF47">
+        <node concept="3cpWs6" id="1kIVL7USnJL" role="3cqZAp">
+          <node concept="2OqwBi" id="1kIVL7USnSJ" role="3cqZAk">
+            <node concept="Xjq3P" id="1kIVL7USnKe" role="2Oq$k0" />
+            <node concept="2OwXpG" id="1kIVL7USnXl" role="2OqNvi">
+              <ref role="2Oxat5" node="1kIVL7USmMZ" resolve="iv" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="1kIVL7USnEa" role="1B3o_S" />
+      <node concept="10Q1$e" id="1kIVL7USnG7" role="3clF45">
+        <node concept="10PrrI" id="1kIVL7USnG5" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="1kIVL7USo8E" role="jymVt">
+      <property role="TrG5h" value="getParameters" />
+      <node concept="3clFbS" id="1kIVL7USo8H" role="3clF47">
+        <node concept="3cpWs6" id="1kIVL7USocD" role="3cqZAp">
+          <node concept="2OqwBi" id="1kIVL7USokJ" role="3cqZAk">
+            <node concept="Xjq3P" id="1kIVL7USod3" role="2Oq$k0" />
+            <node concept="2OwXpG" id="1kIVL7USoyG" role="2OqNvi">
+              <ref role="2Oxat5" node="1kIVL7USmOk" resolve="paremters" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="1kIVL7USo4Q" role="1B3o_S" />
+      <node concept="3uibUv" id="1kIVL7USo8r" role="3clF45">
+        <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="1kIVL7USjFi" role="1B3o_S" />
+    <node concept="3uibUv" id="1kIVL7USmGM" role="EKbjA">
+      <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+    </node>
+  </node>
+</model>
+
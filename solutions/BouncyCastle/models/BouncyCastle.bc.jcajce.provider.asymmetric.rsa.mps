@@ -0,0 +1,4147 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<model ref="r:27b4af36-f211-57b2-8866-15a219229ea1(BouncyCastle.bc.jcajce.provider.asymmetric.rsa)">
+  <persistence version="9" />
+  <languages>
+    <use id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage" version="11" />
+    <use id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL" version="0" />
+    <use id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc" version="2" />
+  </languages>
+  <imports>
+    <import index="xlxw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.math(JDK/)" />
+    <import index="c790" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math.ec(BouncyCastle/)" />
+    <import index="gz2w" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math(BouncyCastle/)" />
+    <import index="mgsy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.util(BouncyCastle/)" />
+    <import index="xewt" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.generators(BouncyCastle/)" />
+    <import index="6y4x" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto(BouncyCastle/)" />
+    <import index="25z7" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.params(BouncyCastle/)" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" />
+    <import index="c0ik" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.symmetric.util(BouncyCastle/)" />
+    <import index="pfyx" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto(JDK/)" />
+    <import index="jgjw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security(JDK/)" />
+    <import index="guwi" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.io(JDK/)" />
+    <import index="41y5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.spec(JDK/)" />
+    <import index="aql8" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.util(BouncyCastle/)" />
+    <import index="7lc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.spec(JDK/)" />
+    <import index="kdo4" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.pkcs(BouncyCastle/)" />
+    <import index="9djp" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.spec(BouncyCastle/)" />
+    <import index="559f" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jce.provider(BouncyCastle/)" />
+    <import index="t6h5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.reflect(JDK/)" />
+    <import index="b4ur" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.modes(BouncyCastle/)" />
+    <import index="zfbc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.nio(JDK/)" />
+    <import index="s8fy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.fpe(BouncyCastle/)" />
+    <import index="xf7z" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.interfaces(JDK/)" />
+    <import index="pvh0" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce(BouncyCastle/)" />
+    <import index="qrpw" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.engines(BouncyCastle/)" />
+    <import index="4pdr" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.paddings(BouncyCastle/)" />
+    <import index="9oed" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1(BouncyCastle/)" />
+    <import index="oln5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.internal.asn1.cms(BouncyCastle/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="eqo5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.config(BouncyCastle/)" />
+    <import index="j2lh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.nist(BouncyCastle/)" />
+    <import index="g9oq" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.bc(BouncyCastle/)" />
+    <import index="pbt1" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.util(BouncyCastle/)" />
+    <import index="iflh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.misc(BouncyCastle/)" />
+    <import index="t1mn" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.util(BouncyCastle/)" />
+    <import index="g6ri" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.security.auth(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="fuic" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.oiw(BouncyCastle/)" />
+    <import index="8tnb" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.util(BouncyCastle/)" />
+    <import index="ef3w" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.interfaces(JDK/)" />
+    <import index="w3v" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.rsa(BouncyCastle/)" />
+    <import index="oc9b" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.x509(BouncyCastle/)" />
+    <import index="nji9" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.macs(BouncyCastle/)" />
+    <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
+    <import index="1xn6" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.digests(BouncyCastle/)" implicit="true" />
+    <import index="quxv" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.encodings(BouncyCastle/)" implicit="true" />
+  </imports>
+  <registry>
+    <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1215695201514" name="jetbrains.mps.baseLanguage.structure.MinusAssignmentExpression" flags="nn" index="d5anL" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1202948039474" name="jetbrains.mps.baseLanguage.structure.InstanceMethodCallOperation" flags="nn" index="liA8E" />
+      <concept id="1179360813171" name="jetbrains.mps.baseLanguage.structure.HexIntegerLiteral" flags="nn" index="2nou5x">
+        <property id="1179360856892" name="value" index="2noCCI" />
+      </concept>
+      <concept id="8118189177080264853" name="jetbrains.mps.baseLanguage.structure.AlternativeType" flags="ig" index="nSUau">
+        <child id="8118189177080264854" name="alternative" index="nSUat" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1224500799915" name="jetbrains.mps.baseLanguage.structure.BitwiseXorExpression" flags="nn" index="pVQyQ" />
+      <concept id="1465982738277781862" name="jetbrains.mps.baseLanguage.structure.PlaceholderMember" flags="nn" index="2tJIrI" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1188207840427" name="jetbrains.mps.baseLanguage.structure.AnnotationInstance" flags="nn" index="2AHcQZ">
+        <reference id="1188208074048" name="annotation" index="2AI5Lk" />
+      </concept>
+      <concept id="1188208481402" name="jetbrains.mps.baseLanguage.structure.HasAnnotation" flags="ng" index="2AJDlI">
+        <child id="1188208488637" name="annotation" index="2AJF6D" />
+      </concept>
+      <concept id="1188220165133" name="jetbrains.mps.baseLanguage.structure.ArrayLiteral" flags="nn" index="2BsdOp">
+        <child id="1188220173759" name="item" index="2BsfMF" />
+      </concept>
+      <concept id="1095950406618" name="jetbrains.mps.baseLanguage.structure.DivExpression" flags="nn" index="FJ1c_" />
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1177666668936" name="jetbrains.mps.baseLanguage.structure.DoWhileStatement" flags="nn" index="MpOyq">
+        <child id="1177666688034" name="condition" index="MpTkK" />
+      </concept>
+      <concept id="1251851371723515367" name="jetbrains.mps.baseLanguage.structure.ArrayClassExpression" flags="nn" index="2MthRn">
+        <child id="1251851371723515368" name="arrayType" index="2MthRo" />
+      </concept>
+      <concept id="1197027756228" name="jetbrains.mps.baseLanguage.structure.DotExpression" flags="nn" index="2OqwBi">
+        <child id="1197027771414" name="operand" index="2Oq$k0" />
+        <child id="1197027833540" name="operation" index="2OqNvi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1083260308424" name="jetbrains.mps.baseLanguage.structure.EnumConstantReference" flags="nn" index="Rm8GO">
+        <reference id="1083260308426" name="enumConstantDeclaration" index="Rm8GQ" />
+        <reference id="1144432896254" name="enumClass" index="1Px2BO" />
+      </concept>
+      <concept id="1145552977093" name="jetbrains.mps.baseLanguage.structure.GenericNewExpression" flags="nn" index="2ShNRf">
+        <child id="1145553007750" name="creator" index="2ShVmc" />
+      </concept>
+      <concept id="1070462154015" name="jetbrains.mps.baseLanguage.structure.StaticFieldDeclaration" flags="ig" index="Wx3nA" />
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070475587102" name="jetbrains.mps.baseLanguage.structure.SuperConstructorInvocation" flags="nn" index="XkiVB" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="4952749571008284462" name="jetbrains.mps.baseLanguage.structure.CatchVariable" flags="ng" index="XOnhg" />
+      <concept id="1182160077978" name="jetbrains.mps.baseLanguage.structure.AnonymousClassCreator" flags="nn" index="YeOm9">
+        <child id="1182160096073" name="cls" index="YeSDq" />
+      </concept>
+      <concept id="1081236700938" name="jetbrains.mps.baseLanguage.structure.StaticMethodDeclaration" flags="ig" index="2YIFZL" />
+      <concept id="1081236700937" name="jetbrains.mps.baseLanguage.structure.StaticMethodCall" flags="nn" index="2YIFZM">
+        <reference id="1144433194310" name="classConcept" index="1Pybhc" />
+      </concept>
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070533982221" name="jetbrains.mps.baseLanguage.structure.ShortType" flags="in" index="10N3zO" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534555686" name="jetbrains.mps.baseLanguage.structure.CharType" flags="in" index="10Pfzv" />
+      <concept id="1070534604311" name="jetbrains.mps.baseLanguage.structure.ByteType" flags="in" index="10PrrI" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg">
+        <property id="8606350594693632173" name="isTransient" index="eg7rD" />
+      </concept>
+      <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
+        <property id="1075300953594" name="abstractClass" index="1sVAO0" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
+        <child id="1165602531693" name="superclass" index="1zkMxy" />
+      </concept>
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <property id="1176718929932" name="isFinal" index="3TUv4t" />
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1068498886296" name="jetbrains.mps.baseLanguage.structure.VariableReference" flags="nn" index="37vLTw">
+        <reference id="1068581517664" name="variableDeclaration" index="3cqZAo" />
+      </concept>
+      <concept id="1068498886292" name="jetbrains.mps.baseLanguage.structure.ParameterDeclaration" flags="ir" index="37vLTG" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1225271221393" name="jetbrains.mps.baseLanguage.structure.NPENotEqualsExpression" flags="nn" index="17QLQc" />
+      <concept id="4972933694980447171" name="jetbrains.mps.baseLanguage.structure.BaseVariableDeclaration" flags="ng" index="19Szcq">
+        <child id="5680397130376446158" name="type" index="1tU5fm" />
+      </concept>
+      <concept id="1068580123132" name="jetbrains.mps.baseLanguage.structure.BaseMethodDeclaration" flags="ng" index="3clF44">
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
+        <property id="1181808852946" name="isFinal" index="DiZV1" />
+        <child id="1164879685961" name="throwsItem" index="Sfmx6" />
+        <child id="1068580123133" name="returnType" index="3clF45" />
+        <child id="1068580123134" name="parameter" index="3clF46" />
+        <child id="1068580123135" name="body" index="3clF47" />
+      </concept>
+      <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
+        <child id="1068580123156" name="expression" index="3clFbG" />
+      </concept>
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+      </concept>
+      <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
+        <child id="1068581517665" name="statement" index="3cqZAp" />
+      </concept>
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1154542696413" name="jetbrains.mps.baseLanguage.structure.ArrayCreatorWithInitializer" flags="nn" index="3g6Rrh">
+        <child id="1154542793668" name="componentType" index="3g7fb8" />
+        <child id="1154542803372" name="initValue" index="3g7hyw" />
+      </concept>
+      <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
+        <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
+        <child id="1068499141038" name="actualArgument" index="37wK5m" />
+      </concept>
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1107461130800" name="jetbrains.mps.baseLanguage.structure.Classifier" flags="ng" index="3pOWGL">
+        <property id="521412098689998745" name="nonStatic" index="2bfB8j" />
+        <property id="2791683072064593257" name="packageName" index="2HnT6v" />
+        <child id="5375687026011219971" name="member" index="jymVt" unordered="true" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
+        <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
+        <child id="8276990574895933173" name="catchBody" index="1zc67A" />
+        <child id="8276990574895933172" name="throwable" index="1zc67B" />
+      </concept>
+      <concept id="7024111702304501414" name="jetbrains.mps.baseLanguage.structure.RemAssignmentExpression" flags="nn" index="3vZ8r6" />
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="7024111702304501420" name="jetbrains.mps.baseLanguage.structure.XorAssignmentExpression" flags="nn" index="3vZ8rc" />
+      <concept id="8276990574909231788" name="jetbrains.mps.baseLanguage.structure.FinallyClause" flags="ng" index="1wplmZ">
+        <child id="8276990574909234106" name="finallyBody" index="1wplMD" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1178549954367" name="jetbrains.mps.baseLanguage.structure.IVisible" flags="ng" index="1B3ioH">
+        <child id="1178549979242" name="visibility" index="1B3o_S" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1225892319711" name="jetbrains.mps.baseLanguage.structure.ShiftRightExpression" flags="nn" index="1GS532" />
+      <concept id="1107796713796" name="jetbrains.mps.baseLanguage.structure.Interface" flags="ig" index="3HP615" />
+      <concept id="5351203823916832286" name="jetbrains.mps.baseLanguage.structure.ResourceVariable" flags="ng" index="3J1hQo" />
+      <concept id="5351203823916750322" name="jetbrains.mps.baseLanguage.structure.TryUniversalStatement" flags="nn" index="3J1_TO">
+        <child id="8276990574886367510" name="catchClause" index="1zxBo5" />
+        <child id="8276990574886367509" name="finallyClause" index="1zxBo6" />
+        <child id="8276990574886367508" name="body" index="1zxBo7" />
+        <child id="5351203823916750334" name="resource" index="3J1_TS" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1163670490218" name="jetbrains.mps.baseLanguage.structure.SwitchStatement" flags="nn" index="3KaCP$">
+        <child id="1163670592366" name="defaultBlock" index="3Kb1Dw" />
+        <child id="1163670766145" name="expression" index="3KbGdf" />
+        <child id="1163670772911" name="case" index="3KbHQx" />
+      </concept>
+      <concept id="1163670641947" name="jetbrains.mps.baseLanguage.structure.SwitchCase" flags="ng" index="3KbdKl">
+        <child id="1163670677455" name="expression" index="3Kbmr1" />
+        <child id="1163670683720" name="body" index="3Kbo56" />
+      </concept>
+      <concept id="1082113931046" name="jetbrains.mps.baseLanguage.structure.ContinueStatement" flags="nn" index="3N13vt" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="6329021646629104954" name="jetbrains.mps.baseLanguage.structure.SingleLineComment" flags="nn" index="3SKdUt">
+        <child id="8356039341262087992" name="line" index="1aUNEU" />
+      </concept>
+      <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1146644641414" name="jetbrains.mps.baseLanguage.structure.ProtectedVisibility" flags="nn" index="3Tmbuc" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1178893518978" name="jetbrains.mps.baseLanguage.structure.ThisConstructorInvocation" flags="nn" index="1VxSAg" />
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1200397529627" name="jetbrains.mps.baseLanguage.structure.CharConstant" flags="nn" index="1Xhbcc">
+        <property id="1200397540847" name="charConstant" index="1XhdNS" />
+      </concept>
+      <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
+        <reference id="1170346070688" name="classifier" index="1Y3XeK" />
+      </concept>
+      <concept id="320030840061144153" name="jetbrains.mps.baseLanguage.structure.ShiftRightUnsignedExpression" flags="nn" index="1ZsPo3" />
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+    </language>
+    <language id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc">
+      <concept id="6832197706140896242" name="jetbrains.mps.baseLanguage.javadoc.structure.FieldDocComment" flags="ng" index="z59LJ" />
+      <concept id="5349172909345501395" name="jetbrains.mps.baseLanguage.javadoc.structure.BaseDocComment" flags="ng" index="P$AiS">
+        <child id="8465538089690331502" name="body" index="TZ5H$" />
+      </concept>
+      <concept id="5349172909345532724" name="jetbrains.mps.baseLanguage.javadoc.structure.MethodDocComment" flags="ng" index="P$JXv" />
+      <concept id="8465538089690331500" name="jetbrains.mps.baseLanguage.javadoc.structure.CommentLine" flags="ng" index="TZ5HA">
+        <child id="8970989240999019149" name="part" index="1dT_Ay" />
+      </concept>
+      <concept id="8970989240999019143" name="jetbrains.mps.baseLanguage.javadoc.structure.TextCommentLinePart" flags="ng" index="1dT_AC">
+        <property id="8970989240999019144" name="text" index="1dT_AB" />
+      </concept>
+      <concept id="2068944020170241612" name="jetbrains.mps.baseLanguage.javadoc.structure.ClassifierDocComment" flags="ng" index="3UR2Jj" />
+    </language>
+    <language id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL">
+      <concept id="4157980839829753419" name="apiSL.structure.BaseGuardReference" flags="ng" index="5mHf0">
+        <reference id="4157980839829753430" name="guard" index="5mHft" />
+      </concept>
+      <concept id="7118418329240799211" name="apiSL.structure.Requirement" flags="ng" index="7NFgE">
+        <property id="7118418329241450733" name="errorMessage" index="7QkGG" />
+      </concept>
+      <concept id="7118418329240799212" name="apiSL.structure.ExpressionRequirement" flags="ng" index="7NFgH">
+        <child id="7118418329240799213" name="expression" index="7NFgG" />
+      </concept>
+      <concept id="3241732874153801560" name="apiSL.structure.LocalGuardReference" flags="ng" index="28m4m7" />
+      <concept id="3241732874153801933" name="apiSL.structure.ChangesGuard" flags="ng" index="28m4Ci">
+        <property id="3241732874153801936" name="newValue" index="28m4Cf" />
+        <child id="3241732874153801934" name="guard" index="28m4Ch" />
+      </concept>
+      <concept id="3241732874153801927" name="apiSL.structure.WhenReturns" flags="ng" index="28m4Co" />
+      <concept id="3241732874153801925" name="apiSL.structure.Consequence" flags="ng" index="28m4Cq">
+        <child id="3241732874153801930" name="when" index="28m4Cl" />
+        <child id="5424624459614105666" name="then" index="38updQ" />
+      </concept>
+      <concept id="3241732874153771441" name="apiSL.structure.GuardDeclaration" flags="ng" index="28mbdI" />
+      <concept id="2468280109721306674" name="apiSL.structure.IVerifiedMethod" flags="ng" index="28md6s">
+        <child id="2468280109721307641" name="requirements" index="28mdTn" />
+        <child id="5424624459614123890" name="consequences" index="38uth6" />
+      </concept>
+      <concept id="2468280109721450436" name="apiSL.structure.StaticVerifiedMethod" flags="ig" index="28mI1E" />
+      <concept id="5752318980938883239" name="apiSL.structure.MetaVariableDeclaration" flags="ng" index="2qjjs5">
+        <child id="6976864374266609290" name="type" index="2iVZe$" />
+        <child id="1709424164472981217" name="defaultValue" index="1Em9Vp" />
+      </concept>
+      <concept id="2316402386142492908" name="apiSL.structure.VerifiedClass" flags="ig" index="2ALBHu" />
+      <concept id="2316402386142877834" name="apiSL.structure.VerifiedMethod" flags="ig" index="2AN5GS" />
+      <concept id="4506385826706830357" name="apiSL.structure.ExpandoDeclaration" flags="ng" index="2FfH8t">
+        <child id="4506385826706840328" name="variables" index="2FfFO0" />
+        <child id="4506385826706830723" name="for" index="2FfHeb" />
+      </concept>
+      <concept id="4506385826706830831" name="apiSL.structure.ExpandoVariable" flags="ng" index="2FfHfB">
+        <child id="4506385826706830935" name="type" index="2FfH1v" />
+        <child id="4506385826706831876" name="defaultValue" index="2FfHKc" />
+      </concept>
+      <concept id="4506385826708734742" name="apiSL.structure.ExpandoReference" flags="ng" index="2Fnqku">
+        <reference id="4506385826708734906" name="variable" index="2FnqmM" />
+        <reference id="4506385826708734900" name="expando" index="2FnqmW" />
+        <child id="4506385826710993030" name="receiver" index="2FvPUe" />
+      </concept>
+      <concept id="2315365102418887260" name="apiSL.structure.SetsExpandoState" flags="ng" index="R8_on">
+        <child id="2315365102418888235" name="value" index="R8_9w" />
+        <child id="2315365102418888233" name="reference" index="R8_9y" />
+      </concept>
+      <concept id="2315365102419473356" name="apiSL.structure.ReturnValue" flags="ng" index="Rbqu7" />
+      <concept id="7921791665431015203" name="apiSL.structure.MetaVariableReference" flags="ng" index="RhriJ">
+        <reference id="7921791665431015204" name="variable" index="RhriC" />
+      </concept>
+      <concept id="8555217082947640889" name="apiSL.structure.VerifiedConstructor" flags="ig" index="1NMaa_" />
+    </language>
+    <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
+      <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
+        <property id="1193676396447" name="virtualPackage" index="3GE5qa" />
+        <child id="5169995583184591170" name="smodelAttribute" index="lGtFl" />
+      </concept>
+      <concept id="1169194658468" name="jetbrains.mps.lang.core.structure.INamedConcept" flags="ng" index="TrEIO">
+        <property id="1169194664001" name="name" index="TrG5h" />
+      </concept>
+    </language>
+    <language id="c7fb639f-be78-4307-89b0-b5959c3fa8c8" name="jetbrains.mps.lang.text">
+      <concept id="155656958578482948" name="jetbrains.mps.lang.text.structure.Word" flags="nn" index="3oM_SD">
+        <property id="155656958578482949" name="value" index="3oM_SC" />
+      </concept>
+      <concept id="2535923850359271782" name="jetbrains.mps.lang.text.structure.Line" flags="nn" index="1PaTwC">
+        <child id="2535923850359271783" name="elements" index="1PaTwD" />
+      </concept>
+    </language>
+  </registry>
+  <node concept="312cEu" id="58apqRMLQMp">
+    <property role="TrG5h" value="RSAUtil" />
+    <property role="2bfB8j" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.asymmetric.rsa" />
+    <property role="2HnT6v" value="org.bouncycastle.jcajce.provider.asymmetric.rsa" />
+    <node concept="3Tm1VV" id="58apqRMLQMq" role="1B3o_S" />
+    <node concept="3UR2Jj" id="58apqRMLQOx" role="lGtFl">
+      <node concept="TZ5HA" id="58apqRMLQOI" role="TZ5H$">
+        <node concept="1dT_AC" id="58apqRMLQOJ" role="1dT_Ay">
+          <property role="1dT_AB" value="utility class for converting java.security RSA objects into their" />
+        </node>
+      </node>
+      <node concept="TZ5HA" id="58apqRMLQOK" role="TZ5H$">
+        <node concept="1dT_AC" id="58apqRMLQOL" role="1dT_Ay">
+          <property role="1dT_AB" value="org.bouncycastle.crypto counterparts." />
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="58apqRMLQMr" role="jymVt">
+      <property role="TrG5h" value="rsaOids" />
+      <property role="3TUv4t" value="true" />
+      <node concept="10Q1$e" id="58apqRMLQMt" role="1tU5fm">
+        <node concept="3uibUv" id="58apqRMLQMs" role="10Q1$1">
+          <ref role="3uigEE" to="9oed:~ASN1ObjectIdentifier" resolve="ASN1ObjectIdentifier" />
+        </node>
+      </node>
+      <node concept="2BsdOp" id="58apqRMLQMy" role="33vP2m">
+        <node concept="10M0yZ" id="58apqRMLSH2" role="2BsfMF">
+          <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+          <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.rsaEncryption" resolve="rsaEncryption" />
+        </node>
+        <node concept="10M0yZ" id="58apqRMLSrH" role="2BsfMF">
+          <ref role="1PxDUh" to="oc9b:~X509ObjectIdentifiers" resolve="X509ObjectIdentifiers" />
+          <ref role="3cqZAo" to="oc9b:~X509ObjectIdentifiers.id_ea_rsa" resolve="id_ea_rsa" />
+        </node>
+        <node concept="10M0yZ" id="58apqRMLS4i" role="2BsfMF">
+          <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+          <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.id_RSAES_OAEP" resolve="id_RSAES_OAEP" />
+        </node>
+        <node concept="10M0yZ" id="58apqRMLSeX" role="2BsfMF">
+          <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+          <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.id_RSASSA_PSS" resolve="id_RSASSA_PSS" />
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="58apqRMLQMz" role="1B3o_S" />
+    </node>
+    <node concept="2YIFZL" id="58apqRMLQM$" role="jymVt">
+      <property role="TrG5h" value="isRsaOid" />
+      <node concept="37vLTG" id="58apqRMLQM_" role="3clF46">
+        <property role="TrG5h" value="algOid" />
+        <node concept="3uibUv" id="58apqRMLQMA" role="1tU5fm">
+          <ref role="3uigEE" to="9oed:~ASN1ObjectIdentifier" resolve="ASN1ObjectIdentifier" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLQMB" role="3clF47">
+        <node concept="1Dw8fO" id="58apqRMLQMC" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLQMD" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="58apqRMLQMF" role="1tU5fm" />
+            <node concept="3cmrfG" id="58apqRMLQMG" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3y3z36" id="58apqRMLQMH" role="1Dwp0S">
+            <node concept="37vLTw" id="58apqRMLQMI" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLQMD" resolve="i" />
+            </node>
+            <node concept="2OqwBi" id="58apqRMLT4e" role="3uHU7w">
+              <node concept="37vLTw" id="58apqRMLT4d" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLQMr" resolve="rsaOids" />
+              </node>
+              <node concept="1Rwk04" id="58apqRMLUCC" role="2OqNvi" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="58apqRMLQML" role="1Dwrff">
+            <node concept="37vLTw" id="58apqRMLQMM" role="2$L3a6">
+              <ref role="3cqZAo" node="58apqRMLQMD" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLQMO" role="2LFqv$">
+            <node concept="3clFbJ" id="58apqRMLQMP" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLSfd" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLSfc" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLQM_" resolve="algOid" />
+                </node>
+                <node concept="liA8E" id="58apqRMLSfe" role="2OqNvi">
+                  <ref role="37wK5l" to="9oed:~ASN1Primitive.equals(org.bouncycastle.asn1.ASN1Primitive)" resolve="equals" />
+                  <node concept="AH0OO" id="58apqRMLSff" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLSfg" role="AHHXb">
+                      <ref role="3cqZAo" node="58apqRMLQMr" resolve="rsaOids" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLSfh" role="AHEQo">
+                      <ref role="3cqZAo" node="58apqRMLQMD" resolve="i" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLQMV" role="3clFbx">
+                <node concept="3cpWs6" id="58apqRMLQMW" role="3cqZAp">
+                  <node concept="3clFbT" id="58apqRMLQMX" role="3cqZAk">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLQMY" role="3cqZAp">
+          <node concept="3clFbT" id="58apqRMLQMZ" role="3cqZAk" />
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="58apqRMLQN0" role="1B3o_S" />
+      <node concept="10P_77" id="58apqRMLQN1" role="3clF45" />
+    </node>
+    <node concept="2YIFZL" id="58apqRMLQN2" role="jymVt">
+      <property role="TrG5h" value="generatePublicKeyParameter" />
+      <node concept="37vLTG" id="58apqRMLQN3" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLQN4" role="1tU5fm">
+          <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLQN5" role="3clF47">
+        <node concept="3cpWs6" id="58apqRMLQNj" role="3cqZAp">
+          <node concept="2ShNRf" id="58apqRMLT3l" role="3cqZAk">
+            <node concept="1pGfFk" id="58apqRMLT3w" role="2ShVmc">
+              <ref role="37wK5l" to="25z7:~RSAKeyParameters.&lt;init&gt;(boolean,java.math.BigInteger,java.math.BigInteger)" resolve="RSAKeyParameters" />
+              <node concept="3clFbT" id="58apqRMLT3x" role="37wK5m" />
+              <node concept="2OqwBi" id="58apqRMLT3y" role="37wK5m">
+                <node concept="37vLTw" id="58apqRMLT3z" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLQN3" resolve="key" />
+                </node>
+                <node concept="liA8E" id="58apqRMLT3$" role="2OqNvi">
+                  <ref role="37wK5l" to="ef3w:~RSAKey.getModulus()" resolve="getModulus" />
+                </node>
+              </node>
+              <node concept="2OqwBi" id="58apqRMLT3M" role="37wK5m">
+                <node concept="37vLTw" id="58apqRMLT3N" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLQN3" resolve="key" />
+                </node>
+                <node concept="liA8E" id="58apqRMLT3O" role="2OqNvi">
+                  <ref role="37wK5l" to="ef3w:~RSAPublicKey.getPublicExponent()" resolve="getPublicExponent" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLQNo" role="3clF45">
+        <ref role="3uigEE" to="25z7:~RSAKeyParameters" resolve="RSAKeyParameters" />
+      </node>
+    </node>
+    <node concept="2YIFZL" id="58apqRMLQNp" role="jymVt">
+      <property role="TrG5h" value="generatePrivateKeyParameter" />
+      <node concept="37vLTG" id="58apqRMLQNq" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLQNr" role="1tU5fm">
+          <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLQNs" role="3clF47">
+        <node concept="3clFbJ" id="58apqRMLQNE" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLQNH" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLQNF" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLQNq" resolve="key" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLQNG" role="2ZW6by">
+              <ref role="3uigEE" to="ef3w:~RSAPrivateCrtKey" resolve="RSAPrivateCrtKey" />
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLQO0" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLQO1" role="9aQI4">
+              <node concept="3cpWs8" id="58apqRMLQO3" role="3cqZAp">
+                <node concept="3cpWsn" id="58apqRMLQO2" role="3cpWs9">
+                  <property role="TrG5h" value="k" />
+                  <node concept="3uibUv" id="58apqRMLQO4" role="1tU5fm">
+                    <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLQO5" role="33vP2m">
+                    <ref role="3cqZAo" node="58apqRMLQNq" resolve="key" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="58apqRMLQO6" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLS3E" role="3cqZAk">
+                  <node concept="1pGfFk" id="58apqRMLS3P" role="2ShVmc">
+                    <ref role="37wK5l" to="25z7:~RSAKeyParameters.&lt;init&gt;(boolean,java.math.BigInteger,java.math.BigInteger)" resolve="RSAKeyParameters" />
+                    <node concept="3clFbT" id="58apqRMLS3Q" role="37wK5m">
+                      <property role="3clFbU" value="true" />
+                    </node>
+                    <node concept="2OqwBi" id="58apqRMLS3R" role="37wK5m">
+                      <node concept="37vLTw" id="58apqRMLS3S" role="2Oq$k0">
+                        <ref role="3cqZAo" node="58apqRMLQO2" resolve="k" />
+                      </node>
+                      <node concept="liA8E" id="58apqRMLS3T" role="2OqNvi">
+                        <ref role="37wK5l" to="ef3w:~RSAKey.getModulus()" resolve="getModulus" />
+                      </node>
+                    </node>
+                    <node concept="2OqwBi" id="58apqRMLUr9" role="37wK5m">
+                      <node concept="37vLTw" id="58apqRMLUr8" role="2Oq$k0">
+                        <ref role="3cqZAo" node="58apqRMLQO2" resolve="k" />
+                      </node>
+                      <node concept="liA8E" id="58apqRMLUra" role="2OqNvi">
+                        <ref role="37wK5l" to="ef3w:~RSAPrivateKey.getPrivateExponent()" resolve="getPrivateExponent" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLQNJ" role="3clFbx">
+            <node concept="3cpWs8" id="58apqRMLQNL" role="3cqZAp">
+              <node concept="3cpWsn" id="58apqRMLQNK" role="3cpWs9">
+                <property role="TrG5h" value="k" />
+                <node concept="3uibUv" id="58apqRMLQNM" role="1tU5fm">
+                  <ref role="3uigEE" to="ef3w:~RSAPrivateCrtKey" resolve="RSAPrivateCrtKey" />
+                </node>
+                <node concept="10QFUN" id="58apqRMLQNN" role="33vP2m">
+                  <node concept="37vLTw" id="58apqRMLQNO" role="10QFUP">
+                    <ref role="3cqZAo" node="58apqRMLQNq" resolve="key" />
+                  </node>
+                  <node concept="3uibUv" id="58apqRMLQNP" role="10QFUM">
+                    <ref role="3uigEE" to="ef3w:~RSAPrivateCrtKey" resolve="RSAPrivateCrtKey" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs6" id="58apqRMLQNQ" role="3cqZAp">
+              <node concept="2ShNRf" id="58apqRMLTri" role="3cqZAk">
+                <node concept="1pGfFk" id="58apqRMLTrN" role="2ShVmc">
+                  <ref role="37wK5l" to="25z7:~RSAPrivateCrtKeyParameters.&lt;init&gt;(java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger,java.math.BigInteger)" resolve="RSAPrivateCrtKeyParameters" />
+                  <node concept="2OqwBi" id="58apqRMLTrO" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTrP" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTrQ" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAKey.getModulus()" resolve="getModulus" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTs5" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTs6" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTs7" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getPublicExponent()" resolve="getPublicExponent" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTsm" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTsn" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTso" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateKey.getPrivateExponent()" resolve="getPrivateExponent" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTsB" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTsC" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTsD" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getPrimeP()" resolve="getPrimeP" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTsS" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTsT" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTsU" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getPrimeQ()" resolve="getPrimeQ" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTt9" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTta" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTtb" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getPrimeExponentP()" resolve="getPrimeExponentP" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTtq" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTtr" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTts" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getPrimeExponentQ()" resolve="getPrimeExponentQ" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLTtF" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLTtG" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLQNK" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLTtH" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAPrivateCrtKey.getCrtCoefficient()" resolve="getCrtCoefficient" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLQOb" role="3clF45">
+        <ref role="3uigEE" to="25z7:~RSAKeyParameters" resolve="RSAKeyParameters" />
+      </node>
+    </node>
+    <node concept="2YIFZL" id="58apqRMLQOc" role="jymVt">
+      <property role="TrG5h" value="generateKeyFingerprint" />
+      <node concept="37vLTG" id="58apqRMLQOd" role="3clF46">
+        <property role="TrG5h" value="modulus" />
+        <node concept="3uibUv" id="58apqRMLQOe" role="1tU5fm">
+          <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLQOf" role="3clF47">
+        <node concept="3cpWs6" id="58apqRMLQOg" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLQOh" role="3cqZAk">
+            <node concept="2ShNRf" id="58apqRMLSSX" role="2Oq$k0">
+              <node concept="1pGfFk" id="58apqRMLSU3" role="2ShVmc">
+                <ref role="37wK5l" to="mgsy:~Fingerprint.&lt;init&gt;(byte[])" resolve="Fingerprint" />
+                <node concept="2OqwBi" id="58apqRMLSU4" role="37wK5m">
+                  <node concept="37vLTw" id="58apqRMLSU5" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLQOd" resolve="modulus" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLSU6" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.toByteArray()" resolve="toByteArray" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="liA8E" id="58apqRMLQOk" role="2OqNvi">
+              <ref role="37wK5l" to="mgsy:~Fingerprint.toString()" resolve="toString" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLQOl" role="3clF45">
+        <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+      </node>
+    </node>
+    <node concept="2YIFZL" id="58apqRMLQOm" role="jymVt">
+      <property role="TrG5h" value="generateExponentFingerprint" />
+      <node concept="37vLTG" id="58apqRMLQOn" role="3clF46">
+        <property role="TrG5h" value="exponent" />
+        <node concept="3uibUv" id="58apqRMLQOo" role="1tU5fm">
+          <ref role="3uigEE" to="xlxw:~BigInteger" resolve="BigInteger" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLQOp" role="3clF47">
+        <node concept="3cpWs6" id="58apqRMLQOq" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLQOr" role="3cqZAk">
+            <node concept="2ShNRf" id="58apqRMLTgb" role="2Oq$k0">
+              <node concept="1pGfFk" id="58apqRMLTq3" role="2ShVmc">
+                <ref role="37wK5l" to="mgsy:~Fingerprint.&lt;init&gt;(byte[],int)" resolve="Fingerprint" />
+                <node concept="2OqwBi" id="58apqRMLTq4" role="37wK5m">
+                  <node concept="37vLTw" id="58apqRMLTq5" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLQOn" resolve="exponent" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLTq6" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.toByteArray()" resolve="toByteArray" />
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="58apqRMLTqj" role="37wK5m">
+                  <property role="3cmrfH" value="32" />
+                </node>
+              </node>
+            </node>
+            <node concept="liA8E" id="58apqRMLQOv" role="2OqNvi">
+              <ref role="37wK5l" to="mgsy:~Fingerprint.toString()" resolve="toString" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLQOw" role="3clF45">
+        <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+      </node>
+    </node>
+  </node>
+  <node concept="2ALBHu" id="58apqRMNeIc">
+    <property role="2bfB8j" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.asymmetric.rsa" />
+    <property role="TrG5h" value="CipherSpi" />
+    <node concept="2qjjs5" id="58apqRMNsXM" role="jymVt">
+      <property role="TrG5h" value="allowNoPadding" />
+      <node concept="10P_77" id="58apqRMNvek" role="2iVZe$" />
+      <node concept="3clFbT" id="58apqRMNvSN" role="1Em9Vp" />
+    </node>
+    <node concept="2qjjs5" id="58apqRMNyrZ" role="jymVt">
+      <property role="TrG5h" value="allowPKCS1Padding" />
+      <node concept="10P_77" id="58apqRMN$G$" role="2iVZe$" />
+      <node concept="3clFbT" id="58apqRMN_Qj" role="1Em9Vp" />
+    </node>
+    <node concept="3Tm1VV" id="58apqRMNeId" role="1B3o_S" />
+    <node concept="312cEg" id="58apqRMLnIS" role="jymVt">
+      <property role="TrG5h" value="helper" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3uibUv" id="58apqRMLnIU" role="1tU5fm">
+        <ref role="3uigEE" to="aql8:~JcaJceHelper" resolve="JcaJceHelper" />
+      </node>
+      <node concept="2ShNRf" id="58apqRMLB72" role="33vP2m">
+        <node concept="1pGfFk" id="58apqRMLB74" role="2ShVmc">
+          <ref role="37wK5l" to="aql8:~BCJcaJceHelper.&lt;init&gt;()" resolve="BCJcaJceHelper" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnIW" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnIX" role="jymVt">
+      <property role="TrG5h" value="cipher" />
+      <node concept="3uibUv" id="58apqRMLnIZ" role="1tU5fm">
+        <ref role="3uigEE" to="6y4x:~AsymmetricBlockCipher" resolve="AsymmetricBlockCipher" />
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnJ0" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnJ1" role="jymVt">
+      <property role="TrG5h" value="paramSpec" />
+      <node concept="3uibUv" id="58apqRMLnJ3" role="1tU5fm">
+        <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnJ4" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnJ5" role="jymVt">
+      <property role="TrG5h" value="engineParams" />
+      <node concept="3uibUv" id="58apqRMLnJ7" role="1tU5fm">
+        <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnJ8" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnJ9" role="jymVt">
+      <property role="TrG5h" value="publicKeyOnly" />
+      <node concept="10P_77" id="58apqRMLnJb" role="1tU5fm" />
+      <node concept="3clFbT" id="58apqRMLnJc" role="33vP2m" />
+      <node concept="3Tm6S6" id="58apqRMLnJd" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnJe" role="jymVt">
+      <property role="TrG5h" value="privateKeyOnly" />
+      <node concept="10P_77" id="58apqRMLnJg" role="1tU5fm" />
+      <node concept="3clFbT" id="58apqRMLnJh" role="33vP2m" />
+      <node concept="3Tm6S6" id="58apqRMLnJi" role="1B3o_S" />
+    </node>
+    <node concept="312cEg" id="58apqRMLnJj" role="jymVt">
+      <property role="TrG5h" value="bOut" />
+      <node concept="3uibUv" id="58apqRMLnJl" role="1tU5fm">
+        <ref role="3uigEE" to="8tnb:~BaseCipherSpi$ErasableOutputStream" resolve="BaseCipherSpi.ErasableOutputStream" />
+      </node>
+      <node concept="2ShNRf" id="58apqRMLAoY" role="33vP2m">
+        <node concept="1pGfFk" id="58apqRMLAp1" role="2ShVmc">
+          <ref role="37wK5l" to="8tnb:~BaseCipherSpi$ErasableOutputStream.&lt;init&gt;()" resolve="BaseCipherSpi.ErasableOutputStream" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnJn" role="1B3o_S" />
+    </node>
+    <node concept="3clFbW" id="58apqRMLnJo" role="jymVt">
+      <node concept="3cqZAl" id="58apqRMLnJp" role="3clF45" />
+      <node concept="37vLTG" id="58apqRMLnJq" role="3clF46">
+        <property role="TrG5h" value="engine" />
+        <node concept="3uibUv" id="58apqRMLnJr" role="1tU5fm">
+          <ref role="3uigEE" to="6y4x:~AsymmetricBlockCipher" resolve="AsymmetricBlockCipher" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLnJs" role="3clF47">
+        <node concept="3clFbF" id="58apqRMLnJt" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnJu" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLnJv" role="37vLTJ">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnJw" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnJq" resolve="engine" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMOeSv" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMOeSt" role="3clFbG">
+            <ref role="37wK5l" node="58apqRMNitJ" resolve="verifyEngineParameters" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="58apqRMLnJx" role="1B3o_S" />
+    </node>
+    <node concept="3clFbW" id="58apqRMLnJy" role="jymVt">
+      <node concept="3cqZAl" id="58apqRMLnJz" role="3clF45" />
+      <node concept="37vLTG" id="58apqRMLnJ$" role="3clF46">
+        <property role="TrG5h" value="pSpec" />
+        <node concept="3uibUv" id="58apqRMLnJ_" role="1tU5fm">
+          <ref role="3uigEE" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLnJA" role="3clF47">
+        <node concept="3J1_TO" id="58apqRMLnJO" role="3cqZAp">
+          <node concept="3uVAMA" id="58apqRMLnJP" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLnJK" role="1zc67A">
+              <node concept="YS8fn" id="58apqRMLnJN" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLDvR" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLDwu" role="2ShVmc">
+                    <ref role="37wK5l" to="wyt6:~IllegalArgumentException.&lt;init&gt;(java.lang.String)" resolve="IllegalArgumentException" />
+                    <node concept="2OqwBi" id="58apqRMLDwv" role="37wK5m">
+                      <node concept="37vLTw" id="58apqRMLDww" role="2Oq$k0">
+                        <ref role="3cqZAo" node="58apqRMLnJG" resolve="e" />
+                      </node>
+                      <node concept="liA8E" id="58apqRMLDwx" role="2OqNvi">
+                        <ref role="37wK5l" to="wyt6:~Throwable.getMessage()" resolve="getMessage" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLnJG" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLnJI" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLnJH" role="nSUat">
+                  <ref role="3uigEE" to="pfyx:~NoSuchPaddingException" resolve="NoSuchPaddingException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnJC" role="1zxBo7">
+            <node concept="3clFbF" id="58apqRMLnJD" role="3cqZAp">
+              <node concept="1rXfSq" id="58apqRMLnJE" role="3clFbG">
+                <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                <node concept="37vLTw" id="58apqRMLnJF" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnJ$" resolve="pSpec" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="58apqRMLnJQ" role="1B3o_S" />
+    </node>
+    <node concept="3clFbW" id="58apqRMLnJR" role="jymVt">
+      <node concept="3cqZAl" id="58apqRMLnJS" role="3clF45" />
+      <node concept="37vLTG" id="58apqRMLnJT" role="3clF46">
+        <property role="TrG5h" value="publicKeyOnly" />
+        <node concept="10P_77" id="58apqRMLnJU" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnJV" role="3clF46">
+        <property role="TrG5h" value="privateKeyOnly" />
+        <node concept="10P_77" id="58apqRMLnJW" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnJX" role="3clF46">
+        <property role="TrG5h" value="engine" />
+        <node concept="3uibUv" id="58apqRMLnJY" role="1tU5fm">
+          <ref role="3uigEE" to="6y4x:~AsymmetricBlockCipher" resolve="AsymmetricBlockCipher" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLnJZ" role="3clF47">
+        <node concept="3clFbF" id="58apqRMLnK0" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnK1" role="3clFbG">
+            <node concept="2OqwBi" id="58apqRMLnK2" role="37vLTJ">
+              <node concept="Xjq3P" id="58apqRMLnK3" role="2Oq$k0" />
+              <node concept="2OwXpG" id="58apqRMLnK4" role="2OqNvi">
+                <ref role="2Oxat5" node="58apqRMLnJ9" resolve="publicKeyOnly" />
+              </node>
+            </node>
+            <node concept="37vLTw" id="58apqRMLnK5" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnJT" resolve="publicKeyOnly" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnK6" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnK7" role="3clFbG">
+            <node concept="2OqwBi" id="58apqRMLnK8" role="37vLTJ">
+              <node concept="Xjq3P" id="58apqRMLnK9" role="2Oq$k0" />
+              <node concept="2OwXpG" id="58apqRMLnKa" role="2OqNvi">
+                <ref role="2Oxat5" node="58apqRMLnJe" resolve="privateKeyOnly" />
+              </node>
+            </node>
+            <node concept="37vLTw" id="58apqRMLnKb" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnJV" resolve="privateKeyOnly" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnKc" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnKd" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLnKe" role="37vLTJ">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnKf" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnJX" resolve="engine" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMOfMO" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMOfMM" role="3clFbG">
+            <ref role="37wK5l" node="58apqRMNitJ" resolve="verifyEngineParameters" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="58apqRMLnKg" role="1B3o_S" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnKh" role="jymVt">
+      <property role="TrG5h" value="initFromSpec" />
+      <node concept="37vLTG" id="58apqRMLnKi" role="3clF46">
+        <property role="TrG5h" value="pSpec" />
+        <node concept="3uibUv" id="58apqRMLnKj" role="1tU5fm">
+          <ref role="3uigEE" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnKk" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~NoSuchPaddingException" resolve="NoSuchPaddingException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnKl" role="3clF47">
+        <node concept="3cpWs8" id="58apqRMLnKn" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnKm" role="3cpWs9">
+            <property role="TrG5h" value="mgfParams" />
+            <node concept="3uibUv" id="58apqRMLnKo" role="1tU5fm">
+              <ref role="3uigEE" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+            </node>
+            <node concept="10QFUN" id="58apqRMLnKp" role="33vP2m">
+              <node concept="2OqwBi" id="58apqRMLAZg" role="10QFUP">
+                <node concept="37vLTw" id="58apqRMLAZf" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnKi" resolve="pSpec" />
+                </node>
+                <node concept="liA8E" id="58apqRMLAZh" role="2OqNvi">
+                  <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getMGFParameters()" resolve="getMGFParameters" />
+                </node>
+              </node>
+              <node concept="3uibUv" id="58apqRMLnKr" role="10QFUM">
+                <ref role="3uigEE" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="58apqRMLnKt" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnKs" role="3cpWs9">
+            <property role="TrG5h" value="digest" />
+            <node concept="3uibUv" id="58apqRMLnKu" role="1tU5fm">
+              <ref role="3uigEE" to="6y4x:~Digest" resolve="Digest" />
+            </node>
+            <node concept="2YIFZM" id="58apqRMLCbD" role="33vP2m">
+              <ref role="1Pybhc" to="pbt1:~DigestFactory" resolve="DigestFactory" />
+              <ref role="37wK5l" to="pbt1:~DigestFactory.getDigest(java.lang.String)" resolve="getDigest" />
+              <node concept="2OqwBi" id="58apqRMLCbE" role="37wK5m">
+                <node concept="37vLTw" id="58apqRMLCbF" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnKm" resolve="mgfParams" />
+                </node>
+                <node concept="liA8E" id="58apqRMLCbG" role="2OqNvi">
+                  <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnKx" role="3cqZAp">
+          <node concept="3clFbC" id="58apqRMLnKy" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnKz" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnKs" resolve="digest" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnK$" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnKA" role="3clFbx">
+            <node concept="YS8fn" id="58apqRMLnKF" role="3cqZAp">
+              <node concept="2ShNRf" id="58apqRMLB0A" role="YScLw">
+                <node concept="1pGfFk" id="58apqRMLB56" role="2ShVmc">
+                  <ref role="37wK5l" to="pfyx:~NoSuchPaddingException.&lt;init&gt;(java.lang.String)" resolve="NoSuchPaddingException" />
+                  <node concept="3cpWs3" id="58apqRMLB57" role="37wK5m">
+                    <node concept="Xl_RD" id="58apqRMLB58" role="3uHU7B">
+                      <property role="Xl_RC" value="no match on OAEP constructor for digest algorithm: " />
+                    </node>
+                    <node concept="2OqwBi" id="58apqRMLJcb" role="3uHU7w">
+                      <node concept="37vLTw" id="58apqRMLJca" role="2Oq$k0">
+                        <ref role="3cqZAo" node="58apqRMLnKm" resolve="mgfParams" />
+                      </node>
+                      <node concept="liA8E" id="58apqRMLJcc" role="2OqNvi">
+                        <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnKG" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnKH" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLnKI" role="37vLTJ">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="2ShNRf" id="58apqRMLBRm" role="37vLTx">
+              <node concept="1pGfFk" id="58apqRMLBRK" role="2ShVmc">
+                <ref role="37wK5l" to="quxv:~OAEPEncoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher,org.bouncycastle.crypto.Digest,byte[])" resolve="OAEPEncoding" />
+                <node concept="2ShNRf" id="58apqRMLJeq" role="37wK5m">
+                  <node concept="1pGfFk" id="58apqRMLJes" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="58apqRMLBRM" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnKs" resolve="digest" />
+                </node>
+                <node concept="2OqwBi" id="58apqRMLBRN" role="37wK5m">
+                  <node concept="1eOMI4" id="58apqRMLBRO" role="2Oq$k0">
+                    <node concept="10QFUN" id="58apqRMLBRP" role="1eOMHV">
+                      <node concept="2OqwBi" id="58apqRMLBRQ" role="10QFUP">
+                        <node concept="37vLTw" id="58apqRMLBRR" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnKi" resolve="pSpec" />
+                        </node>
+                        <node concept="liA8E" id="58apqRMLBRS" role="2OqNvi">
+                          <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getPSource()" resolve="getPSource" />
+                        </node>
+                      </node>
+                      <node concept="3uibUv" id="58apqRMLBRT" role="10QFUM">
+                        <ref role="3uigEE" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="58apqRMLBRU" role="2OqNvi">
+                    <ref role="37wK5l" to="7lc:~PSource$PSpecified.getValue()" resolve="getValue" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnKS" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnKT" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLnKU" role="37vLTJ">
+              <ref role="3cqZAo" node="58apqRMLnJ1" resolve="paramSpec" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnKV" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnKi" resolve="pSpec" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMN8cW" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMN8cU" role="3clFbG">
+            <ref role="37wK5l" node="58apqRMNitJ" resolve="verifyEngineParameters" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLnKW" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnKX" role="3clF45" />
+    </node>
+    <node concept="2AN5GS" id="58apqRMNitJ" role="jymVt">
+      <property role="TrG5h" value="verifyEngineParameters" />
+      <node concept="3cqZAl" id="58apqRMMXnB" role="3clF45" />
+      <node concept="3clFbS" id="58apqRMMXH$" role="3clF47" />
+      <node concept="3Tm6S6" id="58apqRMMUZy" role="1B3o_S" />
+      <node concept="7NFgH" id="58apqRMNp8U" role="28mdTn">
+        <property role="7QkGG" value="Using RSA in a Cipher without a padding is considered a bad practice" />
+        <node concept="22lmx$" id="58apqRMNBqb" role="7NFgG">
+          <node concept="3fqX7Q" id="58apqRMNE4p" role="3uHU7w">
+            <node concept="2ZW3vV" id="58apqRMNE4r" role="3fr31v">
+              <node concept="3uibUv" id="58apqRMNE4s" role="2ZW6by">
+                <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+              </node>
+              <node concept="37vLTw" id="58apqRMNE4t" role="2ZW6bz">
+                <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+              </node>
+            </node>
+          </node>
+          <node concept="RhriJ" id="58apqRMNAU0" role="3uHU7B">
+            <ref role="RhriC" node="58apqRMNsXM" resolve="allowNoPadding" />
+          </node>
+        </node>
+      </node>
+      <node concept="7NFgH" id="58apqRMNSF8" role="28mdTn">
+        <property role="7QkGG" value="Using RSA with PKCS1Padding is considered insecure!" />
+        <node concept="22lmx$" id="58apqRMNWRQ" role="7NFgG">
+          <node concept="17QLQc" id="58apqRMOhKt" role="3uHU7w">
+            <node concept="Xl_RD" id="58apqRMOio5" role="3uHU7w">
+              <property role="Xl_RC" value="PKCS1Encoding" />
+            </node>
+            <node concept="2OqwBi" id="58apqRMO7Uw" role="3uHU7B">
+              <node concept="2OqwBi" id="58apqRMO6JT" role="2Oq$k0">
+                <node concept="37vLTw" id="58apqRMO6Ew" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="liA8E" id="58apqRMO7cV" role="2OqNvi">
+                  <ref role="37wK5l" to="wyt6:~Object.getClass()" resolve="getClass" />
+                </node>
+              </node>
+              <node concept="liA8E" id="58apqRMO8At" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~Class.getSimpleName()" resolve="getSimpleName" />
+              </node>
+            </node>
+          </node>
+          <node concept="RhriJ" id="58apqRMNWn$" role="3uHU7B">
+            <ref role="RhriC" node="58apqRMNyrZ" resolve="allowPKCS1Padding" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="58apqRMLnKY" role="jymVt">
+      <property role="TrG5h" value="engineGetBlockSize" />
+      <node concept="3clFbS" id="58apqRMLnKZ" role="3clF47">
+        <node concept="3J1_TO" id="58apqRMLnLc" role="3cqZAp">
+          <node concept="3uVAMA" id="58apqRMLnLd" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLnL8" role="1zc67A">
+              <node concept="YS8fn" id="58apqRMLnLb" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLBKy" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLBKL" role="2ShVmc">
+                    <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
+                    <node concept="Xl_RD" id="58apqRMLBKM" role="37wK5m">
+                      <property role="Xl_RC" value="RSA Cipher not initialised" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLnL4" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLnL6" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLnL5" role="nSUat">
+                  <ref role="3uigEE" to="wyt6:~NullPointerException" resolve="NullPointerException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnL1" role="1zxBo7">
+            <node concept="3cpWs6" id="58apqRMLnL2" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLAey" role="3cqZAk">
+                <node concept="37vLTw" id="58apqRMLAex" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="liA8E" id="58apqRMLAez" role="2OqNvi">
+                  <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnLe" role="1B3o_S" />
+      <node concept="10Oyi0" id="58apqRMLnLf" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnLg" role="jymVt">
+      <property role="TrG5h" value="engineGetKeySize" />
+      <node concept="37vLTG" id="58apqRMLnLh" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLnLi" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~Key" resolve="Key" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="58apqRMLnLj" role="3clF47">
+        <node concept="3clFbJ" id="58apqRMLnLk" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLnLn" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnLl" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLnLh" resolve="key" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLnLm" role="2ZW6by">
+              <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+            </node>
+          </node>
+          <node concept="3clFbJ" id="58apqRMLnL$" role="9aQIa">
+            <node concept="2ZW3vV" id="58apqRMLnLB" role="3clFbw">
+              <node concept="37vLTw" id="58apqRMLnL_" role="2ZW6bz">
+                <ref role="3cqZAo" node="58apqRMLnLh" resolve="key" />
+              </node>
+              <node concept="3uibUv" id="58apqRMLnLA" role="2ZW6by">
+                <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="58apqRMLnLD" role="3clFbx">
+              <node concept="3cpWs8" id="58apqRMLnLF" role="3cqZAp">
+                <node concept="3cpWsn" id="58apqRMLnLE" role="3cpWs9">
+                  <property role="TrG5h" value="k" />
+                  <node concept="3uibUv" id="58apqRMLnLG" role="1tU5fm">
+                    <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+                  </node>
+                  <node concept="10QFUN" id="58apqRMLnLH" role="33vP2m">
+                    <node concept="37vLTw" id="58apqRMLnLI" role="10QFUP">
+                      <ref role="3cqZAo" node="58apqRMLnLh" resolve="key" />
+                    </node>
+                    <node concept="3uibUv" id="58apqRMLnLJ" role="10QFUM">
+                      <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="58apqRMLnLK" role="3cqZAp">
+                <node concept="2OqwBi" id="58apqRMLnLL" role="3cqZAk">
+                  <node concept="2OqwBi" id="58apqRMLCiO" role="2Oq$k0">
+                    <node concept="37vLTw" id="58apqRMLCiN" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnLE" resolve="k" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLCiP" role="2OqNvi">
+                      <ref role="37wK5l" to="ef3w:~RSAKey.getModulus()" resolve="getModulus" />
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="58apqRMLnLN" role="2OqNvi">
+                    <ref role="37wK5l" to="xlxw:~BigInteger.bitLength()" resolve="bitLength" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnLp" role="3clFbx">
+            <node concept="3cpWs8" id="58apqRMLnLr" role="3cqZAp">
+              <node concept="3cpWsn" id="58apqRMLnLq" role="3cpWs9">
+                <property role="TrG5h" value="k" />
+                <node concept="3uibUv" id="58apqRMLnLs" role="1tU5fm">
+                  <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+                </node>
+                <node concept="10QFUN" id="58apqRMLnLt" role="33vP2m">
+                  <node concept="37vLTw" id="58apqRMLnLu" role="10QFUP">
+                    <ref role="3cqZAo" node="58apqRMLnLh" resolve="key" />
+                  </node>
+                  <node concept="3uibUv" id="58apqRMLnLv" role="10QFUM">
+                    <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs6" id="58apqRMLnLw" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLnLx" role="3cqZAk">
+                <node concept="2OqwBi" id="58apqRMLDas" role="2Oq$k0">
+                  <node concept="37vLTw" id="58apqRMLDar" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnLq" resolve="k" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLDat" role="2OqNvi">
+                    <ref role="37wK5l" to="ef3w:~RSAKey.getModulus()" resolve="getModulus" />
+                  </node>
+                </node>
+                <node concept="liA8E" id="58apqRMLnLz" role="2OqNvi">
+                  <ref role="37wK5l" to="xlxw:~BigInteger.bitLength()" resolve="bitLength" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="YS8fn" id="58apqRMLnLQ" role="3cqZAp">
+          <node concept="2ShNRf" id="58apqRMLCFQ" role="YScLw">
+            <node concept="1pGfFk" id="58apqRMLCKi" role="2ShVmc">
+              <ref role="37wK5l" to="wyt6:~IllegalArgumentException.&lt;init&gt;(java.lang.String)" resolve="IllegalArgumentException" />
+              <node concept="Xl_RD" id="58apqRMLCKj" role="37wK5m">
+                <property role="Xl_RC" value="not an RSA key!" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnLR" role="1B3o_S" />
+      <node concept="10Oyi0" id="58apqRMLnLS" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnLT" role="jymVt">
+      <property role="TrG5h" value="engineGetOutputSize" />
+      <node concept="37vLTG" id="58apqRMLnLU" role="3clF46">
+        <property role="TrG5h" value="inputLen" />
+        <node concept="10Oyi0" id="58apqRMLnLV" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnLW" role="3clF47">
+        <node concept="3J1_TO" id="58apqRMLnM9" role="3cqZAp">
+          <node concept="3uVAMA" id="58apqRMLnMa" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLnM5" role="1zc67A">
+              <node concept="YS8fn" id="58apqRMLnM8" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLAYU" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLAZ9" role="2ShVmc">
+                    <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
+                    <node concept="Xl_RD" id="58apqRMLAZa" role="37wK5m">
+                      <property role="Xl_RC" value="RSA Cipher not initialised" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLnM1" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLnM3" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLnM2" role="nSUat">
+                  <ref role="3uigEE" to="wyt6:~NullPointerException" resolve="NullPointerException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnLY" role="1zxBo7">
+            <node concept="3cpWs6" id="58apqRMLnLZ" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLB5Z" role="3cqZAk">
+                <node concept="37vLTw" id="58apqRMLB5Y" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="liA8E" id="58apqRMLB60" role="2OqNvi">
+                  <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getOutputBlockSize()" resolve="getOutputBlockSize" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnMb" role="1B3o_S" />
+      <node concept="10Oyi0" id="58apqRMLnMc" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnMd" role="jymVt">
+      <property role="TrG5h" value="engineGetParameters" />
+      <node concept="3clFbS" id="58apqRMLnMe" role="3clF47">
+        <node concept="3clFbJ" id="58apqRMLnMf" role="3cqZAp">
+          <node concept="3clFbC" id="58apqRMLnMg" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnMh" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnJ5" resolve="engineParams" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnMi" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnMk" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnMl" role="3cqZAp">
+              <node concept="3y3z36" id="58apqRMLnMm" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLnMn" role="3uHU7B">
+                  <ref role="3cqZAo" node="58apqRMLnJ1" resolve="paramSpec" />
+                </node>
+                <node concept="10Nm6u" id="58apqRMLnMo" role="3uHU7w" />
+              </node>
+              <node concept="3clFbS" id="58apqRMLnMq" role="3clFbx">
+                <node concept="3J1_TO" id="58apqRMLnMH" role="3cqZAp">
+                  <node concept="3uVAMA" id="58apqRMLnMI" role="1zxBo5">
+                    <node concept="3clFbS" id="58apqRMLnMD" role="1zc67A">
+                      <node concept="YS8fn" id="58apqRMLnMG" role="3cqZAp">
+                        <node concept="2ShNRf" id="58apqRMLAy4" role="YScLw">
+                          <node concept="1pGfFk" id="58apqRMLAyH" role="2ShVmc">
+                            <ref role="37wK5l" to="wyt6:~RuntimeException.&lt;init&gt;(java.lang.String)" resolve="RuntimeException" />
+                            <node concept="2OqwBi" id="58apqRMLAyI" role="37wK5m">
+                              <node concept="37vLTw" id="58apqRMLAyJ" role="2Oq$k0">
+                                <ref role="3cqZAo" node="58apqRMLnM_" resolve="e" />
+                              </node>
+                              <node concept="liA8E" id="58apqRMLAyK" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~Throwable.toString()" resolve="toString" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="XOnhg" id="58apqRMLnM_" role="1zc67B">
+                      <property role="TrG5h" value="e" />
+                      <node concept="nSUau" id="58apqRMLnMB" role="1tU5fm">
+                        <node concept="3uibUv" id="58apqRMLnMA" role="nSUat">
+                          <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnMs" role="1zxBo7">
+                    <node concept="3clFbF" id="58apqRMLnMt" role="3cqZAp">
+                      <node concept="37vLTI" id="58apqRMLnMu" role="3clFbG">
+                        <node concept="37vLTw" id="58apqRMLnMv" role="37vLTJ">
+                          <ref role="3cqZAo" node="58apqRMLnJ5" resolve="engineParams" />
+                        </node>
+                        <node concept="2OqwBi" id="58apqRML_EK" role="37vLTx">
+                          <node concept="37vLTw" id="58apqRML_EJ" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnIS" resolve="helper" />
+                          </node>
+                          <node concept="liA8E" id="58apqRML_EL" role="2OqNvi">
+                            <ref role="37wK5l" to="aql8:~JcaJceHelper.createAlgorithmParameters(java.lang.String)" resolve="createAlgorithmParameters" />
+                            <node concept="Xl_RD" id="58apqRML_EM" role="37wK5m">
+                              <property role="Xl_RC" value="OAEP" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="58apqRMLnMy" role="3cqZAp">
+                      <node concept="2OqwBi" id="58apqRML_nn" role="3clFbG">
+                        <node concept="37vLTw" id="58apqRML_nm" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnJ5" resolve="engineParams" />
+                        </node>
+                        <node concept="liA8E" id="58apqRML_no" role="2OqNvi">
+                          <ref role="37wK5l" to="jgjw:~AlgorithmParameters.init(java.security.spec.AlgorithmParameterSpec)" resolve="init" />
+                          <node concept="37vLTw" id="58apqRML_np" role="37wK5m">
+                            <ref role="3cqZAo" node="58apqRMLnJ1" resolve="paramSpec" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLnMJ" role="3cqZAp">
+          <node concept="37vLTw" id="58apqRMLnMK" role="3cqZAk">
+            <ref role="3cqZAo" node="58apqRMLnJ5" resolve="engineParams" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnML" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMLnMM" role="3clF45">
+        <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="58apqRMLnMN" role="jymVt">
+      <property role="TrG5h" value="engineSetMode" />
+      <node concept="37vLTG" id="58apqRMLnMO" role="3clF46">
+        <property role="TrG5h" value="mode" />
+        <node concept="3uibUv" id="58apqRMLnMP" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnMQ" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~NoSuchAlgorithmException" resolve="NoSuchAlgorithmException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnMR" role="3clF47">
+        <node concept="3cpWs8" id="58apqRMLnMT" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnMS" role="3cpWs9">
+            <property role="TrG5h" value="md" />
+            <node concept="3uibUv" id="58apqRMLnMU" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+            </node>
+            <node concept="2YIFZM" id="58apqRMLDti" role="33vP2m">
+              <ref role="1Pybhc" to="mgsy:~Strings" resolve="Strings" />
+              <ref role="37wK5l" to="mgsy:~Strings.toUpperCase(java.lang.String)" resolve="toUpperCase" />
+              <node concept="37vLTw" id="58apqRMLDtj" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnMO" resolve="mode" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnMX" role="3cqZAp">
+          <node concept="22lmx$" id="58apqRMLnMY" role="3clFbw">
+            <node concept="2OqwBi" id="58apqRMLDH$" role="3uHU7B">
+              <node concept="37vLTw" id="58apqRMLDHz" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnMS" resolve="md" />
+              </node>
+              <node concept="liA8E" id="58apqRMLDH_" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                <node concept="Xl_RD" id="58apqRMLDHA" role="37wK5m">
+                  <property role="Xl_RC" value="NONE" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="58apqRML_jP" role="3uHU7w">
+              <node concept="37vLTw" id="58apqRML_jO" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnMS" resolve="md" />
+              </node>
+              <node concept="liA8E" id="58apqRML_jQ" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                <node concept="Xl_RD" id="58apqRML_jR" role="37wK5m">
+                  <property role="Xl_RC" value="ECB" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnN4" role="3clFbx">
+            <node concept="3cpWs6" id="58apqRMLnN5" role="3cqZAp" />
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnN6" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRML_DA" role="3clFbw">
+            <node concept="37vLTw" id="58apqRML_D_" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnMS" resolve="md" />
+            </node>
+            <node concept="liA8E" id="58apqRML_DB" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+              <node concept="Xl_RD" id="58apqRML_DC" role="37wK5m">
+                <property role="Xl_RC" value="1" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="58apqRMLnNk" role="9aQIa">
+            <node concept="2OqwBi" id="58apqRMLCN1" role="3clFbw">
+              <node concept="37vLTw" id="58apqRMLCN0" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnMS" resolve="md" />
+              </node>
+              <node concept="liA8E" id="58apqRMLCN2" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                <node concept="Xl_RD" id="58apqRMLCN3" role="37wK5m">
+                  <property role="Xl_RC" value="2" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="58apqRMLnNo" role="3clFbx">
+              <node concept="3clFbF" id="58apqRMLnNp" role="3cqZAp">
+                <node concept="37vLTI" id="58apqRMLnNq" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRMLnNr" role="37vLTJ">
+                    <ref role="3cqZAo" node="58apqRMLnJe" resolve="privateKeyOnly" />
+                  </node>
+                  <node concept="3clFbT" id="58apqRMLnNs" role="37vLTx" />
+                </node>
+              </node>
+              <node concept="3clFbF" id="58apqRMLnNt" role="3cqZAp">
+                <node concept="37vLTI" id="58apqRMLnNu" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRMLnNv" role="37vLTJ">
+                    <ref role="3cqZAo" node="58apqRMLnJ9" resolve="publicKeyOnly" />
+                  </node>
+                  <node concept="3clFbT" id="58apqRMLnNw" role="37vLTx">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="58apqRMLnNx" role="3cqZAp" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnNa" role="3clFbx">
+            <node concept="3clFbF" id="58apqRMLnNb" role="3cqZAp">
+              <node concept="37vLTI" id="58apqRMLnNc" role="3clFbG">
+                <node concept="37vLTw" id="58apqRMLnNd" role="37vLTJ">
+                  <ref role="3cqZAo" node="58apqRMLnJe" resolve="privateKeyOnly" />
+                </node>
+                <node concept="3clFbT" id="58apqRMLnNe" role="37vLTx">
+                  <property role="3clFbU" value="true" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="58apqRMLnNf" role="3cqZAp">
+              <node concept="37vLTI" id="58apqRMLnNg" role="3clFbG">
+                <node concept="37vLTw" id="58apqRMLnNh" role="37vLTJ">
+                  <ref role="3cqZAo" node="58apqRMLnJ9" resolve="publicKeyOnly" />
+                </node>
+                <node concept="3clFbT" id="58apqRMLnNi" role="37vLTx" />
+              </node>
+            </node>
+            <node concept="3cpWs6" id="58apqRMLnNj" role="3cqZAp" />
+          </node>
+        </node>
+        <node concept="YS8fn" id="58apqRMLnNA" role="3cqZAp">
+          <node concept="2ShNRf" id="58apqRMLCon" role="YScLw">
+            <node concept="1pGfFk" id="58apqRMLCoI" role="2ShVmc">
+              <ref role="37wK5l" to="jgjw:~NoSuchAlgorithmException.&lt;init&gt;(java.lang.String)" resolve="NoSuchAlgorithmException" />
+              <node concept="3cpWs3" id="58apqRMLCoJ" role="37wK5m">
+                <node concept="Xl_RD" id="58apqRMLCoK" role="3uHU7B">
+                  <property role="Xl_RC" value="can't support mode " />
+                </node>
+                <node concept="37vLTw" id="58apqRMLCoL" role="3uHU7w">
+                  <ref role="3cqZAo" node="58apqRMLnMO" resolve="mode" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnNB" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnNC" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnND" role="jymVt">
+      <property role="TrG5h" value="engineSetPadding" />
+      <node concept="37vLTG" id="58apqRMLnNE" role="3clF46">
+        <property role="TrG5h" value="padding" />
+        <node concept="3uibUv" id="58apqRMLnNF" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnNG" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~NoSuchPaddingException" resolve="NoSuchPaddingException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnNH" role="3clF47">
+        <node concept="3cpWs8" id="58apqRMLnNJ" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnNI" role="3cpWs9">
+            <property role="TrG5h" value="pad" />
+            <node concept="3uibUv" id="58apqRMLnNK" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+            </node>
+            <node concept="2YIFZM" id="58apqRMLBkS" role="33vP2m">
+              <ref role="1Pybhc" to="mgsy:~Strings" resolve="Strings" />
+              <ref role="37wK5l" to="mgsy:~Strings.toUpperCase(java.lang.String)" resolve="toUpperCase" />
+              <node concept="37vLTw" id="58apqRMLBkT" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnNE" resolve="padding" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnNN" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLBzP" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLBzO" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+            </node>
+            <node concept="liA8E" id="58apqRMLBzQ" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+              <node concept="Xl_RD" id="58apqRMLBzR" role="37wK5m">
+                <property role="Xl_RC" value="NOPADDING" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="58apqRMLnNW" role="9aQIa">
+            <node concept="2OqwBi" id="58apqRMLCpa" role="3clFbw">
+              <node concept="37vLTw" id="58apqRMLCp9" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+              </node>
+              <node concept="liA8E" id="58apqRMLCpb" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                <node concept="Xl_RD" id="58apqRMLCpc" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS1PADDING" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="58apqRMLnO6" role="9aQIa">
+              <node concept="2OqwBi" id="58apqRMLAfB" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLAfA" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                </node>
+                <node concept="liA8E" id="58apqRMLAfC" role="2OqNvi">
+                  <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                  <node concept="Xl_RD" id="58apqRMLAfD" role="37wK5m">
+                    <property role="Xl_RC" value="ISO9796-1PADDING" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbJ" id="58apqRMLnOg" role="9aQIa">
+                <node concept="2OqwBi" id="58apqRMLCUJ" role="3clFbw">
+                  <node concept="37vLTw" id="58apqRMLCUI" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLCUK" role="2OqNvi">
+                    <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                    <node concept="Xl_RD" id="58apqRMLCUL" role="37wK5m">
+                      <property role="Xl_RC" value="OAEPWITHMD5ANDMGF1PADDING" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="58apqRMLnOt" role="9aQIa">
+                  <node concept="2OqwBi" id="58apqRML_rN" role="3clFbw">
+                    <node concept="37vLTw" id="58apqRML_rM" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                    </node>
+                    <node concept="liA8E" id="58apqRML_rO" role="2OqNvi">
+                      <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                      <node concept="Xl_RD" id="58apqRML_rP" role="37wK5m">
+                        <property role="Xl_RC" value="OAEPPADDING" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbJ" id="58apqRMLnO_" role="9aQIa">
+                    <node concept="22lmx$" id="58apqRMLnOA" role="3clFbw">
+                      <node concept="2OqwBi" id="58apqRMLDm0" role="3uHU7B">
+                        <node concept="37vLTw" id="58apqRMLDlZ" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                        </node>
+                        <node concept="liA8E" id="58apqRMLDm1" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                          <node concept="Xl_RD" id="58apqRMLDm2" role="37wK5m">
+                            <property role="Xl_RC" value="OAEPWITHSHA1ANDMGF1PADDING" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="2OqwBi" id="58apqRML_uW" role="3uHU7w">
+                        <node concept="37vLTw" id="58apqRML_uV" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                        </node>
+                        <node concept="liA8E" id="58apqRML_uX" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                          <node concept="Xl_RD" id="58apqRML_uY" role="37wK5m">
+                            <property role="Xl_RC" value="OAEPWITHSHA-1ANDMGF1PADDING" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbJ" id="58apqRMLnOK" role="9aQIa">
+                      <node concept="22lmx$" id="58apqRMLnOL" role="3clFbw">
+                        <node concept="2OqwBi" id="58apqRMLBJq" role="3uHU7B">
+                          <node concept="37vLTw" id="58apqRMLBJp" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLBJr" role="2OqNvi">
+                            <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                            <node concept="Xl_RD" id="58apqRMLBJs" role="37wK5m">
+                              <property role="Xl_RC" value="OAEPWITHSHA224ANDMGF1PADDING" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="58apqRMLCfG" role="3uHU7w">
+                          <node concept="37vLTw" id="58apqRMLCfF" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLCfH" role="2OqNvi">
+                            <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                            <node concept="Xl_RD" id="58apqRMLCfI" role="37wK5m">
+                              <property role="Xl_RC" value="OAEPWITHSHA-224ANDMGF1PADDING" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3clFbJ" id="58apqRMLnP0" role="9aQIa">
+                        <node concept="22lmx$" id="58apqRMLnP1" role="3clFbw">
+                          <node concept="2OqwBi" id="58apqRMLCBf" role="3uHU7B">
+                            <node concept="37vLTw" id="58apqRMLCBe" role="2Oq$k0">
+                              <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                            </node>
+                            <node concept="liA8E" id="58apqRMLCBg" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                              <node concept="Xl_RD" id="58apqRMLCBh" role="37wK5m">
+                                <property role="Xl_RC" value="OAEPWITHSHA256ANDMGF1PADDING" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="2OqwBi" id="58apqRMLCQm" role="3uHU7w">
+                            <node concept="37vLTw" id="58apqRMLCQl" role="2Oq$k0">
+                              <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                            </node>
+                            <node concept="liA8E" id="58apqRMLCQn" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                              <node concept="Xl_RD" id="58apqRMLCQo" role="37wK5m">
+                                <property role="Xl_RC" value="OAEPWITHSHA-256ANDMGF1PADDING" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3clFbJ" id="58apqRMLnPf" role="9aQIa">
+                          <node concept="22lmx$" id="58apqRMLnPg" role="3clFbw">
+                            <node concept="2OqwBi" id="58apqRMLBHs" role="3uHU7B">
+                              <node concept="37vLTw" id="58apqRMLBHr" role="2Oq$k0">
+                                <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                              </node>
+                              <node concept="liA8E" id="58apqRMLBHt" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                <node concept="Xl_RD" id="58apqRMLBHu" role="37wK5m">
+                                  <property role="Xl_RC" value="OAEPWITHSHA384ANDMGF1PADDING" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="2OqwBi" id="58apqRMLBpV" role="3uHU7w">
+                              <node concept="37vLTw" id="58apqRMLBpU" role="2Oq$k0">
+                                <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                              </node>
+                              <node concept="liA8E" id="58apqRMLBpW" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                <node concept="Xl_RD" id="58apqRMLBpX" role="37wK5m">
+                                  <property role="Xl_RC" value="OAEPWITHSHA-384ANDMGF1PADDING" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3clFbJ" id="58apqRMLnPu" role="9aQIa">
+                            <node concept="22lmx$" id="58apqRMLnPv" role="3clFbw">
+                              <node concept="2OqwBi" id="58apqRMLBx3" role="3uHU7B">
+                                <node concept="37vLTw" id="58apqRMLBx2" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                </node>
+                                <node concept="liA8E" id="58apqRMLBx4" role="2OqNvi">
+                                  <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                  <node concept="Xl_RD" id="58apqRMLBx5" role="37wK5m">
+                                    <property role="Xl_RC" value="OAEPWITHSHA512ANDMGF1PADDING" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="2OqwBi" id="58apqRMLAX_" role="3uHU7w">
+                                <node concept="37vLTw" id="58apqRMLAX$" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                </node>
+                                <node concept="liA8E" id="58apqRMLAXA" role="2OqNvi">
+                                  <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                  <node concept="Xl_RD" id="58apqRMLAXB" role="37wK5m">
+                                    <property role="Xl_RC" value="OAEPWITHSHA-512ANDMGF1PADDING" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3clFbJ" id="58apqRMLnPH" role="9aQIa">
+                              <node concept="2OqwBi" id="58apqRMLClA" role="3clFbw">
+                                <node concept="37vLTw" id="58apqRMLCl_" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                </node>
+                                <node concept="liA8E" id="58apqRMLClB" role="2OqNvi">
+                                  <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                  <node concept="Xl_RD" id="58apqRMLClC" role="37wK5m">
+                                    <property role="Xl_RC" value="OAEPWITHSHA3-224ANDMGF1PADDING" />
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3clFbJ" id="58apqRMLnPU" role="9aQIa">
+                                <node concept="2OqwBi" id="58apqRMLA$R" role="3clFbw">
+                                  <node concept="37vLTw" id="58apqRMLA$Q" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                  </node>
+                                  <node concept="liA8E" id="58apqRMLA$S" role="2OqNvi">
+                                    <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                    <node concept="Xl_RD" id="58apqRMLA$T" role="37wK5m">
+                                      <property role="Xl_RC" value="OAEPWITHSHA3-256ANDMGF1PADDING" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3clFbJ" id="58apqRMLnQ7" role="9aQIa">
+                                  <node concept="2OqwBi" id="58apqRML_la" role="3clFbw">
+                                    <node concept="37vLTw" id="58apqRML_l9" role="2Oq$k0">
+                                      <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                    </node>
+                                    <node concept="liA8E" id="58apqRML_lb" role="2OqNvi">
+                                      <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                      <node concept="Xl_RD" id="58apqRML_lc" role="37wK5m">
+                                        <property role="Xl_RC" value="OAEPWITHSHA3-384ANDMGF1PADDING" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                  <node concept="3clFbJ" id="58apqRMLnQk" role="9aQIa">
+                                    <node concept="2OqwBi" id="58apqRMLC$$" role="3clFbw">
+                                      <node concept="37vLTw" id="58apqRMLC$z" role="2Oq$k0">
+                                        <ref role="3cqZAo" node="58apqRMLnNI" resolve="pad" />
+                                      </node>
+                                      <node concept="liA8E" id="58apqRMLC$_" role="2OqNvi">
+                                        <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                                        <node concept="Xl_RD" id="58apqRMLC$A" role="37wK5m">
+                                          <property role="Xl_RC" value="OAEPWITHSHA3-512ANDMGF1PADDING" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="9aQIb" id="58apqRMLnQx" role="9aQIa">
+                                      <node concept="3clFbS" id="58apqRMLnQy" role="9aQI4">
+                                        <node concept="YS8fn" id="58apqRMLnQB" role="3cqZAp">
+                                          <node concept="2ShNRf" id="58apqRMLC2k" role="YScLw">
+                                            <node concept="1pGfFk" id="58apqRMLCaZ" role="2ShVmc">
+                                              <ref role="37wK5l" to="pfyx:~NoSuchPaddingException.&lt;init&gt;(java.lang.String)" resolve="NoSuchPaddingException" />
+                                              <node concept="3cpWs3" id="58apqRMLCb0" role="37wK5m">
+                                                <node concept="37vLTw" id="58apqRMLCb1" role="3uHU7B">
+                                                  <ref role="3cqZAo" node="58apqRMLnNE" resolve="padding" />
+                                                </node>
+                                                <node concept="Xl_RD" id="58apqRMLCb2" role="3uHU7w">
+                                                  <property role="Xl_RC" value=" unavailable with RSA." />
+                                                </node>
+                                              </node>
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                    <node concept="3clFbS" id="58apqRMLnQo" role="3clFbx">
+                                      <node concept="3clFbF" id="58apqRMLnQp" role="3cqZAp">
+                                        <node concept="1rXfSq" id="58apqRMLnQq" role="3clFbG">
+                                          <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                          <node concept="2ShNRf" id="58apqRMLCFs" role="37wK5m">
+                                            <node concept="1pGfFk" id="58apqRMLCFC" role="2ShVmc">
+                                              <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                              <node concept="Xl_RD" id="58apqRMLCFD" role="37wK5m">
+                                                <property role="Xl_RC" value="SHA3-512" />
+                                              </node>
+                                              <node concept="Xl_RD" id="58apqRMLCFE" role="37wK5m">
+                                                <property role="Xl_RC" value="MGF1" />
+                                              </node>
+                                              <node concept="2ShNRf" id="58apqRMLJ97" role="37wK5m">
+                                                <node concept="1pGfFk" id="58apqRMLJ9j" role="2ShVmc">
+                                                  <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                                                  <node concept="Xl_RD" id="58apqRMLJ9k" role="37wK5m">
+                                                    <property role="Xl_RC" value="SHA3-512" />
+                                                  </node>
+                                                </node>
+                                              </node>
+                                              <node concept="10M0yZ" id="58apqRMLCFH" role="37wK5m">
+                                                <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                                <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                  <node concept="3clFbS" id="58apqRMLnQb" role="3clFbx">
+                                    <node concept="3clFbF" id="58apqRMLnQc" role="3cqZAp">
+                                      <node concept="1rXfSq" id="58apqRMLnQd" role="3clFbG">
+                                        <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                        <node concept="2ShNRf" id="58apqRML__b" role="37wK5m">
+                                          <node concept="1pGfFk" id="58apqRML__m" role="2ShVmc">
+                                            <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                            <node concept="Xl_RD" id="58apqRML__n" role="37wK5m">
+                                              <property role="Xl_RC" value="SHA3-384" />
+                                            </node>
+                                            <node concept="Xl_RD" id="58apqRML__o" role="37wK5m">
+                                              <property role="Xl_RC" value="MGF1" />
+                                            </node>
+                                            <node concept="2ShNRf" id="58apqRMLIUe" role="37wK5m">
+                                              <node concept="1pGfFk" id="58apqRMLIUq" role="2ShVmc">
+                                                <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                                                <node concept="Xl_RD" id="58apqRMLIUr" role="37wK5m">
+                                                  <property role="Xl_RC" value="SHA3-384" />
+                                                </node>
+                                              </node>
+                                            </node>
+                                            <node concept="10M0yZ" id="58apqRMLIVn" role="37wK5m">
+                                              <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                              <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="3clFbS" id="58apqRMLnPY" role="3clFbx">
+                                  <node concept="3clFbF" id="58apqRMLnPZ" role="3cqZAp">
+                                    <node concept="1rXfSq" id="58apqRMLnQ0" role="3clFbG">
+                                      <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                      <node concept="2ShNRf" id="58apqRMLDa2" role="37wK5m">
+                                        <node concept="1pGfFk" id="58apqRMLDad" role="2ShVmc">
+                                          <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                          <node concept="Xl_RD" id="58apqRMLDae" role="37wK5m">
+                                            <property role="Xl_RC" value="SHA3-256" />
+                                          </node>
+                                          <node concept="Xl_RD" id="58apqRMLDaf" role="37wK5m">
+                                            <property role="Xl_RC" value="MGF1" />
+                                          </node>
+                                          <node concept="2ShNRf" id="58apqRMLI5n" role="37wK5m">
+                                            <node concept="1pGfFk" id="58apqRMLI5y" role="2ShVmc">
+                                              <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                                              <node concept="Xl_RD" id="58apqRMLI5z" role="37wK5m">
+                                                <property role="Xl_RC" value="SHA3-256" />
+                                              </node>
+                                            </node>
+                                          </node>
+                                          <node concept="10M0yZ" id="58apqRMLI33" role="37wK5m">
+                                            <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                            <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                          </node>
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                              <node concept="3clFbS" id="58apqRMLnPL" role="3clFbx">
+                                <node concept="3clFbF" id="58apqRMLnPM" role="3cqZAp">
+                                  <node concept="1rXfSq" id="58apqRMLnPN" role="3clFbG">
+                                    <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                    <node concept="2ShNRf" id="58apqRMLAk2" role="37wK5m">
+                                      <node concept="1pGfFk" id="58apqRMLAkd" role="2ShVmc">
+                                        <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                        <node concept="Xl_RD" id="58apqRMLAke" role="37wK5m">
+                                          <property role="Xl_RC" value="SHA3-224" />
+                                        </node>
+                                        <node concept="Xl_RD" id="58apqRMLAkf" role="37wK5m">
+                                          <property role="Xl_RC" value="MGF1" />
+                                        </node>
+                                        <node concept="2ShNRf" id="58apqRMLAkg" role="37wK5m">
+                                          <node concept="1pGfFk" id="58apqRMLAkh" role="2ShVmc">
+                                            <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                                            <node concept="Xl_RD" id="58apqRMLAki" role="37wK5m">
+                                              <property role="Xl_RC" value="SHA3-224" />
+                                            </node>
+                                          </node>
+                                        </node>
+                                        <node concept="10M0yZ" id="58apqRMLJ9Y" role="37wK5m">
+                                          <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                          <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                        </node>
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3clFbS" id="58apqRMLnP_" role="3clFbx">
+                              <node concept="3clFbF" id="58apqRMLnPA" role="3cqZAp">
+                                <node concept="1rXfSq" id="58apqRMLnPB" role="3clFbG">
+                                  <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                  <node concept="2ShNRf" id="58apqRMLCes" role="37wK5m">
+                                    <node concept="1pGfFk" id="58apqRMLCeB" role="2ShVmc">
+                                      <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                      <node concept="Xl_RD" id="58apqRMLCeC" role="37wK5m">
+                                        <property role="Xl_RC" value="SHA-512" />
+                                      </node>
+                                      <node concept="Xl_RD" id="58apqRMLCeD" role="37wK5m">
+                                        <property role="Xl_RC" value="MGF1" />
+                                      </node>
+                                      <node concept="10M0yZ" id="58apqRMLCeE" role="37wK5m">
+                                        <ref role="1PxDUh" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                                        <ref role="3cqZAo" to="41y5:~MGF1ParameterSpec.SHA512" resolve="SHA512" />
+                                      </node>
+                                      <node concept="10M0yZ" id="58apqRMLJ6Y" role="37wK5m">
+                                        <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                        <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                      </node>
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3clFbS" id="58apqRMLnPm" role="3clFbx">
+                            <node concept="3clFbF" id="58apqRMLnPn" role="3cqZAp">
+                              <node concept="1rXfSq" id="58apqRMLnPo" role="3clFbG">
+                                <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                                <node concept="2ShNRf" id="58apqRMLCeN" role="37wK5m">
+                                  <node concept="1pGfFk" id="58apqRMLCeY" role="2ShVmc">
+                                    <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                    <node concept="Xl_RD" id="58apqRMLCeZ" role="37wK5m">
+                                      <property role="Xl_RC" value="SHA-384" />
+                                    </node>
+                                    <node concept="Xl_RD" id="58apqRMLCf0" role="37wK5m">
+                                      <property role="Xl_RC" value="MGF1" />
+                                    </node>
+                                    <node concept="10M0yZ" id="58apqRMLIY8" role="37wK5m">
+                                      <ref role="1PxDUh" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                                      <ref role="3cqZAo" to="41y5:~MGF1ParameterSpec.SHA384" resolve="SHA384" />
+                                    </node>
+                                    <node concept="10M0yZ" id="58apqRMLIHj" role="37wK5m">
+                                      <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                      <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                    </node>
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3clFbS" id="58apqRMLnP7" role="3clFbx">
+                          <node concept="3clFbF" id="58apqRMLnP8" role="3cqZAp">
+                            <node concept="1rXfSq" id="58apqRMLnP9" role="3clFbG">
+                              <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                              <node concept="2ShNRf" id="58apqRMLDzL" role="37wK5m">
+                                <node concept="1pGfFk" id="58apqRMLDzW" role="2ShVmc">
+                                  <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                  <node concept="Xl_RD" id="58apqRMLDzX" role="37wK5m">
+                                    <property role="Xl_RC" value="SHA-256" />
+                                  </node>
+                                  <node concept="Xl_RD" id="58apqRMLDzY" role="37wK5m">
+                                    <property role="Xl_RC" value="MGF1" />
+                                  </node>
+                                  <node concept="10M0yZ" id="58apqRMLDzZ" role="37wK5m">
+                                    <ref role="1PxDUh" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                                    <ref role="3cqZAo" to="41y5:~MGF1ParameterSpec.SHA256" resolve="SHA256" />
+                                  </node>
+                                  <node concept="10M0yZ" id="58apqRMLIj9" role="37wK5m">
+                                    <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                    <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3clFbS" id="58apqRMLnOR" role="3clFbx">
+                        <node concept="3clFbF" id="58apqRMLnOS" role="3cqZAp">
+                          <node concept="1rXfSq" id="58apqRMLnOT" role="3clFbG">
+                            <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                            <node concept="2ShNRf" id="58apqRMLCf9" role="37wK5m">
+                              <node concept="1pGfFk" id="58apqRMLCfk" role="2ShVmc">
+                                <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                                <node concept="Xl_RD" id="58apqRMLCfl" role="37wK5m">
+                                  <property role="Xl_RC" value="SHA-224" />
+                                </node>
+                                <node concept="Xl_RD" id="58apqRMLCfm" role="37wK5m">
+                                  <property role="Xl_RC" value="MGF1" />
+                                </node>
+                                <node concept="2ShNRf" id="58apqRMLIbe" role="37wK5m">
+                                  <node concept="1pGfFk" id="58apqRMLIbp" role="2ShVmc">
+                                    <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                                    <node concept="Xl_RD" id="58apqRMLIbq" role="37wK5m">
+                                      <property role="Xl_RC" value="SHA-224" />
+                                    </node>
+                                  </node>
+                                </node>
+                                <node concept="10M0yZ" id="58apqRMLIph" role="37wK5m">
+                                  <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                                  <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbS" id="58apqRMLnOG" role="3clFbx">
+                      <node concept="3clFbF" id="58apqRMLnOH" role="3cqZAp">
+                        <node concept="1rXfSq" id="58apqRMLnOI" role="3clFbG">
+                          <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                          <node concept="10M0yZ" id="58apqRML_l4" role="37wK5m">
+                            <ref role="1PxDUh" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+                            <ref role="3cqZAo" to="7lc:~OAEPParameterSpec.DEFAULT" resolve="DEFAULT" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnOx" role="3clFbx">
+                    <node concept="3clFbF" id="58apqRMLnOy" role="3cqZAp">
+                      <node concept="1rXfSq" id="58apqRMLnOz" role="3clFbG">
+                        <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                        <node concept="10M0yZ" id="58apqRMLD9Y" role="37wK5m">
+                          <ref role="1PxDUh" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+                          <ref role="3cqZAo" to="7lc:~OAEPParameterSpec.DEFAULT" resolve="DEFAULT" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnOk" role="3clFbx">
+                  <node concept="3clFbF" id="58apqRMLnOl" role="3cqZAp">
+                    <node concept="1rXfSq" id="58apqRMLnOm" role="3clFbG">
+                      <ref role="37wK5l" node="58apqRMLnKh" resolve="initFromSpec" />
+                      <node concept="2ShNRf" id="58apqRMLCPV" role="37wK5m">
+                        <node concept="1pGfFk" id="58apqRMLCQ6" role="2ShVmc">
+                          <ref role="37wK5l" to="7lc:~OAEPParameterSpec.&lt;init&gt;(java.lang.String,java.lang.String,java.security.spec.AlgorithmParameterSpec,javax.crypto.spec.PSource)" resolve="OAEPParameterSpec" />
+                          <node concept="Xl_RD" id="58apqRMLCQ7" role="37wK5m">
+                            <property role="Xl_RC" value="MD5" />
+                          </node>
+                          <node concept="Xl_RD" id="58apqRMLCQ8" role="37wK5m">
+                            <property role="Xl_RC" value="MGF1" />
+                          </node>
+                          <node concept="2ShNRf" id="58apqRMLHYD" role="37wK5m">
+                            <node concept="1pGfFk" id="58apqRMLHYP" role="2ShVmc">
+                              <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.&lt;init&gt;(java.lang.String)" resolve="MGF1ParameterSpec" />
+                              <node concept="Xl_RD" id="58apqRMLHYQ" role="37wK5m">
+                                <property role="Xl_RC" value="MD5" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="10M0yZ" id="58apqRMLCQb" role="37wK5m">
+                            <ref role="1PxDUh" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                            <ref role="3cqZAo" to="7lc:~PSource$PSpecified.DEFAULT" resolve="DEFAULT" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnOa" role="3clFbx">
+                <node concept="3clFbF" id="58apqRMLnOb" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMLnOc" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLnOd" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="2ShNRf" id="58apqRMLAEL" role="37vLTx">
+                      <node concept="1pGfFk" id="58apqRMLAEZ" role="2ShVmc">
+                        <ref role="37wK5l" to="quxv:~ISO9796d1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="ISO9796d1Encoding" />
+                        <node concept="2ShNRf" id="58apqRMLI5R" role="37wK5m">
+                          <node concept="1pGfFk" id="58apqRMLI5T" role="2ShVmc">
+                            <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="58apqRMLnO0" role="3clFbx">
+              <node concept="3clFbF" id="58apqRMLnO1" role="3cqZAp">
+                <node concept="37vLTI" id="58apqRMLnO2" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRMLnO3" role="37vLTJ">
+                    <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                  </node>
+                  <node concept="2ShNRf" id="58apqRMLAe0" role="37vLTx">
+                    <node concept="1pGfFk" id="58apqRMLAem" role="2ShVmc">
+                      <ref role="37wK5l" to="quxv:~PKCS1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="PKCS1Encoding" />
+                      <node concept="2ShNRf" id="58apqRMLIU9" role="37wK5m">
+                        <node concept="1pGfFk" id="58apqRMLIUb" role="2ShVmc">
+                          <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnNR" role="3clFbx">
+            <node concept="3clFbF" id="58apqRMLnNS" role="3cqZAp">
+              <node concept="37vLTI" id="58apqRMLnNT" role="3clFbG">
+                <node concept="37vLTw" id="58apqRMLnNU" role="37vLTJ">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="2ShNRf" id="58apqRMLCb8" role="37vLTx">
+                  <node concept="1pGfFk" id="58apqRMLCba" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMNbXp" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMNbXn" role="3clFbG">
+            <ref role="37wK5l" node="58apqRMNitJ" resolve="verifyEngineParameters" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnQC" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnQD" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnQE" role="jymVt">
+      <property role="TrG5h" value="engineInit" />
+      <node concept="37vLTG" id="58apqRMLnQF" role="3clF46">
+        <property role="TrG5h" value="opmode" />
+        <node concept="10Oyi0" id="58apqRMLnQG" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnQH" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLnQI" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~Key" resolve="Key" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnQJ" role="3clF46">
+        <property role="TrG5h" value="params" />
+        <node concept="3uibUv" id="58apqRMLnQK" role="1tU5fm">
+          <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnQL" role="3clF46">
+        <property role="TrG5h" value="random" />
+        <node concept="3uibUv" id="58apqRMLnQM" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnQN" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~InvalidKeyException" resolve="InvalidKeyException" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnQO" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnQP" role="3clF47">
+        <node concept="3cpWs8" id="58apqRMLnQR" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnQQ" role="3cpWs9">
+            <property role="TrG5h" value="param" />
+            <node concept="3uibUv" id="58apqRMLnQS" role="1tU5fm">
+              <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnQT" role="3cqZAp">
+          <node concept="22lmx$" id="58apqRMLnQU" role="3clFbw">
+            <node concept="3clFbC" id="58apqRMLnQV" role="3uHU7B">
+              <node concept="37vLTw" id="58apqRMLnQW" role="3uHU7B">
+                <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+              </node>
+              <node concept="10Nm6u" id="58apqRMLnQX" role="3uHU7w" />
+            </node>
+            <node concept="2ZW3vV" id="58apqRMLnR0" role="3uHU7w">
+              <node concept="37vLTw" id="58apqRMLnQY" role="2ZW6bz">
+                <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+              </node>
+              <node concept="3uibUv" id="58apqRMLnQZ" role="2ZW6by">
+                <ref role="3uigEE" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+              </node>
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLnTn" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLnTo" role="9aQI4">
+              <node concept="YS8fn" id="58apqRMLnTv" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRML_CN" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRML_Df" role="2ShVmc">
+                    <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                    <node concept="3cpWs3" id="58apqRML_Dg" role="37wK5m">
+                      <node concept="Xl_RD" id="58apqRML_Dh" role="3uHU7B">
+                        <property role="Xl_RC" value="unknown parameter type: " />
+                      </node>
+                      <node concept="2OqwBi" id="58apqRML_Di" role="3uHU7w">
+                        <node concept="2OqwBi" id="58apqRMLJeE" role="2Oq$k0">
+                          <node concept="37vLTw" id="58apqRMLJeD" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLJeF" role="2OqNvi">
+                            <ref role="37wK5l" to="wyt6:~Object.getClass()" resolve="getClass" />
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="58apqRMMMYb" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnR2" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnR3" role="3cqZAp">
+              <node concept="2ZW3vV" id="58apqRMLnR6" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLnR4" role="2ZW6bz">
+                  <ref role="3cqZAo" node="58apqRMLnQH" resolve="key" />
+                </node>
+                <node concept="3uibUv" id="58apqRMLnR5" role="2ZW6by">
+                  <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+                </node>
+              </node>
+              <node concept="3clFbJ" id="58apqRMLnRr" role="9aQIa">
+                <node concept="2ZW3vV" id="58apqRMLnRu" role="3clFbw">
+                  <node concept="37vLTw" id="58apqRMLnRs" role="2ZW6bz">
+                    <ref role="3cqZAo" node="58apqRMLnQH" resolve="key" />
+                  </node>
+                  <node concept="3uibUv" id="58apqRMLnRt" role="2ZW6by">
+                    <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+                  </node>
+                </node>
+                <node concept="9aQIb" id="58apqRMLnRN" role="9aQIa">
+                  <node concept="3clFbS" id="58apqRMLnRO" role="9aQI4">
+                    <node concept="YS8fn" id="58apqRMLnRR" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLDJw" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLDJJ" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidKeyException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeyException" />
+                          <node concept="Xl_RD" id="58apqRMLDJK" role="37wK5m">
+                            <property role="Xl_RC" value="unknown key type passed to RSA" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnRw" role="3clFbx">
+                  <node concept="3clFbJ" id="58apqRMLnRx" role="3cqZAp">
+                    <node concept="1Wc70l" id="58apqRMLnRy" role="3clFbw">
+                      <node concept="37vLTw" id="58apqRMLnRz" role="3uHU7B">
+                        <ref role="3cqZAo" node="58apqRMLnJ9" resolve="publicKeyOnly" />
+                      </node>
+                      <node concept="3clFbC" id="58apqRMLnR$" role="3uHU7w">
+                        <node concept="37vLTw" id="58apqRMLnR_" role="3uHU7B">
+                          <ref role="3cqZAo" node="58apqRMLnQF" resolve="opmode" />
+                        </node>
+                        <node concept="10M0yZ" id="58apqRMLAes" role="3uHU7w">
+                          <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+                          <ref role="3cqZAo" to="pfyx:~Cipher.ENCRYPT_MODE" resolve="ENCRYPT_MODE" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbS" id="58apqRMLnRC" role="3clFbx">
+                      <node concept="YS8fn" id="58apqRMLnRF" role="3cqZAp">
+                        <node concept="2ShNRf" id="58apqRMLBr3" role="YScLw">
+                          <node concept="1pGfFk" id="58apqRMLBvw" role="2ShVmc">
+                            <ref role="37wK5l" to="jgjw:~InvalidKeyException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeyException" />
+                            <node concept="Xl_RD" id="58apqRMLBvx" role="37wK5m">
+                              <property role="Xl_RC" value="mode 2 requires RSAPublicKey" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbF" id="58apqRMMxG3" role="3cqZAp">
+                    <node concept="37vLTI" id="58apqRMMzx4" role="3clFbG">
+                      <node concept="2YIFZM" id="58apqRMMB8Q" role="37vLTx">
+                        <ref role="37wK5l" node="58apqRMLQNp" resolve="generatePrivateKeyParameter" />
+                        <ref role="1Pybhc" node="58apqRMLQMp" resolve="RSAUtil" />
+                        <node concept="1eOMI4" id="58apqRMMF7Z" role="37wK5m">
+                          <node concept="10QFUN" id="58apqRMMF7W" role="1eOMHV">
+                            <node concept="3uibUv" id="58apqRMMHbX" role="10QFUM">
+                              <ref role="3uigEE" to="ef3w:~RSAPrivateKey" resolve="RSAPrivateKey" />
+                            </node>
+                            <node concept="37vLTw" id="58apqRMMD5Y" role="10QFUP">
+                              <ref role="3cqZAo" node="58apqRMLnQH" resolve="key" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="37vLTw" id="58apqRMMxG1" role="37vLTJ">
+                        <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnR8" role="3clFbx">
+                <node concept="3clFbJ" id="58apqRMLnR9" role="3cqZAp">
+                  <node concept="1Wc70l" id="58apqRMLnRa" role="3clFbw">
+                    <node concept="37vLTw" id="58apqRMLnRb" role="3uHU7B">
+                      <ref role="3cqZAo" node="58apqRMLnJe" resolve="privateKeyOnly" />
+                    </node>
+                    <node concept="3clFbC" id="58apqRMLnRc" role="3uHU7w">
+                      <node concept="37vLTw" id="58apqRMLnRd" role="3uHU7B">
+                        <ref role="3cqZAo" node="58apqRMLnQF" resolve="opmode" />
+                      </node>
+                      <node concept="10M0yZ" id="58apqRMLCB3" role="3uHU7w">
+                        <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+                        <ref role="3cqZAo" to="pfyx:~Cipher.ENCRYPT_MODE" resolve="ENCRYPT_MODE" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnRg" role="3clFbx">
+                    <node concept="YS8fn" id="58apqRMLnRj" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLAks" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLAoT" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidKeyException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeyException" />
+                          <node concept="Xl_RD" id="58apqRMLAoU" role="37wK5m">
+                            <property role="Xl_RC" value="mode 1 requires RSAPrivateKey" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="58apqRMLZ5i" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMM19y" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLZ5g" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                    </node>
+                    <node concept="2YIFZM" id="58apqRMMaKL" role="37vLTx">
+                      <ref role="37wK5l" node="58apqRMLQN2" resolve="generatePublicKeyParameter" />
+                      <ref role="1Pybhc" node="58apqRMLQMp" resolve="RSAUtil" />
+                      <node concept="1eOMI4" id="58apqRMMiG4" role="37wK5m">
+                        <node concept="10QFUN" id="58apqRMMiG1" role="1eOMHV">
+                          <node concept="3uibUv" id="58apqRMMt$T" role="10QFUM">
+                            <ref role="3uigEE" to="ef3w:~RSAPublicKey" resolve="RSAPublicKey" />
+                          </node>
+                          <node concept="37vLTw" id="58apqRMMcor" role="10QFUP">
+                            <ref role="3cqZAo" node="58apqRMLnQH" resolve="key" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="58apqRMLnRS" role="3cqZAp">
+              <node concept="3y3z36" id="58apqRMLnRT" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLnRU" role="3uHU7B">
+                  <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+                </node>
+                <node concept="10Nm6u" id="58apqRMLnRV" role="3uHU7w" />
+              </node>
+              <node concept="3clFbS" id="58apqRMLnRX" role="3clFbx">
+                <node concept="3cpWs8" id="58apqRMLnRZ" role="3cqZAp">
+                  <node concept="3cpWsn" id="58apqRMLnRY" role="3cpWs9">
+                    <property role="TrG5h" value="spec" />
+                    <node concept="3uibUv" id="58apqRMLnS0" role="1tU5fm">
+                      <ref role="3uigEE" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+                    </node>
+                    <node concept="10QFUN" id="58apqRMLnS1" role="33vP2m">
+                      <node concept="37vLTw" id="58apqRMLnS2" role="10QFUP">
+                        <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+                      </node>
+                      <node concept="3uibUv" id="58apqRMLnS3" role="10QFUM">
+                        <ref role="3uigEE" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="58apqRMLnS4" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMLnS5" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLnS6" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnJ1" resolve="paramSpec" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLnS7" role="37vLTx">
+                      <ref role="3cqZAo" node="58apqRMLnQJ" resolve="params" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="58apqRMLnS8" role="3cqZAp">
+                  <node concept="1Wc70l" id="58apqRMLnS9" role="3clFbw">
+                    <node concept="3fqX7Q" id="58apqRMLnSa" role="3uHU7B">
+                      <node concept="2OqwBi" id="58apqRMLnSb" role="3fr31v">
+                        <node concept="2OqwBi" id="58apqRMLDx7" role="2Oq$k0">
+                          <node concept="37vLTw" id="58apqRMLDx6" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLDx8" role="2OqNvi">
+                            <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getMGFAlgorithm()" resolve="getMGFAlgorithm" />
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="58apqRMLnSd" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~String.equalsIgnoreCase(java.lang.String)" resolve="equalsIgnoreCase" />
+                          <node concept="Xl_RD" id="58apqRMLnSe" role="37wK5m">
+                            <property role="Xl_RC" value="MGF1" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3fqX7Q" id="58apqRMLnSf" role="3uHU7w">
+                      <node concept="2OqwBi" id="58apqRMLnSg" role="3fr31v">
+                        <node concept="2OqwBi" id="58apqRMLANc" role="2Oq$k0">
+                          <node concept="37vLTw" id="58apqRMLANb" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLANd" role="2OqNvi">
+                            <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getMGFAlgorithm()" resolve="getMGFAlgorithm" />
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="58apqRMLnSi" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+                          <node concept="2OqwBi" id="58apqRMLADa" role="37wK5m">
+                            <node concept="10M0yZ" id="58apqRMLAD9" role="2Oq$k0">
+                              <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                              <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.id_mgf1" resolve="id_mgf1" />
+                            </node>
+                            <node concept="liA8E" id="58apqRMLADb" role="2OqNvi">
+                              <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnSl" role="3clFbx">
+                    <node concept="YS8fn" id="58apqRMLnSo" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLAR1" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLAVu" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                          <node concept="Xl_RD" id="58apqRMLAVv" role="37wK5m">
+                            <property role="Xl_RC" value="unknown mask generation function specified" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="58apqRMLnSp" role="3cqZAp">
+                  <node concept="3fqX7Q" id="58apqRMLnSq" role="3clFbw">
+                    <node concept="1eOMI4" id="58apqRMLnSu" role="3fr31v">
+                      <node concept="2ZW3vV" id="58apqRMLnSt" role="1eOMHV">
+                        <node concept="2OqwBi" id="58apqRMLBz1" role="2ZW6bz">
+                          <node concept="37vLTw" id="58apqRMLBz0" role="2Oq$k0">
+                            <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                          </node>
+                          <node concept="liA8E" id="58apqRMLBz2" role="2OqNvi">
+                            <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getMGFParameters()" resolve="getMGFParameters" />
+                          </node>
+                        </node>
+                        <node concept="3uibUv" id="58apqRMLnSs" role="2ZW6by">
+                          <ref role="3uigEE" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnSw" role="3clFbx">
+                    <node concept="YS8fn" id="58apqRMLnSz" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLAF4" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLAFj" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                          <node concept="Xl_RD" id="58apqRMLAFk" role="37wK5m">
+                            <property role="Xl_RC" value="unkown MGF parameters" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="58apqRMLnS_" role="3cqZAp">
+                  <node concept="3cpWsn" id="58apqRMLnS$" role="3cpWs9">
+                    <property role="TrG5h" value="digest" />
+                    <node concept="3uibUv" id="58apqRMLnSA" role="1tU5fm">
+                      <ref role="3uigEE" to="6y4x:~Digest" resolve="Digest" />
+                    </node>
+                    <node concept="2YIFZM" id="58apqRMLB5g" role="33vP2m">
+                      <ref role="1Pybhc" to="pbt1:~DigestFactory" resolve="DigestFactory" />
+                      <ref role="37wK5l" to="pbt1:~DigestFactory.getDigest(java.lang.String)" resolve="getDigest" />
+                      <node concept="2OqwBi" id="58apqRMLIER" role="37wK5m">
+                        <node concept="37vLTw" id="58apqRMLIEQ" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                        </node>
+                        <node concept="liA8E" id="58apqRMLIES" role="2OqNvi">
+                          <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="58apqRMLnSD" role="3cqZAp">
+                  <node concept="3clFbC" id="58apqRMLnSE" role="3clFbw">
+                    <node concept="37vLTw" id="58apqRMLnSF" role="3uHU7B">
+                      <ref role="3cqZAo" node="58apqRMLnS$" resolve="digest" />
+                    </node>
+                    <node concept="10Nm6u" id="58apqRMLnSG" role="3uHU7w" />
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnSI" role="3clFbx">
+                    <node concept="YS8fn" id="58apqRMLnSN" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLBSg" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLC12" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                          <node concept="3cpWs3" id="58apqRMLC13" role="37wK5m">
+                            <node concept="Xl_RD" id="58apqRMLC14" role="3uHU7B">
+                              <property role="Xl_RC" value="no match on digest algorithm: " />
+                            </node>
+                            <node concept="2OqwBi" id="58apqRMLInt" role="3uHU7w">
+                              <node concept="37vLTw" id="58apqRMLIns" role="2Oq$k0">
+                                <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                              </node>
+                              <node concept="liA8E" id="58apqRMLInu" role="2OqNvi">
+                                <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="58apqRMLnSP" role="3cqZAp">
+                  <node concept="3cpWsn" id="58apqRMLnSO" role="3cpWs9">
+                    <property role="TrG5h" value="mgfParams" />
+                    <node concept="3uibUv" id="58apqRMLnSQ" role="1tU5fm">
+                      <ref role="3uigEE" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                    </node>
+                    <node concept="10QFUN" id="58apqRMLnSR" role="33vP2m">
+                      <node concept="2OqwBi" id="58apqRML_LK" role="10QFUP">
+                        <node concept="37vLTw" id="58apqRML_LJ" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                        </node>
+                        <node concept="liA8E" id="58apqRML_LL" role="2OqNvi">
+                          <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getMGFParameters()" resolve="getMGFParameters" />
+                        </node>
+                      </node>
+                      <node concept="3uibUv" id="58apqRMLnST" role="10QFUM">
+                        <ref role="3uigEE" to="41y5:~MGF1ParameterSpec" resolve="MGF1ParameterSpec" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="58apqRMLnSV" role="3cqZAp">
+                  <node concept="3cpWsn" id="58apqRMLnSU" role="3cpWs9">
+                    <property role="TrG5h" value="mgfDigest" />
+                    <node concept="3uibUv" id="58apqRMLnSW" role="1tU5fm">
+                      <ref role="3uigEE" to="6y4x:~Digest" resolve="Digest" />
+                    </node>
+                    <node concept="2YIFZM" id="58apqRMLA$v" role="33vP2m">
+                      <ref role="1Pybhc" to="pbt1:~DigestFactory" resolve="DigestFactory" />
+                      <ref role="37wK5l" to="pbt1:~DigestFactory.getDigest(java.lang.String)" resolve="getDigest" />
+                      <node concept="2OqwBi" id="58apqRMLA$w" role="37wK5m">
+                        <node concept="37vLTw" id="58apqRMLA$x" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnSO" resolve="mgfParams" />
+                        </node>
+                        <node concept="liA8E" id="58apqRMLA$y" role="2OqNvi">
+                          <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="58apqRMLnSZ" role="3cqZAp">
+                  <node concept="3clFbC" id="58apqRMLnT0" role="3clFbw">
+                    <node concept="37vLTw" id="58apqRMLnT1" role="3uHU7B">
+                      <ref role="3cqZAo" node="58apqRMLnSU" resolve="mgfDigest" />
+                    </node>
+                    <node concept="10Nm6u" id="58apqRMLnT2" role="3uHU7w" />
+                  </node>
+                  <node concept="3clFbS" id="58apqRMLnT4" role="3clFbx">
+                    <node concept="YS8fn" id="58apqRMLnT9" role="3cqZAp">
+                      <node concept="2ShNRf" id="58apqRMLAGy" role="YScLw">
+                        <node concept="1pGfFk" id="58apqRMLAL6" role="2ShVmc">
+                          <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                          <node concept="3cpWs3" id="58apqRMLAL7" role="37wK5m">
+                            <node concept="Xl_RD" id="58apqRMLAL8" role="3uHU7B">
+                              <property role="Xl_RC" value="no match on MGF digest algorithm: " />
+                            </node>
+                            <node concept="2OqwBi" id="58apqRMLIBz" role="3uHU7w">
+                              <node concept="37vLTw" id="58apqRMLIBy" role="2Oq$k0">
+                                <ref role="3cqZAo" node="58apqRMLnSO" resolve="mgfParams" />
+                              </node>
+                              <node concept="liA8E" id="58apqRMLIB$" role="2OqNvi">
+                                <ref role="37wK5l" to="41y5:~MGF1ParameterSpec.getDigestAlgorithm()" resolve="getDigestAlgorithm" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="58apqRMLnTa" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMLnTb" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLnTc" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="2ShNRf" id="58apqRMLBNG" role="37vLTx">
+                      <node concept="1pGfFk" id="58apqRMLBQU" role="2ShVmc">
+                        <ref role="37wK5l" to="quxv:~OAEPEncoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher,org.bouncycastle.crypto.Digest,org.bouncycastle.crypto.Digest,byte[])" resolve="OAEPEncoding" />
+                        <node concept="2ShNRf" id="58apqRMLBQV" role="37wK5m">
+                          <node concept="1pGfFk" id="58apqRMLBQW" role="2ShVmc">
+                            <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="58apqRMLBQX" role="37wK5m">
+                          <ref role="3cqZAo" node="58apqRMLnS$" resolve="digest" />
+                        </node>
+                        <node concept="37vLTw" id="58apqRMLBQY" role="37wK5m">
+                          <ref role="3cqZAo" node="58apqRMLnSU" resolve="mgfDigest" />
+                        </node>
+                        <node concept="2OqwBi" id="58apqRMLBQZ" role="37wK5m">
+                          <node concept="1eOMI4" id="58apqRMLBR0" role="2Oq$k0">
+                            <node concept="10QFUN" id="58apqRMLBR1" role="1eOMHV">
+                              <node concept="2OqwBi" id="58apqRMLIAt" role="10QFUP">
+                                <node concept="37vLTw" id="58apqRMLIAs" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="58apqRMLnRY" resolve="spec" />
+                                </node>
+                                <node concept="liA8E" id="58apqRMLIAu" role="2OqNvi">
+                                  <ref role="37wK5l" to="7lc:~OAEPParameterSpec.getPSource()" resolve="getPSource" />
+                                </node>
+                              </node>
+                              <node concept="3uibUv" id="58apqRMLBR3" role="10QFUM">
+                                <ref role="3uigEE" to="7lc:~PSource$PSpecified" resolve="PSource.PSpecified" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="liA8E" id="58apqRMLBR4" role="2OqNvi">
+                            <ref role="37wK5l" to="7lc:~PSource$PSpecified.getValue()" resolve="getValue" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnTw" role="3cqZAp">
+          <node concept="3fqX7Q" id="58apqRMLnTx" role="3clFbw">
+            <node concept="1eOMI4" id="58apqRMLnT_" role="3fr31v">
+              <node concept="2ZW3vV" id="58apqRMLnT$" role="1eOMHV">
+                <node concept="37vLTw" id="58apqRMLnTy" role="2ZW6bz">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="3uibUv" id="58apqRMLnTz" role="2ZW6by">
+                  <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnTB" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnTC" role="3cqZAp">
+              <node concept="3y3z36" id="58apqRMLnTD" role="3clFbw">
+                <node concept="37vLTw" id="58apqRMLnTE" role="3uHU7B">
+                  <ref role="3cqZAo" node="58apqRMLnQL" resolve="random" />
+                </node>
+                <node concept="10Nm6u" id="58apqRMLnTF" role="3uHU7w" />
+              </node>
+              <node concept="9aQIb" id="58apqRMLnTO" role="9aQIa">
+                <node concept="3clFbS" id="58apqRMLnTP" role="9aQI4">
+                  <node concept="3clFbF" id="58apqRMLnTQ" role="3cqZAp">
+                    <node concept="37vLTI" id="58apqRMLnTR" role="3clFbG">
+                      <node concept="37vLTw" id="58apqRMLnTS" role="37vLTJ">
+                        <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                      </node>
+                      <node concept="2ShNRf" id="58apqRMLCMg" role="37vLTx">
+                        <node concept="1pGfFk" id="58apqRMLCME" role="2ShVmc">
+                          <ref role="37wK5l" to="25z7:~ParametersWithRandom.&lt;init&gt;(org.bouncycastle.crypto.CipherParameters,java.security.SecureRandom)" resolve="ParametersWithRandom" />
+                          <node concept="37vLTw" id="58apqRMLCMF" role="37wK5m">
+                            <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                          </node>
+                          <node concept="2YIFZM" id="58apqRMLIk5" role="37wK5m">
+                            <ref role="1Pybhc" to="6y4x:~CryptoServicesRegistrar" resolve="CryptoServicesRegistrar" />
+                            <ref role="37wK5l" to="6y4x:~CryptoServicesRegistrar.getSecureRandom()" resolve="getSecureRandom" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnTH" role="3clFbx">
+                <node concept="3clFbF" id="58apqRMLnTI" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMLnTJ" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLnTK" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                    </node>
+                    <node concept="2ShNRf" id="58apqRMLC$6" role="37vLTx">
+                      <node concept="1pGfFk" id="58apqRMLC$r" role="2ShVmc">
+                        <ref role="37wK5l" to="25z7:~ParametersWithRandom.&lt;init&gt;(org.bouncycastle.crypto.CipherParameters,java.security.SecureRandom)" resolve="ParametersWithRandom" />
+                        <node concept="37vLTw" id="58apqRMLC$s" role="37wK5m">
+                          <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                        </node>
+                        <node concept="37vLTw" id="58apqRMLC$t" role="37wK5m">
+                          <ref role="3cqZAo" node="58apqRMLnQL" resolve="random" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnTW" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLDnY" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLDnX" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+            </node>
+            <node concept="liA8E" id="58apqRMLDnZ" role="2OqNvi">
+              <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.reset()" resolve="reset" />
+            </node>
+          </node>
+        </node>
+        <node concept="3KaCP$" id="58apqRMLnTZ" role="3cqZAp">
+          <node concept="37vLTw" id="58apqRMLnTY" role="3KbGdf">
+            <ref role="3cqZAo" node="58apqRMLnQF" resolve="opmode" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnU0" role="3Kb1Dw">
+            <node concept="YS8fn" id="58apqRMLnUt" role="3cqZAp">
+              <node concept="2ShNRf" id="58apqRML_wm" role="YScLw">
+                <node concept="1pGfFk" id="58apqRML_$Y" role="2ShVmc">
+                  <ref role="37wK5l" to="jgjw:~InvalidParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidParameterException" />
+                  <node concept="3cpWs3" id="58apqRML_$Z" role="37wK5m">
+                    <node concept="3cpWs3" id="58apqRML__0" role="3uHU7B">
+                      <node concept="Xl_RD" id="58apqRML__1" role="3uHU7B">
+                        <property role="Xl_RC" value="unknown opmode " />
+                      </node>
+                      <node concept="37vLTw" id="58apqRML__2" role="3uHU7w">
+                        <ref role="3cqZAo" node="58apqRMLnQF" resolve="opmode" />
+                      </node>
+                    </node>
+                    <node concept="Xl_RD" id="58apqRML__3" role="3uHU7w">
+                      <property role="Xl_RC" value=" passed to RSA" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3KbdKl" id="58apqRMLnU2" role="3KbHQx">
+            <node concept="10M0yZ" id="58apqRMLAWI" role="3Kbmr1">
+              <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+              <ref role="3cqZAo" to="pfyx:~Cipher.ENCRYPT_MODE" resolve="ENCRYPT_MODE" />
+            </node>
+          </node>
+          <node concept="3KbdKl" id="58apqRMLnU5" role="3KbHQx">
+            <node concept="10M0yZ" id="58apqRMLBvN" role="3Kbmr1">
+              <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+              <ref role="3cqZAo" to="pfyx:~Cipher.WRAP_MODE" resolve="WRAP_MODE" />
+            </node>
+            <node concept="3clFbS" id="58apqRMLnU6" role="3Kbo56">
+              <node concept="3clFbF" id="58apqRMLnU7" role="3cqZAp">
+                <node concept="2OqwBi" id="58apqRMLC1d" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRMLC1c" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLC1e" role="2OqNvi">
+                    <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.init(boolean,org.bouncycastle.crypto.CipherParameters)" resolve="init" />
+                    <node concept="3clFbT" id="58apqRMLC1f" role="37wK5m">
+                      <property role="3clFbU" value="true" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLC1g" role="37wK5m">
+                      <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3zACq4" id="58apqRMLnUb" role="3cqZAp" />
+            </node>
+          </node>
+          <node concept="3KbdKl" id="58apqRMLnUd" role="3KbHQx">
+            <node concept="10M0yZ" id="58apqRMLC_I" role="3Kbmr1">
+              <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+              <ref role="3cqZAo" to="pfyx:~Cipher.DECRYPT_MODE" resolve="DECRYPT_MODE" />
+            </node>
+          </node>
+          <node concept="3KbdKl" id="58apqRMLnUg" role="3KbHQx">
+            <node concept="10M0yZ" id="58apqRMLCdB" role="3Kbmr1">
+              <ref role="1PxDUh" to="pfyx:~Cipher" resolve="Cipher" />
+              <ref role="3cqZAo" to="pfyx:~Cipher.UNWRAP_MODE" resolve="UNWRAP_MODE" />
+            </node>
+            <node concept="3clFbS" id="58apqRMLnUh" role="3Kbo56">
+              <node concept="3clFbF" id="58apqRMLnUi" role="3cqZAp">
+                <node concept="2OqwBi" id="58apqRML_tN" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRML_tM" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                  </node>
+                  <node concept="liA8E" id="58apqRML_tO" role="2OqNvi">
+                    <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.init(boolean,org.bouncycastle.crypto.CipherParameters)" resolve="init" />
+                    <node concept="3clFbT" id="58apqRML_tP" role="37wK5m" />
+                    <node concept="37vLTw" id="58apqRML_tQ" role="37wK5m">
+                      <ref role="3cqZAo" node="58apqRMLnQQ" resolve="param" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3zACq4" id="58apqRMLnUm" role="3cqZAp" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnUu" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnUv" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnUw" role="jymVt">
+      <property role="TrG5h" value="engineInit" />
+      <node concept="37vLTG" id="58apqRMLnUx" role="3clF46">
+        <property role="TrG5h" value="opmode" />
+        <node concept="10Oyi0" id="58apqRMLnUy" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnUz" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLnU$" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~Key" resolve="Key" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnU_" role="3clF46">
+        <property role="TrG5h" value="params" />
+        <node concept="3uibUv" id="58apqRMLnUA" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnUB" role="3clF46">
+        <property role="TrG5h" value="random" />
+        <node concept="3uibUv" id="58apqRMLnUC" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnUD" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~InvalidKeyException" resolve="InvalidKeyException" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnUE" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnUF" role="3clF47">
+        <node concept="3cpWs8" id="58apqRMLnUH" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnUG" role="3cpWs9">
+            <property role="TrG5h" value="paramSpec" />
+            <node concept="3uibUv" id="58apqRMLnUI" role="1tU5fm">
+              <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnUJ" role="33vP2m" />
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnUK" role="3cqZAp">
+          <node concept="3y3z36" id="58apqRMLnUL" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnUM" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnU_" resolve="params" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnUN" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnUP" role="3clFbx">
+            <node concept="3J1_TO" id="58apqRMLnV9" role="3cqZAp">
+              <node concept="3uVAMA" id="58apqRMLnVa" role="1zxBo5">
+                <node concept="3clFbS" id="58apqRMLnV2" role="1zc67A">
+                  <node concept="YS8fn" id="58apqRMLnV8" role="3cqZAp">
+                    <node concept="2ShNRf" id="58apqRMLD$8" role="YScLw">
+                      <node concept="1pGfFk" id="58apqRMLDFd" role="2ShVmc">
+                        <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String,java.lang.Throwable)" resolve="InvalidAlgorithmParameterException" />
+                        <node concept="3cpWs3" id="58apqRMLDFe" role="37wK5m">
+                          <node concept="Xl_RD" id="58apqRMLDFf" role="3uHU7B">
+                            <property role="Xl_RC" value="cannot recognise parameters: " />
+                          </node>
+                          <node concept="2OqwBi" id="58apqRMLDFg" role="3uHU7w">
+                            <node concept="37vLTw" id="58apqRMLDFh" role="2Oq$k0">
+                              <ref role="3cqZAo" node="58apqRMLnUY" resolve="e" />
+                            </node>
+                            <node concept="liA8E" id="58apqRMLDFi" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~Throwable.toString()" resolve="toString" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="58apqRMLDFv" role="37wK5m">
+                          <ref role="3cqZAo" node="58apqRMLnUY" resolve="e" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="XOnhg" id="58apqRMLnUY" role="1zc67B">
+                  <property role="TrG5h" value="e" />
+                  <node concept="nSUau" id="58apqRMLnV0" role="1tU5fm">
+                    <node concept="3uibUv" id="58apqRMLnUZ" role="nSUat">
+                      <ref role="3uigEE" to="41y5:~InvalidParameterSpecException" resolve="InvalidParameterSpecException" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnUR" role="1zxBo7">
+                <node concept="3clFbF" id="58apqRMLnUS" role="3cqZAp">
+                  <node concept="37vLTI" id="58apqRMLnUT" role="3clFbG">
+                    <node concept="37vLTw" id="58apqRMLnUU" role="37vLTJ">
+                      <ref role="3cqZAo" node="58apqRMLnUG" resolve="paramSpec" />
+                    </node>
+                    <node concept="2OqwBi" id="58apqRMLDsy" role="37vLTx">
+                      <node concept="37vLTw" id="58apqRMLDsx" role="2Oq$k0">
+                        <ref role="3cqZAo" node="58apqRMLnU_" resolve="params" />
+                      </node>
+                      <node concept="liA8E" id="58apqRMLDsz" role="2OqNvi">
+                        <ref role="37wK5l" to="jgjw:~AlgorithmParameters.getParameterSpec(java.lang.Class)" resolve="getParameterSpec" />
+                        <node concept="3VsKOn" id="58apqRMLDs$" role="37wK5m">
+                          <ref role="3VsUkX" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnVb" role="3cqZAp">
+          <node concept="37vLTI" id="58apqRMLnVc" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLnVd" role="37vLTJ">
+              <ref role="3cqZAo" node="58apqRMLnJ5" resolve="engineParams" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnVe" role="37vLTx">
+              <ref role="3cqZAo" node="58apqRMLnU_" resolve="params" />
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="58apqRMLnVf" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMLnVg" role="3clFbG">
+            <ref role="37wK5l" node="58apqRMLnQE" resolve="engineInit" />
+            <node concept="37vLTw" id="58apqRMLnVh" role="37wK5m">
+              <ref role="3cqZAo" node="58apqRMLnUx" resolve="opmode" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnVi" role="37wK5m">
+              <ref role="3cqZAo" node="58apqRMLnUz" resolve="key" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnVj" role="37wK5m">
+              <ref role="3cqZAo" node="58apqRMLnUG" resolve="paramSpec" />
+            </node>
+            <node concept="37vLTw" id="58apqRMLnVk" role="37wK5m">
+              <ref role="3cqZAo" node="58apqRMLnUB" resolve="random" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnVl" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnVm" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnVn" role="jymVt">
+      <property role="TrG5h" value="engineInit" />
+      <node concept="37vLTG" id="58apqRMLnVo" role="3clF46">
+        <property role="TrG5h" value="opmode" />
+        <node concept="10Oyi0" id="58apqRMLnVp" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnVq" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="58apqRMLnVr" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~Key" resolve="Key" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnVs" role="3clF46">
+        <property role="TrG5h" value="random" />
+        <node concept="3uibUv" id="58apqRMLnVt" role="1tU5fm">
+          <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+        </node>
+      </node>
+      <node concept="3uibUv" id="58apqRMLnVu" role="Sfmx6">
+        <ref role="3uigEE" to="jgjw:~InvalidKeyException" resolve="InvalidKeyException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnVv" role="3clF47">
+        <node concept="3J1_TO" id="58apqRMLnVP" role="3cqZAp">
+          <node concept="3uVAMA" id="58apqRMLnVQ" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLnVI" role="1zc67A">
+              <node concept="3SKdUt" id="58apqRMLo13" role="3cqZAp">
+                <node concept="1PaTwC" id="58apqRMLo14" role="1aUNEU">
+                  <node concept="3oM_SD" id="58apqRMLo15" role="1PaTwD">
+                    <property role="3oM_SC" value="this" />
+                  </node>
+                  <node concept="3oM_SD" id="58apqRMLo16" role="1PaTwD">
+                    <property role="3oM_SC" value="shouldn't" />
+                  </node>
+                  <node concept="3oM_SD" id="58apqRMLo17" role="1PaTwD">
+                    <property role="3oM_SC" value="happen" />
+                  </node>
+                </node>
+              </node>
+              <node concept="YS8fn" id="58apqRMLnVO" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLDdl" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLDkp" role="2ShVmc">
+                    <ref role="37wK5l" to="jgjw:~InvalidKeyException.&lt;init&gt;(java.lang.String,java.lang.Throwable)" resolve="InvalidKeyException" />
+                    <node concept="3cpWs3" id="58apqRMLDkq" role="37wK5m">
+                      <node concept="Xl_RD" id="58apqRMLDkr" role="3uHU7B">
+                        <property role="Xl_RC" value="Eeeek! " />
+                      </node>
+                      <node concept="2OqwBi" id="58apqRMLDks" role="3uHU7w">
+                        <node concept="37vLTw" id="58apqRMLDkt" role="2Oq$k0">
+                          <ref role="3cqZAo" node="58apqRMLnVE" resolve="e" />
+                        </node>
+                        <node concept="liA8E" id="58apqRMLDku" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Throwable.toString()" resolve="toString" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLDkF" role="37wK5m">
+                      <ref role="3cqZAo" node="58apqRMLnVE" resolve="e" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLnVE" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLnVG" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLnVF" role="nSUat">
+                  <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnVx" role="1zxBo7">
+            <node concept="3clFbF" id="58apqRMLnVy" role="3cqZAp">
+              <node concept="1rXfSq" id="58apqRMLnVz" role="3clFbG">
+                <ref role="37wK5l" node="58apqRMLnQE" resolve="engineInit" />
+                <node concept="37vLTw" id="58apqRMLnV$" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnVo" resolve="opmode" />
+                </node>
+                <node concept="37vLTw" id="58apqRMLnV_" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnVq" resolve="key" />
+                </node>
+                <node concept="10QFUN" id="58apqRMLnVA" role="37wK5m">
+                  <node concept="10Nm6u" id="58apqRMLnVB" role="10QFUP" />
+                  <node concept="3uibUv" id="58apqRMLnVC" role="10QFUM">
+                    <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="58apqRMLnVD" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnVs" resolve="random" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnVR" role="1B3o_S" />
+      <node concept="3cqZAl" id="58apqRMLnVS" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnVT" role="jymVt">
+      <property role="TrG5h" value="engineUpdate" />
+      <node concept="37vLTG" id="58apqRMLnVU" role="3clF46">
+        <property role="TrG5h" value="input" />
+        <node concept="10Q1$e" id="58apqRMLnVW" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnVV" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnVX" role="3clF46">
+        <property role="TrG5h" value="inputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnVY" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnVZ" role="3clF46">
+        <property role="TrG5h" value="inputLen" />
+        <node concept="10Oyi0" id="58apqRMLnW0" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnW1" role="3clF47">
+        <node concept="3clFbF" id="58apqRMLnW2" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRML___" role="3clFbG">
+            <node concept="37vLTw" id="58apqRML__$" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+            </node>
+            <node concept="liA8E" id="58apqRML__A" role="2OqNvi">
+              <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.write(byte[],int,int)" resolve="write" />
+              <node concept="37vLTw" id="58apqRML__B" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnVU" resolve="input" />
+              </node>
+              <node concept="37vLTw" id="58apqRML__C" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnVX" resolve="inputOffset" />
+              </node>
+              <node concept="37vLTw" id="58apqRML__D" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnVZ" resolve="inputLen" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnW7" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLnWa" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnW8" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLnW9" role="2ZW6by">
+              <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLnWo" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLnWp" role="9aQI4">
+              <node concept="3clFbJ" id="58apqRMLnWq" role="3cqZAp">
+                <node concept="3eOSWO" id="58apqRMLnWr" role="3clFbw">
+                  <node concept="2OqwBi" id="58apqRML_qD" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRML_qC" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRML_qE" role="2OqNvi">
+                      <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRML_FR" role="3uHU7w">
+                    <node concept="37vLTw" id="58apqRML_FQ" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRML_FS" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnWv" role="3clFbx">
+                  <node concept="YS8fn" id="58apqRMLnWy" role="3cqZAp">
+                    <node concept="2ShNRf" id="58apqRMLCTn" role="YScLw">
+                      <node concept="1pGfFk" id="58apqRMLCTz" role="2ShVmc">
+                        <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                        <node concept="Xl_RD" id="58apqRMLCT$" role="37wK5m">
+                          <property role="Xl_RC" value="too much data for RSA block" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnWc" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnWd" role="3cqZAp">
+              <node concept="3eOSWO" id="58apqRMLnWe" role="3clFbw">
+                <node concept="2OqwBi" id="58apqRMLAFq" role="3uHU7B">
+                  <node concept="37vLTw" id="58apqRMLAFp" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLAFr" role="2OqNvi">
+                    <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="58apqRMLnWg" role="3uHU7w">
+                  <node concept="2OqwBi" id="58apqRMLCTE" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLCTD" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLCTF" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="58apqRMLnWi" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnWk" role="3clFbx">
+                <node concept="YS8fn" id="58apqRMLnWn" role="3cqZAp">
+                  <node concept="2ShNRf" id="58apqRMLDwN" role="YScLw">
+                    <node concept="1pGfFk" id="58apqRMLDx0" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                      <node concept="Xl_RD" id="58apqRMLDx1" role="37wK5m">
+                        <property role="Xl_RC" value="too much data for RSA block" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLnWz" role="3cqZAp">
+          <node concept="10Nm6u" id="58apqRMLnW$" role="3cqZAk" />
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnW_" role="1B3o_S" />
+      <node concept="10Q1$e" id="58apqRMLnWB" role="3clF45">
+        <node concept="10PrrI" id="58apqRMLnWA" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="58apqRMLnWC" role="jymVt">
+      <property role="TrG5h" value="engineUpdate" />
+      <node concept="37vLTG" id="58apqRMLnWD" role="3clF46">
+        <property role="TrG5h" value="input" />
+        <node concept="10Q1$e" id="58apqRMLnWF" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnWE" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnWG" role="3clF46">
+        <property role="TrG5h" value="inputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnWH" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnWI" role="3clF46">
+        <property role="TrG5h" value="inputLen" />
+        <node concept="10Oyi0" id="58apqRMLnWJ" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnWK" role="3clF46">
+        <property role="TrG5h" value="output" />
+        <node concept="10Q1$e" id="58apqRMLnWM" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnWL" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnWN" role="3clF46">
+        <property role="TrG5h" value="outputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnWO" role="1tU5fm" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnWP" role="3clF47">
+        <node concept="3clFbF" id="58apqRMLnWQ" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLBKS" role="3clFbG">
+            <node concept="37vLTw" id="58apqRMLBKR" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+            </node>
+            <node concept="liA8E" id="58apqRMLBKT" role="2OqNvi">
+              <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.write(byte[],int,int)" resolve="write" />
+              <node concept="37vLTw" id="58apqRMLBKU" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnWD" resolve="input" />
+              </node>
+              <node concept="37vLTw" id="58apqRMLBKV" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnWG" resolve="inputOffset" />
+              </node>
+              <node concept="37vLTw" id="58apqRMLBKW" role="37wK5m">
+                <ref role="3cqZAo" node="58apqRMLnWI" resolve="inputLen" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnWV" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLnWY" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnWW" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLnWX" role="2ZW6by">
+              <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLnXc" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLnXd" role="9aQI4">
+              <node concept="3clFbJ" id="58apqRMLnXe" role="3cqZAp">
+                <node concept="3eOSWO" id="58apqRMLnXf" role="3clFbw">
+                  <node concept="2OqwBi" id="58apqRMLAV_" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLAV$" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLAVA" role="2OqNvi">
+                      <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLBFy" role="3uHU7w">
+                    <node concept="37vLTw" id="58apqRMLBFx" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLBFz" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnXj" role="3clFbx">
+                  <node concept="YS8fn" id="58apqRMLnXm" role="3cqZAp">
+                    <node concept="2ShNRf" id="58apqRMLCbd" role="YScLw">
+                      <node concept="1pGfFk" id="58apqRMLCbp" role="2ShVmc">
+                        <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                        <node concept="Xl_RD" id="58apqRMLCbq" role="37wK5m">
+                          <property role="Xl_RC" value="too much data for RSA block" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnX0" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnX1" role="3cqZAp">
+              <node concept="3eOSWO" id="58apqRMLnX2" role="3clFbw">
+                <node concept="2OqwBi" id="58apqRMLCEk" role="3uHU7B">
+                  <node concept="37vLTw" id="58apqRMLCEj" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLCEl" role="2OqNvi">
+                    <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="58apqRMLnX4" role="3uHU7w">
+                  <node concept="2OqwBi" id="58apqRMLCSk" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLCSj" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLCSl" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="58apqRMLnX6" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnX8" role="3clFbx">
+                <node concept="YS8fn" id="58apqRMLnXb" role="3cqZAp">
+                  <node concept="2ShNRf" id="58apqRMLDJO" role="YScLw">
+                    <node concept="1pGfFk" id="58apqRMLDK0" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                      <node concept="Xl_RD" id="58apqRMLDK1" role="37wK5m">
+                        <property role="Xl_RC" value="too much data for RSA block" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLnXn" role="3cqZAp">
+          <node concept="3cmrfG" id="58apqRMLnXo" role="3cqZAk">
+            <property role="3cmrfH" value="0" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnXp" role="1B3o_S" />
+      <node concept="10Oyi0" id="58apqRMLnXq" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnXr" role="jymVt">
+      <property role="TrG5h" value="engineDoFinal" />
+      <node concept="37vLTG" id="58apqRMLnXs" role="3clF46">
+        <property role="TrG5h" value="input" />
+        <node concept="10Q1$e" id="58apqRMLnXu" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnXt" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnXv" role="3clF46">
+        <property role="TrG5h" value="inputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnXw" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnXx" role="3clF46">
+        <property role="TrG5h" value="inputLen" />
+        <node concept="10Oyi0" id="58apqRMLnXy" role="1tU5fm" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnXz" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~IllegalBlockSizeException" resolve="IllegalBlockSizeException" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnX$" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~BadPaddingException" resolve="BadPaddingException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnX_" role="3clF47">
+        <node concept="3clFbJ" id="58apqRMLnXA" role="3cqZAp">
+          <node concept="3y3z36" id="58apqRMLnXB" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnXC" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnXs" resolve="input" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnXD" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnXF" role="3clFbx">
+            <node concept="3clFbF" id="58apqRMLnXG" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLC_O" role="3clFbG">
+                <node concept="37vLTw" id="58apqRMLC_N" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                </node>
+                <node concept="liA8E" id="58apqRMLC_P" role="2OqNvi">
+                  <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.write(byte[],int,int)" resolve="write" />
+                  <node concept="37vLTw" id="58apqRMLC_Q" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnXs" resolve="input" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLC_R" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnXv" resolve="inputOffset" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLC_S" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnXx" resolve="inputLen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnXL" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLnXO" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnXM" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLnXN" role="2ZW6by">
+              <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLnY2" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLnY3" role="9aQI4">
+              <node concept="3clFbJ" id="58apqRMLnY4" role="3cqZAp">
+                <node concept="3eOSWO" id="58apqRMLnY5" role="3clFbw">
+                  <node concept="2OqwBi" id="58apqRMLDkQ" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLDkP" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLDkR" role="2OqNvi">
+                      <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLDFE" role="3uHU7w">
+                    <node concept="37vLTw" id="58apqRMLDFD" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLDFF" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnY9" role="3clFbx">
+                  <node concept="YS8fn" id="58apqRMLnYc" role="3cqZAp">
+                    <node concept="2ShNRf" id="58apqRML_w4" role="YScLw">
+                      <node concept="1pGfFk" id="58apqRML_wh" role="2ShVmc">
+                        <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                        <node concept="Xl_RD" id="58apqRML_wi" role="37wK5m">
+                          <property role="Xl_RC" value="too much data for RSA block" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnXQ" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnXR" role="3cqZAp">
+              <node concept="3eOSWO" id="58apqRMLnXS" role="3clFbw">
+                <node concept="2OqwBi" id="58apqRMLAzm" role="3uHU7B">
+                  <node concept="37vLTw" id="58apqRMLAzl" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLAzn" role="2OqNvi">
+                    <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="58apqRMLnXU" role="3uHU7w">
+                  <node concept="2OqwBi" id="58apqRMLAAP" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLAAO" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLAAQ" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="58apqRMLnXW" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnXY" role="3clFbx">
+                <node concept="YS8fn" id="58apqRMLnY1" role="3cqZAp">
+                  <node concept="2ShNRf" id="58apqRMLAQK" role="YScLw">
+                    <node concept="1pGfFk" id="58apqRMLAQW" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                      <node concept="Xl_RD" id="58apqRMLAQX" role="37wK5m">
+                        <property role="Xl_RC" value="too much data for RSA block" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLnYd" role="3cqZAp">
+          <node concept="1rXfSq" id="58apqRMLnYe" role="3cqZAk">
+            <ref role="37wK5l" node="58apqRMLnZQ" resolve="getOutput" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnYf" role="1B3o_S" />
+      <node concept="10Q1$e" id="58apqRMLnYh" role="3clF45">
+        <node concept="10PrrI" id="58apqRMLnYg" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="58apqRMLnYi" role="jymVt">
+      <property role="TrG5h" value="engineDoFinal" />
+      <node concept="37vLTG" id="58apqRMLnYj" role="3clF46">
+        <property role="TrG5h" value="input" />
+        <node concept="10Q1$e" id="58apqRMLnYl" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnYk" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnYm" role="3clF46">
+        <property role="TrG5h" value="inputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnYn" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnYo" role="3clF46">
+        <property role="TrG5h" value="inputLen" />
+        <node concept="10Oyi0" id="58apqRMLnYp" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="58apqRMLnYq" role="3clF46">
+        <property role="TrG5h" value="output" />
+        <node concept="10Q1$e" id="58apqRMLnYs" role="1tU5fm">
+          <node concept="10PrrI" id="58apqRMLnYr" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="58apqRMLnYt" role="3clF46">
+        <property role="TrG5h" value="outputOffset" />
+        <node concept="10Oyi0" id="58apqRMLnYu" role="1tU5fm" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnYv" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~IllegalBlockSizeException" resolve="IllegalBlockSizeException" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnYw" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~BadPaddingException" resolve="BadPaddingException" />
+      </node>
+      <node concept="3uibUv" id="58apqRMLnYx" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~ShortBufferException" resolve="ShortBufferException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnYy" role="3clF47">
+        <node concept="3clFbJ" id="58apqRMLnYz" role="3cqZAp">
+          <node concept="3eOSWO" id="58apqRMLnY$" role="3clFbw">
+            <node concept="3cpWs3" id="58apqRMLnY_" role="3uHU7B">
+              <node concept="37vLTw" id="58apqRMLnYA" role="3uHU7B">
+                <ref role="3cqZAo" node="58apqRMLnYt" resolve="outputOffset" />
+              </node>
+              <node concept="1rXfSq" id="58apqRMLnYB" role="3uHU7w">
+                <ref role="37wK5l" node="58apqRMLnLT" resolve="engineGetOutputSize" />
+                <node concept="37vLTw" id="58apqRMLnYC" role="37wK5m">
+                  <ref role="3cqZAo" node="58apqRMLnYo" resolve="inputLen" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="58apqRMLCOb" role="3uHU7w">
+              <node concept="37vLTw" id="58apqRMLCOa" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnYq" resolve="output" />
+              </node>
+              <node concept="1Rwk04" id="58apqRMLLEE" role="2OqNvi" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnYF" role="3clFbx">
+            <node concept="YS8fn" id="58apqRMLnYI" role="3cqZAp">
+              <node concept="2ShNRf" id="58apqRMLD9r" role="YScLw">
+                <node concept="1pGfFk" id="58apqRMLD9A" role="2ShVmc">
+                  <ref role="37wK5l" to="pfyx:~ShortBufferException.&lt;init&gt;(java.lang.String)" resolve="ShortBufferException" />
+                  <node concept="Xl_RD" id="58apqRMLD9B" role="37wK5m">
+                    <property role="Xl_RC" value="output buffer too short for input." />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnYJ" role="3cqZAp">
+          <node concept="3y3z36" id="58apqRMLnYK" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnYL" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnYj" resolve="input" />
+            </node>
+            <node concept="10Nm6u" id="58apqRMLnYM" role="3uHU7w" />
+          </node>
+          <node concept="3clFbS" id="58apqRMLnYO" role="3clFbx">
+            <node concept="3clFbF" id="58apqRMLnYP" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRMLABU" role="3clFbG">
+                <node concept="37vLTw" id="58apqRMLABT" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                </node>
+                <node concept="liA8E" id="58apqRMLABV" role="2OqNvi">
+                  <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.write(byte[],int,int)" resolve="write" />
+                  <node concept="37vLTw" id="58apqRMLABW" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnYj" resolve="input" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLABX" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnYm" resolve="inputOffset" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLABY" role="37wK5m">
+                    <ref role="3cqZAo" node="58apqRMLnYo" resolve="inputLen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="58apqRMLnYU" role="3cqZAp">
+          <node concept="2ZW3vV" id="58apqRMLnYX" role="3clFbw">
+            <node concept="37vLTw" id="58apqRMLnYV" role="2ZW6bz">
+              <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+            </node>
+            <node concept="3uibUv" id="58apqRMLnYW" role="2ZW6by">
+              <ref role="3uigEE" to="qrpw:~RSABlindedEngine" resolve="RSABlindedEngine" />
+            </node>
+          </node>
+          <node concept="9aQIb" id="58apqRMLnZb" role="9aQIa">
+            <node concept="3clFbS" id="58apqRMLnZc" role="9aQI4">
+              <node concept="3clFbJ" id="58apqRMLnZd" role="3cqZAp">
+                <node concept="3eOSWO" id="58apqRMLnZe" role="3clFbw">
+                  <node concept="2OqwBi" id="58apqRMLCCp" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLCCo" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLCCq" role="2OqNvi">
+                      <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                    </node>
+                  </node>
+                  <node concept="2OqwBi" id="58apqRML_IT" role="3uHU7w">
+                    <node concept="37vLTw" id="58apqRML_IS" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRML_IU" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="58apqRMLnZi" role="3clFbx">
+                  <node concept="YS8fn" id="58apqRMLnZl" role="3cqZAp">
+                    <node concept="2ShNRf" id="58apqRML_My" role="YScLw">
+                      <node concept="1pGfFk" id="58apqRML_MI" role="2ShVmc">
+                        <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                        <node concept="Xl_RD" id="58apqRML_MJ" role="37wK5m">
+                          <property role="Xl_RC" value="too much data for RSA block" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnYZ" role="3clFbx">
+            <node concept="3clFbJ" id="58apqRMLnZ0" role="3cqZAp">
+              <node concept="3eOSWO" id="58apqRMLnZ1" role="3clFbw">
+                <node concept="2OqwBi" id="58apqRMLBvT" role="3uHU7B">
+                  <node concept="37vLTw" id="58apqRMLBvS" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLBvU" role="2OqNvi">
+                    <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="58apqRMLnZ3" role="3uHU7w">
+                  <node concept="2OqwBi" id="58apqRMLCc9" role="3uHU7B">
+                    <node concept="37vLTw" id="58apqRMLCc8" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLCca" role="2OqNvi">
+                      <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.getInputBlockSize()" resolve="getInputBlockSize" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="58apqRMLnZ5" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="58apqRMLnZ7" role="3clFbx">
+                <node concept="YS8fn" id="58apqRMLnZa" role="3cqZAp">
+                  <node concept="2ShNRf" id="58apqRMLCoR" role="YScLw">
+                    <node concept="1pGfFk" id="58apqRMLCp3" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~ArrayIndexOutOfBoundsException.&lt;init&gt;(java.lang.String)" resolve="ArrayIndexOutOfBoundsException" />
+                      <node concept="Xl_RD" id="58apqRMLCp4" role="37wK5m">
+                        <property role="Xl_RC" value="too much data for RSA block" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="58apqRMLnZn" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnZm" role="3cpWs9">
+            <property role="TrG5h" value="out" />
+            <node concept="10Q1$e" id="58apqRMLnZp" role="1tU5fm">
+              <node concept="10PrrI" id="58apqRMLnZo" role="10Q1$1" />
+            </node>
+            <node concept="1rXfSq" id="58apqRMLnZq" role="33vP2m">
+              <ref role="37wK5l" node="58apqRMLnZQ" resolve="getOutput" />
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="58apqRMLnZr" role="3cqZAp">
+          <node concept="3cpWsn" id="58apqRMLnZs" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="58apqRMLnZu" role="1tU5fm" />
+            <node concept="3cmrfG" id="58apqRMLnZv" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3y3z36" id="58apqRMLnZw" role="1Dwp0S">
+            <node concept="37vLTw" id="58apqRMLnZx" role="3uHU7B">
+              <ref role="3cqZAo" node="58apqRMLnZs" resolve="i" />
+            </node>
+            <node concept="2OqwBi" id="58apqRML_JY" role="3uHU7w">
+              <node concept="37vLTw" id="58apqRML_JX" role="2Oq$k0">
+                <ref role="3cqZAo" node="58apqRMLnZm" resolve="out" />
+              </node>
+              <node concept="1Rwk04" id="58apqRMLLEF" role="2OqNvi" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="58apqRMLnZ$" role="1Dwrff">
+            <node concept="37vLTw" id="58apqRMLnZ_" role="2$L3a6">
+              <ref role="3cqZAo" node="58apqRMLnZs" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnZB" role="2LFqv$">
+            <node concept="3clFbF" id="58apqRMLnZC" role="3cqZAp">
+              <node concept="37vLTI" id="58apqRMLnZD" role="3clFbG">
+                <node concept="AH0OO" id="58apqRMLnZE" role="37vLTJ">
+                  <node concept="37vLTw" id="58apqRMLnZF" role="AHHXb">
+                    <ref role="3cqZAo" node="58apqRMLnYq" resolve="output" />
+                  </node>
+                  <node concept="3cpWs3" id="58apqRMLnZG" role="AHEQo">
+                    <node concept="37vLTw" id="58apqRMLnZH" role="3uHU7B">
+                      <ref role="3cqZAo" node="58apqRMLnYt" resolve="outputOffset" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLnZI" role="3uHU7w">
+                      <ref role="3cqZAo" node="58apqRMLnZs" resolve="i" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="AH0OO" id="58apqRMLnZJ" role="37vLTx">
+                  <node concept="37vLTw" id="58apqRMLnZK" role="AHHXb">
+                    <ref role="3cqZAo" node="58apqRMLnZm" resolve="out" />
+                  </node>
+                  <node concept="37vLTw" id="58apqRMLnZL" role="AHEQo">
+                    <ref role="3cqZAo" node="58apqRMLnZs" resolve="i" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="58apqRMLnZM" role="3cqZAp">
+          <node concept="2OqwBi" id="58apqRMLD8m" role="3cqZAk">
+            <node concept="37vLTw" id="58apqRMLD8l" role="2Oq$k0">
+              <ref role="3cqZAo" node="58apqRMLnZm" resolve="out" />
+            </node>
+            <node concept="1Rwk04" id="58apqRMLLCj" role="2OqNvi" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="58apqRMLnZO" role="1B3o_S" />
+      <node concept="10Oyi0" id="58apqRMLnZP" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="58apqRMLnZQ" role="jymVt">
+      <property role="TrG5h" value="getOutput" />
+      <node concept="3uibUv" id="58apqRMLnZR" role="Sfmx6">
+        <ref role="3uigEE" to="pfyx:~BadPaddingException" resolve="BadPaddingException" />
+      </node>
+      <node concept="3clFbS" id="58apqRMLnZS" role="3clF47">
+        <node concept="3J1_TO" id="58apqRMLo0m" role="3cqZAp">
+          <node concept="3uVAMA" id="58apqRMLo0n" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLo0b" role="1zc67A">
+              <node concept="YS8fn" id="58apqRMLo0f" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLD9F" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLD9Q" role="2ShVmc">
+                    <ref role="37wK5l" to="pbt1:~BadBlockException.&lt;init&gt;(java.lang.String,java.lang.Throwable)" resolve="BadBlockException" />
+                    <node concept="Xl_RD" id="58apqRMLD9R" role="37wK5m">
+                      <property role="Xl_RC" value="unable to decrypt block" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLD9S" role="37wK5m">
+                      <ref role="3cqZAo" node="58apqRMLo04" resolve="e" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLo04" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLo06" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLo05" role="nSUat">
+                  <ref role="3uigEE" to="6y4x:~InvalidCipherTextException" resolve="InvalidCipherTextException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3uVAMA" id="58apqRMLo0o" role="1zxBo5">
+            <node concept="3clFbS" id="58apqRMLo0h" role="1zc67A">
+              <node concept="YS8fn" id="58apqRMLo0l" role="3cqZAp">
+                <node concept="2ShNRf" id="58apqRMLAz2" role="YScLw">
+                  <node concept="1pGfFk" id="58apqRMLAzd" role="2ShVmc">
+                    <ref role="37wK5l" to="pbt1:~BadBlockException.&lt;init&gt;(java.lang.String,java.lang.Throwable)" resolve="BadBlockException" />
+                    <node concept="Xl_RD" id="58apqRMLAze" role="37wK5m">
+                      <property role="Xl_RC" value="unable to decrypt block" />
+                    </node>
+                    <node concept="37vLTw" id="58apqRMLAzf" role="37wK5m">
+                      <ref role="3cqZAo" node="58apqRMLo07" resolve="e" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="XOnhg" id="58apqRMLo07" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="58apqRMLo09" role="1tU5fm">
+                <node concept="3uibUv" id="58apqRMLo08" role="nSUat">
+                  <ref role="3uigEE" to="wyt6:~ArrayIndexOutOfBoundsException" resolve="ArrayIndexOutOfBoundsException" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="1wplmZ" id="58apqRMLo0p" role="1zxBo6">
+            <node concept="3clFbS" id="58apqRMLo01" role="1wplMD">
+              <node concept="3clFbF" id="58apqRMLo02" role="3cqZAp">
+                <node concept="2OqwBi" id="58apqRMLChE" role="3clFbG">
+                  <node concept="37vLTw" id="58apqRMLChD" role="2Oq$k0">
+                    <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                  </node>
+                  <node concept="liA8E" id="58apqRMLChF" role="2OqNvi">
+                    <ref role="37wK5l" to="8tnb:~BaseCipherSpi$ErasableOutputStream.erase()" resolve="erase" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="58apqRMLnZU" role="1zxBo7">
+            <node concept="3cpWs6" id="58apqRMLnZV" role="3cqZAp">
+              <node concept="2OqwBi" id="58apqRML_BE" role="3cqZAk">
+                <node concept="37vLTw" id="58apqRML_BD" role="2Oq$k0">
+                  <ref role="3cqZAo" node="58apqRMLnIX" resolve="cipher" />
+                </node>
+                <node concept="liA8E" id="58apqRML_BF" role="2OqNvi">
+                  <ref role="37wK5l" to="6y4x:~AsymmetricBlockCipher.processBlock(byte[],int,int)" resolve="processBlock" />
+                  <node concept="2OqwBi" id="58apqRMLIG8" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLIG7" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLIG9" role="2OqNvi">
+                      <ref role="37wK5l" to="8tnb:~BaseCipherSpi$ErasableOutputStream.getBuf()" resolve="getBuf" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="58apqRML_BH" role="37wK5m">
+                    <property role="3cmrfH" value="0" />
+                  </node>
+                  <node concept="2OqwBi" id="58apqRMLIHA" role="37wK5m">
+                    <node concept="37vLTw" id="58apqRMLIH_" role="2Oq$k0">
+                      <ref role="3cqZAo" node="58apqRMLnJj" resolve="bOut" />
+                    </node>
+                    <node concept="liA8E" id="58apqRMLIHB" role="2OqNvi">
+                      <ref role="37wK5l" to="guwi:~ByteArrayOutputStream.size()" resolve="size" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="58apqRMLo0q" role="1B3o_S" />
+      <node concept="10Q1$e" id="58apqRMLo0s" role="3clF45">
+        <node concept="10PrrI" id="58apqRMLo0r" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnHS" role="jymVt">
+      <property role="TrG5h" value="NoPadding" />
+      <node concept="3Tm1VV" id="58apqRMLnHT" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNIrJ" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3UR2Jj" id="58apqRMLnI1" role="lGtFl">
+        <node concept="TZ5HA" id="58apqRMLo18" role="TZ5H$">
+          <node concept="1dT_AC" id="58apqRMLo19" role="1dT_Ay">
+            <property role="1dT_AB" value="classes that inherit from us." />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="58apqRMLnHV" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnHW" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnHX" role="3clF47">
+          <node concept="XkiVB" id="58apqRMLAM3" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="CipherSpi" />
+            <node concept="2ShNRf" id="58apqRMLIBf" role="37wK5m">
+              <node concept="1pGfFk" id="58apqRMLIBh" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnI0" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnI2" role="jymVt">
+      <property role="TrG5h" value="PKCS1v1_5Padding" />
+      <node concept="3Tm1VV" id="58apqRMLnI3" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNJ05" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3clFbW" id="58apqRMLnI5" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnI6" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnI7" role="3clF47">
+          <node concept="XkiVB" id="58apqRML_kX" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="CipherSpi" />
+            <node concept="2ShNRf" id="58apqRMLJ11" role="37wK5m">
+              <node concept="1pGfFk" id="58apqRMLJ1n" role="2ShVmc">
+                <ref role="37wK5l" to="quxv:~PKCS1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="PKCS1Encoding" />
+                <node concept="2ShNRf" id="58apqRMLM1p" role="37wK5m">
+                  <node concept="1pGfFk" id="58apqRMLM1r" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnIb" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnIc" role="jymVt">
+      <property role="TrG5h" value="PKCS1v1_5Padding_PrivateOnly" />
+      <node concept="3Tm1VV" id="58apqRMLnId" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNJqq" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3clFbW" id="58apqRMLnIf" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnIg" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnIh" role="3clF47">
+          <node concept="XkiVB" id="58apqRMLCbu" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(boolean,boolean,org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="CipherSpi" />
+            <node concept="3clFbT" id="58apqRMLCbv" role="37wK5m" />
+            <node concept="3clFbT" id="58apqRMLCbw" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="2ShNRf" id="58apqRMLJ1D" role="37wK5m">
+              <node concept="1pGfFk" id="58apqRMLJ1Z" role="2ShVmc">
+                <ref role="37wK5l" to="quxv:~PKCS1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="PKCS1Encoding" />
+                <node concept="2ShNRf" id="58apqRMLM3D" role="37wK5m">
+                  <node concept="1pGfFk" id="58apqRMLM3F" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnIn" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnIo" role="jymVt">
+      <property role="TrG5h" value="PKCS1v1_5Padding_PublicOnly" />
+      <node concept="3Tm1VV" id="58apqRMLnIp" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNJOQ" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3clFbW" id="58apqRMLnIr" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnIs" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnIt" role="3clF47">
+          <node concept="XkiVB" id="58apqRMLCML" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(boolean,boolean,org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="CipherSpi" />
+            <node concept="3clFbT" id="58apqRMLCMM" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="3clFbT" id="58apqRMLCMN" role="37wK5m" />
+            <node concept="2ShNRf" id="58apqRMLCMO" role="37wK5m">
+              <node concept="1pGfFk" id="58apqRMLCMP" role="2ShVmc">
+                <ref role="37wK5l" to="quxv:~PKCS1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="PKCS1Encoding" />
+                <node concept="2ShNRf" id="58apqRMLCMQ" role="37wK5m">
+                  <node concept="1pGfFk" id="58apqRMLCMR" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnIz" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnI$" role="jymVt">
+      <property role="TrG5h" value="OAEPPadding" />
+      <node concept="3Tm1VV" id="58apqRMLnI_" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNKfl" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3clFbW" id="58apqRMLnIB" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnIC" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnID" role="3clF47">
+          <node concept="XkiVB" id="58apqRMLCMb" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(javax.crypto.spec.OAEPParameterSpec)" resolve="CipherSpi" />
+            <node concept="10M0yZ" id="58apqRMLCMc" role="37wK5m">
+              <ref role="1PxDUh" to="7lc:~OAEPParameterSpec" resolve="OAEPParameterSpec" />
+              <ref role="3cqZAo" to="7lc:~OAEPParameterSpec.DEFAULT" resolve="DEFAULT" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnIG" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="58apqRMLnIH" role="jymVt">
+      <property role="TrG5h" value="ISO9796d1Padding" />
+      <node concept="3Tm1VV" id="58apqRMLnII" role="1B3o_S" />
+      <node concept="3uibUv" id="58apqRMNKIm" role="1zkMxy">
+        <ref role="3uigEE" to="w3v:~CipherSpi" resolve="CipherSpi" />
+      </node>
+      <node concept="3clFbW" id="58apqRMLnIK" role="jymVt">
+        <node concept="3cqZAl" id="58apqRMLnIL" role="3clF45" />
+        <node concept="3clFbS" id="58apqRMLnIM" role="3clF47">
+          <node concept="XkiVB" id="58apqRMLAxY" role="3cqZAp">
+            <ref role="37wK5l" to="w3v:~CipherSpi.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="CipherSpi" />
+            <node concept="2ShNRf" id="58apqRMLJ78" role="37wK5m">
+              <node concept="1pGfFk" id="58apqRMLJ8D" role="2ShVmc">
+                <ref role="37wK5l" to="quxv:~ISO9796d1Encoding.&lt;init&gt;(org.bouncycastle.crypto.AsymmetricBlockCipher)" resolve="ISO9796d1Encoding" />
+                <node concept="2ShNRf" id="58apqRMLJ8E" role="37wK5m">
+                  <node concept="1pGfFk" id="58apqRMLJ8F" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~RSABlindedEngine.&lt;init&gt;()" resolve="RSABlindedEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="58apqRMLnIQ" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="3uibUv" id="58apqRMLnIR" role="1zkMxy">
+      <ref role="3uigEE" to="8tnb:~BaseCipherSpi" resolve="BaseCipherSpi" />
+    </node>
+  </node>
+</model>
+
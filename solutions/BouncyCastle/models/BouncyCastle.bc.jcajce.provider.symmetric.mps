@@ -0,0 +1,11334 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<model ref="r:cccb497e-8188-5af6-b90f-04be648edab7(BouncyCastle.bc.jcajce.provider.symmetric)">
+  <persistence version="9" />
+  <languages>
+    <use id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage" version="11" />
+    <use id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL" version="0" />
+    <use id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc" version="2" />
+  </languages>
+  <imports>
+    <import index="xlxw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.math(JDK/)" />
+    <import index="c790" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math.ec(BouncyCastle/)" />
+    <import index="gz2w" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.math(BouncyCastle/)" />
+    <import index="mgsy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.util(BouncyCastle/)" />
+    <import index="xewt" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.generators(BouncyCastle/)" />
+    <import index="6y4x" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto(BouncyCastle/)" />
+    <import index="25z7" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.params(BouncyCastle/)" />
+    <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" />
+    <import index="c0ik" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.symmetric.util(BouncyCastle/)" />
+    <import index="pfyx" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto(JDK/)" />
+    <import index="jgjw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security(JDK/)" />
+    <import index="guwi" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.io(JDK/)" />
+    <import index="41y5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.spec(JDK/)" />
+    <import index="aql8" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.util(BouncyCastle/)" />
+    <import index="7lc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.spec(JDK/)" />
+    <import index="kdo4" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.pkcs(BouncyCastle/)" />
+    <import index="9djp" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.spec(BouncyCastle/)" />
+    <import index="559f" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jce.provider(BouncyCastle/)" />
+    <import index="t6h5" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.reflect(JDK/)" />
+    <import index="b4ur" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.modes(BouncyCastle/)" />
+    <import index="zfbc" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.nio(JDK/)" />
+    <import index="s8fy" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.fpe(BouncyCastle/)" />
+    <import index="xf7z" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.crypto.interfaces(JDK/)" />
+    <import index="pvh0" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce(BouncyCastle/)" />
+    <import index="qrpw" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.engines(BouncyCastle/)" />
+    <import index="4pdr" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.paddings(BouncyCastle/)" />
+    <import index="9oed" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1(BouncyCastle/)" />
+    <import index="oln5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.internal.asn1.cms(BouncyCastle/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="eqo5" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.config(BouncyCastle/)" />
+    <import index="j2lh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.nist(BouncyCastle/)" />
+    <import index="g9oq" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.bc(BouncyCastle/)" />
+    <import index="pbt1" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.util(BouncyCastle/)" />
+    <import index="iflh" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.misc(BouncyCastle/)" />
+    <import index="t1mn" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.util(BouncyCastle/)" />
+    <import index="g6ri" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:javax.security.auth(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="fuic" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.oiw(BouncyCastle/)" />
+    <import index="8tnb" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.util(BouncyCastle/)" />
+    <import index="ef3w" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.security.interfaces(JDK/)" />
+    <import index="w3v" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.jcajce.provider.asymmetric.rsa(BouncyCastle/)" />
+    <import index="oc9b" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.asn1.x509(BouncyCastle/)" />
+    <import index="nji9" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.macs(BouncyCastle/)" />
+    <import index="q3ut" ref="r:556e448e-cf55-4559-b6ed-c459d58bb68b(apiSL.runtime.apiSL)" />
+    <import index="k3a3" ref="r:4c1df6d8-2e00-5ead-b7ff-d6e63854d7f3(BouncyCastle.bc.crypto.engines)" />
+    <import index="1xn6" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.digests(BouncyCastle/)" implicit="true" />
+    <import index="quxv" ref="e048a166-e32d-4767-b985-a1a304199a81/java:org.bouncycastle.crypto.encodings(BouncyCastle/)" implicit="true" />
+  </imports>
+  <registry>
+    <language id="f3061a53-9226-4cc5-a443-f952ceaf5816" name="jetbrains.mps.baseLanguage">
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1082485599095" name="jetbrains.mps.baseLanguage.structure.BlockStatement" flags="nn" index="9aQIb">
+        <child id="1082485599096" name="statements" index="9aQI4" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1215695201514" name="jetbrains.mps.baseLanguage.structure.MinusAssignmentExpression" flags="nn" index="d5anL" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1202948039474" name="jetbrains.mps.baseLanguage.structure.InstanceMethodCallOperation" flags="nn" index="liA8E" />
+      <concept id="1179360813171" name="jetbrains.mps.baseLanguage.structure.HexIntegerLiteral" flags="nn" index="2nou5x">
+        <property id="1179360856892" name="value" index="2noCCI" />
+      </concept>
+      <concept id="8118189177080264853" name="jetbrains.mps.baseLanguage.structure.AlternativeType" flags="ig" index="nSUau">
+        <child id="8118189177080264854" name="alternative" index="nSUat" />
+      </concept>
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
+      <concept id="1224500799915" name="jetbrains.mps.baseLanguage.structure.BitwiseXorExpression" flags="nn" index="pVQyQ" />
+      <concept id="1465982738277781862" name="jetbrains.mps.baseLanguage.structure.PlaceholderMember" flags="nn" index="2tJIrI" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1188207840427" name="jetbrains.mps.baseLanguage.structure.AnnotationInstance" flags="nn" index="2AHcQZ">
+        <reference id="1188208074048" name="annotation" index="2AI5Lk" />
+      </concept>
+      <concept id="1188208481402" name="jetbrains.mps.baseLanguage.structure.HasAnnotation" flags="ng" index="2AJDlI">
+        <child id="1188208488637" name="annotation" index="2AJF6D" />
+      </concept>
+      <concept id="1188220165133" name="jetbrains.mps.baseLanguage.structure.ArrayLiteral" flags="nn" index="2BsdOp">
+        <child id="1188220173759" name="item" index="2BsfMF" />
+      </concept>
+      <concept id="1095950406618" name="jetbrains.mps.baseLanguage.structure.DivExpression" flags="nn" index="FJ1c_" />
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1177666668936" name="jetbrains.mps.baseLanguage.structure.DoWhileStatement" flags="nn" index="MpOyq">
+        <child id="1177666688034" name="condition" index="MpTkK" />
+      </concept>
+      <concept id="1251851371723515367" name="jetbrains.mps.baseLanguage.structure.ArrayClassExpression" flags="nn" index="2MthRn">
+        <child id="1251851371723515368" name="arrayType" index="2MthRo" />
+      </concept>
+      <concept id="1197027756228" name="jetbrains.mps.baseLanguage.structure.DotExpression" flags="nn" index="2OqwBi">
+        <child id="1197027771414" name="operand" index="2Oq$k0" />
+        <child id="1197027833540" name="operation" index="2OqNvi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1083260308424" name="jetbrains.mps.baseLanguage.structure.EnumConstantReference" flags="nn" index="Rm8GO">
+        <reference id="1083260308426" name="enumConstantDeclaration" index="Rm8GQ" />
+        <reference id="1144432896254" name="enumClass" index="1Px2BO" />
+      </concept>
+      <concept id="1145552977093" name="jetbrains.mps.baseLanguage.structure.GenericNewExpression" flags="nn" index="2ShNRf">
+        <child id="1145553007750" name="creator" index="2ShVmc" />
+      </concept>
+      <concept id="1070462154015" name="jetbrains.mps.baseLanguage.structure.StaticFieldDeclaration" flags="ig" index="Wx3nA" />
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070475587102" name="jetbrains.mps.baseLanguage.structure.SuperConstructorInvocation" flags="nn" index="XkiVB" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="4952749571008284462" name="jetbrains.mps.baseLanguage.structure.CatchVariable" flags="ng" index="XOnhg" />
+      <concept id="1182160077978" name="jetbrains.mps.baseLanguage.structure.AnonymousClassCreator" flags="nn" index="YeOm9">
+        <child id="1182160096073" name="cls" index="YeSDq" />
+      </concept>
+      <concept id="1081236700938" name="jetbrains.mps.baseLanguage.structure.StaticMethodDeclaration" flags="ig" index="2YIFZL" />
+      <concept id="1081236700937" name="jetbrains.mps.baseLanguage.structure.StaticMethodCall" flags="nn" index="2YIFZM">
+        <reference id="1144433194310" name="classConcept" index="1Pybhc" />
+      </concept>
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070533982221" name="jetbrains.mps.baseLanguage.structure.ShortType" flags="in" index="10N3zO" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534555686" name="jetbrains.mps.baseLanguage.structure.CharType" flags="in" index="10Pfzv" />
+      <concept id="1070534604311" name="jetbrains.mps.baseLanguage.structure.ByteType" flags="in" index="10PrrI" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg">
+        <property id="8606350594693632173" name="isTransient" index="eg7rD" />
+      </concept>
+      <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
+        <property id="1075300953594" name="abstractClass" index="1sVAO0" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
+        <child id="1165602531693" name="superclass" index="1zkMxy" />
+      </concept>
+      <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
+        <property id="1176718929932" name="isFinal" index="3TUv4t" />
+        <child id="1068431790190" name="initializer" index="33vP2m" />
+      </concept>
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1068498886296" name="jetbrains.mps.baseLanguage.structure.VariableReference" flags="nn" index="37vLTw">
+        <reference id="1068581517664" name="variableDeclaration" index="3cqZAo" />
+      </concept>
+      <concept id="1068498886292" name="jetbrains.mps.baseLanguage.structure.ParameterDeclaration" flags="ir" index="37vLTG" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1225271221393" name="jetbrains.mps.baseLanguage.structure.NPENotEqualsExpression" flags="nn" index="17QLQc" />
+      <concept id="4972933694980447171" name="jetbrains.mps.baseLanguage.structure.BaseVariableDeclaration" flags="ng" index="19Szcq">
+        <child id="5680397130376446158" name="type" index="1tU5fm" />
+      </concept>
+      <concept id="1068580123132" name="jetbrains.mps.baseLanguage.structure.BaseMethodDeclaration" flags="ng" index="3clF44">
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
+        <property id="1181808852946" name="isFinal" index="DiZV1" />
+        <child id="1164879685961" name="throwsItem" index="Sfmx6" />
+        <child id="1068580123133" name="returnType" index="3clF45" />
+        <child id="1068580123134" name="parameter" index="3clF46" />
+        <child id="1068580123135" name="body" index="3clF47" />
+      </concept>
+      <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
+        <child id="1068580123156" name="expression" index="3clFbG" />
+      </concept>
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+      </concept>
+      <concept id="1068580123136" name="jetbrains.mps.baseLanguage.structure.StatementList" flags="sn" stub="5293379017992965193" index="3clFbS">
+        <child id="1068581517665" name="statement" index="3cqZAp" />
+      </concept>
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1154542696413" name="jetbrains.mps.baseLanguage.structure.ArrayCreatorWithInitializer" flags="nn" index="3g6Rrh">
+        <child id="1154542793668" name="componentType" index="3g7fb8" />
+        <child id="1154542803372" name="initValue" index="3g7hyw" />
+      </concept>
+      <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
+        <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
+        <child id="1068499141038" name="actualArgument" index="37wK5m" />
+      </concept>
+      <concept id="1073063089578" name="jetbrains.mps.baseLanguage.structure.SuperMethodCall" flags="nn" index="3nyPlj" />
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1107461130800" name="jetbrains.mps.baseLanguage.structure.Classifier" flags="ng" index="3pOWGL">
+        <property id="521412098689998745" name="nonStatic" index="2bfB8j" />
+        <property id="2791683072064593257" name="packageName" index="2HnT6v" />
+        <child id="5375687026011219971" name="member" index="jymVt" unordered="true" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
+        <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
+        <child id="8276990574895933173" name="catchBody" index="1zc67A" />
+        <child id="8276990574895933172" name="throwable" index="1zc67B" />
+      </concept>
+      <concept id="7024111702304501414" name="jetbrains.mps.baseLanguage.structure.RemAssignmentExpression" flags="nn" index="3vZ8r6" />
+      <concept id="7024111702304501416" name="jetbrains.mps.baseLanguage.structure.OrAssignmentExpression" flags="nn" index="3vZ8r8" />
+      <concept id="7024111702304501420" name="jetbrains.mps.baseLanguage.structure.XorAssignmentExpression" flags="nn" index="3vZ8rc" />
+      <concept id="8276990574909231788" name="jetbrains.mps.baseLanguage.structure.FinallyClause" flags="ng" index="1wplmZ">
+        <child id="8276990574909234106" name="finallyBody" index="1wplMD" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1178549954367" name="jetbrains.mps.baseLanguage.structure.IVisible" flags="ng" index="1B3ioH">
+        <child id="1178549979242" name="visibility" index="1B3o_S" />
+      </concept>
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1225892319711" name="jetbrains.mps.baseLanguage.structure.ShiftRightExpression" flags="nn" index="1GS532" />
+      <concept id="1107796713796" name="jetbrains.mps.baseLanguage.structure.Interface" flags="ig" index="3HP615" />
+      <concept id="5351203823916832286" name="jetbrains.mps.baseLanguage.structure.ResourceVariable" flags="ng" index="3J1hQo" />
+      <concept id="5351203823916750322" name="jetbrains.mps.baseLanguage.structure.TryUniversalStatement" flags="nn" index="3J1_TO">
+        <child id="8276990574886367510" name="catchClause" index="1zxBo5" />
+        <child id="8276990574886367509" name="finallyClause" index="1zxBo6" />
+        <child id="8276990574886367508" name="body" index="1zxBo7" />
+        <child id="5351203823916750334" name="resource" index="3J1_TS" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1163670490218" name="jetbrains.mps.baseLanguage.structure.SwitchStatement" flags="nn" index="3KaCP$">
+        <child id="1163670592366" name="defaultBlock" index="3Kb1Dw" />
+        <child id="1163670766145" name="expression" index="3KbGdf" />
+        <child id="1163670772911" name="case" index="3KbHQx" />
+      </concept>
+      <concept id="1163670641947" name="jetbrains.mps.baseLanguage.structure.SwitchCase" flags="ng" index="3KbdKl">
+        <child id="1163670677455" name="expression" index="3Kbmr1" />
+        <child id="1163670683720" name="body" index="3Kbo56" />
+      </concept>
+      <concept id="1082113931046" name="jetbrains.mps.baseLanguage.structure.ContinueStatement" flags="nn" index="3N13vt" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="6329021646629104954" name="jetbrains.mps.baseLanguage.structure.SingleLineComment" flags="nn" index="3SKdUt">
+        <child id="8356039341262087992" name="line" index="1aUNEU" />
+      </concept>
+      <concept id="1146644602865" name="jetbrains.mps.baseLanguage.structure.PublicVisibility" flags="nn" index="3Tm1VV" />
+      <concept id="1146644623116" name="jetbrains.mps.baseLanguage.structure.PrivateVisibility" flags="nn" index="3Tm6S6" />
+      <concept id="1146644641414" name="jetbrains.mps.baseLanguage.structure.ProtectedVisibility" flags="nn" index="3Tmbuc" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1178893518978" name="jetbrains.mps.baseLanguage.structure.ThisConstructorInvocation" flags="nn" index="1VxSAg" />
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1200397529627" name="jetbrains.mps.baseLanguage.structure.CharConstant" flags="nn" index="1Xhbcc">
+        <property id="1200397540847" name="charConstant" index="1XhdNS" />
+      </concept>
+      <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
+        <reference id="1170346070688" name="classifier" index="1Y3XeK" />
+      </concept>
+      <concept id="320030840061144153" name="jetbrains.mps.baseLanguage.structure.ShiftRightUnsignedExpression" flags="nn" index="1ZsPo3" />
+      <concept id="8064396509828172209" name="jetbrains.mps.baseLanguage.structure.UnaryMinus" flags="nn" index="1ZRNhn" />
+    </language>
+    <language id="f2801650-65d5-424e-bb1b-463a8781b786" name="jetbrains.mps.baseLanguage.javadoc">
+      <concept id="6832197706140896242" name="jetbrains.mps.baseLanguage.javadoc.structure.FieldDocComment" flags="ng" index="z59LJ" />
+      <concept id="5349172909345501395" name="jetbrains.mps.baseLanguage.javadoc.structure.BaseDocComment" flags="ng" index="P$AiS">
+        <child id="8465538089690331502" name="body" index="TZ5H$" />
+      </concept>
+      <concept id="5349172909345532724" name="jetbrains.mps.baseLanguage.javadoc.structure.MethodDocComment" flags="ng" index="P$JXv" />
+      <concept id="8465538089690331500" name="jetbrains.mps.baseLanguage.javadoc.structure.CommentLine" flags="ng" index="TZ5HA">
+        <child id="8970989240999019149" name="part" index="1dT_Ay" />
+      </concept>
+      <concept id="8970989240999019143" name="jetbrains.mps.baseLanguage.javadoc.structure.TextCommentLinePart" flags="ng" index="1dT_AC">
+        <property id="8970989240999019144" name="text" index="1dT_AB" />
+      </concept>
+      <concept id="2068944020170241612" name="jetbrains.mps.baseLanguage.javadoc.structure.ClassifierDocComment" flags="ng" index="3UR2Jj" />
+    </language>
+    <language id="59bed8cb-5fa4-4cd3-8935-6e90ec535cab" name="apiSL">
+      <concept id="4157980839829753419" name="apiSL.structure.BaseGuardReference" flags="ng" index="5mHf0">
+        <reference id="4157980839829753430" name="guard" index="5mHft" />
+      </concept>
+      <concept id="7118418329240799211" name="apiSL.structure.Requirement" flags="ng" index="7NFgE">
+        <property id="7118418329241450733" name="errorMessage" index="7QkGG" />
+      </concept>
+      <concept id="7118418329240799212" name="apiSL.structure.ExpressionRequirement" flags="ng" index="7NFgH">
+        <child id="7118418329240799213" name="expression" index="7NFgG" />
+      </concept>
+      <concept id="3241732874153801560" name="apiSL.structure.LocalGuardReference" flags="ng" index="28m4m7" />
+      <concept id="3241732874153801933" name="apiSL.structure.ChangesGuard" flags="ng" index="28m4Ci">
+        <property id="3241732874153801936" name="newValue" index="28m4Cf" />
+        <child id="3241732874153801934" name="guard" index="28m4Ch" />
+      </concept>
+      <concept id="3241732874153801927" name="apiSL.structure.WhenReturns" flags="ng" index="28m4Co" />
+      <concept id="3241732874153801925" name="apiSL.structure.Consequence" flags="ng" index="28m4Cq">
+        <child id="3241732874153801930" name="when" index="28m4Cl" />
+        <child id="5424624459614105666" name="then" index="38updQ" />
+      </concept>
+      <concept id="3241732874153771441" name="apiSL.structure.GuardDeclaration" flags="ng" index="28mbdI" />
+      <concept id="2468280109721306674" name="apiSL.structure.IVerifiedMethod" flags="ng" index="28md6s">
+        <child id="2468280109721307641" name="requirements" index="28mdTn" />
+        <child id="5424624459614123890" name="consequences" index="38uth6" />
+      </concept>
+      <concept id="2468280109721450436" name="apiSL.structure.StaticVerifiedMethod" flags="ig" index="28mI1E" />
+      <concept id="5752318980938883239" name="apiSL.structure.MetaVariableDeclaration" flags="ng" index="2qjjs5">
+        <child id="6976864374266609290" name="type" index="2iVZe$" />
+        <child id="1709424164472981217" name="defaultValue" index="1Em9Vp" />
+      </concept>
+      <concept id="2316402386142492908" name="apiSL.structure.VerifiedClass" flags="ig" index="2ALBHu" />
+      <concept id="2316402386142877834" name="apiSL.structure.VerifiedMethod" flags="ig" index="2AN5GS" />
+      <concept id="4506385826706830357" name="apiSL.structure.ExpandoDeclaration" flags="ng" index="2FfH8t">
+        <child id="4506385826706840328" name="variables" index="2FfFO0" />
+        <child id="4506385826706830723" name="for" index="2FfHeb" />
+      </concept>
+      <concept id="4506385826706830831" name="apiSL.structure.ExpandoVariable" flags="ng" index="2FfHfB">
+        <child id="4506385826706830935" name="type" index="2FfH1v" />
+        <child id="4506385826706831876" name="defaultValue" index="2FfHKc" />
+      </concept>
+      <concept id="4506385826708734742" name="apiSL.structure.ExpandoReference" flags="ng" index="2Fnqku">
+        <reference id="4506385826708734906" name="variable" index="2FnqmM" />
+        <reference id="4506385826708734900" name="expando" index="2FnqmW" />
+        <child id="4506385826710993030" name="receiver" index="2FvPUe" />
+      </concept>
+      <concept id="2315365102418887260" name="apiSL.structure.SetsExpandoState" flags="ng" index="R8_on">
+        <child id="2315365102418888235" name="value" index="R8_9w" />
+        <child id="2315365102418888233" name="reference" index="R8_9y" />
+      </concept>
+      <concept id="2315365102419473356" name="apiSL.structure.ReturnValue" flags="ng" index="Rbqu7" />
+      <concept id="7921791665431015203" name="apiSL.structure.MetaVariableReference" flags="ng" index="RhriJ">
+        <reference id="7921791665431015204" name="variable" index="RhriC" />
+      </concept>
+      <concept id="8555217082947640889" name="apiSL.structure.VerifiedConstructor" flags="ig" index="1NMaa_" />
+    </language>
+    <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
+      <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
+        <property id="1193676396447" name="virtualPackage" index="3GE5qa" />
+        <child id="5169995583184591170" name="smodelAttribute" index="lGtFl" />
+      </concept>
+      <concept id="1169194658468" name="jetbrains.mps.lang.core.structure.INamedConcept" flags="ng" index="TrEIO">
+        <property id="1169194664001" name="name" index="TrG5h" />
+      </concept>
+    </language>
+    <language id="c7fb639f-be78-4307-89b0-b5959c3fa8c8" name="jetbrains.mps.lang.text">
+      <concept id="155656958578482948" name="jetbrains.mps.lang.text.structure.Word" flags="nn" index="3oM_SD">
+        <property id="155656958578482949" name="value" index="3oM_SC" />
+      </concept>
+      <concept id="2535923850359271782" name="jetbrains.mps.lang.text.structure.Line" flags="nn" index="1PaTwC">
+        <child id="2535923850359271783" name="elements" index="1PaTwD" />
+      </concept>
+    </language>
+  </registry>
+  <node concept="312cEu" id="622NOWS5fEP">
+    <property role="TrG5h" value="AES" />
+    <property role="2bfB8j" value="true" />
+    <property role="1EXbeo" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <property role="2HnT6v" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <node concept="3Tm1VV" id="622NOWS5fEQ" role="1B3o_S" />
+    <node concept="Wx3nA" id="622NOWS5ge_" role="jymVt">
+      <property role="TrG5h" value="generalAesAttributes" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3uibUv" id="622NOWS5geA" role="1tU5fm">
+        <ref role="3uigEE" to="33ny:~Map" resolve="Map" />
+        <node concept="3uibUv" id="622NOWS5geB" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="3uibUv" id="622NOWS5geC" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="622NOWS7kE4" role="33vP2m">
+        <node concept="1pGfFk" id="622NOWS8vlY" role="2ShVmc">
+          <ref role="37wK5l" to="33ny:~HashMap.&lt;init&gt;()" resolve="HashMap" />
+          <node concept="3uibUv" id="622NOWS8$Yf" role="1pMfVU">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+          <node concept="3uibUv" id="622NOWS8BOx" role="1pMfVU">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="622NOWS5geG" role="1B3o_S" />
+    </node>
+    <node concept="1Pe0a1" id="622NOWS5geR" role="jymVt">
+      <node concept="3clFbS" id="622NOWS5geI" role="1Pe0a2">
+        <node concept="3clFbF" id="622NOWS5geJ" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS6zEm" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS6zEl" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+            </node>
+            <node concept="liA8E" id="622NOWS6zEn" role="2OqNvi">
+              <ref role="37wK5l" to="33ny:~Map.put(java.lang.Object,java.lang.Object)" resolve="put" />
+              <node concept="Xl_RD" id="622NOWS6zEo" role="37wK5m">
+                <property role="Xl_RC" value="SupportedKeyClasses" />
+              </node>
+              <node concept="Xl_RD" id="622NOWS6zEp" role="37wK5m">
+                <property role="Xl_RC" value="javax.crypto.SecretKey" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS5geN" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS6pxp" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS6pxo" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+            </node>
+            <node concept="liA8E" id="622NOWS6pxq" role="2OqNvi">
+              <ref role="37wK5l" to="33ny:~Map.put(java.lang.Object,java.lang.Object)" resolve="put" />
+              <node concept="Xl_RD" id="622NOWS6pxr" role="37wK5m">
+                <property role="Xl_RC" value="SupportedKeyFormats" />
+              </node>
+              <node concept="Xl_RD" id="622NOWS6pxs" role="37wK5m">
+                <property role="Xl_RC" value="RAW" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFbW" id="622NOWS5geS" role="jymVt">
+      <node concept="3cqZAl" id="622NOWS5geT" role="3clF45" />
+      <node concept="3clFbS" id="622NOWS5geU" role="3clF47" />
+      <node concept="3Tm6S6" id="622NOWS5geV" role="1B3o_S" />
+    </node>
+    <node concept="2ALBHu" id="622NOWS9eXq" role="jymVt">
+      <property role="TrG5h" value="ECB" />
+      <node concept="3Tm1VV" id="622NOWS9eXr" role="1B3o_S" />
+      <node concept="2qjjs5" id="622NOWSf46Z" role="jymVt">
+        <property role="TrG5h" value="allowECBForAES" />
+        <node concept="10P_77" id="622NOWSf4gl" role="2iVZe$" />
+        <node concept="3clFbT" id="622NOWSf4hJ" role="1Em9Vp" />
+      </node>
+      <node concept="28mbdI" id="5uEuc0opoz0" role="jymVt">
+        <property role="TrG5h" value="didReplaceDefaultMode" />
+        <node concept="3Tm6S6" id="5uEuc0opoRY" role="1B3o_S" />
+      </node>
+      <node concept="1NMaa_" id="622NOWSf2Ak" role="jymVt">
+        <node concept="3clFbS" id="622NOWS5fEW" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5v1M" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.jcajce.provider.symmetric.util.BlockCipherProvider)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS5v1N" role="37wK5m">
+              <node concept="YeOm9" id="622NOWS5v1O" role="2ShVmc">
+                <node concept="1Y3b0j" id="622NOWS5v1P" role="YeSDq">
+                  <ref role="1Y3XeK" to="c0ik:~BlockCipherProvider" resolve="BlockCipherProvider" />
+                  <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+                  <node concept="3clFb_" id="622NOWS5v1Q" role="jymVt">
+                    <property role="TrG5h" value="get" />
+                    <node concept="3clFbS" id="622NOWS5v1R" role="3clF47">
+                      <node concept="3cpWs6" id="622NOWS5v1S" role="3cqZAp">
+                        <node concept="2ShNRf" id="622NOWS5v1T" role="3cqZAk">
+                          <node concept="1pGfFk" id="622NOWS5v1U" role="2ShVmc">
+                            <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3Tm1VV" id="622NOWS5v1V" role="1B3o_S" />
+                    <node concept="3uibUv" id="622NOWS5v1W" role="3clF45">
+                      <ref role="3uigEE" to="6y4x:~BlockCipher" resolve="BlockCipher" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fF7" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fEV" role="3clF45" />
+      </node>
+      <node concept="2tJIrI" id="5uEuc0opfr5" role="jymVt" />
+      <node concept="3uibUv" id="622NOWS5fET" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="2AN5GS" id="5uEuc0opmSv" role="jymVt">
+        <property role="TrG5h" value="engineSetMode" />
+        <node concept="28m4Cq" id="5uEuc0opp90" role="38uth6">
+          <node concept="28m4Co" id="5uEuc0oppox" role="28m4Cl" />
+          <node concept="28m4Ci" id="5uEuc0oppsY" role="38updQ">
+            <property role="28m4Cf" value="true" />
+            <node concept="28m4m7" id="5uEuc0oppxx" role="28m4Ch">
+              <ref role="5mHft" node="5uEuc0opoz0" resolve="didReplaceDefaultMode" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cqZAl" id="5uEuc0opfz3" role="3clF45" />
+        <node concept="37vLTG" id="5uEuc0opfz4" role="3clF46">
+          <property role="TrG5h" value="mode" />
+          <node concept="3uibUv" id="5uEuc0opfz5" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="5uEuc0opfz7" role="3clF47">
+          <node concept="3clFbF" id="5uEuc0opfzb" role="3cqZAp">
+            <node concept="3nyPlj" id="5uEuc0opfza" role="3clFbG">
+              <ref role="37wK5l" to="c0ik:~BaseBlockCipher.engineSetMode(java.lang.String)" resolve="engineSetMode" />
+              <node concept="37vLTw" id="5uEuc0opfz9" role="37wK5m">
+                <ref role="3cqZAo" node="5uEuc0opfz4" resolve="mode" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3uibUv" id="5uEuc0opfz6" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~NoSuchAlgorithmException" resolve="NoSuchAlgorithmException" />
+        </node>
+        <node concept="2AHcQZ" id="5uEuc0opfz8" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+        <node concept="3Tmbuc" id="5uEuc0opfz1" role="1B3o_S" />
+        <node concept="7NFgH" id="5uEuc0opLzI" role="28mdTn">
+          <property role="7QkGG" value="Using AES with the ECB mode is considered insecure" />
+          <node concept="22lmx$" id="5uEuc0opMcm" role="7NFgG">
+            <node concept="17QLQc" id="5uEuc0opNo2" role="3uHU7w">
+              <node concept="Xl_RD" id="5uEuc0opNwg" role="3uHU7w">
+                <property role="Xl_RC" value="ECB" />
+              </node>
+              <node concept="37vLTw" id="5uEuc0opMkf" role="3uHU7B">
+                <ref role="3cqZAo" node="5uEuc0opfz4" resolve="mode" />
+              </node>
+            </node>
+            <node concept="RhriJ" id="5uEuc0opLUz" role="3uHU7B">
+              <ref role="RhriC" node="622NOWSf46Z" resolve="allowECBForAES" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="2tJIrI" id="5uEuc0oppLS" role="jymVt" />
+      <node concept="2AN5GS" id="5uEuc0opHdK" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="3cqZAl" id="5uEuc0opAAT" role="3clF45" />
+        <node concept="37vLTG" id="5uEuc0opAAU" role="3clF46">
+          <property role="TrG5h" value="opmode" />
+          <node concept="10Oyi0" id="5uEuc0opAAV" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="5uEuc0opAAW" role="3clF46">
+          <property role="TrG5h" value="key" />
+          <node concept="3uibUv" id="5uEuc0opAAX" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~Key" resolve="Key" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="5uEuc0opAAY" role="3clF46">
+          <property role="TrG5h" value="params" />
+          <node concept="3uibUv" id="5uEuc0opAAZ" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="5uEuc0opAB0" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="5uEuc0opAB1" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="5uEuc0opAB4" role="3clF47">
+          <node concept="3clFbF" id="5uEuc0opABb" role="3cqZAp">
+            <node concept="3nyPlj" id="5uEuc0opABa" role="3clFbG">
+              <ref role="37wK5l" to="c0ik:~BaseBlockCipher.engineInit(int,java.security.Key,java.security.spec.AlgorithmParameterSpec,java.security.SecureRandom)" resolve="engineInit" />
+              <node concept="37vLTw" id="5uEuc0opAB6" role="37wK5m">
+                <ref role="3cqZAo" node="5uEuc0opAAU" resolve="opmode" />
+              </node>
+              <node concept="37vLTw" id="5uEuc0opAB7" role="37wK5m">
+                <ref role="3cqZAo" node="5uEuc0opAAW" resolve="key" />
+              </node>
+              <node concept="37vLTw" id="5uEuc0opAB8" role="37wK5m">
+                <ref role="3cqZAo" node="5uEuc0opAAY" resolve="params" />
+              </node>
+              <node concept="37vLTw" id="5uEuc0opAB9" role="37wK5m">
+                <ref role="3cqZAo" node="5uEuc0opAB0" resolve="random" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3uibUv" id="5uEuc0opAB2" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidKeyException" resolve="InvalidKeyException" />
+        </node>
+        <node concept="3uibUv" id="5uEuc0opAB3" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+        </node>
+        <node concept="2AHcQZ" id="5uEuc0opAB5" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+        <node concept="3Tmbuc" id="5uEuc0opAAR" role="1B3o_S" />
+        <node concept="7NFgH" id="5uEuc0opJyF" role="28mdTn">
+          <property role="7QkGG" value="Using ECB for AES is considered insecure and not supported" />
+          <node concept="22lmx$" id="5uEuc0opK0$" role="7NFgG">
+            <node concept="RhriJ" id="5uEuc0opK7Q" role="3uHU7B">
+              <ref role="RhriC" node="622NOWSf46Z" resolve="allowECBForAES" />
+            </node>
+            <node concept="28m4m7" id="5uEuc0opJTw" role="3uHU7w">
+              <ref role="5mHft" node="5uEuc0opoz0" resolve="didReplaceDefaultMode" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fF8" role="jymVt">
+      <property role="TrG5h" value="CBC" />
+      <node concept="3Tm1VV" id="622NOWS5fF9" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fFa" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fFb" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fFc" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fFd" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5M7$" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS89ZT" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8a07" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8iuD" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8iuF" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="622NOWS5M7B" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fFi" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fFj" role="jymVt">
+      <property role="TrG5h" value="CFB" />
+      <node concept="3Tm1VV" id="622NOWS5fFk" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fFl" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fFm" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fFn" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fFo" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5veq" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BufferedBlockCipher,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS5ver" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS5ves" role="2ShVmc">
+                <ref role="37wK5l" to="6y4x:~BufferedBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="BufferedBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS89SH" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS89Uf" role="2ShVmc">
+                    <ref role="37wK5l" to="b4ur:~CFBBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int)" resolve="CFBBlockCipher" />
+                    <node concept="2ShNRf" id="622NOWS89Ug" role="37wK5m">
+                      <node concept="1pGfFk" id="622NOWS89Uh" role="2ShVmc">
+                        <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="622NOWS89Ui" role="37wK5m">
+                      <property role="3cmrfH" value="128" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="622NOWS5vew" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fFv" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fFw" role="jymVt">
+      <property role="TrG5h" value="OFB" />
+      <node concept="3Tm1VV" id="622NOWS5fFx" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fFy" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fFz" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fF$" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fF_" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7Sbg" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BufferedBlockCipher,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS7Sbh" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS7Sbi" role="2ShVmc">
+                <ref role="37wK5l" to="6y4x:~BufferedBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="BufferedBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS7Sbj" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS7Sbk" role="2ShVmc">
+                    <ref role="37wK5l" to="b4ur:~OFBBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int)" resolve="OFBBlockCipher" />
+                    <node concept="2ShNRf" id="622NOWS89gY" role="37wK5m">
+                      <node concept="1pGfFk" id="622NOWS89h0" role="2ShVmc">
+                        <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                      </node>
+                    </node>
+                    <node concept="3cmrfG" id="622NOWS7Sbm" role="37wK5m">
+                      <property role="3cmrfH" value="128" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="622NOWS7Sbn" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fFG" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fFH" role="jymVt">
+      <property role="TrG5h" value="GCM" />
+      <node concept="3Tm1VV" id="622NOWS5fFI" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fFJ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fFK" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fFL" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fFM" role="3clF47">
+          <node concept="XkiVB" id="622NOWS66hT" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.modes.AEADBlockCipher)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS66hU" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS66hV" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~GCMBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="GCMBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8bP2" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8bP4" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fFQ" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fFR" role="jymVt">
+      <property role="TrG5h" value="CCM" />
+      <node concept="3Tm1VV" id="622NOWS5fFS" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fFT" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fFU" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fFV" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fFW" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7eEW" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.modes.AEADBlockCipher,boolean,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS89v_" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS89x6" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CCMBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CCMBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS89x7" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS89x8" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbT" id="622NOWS7eEZ" role="37wK5m" />
+            <node concept="3cmrfG" id="622NOWS7eF0" role="37wK5m">
+              <property role="3cmrfH" value="12" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fG2" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fG3" role="jymVt">
+      <property role="TrG5h" value="AESCMAC" />
+      <node concept="3Tm1VV" id="622NOWS5fG4" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fG5" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fG6" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fG7" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fG8" role="3clF47">
+          <node concept="XkiVB" id="622NOWS68mk" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseMac.&lt;init&gt;(org.bouncycastle.crypto.Mac)" resolve="BaseMac" />
+            <node concept="2ShNRf" id="622NOWS68ml" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS68mm" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CMac" />
+                <node concept="2ShNRf" id="622NOWS8aZi" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8aZk" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fGc" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fGd" role="jymVt">
+      <property role="TrG5h" value="AESGMAC" />
+      <node concept="3Tm1VV" id="622NOWS5fGe" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fGf" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fGg" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fGh" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fGi" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5Cil" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseMac.&lt;init&gt;(org.bouncycastle.crypto.Mac)" resolve="BaseMac" />
+            <node concept="2ShNRf" id="622NOWS5Cim" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS5Cin" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~GMac.&lt;init&gt;(org.bouncycastle.crypto.modes.GCMBlockCipher)" resolve="GMac" />
+                <node concept="2ShNRf" id="622NOWS8cHz" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8cHM" role="2ShVmc">
+                    <ref role="37wK5l" to="b4ur:~GCMBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="GCMBlockCipher" />
+                    <node concept="2ShNRf" id="622NOWS8cHN" role="37wK5m">
+                      <node concept="1pGfFk" id="622NOWS8cHO" role="2ShVmc">
+                        <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fGn" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fGo" role="jymVt">
+      <property role="TrG5h" value="AESCCMMAC" />
+      <node concept="3Tm1VV" id="622NOWS5fGp" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fI8" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fI9" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIa" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIb" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5TSI" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseMac.&lt;init&gt;(org.bouncycastle.crypto.Mac)" resolve="BaseMac" />
+            <node concept="2ShNRf" id="622NOWS5TSJ" role="37wK5m">
+              <node concept="HV5vD" id="622NOWS5TSK" role="2ShVmc">
+                <ref role="HV5vE" node="622NOWS5fGq" resolve="AES.AESCCMMAC.CCMMac" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIe" role="1B3o_S" />
+      </node>
+      <node concept="312cEu" id="622NOWS5fGq" role="jymVt">
+        <property role="TrG5h" value="CCMMac" />
+        <node concept="3Tm6S6" id="622NOWS5fGr" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fGs" role="EKbjA">
+          <ref role="3uigEE" to="6y4x:~Mac" resolve="Mac" />
+        </node>
+        <node concept="312cEg" id="622NOWS5fGt" role="jymVt">
+          <property role="TrG5h" value="ccm" />
+          <property role="3TUv4t" value="true" />
+          <node concept="3uibUv" id="622NOWS5fGv" role="1tU5fm">
+            <ref role="3uigEE" to="b4ur:~CCMBlockCipher" resolve="CCMBlockCipher" />
+          </node>
+          <node concept="2ShNRf" id="622NOWS5qY3" role="33vP2m">
+            <node concept="1pGfFk" id="622NOWS5qZ$" role="2ShVmc">
+              <ref role="37wK5l" to="b4ur:~CCMBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CCMBlockCipher" />
+              <node concept="2ShNRf" id="622NOWS5qZ_" role="37wK5m">
+                <node concept="1pGfFk" id="622NOWS5qZA" role="2ShVmc">
+                  <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm6S6" id="622NOWS5fGy" role="1B3o_S" />
+        </node>
+        <node concept="312cEg" id="622NOWS5fGz" role="jymVt">
+          <property role="TrG5h" value="macLength" />
+          <node concept="10Oyi0" id="622NOWS5fG_" role="1tU5fm" />
+          <node concept="3cmrfG" id="622NOWS5fGA" role="33vP2m">
+            <property role="3cmrfH" value="8" />
+          </node>
+          <node concept="3Tm6S6" id="622NOWS5fGB" role="1B3o_S" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fGC" role="jymVt">
+          <property role="TrG5h" value="init" />
+          <node concept="37vLTG" id="622NOWS5fGD" role="3clF46">
+            <property role="TrG5h" value="params" />
+            <node concept="3uibUv" id="622NOWS5fGE" role="1tU5fm">
+              <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+            </node>
+          </node>
+          <node concept="3uibUv" id="622NOWS5fGF" role="Sfmx6">
+            <ref role="3uigEE" to="wyt6:~IllegalArgumentException" resolve="IllegalArgumentException" />
+          </node>
+          <node concept="3clFbS" id="622NOWS5fGG" role="3clF47">
+            <node concept="3clFbF" id="622NOWS5fGH" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWS5yCe" role="3clFbG">
+                <node concept="37vLTw" id="622NOWS5yCd" role="2Oq$k0">
+                  <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                </node>
+                <node concept="liA8E" id="622NOWS5yCf" role="2OqNvi">
+                  <ref role="37wK5l" to="b4ur:~CCMBlockCipher.init(boolean,org.bouncycastle.crypto.CipherParameters)" resolve="init" />
+                  <node concept="3clFbT" id="622NOWS5yCg" role="37wK5m">
+                    <property role="3clFbU" value="true" />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5yCh" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWS5fGD" resolve="params" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="622NOWS5fGL" role="3cqZAp">
+              <node concept="37vLTI" id="622NOWS5fGM" role="3clFbG">
+                <node concept="2OqwBi" id="622NOWS5fGN" role="37vLTJ">
+                  <node concept="Xjq3P" id="622NOWS5fGO" role="2Oq$k0" />
+                  <node concept="2OwXpG" id="622NOWS5fGP" role="2OqNvi">
+                    <ref role="2Oxat5" node="622NOWS5fGz" resolve="macLength" />
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="622NOWS5fGQ" role="37vLTx">
+                  <node concept="2OqwBi" id="622NOWS5oFN" role="2Oq$k0">
+                    <node concept="37vLTw" id="622NOWS5oFM" role="2Oq$k0">
+                      <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS5oFO" role="2OqNvi">
+                      <ref role="37wK5l" to="b4ur:~CCMBlockCipher.getMac()" resolve="getMac" />
+                    </node>
+                  </node>
+                  <node concept="1Rwk04" id="622NOWS88qA" role="2OqNvi" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fGT" role="1B3o_S" />
+          <node concept="3cqZAl" id="622NOWS5fGU" role="3clF45" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fGV" role="jymVt">
+          <property role="TrG5h" value="getAlgorithmName" />
+          <node concept="3clFbS" id="622NOWS5fGW" role="3clF47">
+            <node concept="3cpWs6" id="622NOWS5fGX" role="3cqZAp">
+              <node concept="3cpWs3" id="622NOWS5fGY" role="3cqZAk">
+                <node concept="2OqwBi" id="622NOWS5qnG" role="3uHU7B">
+                  <node concept="37vLTw" id="622NOWS5qnF" role="2Oq$k0">
+                    <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                  </node>
+                  <node concept="liA8E" id="622NOWS5qnH" role="2OqNvi">
+                    <ref role="37wK5l" to="b4ur:~CCMBlockCipher.getAlgorithmName()" resolve="getAlgorithmName" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5fH0" role="3uHU7w">
+                  <property role="Xl_RC" value="Mac" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fH1" role="1B3o_S" />
+          <node concept="3uibUv" id="622NOWS5fH2" role="3clF45">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3clFb_" id="622NOWS5fH3" role="jymVt">
+          <property role="TrG5h" value="getMacSize" />
+          <node concept="3clFbS" id="622NOWS5fH4" role="3clF47">
+            <node concept="3cpWs6" id="622NOWS5fH5" role="3cqZAp">
+              <node concept="37vLTw" id="622NOWS5fH6" role="3cqZAk">
+                <ref role="3cqZAo" node="622NOWS5fGz" resolve="macLength" />
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fH7" role="1B3o_S" />
+          <node concept="10Oyi0" id="622NOWS5fH8" role="3clF45" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fH9" role="jymVt">
+          <property role="TrG5h" value="update" />
+          <node concept="37vLTG" id="622NOWS5fHa" role="3clF46">
+            <property role="TrG5h" value="in" />
+            <node concept="10PrrI" id="622NOWS5fHb" role="1tU5fm" />
+          </node>
+          <node concept="3uibUv" id="622NOWS5fHc" role="Sfmx6">
+            <ref role="3uigEE" to="wyt6:~IllegalStateException" resolve="IllegalStateException" />
+          </node>
+          <node concept="3clFbS" id="622NOWS5fHd" role="3clF47">
+            <node concept="3clFbF" id="622NOWS5fHe" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWS5B$g" role="3clFbG">
+                <node concept="37vLTw" id="622NOWS5B$f" role="2Oq$k0">
+                  <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                </node>
+                <node concept="liA8E" id="622NOWS5B$h" role="2OqNvi">
+                  <ref role="37wK5l" to="b4ur:~CCMBlockCipher.processAADByte(byte)" resolve="processAADByte" />
+                  <node concept="37vLTw" id="622NOWS5B$i" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWS5fHa" resolve="in" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fHh" role="1B3o_S" />
+          <node concept="3cqZAl" id="622NOWS5fHi" role="3clF45" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fHj" role="jymVt">
+          <property role="TrG5h" value="update" />
+          <node concept="37vLTG" id="622NOWS5fHk" role="3clF46">
+            <property role="TrG5h" value="in" />
+            <node concept="10Q1$e" id="622NOWS5fHm" role="1tU5fm">
+              <node concept="10PrrI" id="622NOWS5fHl" role="10Q1$1" />
+            </node>
+          </node>
+          <node concept="37vLTG" id="622NOWS5fHn" role="3clF46">
+            <property role="TrG5h" value="inOff" />
+            <node concept="10Oyi0" id="622NOWS5fHo" role="1tU5fm" />
+          </node>
+          <node concept="37vLTG" id="622NOWS5fHp" role="3clF46">
+            <property role="TrG5h" value="len" />
+            <node concept="10Oyi0" id="622NOWS5fHq" role="1tU5fm" />
+          </node>
+          <node concept="3uibUv" id="622NOWS5fHr" role="Sfmx6">
+            <ref role="3uigEE" to="6y4x:~DataLengthException" resolve="DataLengthException" />
+          </node>
+          <node concept="3uibUv" id="622NOWS5fHs" role="Sfmx6">
+            <ref role="3uigEE" to="wyt6:~IllegalStateException" resolve="IllegalStateException" />
+          </node>
+          <node concept="3clFbS" id="622NOWS5fHt" role="3clF47">
+            <node concept="3clFbF" id="622NOWS5fHu" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWS5JHi" role="3clFbG">
+                <node concept="37vLTw" id="622NOWS5JHh" role="2Oq$k0">
+                  <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                </node>
+                <node concept="liA8E" id="622NOWS5JHj" role="2OqNvi">
+                  <ref role="37wK5l" to="b4ur:~CCMBlockCipher.processAADBytes(byte[],int,int)" resolve="processAADBytes" />
+                  <node concept="37vLTw" id="622NOWS5JHk" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWS5fHk" resolve="in" />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5JHl" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWS5fHn" resolve="inOff" />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5JHm" role="37wK5m">
+                    <ref role="3cqZAo" node="622NOWS5fHp" resolve="len" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fHz" role="1B3o_S" />
+          <node concept="3cqZAl" id="622NOWS5fH$" role="3clF45" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fH_" role="jymVt">
+          <property role="TrG5h" value="doFinal" />
+          <node concept="37vLTG" id="622NOWS5fHA" role="3clF46">
+            <property role="TrG5h" value="out" />
+            <node concept="10Q1$e" id="622NOWS5fHC" role="1tU5fm">
+              <node concept="10PrrI" id="622NOWS5fHB" role="10Q1$1" />
+            </node>
+          </node>
+          <node concept="37vLTG" id="622NOWS5fHD" role="3clF46">
+            <property role="TrG5h" value="outOff" />
+            <node concept="10Oyi0" id="622NOWS5fHE" role="1tU5fm" />
+          </node>
+          <node concept="3uibUv" id="622NOWS5fHF" role="Sfmx6">
+            <ref role="3uigEE" to="6y4x:~DataLengthException" resolve="DataLengthException" />
+          </node>
+          <node concept="3uibUv" id="622NOWS5fHG" role="Sfmx6">
+            <ref role="3uigEE" to="wyt6:~IllegalStateException" resolve="IllegalStateException" />
+          </node>
+          <node concept="3clFbS" id="622NOWS5fHH" role="3clF47">
+            <node concept="3J1_TO" id="622NOWS5fHY" role="3cqZAp">
+              <node concept="3uVAMA" id="622NOWS5fHZ" role="1zxBo5">
+                <node concept="3clFbS" id="622NOWS5fHS" role="1zc67A">
+                  <node concept="YS8fn" id="622NOWS5fHX" role="3cqZAp">
+                    <node concept="2ShNRf" id="622NOWS7FFa" role="YScLw">
+                      <node concept="1pGfFk" id="622NOWS7FOs" role="2ShVmc">
+                        <ref role="37wK5l" to="wyt6:~IllegalStateException.&lt;init&gt;(java.lang.String)" resolve="IllegalStateException" />
+                        <node concept="3cpWs3" id="622NOWS7FOt" role="37wK5m">
+                          <node concept="Xl_RD" id="622NOWS7FOu" role="3uHU7B">
+                            <property role="Xl_RC" value="exception on doFinal(): " />
+                          </node>
+                          <node concept="2OqwBi" id="622NOWS7FOv" role="3uHU7w">
+                            <node concept="37vLTw" id="622NOWS7FOw" role="2Oq$k0">
+                              <ref role="3cqZAo" node="622NOWS5fHO" resolve="e" />
+                            </node>
+                            <node concept="liA8E" id="622NOWS7FOx" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~Throwable.toString()" resolve="toString" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="XOnhg" id="622NOWS5fHO" role="1zc67B">
+                  <property role="TrG5h" value="e" />
+                  <node concept="nSUau" id="622NOWS5fHQ" role="1tU5fm">
+                    <node concept="3uibUv" id="622NOWS5fHP" role="nSUat">
+                      <ref role="3uigEE" to="6y4x:~InvalidCipherTextException" resolve="InvalidCipherTextException" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="622NOWS5fHJ" role="1zxBo7">
+                <node concept="3cpWs6" id="622NOWS5fHK" role="3cqZAp">
+                  <node concept="2OqwBi" id="622NOWS7eCW" role="3cqZAk">
+                    <node concept="37vLTw" id="622NOWS7eCV" role="2Oq$k0">
+                      <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS7eCX" role="2OqNvi">
+                      <ref role="37wK5l" to="b4ur:~CCMBlockCipher.doFinal(byte[],int)" resolve="doFinal" />
+                      <node concept="37vLTw" id="622NOWS7eCY" role="37wK5m">
+                        <ref role="3cqZAo" node="622NOWS5fHA" resolve="out" />
+                      </node>
+                      <node concept="3cmrfG" id="622NOWS7eCZ" role="37wK5m">
+                        <property role="3cmrfH" value="0" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fI0" role="1B3o_S" />
+          <node concept="10Oyi0" id="622NOWS5fI1" role="3clF45" />
+        </node>
+        <node concept="3clFb_" id="622NOWS5fI2" role="jymVt">
+          <property role="TrG5h" value="reset" />
+          <node concept="3clFbS" id="622NOWS5fI3" role="3clF47">
+            <node concept="3clFbF" id="622NOWS5fI4" role="3cqZAp">
+              <node concept="2OqwBi" id="622NOWS5JJq" role="3clFbG">
+                <node concept="37vLTw" id="622NOWS5JJp" role="2Oq$k0">
+                  <ref role="3cqZAo" node="622NOWS5fGt" resolve="ccm" />
+                </node>
+                <node concept="liA8E" id="622NOWS5JJr" role="2OqNvi">
+                  <ref role="37wK5l" to="b4ur:~CCMBlockCipher.reset()" resolve="reset" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3Tm1VV" id="622NOWS5fI6" role="1B3o_S" />
+          <node concept="3cqZAl" id="622NOWS5fI7" role="3clF45" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fIf" role="jymVt">
+      <property role="TrG5h" value="KeyFactory" />
+      <node concept="3Tm1VV" id="622NOWS5fIg" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fIh" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseSecretKeyFactory" resolve="BaseSecretKeyFactory" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fIi" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIj" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIk" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5wLI" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseSecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier)" resolve="BaseSecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS5wLJ" role="37wK5m">
+              <property role="Xl_RC" value="AES" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS5wLK" role="37wK5m" />
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIo" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fIp" role="jymVt">
+      <property role="TrG5h" value="Poly1305" />
+      <node concept="3Tm1VV" id="622NOWS5fIq" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fIr" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fIs" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIt" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIu" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5q7M" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseMac.&lt;init&gt;(org.bouncycastle.crypto.Mac)" resolve="BaseMac" />
+            <node concept="2ShNRf" id="622NOWS8cFf" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8cGK" role="2ShVmc">
+                <ref role="37wK5l" node="622NOWS5fIs" resolve="AES.Poly1305" />
+                <node concept="2ShNRf" id="622NOWS8cGL" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8cGM" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIy" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fIz" role="jymVt">
+      <property role="TrG5h" value="Poly1305KeyGen" />
+      <node concept="3Tm1VV" id="622NOWS5fI$" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fI_" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseKeyGenerator" resolve="BaseKeyGenerator" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fIA" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIB" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIC" role="3clF47">
+          <node concept="XkiVB" id="622NOWS72Sr" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseKeyGenerator.&lt;init&gt;(java.lang.String,int,org.bouncycastle.crypto.CipherKeyGenerator)" resolve="BaseKeyGenerator" />
+            <node concept="Xl_RD" id="622NOWS72Ss" role="37wK5m">
+              <property role="Xl_RC" value="Poly1305-AES" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS72St" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="2ShNRf" id="622NOWS8bZ4" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8bZ5" role="2ShVmc">
+                <ref role="37wK5l" to="xewt:~Poly1305KeyGenerator.&lt;init&gt;()" resolve="Poly1305KeyGenerator" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIH" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fII" role="jymVt">
+      <property role="TrG5h" value="Wrap" />
+      <node concept="3Tm1VV" id="622NOWS5fIJ" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fIK" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseWrapCipher" resolve="BaseWrapCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fIL" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIM" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIN" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6gcz" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseWrapCipher.&lt;init&gt;(org.bouncycastle.crypto.Wrapper)" resolve="BaseWrapCipher" />
+            <node concept="2ShNRf" id="622NOWS8ap7" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8ap9" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~AESWrapEngine.&lt;init&gt;()" resolve="AESWrapEngine" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIQ" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fIR" role="jymVt">
+      <property role="TrG5h" value="WrapPad" />
+      <node concept="3Tm1VV" id="622NOWS5fIS" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fIT" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseWrapCipher" resolve="BaseWrapCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fIU" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fIV" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fIW" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7_6K" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseWrapCipher.&lt;init&gt;(org.bouncycastle.crypto.Wrapper)" resolve="BaseWrapCipher" />
+            <node concept="2ShNRf" id="622NOWS89$H" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS89$J" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~AESWrapPadEngine.&lt;init&gt;()" resolve="AESWrapPadEngine" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fIZ" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJ0" role="jymVt">
+      <property role="TrG5h" value="RFC3211Wrap" />
+      <node concept="3Tm1VV" id="622NOWS5fJ1" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJ2" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseWrapCipher" resolve="BaseWrapCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fJ3" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fJ4" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fJ5" role="3clF47">
+          <node concept="XkiVB" id="622NOWS72Sh" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseWrapCipher.&lt;init&gt;(org.bouncycastle.crypto.Wrapper,int)" resolve="BaseWrapCipher" />
+            <node concept="2ShNRf" id="622NOWS72Si" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS72Sj" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~RFC3211WrapEngine.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="RFC3211WrapEngine" />
+                <node concept="2ShNRf" id="622NOWS8bQr" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8bQt" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="622NOWS72Sl" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fJa" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJb" role="jymVt">
+      <property role="TrG5h" value="RFC5649Wrap" />
+      <node concept="3Tm1VV" id="622NOWS5fJc" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJd" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseWrapCipher" resolve="BaseWrapCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fJe" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fJf" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fJg" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6gct" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseWrapCipher.&lt;init&gt;(org.bouncycastle.crypto.Wrapper)" resolve="BaseWrapCipher" />
+            <node concept="2ShNRf" id="622NOWS8bjS" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8blp" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~RFC5649WrapEngine.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="RFC5649WrapEngine" />
+                <node concept="2ShNRf" id="622NOWS8blq" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8blr" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fJk" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJl" role="jymVt">
+      <property role="TrG5h" value="PBEWithAESCBC" />
+      <node concept="3Tm1VV" id="622NOWS5fJm" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJn" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fJv" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfH" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfI" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithAES-CBC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fJo" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fJp" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fJq" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7_eg" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS89t7" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS89tl" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8itj" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8itl" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fJu" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJw" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA1AESCBC128" />
+      <node concept="3Tm1VV" id="622NOWS5fJx" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJy" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fJI" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfJ" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfK" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA1AES-CBC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fJz" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fJ$" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fJ_" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6KuF" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS6KuG" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS6KuH" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS6KuI" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS6KuJ" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS6KuK" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6KuL" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6KuM" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6KuN" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fJH" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJJ" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA1AESCBC192" />
+      <node concept="3Tm1VV" id="622NOWS5fJK" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJL" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fJM" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fJN" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fJO" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5BAq" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS8aIE" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8aIS" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8itq" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8its" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS5BAt" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5BAu" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5BAv" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5BAw" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fJW" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fJX" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA1AESCBC256" />
+      <node concept="3Tm1VV" id="622NOWS5fJY" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fJZ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fK0" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fK1" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fK2" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5XMj" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS5XMk" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS5XMl" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS5XMm" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS5XMn" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS5XMo" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5XMp" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5XMq" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5XMr" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fKa" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fKb" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256AESCBC128" />
+      <node concept="3Tm1VV" id="622NOWS5fKc" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fKd" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fKp" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfL" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfM" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA256AES-CBC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fKe" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fKf" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fKg" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5p92" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS8b8Y" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8bav" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8baw" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8bax" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS5p95" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5p96" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5p97" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5p98" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fKo" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fKq" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256AESCBC192" />
+      <node concept="3Tm1VV" id="622NOWS5fKr" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fKs" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fKt" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fKu" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fKv" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7bms" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS7bmt" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS7bmu" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS7bmv" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS7bmw" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS7bmx" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS7bmy" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS7bmz" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS7bm$" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fKB" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fKC" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256AESCBC256" />
+      <node concept="3Tm1VV" id="622NOWS5fKD" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fKE" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fKF" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fKG" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fKH" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5oE9" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,int,int,int)" resolve="BaseBlockCipher" />
+            <node concept="2ShNRf" id="622NOWS8b4W" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8b6t" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="622NOWS8b6u" role="37wK5m">
+                  <node concept="1pGfFk" id="622NOWS8b6v" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~AESEngine.&lt;init&gt;()" resolve="AESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="622NOWS5oEc" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5oEd" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5oEe" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5oEf" role="37wK5m">
+              <property role="3cmrfH" value="16" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fKP" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fKQ" role="jymVt">
+      <property role="TrG5h" value="KeyGen" />
+      <node concept="3Tm1VV" id="622NOWS5fKR" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fKS" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseKeyGenerator" resolve="BaseKeyGenerator" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fKT" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fKU" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fKV" role="3clF47">
+          <node concept="1VxSAg" id="622NOWS70P1" role="3cqZAp">
+            <ref role="37wK5l" node="622NOWS5fKZ" resolve="AES.KeyGen" />
+            <node concept="3cmrfG" id="622NOWS70P2" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fKY" role="1B3o_S" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fKZ" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fL0" role="3clF45" />
+        <node concept="37vLTG" id="622NOWS5fL1" role="3clF46">
+          <property role="TrG5h" value="keySize" />
+          <node concept="10Oyi0" id="622NOWS5fL2" role="1tU5fm" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fL3" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5tMN" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~BaseKeyGenerator.&lt;init&gt;(java.lang.String,int,org.bouncycastle.crypto.CipherKeyGenerator)" resolve="BaseKeyGenerator" />
+            <node concept="Xl_RD" id="622NOWS5tMO" role="37wK5m">
+              <property role="Xl_RC" value="AES" />
+            </node>
+            <node concept="37vLTw" id="622NOWS5tMP" role="37wK5m">
+              <ref role="3cqZAo" node="622NOWS5fL1" resolve="keySize" />
+            </node>
+            <node concept="2ShNRf" id="622NOWS8bmE" role="37wK5m">
+              <node concept="1pGfFk" id="622NOWS8bmF" role="2ShVmc">
+                <ref role="37wK5l" to="6y4x:~CipherKeyGenerator.&lt;init&gt;()" resolve="CipherKeyGenerator" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fL8" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fL9" role="jymVt">
+      <property role="TrG5h" value="KeyGen128" />
+      <node concept="3Tm1VV" id="622NOWS5fLa" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fLb" role="1zkMxy">
+        <ref role="3uigEE" node="622NOWS5fKQ" resolve="AES.KeyGen" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fLc" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fLd" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fLe" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5pKM" role="3cqZAp">
+            <ref role="37wK5l" node="622NOWS5fKZ" resolve="AES.KeyGen" />
+            <node concept="3cmrfG" id="622NOWS5pKN" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fLh" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fLi" role="jymVt">
+      <property role="TrG5h" value="KeyGen192" />
+      <node concept="3Tm1VV" id="622NOWS5fLj" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fLk" role="1zkMxy">
+        <ref role="3uigEE" node="622NOWS5fKQ" resolve="AES.KeyGen" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fLl" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fLm" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fLn" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6Qtz" role="3cqZAp">
+            <ref role="37wK5l" node="622NOWS5fKZ" resolve="AES.KeyGen" />
+            <node concept="3cmrfG" id="622NOWS6Qt$" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fLq" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fLr" role="jymVt">
+      <property role="TrG5h" value="KeyGen256" />
+      <node concept="3Tm1VV" id="622NOWS5fLs" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fLt" role="1zkMxy">
+        <ref role="3uigEE" node="622NOWS5fKQ" resolve="AES.KeyGen" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fLu" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fLv" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fLw" role="3clF47">
+          <node concept="XkiVB" id="622NOWS66Xl" role="3cqZAp">
+            <ref role="37wK5l" node="622NOWS5fKZ" resolve="AES.KeyGen" />
+            <node concept="3cmrfG" id="622NOWS66Xm" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fLz" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fL$" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHAAnd128BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fL_" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fLA" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fLN" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfN" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfO" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA1And128BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fLB" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fLC" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fLD" role="3clF47">
+          <node concept="XkiVB" id="622NOWS7gz4" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS7gz5" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA1And128BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS7gz6" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS7gz7" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS7gz8" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS7gz9" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS7gza" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS7gzb" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fLM" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fLO" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHAAnd192BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fLP" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fLQ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fM3" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfP" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfQ" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA1And192BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fLR" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fLS" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fLT" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6Gmp" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6Gmq" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA1And192BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6Gmr" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6Gms" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6Gmt" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6Gmu" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6Gmv" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6Gmw" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fM2" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fM4" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHAAnd256BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fM5" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fM6" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fMj" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfR" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfS" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA1And256BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fM7" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fM8" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fM9" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5uab" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS5uac" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA1And256BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS5uad" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS5uae" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5uaf" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5uag" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5uah" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5uai" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fMi" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fMk" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256And128BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fMl" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fMm" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fMz" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfT" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfU" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA256And128BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fMn" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fMo" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fMp" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6M5S" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6M5T" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA256And128BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6M5U" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6M5V" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6M5W" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6M5X" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6M5Y" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6M5Z" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fMy" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fM$" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256And192BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fM_" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fMA" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fMN" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfV" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfW" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA256And192BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fMB" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fMC" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fMD" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6dov" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6dow" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA256And192BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6dox" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6doy" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6doz" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6do$" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6do_" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6doA" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fMM" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fMO" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA256And256BitAESBC" />
+      <node concept="3Tm1VV" id="622NOWS5fMP" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fMQ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fN3" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfX" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gfY" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA256And256BitAES-BC" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fMR" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fMS" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fMT" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6sx3" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6sx4" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithSHA256And256BitAES-CBC-BC" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6sx5" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6sx6" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6sx7" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS12" resolve="PKCS12" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6sx8" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA256" resolve="SHA256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6sx9" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6sxa" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fN2" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fN4" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD5And128BitAESCBCOpenSSL" />
+      <node concept="3Tm1VV" id="622NOWS5fN5" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fN6" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fNj" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gfZ" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gg0" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD5And128BitAES-OpenSSL" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fN7" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fN8" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fN9" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6jT5" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6jT6" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithMD5And128BitAES-CBC-OpenSSL" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6jT7" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6jT8" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6jT9" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.OPENSSL" resolve="OPENSSL" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6jTa" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD5" resolve="MD5" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6jTb" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6jTc" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fNi" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fNk" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD5And192BitAESCBCOpenSSL" />
+      <node concept="3Tm1VV" id="622NOWS5fNl" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fNm" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fNz" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gg1" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gg2" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD5And192BitAES-OpenSSL" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fNn" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fNo" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fNp" role="3clF47">
+          <node concept="XkiVB" id="622NOWS6$dP" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS6$dQ" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithMD5And192BitAES-CBC-OpenSSL" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS6$dR" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS6$dS" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6$dT" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.OPENSSL" resolve="OPENSSL" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS6$dU" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD5" resolve="MD5" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6$dV" role="37wK5m">
+              <property role="3cmrfH" value="192" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS6$dW" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fNy" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fN$" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD5And256BitAESCBCOpenSSL" />
+      <node concept="3Tm1VV" id="622NOWS5fN_" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fNA" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~PBESecretKeyFactory" resolve="PBESecretKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="622NOWS5fNN" role="lGtFl">
+        <node concept="TZ5HA" id="622NOWS5gg3" role="TZ5H$">
+          <node concept="1dT_AC" id="622NOWS5gg4" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD5And256BitAES-OpenSSL" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="622NOWS5fNB" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fNC" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fND" role="3clF47">
+          <node concept="XkiVB" id="622NOWS5zIL" role="3cqZAp">
+            <ref role="37wK5l" to="c0ik:~PBESecretKeyFactory.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,boolean,int,int,int,int)" resolve="PBESecretKeyFactory" />
+            <node concept="Xl_RD" id="622NOWS5zIM" role="37wK5m">
+              <property role="Xl_RC" value="PBEWithMD5And256BitAES-CBC-OpenSSL" />
+            </node>
+            <node concept="10Nm6u" id="622NOWS5zIN" role="37wK5m" />
+            <node concept="3clFbT" id="622NOWS5zIO" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5zIP" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.OPENSSL" resolve="OPENSSL" />
+            </node>
+            <node concept="10M0yZ" id="622NOWS5zIQ" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD5" resolve="MD5" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5zIR" role="37wK5m">
+              <property role="3cmrfH" value="256" />
+            </node>
+            <node concept="3cmrfG" id="622NOWS5zIS" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5fNM" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fNO" role="jymVt">
+      <property role="TrG5h" value="AlgParamGen" />
+      <node concept="3Tm1VV" id="622NOWS5fNP" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fNQ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameterGenerator" resolve="BaseAlgorithmParameterGenerator" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fNR" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fNS" role="3clF46">
+          <property role="TrG5h" value="genParamSpec" />
+          <node concept="3uibUv" id="622NOWS5fNT" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="622NOWS5fNU" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="622NOWS5fNV" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fNW" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fNX" role="3clF47">
+          <node concept="YS8fn" id="622NOWS5fO0" role="3cqZAp">
+            <node concept="2ShNRf" id="622NOWS5JLm" role="YScLw">
+              <node concept="1pGfFk" id="622NOWS5JPN" role="2ShVmc">
+                <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                <node concept="Xl_RD" id="622NOWS5JPO" role="37wK5m">
+                  <property role="Xl_RC" value="No supported AlgorithmParameterSpec for AES parameter generation." />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fO1" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fO2" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fO3" role="jymVt">
+        <property role="TrG5h" value="engineGenerateParameters" />
+        <node concept="3clFbS" id="622NOWS5fO4" role="3clF47">
+          <node concept="3cpWs8" id="622NOWS5fO6" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fO5" role="3cpWs9">
+              <property role="TrG5h" value="iv" />
+              <node concept="10Q1$e" id="622NOWS5fO8" role="1tU5fm">
+                <node concept="10PrrI" id="622NOWS5fO7" role="10Q1$1" />
+              </node>
+              <node concept="2ShNRf" id="622NOWS5fOd" role="33vP2m">
+                <node concept="3$_iS1" id="622NOWS5fOb" role="2ShVmc">
+                  <node concept="3$GHV9" id="622NOWS5fOc" role="3$GQph">
+                    <node concept="3cmrfG" id="622NOWS5fOa" role="3$I4v7">
+                      <property role="3cmrfH" value="16" />
+                    </node>
+                  </node>
+                  <node concept="10PrrI" id="622NOWS5fO9" role="3$_nBY" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fOe" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fOf" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fOg" role="3uHU7B">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="10Nm6u" id="622NOWS5fOh" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="622NOWS5fOj" role="3clFbx">
+              <node concept="3clFbF" id="622NOWS5fOk" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fOl" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fOm" role="37vLTJ">
+                    <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+                  </node>
+                  <node concept="2YIFZM" id="622NOWS74bF" role="37vLTx">
+                    <ref role="1Pybhc" to="6y4x:~CryptoServicesRegistrar" resolve="CryptoServicesRegistrar" />
+                    <ref role="37wK5l" to="6y4x:~CryptoServicesRegistrar.getSecureRandom()" resolve="getSecureRandom" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fOo" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5s9A" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5s9_" role="2Oq$k0">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="liA8E" id="622NOWS5s9B" role="2OqNvi">
+                <ref role="37wK5l" to="jgjw:~SecureRandom.nextBytes(byte[])" resolve="nextBytes" />
+                <node concept="37vLTw" id="622NOWS5s9C" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fO5" resolve="iv" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs8" id="622NOWS5fOs" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fOr" role="3cpWs9">
+              <property role="TrG5h" value="params" />
+              <node concept="3uibUv" id="622NOWS5fOt" role="1tU5fm">
+                <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+              </node>
+            </node>
+          </node>
+          <node concept="3J1_TO" id="622NOWS5fOL" role="3cqZAp">
+            <node concept="3uVAMA" id="622NOWS5fOM" role="1zxBo5">
+              <node concept="3clFbS" id="622NOWS5fOH" role="1zc67A">
+                <node concept="YS8fn" id="622NOWS5fOK" role="3cqZAp">
+                  <node concept="2ShNRf" id="622NOWS6LEH" role="YScLw">
+                    <node concept="1pGfFk" id="622NOWS6LF7" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~RuntimeException.&lt;init&gt;(java.lang.String)" resolve="RuntimeException" />
+                      <node concept="2OqwBi" id="622NOWS89yE" role="37wK5m">
+                        <node concept="37vLTw" id="622NOWS89yD" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fOD" resolve="e" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS89yF" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Throwable.getMessage()" resolve="getMessage" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="XOnhg" id="622NOWS5fOD" role="1zc67B">
+                <property role="TrG5h" value="e" />
+                <node concept="nSUau" id="622NOWS5fOF" role="1tU5fm">
+                  <node concept="3uibUv" id="622NOWS5fOE" role="nSUat">
+                    <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fOv" role="1zxBo7">
+              <node concept="3clFbF" id="622NOWS5fOw" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fOx" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fOy" role="37vLTJ">
+                    <ref role="3cqZAo" node="622NOWS5fOr" resolve="params" />
+                  </node>
+                  <node concept="1rXfSq" id="622NOWS5fOz" role="37vLTx">
+                    <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameterGenerator.createParametersInstance(java.lang.String)" resolve="createParametersInstance" />
+                    <node concept="Xl_RD" id="622NOWS5fO$" role="37wK5m">
+                      <property role="Xl_RC" value="AES" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="622NOWS5fO_" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWS7vRf" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS7vRe" role="2Oq$k0">
+                    <ref role="3cqZAo" node="622NOWS5fOr" resolve="params" />
+                  </node>
+                  <node concept="liA8E" id="622NOWS7vRg" role="2OqNvi">
+                    <ref role="37wK5l" to="jgjw:~AlgorithmParameters.init(java.security.spec.AlgorithmParameterSpec)" resolve="init" />
+                    <node concept="2ShNRf" id="622NOWS7vRh" role="37wK5m">
+                      <node concept="1pGfFk" id="622NOWS7vRi" role="2ShVmc">
+                        <ref role="37wK5l" to="7lc:~IvParameterSpec.&lt;init&gt;(byte[])" resolve="IvParameterSpec" />
+                        <node concept="37vLTw" id="622NOWS7vRj" role="37wK5m">
+                          <ref role="3cqZAo" node="622NOWS5fO5" resolve="iv" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="622NOWS5fON" role="3cqZAp">
+            <node concept="37vLTw" id="622NOWS5fOO" role="3cqZAk">
+              <ref role="3cqZAo" node="622NOWS5fOr" resolve="params" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fOP" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fOQ" role="3clF45">
+          <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fOR" role="jymVt">
+      <property role="TrG5h" value="AlgParamGenCCM" />
+      <node concept="3Tm1VV" id="622NOWS5fOS" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fOT" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameterGenerator" resolve="BaseAlgorithmParameterGenerator" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fOU" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fOV" role="3clF46">
+          <property role="TrG5h" value="genParamSpec" />
+          <node concept="3uibUv" id="622NOWS5fOW" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="622NOWS5fOX" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="622NOWS5fOY" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fOZ" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fP0" role="3clF47">
+          <node concept="3SKdUt" id="622NOWS5gg5" role="3cqZAp">
+            <node concept="1PaTwC" id="622NOWS5gg6" role="1aUNEU">
+              <node concept="3oM_SD" id="622NOWS5gg7" role="1PaTwD">
+                <property role="3oM_SC" value="TODO:" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5gg8" role="1PaTwD">
+                <property role="3oM_SC" value="add" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5gg9" role="1PaTwD">
+                <property role="3oM_SC" value="support" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5gga" role="1PaTwD">
+                <property role="3oM_SC" value="for" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggb" role="1PaTwD">
+                <property role="3oM_SC" value="GCMParameterSpec" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggc" role="1PaTwD">
+                <property role="3oM_SC" value="as" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggd" role="1PaTwD">
+                <property role="3oM_SC" value="a" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5gge" role="1PaTwD">
+                <property role="3oM_SC" value="template." />
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="622NOWS5fP3" role="3cqZAp">
+            <node concept="2ShNRf" id="622NOWS7gue" role="YScLw">
+              <node concept="1pGfFk" id="622NOWS7gyF" role="2ShVmc">
+                <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                <node concept="Xl_RD" id="622NOWS7gyG" role="37wK5m">
+                  <property role="Xl_RC" value="No supported AlgorithmParameterSpec for AES parameter generation." />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fP4" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fP5" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fP6" role="jymVt">
+        <property role="TrG5h" value="engineGenerateParameters" />
+        <node concept="3clFbS" id="622NOWS5fP7" role="3clF47">
+          <node concept="3cpWs8" id="622NOWS5fP9" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fP8" role="3cpWs9">
+              <property role="TrG5h" value="iv" />
+              <node concept="10Q1$e" id="622NOWS5fPb" role="1tU5fm">
+                <node concept="10PrrI" id="622NOWS5fPa" role="10Q1$1" />
+              </node>
+              <node concept="2ShNRf" id="622NOWS5fPg" role="33vP2m">
+                <node concept="3$_iS1" id="622NOWS5fPe" role="2ShVmc">
+                  <node concept="3$GHV9" id="622NOWS5fPf" role="3$GQph">
+                    <node concept="3cmrfG" id="622NOWS5fPd" role="3$I4v7">
+                      <property role="3cmrfH" value="12" />
+                    </node>
+                  </node>
+                  <node concept="10PrrI" id="622NOWS5fPc" role="3$_nBY" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fPh" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fPi" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fPj" role="3uHU7B">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="10Nm6u" id="622NOWS5fPk" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="622NOWS5fPm" role="3clFbx">
+              <node concept="3clFbF" id="622NOWS5fPn" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fPo" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fPp" role="37vLTJ">
+                    <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+                  </node>
+                  <node concept="2ShNRf" id="622NOWS68U2" role="37vLTx">
+                    <node concept="1pGfFk" id="622NOWS68U4" role="2ShVmc">
+                      <ref role="37wK5l" to="jgjw:~SecureRandom.&lt;init&gt;()" resolve="SecureRandom" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fPr" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6jlB" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6jlA" role="2Oq$k0">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="liA8E" id="622NOWS6jlC" role="2OqNvi">
+                <ref role="37wK5l" to="jgjw:~SecureRandom.nextBytes(byte[])" resolve="nextBytes" />
+                <node concept="37vLTw" id="622NOWS6jlD" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fP8" resolve="iv" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs8" id="622NOWS5fPv" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fPu" role="3cpWs9">
+              <property role="TrG5h" value="params" />
+              <node concept="3uibUv" id="622NOWS5fPw" role="1tU5fm">
+                <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+              </node>
+            </node>
+          </node>
+          <node concept="3J1_TO" id="622NOWS5fPR" role="3cqZAp">
+            <node concept="3uVAMA" id="622NOWS5fPS" role="1zxBo5">
+              <node concept="3clFbS" id="622NOWS5fPN" role="1zc67A">
+                <node concept="YS8fn" id="622NOWS5fPQ" role="3cqZAp">
+                  <node concept="2ShNRf" id="622NOWS5MLo" role="YScLw">
+                    <node concept="1pGfFk" id="622NOWS5MLM" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~RuntimeException.&lt;init&gt;(java.lang.String)" resolve="RuntimeException" />
+                      <node concept="2OqwBi" id="622NOWS8bCf" role="37wK5m">
+                        <node concept="37vLTw" id="622NOWS8bCe" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fPJ" resolve="e" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS8bCg" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Throwable.getMessage()" resolve="getMessage" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="XOnhg" id="622NOWS5fPJ" role="1zc67B">
+                <property role="TrG5h" value="e" />
+                <node concept="nSUau" id="622NOWS5fPL" role="1tU5fm">
+                  <node concept="3uibUv" id="622NOWS5fPK" role="nSUat">
+                    <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fPy" role="1zxBo7">
+              <node concept="3clFbF" id="622NOWS5fPz" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fP$" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fP_" role="37vLTJ">
+                    <ref role="3cqZAo" node="622NOWS5fPu" resolve="params" />
+                  </node>
+                  <node concept="1rXfSq" id="622NOWS5fPA" role="37vLTx">
+                    <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameterGenerator.createParametersInstance(java.lang.String)" resolve="createParametersInstance" />
+                    <node concept="Xl_RD" id="622NOWS5fPB" role="37wK5m">
+                      <property role="Xl_RC" value="CCM" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="622NOWS5fPC" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWS6pvr" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS6pvq" role="2Oq$k0">
+                    <ref role="3cqZAo" node="622NOWS5fPu" resolve="params" />
+                  </node>
+                  <node concept="liA8E" id="622NOWS6pvs" role="2OqNvi">
+                    <ref role="37wK5l" to="jgjw:~AlgorithmParameters.init(byte[])" resolve="init" />
+                    <node concept="2OqwBi" id="622NOWS6pvt" role="37wK5m">
+                      <node concept="2ShNRf" id="622NOWS8c2Y" role="2Oq$k0">
+                        <node concept="1pGfFk" id="622NOWS8c5z" role="2ShVmc">
+                          <ref role="37wK5l" to="oln5:~CCMParameters.&lt;init&gt;(byte[],int)" resolve="CCMParameters" />
+                          <node concept="37vLTw" id="622NOWS8c5$" role="37wK5m">
+                            <ref role="3cqZAo" node="622NOWS5fP8" resolve="iv" />
+                          </node>
+                          <node concept="3cmrfG" id="622NOWS8c5_" role="37wK5m">
+                            <property role="3cmrfH" value="12" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="liA8E" id="622NOWS8HPf" role="2OqNvi">
+                        <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="622NOWS5fPT" role="3cqZAp">
+            <node concept="37vLTw" id="622NOWS5fPU" role="3cqZAk">
+              <ref role="3cqZAo" node="622NOWS5fPu" resolve="params" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fPV" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fPW" role="3clF45">
+          <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fPX" role="jymVt">
+      <property role="TrG5h" value="AlgParamGenGCM" />
+      <node concept="3Tm1VV" id="622NOWS5fPY" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fPZ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameterGenerator" resolve="BaseAlgorithmParameterGenerator" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fQ0" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fQ1" role="3clF46">
+          <property role="TrG5h" value="genParamSpec" />
+          <node concept="3uibUv" id="622NOWS5fQ2" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="622NOWS5fQ3" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="622NOWS5fQ4" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fQ5" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fQ6" role="3clF47">
+          <node concept="3SKdUt" id="622NOWS5ggf" role="3cqZAp">
+            <node concept="1PaTwC" id="622NOWS5ggg" role="1aUNEU">
+              <node concept="3oM_SD" id="622NOWS5ggh" role="1PaTwD">
+                <property role="3oM_SC" value="TODO:" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggi" role="1PaTwD">
+                <property role="3oM_SC" value="add" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggj" role="1PaTwD">
+                <property role="3oM_SC" value="support" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggk" role="1PaTwD">
+                <property role="3oM_SC" value="for" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggl" role="1PaTwD">
+                <property role="3oM_SC" value="GCMParameterSpec" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggm" role="1PaTwD">
+                <property role="3oM_SC" value="as" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggn" role="1PaTwD">
+                <property role="3oM_SC" value="a" />
+              </node>
+              <node concept="3oM_SD" id="622NOWS5ggo" role="1PaTwD">
+                <property role="3oM_SC" value="template." />
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="622NOWS5fQ9" role="3cqZAp">
+            <node concept="2ShNRf" id="622NOWS7gyK" role="YScLw">
+              <node concept="1pGfFk" id="622NOWS7gyZ" role="2ShVmc">
+                <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                <node concept="Xl_RD" id="622NOWS7gz0" role="37wK5m">
+                  <property role="Xl_RC" value="No supported AlgorithmParameterSpec for AES parameter generation." />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fQa" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fQb" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fQc" role="jymVt">
+        <property role="TrG5h" value="engineGenerateParameters" />
+        <node concept="3clFbS" id="622NOWS5fQd" role="3clF47">
+          <node concept="3cpWs8" id="622NOWS5fQf" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fQe" role="3cpWs9">
+              <property role="TrG5h" value="nonce" />
+              <node concept="10Q1$e" id="622NOWS5fQh" role="1tU5fm">
+                <node concept="10PrrI" id="622NOWS5fQg" role="10Q1$1" />
+              </node>
+              <node concept="2ShNRf" id="622NOWS5fQm" role="33vP2m">
+                <node concept="3$_iS1" id="622NOWS5fQk" role="2ShVmc">
+                  <node concept="3$GHV9" id="622NOWS5fQl" role="3$GQph">
+                    <node concept="3cmrfG" id="622NOWS5fQj" role="3$I4v7">
+                      <property role="3cmrfH" value="12" />
+                    </node>
+                  </node>
+                  <node concept="10PrrI" id="622NOWS5fQi" role="3$_nBY" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fQn" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fQo" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fQp" role="3uHU7B">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="10Nm6u" id="622NOWS5fQq" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="622NOWS5fQs" role="3clFbx">
+              <node concept="3clFbF" id="622NOWS5fQt" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fQu" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fQv" role="37vLTJ">
+                    <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+                  </node>
+                  <node concept="2ShNRf" id="622NOWS5XMe" role="37vLTx">
+                    <node concept="1pGfFk" id="622NOWS5XMg" role="2ShVmc">
+                      <ref role="37wK5l" to="jgjw:~SecureRandom.&lt;init&gt;()" resolve="SecureRandom" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fQx" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5zg6" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5zg5" role="2Oq$k0">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="liA8E" id="622NOWS5zg7" role="2OqNvi">
+                <ref role="37wK5l" to="jgjw:~SecureRandom.nextBytes(byte[])" resolve="nextBytes" />
+                <node concept="37vLTw" id="622NOWS5zg8" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fQe" resolve="nonce" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs8" id="622NOWS5fQ_" role="3cqZAp">
+            <node concept="3cpWsn" id="622NOWS5fQ$" role="3cpWs9">
+              <property role="TrG5h" value="params" />
+              <node concept="3uibUv" id="622NOWS5fQA" role="1tU5fm">
+                <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+              </node>
+            </node>
+          </node>
+          <node concept="3J1_TO" id="622NOWS5fQX" role="3cqZAp">
+            <node concept="3uVAMA" id="622NOWS5fQY" role="1zxBo5">
+              <node concept="3clFbS" id="622NOWS5fQT" role="1zc67A">
+                <node concept="YS8fn" id="622NOWS5fQW" role="3cqZAp">
+                  <node concept="2ShNRf" id="622NOWS5MLR" role="YScLw">
+                    <node concept="1pGfFk" id="622NOWS5MMh" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~RuntimeException.&lt;init&gt;(java.lang.String)" resolve="RuntimeException" />
+                      <node concept="2OqwBi" id="622NOWS8c_o" role="37wK5m">
+                        <node concept="37vLTw" id="622NOWS8c_n" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fQP" resolve="e" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS8c_p" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Throwable.getMessage()" resolve="getMessage" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="XOnhg" id="622NOWS5fQP" role="1zc67B">
+                <property role="TrG5h" value="e" />
+                <node concept="nSUau" id="622NOWS5fQR" role="1tU5fm">
+                  <node concept="3uibUv" id="622NOWS5fQQ" role="nSUat">
+                    <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fQC" role="1zxBo7">
+              <node concept="3clFbF" id="622NOWS5fQD" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fQE" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fQF" role="37vLTJ">
+                    <ref role="3cqZAo" node="622NOWS5fQ$" resolve="params" />
+                  </node>
+                  <node concept="1rXfSq" id="622NOWS5fQG" role="37vLTx">
+                    <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameterGenerator.createParametersInstance(java.lang.String)" resolve="createParametersInstance" />
+                    <node concept="Xl_RD" id="622NOWS5fQH" role="37wK5m">
+                      <property role="Xl_RC" value="GCM" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="622NOWS5fQI" role="3cqZAp">
+                <node concept="2OqwBi" id="622NOWS6pON" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS6pOM" role="2Oq$k0">
+                    <ref role="3cqZAo" node="622NOWS5fQ$" resolve="params" />
+                  </node>
+                  <node concept="liA8E" id="622NOWS6pOO" role="2OqNvi">
+                    <ref role="37wK5l" to="jgjw:~AlgorithmParameters.init(byte[])" resolve="init" />
+                    <node concept="2OqwBi" id="622NOWS6pOP" role="37wK5m">
+                      <node concept="2ShNRf" id="622NOWS6pOQ" role="2Oq$k0">
+                        <node concept="1pGfFk" id="622NOWS6pOR" role="2ShVmc">
+                          <ref role="37wK5l" to="oln5:~GCMParameters.&lt;init&gt;(byte[],int)" resolve="GCMParameters" />
+                          <node concept="37vLTw" id="622NOWS6pOS" role="37wK5m">
+                            <ref role="3cqZAo" node="622NOWS5fQe" resolve="nonce" />
+                          </node>
+                          <node concept="3cmrfG" id="622NOWS6pOT" role="37wK5m">
+                            <property role="3cmrfH" value="16" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="liA8E" id="622NOWS6pOU" role="2OqNvi">
+                        <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="622NOWS5fQZ" role="3cqZAp">
+            <node concept="37vLTw" id="622NOWS5fR0" role="3cqZAk">
+              <ref role="3cqZAo" node="622NOWS5fQ$" resolve="params" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fR1" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fR2" role="3clF45">
+          <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fR3" role="jymVt">
+      <property role="TrG5h" value="AlgParams" />
+      <node concept="3Tm1VV" id="622NOWS5fR4" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fR5" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~IvAlgorithmParameters" resolve="IvAlgorithmParameters" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fR6" role="jymVt">
+        <property role="TrG5h" value="engineToString" />
+        <node concept="3clFbS" id="622NOWS5fR7" role="3clF47">
+          <node concept="3cpWs6" id="622NOWS5fR8" role="3cqZAp">
+            <node concept="Xl_RD" id="622NOWS5fR9" role="3cqZAk">
+              <property role="Xl_RC" value="AES IV" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fRa" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fRb" role="3clF45">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fRc" role="jymVt">
+      <property role="TrG5h" value="AlgParamsGCM" />
+      <node concept="3Tm1VV" id="622NOWS5fRd" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fRe" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameters" resolve="BaseAlgorithmParameters" />
+      </node>
+      <node concept="312cEg" id="622NOWS5fRf" role="jymVt">
+        <property role="TrG5h" value="gcmParams" />
+        <node concept="3uibUv" id="622NOWS5fRh" role="1tU5fm">
+          <ref role="3uigEE" to="oln5:~GCMParameters" resolve="GCMParameters" />
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fRi" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fRj" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fRk" role="3clF46">
+          <property role="TrG5h" value="paramSpec" />
+          <node concept="3uibUv" id="622NOWS5fRl" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fRm" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidParameterSpecException" resolve="InvalidParameterSpecException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fRn" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fRo" role="3cqZAp">
+            <node concept="2YIFZM" id="622NOWS5T3u" role="3clFbw">
+              <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+              <ref role="37wK5l" to="c0ik:~GcmSpecUtil.isGcmSpec(java.security.spec.AlgorithmParameterSpec)" resolve="isGcmSpec" />
+              <node concept="37vLTw" id="622NOWS5T3v" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="622NOWS5fRy" role="9aQIa">
+              <node concept="2ZW3vV" id="622NOWS5fR_" role="3clFbw">
+                <node concept="37vLTw" id="622NOWS5fRz" role="2ZW6bz">
+                  <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+                </node>
+                <node concept="3uibUv" id="622NOWS5fR$" role="2ZW6by">
+                  <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                </node>
+              </node>
+              <node concept="9aQIb" id="622NOWS5fRU" role="9aQIa">
+                <node concept="3clFbS" id="622NOWS5fRV" role="9aQI4">
+                  <node concept="YS8fn" id="622NOWS5fS2" role="3cqZAp">
+                    <node concept="2ShNRf" id="622NOWS5sjx" role="YScLw">
+                      <node concept="1pGfFk" id="622NOWS5sjP" role="2ShVmc">
+                        <ref role="37wK5l" to="41y5:~InvalidParameterSpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidParameterSpecException" />
+                        <node concept="3cpWs3" id="622NOWS5sjQ" role="37wK5m">
+                          <node concept="Xl_RD" id="622NOWS5sjR" role="3uHU7B">
+                            <property role="Xl_RC" value="AlgorithmParameterSpec class not recognized: " />
+                          </node>
+                          <node concept="2OqwBi" id="622NOWS5sjS" role="3uHU7w">
+                            <node concept="2OqwBi" id="622NOWS89BV" role="2Oq$k0">
+                              <node concept="37vLTw" id="622NOWS89BU" role="2Oq$k0">
+                                <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+                              </node>
+                              <node concept="liA8E" id="622NOWS89BW" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~Object.getClass()" resolve="getClass" />
+                              </node>
+                            </node>
+                            <node concept="liA8E" id="622NOWS8KqF" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="622NOWS5fRB" role="3clFbx">
+                <node concept="3clFbF" id="622NOWS5fRC" role="3cqZAp">
+                  <node concept="37vLTI" id="622NOWS5fRD" role="3clFbG">
+                    <node concept="37vLTw" id="622NOWS5fRE" role="37vLTJ">
+                      <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                    </node>
+                    <node concept="2ShNRf" id="622NOWS5p41" role="37vLTx">
+                      <node concept="1pGfFk" id="622NOWS5p6V" role="2ShVmc">
+                        <ref role="37wK5l" to="oln5:~GCMParameters.&lt;init&gt;(byte[],int)" resolve="GCMParameters" />
+                        <node concept="2OqwBi" id="622NOWS5p6W" role="37wK5m">
+                          <node concept="1eOMI4" id="622NOWS5p6X" role="2Oq$k0">
+                            <node concept="10QFUN" id="622NOWS5p6Y" role="1eOMHV">
+                              <node concept="37vLTw" id="622NOWS5p6Z" role="10QFUP">
+                                <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+                              </node>
+                              <node concept="3uibUv" id="622NOWS5p70" role="10QFUM">
+                                <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="liA8E" id="622NOWS5p71" role="2OqNvi">
+                            <ref role="37wK5l" to="9djp:~AEADParameterSpec.getNonce()" resolve="getNonce" />
+                          </node>
+                        </node>
+                        <node concept="FJ1c_" id="622NOWS5p72" role="37wK5m">
+                          <node concept="2OqwBi" id="622NOWS5p73" role="3uHU7B">
+                            <node concept="1eOMI4" id="622NOWS5p74" role="2Oq$k0">
+                              <node concept="10QFUN" id="622NOWS5p75" role="1eOMHV">
+                                <node concept="37vLTw" id="622NOWS5p76" role="10QFUP">
+                                  <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+                                </node>
+                                <node concept="3uibUv" id="622NOWS5p77" role="10QFUM">
+                                  <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="liA8E" id="622NOWS5p78" role="2OqNvi">
+                              <ref role="37wK5l" to="9djp:~AEADParameterSpec.getMacSizeInBits()" resolve="getMacSizeInBits" />
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="622NOWS5p79" role="3uHU7w">
+                            <property role="3cmrfH" value="8" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fRs" role="3clFbx">
+              <node concept="3clFbF" id="622NOWS5fRt" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fRu" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fRv" role="37vLTJ">
+                    <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                  </node>
+                  <node concept="2YIFZM" id="622NOWS5uau" role="37vLTx">
+                    <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                    <ref role="37wK5l" to="c0ik:~GcmSpecUtil.extractGcmParameters(java.security.spec.AlgorithmParameterSpec)" resolve="extractGcmParameters" />
+                    <node concept="37vLTw" id="622NOWS5uav" role="37wK5m">
+                      <ref role="3cqZAo" node="622NOWS5fRk" resolve="paramSpec" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fS3" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fS4" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fS5" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fS6" role="3clF46">
+          <property role="TrG5h" value="params" />
+          <node concept="10Q1$e" id="622NOWS5fS8" role="1tU5fm">
+            <node concept="10PrrI" id="622NOWS5fS7" role="10Q1$1" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fS9" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fSa" role="3clF47">
+          <node concept="3clFbF" id="622NOWS5fSb" role="3cqZAp">
+            <node concept="37vLTI" id="622NOWS5fSc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5fSd" role="37vLTJ">
+                <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+              </node>
+              <node concept="2YIFZM" id="622NOWS74bq" role="37vLTx">
+                <ref role="1Pybhc" to="oln5:~GCMParameters" resolve="GCMParameters" />
+                <ref role="37wK5l" to="oln5:~GCMParameters.getInstance(java.lang.Object)" resolve="getInstance" />
+                <node concept="37vLTw" id="622NOWS74br" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fS6" resolve="params" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fSg" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fSh" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fSi" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fSj" role="3clF46">
+          <property role="TrG5h" value="params" />
+          <node concept="10Q1$e" id="622NOWS5fSl" role="1tU5fm">
+            <node concept="10PrrI" id="622NOWS5fSk" role="10Q1$1" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="622NOWS5fSm" role="3clF46">
+          <property role="TrG5h" value="format" />
+          <node concept="3uibUv" id="622NOWS5fSn" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fSo" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fSp" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fSq" role="3cqZAp">
+            <node concept="3fqX7Q" id="622NOWS5fSr" role="3clFbw">
+              <node concept="1rXfSq" id="622NOWS5fSs" role="3fr31v">
+                <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameters.isASN1FormatString(java.lang.String)" resolve="isASN1FormatString" />
+                <node concept="37vLTw" id="622NOWS5fSt" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fSm" resolve="format" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fSv" role="3clFbx">
+              <node concept="YS8fn" id="622NOWS5fSy" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5GA$" role="YScLw">
+                  <node concept="1pGfFk" id="622NOWS5GF1" role="2ShVmc">
+                    <ref role="37wK5l" to="guwi:~IOException.&lt;init&gt;(java.lang.String)" resolve="IOException" />
+                    <node concept="Xl_RD" id="622NOWS5GF2" role="37wK5m">
+                      <property role="Xl_RC" value="unknown format specified" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fSz" role="3cqZAp">
+            <node concept="37vLTI" id="622NOWS5fS$" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5fS_" role="37vLTJ">
+                <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+              </node>
+              <node concept="2YIFZM" id="622NOWS6$dt" role="37vLTx">
+                <ref role="1Pybhc" to="oln5:~GCMParameters" resolve="GCMParameters" />
+                <ref role="37wK5l" to="oln5:~GCMParameters.getInstance(java.lang.Object)" resolve="getInstance" />
+                <node concept="37vLTw" id="622NOWS6$du" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fSj" resolve="params" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fSC" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fSD" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fSE" role="jymVt">
+        <property role="TrG5h" value="engineGetEncoded" />
+        <node concept="3uibUv" id="622NOWS5fSF" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fSG" role="3clF47">
+          <node concept="3cpWs6" id="622NOWS5fSH" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5ZYU" role="3cqZAk">
+              <node concept="37vLTw" id="622NOWS5ZYT" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+              </node>
+              <node concept="liA8E" id="622NOWS5ZYV" role="2OqNvi">
+                <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fSJ" role="1B3o_S" />
+        <node concept="10Q1$e" id="622NOWS5fSL" role="3clF45">
+          <node concept="10PrrI" id="622NOWS5fSK" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fSM" role="jymVt">
+        <property role="TrG5h" value="engineGetEncoded" />
+        <node concept="37vLTG" id="622NOWS5fSN" role="3clF46">
+          <property role="TrG5h" value="format" />
+          <node concept="3uibUv" id="622NOWS5fSO" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fSP" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fSQ" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fSR" role="3cqZAp">
+            <node concept="3fqX7Q" id="622NOWS5fSS" role="3clFbw">
+              <node concept="1rXfSq" id="622NOWS5fST" role="3fr31v">
+                <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameters.isASN1FormatString(java.lang.String)" resolve="isASN1FormatString" />
+                <node concept="37vLTw" id="622NOWS5fSU" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fSN" resolve="format" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fSW" role="3clFbx">
+              <node concept="YS8fn" id="622NOWS5fSZ" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5BNZ" role="YScLw">
+                  <node concept="1pGfFk" id="622NOWS5BSs" role="2ShVmc">
+                    <ref role="37wK5l" to="guwi:~IOException.&lt;init&gt;(java.lang.String)" resolve="IOException" />
+                    <node concept="Xl_RD" id="622NOWS5BSt" role="37wK5m">
+                      <property role="Xl_RC" value="unknown format specified" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="622NOWS5fT0" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6p8D" role="3cqZAk">
+              <node concept="37vLTw" id="622NOWS6p8C" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+              </node>
+              <node concept="liA8E" id="622NOWS6p8E" role="2OqNvi">
+                <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fT2" role="1B3o_S" />
+        <node concept="10Q1$e" id="622NOWS5fT4" role="3clF45">
+          <node concept="10PrrI" id="622NOWS5fT3" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fT5" role="jymVt">
+        <property role="TrG5h" value="engineToString" />
+        <node concept="3clFbS" id="622NOWS5fT6" role="3clF47">
+          <node concept="3cpWs6" id="622NOWS5fT7" role="3cqZAp">
+            <node concept="Xl_RD" id="622NOWS5fT8" role="3cqZAk">
+              <property role="Xl_RC" value="GCM" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fT9" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fTa" role="3clF45">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fTb" role="jymVt">
+        <property role="TrG5h" value="localEngineGetParameterSpec" />
+        <node concept="37vLTG" id="622NOWS5fTc" role="3clF46">
+          <property role="TrG5h" value="paramSpec" />
+          <node concept="3uibUv" id="622NOWS5fTd" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Class" resolve="Class" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fTe" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidParameterSpecException" resolve="InvalidParameterSpecException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fTf" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fTg" role="3cqZAp">
+            <node concept="22lmx$" id="622NOWS5fTh" role="3clFbw">
+              <node concept="3clFbC" id="622NOWS5fTi" role="3uHU7B">
+                <node concept="37vLTw" id="622NOWS5fTj" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fTc" resolve="paramSpec" />
+                </node>
+                <node concept="3VsKOn" id="622NOWS5fTl" role="3uHU7w">
+                  <ref role="3VsUkX" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+                </node>
+              </node>
+              <node concept="2YIFZM" id="622NOWS5_Gp" role="3uHU7w">
+                <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                <ref role="37wK5l" to="c0ik:~GcmSpecUtil.isGcmSpec(java.lang.Class)" resolve="isGcmSpec" />
+                <node concept="37vLTw" id="622NOWS5_Gq" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fTc" resolve="paramSpec" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fTp" role="3clFbx">
+              <node concept="3clFbJ" id="622NOWS5fTq" role="3cqZAp">
+                <node concept="2YIFZM" id="622NOWS5Ctu" role="3clFbw">
+                  <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                  <ref role="37wK5l" to="c0ik:~GcmSpecUtil.gcmSpecExists()" resolve="gcmSpecExists" />
+                </node>
+                <node concept="3clFbS" id="622NOWS5fTt" role="3clFbx">
+                  <node concept="3cpWs6" id="622NOWS5fTu" role="3cqZAp">
+                    <node concept="2YIFZM" id="622NOWS6p88" role="3cqZAk">
+                      <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                      <ref role="37wK5l" to="c0ik:~GcmSpecUtil.extractGcmSpec(org.bouncycastle.asn1.ASN1Primitive)" resolve="extractGcmSpec" />
+                      <node concept="2OqwBi" id="622NOWS6p89" role="37wK5m">
+                        <node concept="37vLTw" id="622NOWS6p8a" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS6p8b" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~GCMParameters.toASN1Primitive()" resolve="toASN1Primitive" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="622NOWS5fTx" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5q7S" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS5q8i" role="2ShVmc">
+                    <ref role="37wK5l" to="9djp:~AEADParameterSpec.&lt;init&gt;(byte[],int)" resolve="AEADParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS8bDU" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS8bDT" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS8bDV" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~GCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                    <node concept="17qRlL" id="622NOWS5q8k" role="37wK5m">
+                      <node concept="2OqwBi" id="622NOWS8bAT" role="3uHU7B">
+                        <node concept="37vLTw" id="622NOWS8bAS" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS8bAU" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~GCMParameters.getIcvLen()" resolve="getIcvLen" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="622NOWS5q8m" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fTB" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fTC" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fTD" role="3uHU7B">
+                <ref role="3cqZAo" node="622NOWS5fTc" resolve="paramSpec" />
+              </node>
+              <node concept="3VsKOn" id="622NOWS5fTF" role="3uHU7w">
+                <ref role="3VsUkX" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fTH" role="3clFbx">
+              <node concept="3cpWs6" id="622NOWS5fTI" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5TKm" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS5TRV" role="2ShVmc">
+                    <ref role="37wK5l" to="9djp:~AEADParameterSpec.&lt;init&gt;(byte[],int)" resolve="AEADParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS5TRW" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS5TRX" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS5TRY" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~GCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                    <node concept="17qRlL" id="622NOWS5TSf" role="37wK5m">
+                      <node concept="2OqwBi" id="622NOWS5TSg" role="3uHU7B">
+                        <node concept="37vLTw" id="622NOWS5TSh" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS5TSi" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~GCMParameters.getIcvLen()" resolve="getIcvLen" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="622NOWS5TSj" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fTO" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fTP" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fTQ" role="3uHU7B">
+                <ref role="3cqZAo" node="622NOWS5fTc" resolve="paramSpec" />
+              </node>
+              <node concept="3VsKOn" id="622NOWS5fTS" role="3uHU7w">
+                <ref role="3VsUkX" to="7lc:~IvParameterSpec" resolve="IvParameterSpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fTU" role="3clFbx">
+              <node concept="3cpWs6" id="622NOWS5fTV" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5oMw" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS5oNC" role="2ShVmc">
+                    <ref role="37wK5l" to="7lc:~IvParameterSpec.&lt;init&gt;(byte[])" resolve="IvParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS5oND" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS5oNE" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fRf" resolve="gcmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS5oNF" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~GCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="622NOWS5fU2" role="3cqZAp">
+            <node concept="2ShNRf" id="622NOWS5oWj" role="YScLw">
+              <node concept="1pGfFk" id="622NOWS5oWA" role="2ShVmc">
+                <ref role="37wK5l" to="41y5:~InvalidParameterSpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidParameterSpecException" />
+                <node concept="3cpWs3" id="622NOWS5oWB" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5oWC" role="3uHU7B">
+                    <property role="Xl_RC" value="AlgorithmParameterSpec not recognized: " />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS8ajB" role="3uHU7w">
+                    <node concept="37vLTw" id="622NOWS8ajA" role="2Oq$k0">
+                      <ref role="3cqZAo" node="622NOWS5fTc" resolve="paramSpec" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS8ajC" role="2OqNvi">
+                      <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fU3" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fU4" role="3clF45">
+          <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fU5" role="jymVt">
+      <property role="TrG5h" value="AlgParamsCCM" />
+      <node concept="3Tm1VV" id="622NOWS5fU6" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS5fU7" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameters" resolve="BaseAlgorithmParameters" />
+      </node>
+      <node concept="312cEg" id="622NOWS5fU8" role="jymVt">
+        <property role="TrG5h" value="ccmParams" />
+        <node concept="3uibUv" id="622NOWS5fUa" role="1tU5fm">
+          <ref role="3uigEE" to="oln5:~CCMParameters" resolve="CCMParameters" />
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fUb" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fUc" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fUd" role="3clF46">
+          <property role="TrG5h" value="paramSpec" />
+          <node concept="3uibUv" id="622NOWS5fUe" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fUf" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidParameterSpecException" resolve="InvalidParameterSpecException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fUg" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fUh" role="3cqZAp">
+            <node concept="2YIFZM" id="622NOWS5RO_" role="3clFbw">
+              <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+              <ref role="37wK5l" to="c0ik:~GcmSpecUtil.isGcmSpec(java.security.spec.AlgorithmParameterSpec)" resolve="isGcmSpec" />
+              <node concept="37vLTw" id="622NOWS5ROA" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+              </node>
+            </node>
+            <node concept="3clFbJ" id="622NOWS5fUs" role="9aQIa">
+              <node concept="2ZW3vV" id="622NOWS5fUv" role="3clFbw">
+                <node concept="37vLTw" id="622NOWS5fUt" role="2ZW6bz">
+                  <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+                </node>
+                <node concept="3uibUv" id="622NOWS5fUu" role="2ZW6by">
+                  <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                </node>
+              </node>
+              <node concept="9aQIb" id="622NOWS5fUO" role="9aQIa">
+                <node concept="3clFbS" id="622NOWS5fUP" role="9aQI4">
+                  <node concept="YS8fn" id="622NOWS5fUW" role="3cqZAp">
+                    <node concept="2ShNRf" id="622NOWS5saU" role="YScLw">
+                      <node concept="1pGfFk" id="622NOWS5sbe" role="2ShVmc">
+                        <ref role="37wK5l" to="41y5:~InvalidParameterSpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidParameterSpecException" />
+                        <node concept="3cpWs3" id="622NOWS5sbf" role="37wK5m">
+                          <node concept="Xl_RD" id="622NOWS5sbg" role="3uHU7B">
+                            <property role="Xl_RC" value="AlgorithmParameterSpec class not recognized: " />
+                          </node>
+                          <node concept="2OqwBi" id="622NOWS5sbh" role="3uHU7w">
+                            <node concept="2OqwBi" id="622NOWS8cnj" role="2Oq$k0">
+                              <node concept="37vLTw" id="622NOWS8cni" role="2Oq$k0">
+                                <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+                              </node>
+                              <node concept="liA8E" id="622NOWS8cnk" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~Object.getClass()" resolve="getClass" />
+                              </node>
+                            </node>
+                            <node concept="liA8E" id="622NOWS8Nw2" role="2OqNvi">
+                              <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="622NOWS5fUx" role="3clFbx">
+                <node concept="3clFbF" id="622NOWS5fUy" role="3cqZAp">
+                  <node concept="37vLTI" id="622NOWS5fUz" role="3clFbG">
+                    <node concept="37vLTw" id="622NOWS5fU$" role="37vLTJ">
+                      <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                    </node>
+                    <node concept="2ShNRf" id="622NOWS5puQ" role="37vLTx">
+                      <node concept="1pGfFk" id="622NOWS5pxK" role="2ShVmc">
+                        <ref role="37wK5l" to="oln5:~CCMParameters.&lt;init&gt;(byte[],int)" resolve="CCMParameters" />
+                        <node concept="2OqwBi" id="622NOWS5pxL" role="37wK5m">
+                          <node concept="1eOMI4" id="622NOWS5pxM" role="2Oq$k0">
+                            <node concept="10QFUN" id="622NOWS5pxN" role="1eOMHV">
+                              <node concept="37vLTw" id="622NOWS5pxO" role="10QFUP">
+                                <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+                              </node>
+                              <node concept="3uibUv" id="622NOWS5pxP" role="10QFUM">
+                                <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="liA8E" id="622NOWS5pxQ" role="2OqNvi">
+                            <ref role="37wK5l" to="9djp:~AEADParameterSpec.getNonce()" resolve="getNonce" />
+                          </node>
+                        </node>
+                        <node concept="FJ1c_" id="622NOWS5pxR" role="37wK5m">
+                          <node concept="2OqwBi" id="622NOWS5pxS" role="3uHU7B">
+                            <node concept="1eOMI4" id="622NOWS5pxT" role="2Oq$k0">
+                              <node concept="10QFUN" id="622NOWS5pxU" role="1eOMHV">
+                                <node concept="37vLTw" id="622NOWS5pxV" role="10QFUP">
+                                  <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+                                </node>
+                                <node concept="3uibUv" id="622NOWS5pxW" role="10QFUM">
+                                  <ref role="3uigEE" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="liA8E" id="622NOWS5pxX" role="2OqNvi">
+                              <ref role="37wK5l" to="9djp:~AEADParameterSpec.getMacSizeInBits()" resolve="getMacSizeInBits" />
+                            </node>
+                          </node>
+                          <node concept="3cmrfG" id="622NOWS5pxY" role="3uHU7w">
+                            <property role="3cmrfH" value="8" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fUl" role="3clFbx">
+              <node concept="3clFbF" id="622NOWS5fUm" role="3cqZAp">
+                <node concept="37vLTI" id="622NOWS5fUn" role="3clFbG">
+                  <node concept="37vLTw" id="622NOWS5fUo" role="37vLTJ">
+                    <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                  </node>
+                  <node concept="2YIFZM" id="622NOWS5zfL" role="37vLTx">
+                    <ref role="1Pybhc" to="oln5:~CCMParameters" resolve="CCMParameters" />
+                    <ref role="37wK5l" to="oln5:~CCMParameters.getInstance(java.lang.Object)" resolve="getInstance" />
+                    <node concept="2YIFZM" id="622NOWS5zfM" role="37wK5m">
+                      <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                      <ref role="37wK5l" to="c0ik:~GcmSpecUtil.extractGcmParameters(java.security.spec.AlgorithmParameterSpec)" resolve="extractGcmParameters" />
+                      <node concept="37vLTw" id="622NOWS5zfN" role="37wK5m">
+                        <ref role="3cqZAo" node="622NOWS5fUd" resolve="paramSpec" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fUX" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fUY" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fUZ" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fV0" role="3clF46">
+          <property role="TrG5h" value="params" />
+          <node concept="10Q1$e" id="622NOWS5fV2" role="1tU5fm">
+            <node concept="10PrrI" id="622NOWS5fV1" role="10Q1$1" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fV3" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fV4" role="3clF47">
+          <node concept="3clFbF" id="622NOWS5fV5" role="3cqZAp">
+            <node concept="37vLTI" id="622NOWS5fV6" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5fV7" role="37vLTJ">
+                <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+              </node>
+              <node concept="2YIFZM" id="622NOWS5qmK" role="37vLTx">
+                <ref role="1Pybhc" to="oln5:~CCMParameters" resolve="CCMParameters" />
+                <ref role="37wK5l" to="oln5:~CCMParameters.getInstance(java.lang.Object)" resolve="getInstance" />
+                <node concept="37vLTw" id="622NOWS5qmL" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fV0" resolve="params" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fVa" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fVb" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fVc" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="622NOWS5fVd" role="3clF46">
+          <property role="TrG5h" value="params" />
+          <node concept="10Q1$e" id="622NOWS5fVf" role="1tU5fm">
+            <node concept="10PrrI" id="622NOWS5fVe" role="10Q1$1" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="622NOWS5fVg" role="3clF46">
+          <property role="TrG5h" value="format" />
+          <node concept="3uibUv" id="622NOWS5fVh" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fVi" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fVj" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fVk" role="3cqZAp">
+            <node concept="3fqX7Q" id="622NOWS5fVl" role="3clFbw">
+              <node concept="1rXfSq" id="622NOWS5fVm" role="3fr31v">
+                <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameters.isASN1FormatString(java.lang.String)" resolve="isASN1FormatString" />
+                <node concept="37vLTw" id="622NOWS5fVn" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fVg" resolve="format" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fVp" role="3clFbx">
+              <node concept="YS8fn" id="622NOWS5fVs" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5uXg" role="YScLw">
+                  <node concept="1pGfFk" id="622NOWS5v1H" role="2ShVmc">
+                    <ref role="37wK5l" to="guwi:~IOException.&lt;init&gt;(java.lang.String)" resolve="IOException" />
+                    <node concept="Xl_RD" id="622NOWS5v1I" role="37wK5m">
+                      <property role="Xl_RC" value="unknown format specified" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fVt" role="3cqZAp">
+            <node concept="37vLTI" id="622NOWS5fVu" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5fVv" role="37vLTJ">
+                <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+              </node>
+              <node concept="2YIFZM" id="622NOWS7vQL" role="37vLTx">
+                <ref role="1Pybhc" to="oln5:~CCMParameters" resolve="CCMParameters" />
+                <ref role="37wK5l" to="oln5:~CCMParameters.getInstance(java.lang.Object)" resolve="getInstance" />
+                <node concept="37vLTw" id="622NOWS7vQM" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fVd" resolve="params" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fVy" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5fVz" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fV$" role="jymVt">
+        <property role="TrG5h" value="engineGetEncoded" />
+        <node concept="3uibUv" id="622NOWS5fV_" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fVA" role="3clF47">
+          <node concept="3cpWs6" id="622NOWS5fVB" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6Kvn" role="3cqZAk">
+              <node concept="37vLTw" id="622NOWS6Kvm" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+              </node>
+              <node concept="liA8E" id="622NOWS6Kvo" role="2OqNvi">
+                <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fVD" role="1B3o_S" />
+        <node concept="10Q1$e" id="622NOWS5fVF" role="3clF45">
+          <node concept="10PrrI" id="622NOWS5fVE" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fVG" role="jymVt">
+        <property role="TrG5h" value="engineGetEncoded" />
+        <node concept="37vLTG" id="622NOWS5fVH" role="3clF46">
+          <property role="TrG5h" value="format" />
+          <node concept="3uibUv" id="622NOWS5fVI" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fVJ" role="Sfmx6">
+          <ref role="3uigEE" to="guwi:~IOException" resolve="IOException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fVK" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fVL" role="3cqZAp">
+            <node concept="3fqX7Q" id="622NOWS5fVM" role="3clFbw">
+              <node concept="1rXfSq" id="622NOWS5fVN" role="3fr31v">
+                <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameters.isASN1FormatString(java.lang.String)" resolve="isASN1FormatString" />
+                <node concept="37vLTw" id="622NOWS5fVO" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fVH" resolve="format" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fVQ" role="3clFbx">
+              <node concept="YS8fn" id="622NOWS5fVT" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS68Pw" role="YScLw">
+                  <node concept="1pGfFk" id="622NOWS68TX" role="2ShVmc">
+                    <ref role="37wK5l" to="guwi:~IOException.&lt;init&gt;(java.lang.String)" resolve="IOException" />
+                    <node concept="Xl_RD" id="622NOWS68TY" role="37wK5m">
+                      <property role="Xl_RC" value="unknown format specified" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="622NOWS5fVU" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6jmZ" role="3cqZAk">
+              <node concept="37vLTw" id="622NOWS6jmY" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+              </node>
+              <node concept="liA8E" id="622NOWS6jn0" role="2OqNvi">
+                <ref role="37wK5l" to="9oed:~ASN1Object.getEncoded()" resolve="getEncoded" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fVW" role="1B3o_S" />
+        <node concept="10Q1$e" id="622NOWS5fVY" role="3clF45">
+          <node concept="10PrrI" id="622NOWS5fVX" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fVZ" role="jymVt">
+        <property role="TrG5h" value="engineToString" />
+        <node concept="3clFbS" id="622NOWS5fW0" role="3clF47">
+          <node concept="3cpWs6" id="622NOWS5fW1" role="3cqZAp">
+            <node concept="Xl_RD" id="622NOWS5fW2" role="3cqZAk">
+              <property role="Xl_RC" value="CCM" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fW3" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fW4" role="3clF45">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="622NOWS5fW5" role="jymVt">
+        <property role="TrG5h" value="localEngineGetParameterSpec" />
+        <node concept="37vLTG" id="622NOWS5fW6" role="3clF46">
+          <property role="TrG5h" value="paramSpec" />
+          <node concept="3uibUv" id="622NOWS5fW7" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Class" resolve="Class" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="622NOWS5fW8" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidParameterSpecException" resolve="InvalidParameterSpecException" />
+        </node>
+        <node concept="3clFbS" id="622NOWS5fW9" role="3clF47">
+          <node concept="3clFbJ" id="622NOWS5fWa" role="3cqZAp">
+            <node concept="22lmx$" id="622NOWS5fWb" role="3clFbw">
+              <node concept="3clFbC" id="622NOWS5fWc" role="3uHU7B">
+                <node concept="37vLTw" id="622NOWS5fWd" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fW6" resolve="paramSpec" />
+                </node>
+                <node concept="3VsKOn" id="622NOWS5fWf" role="3uHU7w">
+                  <ref role="3VsUkX" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+                </node>
+              </node>
+              <node concept="2YIFZM" id="622NOWS5__I" role="3uHU7w">
+                <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                <ref role="37wK5l" to="c0ik:~GcmSpecUtil.isGcmSpec(java.lang.Class)" resolve="isGcmSpec" />
+                <node concept="37vLTw" id="622NOWS5__J" role="37wK5m">
+                  <ref role="3cqZAo" node="622NOWS5fW6" resolve="paramSpec" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fWj" role="3clFbx">
+              <node concept="3clFbJ" id="622NOWS5fWk" role="3cqZAp">
+                <node concept="2YIFZM" id="622NOWS5D65" role="3clFbw">
+                  <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                  <ref role="37wK5l" to="c0ik:~GcmSpecUtil.gcmSpecExists()" resolve="gcmSpecExists" />
+                </node>
+                <node concept="3clFbS" id="622NOWS5fWn" role="3clFbx">
+                  <node concept="3cpWs6" id="622NOWS5fWo" role="3cqZAp">
+                    <node concept="2YIFZM" id="622NOWS6p7C" role="3cqZAk">
+                      <ref role="1Pybhc" to="c0ik:~GcmSpecUtil" resolve="GcmSpecUtil" />
+                      <ref role="37wK5l" to="c0ik:~GcmSpecUtil.extractGcmSpec(org.bouncycastle.asn1.ASN1Primitive)" resolve="extractGcmSpec" />
+                      <node concept="2OqwBi" id="622NOWS6p7D" role="37wK5m">
+                        <node concept="37vLTw" id="622NOWS6p7E" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS6p7F" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~CCMParameters.toASN1Primitive()" resolve="toASN1Primitive" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="622NOWS5fWr" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS6vf2" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS6vgu" role="2ShVmc">
+                    <ref role="37wK5l" to="9djp:~AEADParameterSpec.&lt;init&gt;(byte[],int)" resolve="AEADParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS6vgv" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS6vgw" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS6vgx" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~CCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                    <node concept="17qRlL" id="622NOWS6vgM" role="37wK5m">
+                      <node concept="2OqwBi" id="622NOWS8c7Z" role="3uHU7B">
+                        <node concept="37vLTw" id="622NOWS8c7Y" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS8c80" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~CCMParameters.getIcvLen()" resolve="getIcvLen" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="622NOWS6vgO" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fWx" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fWy" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fWz" role="3uHU7B">
+                <ref role="3cqZAo" node="622NOWS5fW6" resolve="paramSpec" />
+              </node>
+              <node concept="3VsKOn" id="622NOWS5fW_" role="3uHU7w">
+                <ref role="3VsUkX" to="9djp:~AEADParameterSpec" resolve="AEADParameterSpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fWB" role="3clFbx">
+              <node concept="3cpWs6" id="622NOWS5fWC" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5TIr" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS5TJR" role="2ShVmc">
+                    <ref role="37wK5l" to="9djp:~AEADParameterSpec.&lt;init&gt;(byte[],int)" resolve="AEADParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS5TJS" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS5TJT" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS5TJU" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~CCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                    <node concept="17qRlL" id="622NOWS5TKb" role="37wK5m">
+                      <node concept="2OqwBi" id="622NOWS8aml" role="3uHU7B">
+                        <node concept="37vLTw" id="622NOWS8amk" role="2Oq$k0">
+                          <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                        </node>
+                        <node concept="liA8E" id="622NOWS8amm" role="2OqNvi">
+                          <ref role="37wK5l" to="oln5:~CCMParameters.getIcvLen()" resolve="getIcvLen" />
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="622NOWS5TKd" role="3uHU7w">
+                        <property role="3cmrfH" value="8" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="622NOWS5fWI" role="3cqZAp">
+            <node concept="3clFbC" id="622NOWS5fWJ" role="3clFbw">
+              <node concept="37vLTw" id="622NOWS5fWK" role="3uHU7B">
+                <ref role="3cqZAo" node="622NOWS5fW6" resolve="paramSpec" />
+              </node>
+              <node concept="3VsKOn" id="622NOWS5fWM" role="3uHU7w">
+                <ref role="3VsUkX" to="7lc:~IvParameterSpec" resolve="IvParameterSpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="622NOWS5fWO" role="3clFbx">
+              <node concept="3cpWs6" id="622NOWS5fWP" role="3cqZAp">
+                <node concept="2ShNRf" id="622NOWS5oKZ" role="3cqZAk">
+                  <node concept="1pGfFk" id="622NOWS5oM7" role="2ShVmc">
+                    <ref role="37wK5l" to="7lc:~IvParameterSpec.&lt;init&gt;(byte[])" resolve="IvParameterSpec" />
+                    <node concept="2OqwBi" id="622NOWS5oM8" role="37wK5m">
+                      <node concept="37vLTw" id="622NOWS5oM9" role="2Oq$k0">
+                        <ref role="3cqZAo" node="622NOWS5fU8" resolve="ccmParams" />
+                      </node>
+                      <node concept="liA8E" id="622NOWS5oMa" role="2OqNvi">
+                        <ref role="37wK5l" to="oln5:~CCMParameters.getNonce()" resolve="getNonce" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="622NOWS5fWW" role="3cqZAp">
+            <node concept="2ShNRf" id="622NOWS5oRD" role="YScLw">
+              <node concept="1pGfFk" id="622NOWS5oWa" role="2ShVmc">
+                <ref role="37wK5l" to="41y5:~InvalidParameterSpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidParameterSpecException" />
+                <node concept="3cpWs3" id="622NOWS5oWb" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5oWc" role="3uHU7B">
+                    <property role="Xl_RC" value="AlgorithmParameterSpec not recognized: " />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS8bzl" role="3uHU7w">
+                    <node concept="37vLTw" id="622NOWS8bzk" role="2Oq$k0">
+                      <ref role="3cqZAo" node="622NOWS5fW6" resolve="paramSpec" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS8bzm" role="2OqNvi">
+                      <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="622NOWS5fWX" role="1B3o_S" />
+        <node concept="3uibUv" id="622NOWS5fWY" role="3clF45">
+          <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="622NOWS5fWZ" role="jymVt">
+      <property role="TrG5h" value="Mappings" />
+      <node concept="3Tm1VV" id="622NOWS5fX0" role="1B3o_S" />
+      <node concept="3uibUv" id="622NOWS8S0L" role="1zkMxy">
+        <ref role="3uigEE" node="622NOWS8Qru" resolve="SymmetricAlgorithmProvider" />
+      </node>
+      <node concept="Wx3nA" id="622NOWS5fX2" role="jymVt">
+        <property role="TrG5h" value="PREFIX" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="622NOWS5fX3" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="2OqwBi" id="622NOWS5fX4" role="33vP2m">
+          <node concept="3VsKOn" id="622NOWS5fX6" role="2Oq$k0">
+            <ref role="3VsUkX" node="622NOWS5fEP" resolve="AES" />
+          </node>
+          <node concept="liA8E" id="622NOWS5fX7" role="2OqNvi">
+            <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fX8" role="1B3o_S" />
+      </node>
+      <node concept="Wx3nA" id="622NOWS5fX9" role="jymVt">
+        <property role="TrG5h" value="wrongAES128" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="622NOWS5fXa" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="Xl_RD" id="622NOWS5fXb" role="33vP2m">
+          <property role="Xl_RC" value="2.16.840.1.101.3.4.2" />
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fXc" role="1B3o_S" />
+        <node concept="z59LJ" id="622NOWS5fXd" role="lGtFl">
+          <node concept="TZ5HA" id="622NOWS5ggp" role="TZ5H$">
+            <node concept="1dT_AC" id="622NOWS5ggq" role="1dT_Ay">
+              <property role="1dT_AB" value="These three got introduced in some messages as a result of a typo in an" />
+            </node>
+          </node>
+          <node concept="TZ5HA" id="622NOWS5ggr" role="TZ5H$">
+            <node concept="1dT_AC" id="622NOWS5ggs" role="1dT_Ay">
+              <property role="1dT_AB" value="early document. We don't produce anything using these OID values, but we'll" />
+            </node>
+          </node>
+          <node concept="TZ5HA" id="622NOWS5ggt" role="TZ5H$">
+            <node concept="1dT_AC" id="622NOWS5ggu" role="1dT_Ay">
+              <property role="1dT_AB" value="read them." />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="Wx3nA" id="622NOWS5fXe" role="jymVt">
+        <property role="TrG5h" value="wrongAES192" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="622NOWS5fXf" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="Xl_RD" id="622NOWS5fXg" role="33vP2m">
+          <property role="Xl_RC" value="2.16.840.1.101.3.4.22" />
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fXh" role="1B3o_S" />
+      </node>
+      <node concept="Wx3nA" id="622NOWS5fXi" role="jymVt">
+        <property role="TrG5h" value="wrongAES256" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="622NOWS5fXj" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="Xl_RD" id="622NOWS5fXk" role="33vP2m">
+          <property role="Xl_RC" value="2.16.840.1.101.3.4.42" />
+        </node>
+        <node concept="3Tm6S6" id="622NOWS5fXl" role="1B3o_S" />
+      </node>
+      <node concept="3clFbW" id="622NOWS5fXm" role="jymVt">
+        <node concept="3cqZAl" id="622NOWS5fXn" role="3clF45" />
+        <node concept="3clFbS" id="622NOWS5fXo" role="3clF47" />
+        <node concept="3Tm1VV" id="622NOWS5fXp" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="622NOWS5fXq" role="jymVt">
+        <property role="TrG5h" value="configure" />
+        <node concept="37vLTG" id="622NOWS5fXr" role="3clF46">
+          <property role="TrG5h" value="provider" />
+          <node concept="3uibUv" id="622NOWS5fXs" role="1tU5fm">
+            <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="622NOWS5fXt" role="3clF47">
+          <node concept="3clFbF" id="622NOWS5fXu" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5I9p" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5I9o" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5I9q" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5I9r" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameters.AES" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5I9s" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5I9t" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5I9u" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParams" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fX$" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS75An" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS75Am" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS75Ao" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS75Ap" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS75Aq" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS75Ar" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fX9" resolve="wrongAES128" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS75As" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fXE" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5sW0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5sVZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5sW1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5sW2" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5sW3" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5sW4" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXe" resolve="wrongAES192" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5sW5" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fXK" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7bmN" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7bmM" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7bmO" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7bmP" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7bmQ" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS7bmR" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXi" resolve="wrongAES256" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7bmS" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fXQ" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7yE_" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7yE$" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7yEA" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7yEB" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7yEC" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS89ZN" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CBC" resolve="id_aes128_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7yEE" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fXW" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6M6d" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6M6c" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6M6e" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6M6f" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6M6g" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS6M6h" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CBC" resolve="id_aes192_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6M6k" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fY2" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5r4A" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5r4_" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5r4B" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5r4C" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5r4D" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8c1M" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CBC" resolve="id_aes256_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5r4F" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fY8" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5PIj" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5PIi" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5PIk" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5PIl" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameters.GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5PIm" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5PIn" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5PIo" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamsGCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYe" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5XME" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5XMD" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5XMF" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5XMG" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5XMH" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS5XMI" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_GCM" resolve="id_aes128_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5XML" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYk" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5wdr" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5wdq" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5wds" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5wdt" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5wdu" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8aAi" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_GCM" resolve="id_aes192_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5wdw" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYq" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5oPu" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5oPt" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5oPv" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5oPw" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5oPx" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8aDF" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_GCM" resolve="id_aes256_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5oPz" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYw" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7Igq" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7Igp" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7Igr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7Igs" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameters.CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7Igt" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7Igu" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7Igv" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamsCCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYA" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6QU8" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6QU7" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6QU9" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6QUa" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6QUb" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8aZr" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CCM" resolve="id_aes128_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6QUd" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYG" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS79dv" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS79du" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS79dw" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS79dx" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS79dy" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS79dz" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CCM" resolve="id_aes192_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS79dA" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYM" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6h64" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6h63" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6h65" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6h66" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6h67" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8ci_" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CCM" resolve="id_aes256_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6h69" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYS" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7pH0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7pGZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7pH1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7pH2" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameterGenerator.AES" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7pH3" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7pH4" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7pH5" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fYY" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7FP2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7FP1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7FP3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7FP4" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7FP5" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS7FP6" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fX9" resolve="wrongAES128" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7FP7" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZ4" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS70Pa" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS70P9" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS70Pb" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS70Pc" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS70Pd" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS70Pe" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXe" resolve="wrongAES192" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS70Pf" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZa" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5rzI" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5rzH" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5rzJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5rzK" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5rzL" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5rzM" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXi" resolve="wrongAES256" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5rzN" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZg" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6eHy" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6eHx" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6eHz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6eH$" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6eH_" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8c$J" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CBC" resolve="id_aes128_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6eHB" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZm" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7nyg" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7nyf" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7nyh" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7nyi" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7nyj" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8cko" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CBC" resolve="id_aes192_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7nyl" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZs" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7CSD" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7CSC" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7CSE" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7CSF" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7CSG" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS7CSH" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CBC" resolve="id_aes256_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7CSK" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZy" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6DP2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6DP1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6DP3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAttributes(java.lang.String,java.util.Map)" resolve="addAttributes" />
+                <node concept="Xl_RD" id="622NOWS6DP4" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AES" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6DP5" role="37wK5m">
+                  <ref role="1PxDUh" node="622NOWS5fEP" resolve="AES" />
+                  <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZA" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6IBk" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6IBj" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6IBl" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6IBm" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AES" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6IBn" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6IBo" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6IBp" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZG" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS66XC" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS66XB" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS66XD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS66XE" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS66XF" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Cipher." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS66XG" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fX9" resolve="wrongAES128" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS66XH" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZM" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5$SC" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5$SB" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5$SD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5$SE" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5$SF" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Cipher." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5$SG" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXe" resolve="wrongAES192" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5$SH" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZS" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5DGL" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5DGK" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5DGM" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5DGN" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5DGO" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Cipher." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5DGP" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXi" resolve="wrongAES256" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5DGQ" role="37wK5m">
+                  <property role="Xl_RC" value="AES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5fZY" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6tBX" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6tBW" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6tBY" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6tBZ" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6tC0" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_ECB" resolve="id_aes128_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6tC3" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6tC4" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6tC5" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g05" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5UAB" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5UAA" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5UAC" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5UAD" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5UAE" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_ECB" resolve="id_aes192_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5UAH" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5UAI" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5UAJ" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0c" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5MMr" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5MMq" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5MMs" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5MMt" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5MMu" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_ECB" resolve="id_aes256_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5MMx" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5MMy" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5MMz" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0j" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5uaG" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5uaF" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5uaH" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5uaI" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5uaJ" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CBC" resolve="id_aes128_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5uaM" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5uaN" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5uaO" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0q" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Ezx" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Ezw" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Ezy" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Ezz" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5Ez$" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CBC" resolve="id_aes192_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5EzB" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5EzC" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5EzD" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0x" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5qxr" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5qxq" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5qxs" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5qxt" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5qxu" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CBC" resolve="id_aes256_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5qxx" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5qxy" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5qxz" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0C" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5p9l" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5p9k" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5p9m" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5p9n" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5p9o" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_OFB" resolve="id_aes128_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5p9r" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5p9s" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5p9t" role="3uHU7w">
+                    <property role="Xl_RC" value="$OFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0J" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6Uz0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6UyZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6Uz1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6Uz2" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6Uz3" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_OFB" resolve="id_aes192_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6Uz6" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6Uz7" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6Uz8" role="3uHU7w">
+                    <property role="Xl_RC" value="$OFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0Q" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7PZD" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7PZC" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7PZE" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7PZF" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7PZG" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_OFB" resolve="id_aes256_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7PZJ" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7PZK" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7PZL" role="3uHU7w">
+                    <property role="Xl_RC" value="$OFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g0X" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7s1O" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7s1N" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7s1P" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7s1Q" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7s1R" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CFB" resolve="id_aes128_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7s1U" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7s1V" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7s1W" role="3uHU7w">
+                    <property role="Xl_RC" value="$CFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g14" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pyk" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pyj" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pyl" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pym" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5pyn" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CFB" resolve="id_aes192_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5pyq" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5pyr" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5pys" role="3uHU7w">
+                    <property role="Xl_RC" value="$CFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1b" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5wLT" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5wLS" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5wLU" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5wLV" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5wLW" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CFB" resolve="id_aes256_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5wLZ" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5wM0" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5wM1" role="3uHU7w">
+                    <property role="Xl_RC" value="$CFB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1i" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7MEX" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7MEW" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7MEY" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAttributes(java.lang.String,java.util.Map)" resolve="addAttributes" />
+                <node concept="Xl_RD" id="622NOWS7MEZ" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESWRAP" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7MF0" role="37wK5m">
+                  <ref role="1PxDUh" node="622NOWS5fEP" resolve="AES" />
+                  <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1m" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7_eD" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7_eC" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7_eE" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7_eF" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESWRAP" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7_eG" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7_eH" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7_eI" role="3uHU7w">
+                    <property role="Xl_RC" value="$Wrap" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1s" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7h4h" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7h4g" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7h4i" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7h4j" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7h4k" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_wrap" resolve="id_aes128_wrap" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7h4n" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAP" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1x" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6wCa" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6wC9" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6wCb" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6wCc" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6wCd" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_wrap" resolve="id_aes192_wrap" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6wCg" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAP" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1A" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6nH4" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6nH3" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6nH5" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6nH6" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8a8W" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_wrap" resolve="id_aes256_wrap" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6nH8" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAP" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1F" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6WnO" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6WnN" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6WnP" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6WnQ" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.AESKW" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6WnR" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAP" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1J" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6jTq" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6jTp" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6jTr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAttributes(java.lang.String,java.util.Map)" resolve="addAttributes" />
+                <node concept="Xl_RD" id="622NOWS6jTs" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESWRAPPAD" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6jTt" role="37wK5m">
+                  <ref role="1PxDUh" node="622NOWS5fEP" resolve="AES" />
+                  <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1N" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6doO" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6doN" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6doP" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6doQ" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESWRAPPAD" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6doR" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6doS" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6doT" role="3uHU7w">
+                    <property role="Xl_RC" value="$WrapPad" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1T" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS63DR" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS63DQ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS63DS" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS63DT" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS89j6" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_wrap_pad" resolve="id_aes128_wrap_pad" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS63DV" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAPPAD" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g1Y" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6BdK" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6BdJ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6BdL" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6BdM" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8ceU" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_wrap_pad" resolve="id_aes192_wrap_pad" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6BdO" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAPPAD" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g23" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7eFb" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7eFa" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7eFc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7eFd" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7eFe" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_wrap_pad" resolve="id_aes256_wrap_pad" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7eFh" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAPPAD" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g28" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pWV" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pWU" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pWW" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pWX" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.AESKWP" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5pWY" role="37wK5m">
+                  <property role="Xl_RC" value="AESWRAPPAD" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2c" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pf9" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pf8" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pfa" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pfb" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESRFC3211WRAP" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5pfc" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5pfd" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5pfe" role="3uHU7w">
+                    <property role="Xl_RC" value="$RFC3211Wrap" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2i" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6STw" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6STv" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6STx" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6STy" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.AESRFC5649WRAP" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6STz" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6ST$" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6ST_" role="3uHU7w">
+                    <property role="Xl_RC" value="$RFC5649Wrap" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2o" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7KHy" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7KHx" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7KHz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7KH$" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameterGenerator.CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7KH_" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7KHA" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7KHB" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamGenCCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2u" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7u28" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7u27" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7u29" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7u2a" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7u2b" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS7u2c" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CCM" resolve="id_aes128_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7u2f" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2$" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6_Iy" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6_Ix" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6_Iz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6_I$" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6_I_" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS6_IA" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CCM" resolve="id_aes192_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6_ID" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2E" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6qhw" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6qhv" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6qhx" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6qhy" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6qhz" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8bs4" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CCM" resolve="id_aes256_CCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6qh_" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2K" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5QRB" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5QRA" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5QRC" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAttributes(java.lang.String,java.util.Map)" resolve="addAttributes" />
+                <node concept="Xl_RD" id="622NOWS5QRD" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.CCM" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5QRE" role="37wK5m">
+                  <ref role="1PxDUh" node="622NOWS5fEP" resolve="AES" />
+                  <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2O" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5GFb" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5GFa" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5GFc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5GFd" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5GFe" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5GFf" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5GFg" role="3uHU7w">
+                    <property role="Xl_RC" value="$CCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2U" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6aFy" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6aFx" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6aFz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6aF$" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6aF_" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CCM" resolve="id_aes128_CCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6aFC" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g2Z" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6GmI" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6GmH" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6GmJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6GmK" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6GmL" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CCM" resolve="id_aes192_CCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6GmO" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g34" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6vh2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6vh1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6vh3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6vh4" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6vh5" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CCM" resolve="id_aes256_CCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6vh8" role="37wK5m">
+                  <property role="Xl_RC" value="CCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g39" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6mqk" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6mqj" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6mql" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6mqm" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameterGenerator.GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6mqn" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6mqo" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6mqp" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamGenGCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3f" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5JPX" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5JPW" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5JPY" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5JPZ" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5JQ0" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8b6G" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_GCM" resolve="id_aes128_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5JQ2" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3l" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6cb2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6cb1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6cb3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6cb4" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6cb5" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS6cb6" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_GCM" resolve="id_aes192_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6cb9" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3r" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS61DV" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS61DU" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS61DW" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS61DX" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS61DY" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="622NOWS8a0x" role="3uHU7w">
+                    <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                    <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_GCM" resolve="id_aes256_GCM" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS61E0" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3x" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5_HB" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5_HA" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5_HC" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAttributes(java.lang.String,java.util.Map)" resolve="addAttributes" />
+                <node concept="Xl_RD" id="622NOWS5_HD" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.GCM" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5_HE" role="37wK5m">
+                  <ref role="1PxDUh" node="622NOWS5fEP" resolve="AES" />
+                  <ref role="3cqZAo" node="622NOWS5ge_" resolve="generalAesAttributes" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3_" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5yHF" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5yHE" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5yHG" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5yHH" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5yHI" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5yHJ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5yHK" role="3uHU7w">
+                    <property role="Xl_RC" value="$GCM" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3F" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5S92" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5S91" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5S93" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5S94" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5S95" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_GCM" resolve="id_aes128_GCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5S98" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3K" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5xK9" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5xK8" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5xKa" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5xKb" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5xKc" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_GCM" resolve="id_aes192_GCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5xKf" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3P" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5tN0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5tMZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5tN1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5tN2" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5tN3" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_GCM" resolve="id_aes256_GCM" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5tN6" role="37wK5m">
+                  <property role="Xl_RC" value="GCM" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g3U" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5skf" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5ske" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5skg" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5skh" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator.AES" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5ski" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5skj" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5skk" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g40" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pl7" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pl6" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pl8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5pl9" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5pla" role="3uHU7B">
+                    <property role="Xl_RC" value="KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5plb" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fX9" resolve="wrongAES128" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="622NOWS5plc" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5pld" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5ple" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g48" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5uBq" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5uBp" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5uBr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5uBs" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5uBt" role="3uHU7B">
+                    <property role="Xl_RC" value="KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS5uBu" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXe" resolve="wrongAES192" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="622NOWS5uBv" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5uBw" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5uBx" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4g" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7Bhx" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7Bhw" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7Bhy" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7Bhz" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7Bh$" role="3uHU7B">
+                    <property role="Xl_RC" value="KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS7Bh_" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS5fXi" resolve="wrongAES256" />
+                  </node>
+                </node>
+                <node concept="3cpWs3" id="622NOWS7BhA" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7BhB" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7BhC" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4o" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5qMc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5qMb" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5qMd" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5qMe" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5qMf" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_ECB" resolve="id_aes128_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5qMi" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5qMj" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5qMk" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4v" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6liU" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6liT" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6liV" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6liW" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8aJX" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CBC" resolve="id_aes128_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6liY" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6liZ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6lj0" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4A" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6Zt2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6Zt1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6Zt3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6Zt4" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6Zt5" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_OFB" resolve="id_aes128_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6Zt8" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6Zt9" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6Zta" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4H" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7Sb_" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7Sb$" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7SbA" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7SbB" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7SbC" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CFB" resolve="id_aes128_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7SbF" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7SbG" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7SbH" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4O" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Z4D" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Z4C" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Z4E" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Z4F" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8cHX" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_ECB" resolve="id_aes192_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5Z4H" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5Z4I" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5Z4J" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g4V" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6y98" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6y97" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6y99" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6y9a" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6y9b" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CBC" resolve="id_aes192_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6y9e" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6y9f" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6y9g" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g52" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6Y7o" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6Y7n" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6Y7p" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6Y7q" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6Y7r" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_OFB" resolve="id_aes192_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6Y7u" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6Y7v" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6Y7w" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g59" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6O6v" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6O6u" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6O6w" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6O6x" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8aH7" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CFB" resolve="id_aes192_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6O6z" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6O6$" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6O6_" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5g" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS64P_" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS64P$" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS64PA" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS64PB" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8bcI" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_ECB" resolve="id_aes256_ECB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS64PD" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS64PE" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS64PF" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5n" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6$zA" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6$z_" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6$zB" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6$zC" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6$zD" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CBC" resolve="id_aes256_CBC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6$zG" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6$zH" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6$zI" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5u" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS77Pv" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS77Pu" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS77Pw" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS77Px" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS77Py" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_OFB" resolve="id_aes256_OFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS77P_" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS77PA" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS77PB" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5_" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5HtL" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5HtK" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5HtM" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5HtN" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8cqm" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CFB" resolve="id_aes256_CFB" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5HtP" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5HtQ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5HtR" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5G" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS68Uc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS68Ub" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS68Ud" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS68Ue" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator.AESWRAP" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS68Uf" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS68Ug" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS68Uh" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5M" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5CuB" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5CuA" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5CuC" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5CuD" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5CuE" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_wrap" resolve="id_aes128_wrap" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5CuH" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5CuI" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5CuJ" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g5T" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5zJ6" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5zJ5" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5zJ7" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5zJ8" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8cjU" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_wrap" resolve="id_aes192_wrap" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5zJa" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5zJb" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5zJc" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g60" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6sz9" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6sz8" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6sza" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6szb" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6szc" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_wrap" resolve="id_aes256_wrap" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6szf" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6szg" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6szh" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g67" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS72SC" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS72SB" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS72SD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS72SE" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS72SF" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_GCM" resolve="id_aes128_GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS72SI" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS72SJ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS72SK" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6e" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6KwI" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6KwH" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6KwJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6KwK" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6KwL" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_GCM" resolve="id_aes192_GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6KwO" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6KwP" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6KwQ" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6l" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS62Jz" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS62Jy" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS62J$" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS62J_" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS62JA" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_GCM" resolve="id_aes256_GCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS62JD" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS62JE" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS62JF" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6s" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6CJm" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6CJl" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6CJn" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6CJo" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6CJp" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CCM" resolve="id_aes128_CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6CJs" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6CJt" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6CJu" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6z" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5VKF" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5VKE" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5VKG" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5VKH" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5VKI" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CCM" resolve="id_aes192_CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5VKL" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5VKM" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5VKN" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6E" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Lr7" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Lr6" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Lr8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Lr9" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5Lra" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CCM" resolve="id_aes256_CCM" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5Lrd" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5Lre" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5Lrf" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6L" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5tow" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5tov" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5tox" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5toy" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator.AESWRAPPAD" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5toz" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5to$" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5to_" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6R" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Fpt" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Fps" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Fpu" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Fpv" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5Fpw" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_wrap_pad" resolve="id_aes128_wrap_pad" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5Fpz" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5Fp$" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5Fp_" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g6Y" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5zh$" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5zhz" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5zh_" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5zhA" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8bh6" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_wrap_pad" resolve="id_aes192_wrap_pad" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5zhC" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5zhD" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5zhE" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g75" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5M7L" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5M7K" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5M7M" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5M7N" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5M7O" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_wrap_pad" resolve="id_aes256_wrap_pad" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5M7R" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5M7S" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5M7T" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7c" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6gcG" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6gcF" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6gcH" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6gcI" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.AESCMAC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6gcJ" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6gcK" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6gcL" role="3uHU7w">
+                    <property role="Xl_RC" value="$AESCMAC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7i" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5G0x" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5G0w" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5G0y" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5G0z" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.AESCCMMAC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5G0$" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5G0_" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5G0A" role="3uHU7w">
+                    <property role="Xl_RC" value="$AESCCMMAC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7o" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Akz" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Aky" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Ak$" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5Ak_" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5AkA" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Mac." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS5AkB" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS5AkC" role="2Oq$k0">
+                      <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                      <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes128_CCM" resolve="id_aes128_CCM" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS5AkD" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5AkY" role="37wK5m">
+                  <property role="Xl_RC" value="AESCCMMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7u" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5W_J" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5W_I" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5W_K" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5W_L" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5W_M" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Mac." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS5W_N" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS5W_O" role="2Oq$k0">
+                      <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                      <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes192_CCM" resolve="id_aes192_CCM" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS5W_P" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5WAa" role="37wK5m">
+                  <property role="Xl_RC" value="AESCCMMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7$" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5oO6" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5oO5" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5oO7" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5oO8" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5oO9" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Mac." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS89I5" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS89I4" role="2Oq$k0">
+                      <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                      <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.id_aes256_CCM" resolve="id_aes256_CCM" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS89I6" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5oOb" role="37wK5m">
+                  <property role="Xl_RC" value="AESCCMMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7E" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5vR3" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5vR2" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5vR4" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5vR5" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5vR6" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes128_cbc" resolve="bc_pbe_sha1_pkcs12_aes128_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5vR9" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7J" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7OM9" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7OM8" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7OMa" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7OMb" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7OMc" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes192_cbc" resolve="bc_pbe_sha1_pkcs12_aes192_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7OMf" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7O" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7wqX" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7wqW" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7wqY" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7wqZ" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7wr0" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes256_cbc" resolve="bc_pbe_sha1_pkcs12_aes256_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7wr3" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7T" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7iZh" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7iZg" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7iZi" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7iZj" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS7iZk" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes128_cbc" resolve="bc_pbe_sha256_pkcs12_aes128_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7iZn" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g7Y" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5q8y" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5q8x" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5q8z" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5q8$" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8bdo" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes192_cbc" resolve="bc_pbe_sha256_pkcs12_aes192_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5q8A" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g83" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6Pop" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6Poo" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6Poq" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6Por" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8cbI" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes256_cbc" resolve="bc_pbe_sha256_pkcs12_aes256_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6Pot" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g88" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7x$5" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7x$4" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7x$6" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7x$7" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7x$8" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7x$9" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7x$a" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA1AESCBC128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8e" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7dAN" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7dAM" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7dAO" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7dAP" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7dAQ" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7dAR" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7dAS" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA1AESCBC192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8k" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6rDw" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6rDv" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6rDx" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6rDy" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS6rDz" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS6rD$" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS6rD_" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA1AESCBC256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8q" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS74_Z" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS74_Y" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS74A0" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS74A1" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS74A2" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS74A3" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS74A4" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256AESCBC128" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8w" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5JaD" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5JaC" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5JaE" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5JaF" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5JaG" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5JaH" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5JaI" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256AESCBC192" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8A" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS69TQ" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS69TP" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS69TR" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS69TS" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS69TT" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS69TU" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS69TV" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256AESCBC256" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8G" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS60CX" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS60CW" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS60CY" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS60CZ" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS60D0" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8K" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5B7N" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5B7M" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5B7O" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5B7P" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5B7Q" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8O" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5yg9" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5yg8" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5yga" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5ygb" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5ygc" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8S" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5T65" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5T64" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5T66" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5T67" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5T68" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g8W" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5P97" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5P96" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5P98" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5P99" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5P9a" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g90" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6iBG" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6iBF" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6iBH" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6iBI" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6iBJ" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g94" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS66i6" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS66i5" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS66i7" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS66i8" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHAAND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS66i9" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g98" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS600h" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS600g" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS600i" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS600j" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHAAND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS600k" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9c" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6HOQ" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6HOP" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6HOR" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6HOS" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHAAND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6HOT" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9g" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5$cw" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5$cv" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5$cx" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5$cy" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5$cz" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9k" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5TT7" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5TT6" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5TT8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5TT9" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5TTa" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9o" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5O_F" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5O_E" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5O_G" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5O_H" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1AND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5O_I" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9s" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5KE5" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5KE4" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5KE6" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5KE7" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5KE8" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9w" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5veH" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5veG" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5veI" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5veJ" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5veK" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9$" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5sBc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5sBb" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5sBd" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5sBe" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-1AND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5sBf" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9C" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5D6h" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5D6g" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5D6i" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5D6j" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5D6k" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9G" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5BSA" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5BS_" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5BSB" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5BSC" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5BSD" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9K" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5rnu" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5rnt" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5rnv" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5rnw" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5rnx" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9O" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pKV" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pKU" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pKW" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pKX" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA256AND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5pKY" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9S" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5oYc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5oYb" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5oYd" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5oYe" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA256AND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5oYf" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5g9W" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5xox" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5xow" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5xoy" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5xoz" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA256AND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5xo$" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ga0" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5NMR" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5NMQ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5NMS" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5NMT" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5NMU" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ga4" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6jom" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6jol" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6jon" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6joo" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6jop" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ga8" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS68mx" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS68mw" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS68my" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS68mz" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA-256AND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS68m$" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gac" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS65NI" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS65NH" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS65NJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS65NK" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHMD5AND128BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS65NL" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS65NM" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS65NN" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithAESCBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gai" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5ANb" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5ANa" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5ANc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5ANd" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHMD5AND192BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5ANe" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5ANf" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5ANg" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithAESCBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gao" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5XkZ" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5XkY" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Xl0" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Xl1" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHMD5AND256BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5Xl2" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5Xl3" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5Xl4" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithAESCBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gau" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5OcF" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5OcE" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5OcG" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5OcH" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.AES" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5OcI" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5OcJ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5OcK" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ga$" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5vAl" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5vAk" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5vAm" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5vAn" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5vAo" role="37wK5m">
+                  <ref role="1PxDUh" to="j2lh:~NISTObjectIdentifiers" resolve="NISTObjectIdentifiers" />
+                  <ref role="3cqZAo" to="j2lh:~NISTObjectIdentifiers.aes" resolve="aes" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5vAr" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5vAs" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5vAt" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gaF" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5rRu" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5rRt" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5rRv" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5rRw" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHMD5AND128BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5rRx" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5rRy" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5rRz" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD5And128BitAESCBCOpenSSL" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gaL" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7k4T" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7k4S" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7k4U" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7k4V" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHMD5AND192BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7k4W" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7k4X" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7k4Y" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD5And192BitAESCBCOpenSSL" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gaR" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5qpV" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5qpU" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5qpW" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5qpX" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHMD5AND256BITAES-CBC-OPENSSL" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5qpY" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5qpZ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5qq0" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD5And256BitAESCBCOpenSSL" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gaX" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pqV" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pqU" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pqW" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pqX" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5pqY" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5pqZ" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5pr0" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHAAnd128BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gb3" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5v2B" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5v2A" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5v2C" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5v2D" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5v2E" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5v2F" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5v2G" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHAAnd192BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gb9" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5s0I" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5s0H" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5s0J" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5s0K" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5s0L" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5s0M" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5s0N" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHAAnd256BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbf" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7gzp" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7gzo" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7gzq" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7gzr" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS7gzs" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS7gzt" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS7gzu" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256And128BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbl" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5qgS" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5qgR" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5qgT" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5qgU" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5qgV" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5qgW" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5qgX" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256And192BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbr" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5oWO" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5oWN" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5oWP" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5oWQ" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="3cpWs3" id="622NOWS5oWR" role="37wK5m">
+                  <node concept="37vLTw" id="622NOWS5oWS" role="3uHU7B">
+                    <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="622NOWS5oWT" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA256And256BitAESBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbx" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6QtG" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6QtF" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6QtH" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6QtI" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6QtJ" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gb_" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6LFh" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6LFg" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6LFi" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6LFj" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6LFk" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbD" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7Fbj" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7Fbi" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7Fbk" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7Fbl" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7Fbm" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbH" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7vWL" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7vWK" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7vWM" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7vWN" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7vWO" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbL" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6FBe" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6FBd" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6FBf" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6FBg" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6FBh" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbP" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6zjc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6zjb" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6zjd" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6zje" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6zjf" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbT" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6pa0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6p9Z" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6pa1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6pa2" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6pa3" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gbX" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS74cb" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS74ca" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS74cc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS74cd" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS74ce" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gc1" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS61mf" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS61me" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS61mg" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS61mh" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS61mi" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gc5" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6G0a" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6G09" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6G0b" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6G0c" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND128BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6G0d" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gc9" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6$ea" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6$e9" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6$eb" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6$ec" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND192BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6$ed" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcd" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6pWW" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6pWV" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6pWX" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6pWY" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA-256AND256BITAES-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6pWZ" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gch" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5RR2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5RR1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5RR3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5RR4" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5RR5" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes128_cbc" resolve="bc_pbe_sha1_pkcs12_aes128_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5RR8" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcm" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5La1" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5La0" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5La2" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5La3" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8atE" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes192_cbc" resolve="bc_pbe_sha1_pkcs12_aes192_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5La5" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcr" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6bT2" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6bT1" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6bT3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS6bT4" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS6bT5" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes256_cbc" resolve="bc_pbe_sha1_pkcs12_aes256_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS6bT8" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcw" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5sd0" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5scZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5sd1" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5sd2" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS8anF" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes128_cbc" resolve="bc_pbe_sha256_pkcs12_aes128_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5sd4" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gc_" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5BBk" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5BBj" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5BBl" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5BBm" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5BBn" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes192_cbc" resolve="bc_pbe_sha256_pkcs12_aes192_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5BBq" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcE" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5$$$" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5$$z" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5$$_" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5$$A" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory" />
+                </node>
+                <node concept="10M0yZ" id="622NOWS5$$B" role="37wK5m">
+                  <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                  <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes256_cbc" resolve="bc_pbe_sha256_pkcs12_aes256_cbc" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5$$E" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcJ" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pGt" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pGs" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pGu" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5pGv" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHAAND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5pGw" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcN" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5p1G" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5p1F" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5p1H" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5p1I" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHAAND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5p1J" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcR" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5xh5" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5xh4" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5xh6" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5xh7" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHAAND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5xh8" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcV" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5tHc" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5tHb" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5tHd" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5tHe" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5tHf" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gcZ" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5DyH" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5DyG" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5DyI" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5DyJ" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5DyK" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gd3" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Ckk" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Ckj" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Ckl" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Ckm" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5Ckn" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gd7" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5$J$" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5$Jz" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5$J_" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5$JA" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5$JB" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdb" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Uuj" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Uui" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Uuk" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5Uul" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5Uum" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdf" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5p0o" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5p0n" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5p0p" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5p0q" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5p0r" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdj" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5xEt" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5xEs" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5xEu" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5xEv" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-1AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5xEw" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdn" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5vxx" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5vxw" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5vxy" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5vxz" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-1AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5vx$" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdr" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5sQw" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5sQv" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5sQx" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5sQy" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-1AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5sQz" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdv" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7_6T" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7_6S" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7_6U" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7_6V" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-256AND128BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7_6W" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdz" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7rVg" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7rVf" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7rVh" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS7rVi" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-256AND192BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS7rVj" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdB" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5rxy" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5rxx" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5rxz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="622NOWS5rx$" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters.PBEWITHSHA-256AND256BITAES-CBC-BC" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5rx_" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdF" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5pVb" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5pVa" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5pVc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5pVd" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5pVe" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS5pVf" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS5pVg" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes128_cbc" resolve="bc_pbe_sha1_pkcs12_aes128_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS5pVh" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5pVA" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdL" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7474" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7473" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7475" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7476" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7477" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS7478" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS7479" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes192_cbc" resolve="bc_pbe_sha1_pkcs12_aes192_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS747a" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS747v" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdR" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS6QpU" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS6QpT" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS6QpV" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS6QpW" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS6QpX" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS6QpY" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS6QpZ" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha1_pkcs12_aes256_cbc" resolve="bc_pbe_sha1_pkcs12_aes256_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS6Qq0" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS6Qql" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gdX" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS7IcU" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS7IcT" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS7IcV" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS7IcW" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS7IcX" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS7IcY" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS7IcZ" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes128_cbc" resolve="bc_pbe_sha256_pkcs12_aes128_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS7Id0" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS7Idl" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ge3" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5sbC" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5sbB" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5sbD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5sbE" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5sbF" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS8cCj" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS8cCi" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes192_cbc" resolve="bc_pbe_sha256_pkcs12_aes192_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS8cCk" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5sbH" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5ge9" role="3cqZAp">
+            <node concept="2OqwBi" id="622NOWS5Ci$" role="3clFbG">
+              <node concept="37vLTw" id="622NOWS5Ciz" role="2Oq$k0">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="622NOWS5Ci_" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="622NOWS5CiA" role="37wK5m">
+                  <node concept="Xl_RD" id="622NOWS5CiB" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters." />
+                  </node>
+                  <node concept="2OqwBi" id="622NOWS5CiC" role="3uHU7w">
+                    <node concept="10M0yZ" id="622NOWS5CiD" role="2Oq$k0">
+                      <ref role="1PxDUh" to="g9oq:~BCObjectIdentifiers" resolve="BCObjectIdentifiers" />
+                      <ref role="3cqZAo" to="g9oq:~BCObjectIdentifiers.bc_pbe_sha256_pkcs12_aes256_cbc" resolve="bc_pbe_sha256_pkcs12_aes256_cbc" />
+                    </node>
+                    <node concept="liA8E" id="622NOWS5CiE" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS5CiZ" role="37wK5m">
+                  <property role="Xl_RC" value="PKCS12PBE" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gef" role="3cqZAp">
+            <node concept="1rXfSq" id="622NOWS5geg" role="3clFbG">
+              <ref role="37wK5l" node="622NOWS8Qsg" resolve="addGMacAlgorithm" />
+              <node concept="37vLTw" id="622NOWS5geh" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="Xl_RD" id="622NOWS5gei" role="37wK5m">
+                <property role="Xl_RC" value="AES" />
+              </node>
+              <node concept="3cpWs3" id="622NOWS5gej" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS5gek" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5gel" role="3uHU7w">
+                  <property role="Xl_RC" value="$AESGMAC" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS5gem" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS5gen" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5geo" role="3uHU7w">
+                  <property role="Xl_RC" value="$KeyGen128" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="622NOWS5gep" role="3cqZAp">
+            <node concept="1rXfSq" id="622NOWS5geq" role="3clFbG">
+              <ref role="37wK5l" node="622NOWS8Qt0" resolve="addPoly1305Algorithm" />
+              <node concept="37vLTw" id="622NOWS5ger" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS5fXr" resolve="provider" />
+              </node>
+              <node concept="Xl_RD" id="622NOWS5ges" role="37wK5m">
+                <property role="Xl_RC" value="AES" />
+              </node>
+              <node concept="3cpWs3" id="622NOWS5get" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS5geu" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5gev" role="3uHU7w">
+                  <property role="Xl_RC" value="$Poly1305" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS5gew" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS5gex" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS5fX2" resolve="PREFIX" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS5gey" role="3uHU7w">
+                  <property role="Xl_RC" value="$Poly1305KeyGen" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="622NOWS5gez" role="1B3o_S" />
+        <node concept="3cqZAl" id="622NOWS5ge$" role="3clF45" />
+      </node>
+    </node>
+  </node>
+  <node concept="312cEu" id="622NOWS8Qru">
+    <property role="TrG5h" value="SymmetricAlgorithmProvider" />
+    <property role="2bfB8j" value="true" />
+    <property role="1sVAO0" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <property role="2HnT6v" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <node concept="3uibUv" id="622NOWS8Qrv" role="1zkMxy">
+      <ref role="3uigEE" to="pbt1:~AlgorithmProvider" resolve="AlgorithmProvider" />
+    </node>
+    <node concept="3clFb_" id="622NOWS8Qrw" role="jymVt">
+      <property role="TrG5h" value="addCMacAlgorithm" />
+      <node concept="37vLTG" id="622NOWS8Qrx" role="3clF46">
+        <property role="TrG5h" value="provider" />
+        <node concept="3uibUv" id="622NOWS8Qry" role="1tU5fm">
+          <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qrz" role="3clF46">
+        <property role="TrG5h" value="algorithm" />
+        <node concept="3uibUv" id="622NOWS8Qr$" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qr_" role="3clF46">
+        <property role="TrG5h" value="algorithmClassName" />
+        <node concept="3uibUv" id="622NOWS8QrA" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8QrB" role="3clF46">
+        <property role="TrG5h" value="keyGeneratorClassName" />
+        <node concept="3uibUv" id="622NOWS8QrC" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="622NOWS8QrD" role="3clF47">
+        <node concept="3clFbF" id="622NOWS8QrE" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS941p" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS941o" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qrx" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS941q" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS941r" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS941s" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS941t" role="3uHU7B">
+                    <property role="Xl_RC" value="Mac." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS941u" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS941v" role="3uHU7w">
+                  <property role="Xl_RC" value="-CMAC" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS941w" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8Qr_" resolve="algorithmClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8QrM" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS943I" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS943H" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qrx" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS943J" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS943K" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS943L" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS943M" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Mac." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS943N" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS943O" role="3uHU7w">
+                  <property role="Xl_RC" value="CMAC" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS943P" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS943Q" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS943R" role="3uHU7w">
+                  <property role="Xl_RC" value="-CMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8QrW" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93Sy" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93Sx" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qrx" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93Sz" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93S$" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS93S_" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS93SA" role="3uHU7B">
+                    <property role="Xl_RC" value="KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS93SB" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS93SC" role="3uHU7w">
+                  <property role="Xl_RC" value="-CMAC" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS93SD" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8QrB" resolve="keyGeneratorClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8Qs4" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93UC" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93UB" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qrx" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93UD" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93UE" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS93UF" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS93UG" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS93UH" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS93UI" role="3uHU7w">
+                  <property role="Xl_RC" value="CMAC" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS93UJ" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS93UK" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS8Qrz" resolve="algorithm" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS93UL" role="3uHU7w">
+                  <property role="Xl_RC" value="-CMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="622NOWS8Qse" role="1B3o_S" />
+      <node concept="3cqZAl" id="622NOWS8Qsf" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="622NOWS8Qsg" role="jymVt">
+      <property role="TrG5h" value="addGMacAlgorithm" />
+      <node concept="37vLTG" id="622NOWS8Qsh" role="3clF46">
+        <property role="TrG5h" value="provider" />
+        <node concept="3uibUv" id="622NOWS8Qsi" role="1tU5fm">
+          <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qsj" role="3clF46">
+        <property role="TrG5h" value="algorithm" />
+        <node concept="3uibUv" id="622NOWS8Qsk" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qsl" role="3clF46">
+        <property role="TrG5h" value="algorithmClassName" />
+        <node concept="3uibUv" id="622NOWS8Qsm" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qsn" role="3clF46">
+        <property role="TrG5h" value="keyGeneratorClassName" />
+        <node concept="3uibUv" id="622NOWS8Qso" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="622NOWS8Qsp" role="3clF47">
+        <node concept="3clFbF" id="622NOWS8Qsq" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93WQ" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93WP" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qsh" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93WR" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93WS" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS93WT" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS93WU" role="3uHU7B">
+                    <property role="Xl_RC" value="Mac." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS93WV" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS93WW" role="3uHU7w">
+                  <property role="Xl_RC" value="-GMAC" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS93WX" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8Qsl" resolve="algorithmClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8Qsy" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93XV" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93XU" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qsh" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93XW" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93XX" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS93XY" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS93XZ" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.Mac." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS93Y0" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS93Y1" role="3uHU7w">
+                  <property role="Xl_RC" value="GMAC" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS93Y2" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS93Y3" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS93Y4" role="3uHU7w">
+                  <property role="Xl_RC" value="-GMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8QsG" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS9467" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS9466" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qsh" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS9468" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS9469" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS946a" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS946b" role="3uHU7B">
+                    <property role="Xl_RC" value="KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS946c" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS946d" role="3uHU7w">
+                  <property role="Xl_RC" value="-GMAC" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS946e" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8Qsn" resolve="keyGeneratorClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8QsO" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS947c" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS947b" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qsh" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS947d" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS947e" role="37wK5m">
+                <node concept="3cpWs3" id="622NOWS947f" role="3uHU7B">
+                  <node concept="Xl_RD" id="622NOWS947g" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.KeyGenerator." />
+                  </node>
+                  <node concept="37vLTw" id="622NOWS947h" role="3uHU7w">
+                    <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="622NOWS947i" role="3uHU7w">
+                  <property role="Xl_RC" value="GMAC" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS947j" role="37wK5m">
+                <node concept="37vLTw" id="622NOWS947k" role="3uHU7B">
+                  <ref role="3cqZAo" node="622NOWS8Qsj" resolve="algorithm" />
+                </node>
+                <node concept="Xl_RD" id="622NOWS947l" role="3uHU7w">
+                  <property role="Xl_RC" value="-GMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="622NOWS8QsY" role="1B3o_S" />
+      <node concept="3cqZAl" id="622NOWS8QsZ" role="3clF45" />
+    </node>
+    <node concept="3clFb_" id="622NOWS8Qt0" role="jymVt">
+      <property role="TrG5h" value="addPoly1305Algorithm" />
+      <node concept="37vLTG" id="622NOWS8Qt1" role="3clF46">
+        <property role="TrG5h" value="provider" />
+        <node concept="3uibUv" id="622NOWS8Qt2" role="1tU5fm">
+          <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qt3" role="3clF46">
+        <property role="TrG5h" value="algorithm" />
+        <node concept="3uibUv" id="622NOWS8Qt4" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qt5" role="3clF46">
+        <property role="TrG5h" value="algorithmClassName" />
+        <node concept="3uibUv" id="622NOWS8Qt6" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="622NOWS8Qt7" role="3clF46">
+        <property role="TrG5h" value="keyGeneratorClassName" />
+        <node concept="3uibUv" id="622NOWS8Qt8" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+      <node concept="3clFbS" id="622NOWS8Qt9" role="3clF47">
+        <node concept="3clFbF" id="622NOWS8Qta" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93Rx" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93Rw" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qt1" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93Ry" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93Rz" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93R$" role="3uHU7B">
+                  <property role="Xl_RC" value="Mac.POLY1305-" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93R_" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS93RA" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8Qt5" resolve="algorithmClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8Qtg" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93Z4" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93Z3" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qt1" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93Z5" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93Z6" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93Z7" role="3uHU7B">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.POLY1305" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93Z8" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS93Z9" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93Za" role="3uHU7B">
+                  <property role="Xl_RC" value="POLY1305-" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93Zb" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8Qto" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93TB" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93TA" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qt1" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93TC" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93TD" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93TE" role="3uHU7B">
+                  <property role="Xl_RC" value="KeyGenerator.POLY1305-" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93TF" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="622NOWS93TG" role="37wK5m">
+                <ref role="3cqZAo" node="622NOWS8Qt7" resolve="keyGeneratorClassName" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="622NOWS8Qtu" role="3cqZAp">
+          <node concept="2OqwBi" id="622NOWS93VL" role="3clFbG">
+            <node concept="37vLTw" id="622NOWS93VK" role="2Oq$k0">
+              <ref role="3cqZAo" node="622NOWS8Qt1" resolve="provider" />
+            </node>
+            <node concept="liA8E" id="622NOWS93VM" role="2OqNvi">
+              <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+              <node concept="3cpWs3" id="622NOWS93VN" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93VO" role="3uHU7B">
+                  <property role="Xl_RC" value="Alg.Alias.KeyGenerator.POLY1305" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93VP" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+              <node concept="3cpWs3" id="622NOWS93VQ" role="37wK5m">
+                <node concept="Xl_RD" id="622NOWS93VR" role="3uHU7B">
+                  <property role="Xl_RC" value="POLY1305-" />
+                </node>
+                <node concept="37vLTw" id="622NOWS93VS" role="3uHU7w">
+                  <ref role="3cqZAo" node="622NOWS8Qt3" resolve="algorithm" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3Tmbuc" id="622NOWS8QtA" role="1B3o_S" />
+      <node concept="3cqZAl" id="622NOWS8QtB" role="3clF45" />
+    </node>
+  </node>
+  <node concept="312cEu" id="1amp5$pG1Nr">
+    <property role="TrG5h" value="Blowfish" />
+    <property role="2bfB8j" value="true" />
+    <property role="1EXbeo" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <property role="2HnT6v" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <node concept="3Tm1VV" id="1amp5$pG1Ns" role="1B3o_S" />
+    <node concept="3clFbW" id="1amp5$pG1Pc" role="jymVt">
+      <node concept="3cqZAl" id="1amp5$pG1Pd" role="3clF45" />
+      <node concept="3clFbS" id="1amp5$pG1Pe" role="3clF47" />
+      <node concept="3Tm6S6" id="1amp5$pG1Pf" role="1B3o_S" />
+    </node>
+    <node concept="2ALBHu" id="1amp5$pGrP1" role="jymVt">
+      <property role="TrG5h" value="ECB" />
+      <node concept="2qjjs5" id="1amp5$pGydy" role="jymVt">
+        <property role="TrG5h" value="BlowfishWithECBallowed" />
+        <node concept="10P_77" id="1amp5$pGygf" role="2iVZe$" />
+        <node concept="3clFbT" id="1amp5$pGyhy" role="1Em9Vp" />
+      </node>
+      <node concept="3Tm1VV" id="1amp5$pGrP2" role="1B3o_S" />
+      <node concept="1NMaa_" id="1amp5$pGymP" role="jymVt">
+        <node concept="3clFbS" id="1amp5$pG1Ny" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pGpUI" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pGpUJ" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pGpUK" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~BlowfishEngine.&lt;init&gt;()" resolve="BlowfishEngine" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pG1N_" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pG1Nx" role="3clF45" />
+        <node concept="7NFgH" id="1amp5$pGyx0" role="28mdTn">
+          <property role="7QkGG" value="Using Blowfish in ECB mode is considered insecure!" />
+          <node concept="RhriJ" id="1amp5$pGyzp" role="7NFgG">
+            <ref role="RhriC" node="1amp5$pGydy" resolve="BlowfishWithECBallowed" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="1amp5$pG1Nv" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pG1NA" role="jymVt">
+      <property role="TrG5h" value="CBC" />
+      <node concept="3Tm1VV" id="1amp5$pG1NB" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pG1NC" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pG1ND" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pG1NE" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pG1NF" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pGqaL" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pGqaM" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pGqaN" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="1amp5$pGqaO" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pGqaP" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~BlowfishEngine.&lt;init&gt;()" resolve="BlowfishEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="1amp5$pGqaQ" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pG1NK" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pG1NL" role="jymVt">
+      <property role="TrG5h" value="CMAC" />
+      <node concept="3Tm1VV" id="1amp5$pG1NM" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pG1NN" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pG1NO" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pG1NP" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pG1NQ" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pGq1r" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pGq1s" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pGq1t" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CMac" />
+                <node concept="2ShNRf" id="1amp5$pGq1u" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pGq1v" role="2ShVmc">
+                    <ref role="37wK5l" to="qrpw:~BlowfishEngine.&lt;init&gt;()" resolve="BlowfishEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pG1NU" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pG1NV" role="jymVt">
+      <property role="TrG5h" value="KeyGen" />
+      <node concept="3Tm1VV" id="1amp5$pG1NW" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pG1NX" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseKeyGenerator" resolve="BaseKeyGenerator" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pG1NY" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pG1NZ" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pG1O0" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pGq4U" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="Xl_RD" id="1amp5$pGq4V" role="37wK5m">
+              <property role="Xl_RC" value="Blowfish" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pGq4W" role="37wK5m">
+              <property role="3cmrfH" value="128" />
+            </node>
+            <node concept="2ShNRf" id="1amp5$pGq4X" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pGq4Y" role="2ShVmc">
+                <ref role="37wK5l" to="6y4x:~CipherKeyGenerator.&lt;init&gt;()" resolve="CipherKeyGenerator" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pG1O5" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pG1O6" role="jymVt">
+      <property role="TrG5h" value="AlgParams" />
+      <node concept="3Tm1VV" id="1amp5$pG1O7" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pG1O8" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~IvAlgorithmParameters" resolve="IvAlgorithmParameters" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pG1O9" role="jymVt">
+        <property role="TrG5h" value="engineToString" />
+        <node concept="3clFbS" id="1amp5$pG1Oa" role="3clF47">
+          <node concept="3cpWs6" id="1amp5$pG1Ob" role="3cqZAp">
+            <node concept="Xl_RD" id="1amp5$pG1Oc" role="3cqZAk">
+              <property role="Xl_RC" value="Blowfish IV" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pG1Od" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pG1Oe" role="3clF45">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pG1Of" role="jymVt">
+      <property role="TrG5h" value="Mappings" />
+      <node concept="3Tm1VV" id="1amp5$pG1Og" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pG1Oh" role="1zkMxy">
+        <ref role="3uigEE" to="pbt1:~AlgorithmProvider" resolve="AlgorithmProvider" />
+      </node>
+      <node concept="Wx3nA" id="1amp5$pG1Oi" role="jymVt">
+        <property role="TrG5h" value="PREFIX" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="1amp5$pG1Oj" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="2OqwBi" id="1amp5$pG1Ok" role="33vP2m">
+          <node concept="3VsKOn" id="1amp5$pG1Om" role="2Oq$k0">
+            <ref role="3VsUkX" node="1amp5$pG1Nr" resolve="Blowfish" />
+          </node>
+          <node concept="liA8E" id="1amp5$pG1On" role="2OqNvi">
+            <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="1amp5$pG1Oo" role="1B3o_S" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pG1Op" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pG1Oq" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pG1Or" role="3clF47" />
+        <node concept="3Tm1VV" id="1amp5$pG1Os" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pG1Ot" role="jymVt">
+        <property role="TrG5h" value="configure" />
+        <node concept="37vLTG" id="1amp5$pG1Ou" role="3clF46">
+          <property role="TrG5h" value="provider" />
+          <node concept="3uibUv" id="1amp5$pG1Ov" role="1tU5fm">
+            <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="1amp5$pG1Ow" role="3clF47">
+          <node concept="3clFbF" id="1amp5$pG1Ox" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGq58" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGq57" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGq59" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGq5a" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.BLOWFISHCMAC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pGq5b" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pGq5c" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pG1Oi" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pGq5d" role="3uHU7w">
+                    <property role="Xl_RC" value="$CMAC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1OB" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGpQq" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGpQp" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGpQr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGpQs" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.BLOWFISH" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pGpQt" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pGpQu" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pG1Oi" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pGpQv" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1OH" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGpOm" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGpOl" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGpOn" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGpOo" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pGqAm" role="37wK5m">
+                  <ref role="1PxDUh" to="iflh:~MiscObjectIdentifiers" resolve="MiscObjectIdentifiers" />
+                  <ref role="3cqZAo" to="iflh:~MiscObjectIdentifiers.cryptlib_algorithm_blowfish_CBC" resolve="cryptlib_algorithm_blowfish_CBC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pGpOq" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pGpOr" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pG1Oi" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pGpOs" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1OO" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGpN9" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGpN8" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGpNa" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGpNb" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator.BLOWFISH" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pGpNc" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pGpNd" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pG1Oi" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pGpNe" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1OU" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGq00" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGpZZ" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGq01" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGq02" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.KeyGenerator" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pGqBj" role="37wK5m">
+                  <ref role="1PxDUh" to="iflh:~MiscObjectIdentifiers" resolve="MiscObjectIdentifiers" />
+                  <ref role="3cqZAo" to="iflh:~MiscObjectIdentifiers.cryptlib_algorithm_blowfish_CBC" resolve="cryptlib_algorithm_blowfish_CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pGq04" role="37wK5m">
+                  <property role="Xl_RC" value="BLOWFISH" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1OZ" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGq31" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGq30" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGq32" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGq33" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameters.BLOWFISH" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pGq34" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pGq35" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pG1Oi" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pGq36" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParams" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pG1P5" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pGq1O" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pGq1N" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pG1Ou" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pGq1P" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pGq1Q" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pGq1R" role="37wK5m">
+                  <ref role="1PxDUh" to="iflh:~MiscObjectIdentifiers" resolve="MiscObjectIdentifiers" />
+                  <ref role="3cqZAo" to="iflh:~MiscObjectIdentifiers.cryptlib_algorithm_blowfish_CBC" resolve="cryptlib_algorithm_blowfish_CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pGq1U" role="37wK5m">
+                  <property role="Xl_RC" value="BLOWFISH" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pG1Pa" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pG1Pb" role="3clF45" />
+      </node>
+    </node>
+  </node>
+  <node concept="312cEu" id="1amp5$pHITf">
+    <property role="TrG5h" value="DES" />
+    <property role="2bfB8j" value="true" />
+    <property role="1EXbeo" value="true" />
+    <property role="3GE5qa" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <property role="2HnT6v" value="org.bouncycastle.jcajce.provider.symmetric" />
+    <node concept="3Tm1VV" id="1amp5$pHITg" role="1B3o_S" />
+    <node concept="3clFbW" id="1amp5$pHJ7w" role="jymVt">
+      <node concept="3cqZAl" id="1amp5$pHJ7x" role="3clF45" />
+      <node concept="3clFbS" id="1amp5$pHJ7y" role="3clF47" />
+      <node concept="3Tm6S6" id="1amp5$pHJ7z" role="1B3o_S" />
+    </node>
+    <node concept="2ALBHu" id="1amp5$pIk1a" role="jymVt">
+      <property role="TrG5h" value="ECB" />
+      <node concept="2qjjs5" id="1amp5$pImHz" role="jymVt">
+        <property role="TrG5h" value="DES_ECB_allowed" />
+        <node concept="10P_77" id="1amp5$pImKK" role="2iVZe$" />
+        <node concept="3clFbT" id="1amp5$pImMt" role="1Em9Vp" />
+      </node>
+      <node concept="3Tm1VV" id="1amp5$pIk1b" role="1B3o_S" />
+      <node concept="1NMaa_" id="1amp5$pImMI" role="jymVt">
+        <node concept="3clFbS" id="1amp5$pHITm" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHQOo" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHQOp" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHQOq" role="2ShVmc">
+                <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHITp" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pHITl" role="3clF45" />
+        <node concept="7NFgH" id="1amp5$pImTr" role="28mdTn">
+          <node concept="RhriJ" id="1amp5$pImUv" role="7NFgG">
+            <ref role="RhriC" node="1amp5$pImHz" resolve="DES_ECB_allowed" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="1amp5$pHITj" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHITq" role="jymVt">
+      <property role="TrG5h" value="CBC" />
+      <node concept="3Tm1VV" id="1amp5$pHITr" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHITs" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHITt" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHITu" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHITv" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHS4s" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI5bc" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI5bo" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="1amp5$pI5bp" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5bq" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHS4w" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIT$" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIT_" role="jymVt">
+      <property role="TrG5h" value="DESCFB8" />
+      <node concept="3Tm1VV" id="1amp5$pHITA" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHITB" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHITJ" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8f" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8g" role="1dT_Ay">
+            <property role="1dT_AB" value="DES   CFB8" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHITC" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHITD" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHITE" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHNLK" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI5kh" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI5le" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CFBBlockCipherMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CFBBlockCipherMac" />
+                <node concept="2ShNRf" id="1amp5$pI5lf" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5lg" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHITI" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHITK" role="jymVt">
+      <property role="TrG5h" value="DES64" />
+      <node concept="3Tm1VV" id="1amp5$pHITL" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHITM" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHITV" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8h" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8i" role="1dT_Ay">
+            <property role="1dT_AB" value="DES64" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHITN" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHITO" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHITP" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHOlN" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI5eB" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI5f5" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CBCBlockCipherMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int)" resolve="CBCBlockCipherMac" />
+                <node concept="2ShNRf" id="1amp5$pI5f6" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5f7" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="1amp5$pI5f8" role="37wK5m">
+                  <property role="3cmrfH" value="64" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHITU" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHITW" role="jymVt">
+      <property role="TrG5h" value="DES64with7816d4" />
+      <node concept="3Tm1VV" id="1amp5$pHITX" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHITY" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHIU8" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8j" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8k" role="1dT_Ay">
+            <property role="1dT_AB" value="DES64with7816-4Padding" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHITZ" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIU0" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIU1" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHMHW" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHMHX" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHMHY" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CBCBlockCipherMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,int,org.bouncycastle.crypto.paddings.BlockCipherPadding)" resolve="CBCBlockCipherMac" />
+                <node concept="2ShNRf" id="1amp5$pHMHZ" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pHMI0" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="1amp5$pHMI1" role="37wK5m">
+                  <property role="3cmrfH" value="64" />
+                </node>
+                <node concept="2ShNRf" id="1amp5$pHMI2" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pHMI3" role="2ShVmc">
+                    <ref role="37wK5l" to="4pdr:~ISO7816d4Padding.&lt;init&gt;()" resolve="ISO7816d4Padding" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIU7" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIU9" role="jymVt">
+      <property role="TrG5h" value="CBCMAC" />
+      <node concept="3Tm1VV" id="1amp5$pHIUa" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIUb" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIUc" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIUd" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIUe" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHLat" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI5r2" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI5rs" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CBCBlockCipherMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipherMac" />
+                <node concept="2ShNRf" id="1amp5$pI7MB" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI7ME" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIUi" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIUj" role="jymVt">
+      <property role="TrG5h" value="CMAC" />
+      <node concept="3Tm1VV" id="1amp5$pHIUk" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIUl" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIUm" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIUn" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIUo" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHSh3" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHSh4" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHSh5" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~CMac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CMac" />
+                <node concept="2ShNRf" id="1amp5$pI5zU" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5zX" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIUs" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIUt" role="jymVt">
+      <property role="TrG5h" value="DES9797Alg3with7816d4" />
+      <node concept="3Tm1VV" id="1amp5$pHIUu" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIUv" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHIUC" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8l" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8m" role="1dT_Ay">
+            <property role="1dT_AB" value="DES9797Alg3with7816-4Padding" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIUw" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIUx" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIUy" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHLoS" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHLoT" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHLoU" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~ISO9797Alg3Mac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher,org.bouncycastle.crypto.paddings.BlockCipherPadding)" resolve="ISO9797Alg3Mac" />
+                <node concept="2ShNRf" id="1amp5$pI5$0" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5$3" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+                <node concept="2ShNRf" id="1amp5$pI5wE" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5wG" role="2ShVmc">
+                    <ref role="37wK5l" to="4pdr:~ISO7816d4Padding.&lt;init&gt;()" resolve="ISO7816d4Padding" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIUB" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIUD" role="jymVt">
+      <property role="TrG5h" value="DES9797Alg3" />
+      <node concept="3Tm1VV" id="1amp5$pHIUE" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIUF" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseMac" resolve="BaseMac" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHIUN" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8n" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8o" role="1dT_Ay">
+            <property role="1dT_AB" value="DES9797Alg3" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIUG" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIUH" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIUI" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHRwz" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHRw$" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHRw_" role="2ShVmc">
+                <ref role="37wK5l" to="nji9:~ISO9797Alg3Mac.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="ISO9797Alg3Mac" />
+                <node concept="2ShNRf" id="1amp5$pI5w$" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5wB" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIUM" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIUO" role="jymVt">
+      <property role="TrG5h" value="RFC3211" />
+      <node concept="3Tm1VV" id="1amp5$pHIUP" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIUQ" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseWrapCipher" resolve="BaseWrapCipher" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIUR" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIUS" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIUT" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHPEe" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI535" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI53V" role="2ShVmc">
+                <ref role="37wK5l" to="qrpw:~RFC3211WrapEngine.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="RFC3211WrapEngine" />
+                <node concept="2ShNRf" id="1amp5$pI53W" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI53X" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHPEi" role="37wK5m">
+              <property role="3cmrfH" value="8" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIUY" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIUZ" role="jymVt">
+      <property role="TrG5h" value="AlgParamGen" />
+      <node concept="3Tm1VV" id="1amp5$pHIV0" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIV1" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseAlgorithmParameterGenerator" resolve="BaseAlgorithmParameterGenerator" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIV2" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="1amp5$pHIV3" role="3clF46">
+          <property role="TrG5h" value="genParamSpec" />
+          <node concept="3uibUv" id="1amp5$pHIV4" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~AlgorithmParameterSpec" resolve="AlgorithmParameterSpec" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIV5" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="1amp5$pHIV6" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="1amp5$pHIV7" role="Sfmx6">
+          <ref role="3uigEE" to="jgjw:~InvalidAlgorithmParameterException" resolve="InvalidAlgorithmParameterException" />
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIV8" role="3clF47">
+          <node concept="YS8fn" id="1amp5$pHIVb" role="3cqZAp">
+            <node concept="2ShNRf" id="1amp5$pHNFW" role="YScLw">
+              <node concept="1pGfFk" id="1amp5$pHNKp" role="2ShVmc">
+                <ref role="37wK5l" to="jgjw:~InvalidAlgorithmParameterException.&lt;init&gt;(java.lang.String)" resolve="InvalidAlgorithmParameterException" />
+                <node concept="Xl_RD" id="1amp5$pHNKq" role="37wK5m">
+                  <property role="Xl_RC" value="No supported AlgorithmParameterSpec for DES parameter generation." />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIVc" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pHIVd" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIVe" role="jymVt">
+        <property role="TrG5h" value="engineGenerateParameters" />
+        <node concept="3clFbS" id="1amp5$pHIVf" role="3clF47">
+          <node concept="3cpWs8" id="1amp5$pHIVh" role="3cqZAp">
+            <node concept="3cpWsn" id="1amp5$pHIVg" role="3cpWs9">
+              <property role="TrG5h" value="iv" />
+              <node concept="10Q1$e" id="1amp5$pHIVj" role="1tU5fm">
+                <node concept="10PrrI" id="1amp5$pHIVi" role="10Q1$1" />
+              </node>
+              <node concept="2ShNRf" id="1amp5$pHIVo" role="33vP2m">
+                <node concept="3$_iS1" id="1amp5$pHIVm" role="2ShVmc">
+                  <node concept="3$GHV9" id="1amp5$pHIVn" role="3$GQph">
+                    <node concept="3cmrfG" id="1amp5$pHIVl" role="3$I4v7">
+                      <property role="3cmrfH" value="8" />
+                    </node>
+                  </node>
+                  <node concept="10PrrI" id="1amp5$pHIVk" role="3$_nBY" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="1amp5$pHIVp" role="3cqZAp">
+            <node concept="3clFbC" id="1amp5$pHIVq" role="3clFbw">
+              <node concept="37vLTw" id="1amp5$pHIVr" role="3uHU7B">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="10Nm6u" id="1amp5$pHIVs" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIVu" role="3clFbx">
+              <node concept="3clFbF" id="1amp5$pHIVv" role="3cqZAp">
+                <node concept="37vLTI" id="1amp5$pHIVw" role="3clFbG">
+                  <node concept="37vLTw" id="1amp5$pHIVx" role="37vLTJ">
+                    <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+                  </node>
+                  <node concept="2YIFZM" id="1amp5$pHOXx" role="37vLTx">
+                    <ref role="1Pybhc" to="6y4x:~CryptoServicesRegistrar" resolve="CryptoServicesRegistrar" />
+                    <ref role="37wK5l" to="6y4x:~CryptoServicesRegistrar.getSecureRandom()" resolve="getSecureRandom" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIVz" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHNiu" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHNit" role="2Oq$k0">
+                <ref role="3cqZAo" to="c0ik:~BaseAlgorithmParameterGenerator.random" resolve="random" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHNiv" role="2OqNvi">
+                <ref role="37wK5l" to="jgjw:~SecureRandom.nextBytes(byte[])" resolve="nextBytes" />
+                <node concept="37vLTw" id="1amp5$pHNiw" role="37wK5m">
+                  <ref role="3cqZAo" node="1amp5$pHIVg" resolve="iv" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs8" id="1amp5$pHIVB" role="3cqZAp">
+            <node concept="3cpWsn" id="1amp5$pHIVA" role="3cpWs9">
+              <property role="TrG5h" value="params" />
+              <node concept="3uibUv" id="1amp5$pHIVC" role="1tU5fm">
+                <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+              </node>
+            </node>
+          </node>
+          <node concept="3J1_TO" id="1amp5$pHIVW" role="3cqZAp">
+            <node concept="3uVAMA" id="1amp5$pHIVX" role="1zxBo5">
+              <node concept="3clFbS" id="1amp5$pHIVS" role="1zc67A">
+                <node concept="YS8fn" id="1amp5$pHIVV" role="3cqZAp">
+                  <node concept="2ShNRf" id="1amp5$pHLj$" role="YScLw">
+                    <node concept="1pGfFk" id="1amp5$pHLkb" role="2ShVmc">
+                      <ref role="37wK5l" to="wyt6:~RuntimeException.&lt;init&gt;(java.lang.String)" resolve="RuntimeException" />
+                      <node concept="2OqwBi" id="1amp5$pHLkc" role="37wK5m">
+                        <node concept="37vLTw" id="1amp5$pHLkd" role="2Oq$k0">
+                          <ref role="3cqZAo" node="1amp5$pHIVO" resolve="e" />
+                        </node>
+                        <node concept="liA8E" id="1amp5$pHLke" role="2OqNvi">
+                          <ref role="37wK5l" to="wyt6:~Throwable.getMessage()" resolve="getMessage" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="XOnhg" id="1amp5$pHIVO" role="1zc67B">
+                <property role="TrG5h" value="e" />
+                <node concept="nSUau" id="1amp5$pHIVQ" role="1tU5fm">
+                  <node concept="3uibUv" id="1amp5$pHIVP" role="nSUat">
+                    <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIVE" role="1zxBo7">
+              <node concept="3clFbF" id="1amp5$pHIVF" role="3cqZAp">
+                <node concept="37vLTI" id="1amp5$pHIVG" role="3clFbG">
+                  <node concept="37vLTw" id="1amp5$pHIVH" role="37vLTJ">
+                    <ref role="3cqZAo" node="1amp5$pHIVA" resolve="params" />
+                  </node>
+                  <node concept="1rXfSq" id="1amp5$pHIVI" role="37vLTx">
+                    <ref role="37wK5l" to="c0ik:~BaseAlgorithmParameterGenerator.createParametersInstance(java.lang.String)" resolve="createParametersInstance" />
+                    <node concept="Xl_RD" id="1amp5$pHIVJ" role="37wK5m">
+                      <property role="Xl_RC" value="DES" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="1amp5$pHIVK" role="3cqZAp">
+                <node concept="2OqwBi" id="1amp5$pHMOo" role="3clFbG">
+                  <node concept="37vLTw" id="1amp5$pHMOn" role="2Oq$k0">
+                    <ref role="3cqZAo" node="1amp5$pHIVA" resolve="params" />
+                  </node>
+                  <node concept="liA8E" id="1amp5$pHMOp" role="2OqNvi">
+                    <ref role="37wK5l" to="jgjw:~AlgorithmParameters.init(java.security.spec.AlgorithmParameterSpec)" resolve="init" />
+                    <node concept="2ShNRf" id="1amp5$pHMOq" role="37wK5m">
+                      <node concept="1pGfFk" id="1amp5$pHMOr" role="2ShVmc">
+                        <ref role="37wK5l" to="7lc:~IvParameterSpec.&lt;init&gt;(byte[])" resolve="IvParameterSpec" />
+                        <node concept="37vLTw" id="1amp5$pHMOs" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIVg" resolve="iv" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="1amp5$pHIVY" role="3cqZAp">
+            <node concept="37vLTw" id="1amp5$pHIVZ" role="3cqZAk">
+              <ref role="3cqZAo" node="1amp5$pHIVA" resolve="params" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIW0" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pHIW1" role="3clF45">
+          <ref role="3uigEE" to="jgjw:~AlgorithmParameters" resolve="AlgorithmParameters" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIW2" role="jymVt">
+      <property role="TrG5h" value="KeyGenerator" />
+      <node concept="3Tm1VV" id="1amp5$pHIW3" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIW4" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseKeyGenerator" resolve="BaseKeyGenerator" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHIWI" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8p" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8q" role="1dT_Ay">
+            <property role="1dT_AB" value="DES - the default for this is to generate a key in" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="1amp5$pHJ8r" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8s" role="1dT_Ay">
+            <property role="1dT_AB" value="a-b-a format that's 24 bytes long but has 16 bytes of" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="1amp5$pHJ8t" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8u" role="1dT_Ay">
+            <property role="1dT_AB" value="key material (the first 8 bytes is repeated as the last" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="1amp5$pHJ8v" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8w" role="1dT_Ay">
+            <property role="1dT_AB" value="8 bytes). If you give it a size, you'll get just what you" />
+          </node>
+        </node>
+        <node concept="TZ5HA" id="1amp5$pHJ8x" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8y" role="1dT_Ay">
+            <property role="1dT_AB" value="asked for." />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIW5" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIW6" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIW7" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHRvY" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="Xl_RD" id="1amp5$pHRvZ" role="37wK5m">
+              <property role="Xl_RC" value="DES" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHRw0" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="2ShNRf" id="1amp5$pI5p3" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI5p4" role="2ShVmc">
+                <ref role="37wK5l" to="xewt:~DESKeyGenerator.&lt;init&gt;()" resolve="DESKeyGenerator" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIWc" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIWd" role="jymVt">
+        <property role="TrG5h" value="engineInit" />
+        <node concept="37vLTG" id="1amp5$pHIWe" role="3clF46">
+          <property role="TrG5h" value="keySize" />
+          <node concept="10Oyi0" id="1amp5$pHIWf" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIWg" role="3clF46">
+          <property role="TrG5h" value="random" />
+          <node concept="3uibUv" id="1amp5$pHIWh" role="1tU5fm">
+            <ref role="3uigEE" to="jgjw:~SecureRandom" resolve="SecureRandom" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIWi" role="3clF47">
+          <node concept="3clFbF" id="1amp5$pHIWj" role="3cqZAp">
+            <node concept="3nyPlj" id="1amp5$pHIWk" role="3clFbG">
+              <ref role="37wK5l" to="c0ik:~BaseKeyGenerator.engineInit(int,java.security.SecureRandom)" resolve="engineInit" />
+              <node concept="37vLTw" id="1amp5$pHIWl" role="37wK5m">
+                <ref role="3cqZAo" node="1amp5$pHIWe" resolve="keySize" />
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIWm" role="37wK5m">
+                <ref role="3cqZAo" node="1amp5$pHIWg" resolve="random" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIWn" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pHIWo" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIWp" role="jymVt">
+        <property role="TrG5h" value="engineGenerateKey" />
+        <node concept="3clFbS" id="1amp5$pHIWq" role="3clF47">
+          <node concept="3clFbJ" id="1amp5$pHIWr" role="3cqZAp">
+            <node concept="37vLTw" id="1amp5$pHIWs" role="3clFbw">
+              <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.uninitialised" resolve="uninitialised" />
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIWu" role="3clFbx">
+              <node concept="3clFbF" id="1amp5$pHIWv" role="3cqZAp">
+                <node concept="2OqwBi" id="1amp5$pHNKy" role="3clFbG">
+                  <node concept="37vLTw" id="1amp5$pHNKx" role="2Oq$k0">
+                    <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.engine" resolve="engine" />
+                  </node>
+                  <node concept="liA8E" id="1amp5$pHNKz" role="2OqNvi">
+                    <ref role="37wK5l" to="6y4x:~CipherKeyGenerator.init(org.bouncycastle.crypto.KeyGenerationParameters)" resolve="init" />
+                    <node concept="2ShNRf" id="1amp5$pI5wM" role="37wK5m">
+                      <node concept="1pGfFk" id="1amp5$pI5wZ" role="2ShVmc">
+                        <ref role="37wK5l" to="6y4x:~KeyGenerationParameters.&lt;init&gt;(java.security.SecureRandom,int)" resolve="KeyGenerationParameters" />
+                        <node concept="2YIFZM" id="1amp5$pI7Lf" role="37wK5m">
+                          <ref role="1Pybhc" to="6y4x:~CryptoServicesRegistrar" resolve="CryptoServicesRegistrar" />
+                          <ref role="37wK5l" to="6y4x:~CryptoServicesRegistrar.getSecureRandom()" resolve="getSecureRandom" />
+                        </node>
+                        <node concept="37vLTw" id="1amp5$pI5x1" role="37wK5m">
+                          <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.defaultKeySize" resolve="defaultKeySize" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="1amp5$pHIW$" role="3cqZAp">
+                <node concept="37vLTI" id="1amp5$pHIW_" role="3clFbG">
+                  <node concept="37vLTw" id="1amp5$pHIWA" role="37vLTJ">
+                    <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.uninitialised" resolve="uninitialised" />
+                  </node>
+                  <node concept="3clFbT" id="1amp5$pHIWB" role="37vLTx" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="1amp5$pHIWC" role="3cqZAp">
+            <node concept="2ShNRf" id="1amp5$pHQ2H" role="3cqZAk">
+              <node concept="1pGfFk" id="1amp5$pHQ3P" role="2ShVmc">
+                <ref role="37wK5l" to="7lc:~SecretKeySpec.&lt;init&gt;(byte[],java.lang.String)" resolve="SecretKeySpec" />
+                <node concept="2OqwBi" id="1amp5$pHQ3Q" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHQ3R" role="2Oq$k0">
+                    <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.engine" resolve="engine" />
+                  </node>
+                  <node concept="liA8E" id="1amp5$pHQ3S" role="2OqNvi">
+                    <ref role="37wK5l" to="6y4x:~CipherKeyGenerator.generateKey()" resolve="generateKey" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="1amp5$pHQ47" role="37wK5m">
+                  <ref role="3cqZAo" to="c0ik:~BaseKeyGenerator.algName" resolve="algName" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIWG" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pHIWH" role="3clF45">
+          <ref role="3uigEE" to="pfyx:~SecretKey" resolve="SecretKey" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIWJ" role="jymVt">
+      <property role="TrG5h" value="KeyFactory" />
+      <node concept="3Tm1VV" id="1amp5$pHIWK" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIWL" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseSecretKeyFactory" resolve="BaseSecretKeyFactory" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIWM" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIWN" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHIWO" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHLxF" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="Xl_RD" id="1amp5$pHLxG" role="37wK5m">
+              <property role="Xl_RC" value="DES" />
+            </node>
+            <node concept="10Nm6u" id="1amp5$pHLxH" role="37wK5m" />
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIWS" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIWT" role="jymVt">
+        <property role="TrG5h" value="engineGetKeySpec" />
+        <node concept="37vLTG" id="1amp5$pHIWU" role="3clF46">
+          <property role="TrG5h" value="key" />
+          <node concept="3uibUv" id="1amp5$pHIWV" role="1tU5fm">
+            <ref role="3uigEE" to="pfyx:~SecretKey" resolve="SecretKey" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIWW" role="3clF46">
+          <property role="TrG5h" value="keySpec" />
+          <node concept="3uibUv" id="1amp5$pHIWX" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Class" resolve="Class" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="1amp5$pHIWY" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidKeySpecException" resolve="InvalidKeySpecException" />
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIWZ" role="3clF47">
+          <node concept="3clFbJ" id="1amp5$pHIX0" role="3cqZAp">
+            <node concept="3clFbC" id="1amp5$pHIX1" role="3clFbw">
+              <node concept="37vLTw" id="1amp5$pHIX2" role="3uHU7B">
+                <ref role="3cqZAo" node="1amp5$pHIWW" resolve="keySpec" />
+              </node>
+              <node concept="10Nm6u" id="1amp5$pHIX3" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIX5" role="3clFbx">
+              <node concept="YS8fn" id="1amp5$pHIX8" role="3cqZAp">
+                <node concept="2ShNRf" id="1amp5$pHSht" role="YScLw">
+                  <node concept="1pGfFk" id="1amp5$pHShG" role="2ShVmc">
+                    <ref role="37wK5l" to="41y5:~InvalidKeySpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeySpecException" />
+                    <node concept="Xl_RD" id="1amp5$pHShH" role="37wK5m">
+                      <property role="Xl_RC" value="keySpec parameter is null" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="1amp5$pHIX9" role="3cqZAp">
+            <node concept="3clFbC" id="1amp5$pHIXa" role="3clFbw">
+              <node concept="37vLTw" id="1amp5$pHIXb" role="3uHU7B">
+                <ref role="3cqZAo" node="1amp5$pHIWU" resolve="key" />
+              </node>
+              <node concept="10Nm6u" id="1amp5$pHIXc" role="3uHU7w" />
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIXe" role="3clFbx">
+              <node concept="YS8fn" id="1amp5$pHIXh" role="3cqZAp">
+                <node concept="2ShNRf" id="1amp5$pHPj2" role="YScLw">
+                  <node concept="1pGfFk" id="1amp5$pHPnv" role="2ShVmc">
+                    <ref role="37wK5l" to="41y5:~InvalidKeySpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeySpecException" />
+                    <node concept="Xl_RD" id="1amp5$pHPnw" role="37wK5m">
+                      <property role="Xl_RC" value="key parameter is null" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="1amp5$pHIXi" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHIXj" role="3clFbw">
+              <node concept="3VsKOn" id="1amp5$pHIXl" role="2Oq$k0">
+                <ref role="3VsUkX" to="7lc:~SecretKeySpec" resolve="SecretKeySpec" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHIXm" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~Class.isAssignableFrom(java.lang.Class)" resolve="isAssignableFrom" />
+                <node concept="37vLTw" id="1amp5$pHIXn" role="37wK5m">
+                  <ref role="3cqZAo" node="1amp5$pHIWW" resolve="keySpec" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="1amp5$pHIXu" role="9aQIa">
+              <node concept="2OqwBi" id="1amp5$pHIXv" role="3clFbw">
+                <node concept="3VsKOn" id="1amp5$pHIXx" role="2Oq$k0">
+                  <ref role="3VsUkX" to="7lc:~DESKeySpec" resolve="DESKeySpec" />
+                </node>
+                <node concept="liA8E" id="1amp5$pHIXy" role="2OqNvi">
+                  <ref role="37wK5l" to="wyt6:~Class.isAssignableFrom(java.lang.Class)" resolve="isAssignableFrom" />
+                  <node concept="37vLTw" id="1amp5$pHIXz" role="37wK5m">
+                    <ref role="3cqZAo" node="1amp5$pHIWW" resolve="keySpec" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="1amp5$pHIX_" role="3clFbx">
+                <node concept="3cpWs8" id="1amp5$pHIXB" role="3cqZAp">
+                  <node concept="3cpWsn" id="1amp5$pHIXA" role="3cpWs9">
+                    <property role="TrG5h" value="bytes" />
+                    <node concept="10Q1$e" id="1amp5$pHIXD" role="1tU5fm">
+                      <node concept="10PrrI" id="1amp5$pHIXC" role="10Q1$1" />
+                    </node>
+                    <node concept="2OqwBi" id="1amp5$pHL9d" role="33vP2m">
+                      <node concept="37vLTw" id="1amp5$pHL9c" role="2Oq$k0">
+                        <ref role="3cqZAo" node="1amp5$pHIWU" resolve="key" />
+                      </node>
+                      <node concept="liA8E" id="1amp5$pHL9e" role="2OqNvi">
+                        <ref role="37wK5l" to="jgjw:~Key.getEncoded()" resolve="getEncoded" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3J1_TO" id="1amp5$pHIXS" role="3cqZAp">
+                  <node concept="3uVAMA" id="1amp5$pHIXT" role="1zxBo5">
+                    <node concept="3clFbS" id="1amp5$pHIXO" role="1zc67A">
+                      <node concept="YS8fn" id="1amp5$pHIXR" role="3cqZAp">
+                        <node concept="2ShNRf" id="1amp5$pHLkw" role="YScLw">
+                          <node concept="1pGfFk" id="1amp5$pHLl7" role="2ShVmc">
+                            <ref role="37wK5l" to="41y5:~InvalidKeySpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeySpecException" />
+                            <node concept="2OqwBi" id="1amp5$pHLl8" role="37wK5m">
+                              <node concept="37vLTw" id="1amp5$pHLl9" role="2Oq$k0">
+                                <ref role="3cqZAo" node="1amp5$pHIXK" resolve="e" />
+                              </node>
+                              <node concept="liA8E" id="1amp5$pHLla" role="2OqNvi">
+                                <ref role="37wK5l" to="wyt6:~Throwable.toString()" resolve="toString" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="XOnhg" id="1amp5$pHIXK" role="1zc67B">
+                      <property role="TrG5h" value="e" />
+                      <node concept="nSUau" id="1amp5$pHIXM" role="1tU5fm">
+                        <node concept="3uibUv" id="1amp5$pHIXL" role="nSUat">
+                          <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="1amp5$pHIXG" role="1zxBo7">
+                    <node concept="3cpWs6" id="1amp5$pHIXH" role="3cqZAp">
+                      <node concept="2ShNRf" id="1amp5$pHMxX" role="3cqZAk">
+                        <node concept="1pGfFk" id="1amp5$pHMyx" role="2ShVmc">
+                          <ref role="37wK5l" to="7lc:~DESKeySpec.&lt;init&gt;(byte[])" resolve="DESKeySpec" />
+                          <node concept="37vLTw" id="1amp5$pHMyy" role="37wK5m">
+                            <ref role="3cqZAo" node="1amp5$pHIXA" resolve="bytes" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIXp" role="3clFbx">
+              <node concept="3cpWs6" id="1amp5$pHIXq" role="3cqZAp">
+                <node concept="2ShNRf" id="1amp5$pHL6v" role="3cqZAk">
+                  <node concept="1pGfFk" id="1amp5$pHL6V" role="2ShVmc">
+                    <ref role="37wK5l" to="7lc:~SecretKeySpec.&lt;init&gt;(byte[],java.lang.String)" resolve="SecretKeySpec" />
+                    <node concept="2OqwBi" id="1amp5$pI5da" role="37wK5m">
+                      <node concept="37vLTw" id="1amp5$pI5d9" role="2Oq$k0">
+                        <ref role="3cqZAo" node="1amp5$pHIWU" resolve="key" />
+                      </node>
+                      <node concept="liA8E" id="1amp5$pI5db" role="2OqNvi">
+                        <ref role="37wK5l" to="jgjw:~Key.getEncoded()" resolve="getEncoded" />
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHL6X" role="37wK5m">
+                      <ref role="3cqZAo" to="c0ik:~BaseSecretKeyFactory.algName" resolve="algName" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="1amp5$pHIXW" role="3cqZAp">
+            <node concept="2ShNRf" id="1amp5$pHRq2" role="YScLw">
+              <node concept="1pGfFk" id="1amp5$pHRuv" role="2ShVmc">
+                <ref role="37wK5l" to="41y5:~InvalidKeySpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeySpecException" />
+                <node concept="Xl_RD" id="1amp5$pHRuw" role="37wK5m">
+                  <property role="Xl_RC" value="Invalid KeySpec" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIXX" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pHIXY" role="3clF45">
+          <ref role="3uigEE" to="41y5:~KeySpec" resolve="KeySpec" />
+        </node>
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIXZ" role="jymVt">
+        <property role="TrG5h" value="engineGenerateSecret" />
+        <node concept="37vLTG" id="1amp5$pHIY0" role="3clF46">
+          <property role="TrG5h" value="keySpec" />
+          <node concept="3uibUv" id="1amp5$pHIY1" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~KeySpec" resolve="KeySpec" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="1amp5$pHIY2" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidKeySpecException" resolve="InvalidKeySpecException" />
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIY3" role="3clF47">
+          <node concept="3clFbJ" id="1amp5$pHIY4" role="3cqZAp">
+            <node concept="2ZW3vV" id="1amp5$pHIY7" role="3clFbw">
+              <node concept="37vLTw" id="1amp5$pHIY5" role="2ZW6bz">
+                <ref role="3cqZAo" node="1amp5$pHIY0" resolve="keySpec" />
+              </node>
+              <node concept="3uibUv" id="1amp5$pHIY6" role="2ZW6by">
+                <ref role="3uigEE" to="7lc:~DESKeySpec" resolve="DESKeySpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIY9" role="3clFbx">
+              <node concept="3cpWs8" id="1amp5$pHIYb" role="3cqZAp">
+                <node concept="3cpWsn" id="1amp5$pHIYa" role="3cpWs9">
+                  <property role="TrG5h" value="desKeySpec" />
+                  <node concept="3uibUv" id="1amp5$pHIYc" role="1tU5fm">
+                    <ref role="3uigEE" to="7lc:~DESKeySpec" resolve="DESKeySpec" />
+                  </node>
+                  <node concept="10QFUN" id="1amp5$pHIYd" role="33vP2m">
+                    <node concept="37vLTw" id="1amp5$pHIYe" role="10QFUP">
+                      <ref role="3cqZAo" node="1amp5$pHIY0" resolve="keySpec" />
+                    </node>
+                    <node concept="3uibUv" id="1amp5$pHIYf" role="10QFUM">
+                      <ref role="3uigEE" to="7lc:~DESKeySpec" resolve="DESKeySpec" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="1amp5$pHIYg" role="3cqZAp">
+                <node concept="2ShNRf" id="1amp5$pHLxL" role="3cqZAk">
+                  <node concept="1pGfFk" id="1amp5$pHLyd" role="2ShVmc">
+                    <ref role="37wK5l" to="7lc:~SecretKeySpec.&lt;init&gt;(byte[],java.lang.String)" resolve="SecretKeySpec" />
+                    <node concept="2OqwBi" id="1amp5$pI5$A" role="37wK5m">
+                      <node concept="37vLTw" id="1amp5$pI5$_" role="2Oq$k0">
+                        <ref role="3cqZAo" node="1amp5$pHIYa" resolve="desKeySpec" />
+                      </node>
+                      <node concept="liA8E" id="1amp5$pI5$B" role="2OqNvi">
+                        <ref role="37wK5l" to="7lc:~DESKeySpec.getKey()" resolve="getKey" />
+                      </node>
+                    </node>
+                    <node concept="Xl_RD" id="1amp5$pHLyf" role="37wK5m">
+                      <property role="Xl_RC" value="DES" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="1amp5$pHIYk" role="3cqZAp">
+            <node concept="3nyPlj" id="1amp5$pHIYl" role="3cqZAk">
+              <ref role="37wK5l" to="c0ik:~BaseSecretKeyFactory.engineGenerateSecret(java.security.spec.KeySpec)" resolve="engineGenerateSecret" />
+              <node concept="37vLTw" id="1amp5$pHIYm" role="37wK5m">
+                <ref role="3cqZAo" node="1amp5$pHIY0" resolve="keySpec" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHIYn" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pHIYo" role="3clF45">
+          <ref role="3uigEE" to="pfyx:~SecretKey" resolve="SecretKey" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHIYp" role="jymVt">
+      <property role="TrG5h" value="DESPBEKeyFactory" />
+      <node concept="3Tm1VV" id="1amp5$pHIYq" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHIYr" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseSecretKeyFactory" resolve="BaseSecretKeyFactory" />
+      </node>
+      <node concept="312cEg" id="1amp5$pHIYs" role="jymVt">
+        <property role="TrG5h" value="forCipher" />
+        <node concept="10P_77" id="1amp5$pHIYu" role="1tU5fm" />
+        <node concept="3Tm6S6" id="1amp5$pHIYv" role="1B3o_S" />
+      </node>
+      <node concept="312cEg" id="1amp5$pHIYw" role="jymVt">
+        <property role="TrG5h" value="scheme" />
+        <node concept="10Oyi0" id="1amp5$pHIYy" role="1tU5fm" />
+        <node concept="3Tm6S6" id="1amp5$pHIYz" role="1B3o_S" />
+      </node>
+      <node concept="312cEg" id="1amp5$pHIY$" role="jymVt">
+        <property role="TrG5h" value="digest" />
+        <node concept="10Oyi0" id="1amp5$pHIYA" role="1tU5fm" />
+        <node concept="3Tm6S6" id="1amp5$pHIYB" role="1B3o_S" />
+      </node>
+      <node concept="312cEg" id="1amp5$pHIYC" role="jymVt">
+        <property role="TrG5h" value="keySize" />
+        <node concept="10Oyi0" id="1amp5$pHIYE" role="1tU5fm" />
+        <node concept="3Tm6S6" id="1amp5$pHIYF" role="1B3o_S" />
+      </node>
+      <node concept="312cEg" id="1amp5$pHIYG" role="jymVt">
+        <property role="TrG5h" value="ivSize" />
+        <node concept="10Oyi0" id="1amp5$pHIYI" role="1tU5fm" />
+        <node concept="3Tm6S6" id="1amp5$pHIYJ" role="1B3o_S" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHIYK" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHIYL" role="3clF45" />
+        <node concept="37vLTG" id="1amp5$pHIYM" role="3clF46">
+          <property role="TrG5h" value="algorithm" />
+          <node concept="3uibUv" id="1amp5$pHIYN" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYO" role="3clF46">
+          <property role="TrG5h" value="oid" />
+          <node concept="3uibUv" id="1amp5$pHIYP" role="1tU5fm">
+            <ref role="3uigEE" to="9oed:~ASN1ObjectIdentifier" resolve="ASN1ObjectIdentifier" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYQ" role="3clF46">
+          <property role="TrG5h" value="forCipher" />
+          <node concept="10P_77" id="1amp5$pHIYR" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYS" role="3clF46">
+          <property role="TrG5h" value="scheme" />
+          <node concept="10Oyi0" id="1amp5$pHIYT" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYU" role="3clF46">
+          <property role="TrG5h" value="digest" />
+          <node concept="10Oyi0" id="1amp5$pHIYV" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYW" role="3clF46">
+          <property role="TrG5h" value="keySize" />
+          <node concept="10Oyi0" id="1amp5$pHIYX" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="1amp5$pHIYY" role="3clF46">
+          <property role="TrG5h" value="ivSize" />
+          <node concept="10Oyi0" id="1amp5$pHIYZ" role="1tU5fm" />
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIZ0" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHLpb" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="37vLTw" id="1amp5$pHLpc" role="37wK5m">
+              <ref role="3cqZAo" node="1amp5$pHIYM" resolve="algorithm" />
+            </node>
+            <node concept="37vLTw" id="1amp5$pHLpd" role="37wK5m">
+              <ref role="3cqZAo" node="1amp5$pHIYO" resolve="oid" />
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIZ1" role="3cqZAp">
+            <node concept="37vLTI" id="1amp5$pHIZ2" role="3clFbG">
+              <node concept="2OqwBi" id="1amp5$pHIZ3" role="37vLTJ">
+                <node concept="Xjq3P" id="1amp5$pHIZ4" role="2Oq$k0" />
+                <node concept="2OwXpG" id="1amp5$pHIZ5" role="2OqNvi">
+                  <ref role="2Oxat5" node="1amp5$pHIYs" resolve="forCipher" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIZ6" role="37vLTx">
+                <ref role="3cqZAo" node="1amp5$pHIYQ" resolve="forCipher" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIZ7" role="3cqZAp">
+            <node concept="37vLTI" id="1amp5$pHIZ8" role="3clFbG">
+              <node concept="2OqwBi" id="1amp5$pHIZ9" role="37vLTJ">
+                <node concept="Xjq3P" id="1amp5$pHIZa" role="2Oq$k0" />
+                <node concept="2OwXpG" id="1amp5$pHIZb" role="2OqNvi">
+                  <ref role="2Oxat5" node="1amp5$pHIYw" resolve="scheme" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIZc" role="37vLTx">
+                <ref role="3cqZAo" node="1amp5$pHIYS" resolve="scheme" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIZd" role="3cqZAp">
+            <node concept="37vLTI" id="1amp5$pHIZe" role="3clFbG">
+              <node concept="2OqwBi" id="1amp5$pHIZf" role="37vLTJ">
+                <node concept="Xjq3P" id="1amp5$pHIZg" role="2Oq$k0" />
+                <node concept="2OwXpG" id="1amp5$pHIZh" role="2OqNvi">
+                  <ref role="2Oxat5" node="1amp5$pHIY$" resolve="digest" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIZi" role="37vLTx">
+                <ref role="3cqZAo" node="1amp5$pHIYU" resolve="digest" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIZj" role="3cqZAp">
+            <node concept="37vLTI" id="1amp5$pHIZk" role="3clFbG">
+              <node concept="2OqwBi" id="1amp5$pHIZl" role="37vLTJ">
+                <node concept="Xjq3P" id="1amp5$pHIZm" role="2Oq$k0" />
+                <node concept="2OwXpG" id="1amp5$pHIZn" role="2OqNvi">
+                  <ref role="2Oxat5" node="1amp5$pHIYC" resolve="keySize" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIZo" role="37vLTx">
+                <ref role="3cqZAo" node="1amp5$pHIYW" resolve="keySize" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHIZp" role="3cqZAp">
+            <node concept="37vLTI" id="1amp5$pHIZq" role="3clFbG">
+              <node concept="2OqwBi" id="1amp5$pHIZr" role="37vLTJ">
+                <node concept="Xjq3P" id="1amp5$pHIZs" role="2Oq$k0" />
+                <node concept="2OwXpG" id="1amp5$pHIZt" role="2OqNvi">
+                  <ref role="2Oxat5" node="1amp5$pHIYG" resolve="ivSize" />
+                </node>
+              </node>
+              <node concept="37vLTw" id="1amp5$pHIZu" role="37vLTx">
+                <ref role="3cqZAo" node="1amp5$pHIYY" resolve="ivSize" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHIZy" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHIZz" role="jymVt">
+        <property role="TrG5h" value="engineGenerateSecret" />
+        <node concept="37vLTG" id="1amp5$pHIZ$" role="3clF46">
+          <property role="TrG5h" value="keySpec" />
+          <node concept="3uibUv" id="1amp5$pHIZ_" role="1tU5fm">
+            <ref role="3uigEE" to="41y5:~KeySpec" resolve="KeySpec" />
+          </node>
+        </node>
+        <node concept="3uibUv" id="1amp5$pHIZA" role="Sfmx6">
+          <ref role="3uigEE" to="41y5:~InvalidKeySpecException" resolve="InvalidKeySpecException" />
+        </node>
+        <node concept="3clFbS" id="1amp5$pHIZB" role="3clF47">
+          <node concept="3clFbJ" id="1amp5$pHIZC" role="3cqZAp">
+            <node concept="2ZW3vV" id="1amp5$pHIZF" role="3clFbw">
+              <node concept="37vLTw" id="1amp5$pHIZD" role="2ZW6bz">
+                <ref role="3cqZAo" node="1amp5$pHIZ$" resolve="keySpec" />
+              </node>
+              <node concept="3uibUv" id="1amp5$pHIZE" role="2ZW6by">
+                <ref role="3uigEE" to="7lc:~PBEKeySpec" resolve="PBEKeySpec" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="1amp5$pHIZH" role="3clFbx">
+              <node concept="3cpWs8" id="1amp5$pHIZJ" role="3cqZAp">
+                <node concept="3cpWsn" id="1amp5$pHIZI" role="3cpWs9">
+                  <property role="TrG5h" value="pbeSpec" />
+                  <node concept="3uibUv" id="1amp5$pHIZK" role="1tU5fm">
+                    <ref role="3uigEE" to="7lc:~PBEKeySpec" resolve="PBEKeySpec" />
+                  </node>
+                  <node concept="10QFUN" id="1amp5$pHIZL" role="33vP2m">
+                    <node concept="37vLTw" id="1amp5$pHIZM" role="10QFUP">
+                      <ref role="3cqZAo" node="1amp5$pHIZ$" resolve="keySpec" />
+                    </node>
+                    <node concept="3uibUv" id="1amp5$pHIZN" role="10QFUM">
+                      <ref role="3uigEE" to="7lc:~PBEKeySpec" resolve="PBEKeySpec" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs8" id="1amp5$pHIZP" role="3cqZAp">
+                <node concept="3cpWsn" id="1amp5$pHIZO" role="3cpWs9">
+                  <property role="TrG5h" value="param" />
+                  <node concept="3uibUv" id="1amp5$pHIZQ" role="1tU5fm">
+                    <ref role="3uigEE" to="6y4x:~CipherParameters" resolve="CipherParameters" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbJ" id="1amp5$pHIZR" role="3cqZAp">
+                <node concept="3clFbC" id="1amp5$pHIZS" role="3clFbw">
+                  <node concept="2OqwBi" id="1amp5$pHOY6" role="3uHU7B">
+                    <node concept="37vLTw" id="1amp5$pHOY5" role="2Oq$k0">
+                      <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                    </node>
+                    <node concept="liA8E" id="1amp5$pHOY7" role="2OqNvi">
+                      <ref role="37wK5l" to="7lc:~PBEKeySpec.getSalt()" resolve="getSalt" />
+                    </node>
+                  </node>
+                  <node concept="10Nm6u" id="1amp5$pHIZU" role="3uHU7w" />
+                </node>
+                <node concept="3clFbS" id="1amp5$pHIZW" role="3clFbx">
+                  <node concept="3clFbJ" id="1amp5$pHIZX" role="3cqZAp">
+                    <node concept="22lmx$" id="1amp5$pHIZY" role="3clFbw">
+                      <node concept="3clFbC" id="1amp5$pHIZZ" role="3uHU7B">
+                        <node concept="37vLTw" id="1amp5$pHJ00" role="3uHU7B">
+                          <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                        </node>
+                        <node concept="10M0yZ" id="1amp5$pHJfJ" role="3uHU7w">
+                          <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+                          <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+                        </node>
+                      </node>
+                      <node concept="3clFbC" id="1amp5$pHJ02" role="3uHU7w">
+                        <node concept="37vLTw" id="1amp5$pHJ03" role="3uHU7B">
+                          <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                        </node>
+                        <node concept="10M0yZ" id="1amp5$pHJfK" role="3uHU7w">
+                          <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+                          <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1_UTF8" resolve="PKCS5S1_UTF8" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="9aQIb" id="1amp5$pHJ0g" role="9aQIa">
+                      <node concept="3clFbS" id="1amp5$pHJ0h" role="9aQI4">
+                        <node concept="3cpWs6" id="1amp5$pHJ0i" role="3cqZAp">
+                          <node concept="2ShNRf" id="1amp5$pHL8d" role="3cqZAk">
+                            <node concept="1pGfFk" id="1amp5$pHL8I" role="2ShVmc">
+                              <ref role="37wK5l" to="c0ik:~BCPBEKey.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,int,int,int,int,javax.crypto.spec.PBEKeySpec,org.bouncycastle.crypto.CipherParameters)" resolve="BCPBEKey" />
+                              <node concept="2OqwBi" id="1amp5$pHL8J" role="37wK5m">
+                                <node concept="Xjq3P" id="1amp5$pHL8K" role="2Oq$k0" />
+                                <node concept="2OwXpG" id="1amp5$pHL8L" role="2OqNvi">
+                                  <ref role="2Oxat5" to="c0ik:~BaseSecretKeyFactory.algName" resolve="algName" />
+                                </node>
+                              </node>
+                              <node concept="2OqwBi" id="1amp5$pHL8M" role="37wK5m">
+                                <node concept="Xjq3P" id="1amp5$pHL8N" role="2Oq$k0" />
+                                <node concept="2OwXpG" id="1amp5$pHL8O" role="2OqNvi">
+                                  <ref role="2Oxat5" to="c0ik:~BaseSecretKeyFactory.algOid" resolve="algOid" />
+                                </node>
+                              </node>
+                              <node concept="37vLTw" id="1amp5$pHL8P" role="37wK5m">
+                                <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                              </node>
+                              <node concept="37vLTw" id="1amp5$pHL8Q" role="37wK5m">
+                                <ref role="3cqZAo" node="1amp5$pHIY$" resolve="digest" />
+                              </node>
+                              <node concept="37vLTw" id="1amp5$pHL8R" role="37wK5m">
+                                <ref role="3cqZAo" node="1amp5$pHIYC" resolve="keySize" />
+                              </node>
+                              <node concept="37vLTw" id="1amp5$pHL8S" role="37wK5m">
+                                <ref role="3cqZAo" node="1amp5$pHIYG" resolve="ivSize" />
+                              </node>
+                              <node concept="37vLTw" id="1amp5$pHL8T" role="37wK5m">
+                                <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                              </node>
+                              <node concept="10Nm6u" id="1amp5$pHL8U" role="37wK5m" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbS" id="1amp5$pHJ06" role="3clFbx">
+                      <node concept="3cpWs6" id="1amp5$pHJ07" role="3cqZAp">
+                        <node concept="2ShNRf" id="1amp5$pHLYg" role="3cqZAk">
+                          <node concept="1pGfFk" id="1amp5$pHLYz" role="2ShVmc">
+                            <ref role="37wK5l" to="pvh0:~PBKDF1Key.&lt;init&gt;(char[],org.bouncycastle.crypto.CharToByteConverter)" resolve="PBKDF1Key" />
+                            <node concept="2OqwBi" id="1amp5$pI5g2" role="37wK5m">
+                              <node concept="37vLTw" id="1amp5$pI5g1" role="2Oq$k0">
+                                <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                              </node>
+                              <node concept="liA8E" id="1amp5$pI5g3" role="2OqNvi">
+                                <ref role="37wK5l" to="7lc:~PBEKeySpec.getPassword()" resolve="getPassword" />
+                              </node>
+                            </node>
+                            <node concept="3K4zz7" id="1amp5$pHLY_" role="37wK5m">
+                              <node concept="3clFbC" id="1amp5$pHLYA" role="3K4Cdx">
+                                <node concept="37vLTw" id="1amp5$pHLYB" role="3uHU7B">
+                                  <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                                </node>
+                                <node concept="10M0yZ" id="1amp5$pHLYC" role="3uHU7w">
+                                  <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+                                  <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+                                </node>
+                              </node>
+                              <node concept="Rm8GO" id="1amp5$pHLYD" role="3K4E3e">
+                                <ref role="1Px2BO" to="6y4x:~PasswordConverter" resolve="PasswordConverter" />
+                                <ref role="Rm8GQ" to="6y4x:~PasswordConverter.ASCII" resolve="ASCII" />
+                              </node>
+                              <node concept="Rm8GO" id="1amp5$pI5wm" role="3K4GZi">
+                                <ref role="1Px2BO" to="6y4x:~PasswordConverter" resolve="PasswordConverter" />
+                                <ref role="Rm8GQ" to="6y4x:~PasswordConverter.UTF8" resolve="UTF8" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbJ" id="1amp5$pHJ0w" role="3cqZAp">
+                <node concept="37vLTw" id="1amp5$pHJ0x" role="3clFbw">
+                  <ref role="3cqZAo" node="1amp5$pHIYs" resolve="forCipher" />
+                </node>
+                <node concept="9aQIb" id="1amp5$pHJ0H" role="9aQIa">
+                  <node concept="3clFbS" id="1amp5$pHJ0I" role="9aQI4">
+                    <node concept="3clFbF" id="1amp5$pHJ0J" role="3cqZAp">
+                      <node concept="37vLTI" id="1amp5$pHJ0K" role="3clFbG">
+                        <node concept="37vLTw" id="1amp5$pHJ0L" role="37vLTJ">
+                          <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                        </node>
+                        <node concept="2YIFZM" id="1amp5$pHQO9" role="37vLTx">
+                          <ref role="1Pybhc" to="c0ik:~PBE$Util" resolve="PBE.Util" />
+                          <ref role="37wK5l" to="c0ik:~PBE$Util.makePBEMacParameters(javax.crypto.spec.PBEKeySpec,int,int,int)" resolve="makePBEMacParameters" />
+                          <node concept="37vLTw" id="1amp5$pHQOa" role="37wK5m">
+                            <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                          </node>
+                          <node concept="37vLTw" id="1amp5$pHQOb" role="37wK5m">
+                            <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                          </node>
+                          <node concept="37vLTw" id="1amp5$pHQOc" role="37wK5m">
+                            <ref role="3cqZAo" node="1amp5$pHIY$" resolve="digest" />
+                          </node>
+                          <node concept="37vLTw" id="1amp5$pHQOd" role="37wK5m">
+                            <ref role="3cqZAo" node="1amp5$pHIYC" resolve="keySize" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="1amp5$pHJ0z" role="3clFbx">
+                  <node concept="3clFbF" id="1amp5$pHJ0$" role="3cqZAp">
+                    <node concept="37vLTI" id="1amp5$pHJ0_" role="3clFbG">
+                      <node concept="37vLTw" id="1amp5$pHJ0A" role="37vLTJ">
+                        <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                      </node>
+                      <node concept="2YIFZM" id="1amp5$pHMIm" role="37vLTx">
+                        <ref role="1Pybhc" to="c0ik:~PBE$Util" resolve="PBE.Util" />
+                        <ref role="37wK5l" to="c0ik:~PBE$Util.makePBEParameters(javax.crypto.spec.PBEKeySpec,int,int,int,int)" resolve="makePBEParameters" />
+                        <node concept="37vLTw" id="1amp5$pHMIn" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                        </node>
+                        <node concept="37vLTw" id="1amp5$pHMIo" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                        </node>
+                        <node concept="37vLTw" id="1amp5$pHMIp" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIY$" resolve="digest" />
+                        </node>
+                        <node concept="37vLTw" id="1amp5$pHMIq" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIYC" resolve="keySize" />
+                        </node>
+                        <node concept="37vLTw" id="1amp5$pHMIr" role="37wK5m">
+                          <ref role="3cqZAo" node="1amp5$pHIYG" resolve="ivSize" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs8" id="1amp5$pHJ0S" role="3cqZAp">
+                <node concept="3cpWsn" id="1amp5$pHJ0R" role="3cpWs9">
+                  <property role="TrG5h" value="kParam" />
+                  <node concept="3uibUv" id="1amp5$pHJ0T" role="1tU5fm">
+                    <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbJ" id="1amp5$pHJ0U" role="3cqZAp">
+                <node concept="2ZW3vV" id="1amp5$pHJ0X" role="3clFbw">
+                  <node concept="37vLTw" id="1amp5$pHJ0V" role="2ZW6bz">
+                    <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                  </node>
+                  <node concept="3uibUv" id="1amp5$pHJ0W" role="2ZW6by">
+                    <ref role="3uigEE" to="25z7:~ParametersWithIV" resolve="ParametersWithIV" />
+                  </node>
+                </node>
+                <node concept="9aQIb" id="1amp5$pHJ1b" role="9aQIa">
+                  <node concept="3clFbS" id="1amp5$pHJ1c" role="9aQI4">
+                    <node concept="3clFbF" id="1amp5$pHJ1d" role="3cqZAp">
+                      <node concept="37vLTI" id="1amp5$pHJ1e" role="3clFbG">
+                        <node concept="37vLTw" id="1amp5$pHJ1f" role="37vLTJ">
+                          <ref role="3cqZAo" node="1amp5$pHJ0R" resolve="kParam" />
+                        </node>
+                        <node concept="10QFUN" id="1amp5$pHJ1g" role="37vLTx">
+                          <node concept="37vLTw" id="1amp5$pHJ1h" role="10QFUP">
+                            <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                          </node>
+                          <node concept="3uibUv" id="1amp5$pHJ1i" role="10QFUM">
+                            <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="1amp5$pHJ0Z" role="3clFbx">
+                  <node concept="3clFbF" id="1amp5$pHJ10" role="3cqZAp">
+                    <node concept="37vLTI" id="1amp5$pHJ11" role="3clFbG">
+                      <node concept="37vLTw" id="1amp5$pHJ12" role="37vLTJ">
+                        <ref role="3cqZAo" node="1amp5$pHJ0R" resolve="kParam" />
+                      </node>
+                      <node concept="10QFUN" id="1amp5$pHJ13" role="37vLTx">
+                        <node concept="2OqwBi" id="1amp5$pHJ14" role="10QFUP">
+                          <node concept="1eOMI4" id="1amp5$pHJ18" role="2Oq$k0">
+                            <node concept="10QFUN" id="1amp5$pHJ15" role="1eOMHV">
+                              <node concept="37vLTw" id="1amp5$pHJ16" role="10QFUP">
+                                <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                              </node>
+                              <node concept="3uibUv" id="1amp5$pHJ17" role="10QFUM">
+                                <ref role="3uigEE" to="25z7:~ParametersWithIV" resolve="ParametersWithIV" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="liA8E" id="1amp5$pHJ19" role="2OqNvi">
+                            <ref role="37wK5l" to="25z7:~ParametersWithIV.getParameters()" resolve="getParameters" />
+                          </node>
+                        </node>
+                        <node concept="3uibUv" id="1amp5$pHJ1a" role="10QFUM">
+                          <ref role="3uigEE" to="25z7:~KeyParameter" resolve="KeyParameter" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbF" id="1amp5$pHJ1j" role="3cqZAp">
+                <node concept="2YIFZM" id="1amp5$pHRw9" role="3clFbG">
+                  <ref role="1Pybhc" to="25z7:~DESParameters" resolve="DESParameters" />
+                  <ref role="37wK5l" to="25z7:~DESParameters.setOddParity(byte[])" resolve="setOddParity" />
+                  <node concept="2OqwBi" id="1amp5$pHRwa" role="37wK5m">
+                    <node concept="37vLTw" id="1amp5$pHRwb" role="2Oq$k0">
+                      <ref role="3cqZAo" node="1amp5$pHJ0R" resolve="kParam" />
+                    </node>
+                    <node concept="liA8E" id="1amp5$pHRwc" role="2OqNvi">
+                      <ref role="37wK5l" to="25z7:~KeyParameter.getKey()" resolve="getKey" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3cpWs6" id="1amp5$pHJ1m" role="3cqZAp">
+                <node concept="2ShNRf" id="1amp5$pHQOu" role="3cqZAk">
+                  <node concept="1pGfFk" id="1amp5$pHQOZ" role="2ShVmc">
+                    <ref role="37wK5l" to="c0ik:~BCPBEKey.&lt;init&gt;(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,int,int,int,int,javax.crypto.spec.PBEKeySpec,org.bouncycastle.crypto.CipherParameters)" resolve="BCPBEKey" />
+                    <node concept="2OqwBi" id="1amp5$pHQP0" role="37wK5m">
+                      <node concept="Xjq3P" id="1amp5$pHQP1" role="2Oq$k0" />
+                      <node concept="2OwXpG" id="1amp5$pHQP2" role="2OqNvi">
+                        <ref role="2Oxat5" to="c0ik:~BaseSecretKeyFactory.algName" resolve="algName" />
+                      </node>
+                    </node>
+                    <node concept="2OqwBi" id="1amp5$pHQP3" role="37wK5m">
+                      <node concept="Xjq3P" id="1amp5$pHQP4" role="2Oq$k0" />
+                      <node concept="2OwXpG" id="1amp5$pHQP5" role="2OqNvi">
+                        <ref role="2Oxat5" to="c0ik:~BaseSecretKeyFactory.algOid" resolve="algOid" />
+                      </node>
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQP6" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIYw" resolve="scheme" />
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQP7" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIY$" resolve="digest" />
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQP8" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIYC" resolve="keySize" />
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQP9" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIYG" resolve="ivSize" />
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQPa" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIZI" resolve="pbeSpec" />
+                    </node>
+                    <node concept="37vLTw" id="1amp5$pHQPb" role="37wK5m">
+                      <ref role="3cqZAo" node="1amp5$pHIZO" resolve="param" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="YS8fn" id="1amp5$pHJ1A" role="3cqZAp">
+            <node concept="2ShNRf" id="1amp5$pHQNM" role="YScLw">
+              <node concept="1pGfFk" id="1amp5$pHQO1" role="2ShVmc">
+                <ref role="37wK5l" to="41y5:~InvalidKeySpecException.&lt;init&gt;(java.lang.String)" resolve="InvalidKeySpecException" />
+                <node concept="Xl_RD" id="1amp5$pHQO2" role="37wK5m">
+                  <property role="Xl_RC" value="Invalid KeySpec" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tmbuc" id="1amp5$pHJ1B" role="1B3o_S" />
+        <node concept="3uibUv" id="1amp5$pHJ1C" role="3clF45">
+          <ref role="3uigEE" to="pfyx:~SecretKey" resolve="SecretKey" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHJ1D" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD2KeyFactory" />
+      <node concept="3Tm1VV" id="1amp5$pHJ1E" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHJ1F" role="1zkMxy">
+        <ref role="3uigEE" node="1amp5$pHIYp" resolve="DES.DESPBEKeyFactory" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHJ1S" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8z" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8$" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD2AndDES" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHJ1G" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHJ1H" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHJ1I" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHShb" role="3cqZAp">
+            <ref role="37wK5l" node="1amp5$pHIYK" resolve="DES.DESPBEKeyFactory" />
+            <node concept="Xl_RD" id="1amp5$pHShc" role="37wK5m">
+              <property role="Xl_RC" value="PBEwithMD2andDES" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHShd" role="37wK5m">
+              <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+              <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD2AndDES_CBC" resolve="pbeWithMD2AndDES_CBC" />
+            </node>
+            <node concept="3clFbT" id="1amp5$pHShg" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHShh" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHShi" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD2" resolve="MD2" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHShj" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHShk" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHJ1R" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pIyWC" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD5KeyFactory" />
+      <node concept="3Tm1VV" id="1amp5$pIwPI" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pI_dd" role="1zkMxy">
+        <ref role="3uigEE" node="1amp5$pHIYp" resolve="DES.DESPBEKeyFactory" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pI_id" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pI_ie" role="3clF45" />
+        <node concept="3Tm1VV" id="1amp5$pI_iZ" role="1B3o_S" />
+        <node concept="3clFbS" id="1amp5$pI_j0" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pIA8O" role="3cqZAp">
+            <ref role="37wK5l" node="1amp5$pHIYK" resolve="DES.DESPBEKeyFactory" />
+            <node concept="Xl_RD" id="1amp5$pIA8P" role="37wK5m">
+              <property role="Xl_RC" value="PBEwithMD5andDES" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pIA8Q" role="37wK5m">
+              <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD5AndDES_CBC" resolve="pbeWithMD5AndDES_CBC" />
+              <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+            </node>
+            <node concept="3clFbT" id="1amp5$pIA8R" role="37wK5m">
+              <property role="3clFbU" value="true" />
+            </node>
+            <node concept="37vLTw" id="1amp5$pIA90" role="37wK5m">
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+            </node>
+            <node concept="37vLTw" id="1amp5$pIA93" role="37wK5m">
+              <ref role="3cqZAo" to="c0ik:~PBE.MD5" resolve="MD5" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pIA8U" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pIA8V" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHJ2p" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD2" />
+      <node concept="3Tm1VV" id="1amp5$pHJ2q" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHJ2r" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHJ2B" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8D" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8E" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD2AndDES" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHJ2s" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHJ2t" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHJ2u" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHRu$" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHRu_" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHRuA" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="1amp5$pI5he" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI5hh" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHRuC" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHRuD" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD2" resolve="MD2" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHRuE" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHRuF" role="37wK5m">
+              <property role="3cmrfH" value="8" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHJ2A" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHJ2C" role="jymVt">
+      <property role="TrG5h" value="PBEWithMD5" />
+      <node concept="3Tm1VV" id="1amp5$pHJ2D" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHJ2E" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHJ2Q" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8F" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8G" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithMD5AndDES" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHJ2F" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHJ2G" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHJ2H" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHQPq" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pI543" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pI54f" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="1amp5$pI54g" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pI54h" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHQPu" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHQPv" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.MD5" resolve="MD5" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHQPw" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHQPx" role="37wK5m">
+              <property role="3cmrfH" value="8" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHJ2P" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHJ2R" role="jymVt">
+      <property role="TrG5h" value="PBEWithSHA1" />
+      <node concept="3Tm1VV" id="1amp5$pHJ2S" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHJ2T" role="1zkMxy">
+        <ref role="3uigEE" to="c0ik:~BaseBlockCipher" resolve="BaseBlockCipher" />
+      </node>
+      <node concept="3UR2Jj" id="1amp5$pHJ35" role="lGtFl">
+        <node concept="TZ5HA" id="1amp5$pHJ8H" role="TZ5H$">
+          <node concept="1dT_AC" id="1amp5$pHJ8I" role="1dT_Ay">
+            <property role="1dT_AB" value="PBEWithSHA1AndDES" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFbW" id="1amp5$pHJ2U" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHJ2V" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHJ2W" role="3clF47">
+          <node concept="XkiVB" id="1amp5$pHQNw" role="3cqZAp">
+            <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+            <node concept="2ShNRf" id="1amp5$pHQNx" role="37wK5m">
+              <node concept="1pGfFk" id="1amp5$pHQNy" role="2ShVmc">
+                <ref role="37wK5l" to="b4ur:~CBCBlockCipher.&lt;init&gt;(org.bouncycastle.crypto.BlockCipher)" resolve="CBCBlockCipher" />
+                <node concept="2ShNRf" id="1amp5$pHQNz" role="37wK5m">
+                  <node concept="1pGfFk" id="1amp5$pHQN$" role="2ShVmc">
+                    <ref role="37wK5l" to="k3a3:7qUf9K5vmOc" resolve="DESEngine" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHQN_" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.PKCS5S1" resolve="PKCS5S1" />
+            </node>
+            <node concept="10M0yZ" id="1amp5$pHQNA" role="37wK5m">
+              <ref role="1PxDUh" to="c0ik:~PBE" resolve="PBE" />
+              <ref role="3cqZAo" to="c0ik:~PBE.SHA1" resolve="SHA1" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHQNB" role="37wK5m">
+              <property role="3cmrfH" value="64" />
+            </node>
+            <node concept="3cmrfG" id="1amp5$pHQNC" role="37wK5m">
+              <property role="3cmrfH" value="8" />
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHJ34" role="1B3o_S" />
+      </node>
+    </node>
+    <node concept="312cEu" id="1amp5$pHJ36" role="jymVt">
+      <property role="TrG5h" value="Mappings" />
+      <node concept="3Tm1VV" id="1amp5$pHJ37" role="1B3o_S" />
+      <node concept="3uibUv" id="1amp5$pHJ38" role="1zkMxy">
+        <ref role="3uigEE" to="pbt1:~AlgorithmProvider" resolve="AlgorithmProvider" />
+      </node>
+      <node concept="Wx3nA" id="1amp5$pHJ39" role="jymVt">
+        <property role="TrG5h" value="PREFIX" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="1amp5$pHJ3a" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="2OqwBi" id="1amp5$pHJ3b" role="33vP2m">
+          <node concept="3VsKOn" id="1amp5$pHJ3d" role="2Oq$k0">
+            <ref role="3VsUkX" node="1amp5$pHITf" resolve="DES" />
+          </node>
+          <node concept="liA8E" id="1amp5$pHJ3e" role="2OqNvi">
+            <ref role="37wK5l" to="wyt6:~Class.getName()" resolve="getName" />
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="1amp5$pHJ3f" role="1B3o_S" />
+      </node>
+      <node concept="Wx3nA" id="1amp5$pHJ3g" role="jymVt">
+        <property role="TrG5h" value="PACKAGE" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="1amp5$pHJ3h" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+        </node>
+        <node concept="Xl_RD" id="1amp5$pHJ3i" role="33vP2m">
+          <property role="Xl_RC" value="org.bouncycastle.jcajce.provider.symmetric" />
+        </node>
+        <node concept="3Tm6S6" id="1amp5$pHJ3j" role="1B3o_S" />
+      </node>
+      <node concept="3clFbW" id="1amp5$pHJ3k" role="jymVt">
+        <node concept="3cqZAl" id="1amp5$pHJ3l" role="3clF45" />
+        <node concept="3clFbS" id="1amp5$pHJ3m" role="3clF47" />
+        <node concept="3Tm1VV" id="1amp5$pHJ3n" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHJ3o" role="jymVt">
+        <property role="TrG5h" value="configure" />
+        <node concept="37vLTG" id="1amp5$pHJ3p" role="3clF46">
+          <property role="TrG5h" value="provider" />
+          <node concept="3uibUv" id="1amp5$pHJ3q" role="1tU5fm">
+            <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="1amp5$pHJ3r" role="3clF47">
+          <node concept="3clFbF" id="1amp5$pHJ3s" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLEP" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLEO" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLEQ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLER" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.DES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLES" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLET" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLEU" role="3uHU7w">
+                    <property role="Xl_RC" value="$ECB" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ3y" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHO1j" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHO1i" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHO1k" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHO1l" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pI5pc" role="37wK5m">
+                  <ref role="1PxDUh" to="fuic:~OIWObjectIdentifiers" resolve="OIWObjectIdentifiers" />
+                  <ref role="3cqZAo" to="fuic:~OIWObjectIdentifiers.desCBC" resolve="desCBC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHO1n" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHO1o" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHO1p" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ3D" role="3cqZAp">
+            <node concept="1rXfSq" id="1amp5$pHJ3E" role="3clFbG">
+              <ref role="37wK5l" node="1amp5$pHJ7a" resolve="addAlias" />
+              <node concept="37vLTw" id="1amp5$pHJ3F" role="37wK5m">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="10M0yZ" id="1amp5$pHQzb" role="37wK5m">
+                <ref role="1PxDUh" to="fuic:~OIWObjectIdentifiers" resolve="OIWObjectIdentifiers" />
+                <ref role="3cqZAo" to="fuic:~OIWObjectIdentifiers.desCBC" resolve="desCBC" />
+              </node>
+              <node concept="Xl_RD" id="1amp5$pHJ3H" role="37wK5m">
+                <property role="Xl_RC" value="DES" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ3I" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHQ4i" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHQ4h" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHQ4j" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHQ4k" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.DESRFC3211WRAP" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHQ4l" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHQ4m" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHQ4n" role="3uHU7w">
+                    <property role="Xl_RC" value="$RFC3211" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ3O" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMd2" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMd1" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMd3" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMd4" role="37wK5m">
+                  <property role="Xl_RC" value="KeyGenerator.DES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHMd5" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHMd6" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHMd7" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyGenerator" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ3U" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLdb" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLda" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLdc" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLdd" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.DES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLde" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLdf" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLdg" role="3uHU7w">
+                    <property role="Xl_RC" value="$KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ40" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLqS" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLqR" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLqT" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLqU" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESCMAC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLqV" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLqW" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLqX" role="3uHU7w">
+                    <property role="Xl_RC" value="$CMAC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ46" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLgq" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLgp" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLgr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLgs" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESMAC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLgt" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLgu" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLgv" role="3uHU7w">
+                    <property role="Xl_RC" value="$CBCMAC" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4c" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHQPI" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHQPH" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHQPJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHQPK" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DES" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHQPL" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4g" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHNlq" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHNlp" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHNlr" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHNls" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESMAC/CFB8" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHNlt" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHNlu" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHNlv" role="3uHU7w">
+                    <property role="Xl_RC" value="$DESCFB8" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4m" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHRG7" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHRG6" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHRG8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHRG9" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DES/CFB8" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHRGa" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC/CFB8" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4q" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHOZm" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHOZl" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHOZn" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHOZo" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESMAC64" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHOZp" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHOZq" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHOZr" role="3uHU7w">
+                    <property role="Xl_RC" value="$DES64" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4w" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHNLU" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHNLT" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHNLV" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHNLW" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DES64" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHNLX" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC64" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4$" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHShP" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHShO" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHShQ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHShR" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESMAC64WITHISO7816-4PADDING" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHShS" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHShT" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHShU" role="3uHU7w">
+                    <property role="Xl_RC" value="$DES64with7816d4" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4E" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHPnC" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHPnB" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHPnD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHPnE" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DES64WITHISO7816-4PADDING" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHPnF" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC64WITHISO7816-4PADDING" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4I" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHOuG" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHOuF" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHOuH" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHOuI" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DESISO9797ALG1MACWITHISO7816-4PADDING" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHOuJ" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC64WITHISO7816-4PADDING" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4M" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLYS" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLYR" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLYT" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLYU" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DESISO9797ALG1WITHISO7816-4PADDING" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHLYV" role="37wK5m">
+                  <property role="Xl_RC" value="DESMAC64WITHISO7816-4PADDING" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4Q" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHPLO" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHPLN" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHPLP" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHPLQ" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.DESWITHISO9797" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHPLR" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHPLS" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHPLT" role="3uHU7w">
+                    <property role="Xl_RC" value="$DES9797Alg3" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ4W" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHN5l" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHN5k" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHN5m" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHN5n" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.DESISO9797MAC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHN5o" role="37wK5m">
+                  <property role="Xl_RC" value="DESWITHISO9797" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ50" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHOIP" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHOIO" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHOIQ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHOIR" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.ISO9797ALG3MAC" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHOIS" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHOIT" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHOIU" role="3uHU7w">
+                    <property role="Xl_RC" value="$DES9797Alg3" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ56" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHSDy" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHSDx" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHSDz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHSD$" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.ISO9797ALG3" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHSD_" role="37wK5m">
+                  <property role="Xl_RC" value="ISO9797ALG3MAC" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5a" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHQzn" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHQzm" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHQzo" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHQzp" role="37wK5m">
+                  <property role="Xl_RC" value="Mac.ISO9797ALG3WITHISO7816-4PADDING" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHQzq" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHQzr" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHQzs" role="3uHU7w">
+                    <property role="Xl_RC" value="$DES9797Alg3with7816d4" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5g" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMoJ" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMoI" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMoK" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMoL" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Mac.ISO9797ALG3MACWITHISO7816-4PADDING" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHMoM" role="37wK5m">
+                  <property role="Xl_RC" value="ISO9797ALG3WITHISO7816-4PADDING" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5k" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLR7" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLR6" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLR8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLR9" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameters.DES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLRa" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLRb" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ3g" resolve="PACKAGE" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLRc" role="3uHU7w">
+                    <property role="Xl_RC" value=".util.IvAlgorithmParameters" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5q" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHL76" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHL75" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHL77" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHL78" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.AlgorithmParameters" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pI50l" role="37wK5m">
+                  <ref role="1PxDUh" to="fuic:~OIWObjectIdentifiers" resolve="OIWObjectIdentifiers" />
+                  <ref role="3cqZAo" to="fuic:~OIWObjectIdentifiers.desCBC" resolve="desCBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHL7a" role="37wK5m">
+                  <property role="Xl_RC" value="DES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5v" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMyE" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMyD" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMyF" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMyG" role="37wK5m">
+                  <property role="Xl_RC" value="AlgorithmParameterGenerator.DES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHMyH" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHMyI" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHMyJ" role="3uHU7w">
+                    <property role="Xl_RC" value="$AlgParamGen" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5_" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHL_Q" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHL_P" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHL_R" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHL_S" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHL_T" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.AlgorithmParameterGenerator." />
+                  </node>
+                  <node concept="10M0yZ" id="1amp5$pHL_U" role="3uHU7w">
+                    <ref role="1PxDUh" to="fuic:~OIWObjectIdentifiers" resolve="OIWObjectIdentifiers" />
+                    <ref role="3cqZAo" to="fuic:~OIWObjectIdentifiers.desCBC" resolve="desCBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHL_X" role="37wK5m">
+                  <property role="Xl_RC" value="DES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5F" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMWC" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMWB" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMWD" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMWE" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHMD2ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHMWF" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHMWG" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHMWH" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD2" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5L" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLly" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLlx" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLlz" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLl$" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHMD5ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLl_" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLlA" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLlB" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD5" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5R" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHS4E" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHS4D" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHS4F" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHS4G" role="37wK5m">
+                  <property role="Xl_RC" value="Cipher.PBEWITHSHA1ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHS4H" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHS4I" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHS4J" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ5X" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHRdI" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHRdH" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHRdJ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHRdK" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pI5iW" role="37wK5m">
+                  <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                  <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD2AndDES_CBC" resolve="pbeWithMD2AndDES_CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHRdM" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD2ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ62" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHRwP" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHRwO" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHRwQ" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHRwR" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pI56H" role="37wK5m">
+                  <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                  <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD5AndDES_CBC" resolve="pbeWithMD5AndDES_CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHRwT" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD5ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ67" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHOm1" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHOm0" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHOm2" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,org.bouncycastle.asn1.ASN1ObjectIdentifier,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHOm3" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher" />
+                </node>
+                <node concept="10M0yZ" id="1amp5$pI5r$" role="37wK5m">
+                  <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                  <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithSHA1AndDES_CBC" resolve="pbeWithSHA1AndDES_CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHOm5" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA1ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6c" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHN$7" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHN$6" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHN$8" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHN$9" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHMD2ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHN$a" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD2ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6g" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLyo" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLyn" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLyp" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLyq" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHMD5ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHLyr" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD5ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6k" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHPEs" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHPEr" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHPEt" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHPEu" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.Cipher.PBEWITHSHA1ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHPEv" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA1ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6o" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMIF" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMIE" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMIG" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMIH" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHMD2ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHMII" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHMIJ" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHMIK" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD2KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6u" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLNE" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLND" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLNF" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLNG" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHMD5ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHLNH" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHLNI" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHLNJ" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithMD5KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6$" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHQtv" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHQtu" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHQtw" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHQtx" role="37wK5m">
+                  <property role="Xl_RC" value="SecretKeyFactory.PBEWITHSHA1ANDDES" />
+                </node>
+                <node concept="3cpWs3" id="1amp5$pHQty" role="37wK5m">
+                  <node concept="37vLTw" id="1amp5$pHQtz" role="3uHU7B">
+                    <ref role="3cqZAo" node="1amp5$pHJ39" resolve="PREFIX" />
+                  </node>
+                  <node concept="Xl_RD" id="1amp5$pHQt$" role="3uHU7w">
+                    <property role="Xl_RC" value="$PBEWithSHA1KeyFactory" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6E" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMDR" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMDQ" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMDS" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHMDT" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHMD2ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHMDU" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD2ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6I" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHM6L" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHM6K" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHM6M" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHM6N" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHMD5ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHM6O" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD5ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6M" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLf8" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLf7" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLf9" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="Xl_RD" id="1amp5$pHLfa" role="37wK5m">
+                  <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory.PBEWITHSHA1ANDDES-CBC" />
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHLfb" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA1ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6Q" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHMTT" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHMTS" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHMTU" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHMTV" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHMTW" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory." />
+                  </node>
+                  <node concept="10M0yZ" id="1amp5$pHMTX" role="3uHU7w">
+                    <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                    <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD2AndDES_CBC" resolve="pbeWithMD2AndDES_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHMU0" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD2ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ6W" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLv5" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLv4" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLv6" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHLv7" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHLv8" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory." />
+                  </node>
+                  <node concept="10M0yZ" id="1amp5$pI4Zs" role="3uHU7w">
+                    <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                    <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithMD5AndDES_CBC" resolve="pbeWithMD5AndDES_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHLva" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHMD5ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ72" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLwi" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLwh" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ3p" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLwj" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHLwk" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHLwl" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.SecretKeyFactory." />
+                  </node>
+                  <node concept="10M0yZ" id="1amp5$pI5y3" role="3uHU7w">
+                    <ref role="1PxDUh" to="kdo4:~PKCSObjectIdentifiers" resolve="PKCSObjectIdentifiers" />
+                    <ref role="3cqZAo" to="kdo4:~PKCSObjectIdentifiers.pbeWithSHA1AndDES_CBC" resolve="pbeWithSHA1AndDES_CBC" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="1amp5$pHLwn" role="37wK5m">
+                  <property role="Xl_RC" value="PBEWITHSHA1ANDDES" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm1VV" id="1amp5$pHJ78" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pHJ79" role="3clF45" />
+      </node>
+      <node concept="3clFb_" id="1amp5$pHJ7a" role="jymVt">
+        <property role="TrG5h" value="addAlias" />
+        <node concept="37vLTG" id="1amp5$pHJ7b" role="3clF46">
+          <property role="TrG5h" value="provider" />
+          <node concept="3uibUv" id="1amp5$pHJ7c" role="1tU5fm">
+            <ref role="3uigEE" to="eqo5:~ConfigurableProvider" resolve="ConfigurableProvider" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHJ7d" role="3clF46">
+          <property role="TrG5h" value="oid" />
+          <node concept="3uibUv" id="1amp5$pHJ7e" role="1tU5fm">
+            <ref role="3uigEE" to="9oed:~ASN1ObjectIdentifier" resolve="ASN1ObjectIdentifier" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="1amp5$pHJ7f" role="3clF46">
+          <property role="TrG5h" value="name" />
+          <node concept="3uibUv" id="1amp5$pHJ7g" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~String" resolve="String" />
+          </node>
+        </node>
+        <node concept="3clFbS" id="1amp5$pHJ7h" role="3clF47">
+          <node concept="3clFbF" id="1amp5$pHJ7i" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHLnv" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHLnu" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ7b" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHLnw" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHLnx" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHLny" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.KeyGenerator." />
+                  </node>
+                  <node concept="2OqwBi" id="1amp5$pHLnz" role="3uHU7w">
+                    <node concept="37vLTw" id="1amp5$pHLn$" role="2Oq$k0">
+                      <ref role="3cqZAo" node="1amp5$pHJ7d" resolve="oid" />
+                    </node>
+                    <node concept="liA8E" id="1amp5$pHLn_" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="1amp5$pHLnM" role="37wK5m">
+                  <ref role="3cqZAo" node="1amp5$pHJ7f" resolve="name" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="1amp5$pHJ7o" role="3cqZAp">
+            <node concept="2OqwBi" id="1amp5$pHRoD" role="3clFbG">
+              <node concept="37vLTw" id="1amp5$pHRoC" role="2Oq$k0">
+                <ref role="3cqZAo" node="1amp5$pHJ7b" resolve="provider" />
+              </node>
+              <node concept="liA8E" id="1amp5$pHRoE" role="2OqNvi">
+                <ref role="37wK5l" to="eqo5:~ConfigurableProvider.addAlgorithm(java.lang.String,java.lang.String)" resolve="addAlgorithm" />
+                <node concept="3cpWs3" id="1amp5$pHRoF" role="37wK5m">
+                  <node concept="Xl_RD" id="1amp5$pHRoG" role="3uHU7B">
+                    <property role="Xl_RC" value="Alg.Alias.KeyFactory." />
+                  </node>
+                  <node concept="2OqwBi" id="1amp5$pHRoH" role="3uHU7w">
+                    <node concept="37vLTw" id="1amp5$pHRoI" role="2Oq$k0">
+                      <ref role="3cqZAo" node="1amp5$pHJ7d" resolve="oid" />
+                    </node>
+                    <node concept="liA8E" id="1amp5$pHRoJ" role="2OqNvi">
+                      <ref role="37wK5l" to="9oed:~ASN1ObjectIdentifier.getId()" resolve="getId" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="1amp5$pHRoW" role="37wK5m">
+                  <ref role="3cqZAo" node="1amp5$pHJ7f" resolve="name" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3Tm6S6" id="1amp5$pHJ7u" role="1B3o_S" />
+        <node concept="3cqZAl" id="1amp5$pHJ7v" role="3clF45" />
+      </node>
+    </node>
+  </node>
+</model>
+
@@ -6,6 +6,13 @@
   </languages>
   <imports>
     <import index="mpcv" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.ref(JDK/)" />
+    <import index="5zyv" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent(JDK/)" />
+    <import index="82uw" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.function(JDK/)" />
+    <import index="i5cy" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.atomic(JDK/)" />
+    <import index="lk7u" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util.concurrent.locks(JDK/)" />
+    <import index="6rnd" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:jdk.jfr(JDK/)" />
+    <import index="33ny" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.util(JDK/)" />
+    <import index="lsg0" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang.invoke(JDK/)" />
     <import index="wyt6" ref="6354ebe7-c22a-4a0f-ac54-50b52ab9b065/java:java.lang(JDK/)" implicit="true" />
   </imports>
   <registry>
@@ -41,6 +48,8 @@
       </concept>
       <concept id="1068390468198" name="jetbrains.mps.baseLanguage.structure.ClassConcept" flags="ig" index="312cEu">
         <child id="1165602531693" name="superclass" index="1zkMxy" />
+        <property id="1221565133444" name="isFinal" index="1EXbeo" />
+        <child id="1095933932569" name="implementedInterface" index="EKbjA" />
       </concept>
       <concept id="1068431474542" name="jetbrains.mps.baseLanguage.structure.VariableDeclaration" flags="ng" index="33uBYm">
         <property id="1176718929932" name="isFinal" index="3TUv4t" />
@@ -57,6 +66,7 @@
         <child id="1068580123133" name="returnType" index="3clF45" />
         <child id="1068580123134" name="parameter" index="3clF46" />
         <child id="1068580123135" name="body" index="3clF47" />
+        <property id="4276006055363816570" name="isSynchronized" index="od$2w" />
       </concept>
       <concept id="1068580123165" name="jetbrains.mps.baseLanguage.structure.InstanceMethodDeclaration" flags="ig" index="3clFb_" />
       <concept id="1068580123155" name="jetbrains.mps.baseLanguage.structure.ExpressionStatement" flags="nn" index="3clFbF">
@@ -66,6 +76,7 @@
         <child id="1068581517665" name="statement" index="3cqZAp" />
       </concept>
       <concept id="1068580123140" name="jetbrains.mps.baseLanguage.structure.ConstructorDeclaration" flags="ig" index="3clFbW" />
+      <concept id="1068581517665" name="jetbrains.mps.baseLanguage.structure.LongType" flags="in" index="3cpbJK" />
       <concept id="1068581517677" name="jetbrains.mps.baseLanguage.structure.VoidType" flags="in" index="3cqZAl" />
       <concept id="1204053956946" name="jetbrains.mps.baseLanguage.structure.IMethodCall" flags="ng" index="1ndlxa">
         <reference id="1068499141037" name="baseMethodDeclaration" index="37wK5l" />
@@ -77,6 +88,7 @@
       </concept>
       <concept id="1107535904670" name="jetbrains.mps.baseLanguage.structure.ClassifierType" flags="in" index="3uibUv">
         <reference id="1107535924139" name="classifier" index="3uigEE" />
+        <child id="1109201940907" name="parameter" index="11_B2D" />
       </concept>
       <concept id="3093926081414150598" name="jetbrains.mps.baseLanguage.structure.MultipleCatchClause" flags="ng" index="3uVAMA">
         <child id="8276990574895933173" name="catchBody" index="1zc67A" />
@@ -95,6 +107,141 @@
       <concept id="1170345865475" name="jetbrains.mps.baseLanguage.structure.AnonymousClass" flags="ig" index="1Y3b0j">
         <reference id="1170346070688" name="classifier" index="1Y3XeK" />
       </concept>
+      <concept id="1068390468200" name="jetbrains.mps.baseLanguage.structure.FieldDeclaration" flags="ig" index="312cEg" />
+      <concept id="1068498886294" name="jetbrains.mps.baseLanguage.structure.AssignmentExpression" flags="nn" index="37vLTI" />
+      <concept id="1068580123137" name="jetbrains.mps.baseLanguage.structure.BooleanConstant" flags="nn" index="3clFbT">
+        <property id="1068580123138" name="value" index="3clFbU" />
+      </concept>
+      <concept id="1068580123152" name="jetbrains.mps.baseLanguage.structure.EqualsExpression" flags="nn" index="3clFbC" />
+      <concept id="1068580123159" name="jetbrains.mps.baseLanguage.structure.IfStatement" flags="nn" index="3clFbJ">
+        <child id="1068580123160" name="condition" index="3clFbw" />
+        <child id="1068580123161" name="ifTrue" index="3clFbx" />
+        <child id="1082485599094" name="ifFalseStatement" index="9aQIa" />
+      </concept>
+      <concept id="1068581242863" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclaration" flags="nr" index="3cpWsn" />
+      <concept id="1068581242864" name="jetbrains.mps.baseLanguage.structure.LocalVariableDeclarationStatement" flags="nn" index="3cpWs8">
+        <child id="1068581242865" name="localVariableDeclaration" index="3cpWs9" />
+      </concept>
+      <concept id="1068581242878" name="jetbrains.mps.baseLanguage.structure.ReturnStatement" flags="nn" index="3cpWs6">
+        <child id="1068581517676" name="expression" index="3cqZAk" />
+      </concept>
+      <concept id="1070475354124" name="jetbrains.mps.baseLanguage.structure.ThisExpression" flags="nn" index="Xjq3P" />
+      <concept id="1070534058343" name="jetbrains.mps.baseLanguage.structure.NullLiteral" flags="nn" index="10Nm6u" />
+      <concept id="1070534370425" name="jetbrains.mps.baseLanguage.structure.IntegerType" flags="in" index="10Oyi0" />
+      <concept id="1070534644030" name="jetbrains.mps.baseLanguage.structure.BooleanType" flags="in" index="10P_77" />
+      <concept id="1070534934090" name="jetbrains.mps.baseLanguage.structure.CastExpression" flags="nn" index="10QFUN">
+        <child id="1070534934091" name="type" index="10QFUM" />
+        <child id="1070534934092" name="expression" index="10QFUP" />
+      </concept>
+      <concept id="1073239437375" name="jetbrains.mps.baseLanguage.structure.NotEqualsExpression" flags="nn" index="3y3z36" />
+      <concept id="1076505808687" name="jetbrains.mps.baseLanguage.structure.WhileStatement" flags="nn" index="2$JKZl">
+        <child id="1076505808688" name="condition" index="2$JKZa" />
+      </concept>
+      <concept id="1079359253375" name="jetbrains.mps.baseLanguage.structure.ParenthesizedExpression" flags="nn" index="1eOMI4">
+        <child id="1079359253376" name="expression" index="1eOMHV" />
+      </concept>
+      <concept id="1080120340718" name="jetbrains.mps.baseLanguage.structure.AndExpression" flags="nn" index="1Wc70l" />
+      <concept id="1081256982272" name="jetbrains.mps.baseLanguage.structure.InstanceOfExpression" flags="nn" index="2ZW3vV">
+        <child id="1081256993305" name="classType" index="2ZW6by" />
+        <child id="1081256993304" name="leftExpression" index="2ZW6bz" />
+      </concept>
+      <concept id="1081516740877" name="jetbrains.mps.baseLanguage.structure.NotExpression" flags="nn" index="3fqX7Q">
+        <child id="1081516765348" name="expression" index="3fr31v" />
+      </concept>
+      <concept id="1081773326031" name="jetbrains.mps.baseLanguage.structure.BinaryOperation" flags="nn" index="3uHJSO">
+        <child id="1081773367580" name="leftExpression" index="3uHU7B" />
+        <child id="1081773367579" name="rightExpression" index="3uHU7w" />
+      </concept>
+      <concept id="1109279763828" name="jetbrains.mps.baseLanguage.structure.TypeVariableDeclaration" flags="ng" index="16euLQ" />
+      <concept id="1109279851642" name="jetbrains.mps.baseLanguage.structure.GenericDeclaration" flags="ng" index="16eOlS">
+        <child id="1109279881614" name="typeVariableDeclaration" index="16eVyc" />
+      </concept>
+      <concept id="1109283449304" name="jetbrains.mps.baseLanguage.structure.TypeVariableReference" flags="in" index="16syzq">
+        <reference id="1109283546497" name="typeVariableDeclaration" index="16sUi3" />
+      </concept>
+      <concept id="1154032098014" name="jetbrains.mps.baseLanguage.structure.AbstractLoopStatement" flags="nn" index="2LF5Ji">
+        <child id="1154032183016" name="body" index="2LFqv$" />
+      </concept>
+      <concept id="1163668896201" name="jetbrains.mps.baseLanguage.structure.TernaryOperatorExpression" flags="nn" index="3K4zz7">
+        <child id="1163668914799" name="condition" index="3K4Cdx" />
+        <child id="1163668922816" name="ifTrue" index="3K4E3e" />
+        <child id="1163668934364" name="ifFalse" index="3K4GZi" />
+      </concept>
+      <concept id="1197029447546" name="jetbrains.mps.baseLanguage.structure.FieldReferenceOperation" flags="nn" index="2OwXpG">
+        <reference id="1197029500499" name="fieldDeclaration" index="2Oxat5" />
+      </concept>
+      <concept id="1212685548494" name="jetbrains.mps.baseLanguage.structure.ClassCreator" flags="nn" index="1pGfFk">
+        <child id="1212687122400" name="typeParameter" index="1pMfVU" />
+      </concept>
+      <concept id="1215693861676" name="jetbrains.mps.baseLanguage.structure.BaseAssignmentExpression" flags="nn" index="d038R">
+        <child id="1068498886295" name="lValue" index="37vLTJ" />
+        <child id="1068498886297" name="rValue" index="37vLTx" />
+      </concept>
+      <concept id="7812454656619025412" name="jetbrains.mps.baseLanguage.structure.LocalMethodCall" flags="nn" index="1rXfSq" />
+      <concept id="1068580320020" name="jetbrains.mps.baseLanguage.structure.IntegerConstant" flags="nn" index="3cmrfG">
+        <property id="1068580320021" name="value" index="3cmrfH" />
+      </concept>
+      <concept id="1068581242869" name="jetbrains.mps.baseLanguage.structure.MinusExpression" flags="nn" index="3cpWsd" />
+      <concept id="1070475926800" name="jetbrains.mps.baseLanguage.structure.StringLiteral" flags="nn" index="Xl_RD">
+        <property id="1070475926801" name="value" index="Xl_RC" />
+      </concept>
+      <concept id="1070533707846" name="jetbrains.mps.baseLanguage.structure.StaticFieldReference" flags="nn" index="10M0yZ">
+        <reference id="1144433057691" name="classifier" index="1PxDUh" />
+      </concept>
+      <concept id="1070534760951" name="jetbrains.mps.baseLanguage.structure.ArrayType" flags="in" index="10Q1$e">
+        <child id="1070534760952" name="componentType" index="10Q1$1" />
+      </concept>
+      <concept id="1081506773034" name="jetbrains.mps.baseLanguage.structure.LessThanExpression" flags="nn" index="3eOVzh" />
+      <concept id="1092119917967" name="jetbrains.mps.baseLanguage.structure.MulExpression" flags="nn" index="17qRlL" />
+      <concept id="1144230876926" name="jetbrains.mps.baseLanguage.structure.AbstractForStatement" flags="nn" index="1DupvO">
+        <child id="1144230900587" name="variable" index="1Duv9x" />
+      </concept>
+      <concept id="1144231330558" name="jetbrains.mps.baseLanguage.structure.ForStatement" flags="nn" index="1Dw8fO">
+        <child id="1144231399730" name="condition" index="1Dwp0S" />
+        <child id="1144231408325" name="iteration" index="1Dwrff" />
+      </concept>
+      <concept id="1173175405605" name="jetbrains.mps.baseLanguage.structure.ArrayAccessExpression" flags="nn" index="AH0OO">
+        <child id="1173175577737" name="index" index="AHEQo" />
+        <child id="1173175590490" name="array" index="AHHXb" />
+      </concept>
+      <concept id="1184950988562" name="jetbrains.mps.baseLanguage.structure.ArrayCreator" flags="nn" index="3$_iS1">
+        <child id="1184952969026" name="dimensionExpression" index="3$GQph" />
+        <child id="1184951007469" name="componentType" index="3$_nBY" />
+      </concept>
+      <concept id="1184952934362" name="jetbrains.mps.baseLanguage.structure.DimensionExpression" flags="nn" index="3$GHV9">
+        <child id="1184953288404" name="expression" index="3$I4v7" />
+      </concept>
+      <concept id="1214918800624" name="jetbrains.mps.baseLanguage.structure.PostfixIncrementExpression" flags="nn" index="3uNrnE" />
+      <concept id="1224500764161" name="jetbrains.mps.baseLanguage.structure.BitwiseAndExpression" flags="nn" index="pVHWs" />
+      <concept id="1225892208569" name="jetbrains.mps.baseLanguage.structure.ShiftLeftExpression" flags="nn" index="1GRDU$" />
+      <concept id="1239714755177" name="jetbrains.mps.baseLanguage.structure.AbstractUnaryNumberOperation" flags="nn" index="2$Kvd9">
+        <child id="1239714902950" name="expression" index="2$L3a6" />
+      </concept>
+      <concept id="2820489544401957797" name="jetbrains.mps.baseLanguage.structure.DefaultClassCreator" flags="nn" index="HV5vD">
+        <reference id="2820489544401957798" name="classifier" index="HV5vE" />
+      </concept>
+      <concept id="1068581242875" name="jetbrains.mps.baseLanguage.structure.PlusExpression" flags="nn" index="3cpWs3" />
+      <concept id="1080223426719" name="jetbrains.mps.baseLanguage.structure.OrExpression" flags="nn" index="22lmx$" />
+      <concept id="1153422305557" name="jetbrains.mps.baseLanguage.structure.LessThanOrEqualsExpression" flags="nn" index="2dkUwp" />
+      <concept id="1164991038168" name="jetbrains.mps.baseLanguage.structure.ThrowStatement" flags="nn" index="YS8fn">
+        <child id="1164991057263" name="throwable" index="YScLw" />
+      </concept>
+      <concept id="1225271177708" name="jetbrains.mps.baseLanguage.structure.StringType" flags="in" index="17QB3L" />
+      <concept id="1081855346303" name="jetbrains.mps.baseLanguage.structure.BreakStatement" flags="nn" index="3zACq4" />
+      <concept id="1208890769693" name="jetbrains.mps.baseLanguage.structure.ArrayLengthOperation" flags="nn" index="1Rwk04" />
+      <concept id="1221737317277" name="jetbrains.mps.baseLanguage.structure.StaticInitializer" flags="lg" index="1Pe0a1">
+        <child id="1221737317278" name="statementList" index="1Pe0a2" />
+      </concept>
+      <concept id="1081506762703" name="jetbrains.mps.baseLanguage.structure.GreaterThanExpression" flags="nn" index="3eOSWO" />
+      <concept id="1116615150612" name="jetbrains.mps.baseLanguage.structure.ClassifierClassExpression" flags="nn" index="3VsKOn">
+        <reference id="1116615189566" name="classifier" index="3VsUkX" />
+      </concept>
+      <concept id="1144226303539" name="jetbrains.mps.baseLanguage.structure.ForeachStatement" flags="nn" index="1DcWWT">
+        <child id="1144226360166" name="iterable" index="1DdaDG" />
+      </concept>
+      <concept id="1153417849900" name="jetbrains.mps.baseLanguage.structure.GreaterThanOrEqualsExpression" flags="nn" index="2d3UOw" />
+      <concept id="1215695189714" name="jetbrains.mps.baseLanguage.structure.PlusAssignmentExpression" flags="nn" index="d57v9" />
+      <concept id="1224500790866" name="jetbrains.mps.baseLanguage.structure.BitwiseOrExpression" flags="nn" index="pVOtf" />
     </language>
     <language id="ceab5195-25ea-4f22-9b92-103b95ca8c0c" name="jetbrains.mps.lang.core">
       <concept id="1133920641626" name="jetbrains.mps.lang.core.structure.BaseConcept" flags="ng" index="2VYdi">
@@ -110,110 +257,83 @@
   </registry>
   <node concept="312cEu" id="3K5upD74g3Z">
     <property role="TrG5h" value="FinalizedStateChecks" />
-    <node concept="2tJIrI" id="3K5upD74g5t" role="jymVt" />
-    <node concept="Wx3nA" id="3K5upD74g6m" role="jymVt">
-      <property role="TrG5h" value="cleaner" />
-      <property role="3TUv4t" value="true" />
-      <node concept="3Tm6S6" id="3K5upD74g5U" role="1B3o_S" />
-      <node concept="3uibUv" id="3K5upD74g9m" role="1tU5fm">
-        <ref role="3uigEE" to="mpcv:~Cleaner" resolve="Cleaner" />
-      </node>
-      <node concept="2YIFZM" id="3K5upD74_Q9" role="33vP2m">
-        <ref role="37wK5l" to="mpcv:~Cleaner.create()" resolve="create" />
-        <ref role="1Pybhc" to="mpcv:~Cleaner" resolve="Cleaner" />
-      </node>
-    </node>
-    <node concept="2tJIrI" id="3K5upD74g5v" role="jymVt" />
+    <node concept="2tJIrI" id="206NDCWfdML" role="jymVt" />
     <node concept="2YIFZL" id="3K5upD74hxe" role="jymVt">
       <property role="TrG5h" value="registerObject" />
-      <node concept="3clFbS" id="3K5upD74hxg" role="3clF47">
-        <node concept="3clFbF" id="3K5upD74hxh" role="3cqZAp">
-          <node concept="2OqwBi" id="3K5upD74hxi" role="3clFbG">
-            <node concept="37vLTw" id="3K5upD74hxj" role="2Oq$k0">
-              <ref role="3cqZAo" node="3K5upD74g6m" resolve="cleaner" />
+      <node concept="3clFbS" id="206NDCWfdN4" role="3clF47">
+        <node concept="3clFbF" id="206NDCWfdNF" role="3cqZAp">
+          <node concept="2OqwBi" id="206NDCWfdNN" role="3clFbG">
+            <node concept="10M0yZ" id="206NDCWfdO2" role="2Oq$k0">
+              <ref role="1PxDUh" node="206NDCWfdWo" resolve="CleanerFinalStateBackend" />
+              <ref role="3cqZAo" node="206NDCWfdWR" resolve="INSTANCE" />
             </node>
-            <node concept="liA8E" id="3K5upD74hxk" role="2OqNvi">
-              <ref role="37wK5l" to="mpcv:~Cleaner.register(java.lang.Object,java.lang.Runnable)" resolve="register" />
-              <node concept="37vLTw" id="3K5upD74hxl" role="37wK5m">
+            <node concept="liA8E" id="206NDCWfdOl" role="2OqNvi">
+              <ref role="37wK5l" node="206NDCWfecb" resolve="register" />
+              <node concept="37vLTw" id="206NDCWfdOY" role="37wK5m">
                 <ref role="3cqZAo" node="3K5upD74hxp" resolve="obj" />
               </node>
-              <node concept="2ShNRf" id="3K5upD74kvY" role="37wK5m">
-                <node concept="YeOm9" id="3K5upD74kzr" role="2ShVmc">
-                  <node concept="1Y3b0j" id="3K5upD74kzu" role="YeSDq">
-                    <property role="2bfB8j" value="true" />
-                    <ref role="1Y3XeK" to="wyt6:~Runnable" resolve="Runnable" />
-                    <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
-                    <node concept="3Tm1VV" id="3K5upD74kzv" role="1B3o_S" />
-                    <node concept="3clFb_" id="3K5upD74kz$" role="jymVt">
-                      <property role="TrG5h" value="run" />
-                      <node concept="3Tm1VV" id="3K5upD74kz_" role="1B3o_S" />
-                      <node concept="3cqZAl" id="3K5upD74kzB" role="3clF45" />
-                      <node concept="3clFbS" id="3K5upD74kzC" role="3clF47">
-                        <node concept="3J1_TO" id="1uT63xXXzdB" role="3cqZAp">
-                          <node concept="3uVAMA" id="1uT63xXXzmL" role="1zxBo5">
-                            <node concept="XOnhg" id="1uT63xXXzmM" role="1zc67B">
-                              <property role="TrG5h" value="e" />
-                              <node concept="nSUau" id="1uT63xXXzmN" role="1tU5fm">
-                                <node concept="3uibUv" id="1uT63xXXzof" role="nSUat">
-                                  <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
-                                </node>
-                              </node>
-                            </node>
-                            <node concept="3clFbS" id="1uT63xXXzmO" role="1zc67A">
-                              <node concept="3clFbF" id="1uT63xXXzzr" role="3cqZAp">
-                                <node concept="2OqwBi" id="1uT63xXXzCU" role="3clFbG">
-                                  <node concept="37vLTw" id="1uT63xXXzzq" role="2Oq$k0">
-                                    <ref role="3cqZAo" node="1uT63xXXzmM" resolve="e" />
-                                  </node>
-                                  <node concept="liA8E" id="1uT63xXXzH$" role="2OqNvi">
-                                    <ref role="37wK5l" to="wyt6:~Throwable.printStackTrace()" resolve="printStackTrace" />
-                                  </node>
-                                </node>
-                              </node>
-                            </node>
-                          </node>
-                          <node concept="3clFbS" id="1uT63xXXzdD" role="1zxBo7">
-                            <node concept="3clFbF" id="1uT63xXXzf3" role="3cqZAp">
-                              <node concept="2OqwBi" id="1uT63xXXzie" role="3clFbG">
-                                <node concept="37vLTw" id="1uT63xXXzf1" role="2Oq$k0">
-                                  <ref role="3cqZAo" node="3K5upD74hxr" resolve="checker" />
-                                </node>
-                                <node concept="liA8E" id="1uT63xXXzlm" role="2OqNvi">
-                                  <ref role="37wK5l" node="3K5upD74hmR" resolve="ensureRightStateOrThrow" />
-                                </node>
-                              </node>
-                            </node>
-                          </node>
-                        </node>
-                      </node>
-                      <node concept="2AHcQZ" id="3K5upD74kzE" role="2AJF6D">
-                        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
-                      </node>
-                    </node>
-                  </node>
-                </node>
+              <node concept="37vLTw" id="206NDCWfdOZ" role="37wK5m">
+                <ref role="3cqZAo" node="3K5upD74hxr" resolve="checker" />
               </node>
             </node>
           </node>
         </node>
       </node>
-      <node concept="3cqZAl" id="3K5upD74hxo" role="3clF45" />
+      <node concept="3cqZAl" id="206NDCWfdP5" role="3clF45" />
+      <node concept="3Tm1VV" id="206NDCWfdPn" role="1B3o_S" />
       <node concept="37vLTG" id="3K5upD74hxp" role="3clF46">
         <property role="TrG5h" value="obj" />
-        <node concept="3uibUv" id="3K5upD74hxq" role="1tU5fm">
+        <node concept="3uibUv" id="206NDCWfdPU" role="1tU5fm">
           <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
         </node>
       </node>
       <node concept="37vLTG" id="3K5upD74hxr" role="3clF46">
         <property role="TrG5h" value="checker" />
         <property role="3TUv4t" value="true" />
-        <node concept="3uibUv" id="3K5upD74hxs" role="1tU5fm">
+        <node concept="3uibUv" id="206NDCWfdQc" role="1tU5fm">
+          <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="206NDCWfdQh" role="jymVt" />
+    <node concept="2YIFZL" id="206NDCWfdQl" role="jymVt">
+      <property role="TrG5h" value="registerObjectBatched" />
+      <node concept="3clFbS" id="206NDCWfdQH" role="3clF47">
+        <node concept="3clFbF" id="206NDCWfdR3" role="3cqZAp">
+          <node concept="2OqwBi" id="206NDCWfdRq" role="3clFbG">
+            <node concept="10M0yZ" id="206NDCWfdRs" role="2Oq$k0">
+              <ref role="1PxDUh" node="206NDCWfeeO" resolve="BatchedFinalStateBackend" />
+              <ref role="3cqZAo" node="206NDCWfef3" resolve="INSTANCE" />
+            </node>
+            <node concept="liA8E" id="206NDCWfdRX" role="2OqNvi">
+              <ref role="37wK5l" node="206NDCWfecb" resolve="register" />
+              <node concept="37vLTw" id="206NDCWfdRY" role="37wK5m">
+                <ref role="3cqZAo" node="206NDCWfdTx" resolve="obj" />
+              </node>
+              <node concept="37vLTw" id="206NDCWfdS8" role="37wK5m">
+                <ref role="3cqZAo" node="206NDCWfdUF" resolve="checker" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="206NDCWfdSL" role="3clF45" />
+      <node concept="3Tm1VV" id="206NDCWfdT9" role="1B3o_S" />
+      <node concept="37vLTG" id="206NDCWfdTx" role="3clF46">
+        <property role="TrG5h" value="obj" />
+        <node concept="3uibUv" id="206NDCWfdU8" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="206NDCWfdUF" role="3clF46">
+        <property role="TrG5h" value="checker" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="206NDCWfdVb" role="1tU5fm">
           <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
         </node>
       </node>
-      <node concept="3Tm1VV" id="3K5upD74hxn" role="1B3o_S" />
     </node>
-    <node concept="3Tm1VV" id="3K5upD74g40" role="1B3o_S" />
+    <node concept="3Tm1VV" id="206NDCWfdVM" role="1B3o_S" />
   </node>
   <node concept="3HP615" id="3K5upD74hlY">
     <property role="TrG5h" value="FinalStateChecker" />
@@ -225,6 +345,16 @@
     </node>
     <node concept="3Tm1VV" id="3K5upD74hlZ" role="1B3o_S" />
   </node>
+  <node concept="3HP615" id="3uK$Pg$AXM4">
+    <property role="TrG5h" value="Recyclable" />
+    <node concept="3clFb_" id="3uK$Pg$AXMu" role="jymVt">
+      <property role="TrG5h" value="recycle" />
+      <node concept="3clFbS" id="3uK$Pg$AXMy" role="3clF47" />
+      <node concept="3cqZAl" id="3uK$Pg$AXN8" role="3clF45" />
+      <node concept="3Tm1VV" id="3uK$Pg$AXNf" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="3uK$Pg$AXND" role="1B3o_S" />
+  </node>
   <node concept="2ABs$o" id="LxFAuy$tO">
     <property role="TrG5h" value="NotNull" />
     <node concept="3Tm1VV" id="LxFAuy$tQ" role="1B3o_S" />
@@ -257,5 +387,5515 @@
       </node>
     </node>
   </node>
+  <node concept="2ABs$o" id="3EwaYGcC$TC">
+    <property role="TrG5h" value="ThreadConfined" />
+    <node concept="3Tm1VV" id="3EwaYGcC$TJ" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="3EwaYGcC$Uh">
+    <property role="TrG5h" value="ConfinementViolationException" />
+    <node concept="3clFbW" id="3EwaYGcC$PW" role="jymVt">
+      <node concept="3cqZAl" id="3EwaYGcC$Qx" role="3clF45" />
+      <node concept="3Tm1VV" id="3EwaYGcC$R0" role="1B3o_S" />
+      <node concept="3clFbS" id="3EwaYGcC$Rv" role="3clF47">
+        <node concept="XkiVB" id="3EwaYGcC$RF" role="3cqZAp">
+          <ref role="37wK5l" node="15ZwvTyKq9r" resolve="DetectedMisuseException" />
+          <node concept="37vLTw" id="3EwaYGcC$Sf" role="37wK5m">
+            <ref role="3cqZAo" node="3EwaYGcC$SR" resolve="description" />
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="3EwaYGcC$SR" role="3clF46">
+        <property role="TrG5h" value="description" />
+        <node concept="17QB3L" id="3EwaYGcC$Th" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3EwaYGcC$Ur" role="1B3o_S" />
+    <node concept="3uibUv" id="3EwaYGcC$UT" role="1zkMxy">
+      <ref role="3uigEE" node="15ZwvTyKq3d" resolve="DetectedMisuseException" />
+    </node>
+  </node>
+  <node concept="312cEu" id="3JJ_7nbYl5k">
+    <property role="TrG5h" value="ConcurrentWeakIdentityMap" />
+    <node concept="2tJIrI" id="3JJ_7nbYl5x" role="jymVt" />
+    <node concept="312cEg" id="3JJ_7nbYl5D" role="jymVt">
+      <property role="TrG5h" value="entries" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3JJ_7nbYl6b" role="1B3o_S" />
+      <node concept="3uibUv" id="3JJ_7nbYl6A" role="1tU5fm">
+        <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+        <node concept="3uibUv" id="3JJ_7nbYl6L" role="11_B2D">
+          <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+        </node>
+        <node concept="16syzq" id="3JJ_7nbYl7a" role="11_B2D">
+          <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3JJ_7nbYl7y" role="33vP2m">
+        <node concept="1pGfFk" id="3JJ_7nbYl87" role="2ShVmc">
+          <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.&lt;init&gt;()" resolve="ConcurrentHashMap" />
+          <node concept="3uibUv" id="3JJ_7nbYl8x" role="1pMfVU">
+            <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+          </node>
+          <node concept="16syzq" id="3JJ_7nbYl96" role="1pMfVU">
+            <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="3JJ_7nbYl9j" role="jymVt">
+      <property role="TrG5h" value="staleKeys" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3JJ_7nbYl9W" role="1B3o_S" />
+      <node concept="3uibUv" id="3JJ_7nbYl9$" role="1tU5fm">
+        <ref role="3uigEE" to="mpcv:~ReferenceQueue" resolve="ReferenceQueue" />
+        <node concept="3uibUv" id="3JJ_7nbYla0" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3JJ_7nbYlaw" role="33vP2m">
+        <node concept="1pGfFk" id="3JJ_7nbYlb8" role="2ShVmc">
+          <ref role="37wK5l" to="mpcv:~ReferenceQueue.&lt;init&gt;()" resolve="ReferenceQueue" />
+          <node concept="3uibUv" id="3JJ_7nbYlbl" role="1pMfVU">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlbS" role="jymVt" />
+    <node concept="3clFbW" id="3JJ_7nbYlcu" role="jymVt">
+      <node concept="3cqZAl" id="3JJ_7nbYlcE" role="3clF45" />
+      <node concept="3Tm1VV" id="3JJ_7nbYlcG" role="1B3o_S" />
+      <node concept="3clFbS" id="3JJ_7nbYldf" role="3clF47" />
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYldm" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYldN" role="jymVt">
+      <property role="TrG5h" value="get" />
+      <node concept="3clFbS" id="3JJ_7nbYldW" role="3clF47">
+        <node concept="3cpWs6" id="3JJ_7nbYle1" role="3cqZAp">
+          <node concept="2OqwBi" id="3JJ_7nbYlei" role="3cqZAk">
+            <node concept="37vLTw" id="3JJ_7nbYleK" role="2Oq$k0">
+              <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+            </node>
+            <node concept="liA8E" id="3JJ_7nbYlfk" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+              <node concept="2ShNRf" id="3JJ_7nbYlfp" role="37wK5m">
+                <node concept="1pGfFk" id="3JJ_7nbYlfY" role="2ShVmc">
+                  <ref role="37wK5l" node="70GC_UnA0eU" resolve="LookupKey" />
+                  <node concept="37vLTw" id="3JJ_7nbYlgw" role="37wK5m">
+                    <ref role="3cqZAo" node="3JJ_7nbYlhH" resolve="key" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16syzq" id="3JJ_7nbYlh0" role="3clF45">
+        <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+      </node>
+      <node concept="3Tm1VV" id="3JJ_7nbYlhk" role="1B3o_S" />
+      <node concept="37vLTG" id="3JJ_7nbYlhH" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="3JJ_7nbYlhS" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlig" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYlij" role="jymVt">
+      <property role="TrG5h" value="computeIfAbsent" />
+      <node concept="3clFbS" id="3JJ_7nbYlit" role="3clF47">
+        <node concept="3cpWs8" id="3JJ_7nbYliA" role="3cqZAp">
+          <node concept="3cpWsn" id="3JJ_7nbYljb" role="3cpWs9">
+            <property role="TrG5h" value="existing" />
+            <node concept="16syzq" id="3JJ_7nbYljp" role="1tU5fm">
+              <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+            </node>
+            <node concept="1rXfSq" id="3JJ_7nbYljq" role="33vP2m">
+              <ref role="37wK5l" node="3JJ_7nbYldN" resolve="get" />
+              <node concept="37vLTw" id="3JJ_7nbYljS" role="37wK5m">
+                <ref role="3cqZAo" node="3JJ_7nbYluo" resolve="key" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3JJ_7nbYlks" role="3cqZAp">
+          <node concept="3y3z36" id="3JJ_7nbYlkO" role="3clFbw">
+            <node concept="10Nm6u" id="3JJ_7nbYlk_" role="3uHU7w" />
+            <node concept="37vLTw" id="3JJ_7nbYll8" role="3uHU7B">
+              <ref role="3cqZAo" node="3JJ_7nbYljb" resolve="existing" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3JJ_7nbYllH" role="3clFbx">
+            <node concept="3cpWs6" id="3JJ_7nbYlm8" role="3cqZAp">
+              <node concept="37vLTw" id="3JJ_7nbYlmm" role="3cqZAk">
+                <ref role="3cqZAo" node="3JJ_7nbYljb" resolve="existing" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3JJ_7nbYlmX" role="3cqZAp">
+          <node concept="1rXfSq" id="3JJ_7nbYlm$" role="3clFbG">
+            <ref role="37wK5l" node="3JJ_7nbYlLV" resolve="expungeStaleEntries" />
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3JJ_7nbYln2" role="3cqZAp">
+          <node concept="3cpWsn" id="3JJ_7nbYlnq" role="3cpWs9">
+            <property role="TrG5h" value="created" />
+            <node concept="16syzq" id="3JJ_7nbYlnS" role="1tU5fm">
+              <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+            </node>
+            <node concept="2OqwBi" id="3JJ_7nbYlo2" role="33vP2m">
+              <node concept="37vLTw" id="3JJ_7nbYloa" role="2Oq$k0">
+                <ref role="3cqZAo" node="3JJ_7nbYluL" resolve="factory" />
+              </node>
+              <node concept="liA8E" id="3JJ_7nbYlox" role="2OqNvi">
+                <ref role="37wK5l" to="82uw:~Function.apply(java.lang.Object)" resolve="apply" />
+                <node concept="37vLTw" id="3JJ_7nbYlp3" role="37wK5m">
+                  <ref role="3cqZAo" node="3JJ_7nbYluo" resolve="key" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3JJ_7nbYlph" role="3cqZAp">
+          <node concept="3cpWsn" id="3JJ_7nbYlpk" role="3cpWs9">
+            <property role="TrG5h" value="previous" />
+            <node concept="16syzq" id="3JJ_7nbYlpY" role="1tU5fm">
+              <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+            </node>
+            <node concept="2OqwBi" id="3JJ_7nbYlq2" role="33vP2m">
+              <node concept="37vLTw" id="3JJ_7nbYlqh" role="2Oq$k0">
+                <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+              </node>
+              <node concept="liA8E" id="3JJ_7nbYlqP" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.putIfAbsent(java.lang.Object,java.lang.Object)" resolve="putIfAbsent" />
+                <node concept="2ShNRf" id="3JJ_7nbYlrp" role="37wK5m">
+                  <node concept="1pGfFk" id="3JJ_7nbYlrN" role="2ShVmc">
+                    <ref role="37wK5l" node="3JJ_7nbYlV0" resolve="IdentityWeakKey" />
+                    <node concept="37vLTw" id="3JJ_7nbYlsg" role="37wK5m">
+                      <ref role="3cqZAo" node="3JJ_7nbYluo" resolve="key" />
+                    </node>
+                    <node concept="37vLTw" id="3JJ_7nbYlsi" role="37wK5m">
+                      <ref role="3cqZAo" node="3JJ_7nbYl9j" resolve="staleKeys" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3JJ_7nbYlsB" role="37wK5m">
+                  <ref role="3cqZAo" node="3JJ_7nbYlnq" resolve="created" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3JJ_7nbYlsL" role="3cqZAp">
+          <node concept="3K4zz7" id="3JJ_7nbYlsP" role="3cqZAk">
+            <node concept="3clFbC" id="3JJ_7nbYlsY" role="3K4Cdx">
+              <node concept="10Nm6u" id="3JJ_7nbYlt6" role="3uHU7w" />
+              <node concept="37vLTw" id="3JJ_7nbYlte" role="3uHU7B">
+                <ref role="3cqZAo" node="3JJ_7nbYlpk" resolve="previous" />
+              </node>
+            </node>
+            <node concept="37vLTw" id="3JJ_7nbYltJ" role="3K4E3e">
+              <ref role="3cqZAo" node="3JJ_7nbYlnq" resolve="created" />
+            </node>
+            <node concept="37vLTw" id="3JJ_7nbYlt$" role="3K4GZi">
+              <ref role="3cqZAo" node="3JJ_7nbYlpk" resolve="previous" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16syzq" id="3JJ_7nbYluf" role="3clF45">
+        <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+      </node>
+      <node concept="3Tm1VV" id="3JJ_7nbYlum" role="1B3o_S" />
+      <node concept="37vLTG" id="3JJ_7nbYluo" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="3JJ_7nbYluD" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="3JJ_7nbYluL" role="3clF46">
+        <property role="TrG5h" value="factory" />
+        <node concept="3uibUv" id="3JJ_7nbYlvf" role="1tU5fm">
+          <ref role="3uigEE" to="82uw:~Function" resolve="Function" />
+          <node concept="3uibUv" id="3JJ_7nbYlvs" role="11_B2D">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+          <node concept="16syzq" id="3JJ_7nbYlw0" role="11_B2D">
+            <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlwy" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYlwW" role="jymVt">
+      <property role="TrG5h" value="put" />
+      <node concept="3clFbS" id="3JJ_7nbYlx1" role="3clF47">
+        <node concept="3clFbF" id="3JJ_7nbYlx6" role="3cqZAp">
+          <node concept="1rXfSq" id="3JJ_7nbYlxK" role="3clFbG">
+            <ref role="37wK5l" node="3JJ_7nbYlLV" resolve="expungeStaleEntries" />
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3JJ_7nbYly4" role="3cqZAp">
+          <node concept="2OqwBi" id="3JJ_7nbYlyC" role="3cqZAk">
+            <node concept="37vLTw" id="3JJ_7nbYlyX" role="2Oq$k0">
+              <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+            </node>
+            <node concept="liA8E" id="3JJ_7nbYlzq" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.put(java.lang.Object,java.lang.Object)" resolve="put" />
+              <node concept="2ShNRf" id="3JJ_7nbYlzs" role="37wK5m">
+                <node concept="1pGfFk" id="3JJ_7nbYlzW" role="2ShVmc">
+                  <ref role="37wK5l" node="3JJ_7nbYlV0" resolve="IdentityWeakKey" />
+                  <node concept="37vLTw" id="3JJ_7nbYlAb" role="37wK5m">
+                    <ref role="3cqZAo" node="3JJ_7nbYlCg" resolve="key" />
+                  </node>
+                  <node concept="37vLTw" id="3JJ_7nbYlAx" role="37wK5m">
+                    <ref role="3cqZAo" node="3JJ_7nbYl9j" resolve="staleKeys" />
+                  </node>
+                </node>
+              </node>
+              <node concept="37vLTw" id="3JJ_7nbYlB1" role="37wK5m">
+                <ref role="3cqZAo" node="3JJ_7nbYlD9" resolve="value" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16syzq" id="3JJ_7nbYlBr" role="3clF45">
+        <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+      </node>
+      <node concept="3Tm1VV" id="3JJ_7nbYlBL" role="1B3o_S" />
+      <node concept="37vLTG" id="3JJ_7nbYlCg" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="3JJ_7nbYlCP" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="3JJ_7nbYlD9" role="3clF46">
+        <property role="TrG5h" value="value" />
+        <node concept="16syzq" id="3JJ_7nbYlDn" role="1tU5fm">
+          <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlDu" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYlDO" role="jymVt">
+      <property role="TrG5h" value="remove" />
+      <node concept="3clFbS" id="3JJ_7nbYlDX" role="3clF47">
+        <node concept="3clFbF" id="3JJ_7nbYlEs" role="3cqZAp">
+          <node concept="1rXfSq" id="3JJ_7nbYlEE" role="3clFbG">
+            <ref role="37wK5l" node="3JJ_7nbYlLV" resolve="expungeStaleEntries" />
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3JJ_7nbYlEJ" role="3cqZAp">
+          <node concept="2OqwBi" id="3JJ_7nbYlEX" role="3cqZAk">
+            <node concept="37vLTw" id="3JJ_7nbYlFc" role="2Oq$k0">
+              <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+            </node>
+            <node concept="liA8E" id="3JJ_7nbYlFM" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.remove(java.lang.Object)" resolve="remove" />
+              <node concept="2ShNRf" id="3JJ_7nbYlG4" role="37wK5m">
+                <node concept="1pGfFk" id="3JJ_7nbYlG9" role="2ShVmc">
+                  <ref role="37wK5l" node="70GC_UnA0eU" resolve="LookupKey" />
+                  <node concept="37vLTw" id="3JJ_7nbYlGh" role="37wK5m">
+                    <ref role="3cqZAo" node="3JJ_7nbYlGS" resolve="key" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="16syzq" id="3JJ_7nbYlGw" role="3clF45">
+        <ref role="16sUi3" node="3JJ_7nbYmiO" resolve="V" />
+      </node>
+      <node concept="3Tm1VV" id="3JJ_7nbYlGC" role="1B3o_S" />
+      <node concept="37vLTG" id="3JJ_7nbYlGS" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="3uibUv" id="3JJ_7nbYlGX" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlH8" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYlHF" role="jymVt">
+      <property role="TrG5h" value="size" />
+      <node concept="3clFbS" id="3JJ_7nbYlI7" role="3clF47">
+        <node concept="3clFbF" id="3JJ_7nbYlIx" role="3cqZAp">
+          <node concept="1rXfSq" id="3JJ_7nbYlJ3" role="3clFbG">
+            <ref role="37wK5l" node="3JJ_7nbYlLV" resolve="expungeStaleEntries" />
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3JJ_7nbYlJE" role="3cqZAp">
+          <node concept="2OqwBi" id="3JJ_7nbYlJM" role="3cqZAk">
+            <node concept="37vLTw" id="3JJ_7nbYlKe" role="2Oq$k0">
+              <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+            </node>
+            <node concept="liA8E" id="3JJ_7nbYlKi" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.size()" resolve="size" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3JJ_7nbYlKw" role="3clF45" />
+      <node concept="3Tm1VV" id="3JJ_7nbYlKS" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlLo" role="jymVt" />
+    <node concept="3clFb_" id="3JJ_7nbYlLV" role="jymVt">
+      <property role="TrG5h" value="expungeStaleEntries" />
+      <node concept="3clFbS" id="3JJ_7nbYlLY" role="3clF47">
+        <node concept="3cpWs8" id="3JJ_7nbYlM1" role="3cqZAp">
+          <node concept="3cpWsn" id="3JJ_7nbYlM6" role="3cpWs9">
+            <property role="TrG5h" value="stale" />
+            <node concept="3uibUv" id="3JJ_7nbYlMz" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+            </node>
+            <node concept="2OqwBi" id="3JJ_7nbYlMP" role="33vP2m">
+              <node concept="37vLTw" id="3JJ_7nbYlN0" role="2Oq$k0">
+                <ref role="3cqZAo" node="3JJ_7nbYl9j" resolve="staleKeys" />
+              </node>
+              <node concept="liA8E" id="3JJ_7nbYlNt" role="2OqNvi">
+                <ref role="37wK5l" to="mpcv:~ReferenceQueue.poll()" resolve="poll" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3JJ_7nbYlND" role="3cqZAp">
+          <node concept="3y3z36" id="3JJ_7nbYlNM" role="2$JKZa">
+            <node concept="10Nm6u" id="3JJ_7nbYlOn" role="3uHU7w" />
+            <node concept="37vLTw" id="3JJ_7nbYlOs" role="3uHU7B">
+              <ref role="3cqZAo" node="3JJ_7nbYlM6" resolve="stale" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3JJ_7nbYlOO" role="2LFqv$">
+            <node concept="3clFbF" id="3JJ_7nbYlP4" role="3cqZAp">
+              <node concept="2OqwBi" id="3JJ_7nbYlPI" role="3clFbG">
+                <node concept="37vLTw" id="3JJ_7nbYlQ0" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3JJ_7nbYl5D" resolve="entries" />
+                </node>
+                <node concept="liA8E" id="3JJ_7nbYlQt" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.remove(java.lang.Object)" resolve="remove" />
+                  <node concept="37vLTw" id="3JJ_7nbYlQy" role="37wK5m">
+                    <ref role="3cqZAo" node="3JJ_7nbYlM6" resolve="stale" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3JJ_7nbYlR1" role="3cqZAp">
+              <node concept="37vLTI" id="3JJ_7nbYlR9" role="3clFbG">
+                <node concept="2OqwBi" id="3JJ_7nbYlRq" role="37vLTx">
+                  <node concept="37vLTw" id="3JJ_7nbYlRJ" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3JJ_7nbYl9j" resolve="staleKeys" />
+                  </node>
+                  <node concept="liA8E" id="3JJ_7nbYlS8" role="2OqNvi">
+                    <ref role="37wK5l" to="mpcv:~ReferenceQueue.poll()" resolve="poll" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3JJ_7nbYlSC" role="37vLTJ">
+                  <ref role="3cqZAo" node="3JJ_7nbYlM6" resolve="stale" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3JJ_7nbYlSE" role="3clF45" />
+      <node concept="3Tm6S6" id="3JJ_7nbYlSP" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3JJ_7nbYlTf" role="jymVt" />
+    <node concept="312cEu" id="3JJ_7nbYlTo" role="jymVt">
+      <property role="TrG5h" value="IdentityWeakKey" />
+      <property role="1EXbeo" value="true" />
+      <node concept="312cEg" id="3JJ_7nbYlTT" role="jymVt">
+        <property role="TrG5h" value="hash" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3JJ_7nbYlUp" role="1B3o_S" />
+        <node concept="10Oyi0" id="3JJ_7nbYlUH" role="1tU5fm" />
+      </node>
+      <node concept="2tJIrI" id="3JJ_7nbYlUV" role="jymVt" />
+      <node concept="3clFbW" id="3JJ_7nbYlV0" role="jymVt">
+        <node concept="3cqZAl" id="3JJ_7nbYlVx" role="3clF45" />
+        <node concept="3Tm1VV" id="3JJ_7nbYlW8" role="1B3o_S" />
+        <node concept="3clFbS" id="3JJ_7nbYlWw" role="3clF47">
+          <node concept="XkiVB" id="3JJ_7nbYlX4" role="3cqZAp">
+            <ref role="37wK5l" to="mpcv:~WeakReference.&lt;init&gt;(java.lang.Object,java.lang.ref.ReferenceQueue)" resolve="WeakReference" />
+            <node concept="37vLTw" id="3JJ_7nbYlXC" role="37wK5m">
+              <ref role="3cqZAo" node="3JJ_7nbYl$D" resolve="referent" />
+            </node>
+            <node concept="37vLTw" id="3JJ_7nbYlY5" role="37wK5m">
+              <ref role="3cqZAo" node="3JJ_7nbYl$W" resolve="queue" />
+            </node>
+          </node>
+          <node concept="3clFbF" id="3JJ_7nbYlYA" role="3cqZAp">
+            <node concept="37vLTI" id="3JJ_7nbYlYL" role="3clFbG">
+              <node concept="2YIFZM" id="3JJ_7nbYlZg" role="37vLTx">
+                <ref role="37wK5l" to="wyt6:~System.identityHashCode(java.lang.Object)" resolve="identityHashCode" />
+                <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                <node concept="37vLTw" id="3JJ_7nbYlZr" role="37wK5m">
+                  <ref role="3cqZAo" node="3JJ_7nbYl$D" resolve="referent" />
+                </node>
+              </node>
+              <node concept="2OqwBi" id="3JJ_7nbYlZE" role="37vLTJ">
+                <node concept="Xjq3P" id="3JJ_7nbYl$b" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3JJ_7nbYl$l" role="2OqNvi">
+                  <ref role="2Oxat5" node="3JJ_7nbYlTT" resolve="hash" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="3JJ_7nbYl$D" role="3clF46">
+          <property role="TrG5h" value="referent" />
+          <node concept="3uibUv" id="3JJ_7nbYl$F" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="3JJ_7nbYl$W" role="3clF46">
+          <property role="TrG5h" value="queue" />
+          <node concept="3uibUv" id="3JJ_7nbYl_j" role="1tU5fm">
+            <ref role="3uigEE" to="mpcv:~ReferenceQueue" resolve="ReferenceQueue" />
+            <node concept="3uibUv" id="3JJ_7nbYl_k" role="11_B2D">
+              <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="2tJIrI" id="3JJ_7nbYl_s" role="jymVt" />
+      <node concept="3clFb_" id="3JJ_7nbYm04" role="jymVt">
+        <property role="TrG5h" value="hashCode" />
+        <node concept="3clFbS" id="3JJ_7nbYm0D" role="3clF47">
+          <node concept="3cpWs6" id="3JJ_7nbYm14" role="3cqZAp">
+            <node concept="2OqwBi" id="3JJ_7nbYm1o" role="3cqZAk">
+              <node concept="Xjq3P" id="3JJ_7nbYm1_" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3JJ_7nbYm2g" role="2OqNvi">
+                <ref role="2Oxat5" node="3JJ_7nbYlTT" resolve="hash" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10Oyi0" id="3JJ_7nbYm2E" role="3clF45" />
+        <node concept="3Tm1VV" id="3JJ_7nbYm2K" role="1B3o_S" />
+        <node concept="2AHcQZ" id="3JJ_7nbYm3i" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="3JJ_7nbYm3j" role="jymVt" />
+      <node concept="3clFb_" id="3JJ_7nbYm3D" role="jymVt">
+        <property role="TrG5h" value="equals" />
+        <node concept="3clFbS" id="3JJ_7nbYm48" role="3clF47">
+          <node concept="3clFbJ" id="3JJ_7nbYm4B" role="3cqZAp">
+            <node concept="3clFbC" id="3JJ_7nbYm4N" role="3clFbw">
+              <node concept="Xjq3P" id="3JJ_7nbYm5b" role="3uHU7w" />
+              <node concept="37vLTw" id="3JJ_7nbYm5u" role="3uHU7B">
+                <ref role="3cqZAo" node="3JJ_7nbYmh8" resolve="other" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="3JJ_7nbYm65" role="3clFbx">
+              <node concept="3cpWs6" id="3JJ_7nbYm6g" role="3cqZAp">
+                <node concept="3clFbT" id="3JJ_7nbYm6v" role="3cqZAk">
+                  <property role="3clFbU" value="true" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="6mqKcWS60e3" role="3cqZAp">
+            <node concept="2ZW3vV" id="6mqKcWS60e6" role="3clFbw">
+              <node concept="3uibUv" id="6mqKcWS60e9" role="2ZW6by">
+                <ref role="3uigEE" node="70GC_UnA0e6" resolve="LookupKey" />
+              </node>
+              <node concept="37vLTw" id="6mqKcWS60eC" role="2ZW6bz">
+                <ref role="3cqZAo" node="3JJ_7nbYmh8" resolve="other" />
+              </node>
+            </node>
+            <node concept="3clFbS" id="6mqKcWS60eF" role="3clFbx">
+              <node concept="3cpWs6" id="6mqKcWS60eI" role="3cqZAp">
+                <node concept="2OqwBi" id="6mqKcWS60eL" role="3cqZAk">
+                  <node concept="37vLTw" id="6mqKcWS60eO" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3JJ_7nbYmh8" resolve="other" />
+                  </node>
+                  <node concept="liA8E" id="6mqKcWS60eR" role="2OqNvi">
+                    <ref role="37wK5l" to="wyt6:~Object.equals(java.lang.Object)" resolve="equals" />
+                    <node concept="Xjq3P" id="6mqKcWS60eU" role="37wK5m" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbJ" id="3JJ_7nbYm6x" role="3cqZAp">
+            <node concept="3fqX7Q" id="3JJ_7nbYm73" role="3clFbw">
+              <node concept="1eOMI4" id="3JJ_7nbYm7l" role="3fr31v">
+                <node concept="2ZW3vV" id="3JJ_7nbYm7L" role="1eOMHV">
+                  <node concept="3uibUv" id="3JJ_7nbYm86" role="2ZW6by">
+                    <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+                  </node>
+                  <node concept="37vLTw" id="3JJ_7nbYm8A" role="2ZW6bz">
+                    <ref role="3cqZAo" node="3JJ_7nbYmh8" resolve="other" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="3JJ_7nbYm8I" role="3clFbx">
+              <node concept="3cpWs6" id="3JJ_7nbYm9k" role="3cqZAp">
+                <node concept="3clFbT" id="3JJ_7nbYm9o" role="3cqZAk">
+                  <property role="3clFbU" value="false" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs8" id="3JJ_7nbYma0" role="3cqZAp">
+            <node concept="3cpWsn" id="3JJ_7nbYmar" role="3cpWs9">
+              <property role="TrG5h" value="referent" />
+              <node concept="3uibUv" id="3JJ_7nbYmaE" role="1tU5fm">
+                <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+              </node>
+              <node concept="2OqwBi" id="3JJ_7nbYmb4" role="33vP2m">
+                <node concept="Xjq3P" id="3JJ_7nbYmbi" role="2Oq$k0" />
+                <node concept="liA8E" id="3JJ_7nbYmbF" role="2OqNvi">
+                  <ref role="37wK5l" to="mpcv:~Reference.get()" resolve="get" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="3JJ_7nbYmc7" role="3cqZAp">
+            <node concept="1Wc70l" id="3JJ_7nbYmcf" role="3cqZAk">
+              <node concept="3clFbC" id="3JJ_7nbYmcT" role="3uHU7w">
+                <node concept="2OqwBi" id="3JJ_7nbYmd7" role="3uHU7w">
+                  <node concept="1eOMI4" id="3JJ_7nbYmdx" role="2Oq$k0">
+                    <node concept="10QFUN" id="3JJ_7nbYme2" role="1eOMHV">
+                      <node concept="3uibUv" id="3JJ_7nbYmeE" role="10QFUM">
+                        <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+                      </node>
+                      <node concept="37vLTw" id="3JJ_7nbYmf5" role="10QFUP">
+                        <ref role="3cqZAo" node="3JJ_7nbYmh8" resolve="other" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="3JJ_7nbYmfa" role="2OqNvi">
+                    <ref role="37wK5l" to="mpcv:~Reference.get()" resolve="get" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3JJ_7nbYmfb" role="3uHU7B">
+                  <ref role="3cqZAo" node="3JJ_7nbYmar" resolve="referent" />
+                </node>
+              </node>
+              <node concept="3y3z36" id="3JJ_7nbYmfE" role="3uHU7B">
+                <node concept="10Nm6u" id="3JJ_7nbYmfL" role="3uHU7w" />
+                <node concept="37vLTw" id="3JJ_7nbYmge" role="3uHU7B">
+                  <ref role="3cqZAo" node="3JJ_7nbYmar" resolve="referent" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="3JJ_7nbYmgk" role="3clF45" />
+        <node concept="3Tm1VV" id="3JJ_7nbYmgY" role="1B3o_S" />
+        <node concept="37vLTG" id="3JJ_7nbYmh8" role="3clF46">
+          <property role="TrG5h" value="other" />
+          <node concept="3uibUv" id="3JJ_7nbYmhb" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+        <node concept="2AHcQZ" id="3JJ_7nbYmhi" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="3JJ_7nbYmhF" role="1B3o_S" />
+      <node concept="3uibUv" id="3JJ_7nbYmhJ" role="1zkMxy">
+        <ref role="3uigEE" to="mpcv:~WeakReference" resolve="WeakReference" />
+        <node concept="3uibUv" id="3JJ_7nbYmif" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="70GC_UnA0e3" role="jymVt" />
+    <node concept="312cEu" id="70GC_UnA0e6" role="jymVt">
+      <property role="TrG5h" value="LookupKey" />
+      <property role="1EXbeo" value="true" />
+      <node concept="312cEg" id="70GC_UnA0e9" role="jymVt">
+        <property role="TrG5h" value="referent" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="70GC_UnA0eC" role="1B3o_S" />
+        <node concept="3uibUv" id="70GC_UnA0eF" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="312cEg" id="70GC_UnA0eI" role="jymVt">
+        <property role="TrG5h" value="hash" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="70GC_UnA0eL" role="1B3o_S" />
+        <node concept="10Oyi0" id="70GC_UnA0eO" role="1tU5fm" />
+      </node>
+      <node concept="2tJIrI" id="70GC_UnA0eR" role="jymVt" />
+      <node concept="3clFbW" id="70GC_UnA0eU" role="jymVt">
+        <node concept="3cqZAl" id="70GC_UnA0eX" role="3clF45" />
+        <node concept="3Tm1VV" id="70GC_UnA0ea" role="1B3o_S" />
+        <node concept="3clFbS" id="70GC_UnA0ed" role="3clF47">
+          <node concept="3clFbF" id="70GC_UnA0eg" role="3cqZAp">
+            <node concept="37vLTI" id="70GC_UnA0ej" role="3clFbG">
+              <node concept="37vLTw" id="70GC_UnA0em" role="37vLTx">
+                <ref role="3cqZAo" node="70GC_UnA0ep" resolve="referent" />
+              </node>
+              <node concept="2OqwBi" id="70GC_UnA0es" role="37vLTJ">
+                <node concept="Xjq3P" id="70GC_UnA0ev" role="2Oq$k0" />
+                <node concept="2OwXpG" id="70GC_UnA0ey" role="2OqNvi">
+                  <ref role="2Oxat5" node="70GC_UnA0e9" resolve="referent" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="70GC_UnA0e_" role="3cqZAp">
+            <node concept="37vLTI" id="70GC_UnA0f2" role="3clFbG">
+              <node concept="2YIFZM" id="70GC_UnA0f5" role="37vLTx">
+                <ref role="37wK5l" to="wyt6:~System.identityHashCode(java.lang.Object)" resolve="identityHashCode" />
+                <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                <node concept="37vLTw" id="70GC_UnA0f8" role="37wK5m">
+                  <ref role="3cqZAo" node="70GC_UnA0ep" resolve="referent" />
+                </node>
+              </node>
+              <node concept="2OqwBi" id="70GC_UnA0fB" role="37vLTJ">
+                <node concept="Xjq3P" id="70GC_UnA0fE" role="2Oq$k0" />
+                <node concept="2OwXpG" id="70GC_UnA0fH" role="2OqNvi">
+                  <ref role="2Oxat5" node="70GC_UnA0eI" resolve="hash" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="70GC_UnA0ep" role="3clF46">
+          <property role="TrG5h" value="referent" />
+          <node concept="3uibUv" id="70GC_UnA0fK" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+      </node>
+      <node concept="2tJIrI" id="70GC_UnA0fN" role="jymVt" />
+      <node concept="3clFb_" id="70GC_UnA0fQ" role="jymVt">
+        <property role="TrG5h" value="hashCode" />
+        <node concept="3clFbS" id="70GC_UnA0fT" role="3clF47">
+          <node concept="3cpWs6" id="70GC_UnA0fW" role="3cqZAp">
+            <node concept="2OqwBi" id="70GC_UnA0fZ" role="3cqZAk">
+              <node concept="Xjq3P" id="70GC_UnA0fc" role="2Oq$k0" />
+              <node concept="2OwXpG" id="70GC_UnA0ff" role="2OqNvi">
+                <ref role="2Oxat5" node="70GC_UnA0eI" resolve="hash" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10Oyi0" id="70GC_UnA0fi" role="3clF45" />
+        <node concept="3Tm1VV" id="70GC_UnA0fl" role="1B3o_S" />
+        <node concept="2AHcQZ" id="70GC_UnA0fo" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="70GC_UnA0fr" role="jymVt" />
+      <node concept="3clFb_" id="70GC_UnA0fu" role="jymVt">
+        <property role="TrG5h" value="equals" />
+        <node concept="3clFbS" id="70GC_UnA0fx" role="3clF47">
+          <node concept="3cpWs6" id="70GC_UnA0f$" role="3cqZAp">
+            <node concept="1Wc70l" id="70GC_UnA0g1" role="3cqZAk">
+              <node concept="2ZW3vV" id="70GC_UnA0g4" role="3uHU7B">
+                <node concept="3uibUv" id="70GC_UnA0g7" role="2ZW6by">
+                  <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+                </node>
+                <node concept="37vLTw" id="70GC_UnA0gA" role="2ZW6bz">
+                  <ref role="3cqZAo" node="70GC_UnA0gD" resolve="other" />
+                </node>
+              </node>
+              <node concept="3clFbC" id="70GC_UnA0gG" role="3uHU7w">
+                <node concept="2OqwBi" id="70GC_UnA0gJ" role="3uHU7B">
+                  <node concept="1eOMI4" id="70GC_UnA0gM" role="2Oq$k0">
+                    <node concept="10QFUN" id="70GC_UnA0gP" role="1eOMHV">
+                      <node concept="3uibUv" id="70GC_UnA0gS" role="10QFUM">
+                        <ref role="3uigEE" node="3JJ_7nbYlTo" resolve="IdentityWeakKey" />
+                      </node>
+                      <node concept="37vLTw" id="70GC_UnA0gV" role="10QFUP">
+                        <ref role="3cqZAo" node="70GC_UnA0gD" resolve="other" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="liA8E" id="70GC_UnA0gY" role="2OqNvi">
+                    <ref role="37wK5l" to="mpcv:~Reference.get()" resolve="get" />
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="70GC_UnA0gb" role="3uHU7w">
+                  <node concept="Xjq3P" id="70GC_UnA0ge" role="2Oq$k0" />
+                  <node concept="2OwXpG" id="70GC_UnA0gh" role="2OqNvi">
+                    <ref role="2Oxat5" node="70GC_UnA0e9" resolve="referent" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="70GC_UnA0gk" role="3clF45" />
+        <node concept="3Tm1VV" id="70GC_UnA0gn" role="1B3o_S" />
+        <node concept="37vLTG" id="70GC_UnA0gD" role="3clF46">
+          <property role="TrG5h" value="other" />
+          <node concept="3uibUv" id="70GC_UnA0gq" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+        <node concept="2AHcQZ" id="70GC_UnA0gt" role="2AJF6D">
+          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="70GC_UnA0gw" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="3JJ_7nbYmir" role="1B3o_S" />
+    <node concept="16euLQ" id="3JJ_7nbYmiO" role="16eVyc">
+      <property role="TrG5h" value="V" />
+    </node>
+  </node>
+  <node concept="3HP615" id="206NDCWfgc_">
+    <property role="TrG5h" value="FinalStateBackend" />
+    <node concept="3clFb_" id="206NDCWfecb" role="jymVt">
+      <property role="TrG5h" value="register" />
+      <node concept="3clFbS" id="206NDCWfecc" role="3clF47" />
+      <node concept="3cqZAl" id="206NDCWfecK" role="3clF45" />
+      <node concept="3Tm1VV" id="206NDCWfedm" role="1B3o_S" />
+      <node concept="37vLTG" id="206NDCWfedw" role="3clF46">
+        <property role="TrG5h" value="obj" />
+        <node concept="3uibUv" id="206NDCWfee3" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="206NDCWfeeH" role="3clF46">
+        <property role="TrG5h" value="checker" />
+        <node concept="3uibUv" id="206NDCWfeeN" role="1tU5fm">
+          <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="206NDCWfgdu" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="206NDCWfdWo">
+    <property role="TrG5h" value="CleanerFinalStateBackend" />
+    <node concept="2tJIrI" id="206NDCWfdWO" role="jymVt" />
+    <node concept="Wx3nA" id="206NDCWfdWR" role="jymVt">
+      <property role="TrG5h" value="INSTANCE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="206NDCWfdXi" role="1B3o_S" />
+      <node concept="3uibUv" id="206NDCWfdXR" role="1tU5fm">
+        <ref role="3uigEE" node="206NDCWfgc_" resolve="FinalStateBackend" />
+      </node>
+      <node concept="2ShNRf" id="206NDCWfdXS" role="33vP2m">
+        <node concept="HV5vD" id="206NDCWfdY7" role="2ShVmc">
+          <ref role="HV5vE" node="206NDCWfdWo" resolve="CleanerFinalStateBackend" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="206NDCWfdYu" role="jymVt" />
+    <node concept="312cEg" id="206NDCWfdZ2" role="jymVt">
+      <property role="TrG5h" value="cleaner" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="206NDCWfdZw" role="1B3o_S" />
+      <node concept="3uibUv" id="206NDCWfd$7" role="1tU5fm">
+        <ref role="3uigEE" to="mpcv:~Cleaner" resolve="Cleaner" />
+      </node>
+      <node concept="2YIFZM" id="206NDCWfd$9" role="33vP2m">
+        <ref role="37wK5l" to="mpcv:~Cleaner.create()" resolve="create" />
+        <ref role="1Pybhc" to="mpcv:~Cleaner" resolve="Cleaner" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="206NDCWfd$L" role="jymVt" />
+    <node concept="3clFb_" id="206NDCWfd_4" role="jymVt">
+      <property role="TrG5h" value="register" />
+      <node concept="3clFbS" id="206NDCWfd_l" role="3clF47">
+        <node concept="3clFbF" id="206NDCWfd_K" role="3cqZAp">
+          <node concept="2OqwBi" id="206NDCWfe05" role="3clFbG">
+            <node concept="37vLTw" id="206NDCWfe0y" role="2Oq$k0">
+              <ref role="3cqZAo" node="206NDCWfdZ2" resolve="cleaner" />
+            </node>
+            <node concept="liA8E" id="206NDCWfe1a" role="2OqNvi">
+              <ref role="37wK5l" to="mpcv:~Cleaner.register(java.lang.Object,java.lang.Runnable)" resolve="register" />
+              <node concept="37vLTw" id="206NDCWfe1d" role="37wK5m">
+                <ref role="3cqZAo" node="206NDCWfe8$" resolve="obj" />
+              </node>
+              <node concept="2ShNRf" id="206NDCWfe1l" role="37wK5m">
+                <node concept="YeOm9" id="206NDCWfe1E" role="2ShVmc">
+                  <node concept="1Y3b0j" id="206NDCWfe21" role="YeSDq">
+                    <property role="2bfB8j" value="true" />
+                    <ref role="1Y3XeK" to="wyt6:~Runnable" resolve="Runnable" />
+                    <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+                    <node concept="3clFb_" id="206NDCWfe2s" role="jymVt">
+                      <property role="TrG5h" value="run" />
+                      <node concept="3clFbS" id="206NDCWfe2X" role="3clF47">
+                        <node concept="3J1_TO" id="206NDCWfe3n" role="3cqZAp">
+                          <node concept="3clFbS" id="206NDCWfe3t" role="1zxBo7">
+                            <node concept="3clFbF" id="206NDCWfe3$" role="3cqZAp">
+                              <node concept="2OqwBi" id="206NDCWfe47" role="3clFbG">
+                                <node concept="37vLTw" id="206NDCWfe4k" role="2Oq$k0">
+                                  <ref role="3cqZAo" node="206NDCWfe9Q" resolve="checker" />
+                                </node>
+                                <node concept="liA8E" id="206NDCWfe4w" role="2OqNvi">
+                                  <ref role="37wK5l" node="3K5upD74hmR" resolve="ensureRightStateOrThrow" />
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="3uVAMA" id="206NDCWfe53" role="1zxBo5">
+                            <node concept="XOnhg" id="206NDCWfe57" role="1zc67B">
+                              <property role="TrG5h" value="e" />
+                              <node concept="nSUau" id="206NDCWfe5F" role="1tU5fm">
+                                <node concept="3uibUv" id="206NDCWfe6h" role="nSUat">
+                                  <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                                </node>
+                              </node>
+                            </node>
+                            <node concept="3clFbS" id="206NDCWfe6A" role="1zc67A">
+                              <node concept="3clFbF" id="206NDCWfe6K" role="3cqZAp">
+                                <node concept="2OqwBi" id="206NDCWfe6W" role="3clFbG">
+                                  <node concept="37vLTw" id="206NDCWfe79" role="2Oq$k0">
+                                    <ref role="3cqZAo" node="206NDCWfe57" resolve="e" />
+                                  </node>
+                                  <node concept="liA8E" id="206NDCWfe7J" role="2OqNvi">
+                                    <ref role="37wK5l" to="wyt6:~Throwable.printStackTrace()" resolve="printStackTrace" />
+                                  </node>
+                                </node>
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cqZAl" id="206NDCWfe83" role="3clF45" />
+                      <node concept="3Tm1VV" id="206NDCWfe8l" role="1B3o_S" />
+                      <node concept="2AHcQZ" id="206NDCWfe8n" role="2AJF6D">
+                        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+                      </node>
+                    </node>
+                    <node concept="3Tm1VV" id="206NDCWfe8C" role="1B3o_S" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="206NDCWfe8F" role="3clF45" />
+      <node concept="3Tm1VV" id="206NDCWfe8K" role="1B3o_S" />
+      <node concept="37vLTG" id="206NDCWfe8$" role="3clF46">
+        <property role="TrG5h" value="obj" />
+        <node concept="3uibUv" id="206NDCWfe9v" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="206NDCWfe9Q" role="3clF46">
+        <property role="TrG5h" value="checker" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3uibUv" id="206NDCWfeaa" role="1tU5fm">
+          <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+        </node>
+      </node>
+      <node concept="2AHcQZ" id="206NDCWfeav" role="2AJF6D">
+        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="206NDCWfeb7" role="1B3o_S" />
+    <node concept="3uibUv" id="206NDCWfebL" role="EKbjA">
+      <ref role="3uigEE" node="206NDCWfgc_" resolve="FinalStateBackend" />
+    </node>
+  </node>
+  <node concept="312cEu" id="206NDCWfeeO">
+    <property role="TrG5h" value="BatchedFinalStateBackend" />
+    <node concept="2tJIrI" id="3_LUZ2d1C5I" role="jymVt" />
+    <node concept="Wx3nA" id="206NDCWfef3" role="jymVt">
+      <property role="TrG5h" value="INSTANCE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3_LUZ2d1C6g" role="1B3o_S" />
+      <node concept="3uibUv" id="3_LUZ2d1C6z" role="1tU5fm">
+        <ref role="3uigEE" node="206NDCWfgc_" resolve="FinalStateBackend" />
+      </node>
+      <node concept="2ShNRf" id="3_LUZ2d1C76" role="33vP2m">
+        <node concept="1pGfFk" id="3_LUZ2d1C7v" role="2ShVmc">
+          <ref role="37wK5l" node="3_LUZ2d1Cih" resolve="BatchedFinalStateBackend" />
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3_LUZ2d1C7E" role="jymVt">
+      <property role="TrG5h" value="BATCH_SIZE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3_LUZ2d1C7R" role="1B3o_S" />
+      <node concept="10Oyi0" id="3_LUZ2d1C84" role="1tU5fm" />
+      <node concept="3cmrfG" id="3_LUZ2d1C8s" role="33vP2m">
+        <property role="3cmrfH" value="64" />
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3_LUZ2d1C8U" role="jymVt">
+      <property role="TrG5h" value="SWEEP_INTERVAL_MILLIS" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3_LUZ2d1C9o" role="1B3o_S" />
+      <node concept="3cpbJK" id="3_LUZ2d1C9O" role="1tU5fm" />
+      <node concept="3cmrfG" id="3_LUZ2d1Ca2" role="33vP2m">
+        <property role="3cmrfH" value="1000" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3_LUZ2d1CaG" role="jymVt" />
+    <node concept="312cEg" id="3_LUZ2d1Cbi" role="jymVt">
+      <property role="TrG5h" value="queue" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3_LUZ2d1Cbo" role="1B3o_S" />
+      <node concept="3uibUv" id="3_LUZ2d1Cbs" role="1tU5fm">
+        <ref role="3uigEE" to="mpcv:~ReferenceQueue" resolve="ReferenceQueue" />
+        <node concept="3uibUv" id="3_LUZ2d1CbB" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3_LUZ2d1Cc5" role="33vP2m">
+        <node concept="1pGfFk" id="3_LUZ2d1CcJ" role="2ShVmc">
+          <ref role="37wK5l" to="mpcv:~ReferenceQueue.&lt;init&gt;()" resolve="ReferenceQueue" />
+          <node concept="3uibUv" id="3_LUZ2d1Cd8" role="1pMfVU">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="3_LUZ2d1Cdw" role="jymVt">
+      <property role="TrG5h" value="batches" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3_LUZ2d1CdN" role="1B3o_S" />
+      <node concept="3uibUv" id="3_LUZ2d1CdT" role="1tU5fm">
+        <ref role="3uigEE" to="33ny:~Set" resolve="Set" />
+        <node concept="3uibUv" id="3_LUZ2d1Ce8" role="11_B2D">
+          <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+        </node>
+      </node>
+      <node concept="2YIFZM" id="3_LUZ2d1CeJ" role="33vP2m">
+        <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.newKeySet()" resolve="newKeySet" />
+        <ref role="1Pybhc" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+      </node>
+    </node>
+    <node concept="312cEg" id="3_LUZ2d1Cfd" role="jymVt">
+      <property role="TrG5h" value="currentBatch" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3_LUZ2d1CfK" role="1B3o_S" />
+      <node concept="3uibUv" id="3_LUZ2d1Cgi" role="1tU5fm">
+        <ref role="3uigEE" to="wyt6:~ThreadLocal" resolve="ThreadLocal" />
+        <node concept="3uibUv" id="3_LUZ2d1Cgp" role="11_B2D">
+          <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3_LUZ2d1CgP" role="33vP2m">
+        <node concept="1pGfFk" id="3_LUZ2d1Chm" role="2ShVmc">
+          <ref role="37wK5l" to="wyt6:~ThreadLocal.&lt;init&gt;()" resolve="ThreadLocal" />
+          <node concept="3uibUv" id="3_LUZ2d1ChI" role="1pMfVU">
+            <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3_LUZ2d1ChS" role="jymVt" />
+    <node concept="3clFbW" id="3_LUZ2d1Cih" role="jymVt">
+      <node concept="3cqZAl" id="3_LUZ2d1Cir" role="3clF45" />
+      <node concept="3Tm1VV" id="3_LUZ2d1CiK" role="1B3o_S" />
+      <node concept="3clFbS" id="3_LUZ2d1Cj5" role="3clF47">
+        <node concept="3cpWs8" id="3_LUZ2d1Cjz" role="3cqZAp">
+          <node concept="3cpWsn" id="3_LUZ2d1Ck5" role="3cpWs9">
+            <property role="TrG5h" value="drainer" />
+            <node concept="3uibUv" id="3_LUZ2d1Ckt" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+            </node>
+            <node concept="2ShNRf" id="3_LUZ2d1CkX" role="33vP2m">
+              <node concept="1pGfFk" id="3_LUZ2d1Clp" role="2ShVmc">
+                <ref role="37wK5l" to="wyt6:~Thread.&lt;init&gt;(java.lang.Runnable,java.lang.String)" resolve="Thread" />
+                <node concept="2ShNRf" id="3_LUZ2d1ClX" role="37wK5m">
+                  <node concept="YeOm9" id="3_LUZ2d1Cmi" role="2ShVmc">
+                    <node concept="1Y3b0j" id="3_LUZ2d1Cms" role="YeSDq">
+                      <property role="2bfB8j" value="true" />
+                      <ref role="1Y3XeK" to="wyt6:~Runnable" resolve="Runnable" />
+                      <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+                      <node concept="3clFb_" id="3_LUZ2d1Cn3" role="jymVt">
+                        <property role="TrG5h" value="run" />
+                        <node concept="3clFbS" id="3_LUZ2d1Cnr" role="3clF47">
+                          <node concept="3clFbF" id="3_LUZ2d1CnM" role="3cqZAp">
+                            <node concept="1rXfSq" id="3_LUZ2d1Coj" role="3clFbG">
+                              <ref role="37wK5l" node="3_LUZ2d1CH5" resolve="drain" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cqZAl" id="3_LUZ2d1Cox" role="3clF45" />
+                        <node concept="3Tm1VV" id="3_LUZ2d1CoW" role="1B3o_S" />
+                        <node concept="2AHcQZ" id="3_LUZ2d1CoY" role="2AJF6D">
+                          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+                        </node>
+                      </node>
+                      <node concept="3Tm1VV" id="3_LUZ2d1Cpu" role="1B3o_S" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="3_LUZ2d1Cpv" role="37wK5m">
+                  <property role="Xl_RC" value="apiSL-final-state-checks" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3_LUZ2d1CpZ" role="3cqZAp">
+          <node concept="2OqwBi" id="3_LUZ2d1Cqm" role="3clFbG">
+            <node concept="37vLTw" id="3_LUZ2d1CqX" role="2Oq$k0">
+              <ref role="3cqZAo" node="3_LUZ2d1Ck5" resolve="drainer" />
+            </node>
+            <node concept="liA8E" id="3_LUZ2d1Crs" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Thread.setDaemon(boolean)" resolve="setDaemon" />
+              <node concept="3clFbT" id="3_LUZ2d1CrT" role="37wK5m">
+                <property role="3clFbU" value="true" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3_LUZ2d1Cs4" role="3cqZAp">
+          <node concept="2OqwBi" id="3_LUZ2d1Csa" role="3clFbG">
+            <node concept="37vLTw" id="3_LUZ2d1Cso" role="2Oq$k0">
+              <ref role="3cqZAo" node="3_LUZ2d1Ck5" resolve="drainer" />
+            </node>
+            <node concept="liA8E" id="3_LUZ2d1Csq" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Thread.start()" resolve="start" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3clFb_" id="3_LUZ2d1CsG" role="jymVt">
+      <property role="TrG5h" value="register" />
+      <node concept="3clFbS" id="3_LUZ2d1CsS" role="3clF47">
+        <node concept="3cpWs8" id="3_LUZ2d1CsV" role="3cqZAp">
+          <node concept="3cpWsn" id="3_LUZ2d1Ctr" role="3cpWs9">
+            <property role="TrG5h" value="batch" />
+            <node concept="3uibUv" id="3_LUZ2d1Ct_" role="1tU5fm">
+              <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+            </node>
+            <node concept="2OqwBi" id="3_LUZ2d1Cuo" role="33vP2m">
+              <node concept="37vLTw" id="3_LUZ2d1CuU" role="2Oq$k0">
+                <ref role="3cqZAo" node="3_LUZ2d1Cfd" resolve="currentBatch" />
+              </node>
+              <node concept="liA8E" id="3_LUZ2d1Cv6" role="2OqNvi">
+                <ref role="37wK5l" to="wyt6:~ThreadLocal.get()" resolve="get" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3_LUZ2d1Cvl" role="3cqZAp">
+          <node concept="22lmx$" id="3_LUZ2d1Cvx" role="3clFbw">
+            <node concept="2OqwBi" id="3_LUZ2d1CvR" role="3uHU7w">
+              <node concept="37vLTw" id="3_LUZ2d1Cwa" role="2Oq$k0">
+                <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+              </node>
+              <node concept="liA8E" id="3_LUZ2d1CwL" role="2OqNvi">
+                <ref role="37wK5l" node="3_LUZ2d1DC9" resolve="isFull" />
+              </node>
+            </node>
+            <node concept="3clFbC" id="3_LUZ2d1Cx6" role="3uHU7B">
+              <node concept="10Nm6u" id="3_LUZ2d1CxJ" role="3uHU7w" />
+              <node concept="37vLTw" id="3_LUZ2d1CxR" role="3uHU7B">
+                <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3_LUZ2d1CxU" role="3clFbx">
+            <node concept="3clFbF" id="3_LUZ2d1Cx_" role="3cqZAp">
+              <node concept="37vLTI" id="3_LUZ2d1Cyd" role="3clFbG">
+                <node concept="2ShNRf" id="3_LUZ2d1CyN" role="37vLTx">
+                  <node concept="1pGfFk" id="3_LUZ2d1CyR" role="2ShVmc">
+                    <ref role="37wK5l" node="3_LUZ2d1Dxq" resolve="Batch" />
+                    <node concept="2YIFZM" id="3_LUZ2d1Czi" role="37wK5m">
+                      <ref role="37wK5l" to="wyt6:~Thread.currentThread()" resolve="currentThread" />
+                      <ref role="1Pybhc" to="wyt6:~Thread" resolve="Thread" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3_LUZ2d1Czm" role="37vLTJ">
+                  <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3_LUZ2d1Czo" role="3cqZAp">
+              <node concept="2OqwBi" id="3_LUZ2d1Czx" role="3clFbG">
+                <node concept="37vLTw" id="3_LUZ2d1CzK" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3_LUZ2d1Cdw" resolve="batches" />
+                </node>
+                <node concept="liA8E" id="3_LUZ2d1CzN" role="2OqNvi">
+                  <ref role="37wK5l" to="33ny:~Set.add(java.lang.Object)" resolve="add" />
+                  <node concept="37vLTw" id="3_LUZ2d1CA1" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3_LUZ2d1CAg" role="3cqZAp">
+              <node concept="2OqwBi" id="3_LUZ2d1CAQ" role="3clFbG">
+                <node concept="37vLTw" id="3_LUZ2d1CA_" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3_LUZ2d1Cfd" resolve="currentBatch" />
+                </node>
+                <node concept="liA8E" id="3_LUZ2d1CBk" role="2OqNvi">
+                  <ref role="37wK5l" to="wyt6:~ThreadLocal.set(java.lang.Object)" resolve="set" />
+                  <node concept="37vLTw" id="3_LUZ2d1CBE" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3_LUZ2d1CBY" role="3cqZAp">
+          <node concept="2OqwBi" id="3_LUZ2d1CCn" role="3clFbG">
+            <node concept="37vLTw" id="3_LUZ2d1CCJ" role="2Oq$k0">
+              <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+            </node>
+            <node concept="liA8E" id="3_LUZ2d1CCS" role="2OqNvi">
+              <ref role="37wK5l" node="3_LUZ2d1DEs" resolve="add" />
+              <node concept="2ShNRf" id="3_LUZ2d1CDk" role="37wK5m">
+                <node concept="1pGfFk" id="3_LUZ2d1CDt" role="2ShVmc">
+                  <ref role="37wK5l" node="3_LUZ2d1DTO" resolve="CheckedReference" />
+                  <node concept="37vLTw" id="3_LUZ2d1CDE" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1CFx" resolve="obj" />
+                  </node>
+                  <node concept="37vLTw" id="3_LUZ2d1CE1" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1CFQ" resolve="checker" />
+                  </node>
+                  <node concept="37vLTw" id="3_LUZ2d1CEj" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1Cbi" resolve="queue" />
+                  </node>
+                  <node concept="37vLTw" id="3_LUZ2d1CEB" role="37wK5m">
+                    <ref role="3cqZAo" node="3_LUZ2d1Ctr" resolve="batch" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3_LUZ2d1CF6" role="3clF45" />
+      <node concept="3Tm1VV" id="3_LUZ2d1CFe" role="1B3o_S" />
+      <node concept="37vLTG" id="3_LUZ2d1CFx" role="3clF46">
+        <property role="TrG5h" value="obj" />
+        <node concept="3uibUv" id="3_LUZ2d1CFB" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="3_LUZ2d1CFQ" role="3clF46">
+        <property role="TrG5h" value="checker" />
+        <node concept="3uibUv" id="3_LUZ2d1CGd" role="1tU5fm">
+          <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+        </node>
+      </node>
+      <node concept="2AHcQZ" id="3_LUZ2d1CGK" role="2AJF6D">
+        <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+      </node>
+    </node>
+    <node concept="3clFb_" id="3_LUZ2d1CH5" role="jymVt">
+      <property role="TrG5h" value="drain" />
+      <node concept="3clFbS" id="3_LUZ2d1CHk" role="3clF47">
+        <node concept="3cpWs8" id="3_LUZ2d1CHu" role="3cqZAp">
+          <node concept="3cpWsn" id="3_LUZ2d1CI4" role="3cpWs9">
+            <property role="TrG5h" value="drained" />
+            <node concept="10Q1$e" id="3_LUZ2d1CIH" role="1tU5fm">
+              <node concept="3uibUv" id="3_LUZ2d1CJ8" role="10Q1$1">
+                <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+              </node>
+            </node>
+            <node concept="2ShNRf" id="3_LUZ2d1CJI" role="33vP2m">
+              <node concept="3$_iS1" id="3_LUZ2d1CJL" role="2ShVmc">
+                <node concept="3uibUv" id="3_LUZ2d1CJ_" role="3$_nBY">
+                  <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+                </node>
+                <node concept="3$GHV9" id="3_LUZ2d1CKi" role="3$GQph">
+                  <node concept="37vLTw" id="3_LUZ2d1CKM" role="3$I4v7">
+                    <ref role="3cqZAo" node="3_LUZ2d1C7E" resolve="BATCH_SIZE" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3_LUZ2d1CLk" role="3cqZAp">
+          <node concept="3cpWsn" id="3_LUZ2d1CLy" role="3cpWs9">
+            <property role="TrG5h" value="nextSweep" />
+            <node concept="3cpbJK" id="3_LUZ2d1CL_" role="1tU5fm" />
+            <node concept="3cpWs3" id="3_LUZ2d1CMw" role="33vP2m">
+              <node concept="37vLTw" id="3_LUZ2d1CML" role="3uHU7w">
+                <ref role="3cqZAo" node="3_LUZ2d1C8U" resolve="SWEEP_INTERVAL_MILLIS" />
+              </node>
+              <node concept="2YIFZM" id="3_LUZ2d1CMX" role="3uHU7B">
+                <ref role="37wK5l" to="wyt6:~System.currentTimeMillis()" resolve="currentTimeMillis" />
+                <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3_LUZ2d1CNx" role="3cqZAp">
+          <node concept="3clFbT" id="3_LUZ2d1CNF" role="2$JKZa">
+            <property role="3clFbU" value="true" />
+          </node>
+          <node concept="3clFbS" id="3_LUZ2d1CNN" role="2LFqv$">
+            <node concept="3J1_TO" id="3_LUZ2d1CO9" role="3cqZAp">
+              <node concept="3clFbS" id="3_LUZ2d1COf" role="1zxBo7">
+                <node concept="3cpWs8" id="3_LUZ2d1COl" role="3cqZAp">
+                  <node concept="3cpWsn" id="3_LUZ2d1COJ" role="3cpWs9">
+                    <property role="TrG5h" value="ref" />
+                    <node concept="3uibUv" id="3_LUZ2d1COO" role="1tU5fm">
+                      <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+                    </node>
+                    <node concept="10QFUN" id="3_LUZ2d1COR" role="33vP2m">
+                      <node concept="3uibUv" id="3_LUZ2d1CPp" role="10QFUM">
+                        <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+                      </node>
+                      <node concept="2OqwBi" id="3_LUZ2d1CPL" role="10QFUP">
+                        <node concept="37vLTw" id="3_LUZ2d1CPT" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3_LUZ2d1Cbi" resolve="queue" />
+                        </node>
+                        <node concept="liA8E" id="3_LUZ2d1CPX" role="2OqNvi">
+                          <ref role="37wK5l" to="mpcv:~ReferenceQueue.remove(long)" resolve="remove" />
+                          <node concept="37vLTw" id="3_LUZ2d1CQ8" role="37wK5m">
+                            <ref role="3cqZAo" node="3_LUZ2d1C8U" resolve="SWEEP_INTERVAL_MILLIS" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="3_LUZ2d1CQF" role="3cqZAp">
+                  <node concept="3cpWsn" id="3_LUZ2d1CQ_" role="3cpWs9">
+                    <property role="TrG5h" value="count" />
+                    <node concept="10Oyi0" id="3_LUZ2d1CRp" role="1tU5fm" />
+                    <node concept="3cmrfG" id="3_LUZ2d1CRM" role="33vP2m">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="2$JKZl" id="3_LUZ2d1CSl" role="3cqZAp">
+                  <node concept="3y3z36" id="3_LUZ2d1CSu" role="2$JKZa">
+                    <node concept="10Nm6u" id="3_LUZ2d1CSW" role="3uHU7w" />
+                    <node concept="37vLTw" id="3_LUZ2d1CT7" role="3uHU7B">
+                      <ref role="3cqZAo" node="3_LUZ2d1COJ" resolve="ref" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3_LUZ2d1CTC" role="2LFqv$">
+                    <node concept="3clFbF" id="3_LUZ2d1CTT" role="3cqZAp">
+                      <node concept="37vLTI" id="3_LUZ2d1CUe" role="3clFbG">
+                        <node concept="37vLTw" id="3_LUZ2d1CUJ" role="37vLTx">
+                          <ref role="3cqZAo" node="3_LUZ2d1COJ" resolve="ref" />
+                        </node>
+                        <node concept="AH0OO" id="3_LUZ2d1CV8" role="37vLTJ">
+                          <node concept="37vLTw" id="3_LUZ2d1CVs" role="AHEQo">
+                            <ref role="3cqZAo" node="3_LUZ2d1CQ_" resolve="count" />
+                          </node>
+                          <node concept="37vLTw" id="3_LUZ2d1CW3" role="AHHXb">
+                            <ref role="3cqZAo" node="3_LUZ2d1CI4" resolve="drained" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3_LUZ2d1CWd" role="3cqZAp">
+                      <node concept="3uNrnE" id="3_LUZ2d1CWJ" role="3clFbG">
+                        <node concept="37vLTw" id="3_LUZ2d1CXl" role="2$L3a6">
+                          <ref role="3cqZAo" node="3_LUZ2d1CQ_" resolve="count" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3_LUZ2d1CXq" role="3cqZAp">
+                      <node concept="37vLTI" id="3_LUZ2d1CXX" role="3clFbG">
+                        <node concept="3K4zz7" id="3_LUZ2d1CX_" role="37vLTx">
+                          <node concept="3eOVzh" id="3_LUZ2d1CY0" role="3K4Cdx">
+                            <node concept="37vLTw" id="3_LUZ2d1CYj" role="3uHU7w">
+                              <ref role="3cqZAo" node="3_LUZ2d1C7E" resolve="BATCH_SIZE" />
+                            </node>
+                            <node concept="37vLTw" id="3_LUZ2d1CYr" role="3uHU7B">
+                              <ref role="3cqZAo" node="3_LUZ2d1CQ_" resolve="count" />
+                            </node>
+                          </node>
+                          <node concept="10QFUN" id="3_LUZ2d1CZ2" role="3K4E3e">
+                            <node concept="3uibUv" id="3_LUZ2d1CZb" role="10QFUM">
+                              <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+                            </node>
+                            <node concept="2OqwBi" id="3_LUZ2d1CZw" role="10QFUP">
+                              <node concept="37vLTw" id="3_LUZ2d1C$3" role="2Oq$k0">
+                                <ref role="3cqZAo" node="3_LUZ2d1Cbi" resolve="queue" />
+                              </node>
+                              <node concept="liA8E" id="3_LUZ2d1C$h" role="2OqNvi">
+                                <ref role="37wK5l" to="mpcv:~ReferenceQueue.poll()" resolve="poll" />
+                              </node>
+                            </node>
+                          </node>
+                          <node concept="10Nm6u" id="3_LUZ2d1C$k" role="3K4GZi" />
+                        </node>
+                        <node concept="37vLTw" id="3_LUZ2d1C$q" role="37vLTJ">
+                          <ref role="3cqZAo" node="3_LUZ2d1COJ" resolve="ref" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="1Dw8fO" id="3_LUZ2d1C$Q" role="3cqZAp">
+                  <node concept="3cpWsn" id="3_LUZ2d1C_d" role="1Duv9x">
+                    <property role="TrG5h" value="i" />
+                    <node concept="10Oyi0" id="3_LUZ2d1C_t" role="1tU5fm" />
+                    <node concept="3cmrfG" id="3_LUZ2d1C_K" role="33vP2m">
+                      <property role="3cmrfH" value="0" />
+                    </node>
+                  </node>
+                  <node concept="3eOVzh" id="3_LUZ2d1D0l" role="1Dwp0S">
+                    <node concept="37vLTw" id="3_LUZ2d1D0N" role="3uHU7w">
+                      <ref role="3cqZAo" node="3_LUZ2d1CQ_" resolve="count" />
+                    </node>
+                    <node concept="37vLTw" id="3_LUZ2d1D11" role="3uHU7B">
+                      <ref role="3cqZAo" node="3_LUZ2d1C_d" resolve="i" />
+                    </node>
+                  </node>
+                  <node concept="3uNrnE" id="3_LUZ2d1D1o" role="1Dwrff">
+                    <node concept="37vLTw" id="3_LUZ2d1D1w" role="2$L3a6">
+                      <ref role="3cqZAo" node="3_LUZ2d1C_d" resolve="i" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3_LUZ2d1D1P" role="2LFqv$">
+                    <node concept="3cpWs8" id="3_LUZ2d1D1R" role="3cqZAp">
+                      <node concept="3cpWsn" id="3_LUZ2d1D1U" role="3cpWs9">
+                        <property role="TrG5h" value="batch" />
+                        <node concept="3uibUv" id="3_LUZ2d1D2m" role="1tU5fm">
+                          <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+                        </node>
+                        <node concept="2OqwBi" id="3_LUZ2d1D2U" role="33vP2m">
+                          <node concept="AH0OO" id="3_LUZ2d1D34" role="2Oq$k0">
+                            <node concept="37vLTw" id="3_LUZ2d1D3z" role="AHEQo">
+                              <ref role="3cqZAo" node="3_LUZ2d1C_d" resolve="i" />
+                            </node>
+                            <node concept="37vLTw" id="3_LUZ2d1D49" role="AHHXb">
+                              <ref role="3cqZAo" node="3_LUZ2d1CI4" resolve="drained" />
+                            </node>
+                          </node>
+                          <node concept="2OwXpG" id="3_LUZ2d1D4v" role="2OqNvi">
+                            <ref role="2Oxat5" node="3_LUZ2d1DRR" resolve="batch" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3_LUZ2d1D4x" role="3cqZAp">
+                      <node concept="2OqwBi" id="3_LUZ2d1D4K" role="3clFbG">
+                        <node concept="AH0OO" id="3_LUZ2d1D5c" role="2Oq$k0">
+                          <node concept="37vLTw" id="3_LUZ2d1D5o" role="AHEQo">
+                            <ref role="3cqZAo" node="3_LUZ2d1C_d" resolve="i" />
+                          </node>
+                          <node concept="37vLTw" id="3_LUZ2d1D5Z" role="AHHXb">
+                            <ref role="3cqZAo" node="3_LUZ2d1CI4" resolve="drained" />
+                          </node>
+                        </node>
+                        <node concept="liA8E" id="3_LUZ2d1D61" role="2OqNvi">
+                          <ref role="37wK5l" node="3_LUZ2d1E0D" resolve="check" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3_LUZ2d1D6p" role="3cqZAp">
+                      <node concept="37vLTI" id="3_LUZ2d1D6G" role="3clFbG">
+                        <node concept="10Nm6u" id="3_LUZ2d1D7h" role="37vLTx" />
+                        <node concept="AH0OO" id="3_LUZ2d1D7r" role="37vLTJ">
+                          <node concept="37vLTw" id="3_LUZ2d1D7B" role="AHEQo">
+                            <ref role="3cqZAo" node="3_LUZ2d1C_d" resolve="i" />
+                          </node>
+                          <node concept="37vLTw" id="3_LUZ2d1D7_" role="AHHXb">
+                            <ref role="3cqZAo" node="3_LUZ2d1CI4" resolve="drained" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbJ" id="3_LUZ2d1D8o" role="3cqZAp">
+                      <node concept="2OqwBi" id="3_LUZ2d1D8Q" role="3clFbw">
+                        <node concept="37vLTw" id="3_LUZ2d1D9q" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3_LUZ2d1D1U" resolve="batch" />
+                        </node>
+                        <node concept="liA8E" id="3_LUZ2d1D9r" role="2OqNvi">
+                          <ref role="37wK5l" node="3_LUZ2d1DIC" resolve="markChecked" />
+                        </node>
+                      </node>
+                      <node concept="3clFbS" id="3_LUZ2d1D9Z" role="3clFbx">
+                        <node concept="3clFbF" id="3_LUZ2d1Daf" role="3cqZAp">
+                          <node concept="2OqwBi" id="3_LUZ2d1DaN" role="3clFbG">
+                            <node concept="37vLTw" id="3_LUZ2d1DaW" role="2Oq$k0">
+                              <ref role="3cqZAo" node="3_LUZ2d1Cdw" resolve="batches" />
+                            </node>
+                            <node concept="liA8E" id="3_LUZ2d1Dbn" role="2OqNvi">
+                              <ref role="37wK5l" to="33ny:~Set.remove(java.lang.Object)" resolve="remove" />
+                              <node concept="37vLTw" id="3_LUZ2d1DbN" role="37wK5m">
+                                <ref role="3cqZAo" node="3_LUZ2d1D1U" resolve="batch" />
+                              </node>
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3_LUZ2d1Dci" role="3cqZAp">
+                  <node concept="2d3UOw" id="3_LUZ2d1DcV" role="3clFbw">
+                    <node concept="37vLTw" id="3_LUZ2d1Dde" role="3uHU7w">
+                      <ref role="3cqZAo" node="3_LUZ2d1CLy" resolve="nextSweep" />
+                    </node>
+                    <node concept="2YIFZM" id="3_LUZ2d1DdQ" role="3uHU7B">
+                      <ref role="37wK5l" to="wyt6:~System.currentTimeMillis()" resolve="currentTimeMillis" />
+                      <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3_LUZ2d1Dea" role="3clFbx">
+                    <node concept="3clFbF" id="3_LUZ2d1Dew" role="3cqZAp">
+                      <node concept="1rXfSq" id="3_LUZ2d1Df8" role="3clFbG">
+                        <ref role="37wK5l" node="3_LUZ2d1DjB" resolve="sweep" />
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3_LUZ2d1Dfp" role="3cqZAp">
+                      <node concept="37vLTI" id="3_LUZ2d1DfF" role="3clFbG">
+                        <node concept="3cpWs3" id="3_LUZ2d1DfR" role="37vLTx">
+                          <node concept="37vLTw" id="3_LUZ2d1Dge" role="3uHU7w">
+                            <ref role="3cqZAo" node="3_LUZ2d1C8U" resolve="SWEEP_INTERVAL_MILLIS" />
+                          </node>
+                          <node concept="2YIFZM" id="3_LUZ2d1Dgz" role="3uHU7B">
+                            <ref role="37wK5l" to="wyt6:~System.currentTimeMillis()" resolve="currentTimeMillis" />
+                            <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                          </node>
+                        </node>
+                        <node concept="37vLTw" id="3_LUZ2d1Dh3" role="37vLTJ">
+                          <ref role="3cqZAo" node="3_LUZ2d1CLy" resolve="nextSweep" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3uVAMA" id="3_LUZ2d1DhC" role="1zxBo5">
+                <node concept="XOnhg" id="3_LUZ2d1DhY" role="1zc67B">
+                  <property role="TrG5h" value="e" />
+                  <node concept="nSUau" id="3_LUZ2d1Dh$" role="1tU5fm">
+                    <node concept="3uibUv" id="3_LUZ2d1Dis" role="nSUat">
+                      <ref role="3uigEE" to="wyt6:~InterruptedException" resolve="InterruptedException" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbS" id="3_LUZ2d1Div" role="1zc67A">
+                  <node concept="3cpWs6" id="3_LUZ2d1Diz" role="3cqZAp" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3_LUZ2d1Djb" role="3clF45" />
+      <node concept="3Tm6S6" id="3_LUZ2d1Djh" role="1B3o_S" />
+    </node>
+    <node concept="3clFb_" id="3_LUZ2d1DjB" role="jymVt">
+      <property role="TrG5h" value="sweep" />
+      <node concept="3clFbS" id="3_LUZ2d1DjU" role="3clF47">
+        <node concept="3cpWs8" id="3_LUZ2d1Dko" role="3cqZAp">
+          <node concept="3cpWsn" id="3_LUZ2d1DkV" role="3cpWs9">
+            <property role="TrG5h" value="it" />
+            <node concept="3uibUv" id="3_LUZ2d1Dls" role="1tU5fm">
+              <ref role="3uigEE" to="33ny:~Iterator" resolve="Iterator" />
+              <node concept="3uibUv" id="3_LUZ2d1Dlu" role="11_B2D">
+                <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3_LUZ2d1Dlx" role="33vP2m">
+              <node concept="37vLTw" id="3_LUZ2d1DlX" role="2Oq$k0">
+                <ref role="3cqZAo" node="3_LUZ2d1Cdw" resolve="batches" />
+              </node>
+              <node concept="liA8E" id="3_LUZ2d1Dmy" role="2OqNvi">
+                <ref role="37wK5l" to="33ny:~Set.iterator()" resolve="iterator" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3_LUZ2d1Dn2" role="3cqZAp">
+          <node concept="2OqwBi" id="3_LUZ2d1Dnb" role="2$JKZa">
+            <node concept="37vLTw" id="3_LUZ2d1Dnz" role="2Oq$k0">
+              <ref role="3cqZAo" node="3_LUZ2d1DkV" resolve="it" />
+            </node>
+            <node concept="liA8E" id="3_LUZ2d1DnR" role="2OqNvi">
+              <ref role="37wK5l" to="33ny:~Iterator.hasNext()" resolve="hasNext" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3_LUZ2d1DnT" role="2LFqv$">
+            <node concept="3clFbJ" id="3_LUZ2d1Don" role="3cqZAp">
+              <node concept="2OqwBi" id="3_LUZ2d1DoI" role="3clFbw">
+                <node concept="2OqwBi" id="3_LUZ2d1DoS" role="2Oq$k0">
+                  <node concept="37vLTw" id="3_LUZ2d1DoU" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3_LUZ2d1DkV" resolve="it" />
+                  </node>
+                  <node concept="liA8E" id="3_LUZ2d1DoV" role="2OqNvi">
+                    <ref role="37wK5l" to="33ny:~Iterator.next()" resolve="next" />
+                  </node>
+                </node>
+                <node concept="liA8E" id="3_LUZ2d1Dpv" role="2OqNvi">
+                  <ref role="37wK5l" node="3_LUZ2d1DLH" resolve="isAbandoned" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3_LUZ2d1Dpz" role="3clFbx">
+                <node concept="3clFbF" id="3_LUZ2d1DpF" role="3cqZAp">
+                  <node concept="2OqwBi" id="3_LUZ2d1DpT" role="3clFbG">
+                    <node concept="37vLTw" id="3_LUZ2d1Dp$" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3_LUZ2d1DkV" resolve="it" />
+                    </node>
+                    <node concept="liA8E" id="3_LUZ2d1Dqu" role="2OqNvi">
+                      <ref role="37wK5l" to="33ny:~Iterator.remove()" resolve="remove" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3_LUZ2d1DqJ" role="3clF45" />
+      <node concept="3Tm6S6" id="3_LUZ2d1Drf" role="1B3o_S" />
+    </node>
+    <node concept="312cEu" id="3_LUZ2d1Drr" role="jymVt">
+      <property role="TrG5h" value="Batch" />
+      <property role="1EXbeo" value="true" />
+      <node concept="312cEg" id="3_LUZ2d1DrH" role="jymVt">
+        <property role="TrG5h" value="refs" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3_LUZ2d1Dsg" role="1B3o_S" />
+        <node concept="10Q1$e" id="3_LUZ2d1DsI" role="1tU5fm">
+          <node concept="3uibUv" id="3_LUZ2d1DsN" role="10Q1$1">
+            <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+          </node>
+        </node>
+        <node concept="2ShNRf" id="3_LUZ2d1DsY" role="33vP2m">
+          <node concept="3$_iS1" id="3_LUZ2d1DtA" role="2ShVmc">
+            <node concept="3uibUv" id="3_LUZ2d1DtX" role="3$_nBY">
+              <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+            </node>
+            <node concept="3$GHV9" id="3_LUZ2d1Dut" role="3$GQph">
+              <node concept="37vLTw" id="3_LUZ2d1DuJ" role="3$I4v7">
+                <ref role="3cqZAo" node="3_LUZ2d1C7E" resolve="BATCH_SIZE" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="312cEg" id="3_LUZ2d1Dvj" role="jymVt">
+        <property role="TrG5h" value="owner" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3_LUZ2d1Dvp" role="1B3o_S" />
+        <node concept="3uibUv" id="3_LUZ2d1DvV" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+      </node>
+      <node concept="312cEg" id="3_LUZ2d1Dw9" role="jymVt">
+        <property role="TrG5h" value="size" />
+        <node concept="3Tm6S6" id="3_LUZ2d1Dwa" role="1B3o_S" />
+        <node concept="10Oyi0" id="3_LUZ2d1Dwe" role="1tU5fm" />
+      </node>
+      <node concept="312cEg" id="3_LUZ2d1DwC" role="jymVt">
+        <property role="TrG5h" value="checked" />
+        <node concept="3Tm6S6" id="3_LUZ2d1DwX" role="1B3o_S" />
+        <node concept="10Oyi0" id="3_LUZ2d1Dw$" role="1tU5fm" />
+      </node>
+      <node concept="2tJIrI" id="3_LUZ2d1Dxd" role="jymVt" />
+      <node concept="3clFbW" id="3_LUZ2d1Dxq" role="jymVt">
+        <node concept="3cqZAl" id="3_LUZ2d1DxU" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1Dyd" role="1B3o_S" />
+        <node concept="3clFbS" id="3_LUZ2d1DyR" role="3clF47">
+          <node concept="3clFbF" id="3_LUZ2d1Dzd" role="3cqZAp">
+            <node concept="37vLTI" id="3_LUZ2d1Dzx" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DA9" role="37vLTx">
+                <ref role="3cqZAo" node="3_LUZ2d1DBL" resolve="owner" />
+              </node>
+              <node concept="2OqwBi" id="3_LUZ2d1DAj" role="37vLTJ">
+                <node concept="Xjq3P" id="3_LUZ2d1DAU" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3_LUZ2d1DBs" role="2OqNvi">
+                  <ref role="2Oxat5" node="3_LUZ2d1Dvj" resolve="owner" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="3_LUZ2d1DBL" role="3clF46">
+          <property role="TrG5h" value="owner" />
+          <node concept="3uibUv" id="3_LUZ2d1DC8" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFb_" id="3_LUZ2d1DC9" role="jymVt">
+        <property role="TrG5h" value="isFull" />
+        <node concept="3clFbS" id="3_LUZ2d1DCl" role="3clF47">
+          <node concept="3cpWs6" id="3_LUZ2d1DCI" role="3cqZAp">
+            <node concept="3clFbC" id="3_LUZ2d1DCS" role="3cqZAk">
+              <node concept="37vLTw" id="3_LUZ2d1DDh" role="3uHU7w">
+                <ref role="3cqZAo" node="3_LUZ2d1C7E" resolve="BATCH_SIZE" />
+              </node>
+              <node concept="37vLTw" id="3_LUZ2d1DDm" role="3uHU7B">
+                <ref role="3cqZAo" node="3_LUZ2d1Dw9" resolve="size" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="3_LUZ2d1DDT" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1DEc" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="3_LUZ2d1DEs" role="jymVt">
+        <property role="TrG5h" value="add" />
+        <node concept="3clFbS" id="3_LUZ2d1DEL" role="3clF47">
+          <node concept="3clFbF" id="3_LUZ2d1DF4" role="3cqZAp">
+            <node concept="37vLTI" id="3_LUZ2d1DFn" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DFp" role="37vLTx">
+                <ref role="3cqZAo" node="3_LUZ2d1DIp" resolve="ref" />
+              </node>
+              <node concept="AH0OO" id="3_LUZ2d1DFG" role="37vLTJ">
+                <node concept="37vLTw" id="3_LUZ2d1DGb" role="AHEQo">
+                  <ref role="3cqZAo" node="3_LUZ2d1Dw9" resolve="size" />
+                </node>
+                <node concept="37vLTw" id="3_LUZ2d1DGz" role="AHHXb">
+                  <ref role="3cqZAo" node="3_LUZ2d1DrH" resolve="refs" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="3_LUZ2d1DGS" role="3cqZAp">
+            <node concept="3uNrnE" id="3_LUZ2d1DH4" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DHt" role="2$L3a6">
+                <ref role="3cqZAo" node="3_LUZ2d1Dw9" resolve="size" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cqZAl" id="3_LUZ2d1DHx" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1DHV" role="1B3o_S" />
+        <node concept="37vLTG" id="3_LUZ2d1DIp" role="3clF46">
+          <property role="TrG5h" value="ref" />
+          <node concept="3uibUv" id="3_LUZ2d1DIB" role="1tU5fm">
+            <ref role="3uigEE" node="3_LUZ2d1DQD" resolve="CheckedReference" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFb_" id="3_LUZ2d1DIC" role="jymVt">
+        <property role="TrG5h" value="markChecked" />
+        <node concept="3clFbS" id="3_LUZ2d1DIW" role="3clF47">
+          <node concept="3clFbF" id="3_LUZ2d1DJt" role="3cqZAp">
+            <node concept="3uNrnE" id="3_LUZ2d1DJE" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DJX" role="2$L3a6">
+                <ref role="3cqZAo" node="3_LUZ2d1DwC" resolve="checked" />
+              </node>
+            </node>
+          </node>
+          <node concept="3cpWs6" id="3_LUZ2d1DK8" role="3cqZAp">
+            <node concept="3clFbC" id="3_LUZ2d1DKf" role="3cqZAk">
+              <node concept="37vLTw" id="3_LUZ2d1DKj" role="3uHU7w">
+                <ref role="3cqZAo" node="3_LUZ2d1C7E" resolve="BATCH_SIZE" />
+              </node>
+              <node concept="37vLTw" id="3_LUZ2d1DKz" role="3uHU7B">
+                <ref role="3cqZAo" node="3_LUZ2d1DwC" resolve="checked" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="3_LUZ2d1DL1" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1DLp" role="1B3o_S" />
+      </node>
+      <node concept="3clFb_" id="3_LUZ2d1DLH" role="jymVt">
+        <property role="TrG5h" value="isAbandoned" />
+        <node concept="3clFbS" id="3_LUZ2d1DMg" role="3clF47">
+          <node concept="3cpWs6" id="3_LUZ2d1DMh" role="3cqZAp">
+            <node concept="1Wc70l" id="3_LUZ2d1DMV" role="3cqZAk">
+              <node concept="3clFbC" id="3_LUZ2d1DM$" role="3uHU7w">
+                <node concept="37vLTw" id="3_LUZ2d1DNe" role="3uHU7w">
+                  <ref role="3cqZAo" node="3_LUZ2d1Dw9" resolve="size" />
+                </node>
+                <node concept="37vLTw" id="3_LUZ2d1DNB" role="3uHU7B">
+                  <ref role="3cqZAo" node="3_LUZ2d1DwC" resolve="checked" />
+                </node>
+              </node>
+              <node concept="3fqX7Q" id="3_LUZ2d1DO5" role="3uHU7B">
+                <node concept="2OqwBi" id="3_LUZ2d1DOu" role="3fr31v">
+                  <node concept="37vLTw" id="3_LUZ2d1DOG" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3_LUZ2d1Dvj" resolve="owner" />
+                  </node>
+                  <node concept="liA8E" id="3_LUZ2d1DPa" role="2OqNvi">
+                    <ref role="37wK5l" to="wyt6:~Thread.isAlive()" resolve="isAlive" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="10P_77" id="3_LUZ2d1DPO" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1DQm" role="1B3o_S" />
+      </node>
+      <node concept="3Tm6S6" id="3_LUZ2d1DQv" role="1B3o_S" />
+    </node>
+    <node concept="312cEu" id="3_LUZ2d1DQD" role="jymVt">
+      <property role="TrG5h" value="CheckedReference" />
+      <property role="1EXbeo" value="true" />
+      <node concept="312cEg" id="3_LUZ2d1DQV" role="jymVt">
+        <property role="TrG5h" value="checker" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3_LUZ2d1DRk" role="1B3o_S" />
+        <node concept="3uibUv" id="3_LUZ2d1DRJ" role="1tU5fm">
+          <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+        </node>
+      </node>
+      <node concept="312cEg" id="3_LUZ2d1DRR" role="jymVt">
+        <property role="TrG5h" value="batch" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3_LUZ2d1DSc" role="1B3o_S" />
+        <node concept="3uibUv" id="3_LUZ2d1DSz" role="1tU5fm">
+          <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+        </node>
+      </node>
+      <node concept="2tJIrI" id="3_LUZ2d1DTb" role="jymVt" />
+      <node concept="3clFbW" id="3_LUZ2d1DTO" role="jymVt">
+        <node concept="3cqZAl" id="3_LUZ2d1DU0" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1DU6" role="1B3o_S" />
+        <node concept="3clFbS" id="3_LUZ2d1DUD" role="3clF47">
+          <node concept="XkiVB" id="3_LUZ2d1DV4" role="3cqZAp">
+            <ref role="37wK5l" to="mpcv:~PhantomReference.&lt;init&gt;(java.lang.Object,java.lang.ref.ReferenceQueue)" resolve="PhantomReference" />
+            <node concept="37vLTw" id="3_LUZ2d1DVl" role="37wK5m">
+              <ref role="3cqZAo" node="3_LUZ2d1DZY" resolve="referent" />
+            </node>
+            <node concept="37vLTw" id="3_LUZ2d1DVz" role="37wK5m">
+              <ref role="3cqZAo" node="3_LUZ2d1D$Y" resolve="queue" />
+            </node>
+          </node>
+          <node concept="3clFbF" id="3_LUZ2d1DVV" role="3cqZAp">
+            <node concept="37vLTI" id="3_LUZ2d1DWx" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DWF" role="37vLTx">
+                <ref role="3cqZAo" node="3_LUZ2d1D$p" resolve="checker" />
+              </node>
+              <node concept="2OqwBi" id="3_LUZ2d1DWH" role="37vLTJ">
+                <node concept="Xjq3P" id="3_LUZ2d1DX1" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3_LUZ2d1DXp" role="2OqNvi">
+                  <ref role="2Oxat5" node="3_LUZ2d1DQV" resolve="checker" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="3_LUZ2d1DXY" role="3cqZAp">
+            <node concept="37vLTI" id="3_LUZ2d1DYw" role="3clFbG">
+              <node concept="37vLTw" id="3_LUZ2d1DYE" role="37vLTx">
+                <ref role="3cqZAo" node="3_LUZ2d1E06" resolve="batch" />
+              </node>
+              <node concept="2OqwBi" id="3_LUZ2d1DYV" role="37vLTJ">
+                <node concept="Xjq3P" id="3_LUZ2d1DZe" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3_LUZ2d1DZn" role="2OqNvi">
+                  <ref role="2Oxat5" node="3_LUZ2d1DRR" resolve="batch" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="3_LUZ2d1DZY" role="3clF46">
+          <property role="TrG5h" value="referent" />
+          <node concept="3uibUv" id="3_LUZ2d1D$2" role="1tU5fm">
+            <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="3_LUZ2d1D$p" role="3clF46">
+          <property role="TrG5h" value="checker" />
+          <node concept="3uibUv" id="3_LUZ2d1D$y" role="1tU5fm">
+            <ref role="3uigEE" node="3K5upD74hlY" resolve="FinalStateChecker" />
+          </node>
+        </node>
+        <node concept="37vLTG" id="3_LUZ2d1D$Y" role="3clF46">
+          <property role="TrG5h" value="queue" />
+          <node concept="3uibUv" id="3_LUZ2d1D_m" role="1tU5fm">
+            <ref role="3uigEE" to="mpcv:~ReferenceQueue" resolve="ReferenceQueue" />
+            <node concept="3uibUv" id="3_LUZ2d1D_v" role="11_B2D">
+              <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="3_LUZ2d1E06" role="3clF46">
+          <property role="TrG5h" value="batch" />
+          <node concept="3uibUv" id="3_LUZ2d1E0m" role="1tU5fm">
+            <ref role="3uigEE" node="3_LUZ2d1Drr" resolve="Batch" />
+          </node>
+        </node>
+      </node>
+      <node concept="3clFb_" id="3_LUZ2d1E0D" role="jymVt">
+        <property role="TrG5h" value="check" />
+        <node concept="3clFbS" id="3_LUZ2d1E0F" role="3clF47">
+          <node concept="3J1_TO" id="3_LUZ2d1E0M" role="3cqZAp">
+            <node concept="3clFbS" id="3_LUZ2d1E1m" role="1zxBo7">
+              <node concept="3clFbF" id="3_LUZ2d1E1T" role="3cqZAp">
+                <node concept="2OqwBi" id="3_LUZ2d1E2t" role="3clFbG">
+                  <node concept="37vLTw" id="3_LUZ2d1E2W" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3_LUZ2d1DQV" resolve="checker" />
+                  </node>
+                  <node concept="liA8E" id="3_LUZ2d1E3u" role="2OqNvi">
+                    <ref role="37wK5l" node="3K5upD74hmR" resolve="ensureRightStateOrThrow" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3uVAMA" id="3_LUZ2d1E3X" role="1zxBo5">
+              <node concept="XOnhg" id="3_LUZ2d1E49" role="1zc67B">
+                <property role="TrG5h" value="e" />
+                <node concept="nSUau" id="3_LUZ2d1E4F" role="1tU5fm">
+                  <node concept="3uibUv" id="3_LUZ2d1E52" role="nSUat">
+                    <ref role="3uigEE" to="wyt6:~Exception" resolve="Exception" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="3_LUZ2d1E5E" role="1zc67A">
+                <node concept="3clFbF" id="3_LUZ2d1E5P" role="3cqZAp">
+                  <node concept="2OqwBi" id="3_LUZ2d1E60" role="3clFbG">
+                    <node concept="37vLTw" id="3_LUZ2d1E6A" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3_LUZ2d1E49" resolve="e" />
+                    </node>
+                    <node concept="liA8E" id="3_LUZ2d1E6Z" role="2OqNvi">
+                      <ref role="37wK5l" to="wyt6:~Throwable.printStackTrace()" resolve="printStackTrace" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cqZAl" id="3_LUZ2d1E7i" role="3clF45" />
+        <node concept="3Tm1VV" id="3_LUZ2d1E7D" role="1B3o_S" />
+      </node>
+      <node concept="3Tm6S6" id="3_LUZ2d1E8a" role="1B3o_S" />
+      <node concept="3uibUv" id="3_LUZ2d1E8K" role="1zkMxy">
+        <ref role="3uigEE" to="mpcv:~PhantomReference" resolve="PhantomReference" />
+        <node concept="3uibUv" id="3_LUZ2d1E9e" role="11_B2D">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3_LUZ2d1E9n" role="1B3o_S" />
+    <node concept="3uibUv" id="3_LUZ2d1E9y" role="EKbjA">
+      <ref role="3uigEE" node="206NDCWfgc_" resolve="FinalStateBackend" />
+    </node>
+  </node>
+  <node concept="312cEu" id="3brRTWh$$hJ">
+    <property role="TrG5h" value="CheckSampler" />
+    <property role="1EXbeo" value="true" />
+    <node concept="312cEg" id="3brRTWh$$ii" role="jymVt">
+      <property role="TrG5h" value="parent" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3brRTWh$$iS" role="1B3o_S" />
+      <node concept="3uibUv" id="3brRTWh$$i$" role="1tU5fm">
+        <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+      </node>
+    </node>
+    <node concept="312cEg" id="3brRTWh$$j2" role="jymVt">
+      <property role="TrG5h" value="configuredRate" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3brRTWh$$jb" role="1B3o_S" />
+      <node concept="3uibUv" id="3brRTWh$$jM" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicInteger" resolve="AtomicInteger" />
+      </node>
+      <node concept="2ShNRf" id="3brRTWh$$j$" role="33vP2m">
+        <node concept="1pGfFk" id="3brRTWh$$kx" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~AtomicInteger.&lt;init&gt;()" resolve="AtomicInteger" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$kW" role="jymVt" />
+    <node concept="3clFbW" id="3brRTWh$$lo" role="jymVt">
+      <node concept="3cqZAl" id="3brRTWh$$lS" role="3clF45" />
+      <node concept="3Tm1VV" id="3brRTWh$$m3" role="1B3o_S" />
+      <node concept="3clFbS" id="3brRTWh$$ms" role="3clF47">
+        <node concept="3clFbF" id="3brRTWh$$mS" role="3cqZAp">
+          <node concept="37vLTI" id="3brRTWh$$mW" role="3clFbG">
+            <node concept="37vLTw" id="3brRTWh$$nk" role="37vLTx">
+              <ref role="3cqZAo" node="3brRTWh$$r8" resolve="parent" />
+            </node>
+            <node concept="2OqwBi" id="3brRTWh$$nU" role="37vLTJ">
+              <node concept="Xjq3P" id="3brRTWh$$oq" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3brRTWh$$o_" role="2OqNvi">
+                <ref role="2Oxat5" node="3brRTWh$$ii" resolve="parent" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3brRTWh$$pq" role="3cqZAp">
+          <node concept="2OqwBi" id="3brRTWh$$p$" role="3clFbG">
+            <node concept="Xjq3P" id="3brRTWh$$qd" role="2Oq$k0" />
+            <node concept="liA8E" id="3brRTWh$$qA" role="2OqNvi">
+              <ref role="37wK5l" node="3brRTWh$$zJ" resolve="setRate" />
+              <node concept="37vLTw" id="3brRTWh$$qK" role="37wK5m">
+                <ref role="3cqZAo" node="3brRTWh$$rH" resolve="rate" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="3brRTWh$$r8" role="3clF46">
+        <property role="TrG5h" value="parent" />
+        <node concept="3uibUv" id="3brRTWh$$rG" role="1tU5fm">
+          <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="3brRTWh$$rH" role="3clF46">
+        <property role="TrG5h" value="rate" />
+        <node concept="10Oyi0" id="3brRTWh$$s3" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$ss" role="jymVt" />
+    <node concept="3clFb_" id="3brRTWh$$sQ" role="jymVt">
+      <property role="TrG5h" value="getRate" />
+      <node concept="3clFbS" id="3brRTWh$$tf" role="3clF47">
+        <node concept="3cpWs8" id="3brRTWh$$tN" role="3cqZAp">
+          <node concept="3cpWsn" id="3brRTWh$$u6" role="3cpWs9">
+            <property role="TrG5h" value="configured" />
+            <node concept="10Oyi0" id="3brRTWh$$uc" role="1tU5fm" />
+            <node concept="2OqwBi" id="3brRTWh$$ut" role="33vP2m">
+              <node concept="37vLTw" id="3brRTWh$$u$" role="2Oq$k0">
+                <ref role="3cqZAo" node="3brRTWh$$j2" resolve="configuredRate" />
+              </node>
+              <node concept="liA8E" id="3brRTWh$$v8" role="2OqNvi">
+                <ref role="37wK5l" to="i5cy:~AtomicInteger.get()" resolve="get" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3brRTWh$$vD" role="3cqZAp">
+          <node concept="3K4zz7" id="3brRTWh$$vL" role="3cqZAk">
+            <node concept="3clFbC" id="3brRTWh$$wm" role="3K4Cdx">
+              <node concept="3cmrfG" id="3brRTWh$$wB" role="3uHU7w">
+                <property role="3cmrfH" value="0" />
+              </node>
+              <node concept="37vLTw" id="3brRTWh$$xb" role="3uHU7B">
+                <ref role="3cqZAo" node="3brRTWh$$u6" resolve="configured" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3brRTWh$$xz" role="3K4E3e">
+              <node concept="37vLTw" id="3brRTWh$$xG" role="2Oq$k0">
+                <ref role="3cqZAo" node="3brRTWh$$ii" resolve="parent" />
+              </node>
+              <node concept="liA8E" id="3brRTWh$$xZ" role="2OqNvi">
+                <ref role="37wK5l" node="3brRTWh$$sQ" resolve="getRate" />
+              </node>
+            </node>
+            <node concept="37vLTw" id="3brRTWh$$ym" role="3K4GZi">
+              <ref role="3cqZAo" node="3brRTWh$$u6" resolve="configured" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3brRTWh$$yJ" role="3clF45" />
+      <node concept="3Tm1VV" id="3brRTWh$$z4" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$zA" role="jymVt" />
+    <node concept="3clFb_" id="3brRTWh$$zJ" role="jymVt">
+      <property role="TrG5h" value="setRate" />
+      <node concept="3clFbS" id="3brRTWh$$zK" role="3clF47">
+        <node concept="3clFbJ" id="3brRTWh$$zU" role="3cqZAp">
+          <node concept="3eOVzh" id="3brRTWh$$Ag" role="3clFbw">
+            <node concept="3K4zz7" id="3brRTWh$$AA" role="3uHU7w">
+              <node concept="3clFbC" id="3brRTWh$$B0" role="3K4Cdx">
+                <node concept="10Nm6u" id="3brRTWh$$Bk" role="3uHU7w" />
+                <node concept="37vLTw" id="3brRTWh$$BQ" role="3uHU7B">
+                  <ref role="3cqZAo" node="3brRTWh$$ii" resolve="parent" />
+                </node>
+              </node>
+              <node concept="3cmrfG" id="3brRTWh$$BW" role="3K4E3e">
+                <property role="3cmrfH" value="1" />
+              </node>
+              <node concept="3cmrfG" id="3brRTWh$$Ck" role="3K4GZi">
+                <property role="3cmrfH" value="0" />
+              </node>
+            </node>
+            <node concept="37vLTw" id="3brRTWh$$CH" role="3uHU7B">
+              <ref role="3cqZAo" node="3brRTWh$$I0" resolve="rate" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3brRTWh$$Dc" role="3clFbx">
+            <node concept="YS8fn" id="3brRTWh$$Dl" role="3cqZAp">
+              <node concept="2ShNRf" id="3brRTWh$$DN" role="YScLw">
+                <node concept="1pGfFk" id="3brRTWh$$En" role="2ShVmc">
+                  <ref role="37wK5l" to="wyt6:~IllegalArgumentException.&lt;init&gt;(java.lang.String)" resolve="IllegalArgumentException" />
+                  <node concept="3cpWs3" id="3brRTWh$$Es" role="37wK5m">
+                    <node concept="37vLTw" id="3brRTWh$$EW" role="3uHU7w">
+                      <ref role="3cqZAo" node="3brRTWh$$I0" resolve="rate" />
+                    </node>
+                    <node concept="Xl_RD" id="3brRTWh$$Fg" role="3uHU7B">
+                      <property role="Xl_RC" value="Invalid sampling rate: " />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3brRTWh$$FC" role="3cqZAp">
+          <node concept="2OqwBi" id="3brRTWh$$FT" role="3clFbG">
+            <node concept="37vLTw" id="3brRTWh$$Gk" role="2Oq$k0">
+              <ref role="3cqZAo" node="3brRTWh$$j2" resolve="configuredRate" />
+            </node>
+            <node concept="liA8E" id="3brRTWh$$GB" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicInteger.set(int)" resolve="set" />
+              <node concept="37vLTw" id="3brRTWh$$GY" role="37wK5m">
+                <ref role="3cqZAo" node="3brRTWh$$I0" resolve="rate" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3brRTWh$$H9" role="3clF45" />
+      <node concept="3Tm1VV" id="3brRTWh$$HC" role="1B3o_S" />
+      <node concept="37vLTG" id="3brRTWh$$I0" role="3clF46">
+        <property role="TrG5h" value="rate" />
+        <node concept="10Oyi0" id="3brRTWh$$If" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$IB" role="jymVt" />
+    <node concept="3clFb_" id="3brRTWh$$I_" role="jymVt">
+      <property role="TrG5h" value="sample" />
+      <node concept="3clFbS" id="3brRTWh$$J1" role="3clF47">
+        <node concept="3cpWs8" id="3brRTWh$$Ji" role="3cqZAp">
+          <node concept="3cpWsn" id="3brRTWh$$Jx" role="3cpWs9">
+            <property role="TrG5h" value="rate" />
+            <node concept="10Oyi0" id="3brRTWh$$JM" role="1tU5fm" />
+            <node concept="1rXfSq" id="3brRTWh$$Kg" role="33vP2m">
+              <ref role="37wK5l" node="3brRTWh$$sQ" resolve="getRate" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3brRTWh$$Kv" role="3cqZAp">
+          <node concept="22lmx$" id="3brRTWh$$KA" role="3cqZAk">
+            <node concept="3clFbC" id="3brRTWh$$KW" role="3uHU7w">
+              <node concept="3cmrfG" id="3brRTWh$$Ll" role="3uHU7w">
+                <property role="3cmrfH" value="0" />
+              </node>
+              <node concept="2OqwBi" id="3brRTWh$$Lz" role="3uHU7B">
+                <node concept="2YIFZM" id="3brRTWh$$LA" role="2Oq$k0">
+                  <ref role="37wK5l" to="5zyv:~ThreadLocalRandom.current()" resolve="current" />
+                  <ref role="1Pybhc" to="5zyv:~ThreadLocalRandom" resolve="ThreadLocalRandom" />
+                </node>
+                <node concept="liA8E" id="3brRTWh$$LJ" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~ThreadLocalRandom.nextInt(int)" resolve="nextInt" />
+                  <node concept="37vLTw" id="3brRTWh$$M3" role="37wK5m">
+                    <ref role="3cqZAo" node="3brRTWh$$Jx" resolve="rate" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="2dkUwp" id="3brRTWh$$Mt" role="3uHU7B">
+              <node concept="3cmrfG" id="3brRTWh$$MS" role="3uHU7w">
+                <property role="3cmrfH" value="1" />
+              </node>
+              <node concept="37vLTw" id="3brRTWh$$Ns" role="3uHU7B">
+                <ref role="3cqZAo" node="3brRTWh$$Jx" resolve="rate" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10P_77" id="3brRTWh$$NL" role="3clF45" />
+      <node concept="3Tm1VV" id="3brRTWh$$O2" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="3brRTWh$$Ou" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="3brRTWh$$OI">
+    <property role="TrG5h" value="CheckSampling" />
+    <node concept="2tJIrI" id="3brRTWh$$Pf" role="jymVt" />
+    <node concept="Wx3nA" id="3brRTWh$$Pv" role="jymVt">
+      <property role="TrG5h" value="RATE_PROPERTY" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3brRTWh$$PF" role="1B3o_S" />
+      <node concept="17QB3L" id="3brRTWh$$PX" role="1tU5fm" />
+      <node concept="Xl_RD" id="3brRTWh$$Qs" role="33vP2m">
+        <property role="Xl_RC" value="apiSL.sampling.rate" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$QT" role="jymVt" />
+    <node concept="Wx3nA" id="3brRTWh$$QU" role="jymVt">
+      <property role="TrG5h" value="global" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3brRTWh$$R2" role="1B3o_S" />
+      <node concept="3uibUv" id="3brRTWh$$Rp" role="1tU5fm">
+        <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+      </node>
+      <node concept="2ShNRf" id="3brRTWh$$Rr" role="33vP2m">
+        <node concept="1pGfFk" id="3brRTWh$$RE" role="2ShVmc">
+          <ref role="37wK5l" node="3brRTWh$$lo" resolve="CheckSampler" />
+          <node concept="10Nm6u" id="3brRTWh$$RH" role="37wK5m" />
+          <node concept="2YIFZM" id="3brRTWh$$R$" role="37wK5m">
+            <ref role="37wK5l" to="wyt6:~Integer.getInteger(java.lang.String,int)" resolve="getInteger" />
+            <ref role="1Pybhc" to="wyt6:~Integer" resolve="Integer" />
+            <node concept="37vLTw" id="3brRTWh$$S0" role="37wK5m">
+              <ref role="3cqZAo" node="3brRTWh$$Pv" resolve="RATE_PROPERTY" />
+            </node>
+            <node concept="3cmrfG" id="3brRTWh$$Sw" role="37wK5m">
+              <property role="3cmrfH" value="1" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3brRTWh$$SN" role="jymVt">
+      <property role="TrG5h" value="samplers" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3brRTWh$$SV" role="1B3o_S" />
+      <node concept="3uibUv" id="3brRTWh$$Tm" role="1tU5fm">
+        <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+        <node concept="17QB3L" id="3brRTWh$$TA" role="11_B2D" />
+        <node concept="3uibUv" id="3brRTWh$$TF" role="11_B2D">
+          <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3brRTWh$$TU" role="33vP2m">
+        <node concept="1pGfFk" id="3brRTWh$$Ug" role="2ShVmc">
+          <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.&lt;init&gt;()" resolve="ConcurrentHashMap" />
+          <node concept="17QB3L" id="3brRTWh$$US" role="1pMfVU" />
+          <node concept="3uibUv" id="3brRTWh$$Vm" role="1pMfVU">
+            <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$VJ" role="jymVt" />
+    <node concept="2YIFZL" id="3brRTWh$$VX" role="jymVt">
+      <property role="TrG5h" value="global" />
+      <node concept="3clFbS" id="3brRTWh$$Wf" role="3clF47">
+        <node concept="3cpWs6" id="3brRTWh$$Wy" role="3cqZAp">
+          <node concept="37vLTw" id="3brRTWh$$WM" role="3cqZAk">
+            <ref role="3cqZAo" node="3brRTWh$$QU" resolve="global" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="3brRTWh$$Xh" role="3clF45">
+        <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+      </node>
+      <node concept="3Tm1VV" id="3brRTWh$$XP" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3brRTWh$$Yr" role="jymVt" />
+    <node concept="2YIFZL" id="3brRTWh$$YE" role="jymVt">
+      <property role="TrG5h" value="forKey" />
+      <node concept="3clFbS" id="3brRTWh$$Y$" role="3clF47">
+        <node concept="3cpWs8" id="3brRTWh$$Zg" role="3cqZAp">
+          <node concept="3cpWsn" id="3brRTWh$$Zr" role="3cpWs9">
+            <property role="TrG5h" value="sampler" />
+            <node concept="3uibUv" id="3brRTWh$$ZG" role="1tU5fm">
+              <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+            </node>
+            <node concept="2OqwBi" id="3brRTWh$$$f" role="33vP2m">
+              <node concept="37vLTw" id="3brRTWh$$$t" role="2Oq$k0">
+                <ref role="3cqZAo" node="3brRTWh$$SN" resolve="samplers" />
+              </node>
+              <node concept="liA8E" id="3brRTWh$$$U" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                <node concept="37vLTw" id="3brRTWh$$_r" role="37wK5m">
+                  <ref role="3cqZAo" node="3brRTWh$_cn" resolve="key" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3brRTWh$$_M" role="3cqZAp">
+          <node concept="3clFbC" id="3brRTWh$_0k" role="3clFbw">
+            <node concept="10Nm6u" id="3brRTWh$_0A" role="3uHU7w" />
+            <node concept="37vLTw" id="3brRTWh$_0X" role="3uHU7B">
+              <ref role="3cqZAo" node="3brRTWh$$Zr" resolve="sampler" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3brRTWh$_1f" role="3clFbx">
+            <node concept="3cpWs8" id="3brRTWh$_1O" role="3cqZAp">
+              <node concept="3cpWsn" id="3brRTWh$_1R" role="3cpWs9">
+                <property role="TrG5h" value="created" />
+                <node concept="3uibUv" id="3brRTWh$_2g" role="1tU5fm">
+                  <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+                </node>
+                <node concept="2ShNRf" id="3brRTWh$_2R" role="33vP2m">
+                  <node concept="1pGfFk" id="3brRTWh$_3n" role="2ShVmc">
+                    <ref role="37wK5l" node="3brRTWh$$lo" resolve="CheckSampler" />
+                    <node concept="37vLTw" id="3brRTWh$_3_" role="37wK5m">
+                      <ref role="3cqZAo" node="3brRTWh$$QU" resolve="global" />
+                    </node>
+                    <node concept="2YIFZM" id="3brRTWh$_42" role="37wK5m">
+                      <ref role="37wK5l" to="wyt6:~Integer.getInteger(java.lang.String,int)" resolve="getInteger" />
+                      <ref role="1Pybhc" to="wyt6:~Integer" resolve="Integer" />
+                      <node concept="3cpWs3" id="3brRTWh$_4r" role="37wK5m">
+                        <node concept="37vLTw" id="3brRTWh$_4t" role="3uHU7w">
+                          <ref role="3cqZAo" node="3brRTWh$_cn" resolve="key" />
+                        </node>
+                        <node concept="3cpWs3" id="3brRTWh$_4Y" role="3uHU7B">
+                          <node concept="Xl_RD" id="3brRTWh$_5x" role="3uHU7w">
+                            <property role="Xl_RC" value="." />
+                          </node>
+                          <node concept="37vLTw" id="3brRTWh$_5z" role="3uHU7B">
+                            <ref role="3cqZAo" node="3brRTWh$$Pv" resolve="RATE_PROPERTY" />
+                          </node>
+                        </node>
+                      </node>
+                      <node concept="3cmrfG" id="3brRTWh$_67" role="37wK5m">
+                        <property role="3cmrfH" value="0" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3brRTWh$_6r" role="3cqZAp">
+              <node concept="37vLTI" id="3brRTWh$_6_" role="3clFbG">
+                <node concept="2OqwBi" id="3brRTWh$_7g" role="37vLTx">
+                  <node concept="37vLTw" id="3brRTWh$_7A" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3brRTWh$$SN" resolve="samplers" />
+                  </node>
+                  <node concept="liA8E" id="3brRTWh$_83" role="2OqNvi">
+                    <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.putIfAbsent(java.lang.Object,java.lang.Object)" resolve="putIfAbsent" />
+                    <node concept="37vLTw" id="3brRTWh$_8k" role="37wK5m">
+                      <ref role="3cqZAo" node="3brRTWh$_cn" resolve="key" />
+                    </node>
+                    <node concept="37vLTw" id="3brRTWh$_8W" role="37wK5m">
+                      <ref role="3cqZAo" node="3brRTWh$_1R" resolve="created" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3brRTWh$_8X" role="37vLTJ">
+                  <ref role="3cqZAo" node="3brRTWh$$Zr" resolve="sampler" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="3brRTWh$_9l" role="3cqZAp">
+              <node concept="3clFbC" id="3brRTWh$_9o" role="3clFbw">
+                <node concept="10Nm6u" id="3brRTWh$_9Y" role="3uHU7w" />
+                <node concept="37vLTw" id="3brRTWh$_a7" role="3uHU7B">
+                  <ref role="3cqZAo" node="3brRTWh$$Zr" resolve="sampler" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3brRTWh$_aB" role="3clFbx">
+                <node concept="3clFbF" id="3brRTWh$_aC" role="3cqZAp">
+                  <node concept="37vLTI" id="3brRTWh$_aS" role="3clFbG">
+                    <node concept="37vLTw" id="3brRTWh$_b2" role="37vLTx">
+                      <ref role="3cqZAo" node="3brRTWh$_1R" resolve="created" />
+                    </node>
+                    <node concept="37vLTw" id="3brRTWh$_be" role="37vLTJ">
+                      <ref role="3cqZAo" node="3brRTWh$$Zr" resolve="sampler" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3brRTWh$_bL" role="3cqZAp">
+          <node concept="37vLTw" id="3brRTWh$_bN" role="3cqZAk">
+            <ref role="3cqZAo" node="3brRTWh$$Zr" resolve="sampler" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="3brRTWh$_bR" role="3clF45">
+        <ref role="3uigEE" node="3brRTWh$$hJ" resolve="CheckSampler" />
+      </node>
+      <node concept="3Tm1VV" id="3brRTWh$_bZ" role="1B3o_S" />
+      <node concept="37vLTG" id="3brRTWh$_cn" role="3clF46">
+        <property role="TrG5h" value="key" />
+        <node concept="17QB3L" id="3brRTWh$_cJ" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3brRTWh$_d0" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="3kMdKrGp7I4">
+    <property role="TrG5h" value="MisuseRingBuffer" />
+    <property role="1EXbeo" value="true" />
+    <node concept="312cEg" id="3kMdKrGp7Ig" role="jymVt">
+      <property role="TrG5h" value="mask" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp7Ih" role="1B3o_S" />
+      <node concept="10Oyi0" id="3kMdKrGp7IP" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="3kMdKrGp7Jg" role="jymVt">
+      <property role="TrG5h" value="sequences" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp7Js" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp7JO" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicIntegerArray" resolve="AtomicIntegerArray" />
+      </node>
+    </node>
+    <node concept="312cEg" id="3kMdKrGp7K8" role="jymVt">
+      <property role="TrG5h" value="sites" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp7Km" role="1B3o_S" />
+      <node concept="10Q1$e" id="3kMdKrGp7KO" role="1tU5fm">
+        <node concept="10Oyi0" id="3kMdKrGp7Lm" role="10Q1$1" />
+      </node>
+    </node>
+    <node concept="312cEg" id="3kMdKrGp7LL" role="jymVt">
+      <property role="TrG5h" value="threads" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp7Mn" role="1B3o_S" />
+      <node concept="10Q1$e" id="3kMdKrGp7MS" role="1tU5fm">
+        <node concept="3uibUv" id="3kMdKrGp7Np" role="10Q1$1">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="3kMdKrGp7Ny" role="jymVt">
+      <property role="TrG5h" value="tail" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp7NY" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp7NZ" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicInteger" resolve="AtomicInteger" />
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp7Oy" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp7OV" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~AtomicInteger.&lt;init&gt;()" resolve="AtomicInteger" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="3kMdKrGp7Px" role="jymVt">
+      <property role="TrG5h" value="head" />
+      <node concept="3Tm6S6" id="3kMdKrGp7PZ" role="1B3o_S" />
+      <node concept="10Oyi0" id="3kMdKrGp7Qo" role="1tU5fm" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp7QS" role="jymVt" />
+    <node concept="3clFbW" id="3kMdKrGp7R7" role="jymVt">
+      <node concept="3cqZAl" id="3kMdKrGp7RA" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp7Sc" role="1B3o_S" />
+      <node concept="3clFbS" id="3kMdKrGp7SJ" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGp7SN" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGp7SQ" role="3cpWs9">
+            <property role="TrG5h" value="size" />
+            <node concept="10Oyi0" id="3kMdKrGp7S_" role="1tU5fm" />
+            <node concept="3cmrfG" id="3kMdKrGp7T7" role="33vP2m">
+              <property role="3cmrfH" value="1" />
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3kMdKrGp7TH" role="3cqZAp">
+          <node concept="3eOVzh" id="3kMdKrGp7U1" role="2$JKZa">
+            <node concept="37vLTw" id="3kMdKrGp7UD" role="3uHU7w">
+              <ref role="3cqZAo" node="3kMdKrGp8cv" resolve="capacity" />
+            </node>
+            <node concept="37vLTw" id="3kMdKrGp7UG" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp7UN" role="2LFqv$">
+            <node concept="3clFbF" id="3kMdKrGp7Vo" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGp7VS" role="3clFbG">
+                <node concept="1GRDU$" id="3kMdKrGp7VV" role="37vLTx">
+                  <node concept="3cmrfG" id="3kMdKrGp7Wn" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp7WF" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3kMdKrGp7Xc" role="37vLTJ">
+                  <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp7Xq" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp7XT" role="3clFbG">
+            <node concept="3cpWsd" id="3kMdKrGp7Ys" role="37vLTx">
+              <node concept="3cmrfG" id="3kMdKrGp7YX" role="3uHU7w">
+                <property role="3cmrfH" value="1" />
+              </node>
+              <node concept="37vLTw" id="3kMdKrGp7Z6" role="3uHU7B">
+                <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp7Zm" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp7ZQ" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp7$e" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp7Ig" resolve="mask" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp7$z" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp7$M" role="3clFbG">
+            <node concept="2ShNRf" id="3kMdKrGp7$_" role="37vLTx">
+              <node concept="1pGfFk" id="3kMdKrGp7_d" role="2ShVmc">
+                <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.&lt;init&gt;(int)" resolve="AtomicIntegerArray" />
+                <node concept="37vLTw" id="3kMdKrGp7_D" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp80e" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp80D" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp80E" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp7Jg" resolve="sequences" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp80Q" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp80U" role="3clFbG">
+            <node concept="2ShNRf" id="3kMdKrGp81c" role="37vLTx">
+              <node concept="3$_iS1" id="3kMdKrGp81E" role="2ShVmc">
+                <node concept="10Oyi0" id="3kMdKrGp81X" role="3$_nBY" />
+                <node concept="3$GHV9" id="3kMdKrGp82u" role="3$GQph">
+                  <node concept="37vLTw" id="3kMdKrGp82V" role="3$I4v7">
+                    <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp83p" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp83K" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp841" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp7K8" resolve="sites" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp847" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp84s" role="3clFbG">
+            <node concept="2ShNRf" id="3kMdKrGp84$" role="37vLTx">
+              <node concept="3$_iS1" id="3kMdKrGp850" role="2ShVmc">
+                <node concept="3uibUv" id="3kMdKrGp85C" role="3$_nBY">
+                  <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+                </node>
+                <node concept="3$GHV9" id="3kMdKrGp85W" role="3$GQph">
+                  <node concept="37vLTw" id="3kMdKrGp86c" role="3$I4v7">
+                    <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp86r" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp86H" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp878" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp7LL" resolve="threads" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="3kMdKrGp87l" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGp87G" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="3kMdKrGp87N" role="1tU5fm" />
+            <node concept="3cmrfG" id="3kMdKrGp88j" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="3kMdKrGp88o" role="1Dwp0S">
+            <node concept="37vLTw" id="3kMdKrGp88U" role="3uHU7w">
+              <ref role="3cqZAo" node="3kMdKrGp7SQ" resolve="size" />
+            </node>
+            <node concept="37vLTw" id="3kMdKrGp88Y" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGp87G" resolve="i" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="3kMdKrGp89q" role="1Dwrff">
+            <node concept="37vLTw" id="3kMdKrGp89x" role="2$L3a6">
+              <ref role="3cqZAo" node="3kMdKrGp87G" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp89Z" role="2LFqv$">
+            <node concept="3clFbF" id="3kMdKrGp8at" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGp8aY" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp8bn" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp7Jg" resolve="sequences" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGp8bG" role="2OqNvi">
+                  <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.set(int,int)" resolve="set" />
+                  <node concept="37vLTw" id="3kMdKrGp8cc" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGp87G" resolve="i" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8cp" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGp87G" resolve="i" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp8cv" role="3clF46">
+        <property role="TrG5h" value="capacity" />
+        <node concept="10Oyi0" id="3kMdKrGp8cQ" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp8d9" role="jymVt" />
+    <node concept="3clFb_" id="3kMdKrGp8dr" role="jymVt">
+      <property role="TrG5h" value="offer" />
+      <node concept="3clFbS" id="3kMdKrGp8dH" role="3clF47">
+        <node concept="2$JKZl" id="3kMdKrGp8e7" role="3cqZAp">
+          <node concept="3clFbT" id="3kMdKrGp8eu" role="2$JKZa">
+            <property role="3clFbU" value="true" />
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp8eP" role="2LFqv$">
+            <node concept="3cpWs8" id="3kMdKrGp8eS" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGp8fb" role="3cpWs9">
+                <property role="TrG5h" value="pos" />
+                <node concept="10Oyi0" id="3kMdKrGp8fs" role="1tU5fm" />
+                <node concept="2OqwBi" id="3kMdKrGp8fA" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGp8g7" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3kMdKrGp7Ny" resolve="tail" />
+                  </node>
+                  <node concept="liA8E" id="3kMdKrGp8gA" role="2OqNvi">
+                    <ref role="37wK5l" to="i5cy:~AtomicInteger.get()" resolve="get" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="3kMdKrGp8gW" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGp8hf" role="3cpWs9">
+                <property role="TrG5h" value="index" />
+                <node concept="10Oyi0" id="3kMdKrGp8hh" role="1tU5fm" />
+                <node concept="pVHWs" id="3kMdKrGp8hJ" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGp8hT" role="3uHU7w">
+                    <ref role="3cqZAo" node="3kMdKrGp7Ig" resolve="mask" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8i8" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp8fb" resolve="pos" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3cpWs8" id="3kMdKrGp8iv" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGp8iw" role="3cpWs9">
+                <property role="TrG5h" value="delta" />
+                <node concept="10Oyi0" id="3kMdKrGp8iJ" role="1tU5fm" />
+                <node concept="3cpWsd" id="3kMdKrGp8j8" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGp8jp" role="3uHU7w">
+                    <ref role="3cqZAo" node="3kMdKrGp8fb" resolve="pos" />
+                  </node>
+                  <node concept="2OqwBi" id="3kMdKrGp8ju" role="3uHU7B">
+                    <node concept="37vLTw" id="3kMdKrGp8jE" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3kMdKrGp7Jg" resolve="sequences" />
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGp8j$" role="2OqNvi">
+                      <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.get(int)" resolve="get" />
+                      <node concept="37vLTw" id="3kMdKrGp8k6" role="37wK5m">
+                        <ref role="3cqZAo" node="3kMdKrGp8hf" resolve="index" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="3kMdKrGp8kw" role="3cqZAp">
+              <node concept="3clFbC" id="3kMdKrGp8kY" role="3clFbw">
+                <node concept="3cmrfG" id="3kMdKrGp8ly" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="37vLTw" id="3kMdKrGp8lW" role="3uHU7B">
+                  <ref role="3cqZAo" node="3kMdKrGp8iw" resolve="delta" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3kMdKrGp8mb" role="3clFbx">
+                <node concept="3clFbJ" id="3kMdKrGp8my" role="3cqZAp">
+                  <node concept="2OqwBi" id="3kMdKrGp8m_" role="3clFbw">
+                    <node concept="37vLTw" id="3kMdKrGp8nz" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3kMdKrGp7Ny" resolve="tail" />
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGp8nG" role="2OqNvi">
+                      <ref role="37wK5l" to="i5cy:~AtomicInteger.compareAndSet(int,int)" resolve="compareAndSet" />
+                      <node concept="37vLTw" id="3kMdKrGp8n$" role="37wK5m">
+                        <ref role="3cqZAo" node="3kMdKrGp8fb" resolve="pos" />
+                      </node>
+                      <node concept="3cpWs3" id="3kMdKrGp8ot" role="37wK5m">
+                        <node concept="3cmrfG" id="3kMdKrGp8p3" role="3uHU7w">
+                          <property role="3cmrfH" value="1" />
+                        </node>
+                        <node concept="37vLTw" id="3kMdKrGp8pt" role="3uHU7B">
+                          <ref role="3cqZAo" node="3kMdKrGp8fb" resolve="pos" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3kMdKrGp8pz" role="3clFbx">
+                    <node concept="3clFbF" id="3kMdKrGp8q5" role="3cqZAp">
+                      <node concept="37vLTI" id="3kMdKrGp8q8" role="3clFbG">
+                        <node concept="37vLTw" id="3kMdKrGp8qn" role="37vLTx">
+                          <ref role="3cqZAo" node="3kMdKrGp8B0" resolve="site" />
+                        </node>
+                        <node concept="AH0OO" id="3kMdKrGp8qt" role="37vLTJ">
+                          <node concept="37vLTw" id="3kMdKrGp8qO" role="AHEQo">
+                            <ref role="3cqZAo" node="3kMdKrGp8hf" resolve="index" />
+                          </node>
+                          <node concept="37vLTw" id="3kMdKrGp8r2" role="AHHXb">
+                            <ref role="3cqZAo" node="3kMdKrGp7K8" resolve="sites" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3kMdKrGp8rm" role="3cqZAp">
+                      <node concept="37vLTI" id="3kMdKrGp8rs" role="3clFbG">
+                        <node concept="37vLTw" id="3kMdKrGp8rO" role="37vLTx">
+                          <ref role="3cqZAo" node="3kMdKrGp8BG" resolve="thread" />
+                        </node>
+                        <node concept="AH0OO" id="3kMdKrGp8si" role="37vLTJ">
+                          <node concept="37vLTw" id="3kMdKrGp8sS" role="AHEQo">
+                            <ref role="3cqZAo" node="3kMdKrGp8hf" resolve="index" />
+                          </node>
+                          <node concept="37vLTw" id="3kMdKrGp8t8" role="AHHXb">
+                            <ref role="3cqZAo" node="3kMdKrGp7LL" resolve="threads" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3clFbF" id="3kMdKrGp8tm" role="3cqZAp">
+                      <node concept="2OqwBi" id="3kMdKrGp8tr" role="3clFbG">
+                        <node concept="37vLTw" id="3kMdKrGp8tT" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3kMdKrGp7Jg" resolve="sequences" />
+                        </node>
+                        <node concept="liA8E" id="3kMdKrGp8uu" role="2OqNvi">
+                          <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.set(int,int)" resolve="set" />
+                          <node concept="37vLTw" id="3kMdKrGp8v6" role="37wK5m">
+                            <ref role="3cqZAo" node="3kMdKrGp8hf" resolve="index" />
+                          </node>
+                          <node concept="3cpWs3" id="3kMdKrGp8vI" role="37wK5m">
+                            <node concept="3cmrfG" id="3kMdKrGp8vY" role="3uHU7w">
+                              <property role="3cmrfH" value="1" />
+                            </node>
+                            <node concept="37vLTw" id="3kMdKrGp8wm" role="3uHU7B">
+                              <ref role="3cqZAo" node="3kMdKrGp8fb" resolve="pos" />
+                            </node>
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3cpWs6" id="3kMdKrGp8wV" role="3cqZAp">
+                      <node concept="3clFbT" id="3kMdKrGp8xu" role="3cqZAk">
+                        <property role="3clFbU" value="true" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbJ" id="3kMdKrGp8xC" role="9aQIa">
+                <node concept="3eOVzh" id="3kMdKrGp8xX" role="3clFbw">
+                  <node concept="3cmrfG" id="3kMdKrGp8yv" role="3uHU7w">
+                    <property role="3cmrfH" value="0" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8yT" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp8iw" resolve="delta" />
+                  </node>
+                </node>
+                <node concept="3clFbS" id="3kMdKrGp8zq" role="3clFbx">
+                  <node concept="3cpWs6" id="3kMdKrGp8zC" role="3cqZAp">
+                    <node concept="3clFbT" id="3kMdKrGp8zP" role="3cqZAk">
+                      <property role="3clFbU" value="false" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10P_77" id="3kMdKrGp8A5" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp8AA" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGp8B0" role="3clF46">
+        <property role="TrG5h" value="site" />
+        <node concept="10Oyi0" id="3kMdKrGp8BC" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp8BG" role="3clF46">
+        <property role="TrG5h" value="thread" />
+        <node concept="3uibUv" id="3kMdKrGp8Ce" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp8CB" role="jymVt" />
+    <node concept="3clFb_" id="3kMdKrGp8CI" role="jymVt">
+      <property role="TrG5h" value="drain" />
+      <node concept="3clFbS" id="3kMdKrGp8D8" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGp8Ds" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGp8E0" role="3cpWs9">
+            <property role="TrG5h" value="count" />
+            <node concept="10Oyi0" id="3kMdKrGp8E3" role="1tU5fm" />
+            <node concept="3cmrfG" id="3kMdKrGp8E6" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3kMdKrGp8EF" role="3cqZAp">
+          <node concept="3eOVzh" id="3kMdKrGp8ET" role="2$JKZa">
+            <node concept="2OqwBi" id="3kMdKrGp8Fm" role="3uHU7w">
+              <node concept="37vLTw" id="3kMdKrGp8FV" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGp8ZT" resolve="drainedSites" />
+              </node>
+              <node concept="1Rwk04" id="3kMdKrGp8Gn" role="2OqNvi" />
+            </node>
+            <node concept="37vLTw" id="3kMdKrGp8Gq" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGp8E0" resolve="count" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp8GZ" role="2LFqv$">
+            <node concept="3cpWs8" id="3kMdKrGp8Hh" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGp8HN" role="3cpWs9">
+                <property role="TrG5h" value="index" />
+                <node concept="10Oyi0" id="3kMdKrGp8H_" role="1tU5fm" />
+                <node concept="pVHWs" id="3kMdKrGp8Id" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGp8Iv" role="3uHU7w">
+                    <ref role="3cqZAo" node="3kMdKrGp7Ig" resolve="mask" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8Ix" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp7Px" resolve="head" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="3kMdKrGp8J9" role="3cqZAp">
+              <node concept="3y3z36" id="3kMdKrGp8JI" role="3clFbw">
+                <node concept="3cpWs3" id="3kMdKrGp8K3" role="3uHU7w">
+                  <node concept="3cmrfG" id="3kMdKrGp8KE" role="3uHU7w">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8Lg" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp7Px" resolve="head" />
+                  </node>
+                </node>
+                <node concept="2OqwBi" id="3kMdKrGp8Lm" role="3uHU7B">
+                  <node concept="37vLTw" id="3kMdKrGp8LO" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3kMdKrGp7Jg" resolve="sequences" />
+                  </node>
+                  <node concept="liA8E" id="3kMdKrGp8Mk" role="2OqNvi">
+                    <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.get(int)" resolve="get" />
+                    <node concept="37vLTw" id="3kMdKrGp8Ml" role="37wK5m">
+                      <ref role="3cqZAo" node="3kMdKrGp8HN" resolve="index" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="3kMdKrGp8MA" role="3clFbx">
+                <node concept="3zACq4" id="3kMdKrGp8MP" role="3cqZAp" />
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8MY" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGp8Nl" role="3clFbG">
+                <node concept="AH0OO" id="3kMdKrGp8NV" role="37vLTx">
+                  <node concept="37vLTw" id="3kMdKrGp8N_" role="AHEQo">
+                    <ref role="3cqZAo" node="3kMdKrGp8HN" resolve="index" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8O6" role="AHHXb">
+                    <ref role="3cqZAo" node="3kMdKrGp7K8" resolve="sites" />
+                  </node>
+                </node>
+                <node concept="AH0OO" id="3kMdKrGp8Oi" role="37vLTJ">
+                  <node concept="37vLTw" id="3kMdKrGp8OV" role="AHEQo">
+                    <ref role="3cqZAo" node="3kMdKrGp8E0" resolve="count" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8Pd" role="AHHXb">
+                    <ref role="3cqZAo" node="3kMdKrGp8ZT" resolve="drainedSites" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8Pw" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGp8PC" role="3clFbG">
+                <node concept="AH0OO" id="3kMdKrGp8PG" role="37vLTx">
+                  <node concept="37vLTw" id="3kMdKrGp8PP" role="AHEQo">
+                    <ref role="3cqZAo" node="3kMdKrGp8HN" resolve="index" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8Q1" role="AHHXb">
+                    <ref role="3cqZAo" node="3kMdKrGp7LL" resolve="threads" />
+                  </node>
+                </node>
+                <node concept="AH0OO" id="3kMdKrGp8Qj" role="37vLTJ">
+                  <node concept="37vLTw" id="3kMdKrGp8Qz" role="AHEQo">
+                    <ref role="3cqZAo" node="3kMdKrGp8E0" resolve="count" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8Q$" role="AHHXb">
+                    <ref role="3cqZAo" node="3kMdKrGp8$J" resolve="drainedThreads" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8Rw" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGp8RC" role="3clFbG">
+                <node concept="10Nm6u" id="3kMdKrGp8S7" role="37vLTx" />
+                <node concept="AH0OO" id="3kMdKrGp8SF" role="37vLTJ">
+                  <node concept="37vLTw" id="3kMdKrGp8T5" role="AHEQo">
+                    <ref role="3cqZAo" node="3kMdKrGp8HN" resolve="index" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGp8TH" role="AHHXb">
+                    <ref role="3cqZAo" node="3kMdKrGp7LL" resolve="threads" />
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8TM" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGp8U1" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp8UE" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp7Jg" resolve="sequences" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGp8V8" role="2OqNvi">
+                  <ref role="37wK5l" to="i5cy:~AtomicIntegerArray.set(int,int)" resolve="set" />
+                  <node concept="37vLTw" id="3kMdKrGp8Vr" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGp8HN" resolve="index" />
+                  </node>
+                  <node concept="3cpWs3" id="3kMdKrGp8VG" role="37wK5m">
+                    <node concept="3cmrfG" id="3kMdKrGp8Wf" role="3uHU7w">
+                      <property role="3cmrfH" value="1" />
+                    </node>
+                    <node concept="3cpWs3" id="3kMdKrGp8Wn" role="3uHU7B">
+                      <node concept="37vLTw" id="3kMdKrGp8WF" role="3uHU7w">
+                        <ref role="3cqZAo" node="3kMdKrGp7Ig" resolve="mask" />
+                      </node>
+                      <node concept="37vLTw" id="3kMdKrGp8WU" role="3uHU7B">
+                        <ref role="3cqZAo" node="3kMdKrGp7Px" resolve="head" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8X4" role="3cqZAp">
+              <node concept="3uNrnE" id="3kMdKrGp8Xe" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp8XI" role="2$L3a6">
+                  <ref role="3cqZAo" node="3kMdKrGp7Px" resolve="head" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp8XW" role="3cqZAp">
+              <node concept="3uNrnE" id="3kMdKrGp8Y6" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp8Yd" role="2$L3a6">
+                  <ref role="3cqZAo" node="3kMdKrGp8E0" resolve="count" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3kMdKrGp8Yo" role="3cqZAp">
+          <node concept="37vLTw" id="3kMdKrGp8YR" role="3cqZAk">
+            <ref role="3cqZAo" node="3kMdKrGp8E0" resolve="count" />
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3kMdKrGp8Zs" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp8ZD" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGp8ZT" role="3clF46">
+        <property role="TrG5h" value="drainedSites" />
+        <node concept="10Q1$e" id="3kMdKrGp8$1" role="1tU5fm">
+          <node concept="10Oyi0" id="3kMdKrGp8$9" role="10Q1$1" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp8$J" role="3clF46">
+        <property role="TrG5h" value="drainedThreads" />
+        <node concept="10Q1$e" id="3kMdKrGp8$X" role="1tU5fm">
+          <node concept="3uibUv" id="3kMdKrGp8$Z" role="10Q1$1">
+            <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3kMdKrGp8_j" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="3kMdKrGp8_T">
+    <property role="TrG5h" value="MisuseEvent" />
+    <node concept="312cEg" id="3kMdKrGp909" role="jymVt">
+      <property role="TrG5h" value="verifiedClass" />
+      <node concept="3Tm6S6" id="3kMdKrGp90L" role="1B3o_S" />
+      <node concept="17QB3L" id="3kMdKrGp91a" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="3kMdKrGp91g" role="jymVt">
+      <property role="TrG5h" value="site" />
+      <node concept="3Tm6S6" id="3kMdKrGp91h" role="1B3o_S" />
+      <node concept="17QB3L" id="3kMdKrGp91j" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="3kMdKrGp91H" role="jymVt">
+      <property role="TrG5h" value="thread" />
+      <node concept="3Tm6S6" id="3kMdKrGp91N" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp92a" role="1tU5fm">
+        <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp92n" role="jymVt" />
+    <node concept="3clFbW" id="3kMdKrGp92J" role="jymVt">
+      <node concept="3cqZAl" id="3kMdKrGp93c" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp93h" role="1B3o_S" />
+      <node concept="3clFbS" id="3kMdKrGp93i" role="3clF47">
+        <node concept="3clFbF" id="3kMdKrGp93r" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp93N" role="3clFbG">
+            <node concept="37vLTw" id="3kMdKrGp940" role="37vLTx">
+              <ref role="3cqZAo" node="3kMdKrGp99p" resolve="verifiedClass" />
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp947" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp94x" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp94J" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp909" resolve="verifiedClass" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp94$" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp95i" role="3clFbG">
+            <node concept="37vLTw" id="3kMdKrGp95N" role="37vLTx">
+              <ref role="3cqZAo" node="3kMdKrGp9aa" resolve="site" />
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp96g" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp96Q" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp96$" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp91g" resolve="site" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp97b" role="3cqZAp">
+          <node concept="37vLTI" id="3kMdKrGp97m" role="3clFbG">
+            <node concept="37vLTw" id="3kMdKrGp97N" role="37vLTx">
+              <ref role="3cqZAo" node="3kMdKrGp9aW" resolve="thread" />
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp98h" role="37vLTJ">
+              <node concept="Xjq3P" id="3kMdKrGp98L" role="2Oq$k0" />
+              <node concept="2OwXpG" id="3kMdKrGp99d" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGp91H" resolve="thread" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp99p" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="3kMdKrGp9a0" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp9aa" role="3clF46">
+        <property role="TrG5h" value="site" />
+        <node concept="17QB3L" id="3kMdKrGp9ax" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp9aW" role="3clF46">
+        <property role="TrG5h" value="thread" />
+        <node concept="3uibUv" id="3kMdKrGp9b4" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="3kMdKrGp9bb" role="1B3o_S" />
+    <node concept="3uibUv" id="3kMdKrGp9bk" role="1zkMxy">
+      <ref role="3uigEE" to="6rnd:~Event" resolve="Event" />
+    </node>
+  </node>
+  <node concept="312cEu" id="3kMdKrGp9bF">
+    <property role="TrG5h" value="MisuseReporting" />
+    <node concept="2tJIrI" id="3kMdKrGp9bY" role="jymVt" />
+    <node concept="Wx3nA" id="3kMdKrGp9cu" role="jymVt">
+      <property role="TrG5h" value="ENFORCEMENT_PROPERTY" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3kMdKrGp9d4" role="1B3o_S" />
+      <node concept="17QB3L" id="3kMdKrGp9dq" role="1tU5fm" />
+      <node concept="Xl_RD" id="3kMdKrGp9dL" role="33vP2m">
+        <property role="Xl_RC" value="apiSL.enforcement" />
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9dN" role="jymVt">
+      <property role="TrG5h" value="BUFFER_PROPERTY" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3kMdKrGp9dY" role="1B3o_S" />
+      <node concept="17QB3L" id="3kMdKrGp9e9" role="1tU5fm" />
+      <node concept="Xl_RD" id="3kMdKrGp9ek" role="33vP2m">
+        <property role="Xl_RC" value="apiSL.enforcement.buffer" />
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9eY" role="jymVt">
+      <property role="TrG5h" value="REPORT_ONLY" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3kMdKrGp9f7" role="1B3o_S" />
+      <node concept="10P_77" id="3kMdKrGp9fp" role="1tU5fm" />
+      <node concept="2OqwBi" id="3kMdKrGp9g1" role="33vP2m">
+        <node concept="Xl_RD" id="3kMdKrGp9ga" role="2Oq$k0">
+          <property role="Xl_RC" value="report" />
+        </node>
+        <node concept="liA8E" id="3kMdKrGp9gM" role="2OqNvi">
+          <ref role="37wK5l" to="wyt6:~String.equals(java.lang.Object)" resolve="equals" />
+          <node concept="2YIFZM" id="3kMdKrGp9gQ" role="37wK5m">
+            <ref role="37wK5l" to="wyt6:~System.getProperty(java.lang.String)" resolve="getProperty" />
+            <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+            <node concept="37vLTw" id="3kMdKrGp9gS" role="37wK5m">
+              <ref role="3cqZAo" node="3kMdKrGp9cu" resolve="ENFORCEMENT_PROPERTY" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3EwaYGcC$Do" role="jymVt">
+      <property role="TrG5h" value="CONFINEMENT_PROPERTY" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3EwaYGcC$DA" role="1B3o_S" />
+      <node concept="17QB3L" id="3EwaYGcC$DQ" role="1tU5fm" />
+      <node concept="Xl_RD" id="3EwaYGcC$D$" role="33vP2m">
+        <property role="Xl_RC" value="apiSL.confinement.check" />
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3EwaYGcC$E4" role="jymVt">
+      <property role="TrG5h" value="CHECK_CONFINEMENT" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="3EwaYGcC$EI" role="1B3o_S" />
+      <node concept="10P_77" id="3EwaYGcC$F5" role="1tU5fm" />
+      <node concept="2YIFZM" id="3EwaYGcC$Fi" role="33vP2m">
+        <ref role="37wK5l" to="wyt6:~Boolean.getBoolean(java.lang.String)" resolve="getBoolean" />
+        <ref role="1Pybhc" to="wyt6:~Boolean" resolve="Boolean" />
+        <node concept="37vLTw" id="3EwaYGcC$FI" role="37wK5m">
+          <ref role="3cqZAo" node="3EwaYGcC$Do" resolve="CONFINEMENT_PROPERTY" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9hf" role="jymVt" />
+    <node concept="Wx3nA" id="3kMdKrGp9hs" role="jymVt">
+      <property role="TrG5h" value="BATCH_SIZE" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9hH" role="1B3o_S" />
+      <node concept="10Oyi0" id="3kMdKrGp9hO" role="1tU5fm" />
+      <node concept="3cmrfG" id="3kMdKrGp9ih" role="33vP2m">
+        <property role="3cmrfH" value="256" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9iq" role="jymVt" />
+    <node concept="Wx3nA" id="3kMdKrGp9iZ" role="jymVt">
+      <property role="TrG5h" value="buffer" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9jf" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp9jB" role="1tU5fm">
+        <ref role="3uigEE" node="3kMdKrGp7I4" resolve="MisuseRingBuffer" />
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp9jV" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp9ki" role="2ShVmc">
+          <ref role="37wK5l" node="3kMdKrGp7R7" resolve="MisuseRingBuffer" />
+          <node concept="2YIFZM" id="3kMdKrGp9kl" role="37wK5m">
+            <ref role="37wK5l" to="wyt6:~Integer.getInteger(java.lang.String,int)" resolve="getInteger" />
+            <ref role="1Pybhc" to="wyt6:~Integer" resolve="Integer" />
+            <node concept="37vLTw" id="3kMdKrGp9ko" role="37wK5m">
+              <ref role="3cqZAo" node="3kMdKrGp9dN" resolve="BUFFER_PROPERTY" />
+            </node>
+            <node concept="3cmrfG" id="3kMdKrGp9kq" role="37wK5m">
+              <property role="3cmrfH" value="4096" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9kL" role="jymVt">
+      <property role="TrG5h" value="sites" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9l4" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp9ly" role="1tU5fm">
+        <ref role="3uigEE" to="5zyv:~CopyOnWriteArrayList" resolve="CopyOnWriteArrayList" />
+        <node concept="3uibUv" id="3kMdKrGp9m1" role="11_B2D">
+          <ref role="3uigEE" node="3kMdKrGpblK" resolve="Site" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp9mF" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp9ng" role="2ShVmc">
+          <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.&lt;init&gt;()" resolve="CopyOnWriteArrayList" />
+          <node concept="3uibUv" id="3kMdKrGp9nH" role="1pMfVU">
+            <ref role="3uigEE" node="3kMdKrGpblK" resolve="Site" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9nX" role="jymVt">
+      <property role="TrG5h" value="siteIds" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9o9" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp9oy" role="1tU5fm">
+        <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+        <node concept="17QB3L" id="3kMdKrGp9oS" role="11_B2D" />
+        <node concept="3uibUv" id="3kMdKrGp9p3" role="11_B2D">
+          <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+          <node concept="17QB3L" id="3kMdKrGp9pc" role="11_B2D" />
+          <node concept="3uibUv" id="3kMdKrGp9ph" role="11_B2D">
+            <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+          </node>
+        </node>
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp9pD" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp9q5" role="2ShVmc">
+          <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.&lt;init&gt;()" resolve="ConcurrentHashMap" />
+          <node concept="17QB3L" id="3kMdKrGp9qs" role="1pMfVU" />
+          <node concept="3uibUv" id="3kMdKrGp9qY" role="1pMfVU">
+            <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+            <node concept="17QB3L" id="3kMdKrGp9r7" role="11_B2D" />
+            <node concept="3uibUv" id="3kMdKrGp9rA" role="11_B2D">
+              <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9rI" role="jymVt">
+      <property role="TrG5h" value="reported" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9sj" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp9sq" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicLong" resolve="AtomicLong" />
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp9sK" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp9tb" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~AtomicLong.&lt;init&gt;()" resolve="AtomicLong" />
+        </node>
+      </node>
+    </node>
+    <node concept="Wx3nA" id="3kMdKrGp9tD" role="jymVt">
+      <property role="TrG5h" value="dropped" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3kMdKrGp9ue" role="1B3o_S" />
+      <node concept="3uibUv" id="3kMdKrGp9uD" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicLong" resolve="AtomicLong" />
+      </node>
+      <node concept="2ShNRf" id="3kMdKrGp9uU" role="33vP2m">
+        <node concept="1pGfFk" id="3kMdKrGp9vi" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~AtomicLong.&lt;init&gt;()" resolve="AtomicLong" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9vF" role="jymVt" />
+    <node concept="Wx3nA" id="3YEjgqYk0e3" role="jymVt">
+      <property role="TrG5h" value="consumer" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="3YEjgqYk0e6" role="1B3o_S" />
+      <node concept="3uibUv" id="3YEjgqYk0e9" role="1tU5fm">
+        <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+      </node>
+      <node concept="3K4zz7" id="3YEjgqYk0eC" role="33vP2m">
+        <node concept="37vLTw" id="3YEjgqYk0eF" role="3K4Cdx">
+          <ref role="3cqZAo" node="3kMdKrGp9eY" resolve="REPORT_ONLY" />
+        </node>
+        <node concept="1rXfSq" id="3YEjgqYk0eI" role="3K4E3e">
+          <ref role="37wK5l" node="3YEjgqYk0eL" resolve="startConsumer" />
+        </node>
+        <node concept="10Nm6u" id="3YEjgqYk0eO" role="3K4GZi" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3YEjgqYk0eR" role="jymVt" />
+    <node concept="2YIFZL" id="3YEjgqYk0eL" role="jymVt">
+      <property role="TrG5h" value="startConsumer" />
+      <node concept="3clFbS" id="3kMdKrGp9w4" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGp9wD" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGp9wS" role="3cpWs9">
+            <property role="TrG5h" value="thread" />
+            <node concept="3uibUv" id="3kMdKrGp9x4" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+            </node>
+            <node concept="2ShNRf" id="3kMdKrGp9xt" role="33vP2m">
+              <node concept="1pGfFk" id="3kMdKrGp9xK" role="2ShVmc">
+                <ref role="37wK5l" to="wyt6:~Thread.&lt;init&gt;(java.lang.Runnable,java.lang.String)" resolve="Thread" />
+                <node concept="2ShNRf" id="3kMdKrGp9yf" role="37wK5m">
+                  <node concept="YeOm9" id="3kMdKrGp9yg" role="2ShVmc">
+                    <node concept="1Y3b0j" id="3kMdKrGp9yA" role="YeSDq">
+                      <property role="2bfB8j" value="true" />
+                      <ref role="1Y3XeK" to="wyt6:~Runnable" resolve="Runnable" />
+                      <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+                      <node concept="3clFb_" id="3kMdKrGp9yH" role="jymVt">
+                        <property role="TrG5h" value="run" />
+                        <node concept="3clFbS" id="3kMdKrGp9z3" role="3clF47">
+                          <node concept="3clFbF" id="3kMdKrGp9zv" role="3cqZAp">
+                            <node concept="1rXfSq" id="3kMdKrGp9zV" role="3clFbG">
+                              <ref role="37wK5l" node="3kMdKrGpaO3" resolve="consume" />
+                            </node>
+                          </node>
+                        </node>
+                        <node concept="3cqZAl" id="3kMdKrGp9Am" role="3clF45" />
+                        <node concept="3Tm1VV" id="3kMdKrGp9AG" role="1B3o_S" />
+                        <node concept="2AHcQZ" id="3kMdKrGp9AR" role="2AJF6D">
+                          <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+                        </node>
+                      </node>
+                      <node concept="3Tm1VV" id="3kMdKrGp9Bo" role="1B3o_S" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="3kMdKrGp9BN" role="37wK5m">
+                  <property role="Xl_RC" value="apiSL-misuse-reporter" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp9BU" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGp9Cv" role="3clFbG">
+            <node concept="37vLTw" id="3kMdKrGp9CD" role="2Oq$k0">
+              <ref role="3cqZAo" node="3kMdKrGp9wS" resolve="thread" />
+            </node>
+            <node concept="liA8E" id="3kMdKrGp9CF" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Thread.setDaemon(boolean)" resolve="setDaemon" />
+              <node concept="3clFbT" id="3kMdKrGp9D1" role="37wK5m">
+                <property role="3clFbU" value="true" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp9Di" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGp9Dw" role="3clFbG">
+            <node concept="37vLTw" id="3kMdKrGp9DV" role="2Oq$k0">
+              <ref role="3cqZAo" node="3kMdKrGp9wS" resolve="thread" />
+            </node>
+            <node concept="liA8E" id="3kMdKrGp9DZ" role="2OqNvi">
+              <ref role="37wK5l" to="wyt6:~Thread.start()" resolve="start" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3YEjgqYk0eU" role="3cqZAp">
+          <node concept="37vLTw" id="3YEjgqYk0eX" role="3cqZAk">
+            <ref role="3cqZAo" node="3kMdKrGp9wS" resolve="thread" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="3YEjgqYk0ea" role="3clF45">
+        <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+      </node>
+      <node concept="3Tm6S6" id="3YEjgqYk0ed" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9Ee" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGp9EQ" role="jymVt">
+      <property role="TrG5h" value="misuse" />
+      <node concept="3clFbS" id="3kMdKrGp9F2" role="3clF47">
+        <node concept="3clFbJ" id="3kMdKrGp9FB" role="3cqZAp">
+          <node concept="3fqX7Q" id="3kMdKrGp9FR" role="3clFbw">
+            <node concept="37vLTw" id="3kMdKrGp9Gs" role="3fr31v">
+              <ref role="3cqZAo" node="3kMdKrGp9eY" resolve="REPORT_ONLY" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp9G_" role="3clFbx">
+            <node concept="YS8fn" id="3kMdKrGp9Hg" role="3cqZAp">
+              <node concept="2ShNRf" id="3kMdKrGp9Hj" role="YScLw">
+                <node concept="1pGfFk" id="3kMdKrGp9Hm" role="2ShVmc">
+                  <ref role="37wK5l" node="15ZwvTyKq9r" resolve="DetectedMisuseException" />
+                  <node concept="37vLTw" id="3kMdKrGp9HC" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGp9M4" resolve="description" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3kMdKrGp9HW" role="3cqZAp">
+          <node concept="1rXfSq" id="3kMdKrGp9Ih" role="3clFbG">
+            <ref role="37wK5l" node="3kMdKrGp9Mx" resolve="report" />
+            <node concept="1rXfSq" id="3kMdKrGp9II" role="37wK5m">
+              <ref role="37wK5l" node="3kMdKrGp9Wx" resolve="site" />
+              <node concept="37vLTw" id="3kMdKrGp9Jj" role="37wK5m">
+                <ref role="3cqZAo" node="3kMdKrGp9LE" resolve="verifiedClass" />
+              </node>
+              <node concept="3K4zz7" id="3kMdKrGp9Jp" role="37wK5m">
+                <node concept="3clFbC" id="3kMdKrGp9J$" role="3K4Cdx">
+                  <node concept="10Nm6u" id="3kMdKrGp9Kb" role="3uHU7w" />
+                  <node concept="37vLTw" id="3kMdKrGp9KA" role="3uHU7B">
+                    <ref role="3cqZAo" node="3kMdKrGp9M4" resolve="description" />
+                  </node>
+                </node>
+                <node concept="Xl_RD" id="3kMdKrGp9KY" role="3K4E3e">
+                  <property role="Xl_RC" value="" />
+                </node>
+                <node concept="37vLTw" id="3kMdKrGp9L1" role="3K4GZi">
+                  <ref role="3cqZAo" node="3kMdKrGp9M4" resolve="description" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3kMdKrGp9Lc" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp9LC" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGp9LE" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="3kMdKrGp9LF" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGp9M4" role="3clF46">
+        <property role="TrG5h" value="description" />
+        <node concept="17QB3L" id="3kMdKrGp9Mg" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2YIFZL" id="3EwaYGcC$G8" role="jymVt">
+      <property role="TrG5h" value="confinementViolated" />
+      <node concept="3clFbS" id="3EwaYGcC$Go" role="3clF47">
+        <node concept="3clFbJ" id="3EwaYGcC$GR" role="3cqZAp">
+          <node concept="3fqX7Q" id="3EwaYGcC$Hq" role="3clFbw">
+            <node concept="37vLTw" id="3EwaYGcC$HU" role="3fr31v">
+              <ref role="3cqZAo" node="3kMdKrGp9eY" resolve="REPORT_ONLY" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3EwaYGcC$I3" role="3clFbx">
+            <node concept="YS8fn" id="3EwaYGcC$Ih" role="3cqZAp">
+              <node concept="2ShNRf" id="3EwaYGcC$Ij" role="YScLw">
+                <node concept="1pGfFk" id="3EwaYGcC$IM" role="2ShVmc">
+                  <ref role="37wK5l" node="3EwaYGcC$PW" resolve="ConfinementViolationException" />
+                  <node concept="3cpWs3" id="3EwaYGcC$J7" role="37wK5m">
+                    <node concept="2OqwBi" id="3EwaYGcC$JI" role="3uHU7w">
+                      <node concept="37vLTw" id="3EwaYGcC$K5" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3EwaYGcC$Po" resolve="owner" />
+                      </node>
+                      <node concept="liA8E" id="3EwaYGcC$Kg" role="2OqNvi">
+                        <ref role="37wK5l" to="wyt6:~Thread.getName()" resolve="getName" />
+                      </node>
+                    </node>
+                    <node concept="3cpWs3" id="3EwaYGcC$Kl" role="3uHU7B">
+                      <node concept="Xl_RD" id="3EwaYGcC$KS" role="3uHU7w">
+                        <property role="Xl_RC" value=" while confined to thread " />
+                      </node>
+                      <node concept="3cpWs3" id="3EwaYGcC$L8" role="3uHU7B">
+                        <node concept="2OqwBi" id="3EwaYGcC$LE" role="3uHU7w">
+                          <node concept="2YIFZM" id="3EwaYGcC$LP" role="2Oq$k0">
+                            <ref role="37wK5l" to="wyt6:~Thread.currentThread()" resolve="currentThread" />
+                            <ref role="1Pybhc" to="wyt6:~Thread" resolve="Thread" />
+                          </node>
+                          <node concept="liA8E" id="3EwaYGcC$Mh" role="2OqNvi">
+                            <ref role="37wK5l" to="wyt6:~Thread.getName()" resolve="getName" />
+                          </node>
+                        </node>
+                        <node concept="Xl_RD" id="3EwaYGcC$MS" role="3uHU7B">
+                          <property role="Xl_RC" value="used by thread " />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3EwaYGcC$N9" role="3cqZAp">
+          <node concept="1rXfSq" id="3EwaYGcC$Nl" role="3clFbG">
+            <ref role="37wK5l" node="3kMdKrGp9Mx" resolve="report" />
+            <node concept="1rXfSq" id="3EwaYGcC$NT" role="37wK5m">
+              <ref role="37wK5l" node="3kMdKrGp91g" resolve="site" />
+              <node concept="37vLTw" id="3EwaYGcC$O2" role="37wK5m">
+                <ref role="3cqZAo" node="3EwaYGcC$P9" resolve="verifiedClass" />
+              </node>
+              <node concept="Xl_RD" id="3EwaYGcC$Oj" role="37wK5m">
+                <property role="Xl_RC" value="cross-thread use of a thread-confined object" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3EwaYGcC$Om" role="3clF45" />
+      <node concept="3Tm1VV" id="3EwaYGcC$OJ" role="1B3o_S" />
+      <node concept="37vLTG" id="3EwaYGcC$P9" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="3EwaYGcC$Ph" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3EwaYGcC$Po" role="3clF46">
+        <property role="TrG5h" value="owner" />
+        <node concept="3uibUv" id="3EwaYGcC$PD" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9Mi" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGp9Mx" role="jymVt">
+      <property role="TrG5h" value="report" />
+      <node concept="3clFbS" id="3kMdKrGp9N9" role="3clF47">
+        <node concept="3clFbJ" id="3kMdKrGp9Nh" role="3cqZAp">
+          <node concept="3fqX7Q" id="3kMdKrGp9NQ" role="3clFbw">
+            <node concept="2OqwBi" id="3kMdKrGp9O2" role="3fr31v">
+              <node concept="37vLTw" id="3kMdKrGp9Oe" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGp9iZ" resolve="buffer" />
+              </node>
+              <node concept="liA8E" id="3kMdKrGp9Ov" role="2OqNvi">
+                <ref role="37wK5l" node="3kMdKrGp8dr" resolve="offer" />
+                <node concept="37vLTw" id="3kMdKrGp9Oz" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGp9Vp" resolve="site" />
+                </node>
+                <node concept="2YIFZM" id="3kMdKrGp9OA" role="37wK5m">
+                  <ref role="37wK5l" to="wyt6:~Thread.currentThread()" resolve="currentThread" />
+                  <ref role="1Pybhc" to="wyt6:~Thread" resolve="Thread" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp9P1" role="3clFbx">
+            <node concept="3clFbF" id="3kMdKrGp9Px" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGp9PO" role="3clFbG">
+                <node concept="2OqwBi" id="3kMdKrGp9Q2" role="2Oq$k0">
+                  <node concept="2OqwBi" id="3kMdKrGp9Qw" role="2Oq$k0">
+                    <node concept="37vLTw" id="3kMdKrGp9QN" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGp9Rb" role="2OqNvi">
+                      <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.get(int)" resolve="get" />
+                      <node concept="37vLTw" id="3kMdKrGp9RK" role="37wK5m">
+                        <ref role="3cqZAo" node="3kMdKrGp9Vp" resolve="site" />
+                      </node>
+                    </node>
+                  </node>
+                  <node concept="2OwXpG" id="3kMdKrGp9S2" role="2OqNvi">
+                    <ref role="2Oxat5" node="3kMdKrGpbnc" resolve="count" />
+                  </node>
+                </node>
+                <node concept="liA8E" id="3kMdKrGp9Sq" role="2OqNvi">
+                  <ref role="37wK5l" to="i5cy:~AtomicLong.incrementAndGet()" resolve="incrementAndGet" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp9SH" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGp9SL" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp9SW" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp9rI" resolve="reported" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGp9Ts" role="2OqNvi">
+                  <ref role="37wK5l" to="i5cy:~AtomicLong.incrementAndGet()" resolve="incrementAndGet" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGp9TA" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGp9TU" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGp9T$" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp9tD" resolve="dropped" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGp9U8" role="2OqNvi">
+                  <ref role="37wK5l" to="i5cy:~AtomicLong.incrementAndGet()" resolve="incrementAndGet" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="3YEjgqYk0eg" role="3cqZAp">
+          <node concept="2YIFZM" id="3YEjgqYk0ej" role="3clFbG">
+            <ref role="37wK5l" to="lk7u:~LockSupport.unpark(java.lang.Thread)" resolve="unpark" />
+            <ref role="1Pybhc" to="lk7u:~LockSupport" resolve="LockSupport" />
+            <node concept="37vLTw" id="3YEjgqYk0ep" role="37wK5m">
+              <ref role="3cqZAo" node="3YEjgqYk0e3" resolve="consumer" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3kMdKrGp9UK" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGp9V7" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGp9Vp" role="3clF46">
+        <property role="TrG5h" value="site" />
+        <node concept="10Oyi0" id="3kMdKrGp9VW" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGp9Wu" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGp9Wx" role="jymVt">
+      <property role="TrG5h" value="site" />
+      <node concept="3clFbS" id="3kMdKrGp9WB" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGp9WK" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGp9X9" role="3cpWs9">
+            <property role="TrG5h" value="classSites" />
+            <node concept="3uibUv" id="3kMdKrGp9XD" role="1tU5fm">
+              <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+              <node concept="17QB3L" id="3kMdKrGp9Yd" role="11_B2D" />
+              <node concept="3uibUv" id="3kMdKrGp9Yo" role="11_B2D">
+                <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGp9YK" role="33vP2m">
+              <node concept="37vLTw" id="3kMdKrGp9Zb" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGp9nX" resolve="siteIds" />
+              </node>
+              <node concept="liA8E" id="3kMdKrGp9ZN" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                <node concept="37vLTw" id="3kMdKrGp9ZV" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGpa7a" resolve="verifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3kMdKrGp9Z_" role="3cqZAp">
+          <node concept="3y3z36" id="3kMdKrGp9$p" role="3clFbw">
+            <node concept="10Nm6u" id="3kMdKrGp9$V" role="3uHU7w" />
+            <node concept="37vLTw" id="3kMdKrGp9_x" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGp9X9" resolve="classSites" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGp9_Z" role="3clFbx">
+            <node concept="3cpWs8" id="3kMdKrGpa0u" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGpa0w" role="3cpWs9">
+                <property role="TrG5h" value="id" />
+                <node concept="3uibUv" id="3kMdKrGpa0F" role="1tU5fm">
+                  <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+                </node>
+                <node concept="2OqwBi" id="3kMdKrGpa16" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGpa19" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3kMdKrGp9X9" resolve="classSites" />
+                  </node>
+                  <node concept="liA8E" id="3kMdKrGpa1m" role="2OqNvi">
+                    <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                    <node concept="37vLTw" id="3kMdKrGpa1U" role="37wK5m">
+                      <ref role="3cqZAo" node="3kMdKrGpa7z" resolve="description" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="3kMdKrGpa23" role="3cqZAp">
+              <node concept="3y3z36" id="3kMdKrGpa2E" role="3clFbw">
+                <node concept="10Nm6u" id="3kMdKrGpa3d" role="3uHU7w" />
+                <node concept="37vLTw" id="3kMdKrGpa3I" role="3uHU7B">
+                  <ref role="3cqZAo" node="3kMdKrGpa0w" resolve="id" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3kMdKrGpa4d" role="3clFbx">
+                <node concept="3cpWs6" id="3kMdKrGpa4r" role="3cqZAp">
+                  <node concept="37vLTw" id="3kMdKrGpa4R" role="3cqZAk">
+                    <ref role="3cqZAo" node="3kMdKrGpa0w" resolve="id" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3kMdKrGpa5c" role="3cqZAp">
+          <node concept="1rXfSq" id="3kMdKrGpa5B" role="3cqZAk">
+            <ref role="37wK5l" node="3kMdKrGpa8g" resolve="registerSite" />
+            <node concept="37vLTw" id="3kMdKrGpa5T" role="37wK5m">
+              <ref role="3cqZAo" node="3kMdKrGpa7a" resolve="verifiedClass" />
+            </node>
+            <node concept="37vLTw" id="3kMdKrGpa6a" role="37wK5m">
+              <ref role="3cqZAo" node="3kMdKrGpa7z" resolve="description" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3kMdKrGpa6c" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpa6J" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGpa7a" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="3kMdKrGpa7j" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGpa7z" role="3clF46">
+        <property role="TrG5h" value="description" />
+        <node concept="17QB3L" id="3kMdKrGpa80" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpa81" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpa8g" role="jymVt">
+      <property role="TrG5h" value="registerSite" />
+      <property role="od$2w" value="true" />
+      <node concept="3clFbS" id="3kMdKrGpa8w" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGpa8M" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGpa8X" role="3cpWs9">
+            <property role="TrG5h" value="classSites" />
+            <node concept="3uibUv" id="3kMdKrGpa9q" role="1tU5fm">
+              <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+              <node concept="17QB3L" id="3kMdKrGpa9H" role="11_B2D" />
+              <node concept="3uibUv" id="3kMdKrGpa9X" role="11_B2D">
+                <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGpaa6" role="33vP2m">
+              <node concept="37vLTw" id="3kMdKrGpaaE" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGp9nX" resolve="siteIds" />
+              </node>
+              <node concept="liA8E" id="3kMdKrGpab6" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                <node concept="37vLTw" id="3kMdKrGpabf" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGpath" resolve="verifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3kMdKrGpabC" role="3cqZAp">
+          <node concept="3clFbC" id="3kMdKrGpac0" role="3clFbw">
+            <node concept="10Nm6u" id="3kMdKrGpacD" role="3uHU7w" />
+            <node concept="37vLTw" id="3kMdKrGpacN" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGpa8X" resolve="classSites" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGpadj" role="3clFbx">
+            <node concept="3clFbF" id="3kMdKrGpadM" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGpadT" role="3clFbG">
+                <node concept="2ShNRf" id="3kMdKrGpael" role="37vLTx">
+                  <node concept="1pGfFk" id="3kMdKrGpaeT" role="2ShVmc">
+                    <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.&lt;init&gt;()" resolve="ConcurrentHashMap" />
+                    <node concept="17QB3L" id="3kMdKrGpaeY" role="1pMfVU" />
+                    <node concept="3uibUv" id="3kMdKrGpaf0" role="1pMfVU">
+                      <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3kMdKrGpaf2" role="37vLTJ">
+                  <ref role="3cqZAo" node="3kMdKrGpa8X" resolve="classSites" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGpafx" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGpag3" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGpags" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp9nX" resolve="siteIds" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGpah3" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.put(java.lang.Object,java.lang.Object)" resolve="put" />
+                  <node concept="37vLTw" id="3kMdKrGpah8" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGpath" resolve="verifiedClass" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGpahM" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGpa8X" resolve="classSites" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3kMdKrGpahX" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGpaiy" role="3cpWs9">
+            <property role="TrG5h" value="id" />
+            <node concept="3uibUv" id="3kMdKrGpai_" role="1tU5fm">
+              <ref role="3uigEE" to="wyt6:~Integer" resolve="Integer" />
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGpajf" role="33vP2m">
+              <node concept="37vLTw" id="3kMdKrGpajr" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGpa8X" resolve="classSites" />
+              </node>
+              <node concept="liA8E" id="3kMdKrGpaj$" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                <node concept="37vLTw" id="3kMdKrGpakc" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGpatE" resolve="description" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="3kMdKrGpako" role="3cqZAp">
+          <node concept="3clFbC" id="3kMdKrGpaks" role="3clFbw">
+            <node concept="10Nm6u" id="3kMdKrGpakS" role="3uHU7w" />
+            <node concept="37vLTw" id="3kMdKrGpalp" role="3uHU7B">
+              <ref role="3cqZAo" node="3kMdKrGpaiy" resolve="id" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="3kMdKrGpals" role="3clFbx">
+            <node concept="3clFbF" id="3kMdKrGpalS" role="3cqZAp">
+              <node concept="37vLTI" id="3kMdKrGpal$" role="3clFbG">
+                <node concept="2OqwBi" id="3kMdKrGpamu" role="37vLTx">
+                  <node concept="37vLTw" id="3kMdKrGpamA" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+                  </node>
+                  <node concept="liA8E" id="3kMdKrGpam$" role="2OqNvi">
+                    <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.size()" resolve="size" />
+                  </node>
+                </node>
+                <node concept="37vLTw" id="3kMdKrGpanp" role="37vLTJ">
+                  <ref role="3cqZAo" node="3kMdKrGpaiy" resolve="id" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGpanX" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGpan$" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGpao5" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGpaot" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.add(java.lang.Object)" resolve="add" />
+                  <node concept="2ShNRf" id="3kMdKrGpap4" role="37wK5m">
+                    <node concept="1pGfFk" id="3kMdKrGpapb" role="2ShVmc">
+                      <ref role="37wK5l" node="3kMdKrGpboW" resolve="Site" />
+                      <node concept="37vLTw" id="3kMdKrGpapj" role="37wK5m">
+                        <ref role="3cqZAo" node="3kMdKrGpath" resolve="verifiedClass" />
+                      </node>
+                      <node concept="37vLTw" id="3kMdKrGpapS" role="37wK5m">
+                        <ref role="3cqZAo" node="3kMdKrGpatE" resolve="description" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="3kMdKrGpapU" role="3cqZAp">
+              <node concept="2OqwBi" id="3kMdKrGpaqi" role="3clFbG">
+                <node concept="37vLTw" id="3kMdKrGpaqH" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGpa8X" resolve="classSites" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGpar1" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.put(java.lang.Object,java.lang.Object)" resolve="put" />
+                  <node concept="37vLTw" id="3kMdKrGparv" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGpatE" resolve="description" />
+                  </node>
+                  <node concept="37vLTw" id="3kMdKrGparL" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGpaiy" resolve="id" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3kMdKrGpas3" role="3cqZAp">
+          <node concept="37vLTw" id="3kMdKrGpasu" role="3cqZAk">
+            <ref role="3cqZAo" node="3kMdKrGpaiy" resolve="id" />
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3kMdKrGpasH" role="3clF45" />
+      <node concept="3Tm6S6" id="3kMdKrGpasR" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGpath" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="3kMdKrGpatm" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="3kMdKrGpatE" role="3clF46">
+        <property role="TrG5h" value="description" />
+        <node concept="17QB3L" id="3kMdKrGpatV" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpauf" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpauN" role="jymVt">
+      <property role="TrG5h" value="reportedCount" />
+      <node concept="3clFbS" id="3kMdKrGpauP" role="3clF47">
+        <node concept="3cpWs6" id="3kMdKrGpav1" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGpave" role="3cqZAk">
+            <node concept="2OqwBi" id="3kMdKrGpavl" role="2Oq$k0">
+              <node concept="2OqwBi" id="3kMdKrGpavq" role="2Oq$k0">
+                <node concept="37vLTw" id="3kMdKrGpavD" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+                </node>
+                <node concept="liA8E" id="3kMdKrGpavL" role="2OqNvi">
+                  <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.get(int)" resolve="get" />
+                  <node concept="37vLTw" id="3kMdKrGpavS" role="37wK5m">
+                    <ref role="3cqZAo" node="3kMdKrGpaxH" resolve="site" />
+                  </node>
+                </node>
+              </node>
+              <node concept="2OwXpG" id="3kMdKrGpawb" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGpbnc" resolve="count" />
+              </node>
+            </node>
+            <node concept="liA8E" id="3kMdKrGpawI" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicLong.get()" resolve="get" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="3kMdKrGpawT" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpax5" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGpaxH" role="3clF46">
+        <property role="TrG5h" value="site" />
+        <node concept="10Oyi0" id="3kMdKrGpaxU" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpay4" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpayb" role="jymVt">
+      <property role="TrG5h" value="totalReported" />
+      <node concept="3clFbS" id="3kMdKrGpayj" role="3clF47">
+        <node concept="3cpWs6" id="3kMdKrGpayM" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGpazf" role="3cqZAk">
+            <node concept="37vLTw" id="3kMdKrGpazj" role="2Oq$k0">
+              <ref role="3cqZAo" node="3kMdKrGp9rI" resolve="reported" />
+            </node>
+            <node concept="liA8E" id="3kMdKrGpazs" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicLong.get()" resolve="get" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="3kMdKrGpazG" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpaz_" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpaAn" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpaAW" role="jymVt">
+      <property role="TrG5h" value="droppedCount" />
+      <node concept="3clFbS" id="3kMdKrGpaAY" role="3clF47">
+        <node concept="3cpWs6" id="3kMdKrGpaBn" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGpaBU" role="3cqZAk">
+            <node concept="37vLTw" id="3kMdKrGpaC2" role="2Oq$k0">
+              <ref role="3cqZAo" node="3kMdKrGp9tD" resolve="dropped" />
+            </node>
+            <node concept="liA8E" id="3kMdKrGpaCa" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicLong.get()" resolve="get" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="3kMdKrGpaCK" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpaCS" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpaCV" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpaD6" role="jymVt">
+      <property role="TrG5h" value="siteCount" />
+      <node concept="3clFbS" id="3kMdKrGpaD8" role="3clF47">
+        <node concept="3cpWs6" id="3kMdKrGpaDK" role="3cqZAp">
+          <node concept="2OqwBi" id="3kMdKrGpaDN" role="3cqZAk">
+            <node concept="37vLTw" id="3kMdKrGpaE3" role="2Oq$k0">
+              <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+            </node>
+            <node concept="liA8E" id="3kMdKrGpaEz" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.size()" resolve="size" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="3kMdKrGpaF9" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpaFH" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpaFZ" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpaG5" role="jymVt">
+      <property role="TrG5h" value="describeSite" />
+      <node concept="3clFbS" id="3kMdKrGpaGv" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGpaH7" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGpaHg" role="3cpWs9">
+            <property role="TrG5h" value="entry" />
+            <node concept="3uibUv" id="3kMdKrGpaHm" role="1tU5fm">
+              <ref role="3uigEE" node="3kMdKrGpblK" resolve="Site" />
+            </node>
+            <node concept="2OqwBi" id="3kMdKrGpaHy" role="33vP2m">
+              <node concept="37vLTw" id="3kMdKrGpaHz" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+              </node>
+              <node concept="liA8E" id="3kMdKrGpaHS" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.get(int)" resolve="get" />
+                <node concept="37vLTw" id="3kMdKrGpaI9" role="37wK5m">
+                  <ref role="3cqZAo" node="3kMdKrGpaME" resolve="site" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="3kMdKrGpaIw" role="3cqZAp">
+          <node concept="3cpWs3" id="3kMdKrGpaIK" role="3cqZAk">
+            <node concept="2OqwBi" id="3kMdKrGpaJ0" role="3uHU7w">
+              <node concept="37vLTw" id="3kMdKrGpaJk" role="2Oq$k0">
+                <ref role="3cqZAo" node="3kMdKrGpaHg" resolve="entry" />
+              </node>
+              <node concept="2OwXpG" id="3kMdKrGpaJx" role="2OqNvi">
+                <ref role="2Oxat5" node="3kMdKrGpbmw" resolve="description" />
+              </node>
+            </node>
+            <node concept="3cpWs3" id="3kMdKrGpaJT" role="3uHU7B">
+              <node concept="Xl_RD" id="3kMdKrGpaK5" role="3uHU7w">
+                <property role="Xl_RC" value=": " />
+              </node>
+              <node concept="2OqwBi" id="3kMdKrGpaKt" role="3uHU7B">
+                <node concept="37vLTw" id="3kMdKrGpaL4" role="2Oq$k0">
+                  <ref role="3cqZAo" node="3kMdKrGpaHg" resolve="entry" />
+                </node>
+                <node concept="2OwXpG" id="3kMdKrGpaLx" role="2OqNvi">
+                  <ref role="2Oxat5" node="3kMdKrGpbmj" resolve="verifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="17QB3L" id="3kMdKrGpaM6" role="3clF45" />
+      <node concept="3Tm1VV" id="3kMdKrGpaM7" role="1B3o_S" />
+      <node concept="37vLTG" id="3kMdKrGpaME" role="3clF46">
+        <property role="TrG5h" value="site" />
+        <node concept="10Oyi0" id="3kMdKrGpaN9" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpaNz" role="jymVt" />
+    <node concept="2YIFZL" id="3kMdKrGpaO3" role="jymVt">
+      <property role="TrG5h" value="consume" />
+      <node concept="3clFbS" id="3kMdKrGpaOG" role="3clF47">
+        <node concept="3cpWs8" id="3kMdKrGpaPi" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGpaPJ" role="3cpWs9">
+            <property role="TrG5h" value="drainedSites" />
+            <node concept="10Q1$e" id="3kMdKrGpaPP" role="1tU5fm">
+              <node concept="10Oyi0" id="3kMdKrGpaQe" role="10Q1$1" />
+            </node>
+            <node concept="2ShNRf" id="3kMdKrGpaQI" role="33vP2m">
+              <node concept="3$_iS1" id="3kMdKrGpaR0" role="2ShVmc">
+                <node concept="10Oyi0" id="3kMdKrGpaRy" role="3$_nBY" />
+                <node concept="3$GHV9" id="3kMdKrGpaRT" role="3$GQph">
+                  <node concept="37vLTw" id="3kMdKrGpaS4" role="3$I4v7">
+                    <ref role="3cqZAo" node="3kMdKrGp9hs" resolve="BATCH_SIZE" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="3kMdKrGpaSC" role="3cqZAp">
+          <node concept="3cpWsn" id="3kMdKrGpaSR" role="3cpWs9">
+            <property role="TrG5h" value="drainedThreads" />
+            <node concept="10Q1$e" id="3kMdKrGpaTs" role="1tU5fm">
+              <node concept="3uibUv" id="3kMdKrGpaTv" role="10Q1$1">
+                <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+              </node>
+            </node>
+            <node concept="2ShNRf" id="3kMdKrGpaTT" role="33vP2m">
+              <node concept="3$_iS1" id="3kMdKrGpaUa" role="2ShVmc">
+                <node concept="3uibUv" id="3kMdKrGpaUp" role="3$_nBY">
+                  <ref role="3uigEE" to="wyt6:~Thread" resolve="Thread" />
+                </node>
+                <node concept="3$GHV9" id="3kMdKrGpaUN" role="3$GQph">
+                  <node concept="37vLTw" id="3kMdKrGpaUV" role="3$I4v7">
+                    <ref role="3cqZAo" node="3kMdKrGp9hs" resolve="BATCH_SIZE" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="2$JKZl" id="3kMdKrGpaVq" role="3cqZAp">
+          <node concept="3clFbT" id="3kMdKrGpaVR" role="2$JKZa">
+            <property role="3clFbU" value="true" />
+          </node>
+          <node concept="3clFbS" id="3kMdKrGpaWl" role="2LFqv$">
+            <node concept="3cpWs8" id="3kMdKrGpaWM" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGpaWW" role="3cpWs9">
+                <property role="TrG5h" value="count" />
+                <node concept="10Oyi0" id="3kMdKrGpaXf" role="1tU5fm" />
+                <node concept="2OqwBi" id="3kMdKrGpaXp" role="33vP2m">
+                  <node concept="37vLTw" id="3kMdKrGpaXI" role="2Oq$k0">
+                    <ref role="3cqZAo" node="3kMdKrGp9iZ" resolve="buffer" />
+                  </node>
+                  <node concept="liA8E" id="3kMdKrGpaYc" role="2OqNvi">
+                    <ref role="37wK5l" node="3kMdKrGp8CI" resolve="drain" />
+                    <node concept="37vLTw" id="3kMdKrGpaYN" role="37wK5m">
+                      <ref role="3cqZAo" node="3kMdKrGpaPJ" resolve="drainedSites" />
+                    </node>
+                    <node concept="37vLTw" id="3kMdKrGpaZe" role="37wK5m">
+                      <ref role="3cqZAo" node="3kMdKrGpaSR" resolve="drainedThreads" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="1Dw8fO" id="3kMdKrGpaZF" role="3cqZAp">
+              <node concept="3cpWsn" id="3kMdKrGpa$f" role="1Duv9x">
+                <property role="TrG5h" value="i" />
+                <node concept="10Oyi0" id="3kMdKrGpa$u" role="1tU5fm" />
+                <node concept="3cmrfG" id="3kMdKrGpa$P" role="33vP2m">
+                  <property role="3cmrfH" value="0" />
+                </node>
+              </node>
+              <node concept="3eOVzh" id="3kMdKrGpa_p" role="1Dwp0S">
+                <node concept="37vLTw" id="3kMdKrGpb01" role="3uHU7w">
+                  <ref role="3cqZAo" node="3kMdKrGpaWW" resolve="count" />
+                </node>
+                <node concept="37vLTw" id="3kMdKrGpb0h" role="3uHU7B">
+                  <ref role="3cqZAo" node="3kMdKrGpa$f" resolve="i" />
+                </node>
+              </node>
+              <node concept="3uNrnE" id="3kMdKrGpb0D" role="1Dwrff">
+                <node concept="37vLTw" id="3kMdKrGpb0F" role="2$L3a6">
+                  <ref role="3cqZAo" node="3kMdKrGpa$f" resolve="i" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3kMdKrGpb0Z" role="2LFqv$">
+                <node concept="3cpWs8" id="3kMdKrGpb18" role="3cqZAp">
+                  <node concept="3cpWsn" id="3kMdKrGpb1F" role="3cpWs9">
+                    <property role="TrG5h" value="site" />
+                    <node concept="3uibUv" id="3kMdKrGpb1I" role="1tU5fm">
+                      <ref role="3uigEE" node="3kMdKrGpblK" resolve="Site" />
+                    </node>
+                    <node concept="2OqwBi" id="3kMdKrGpb1K" role="33vP2m">
+                      <node concept="37vLTw" id="3kMdKrGpb2d" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3kMdKrGp9kL" resolve="sites" />
+                      </node>
+                      <node concept="liA8E" id="3kMdKrGpb2o" role="2OqNvi">
+                        <ref role="37wK5l" to="5zyv:~CopyOnWriteArrayList.get(int)" resolve="get" />
+                        <node concept="AH0OO" id="3kMdKrGpb2V" role="37wK5m">
+                          <node concept="37vLTw" id="3kMdKrGpb34" role="AHEQo">
+                            <ref role="3cqZAo" node="3kMdKrGpa$f" resolve="i" />
+                          </node>
+                          <node concept="37vLTw" id="3kMdKrGpb3q" role="AHHXb">
+                            <ref role="3cqZAo" node="3kMdKrGpaPJ" resolve="drainedSites" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="3kMdKrGpb3t" role="3cqZAp">
+                  <node concept="2OqwBi" id="3kMdKrGpb3Z" role="3clFbG">
+                    <node concept="2OqwBi" id="3kMdKrGpb4B" role="2Oq$k0">
+                      <node concept="37vLTw" id="3kMdKrGpb4C" role="2Oq$k0">
+                        <ref role="3cqZAo" node="3kMdKrGpb1F" resolve="site" />
+                      </node>
+                      <node concept="2OwXpG" id="3kMdKrGpb4R" role="2OqNvi">
+                        <ref role="2Oxat5" node="3kMdKrGpbnc" resolve="count" />
+                      </node>
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGpb4S" role="2OqNvi">
+                      <ref role="37wK5l" to="i5cy:~AtomicLong.incrementAndGet()" resolve="incrementAndGet" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="3kMdKrGpb5b" role="3cqZAp">
+                  <node concept="2OqwBi" id="3kMdKrGpb5I" role="3clFbG">
+                    <node concept="37vLTw" id="3kMdKrGpb6i" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3kMdKrGp9rI" resolve="reported" />
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGpb6R" role="2OqNvi">
+                      <ref role="37wK5l" to="i5cy:~AtomicLong.incrementAndGet()" resolve="incrementAndGet" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3cpWs8" id="3kMdKrGpb72" role="3cqZAp">
+                  <node concept="3cpWsn" id="3kMdKrGpb74" role="3cpWs9">
+                    <property role="TrG5h" value="event" />
+                    <node concept="3uibUv" id="3kMdKrGpb7q" role="1tU5fm">
+                      <ref role="3uigEE" node="3kMdKrGp8_T" resolve="MisuseEvent" />
+                    </node>
+                    <node concept="2ShNRf" id="3kMdKrGpb7Z" role="33vP2m">
+                      <node concept="1pGfFk" id="3kMdKrGpb8B" role="2ShVmc">
+                        <ref role="37wK5l" node="3kMdKrGp92J" resolve="MisuseEvent" />
+                        <node concept="2OqwBi" id="3kMdKrGpb8E" role="37wK5m">
+                          <node concept="37vLTw" id="3kMdKrGpb8V" role="2Oq$k0">
+                            <ref role="3cqZAo" node="3kMdKrGpb1F" resolve="site" />
+                          </node>
+                          <node concept="2OwXpG" id="3kMdKrGpb8Z" role="2OqNvi">
+                            <ref role="2Oxat5" node="3kMdKrGpbmj" resolve="verifiedClass" />
+                          </node>
+                        </node>
+                        <node concept="2OqwBi" id="3kMdKrGpb96" role="37wK5m">
+                          <node concept="37vLTw" id="3kMdKrGpb9g" role="2Oq$k0">
+                            <ref role="3cqZAo" node="3kMdKrGpb1F" resolve="site" />
+                          </node>
+                          <node concept="2OwXpG" id="3kMdKrGpb9p" role="2OqNvi">
+                            <ref role="2Oxat5" node="3kMdKrGpbmw" resolve="description" />
+                          </node>
+                        </node>
+                        <node concept="AH0OO" id="3kMdKrGpba0" role="37wK5m">
+                          <node concept="37vLTw" id="3kMdKrGpbax" role="AHEQo">
+                            <ref role="3cqZAo" node="3kMdKrGpa$f" resolve="i" />
+                          </node>
+                          <node concept="37vLTw" id="3kMdKrGpbaW" role="AHHXb">
+                            <ref role="3cqZAo" node="3kMdKrGpaSR" resolve="drainedThreads" />
+                          </node>
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3kMdKrGpbb0" role="3cqZAp">
+                  <node concept="2OqwBi" id="3kMdKrGpbby" role="3clFbw">
+                    <node concept="37vLTw" id="3kMdKrGpbbR" role="2Oq$k0">
+                      <ref role="3cqZAo" node="3kMdKrGpb74" resolve="event" />
+                    </node>
+                    <node concept="liA8E" id="3kMdKrGpbbY" role="2OqNvi">
+                      <ref role="37wK5l" to="6rnd:~Event.isEnabled()" resolve="isEnabled" />
+                    </node>
+                  </node>
+                  <node concept="3clFbS" id="3kMdKrGpbcm" role="3clFbx">
+                    <node concept="3clFbF" id="3kMdKrGpbct" role="3cqZAp">
+                      <node concept="2OqwBi" id="3kMdKrGpbcV" role="3clFbG">
+                        <node concept="37vLTw" id="3kMdKrGpbdm" role="2Oq$k0">
+                          <ref role="3cqZAo" node="3kMdKrGpb74" resolve="event" />
+                        </node>
+                        <node concept="liA8E" id="3kMdKrGpbdn" role="2OqNvi">
+                          <ref role="37wK5l" to="6rnd:~Event.commit()" resolve="commit" />
+                        </node>
+                      </node>
+                    </node>
+                  </node>
+                </node>
+                <node concept="3clFbF" id="3kMdKrGpbdK" role="3cqZAp">
+                  <node concept="37vLTI" id="3kMdKrGpbed" role="3clFbG">
+                    <node concept="10Nm6u" id="3kMdKrGpbeo" role="37vLTx" />
+                    <node concept="AH0OO" id="3kMdKrGpbeS" role="37vLTJ">
+                      <node concept="37vLTw" id="3kMdKrGpbf3" role="AHEQo">
+                        <ref role="3cqZAo" node="3kMdKrGpa$f" resolve="i" />
+                      </node>
+                      <node concept="37vLTw" id="3kMdKrGpbfy" role="AHHXb">
+                        <ref role="3cqZAo" node="3kMdKrGpaSR" resolve="drainedThreads" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="3kMdKrGpbfH" role="3cqZAp">
+              <node concept="3clFbC" id="3kMdKrGpbgj" role="3clFbw">
+                <node concept="3cmrfG" id="3kMdKrGpbgW" role="3uHU7w">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="37vLTw" id="3kMdKrGpbhd" role="3uHU7B">
+                  <ref role="3cqZAo" node="3kMdKrGpaWW" resolve="count" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="3kMdKrGpbho" role="3clFbx">
+                <node concept="3clFbF" id="3YEjgqYk0es" role="3cqZAp">
+                  <node concept="2YIFZM" id="3YEjgqYk0ev" role="3clFbG">
+                    <ref role="37wK5l" to="lk7u:~LockSupport.park()" resolve="park" />
+                    <ref role="1Pybhc" to="lk7u:~LockSupport" resolve="LockSupport" />
+                  </node>
+                </node>
+                <node concept="3clFbJ" id="3YEjgqYk0ey" role="3cqZAp">
+                  <node concept="2YIFZM" id="3YEjgqYk0e_" role="3clFbw">
+                    <ref role="37wK5l" to="wyt6:~Thread.interrupted()" resolve="interrupted" />
+                    <ref role="1Pybhc" to="wyt6:~Thread" resolve="Thread" />
+                  </node>
+                  <node concept="3clFbS" id="3YEjgqYk0f2" role="3clFbx">
+                    <node concept="3cpWs6" id="3YEjgqYk0f5" role="3cqZAp" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="3kMdKrGpblf" role="3clF45" />
+      <node concept="3Tm6S6" id="3kMdKrGpblw" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="3kMdKrGpblA" role="jymVt" />
+    <node concept="312cEu" id="3kMdKrGpblK" role="jymVt">
+      <property role="TrG5h" value="Site" />
+      <property role="1EXbeo" value="true" />
+      <node concept="312cEg" id="3kMdKrGpbmj" role="jymVt">
+        <property role="TrG5h" value="verifiedClass" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3kMdKrGpbmp" role="1B3o_S" />
+        <node concept="17QB3L" id="3kMdKrGpbmt" role="1tU5fm" />
+      </node>
+      <node concept="312cEg" id="3kMdKrGpbmw" role="jymVt">
+        <property role="TrG5h" value="description" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3kMdKrGpbmD" role="1B3o_S" />
+        <node concept="17QB3L" id="3kMdKrGpbmH" role="1tU5fm" />
+      </node>
+      <node concept="312cEg" id="3kMdKrGpbnc" role="jymVt">
+        <property role="TrG5h" value="count" />
+        <property role="3TUv4t" value="true" />
+        <node concept="3Tm6S6" id="3kMdKrGpbnB" role="1B3o_S" />
+        <node concept="3uibUv" id="3kMdKrGpbnI" role="1tU5fm">
+          <ref role="3uigEE" to="i5cy:~AtomicLong" resolve="AtomicLong" />
+        </node>
+        <node concept="2ShNRf" id="3kMdKrGpbnU" role="33vP2m">
+          <node concept="1pGfFk" id="3kMdKrGpbol" role="2ShVmc">
+            <ref role="37wK5l" to="i5cy:~AtomicLong.&lt;init&gt;()" resolve="AtomicLong" />
+          </node>
+        </node>
+      </node>
+      <node concept="2tJIrI" id="3kMdKrGpboy" role="jymVt" />
+      <node concept="3clFbW" id="3kMdKrGpboW" role="jymVt">
+        <node concept="3cqZAl" id="3kMdKrGpbp0" role="3clF45" />
+        <node concept="3Tm1VV" id="3kMdKrGpbpr" role="1B3o_S" />
+        <node concept="3clFbS" id="3kMdKrGpbpw" role="3clF47">
+          <node concept="3clFbF" id="3kMdKrGpbpZ" role="3cqZAp">
+            <node concept="37vLTI" id="3kMdKrGpbqd" role="3clFbG">
+              <node concept="37vLTw" id="3kMdKrGpbqt" role="37vLTx">
+                <ref role="3cqZAo" node="3kMdKrGpbt7" resolve="verifiedClass" />
+              </node>
+              <node concept="2OqwBi" id="3kMdKrGpbqG" role="37vLTJ">
+                <node concept="Xjq3P" id="3kMdKrGpbqO" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3kMdKrGpbqZ" role="2OqNvi">
+                  <ref role="2Oxat5" node="3kMdKrGpbmj" resolve="verifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3clFbF" id="3kMdKrGpbrB" role="3cqZAp">
+            <node concept="37vLTI" id="3kMdKrGpbrT" role="3clFbG">
+              <node concept="37vLTw" id="3kMdKrGpbso" role="37vLTx">
+                <ref role="3cqZAo" node="3kMdKrGpbu7" resolve="description" />
+              </node>
+              <node concept="2OqwBi" id="3kMdKrGpbsx" role="37vLTJ">
+                <node concept="Xjq3P" id="3kMdKrGpbsR" role="2Oq$k0" />
+                <node concept="2OwXpG" id="3kMdKrGpbsW" role="2OqNvi">
+                  <ref role="2Oxat5" node="3kMdKrGpbmw" resolve="description" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="37vLTG" id="3kMdKrGpbt7" role="3clF46">
+          <property role="TrG5h" value="verifiedClass" />
+          <node concept="17QB3L" id="3kMdKrGpbtB" role="1tU5fm" />
+        </node>
+        <node concept="37vLTG" id="3kMdKrGpbu7" role="3clF46">
+          <property role="TrG5h" value="description" />
+          <node concept="17QB3L" id="3kMdKrGpbuC" role="1tU5fm" />
+        </node>
+      </node>
+      <node concept="3Tm6S6" id="3kMdKrGpbuY" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="3kMdKrGpbvs" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="2QmWbwu4onK">
+    <property role="TrG5h" value="LatencyHistogram" />
+    <property role="1EXbeo" value="true" />
+    <node concept="Wx3nA" id="2QmWbwu4oo6" role="jymVt">
+      <property role="TrG5h" value="BUCKETS" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm1VV" id="2QmWbwu4oof" role="1B3o_S" />
+      <node concept="10Oyi0" id="2QmWbwu4ooD" role="1tU5fm" />
+      <node concept="3cmrfG" id="2QmWbwu4ooL" role="33vP2m">
+        <property role="3cmrfH" value="64" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4op6" role="jymVt" />
+    <node concept="312cEg" id="2QmWbwu4opj" role="jymVt">
+      <property role="TrG5h" value="buckets" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4opP" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4oq2" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~AtomicLongArray" resolve="AtomicLongArray" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4oqc" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4oqv" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~AtomicLongArray.&lt;init&gt;(int)" resolve="AtomicLongArray" />
+          <node concept="37vLTw" id="2QmWbwu4oqL" role="37wK5m">
+            <ref role="3cqZAo" node="2QmWbwu4oo6" resolve="BUCKETS" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4or3" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4oro" role="jymVt">
+      <property role="TrG5h" value="record" />
+      <node concept="3clFbS" id="2QmWbwu4orV" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4orW" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4os8" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4osK" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4opj" resolve="buckets" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4osP" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicLongArray.incrementAndGet(int)" resolve="incrementAndGet" />
+              <node concept="3K4zz7" id="2QmWbwu4osY" role="37wK5m">
+                <node concept="2dkUwp" id="2QmWbwu4oty" role="3K4Cdx">
+                  <node concept="3cmrfG" id="2QmWbwu4otQ" role="3uHU7w">
+                    <property role="3cmrfH" value="0" />
+                  </node>
+                  <node concept="37vLTw" id="2QmWbwu4otS" role="3uHU7B">
+                    <ref role="3cqZAo" node="2QmWbwu4ows" resolve="nanos" />
+                  </node>
+                </node>
+                <node concept="3cmrfG" id="2QmWbwu4otU" role="3K4E3e">
+                  <property role="3cmrfH" value="0" />
+                </node>
+                <node concept="3cpWsd" id="2QmWbwu4ouq" role="3K4GZi">
+                  <node concept="2YIFZM" id="2QmWbwu4ouU" role="3uHU7w">
+                    <ref role="37wK5l" to="wyt6:~Long.numberOfLeadingZeros(long)" resolve="numberOfLeadingZeros" />
+                    <ref role="1Pybhc" to="wyt6:~Long" resolve="Long" />
+                    <node concept="37vLTw" id="2QmWbwu4ovi" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4ows" resolve="nanos" />
+                    </node>
+                  </node>
+                  <node concept="3cmrfG" id="2QmWbwu4ovS" role="3uHU7B">
+                    <property role="3cmrfH" value="64" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="2QmWbwu4ovY" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4ov_" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4ows" role="3clF46">
+        <property role="TrG5h" value="nanos" />
+        <node concept="3cpbJK" id="2QmWbwu4owv" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4owE" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4oxd" role="jymVt">
+      <property role="TrG5h" value="count" />
+      <node concept="3clFbS" id="2QmWbwu4oxx" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4oxO" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4oyk" role="3cqZAk">
+            <node concept="37vLTw" id="2QmWbwu4oyK" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4opj" resolve="buckets" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4ozf" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~AtomicLongArray.get(int)" resolve="get" />
+              <node concept="37vLTw" id="2QmWbwu4ozw" role="37wK5m">
+                <ref role="3cqZAo" node="2QmWbwu4oAk" resolve="bucket" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4ozz" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4oA5" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4oAk" role="3clF46">
+        <property role="TrG5h" value="bucket" />
+        <node concept="10Oyi0" id="2QmWbwu4oAD" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4oAW" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4oAY" role="jymVt">
+      <property role="TrG5h" value="total" />
+      <node concept="3clFbS" id="2QmWbwu4oBA" role="3clF47">
+        <node concept="3cpWs8" id="2QmWbwu4oC4" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4oCd" role="3cpWs9">
+            <property role="TrG5h" value="total" />
+            <node concept="3cpbJK" id="2QmWbwu4oCR" role="1tU5fm" />
+            <node concept="3cmrfG" id="2QmWbwu4oD3" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="2QmWbwu4oDv" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4oDN" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="2QmWbwu4oE5" role="1tU5fm" />
+            <node concept="3cmrfG" id="2QmWbwu4oEf" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="2QmWbwu4oEt" role="1Dwp0S">
+            <node concept="37vLTw" id="2QmWbwu4oF4" role="3uHU7w">
+              <ref role="3cqZAo" node="2QmWbwu4oo6" resolve="BUCKETS" />
+            </node>
+            <node concept="37vLTw" id="2QmWbwu4oFy" role="3uHU7B">
+              <ref role="3cqZAo" node="2QmWbwu4oDN" resolve="i" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="2QmWbwu4oFG" role="1Dwrff">
+            <node concept="37vLTw" id="2QmWbwu4oG4" role="2$L3a6">
+              <ref role="3cqZAo" node="2QmWbwu4oDN" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="2QmWbwu4oGC" role="2LFqv$">
+            <node concept="3clFbF" id="2QmWbwu4oH3" role="3cqZAp">
+              <node concept="d57v9" id="2QmWbwu4oHE" role="3clFbG">
+                <node concept="2OqwBi" id="2QmWbwu4oHL" role="37vLTx">
+                  <node concept="37vLTw" id="2QmWbwu4oH$" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2QmWbwu4opj" resolve="buckets" />
+                  </node>
+                  <node concept="liA8E" id="2QmWbwu4oIB" role="2OqNvi">
+                    <ref role="37wK5l" to="i5cy:~AtomicLongArray.get(int)" resolve="get" />
+                    <node concept="37vLTw" id="2QmWbwu4oIN" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4oDN" resolve="i" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="2QmWbwu4oIU" role="37vLTJ">
+                  <ref role="3cqZAo" node="2QmWbwu4oCd" resolve="total" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4oJe" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4oJg" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4oCd" resolve="total" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4oJE" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4oJZ" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4oKf" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4oKK" role="jymVt">
+      <property role="TrG5h" value="percentile" />
+      <node concept="3clFbS" id="2QmWbwu4oLk" role="3clF47">
+        <node concept="3cpWs8" id="2QmWbwu4oLS" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4oMk" role="3cpWs9">
+            <property role="TrG5h" value="total" />
+            <node concept="3cpbJK" id="2QmWbwu4oMo" role="1tU5fm" />
+            <node concept="1rXfSq" id="2QmWbwu4oME" role="33vP2m">
+              <ref role="37wK5l" node="2QmWbwu4oAY" resolve="total" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs8" id="2QmWbwu4oN1" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4oN8" role="3cpWs9">
+            <property role="TrG5h" value="seen" />
+            <node concept="3cpbJK" id="2QmWbwu4oN9" role="1tU5fm" />
+            <node concept="3cmrfG" id="2QmWbwu4oNJ" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+        </node>
+        <node concept="1Dw8fO" id="2QmWbwu4oOc" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4oOn" role="1Duv9x">
+            <property role="TrG5h" value="i" />
+            <node concept="10Oyi0" id="2QmWbwu4oOT" role="1tU5fm" />
+            <node concept="3cmrfG" id="2QmWbwu4oPo" role="33vP2m">
+              <property role="3cmrfH" value="0" />
+            </node>
+          </node>
+          <node concept="3eOVzh" id="2QmWbwu4oPJ" role="1Dwp0S">
+            <node concept="37vLTw" id="2QmWbwu4oP_" role="3uHU7w">
+              <ref role="3cqZAo" node="2QmWbwu4oo6" resolve="BUCKETS" />
+            </node>
+            <node concept="37vLTw" id="2QmWbwu4oQi" role="3uHU7B">
+              <ref role="3cqZAo" node="2QmWbwu4oOn" resolve="i" />
+            </node>
+          </node>
+          <node concept="3uNrnE" id="2QmWbwu4oQM" role="1Dwrff">
+            <node concept="37vLTw" id="2QmWbwu4oR0" role="2$L3a6">
+              <ref role="3cqZAo" node="2QmWbwu4oOn" resolve="i" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="2QmWbwu4oRE" role="2LFqv$">
+            <node concept="3clFbF" id="2QmWbwu4oSb" role="3cqZAp">
+              <node concept="d57v9" id="2QmWbwu4oSg" role="3clFbG">
+                <node concept="2OqwBi" id="2QmWbwu4oST" role="37vLTx">
+                  <node concept="37vLTw" id="2QmWbwu4oS_" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2QmWbwu4opj" resolve="buckets" />
+                  </node>
+                  <node concept="liA8E" id="2QmWbwu4oTa" role="2OqNvi">
+                    <ref role="37wK5l" to="i5cy:~AtomicLongArray.get(int)" resolve="get" />
+                    <node concept="37vLTw" id="2QmWbwu4oTd" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4oOn" resolve="i" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="2QmWbwu4oTJ" role="37vLTJ">
+                  <ref role="3cqZAo" node="2QmWbwu4oN8" resolve="seen" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="2QmWbwu4oTY" role="3cqZAp">
+              <node concept="1Wc70l" id="2QmWbwu4oUv" role="3clFbw">
+                <node concept="2d3UOw" id="2QmWbwu4oV1" role="3uHU7w">
+                  <node concept="17qRlL" id="2QmWbwu4oVn" role="3uHU7w">
+                    <node concept="37vLTw" id="2QmWbwu4oVF" role="3uHU7w">
+                      <ref role="3cqZAo" node="2QmWbwu4o_e" resolve="percent" />
+                    </node>
+                    <node concept="37vLTw" id="2QmWbwu4oVY" role="3uHU7B">
+                      <ref role="3cqZAo" node="2QmWbwu4oMk" resolve="total" />
+                    </node>
+                  </node>
+                  <node concept="17qRlL" id="2QmWbwu4oWp" role="3uHU7B">
+                    <node concept="3cmrfG" id="2QmWbwu4oWD" role="3uHU7w">
+                      <property role="3cmrfH" value="100" />
+                    </node>
+                    <node concept="37vLTw" id="2QmWbwu4oWV" role="3uHU7B">
+                      <ref role="3cqZAo" node="2QmWbwu4oN8" resolve="seen" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="3eOSWO" id="2QmWbwu4oX5" role="3uHU7B">
+                  <node concept="3cmrfG" id="2QmWbwu4oXc" role="3uHU7w">
+                    <property role="3cmrfH" value="0" />
+                  </node>
+                  <node concept="37vLTw" id="2QmWbwu4oXy" role="3uHU7B">
+                    <ref role="3cqZAo" node="2QmWbwu4oN8" resolve="seen" />
+                  </node>
+                </node>
+              </node>
+              <node concept="3clFbS" id="2QmWbwu4oXY" role="3clFbx">
+                <node concept="3cpWs6" id="2QmWbwu4oY2" role="3cqZAp">
+                  <node concept="1rXfSq" id="2QmWbwu4oYD" role="3cqZAk">
+                    <ref role="37wK5l" node="2QmWbwu4p0g" resolve="upperBound" />
+                    <node concept="37vLTw" id="2QmWbwu4oYU" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4oOn" resolve="i" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4oZa" role="3cqZAp">
+          <node concept="3cmrfG" id="2QmWbwu4oZN" role="3cqZAk">
+            <property role="3cmrfH" value="0" />
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4o$g" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4o$N" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4o_e" role="3clF46">
+        <property role="TrG5h" value="percent" />
+        <node concept="10Oyi0" id="2QmWbwu4o_r" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4o_R" role="jymVt" />
+    <node concept="2YIFZL" id="2QmWbwu4p0g" role="jymVt">
+      <property role="TrG5h" value="upperBound" />
+      <node concept="3clFbS" id="2QmWbwu4p0K" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4p0M" role="3cqZAp">
+          <node concept="3K4zz7" id="2QmWbwu4p10" role="3cqZAk">
+            <node concept="2d3UOw" id="2QmWbwu4p1A" role="3K4Cdx">
+              <node concept="3cmrfG" id="2QmWbwu4p1O" role="3uHU7w">
+                <property role="3cmrfH" value="63" />
+              </node>
+              <node concept="37vLTw" id="2QmWbwu4p2p" role="3uHU7B">
+                <ref role="3cqZAo" node="2QmWbwu4p6t" resolve="bucket" />
+              </node>
+            </node>
+            <node concept="10M0yZ" id="2QmWbwu4p2$" role="3K4E3e">
+              <ref role="1PxDUh" to="wyt6:~Long" resolve="Long" />
+              <ref role="3cqZAo" to="wyt6:~Long.MAX_VALUE" resolve="MAX_VALUE" />
+            </node>
+            <node concept="3cpWsd" id="2QmWbwu4p3k" role="3K4GZi">
+              <node concept="3cmrfG" id="2QmWbwu4p3M" role="3uHU7w">
+                <property role="3cmrfH" value="1" />
+              </node>
+              <node concept="1GRDU$" id="2QmWbwu4p3T" role="3uHU7B">
+                <node concept="37vLTw" id="2QmWbwu4p3Y" role="3uHU7w">
+                  <ref role="3cqZAo" node="2QmWbwu4p6t" resolve="bucket" />
+                </node>
+                <node concept="10QFUN" id="2QmWbwu4p4y" role="3uHU7B">
+                  <node concept="3cpbJK" id="2QmWbwu4p4X" role="10QFUM" />
+                  <node concept="3cmrfG" id="2QmWbwu4p5w" role="10QFUP">
+                    <property role="3cmrfH" value="1" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4p5Y" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4p6a" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4p6t" role="3clF46">
+        <property role="TrG5h" value="bucket" />
+        <node concept="10Oyi0" id="2QmWbwu4p6G" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="2QmWbwu4p6J" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="2QmWbwu4p7j">
+    <property role="TrG5h" value="VerifiedClassMetrics" />
+    <property role="1EXbeo" value="true" />
+    <node concept="312cEg" id="2QmWbwu4p7T" role="jymVt">
+      <property role="TrG5h" value="name" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4p7Z" role="1B3o_S" />
+      <node concept="17QB3L" id="2QmWbwu4p87" role="1tU5fm" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4p8I" role="jymVt" />
+    <node concept="312cEg" id="2QmWbwu4p8P" role="jymVt">
+      <property role="TrG5h" value="guardChanges" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4p8Y" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4p9f" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~LongAdder" resolve="LongAdder" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4p9D" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4p9L" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~LongAdder.&lt;init&gt;()" resolve="LongAdder" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="2QmWbwu4paa" role="jymVt">
+      <property role="TrG5h" value="requirementChecks" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4paH" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4pbh" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~LongAdder" resolve="LongAdder" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4pbp" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4pbP" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~LongAdder.&lt;init&gt;()" resolve="LongAdder" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="2QmWbwu4pcq" role="jymVt">
+      <property role="TrG5h" value="registrations" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4pcS" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4pdd" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~LongAdder" resolve="LongAdder" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4pdH" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4pdM" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~LongAdder.&lt;init&gt;()" resolve="LongAdder" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="2QmWbwu4peg" role="jymVt">
+      <property role="TrG5h" value="finalStateChecks" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4peC" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4pfa" role="1tU5fm">
+        <ref role="3uigEE" to="i5cy:~LongAdder" resolve="LongAdder" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4pfo" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4pfB" role="2ShVmc">
+          <ref role="37wK5l" to="i5cy:~LongAdder.&lt;init&gt;()" resolve="LongAdder" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pfT" role="jymVt" />
+    <node concept="312cEg" id="2QmWbwu4pf_" role="jymVt">
+      <property role="TrG5h" value="requirementLatency" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4pg2" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4pg9" role="1tU5fm">
+        <ref role="3uigEE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4pgm" role="33vP2m">
+        <node concept="HV5vD" id="2QmWbwu4pgI" role="2ShVmc">
+          <ref role="HV5vE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+        </node>
+      </node>
+    </node>
+    <node concept="312cEg" id="2QmWbwu4pgO" role="jymVt">
+      <property role="TrG5h" value="finalStateAge" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4php" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4phP" role="1tU5fm">
+        <ref role="3uigEE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4pi5" role="33vP2m">
+        <node concept="HV5vD" id="2QmWbwu4piq" role="2ShVmc">
+          <ref role="HV5vE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4piu" role="jymVt" />
+    <node concept="3clFbW" id="2QmWbwu4pi$" role="jymVt">
+      <node concept="3cqZAl" id="2QmWbwu4pjk" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pjT" role="1B3o_S" />
+      <node concept="3clFbS" id="2QmWbwu4pka" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4pkC" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4pl0" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4plf" role="37vLTx">
+              <ref role="3cqZAo" node="2QmWbwu4pmr" resolve="name" />
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4plo" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4plG" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4pl_" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4p7T" resolve="name" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="2QmWbwu4pmr" role="3clF46">
+        <property role="TrG5h" value="name" />
+        <node concept="17QB3L" id="2QmWbwu4pmA" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pn1" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pnh" role="jymVt">
+      <property role="TrG5h" value="guardChanged" />
+      <node concept="3clFbS" id="2QmWbwu4pnO" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4poo" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4poM" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4poU" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4p8P" resolve="guardChanges" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4ppi" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.increment()" resolve="increment" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4ppx" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4ppN" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4pqe" resolve="value" />
+          </node>
+        </node>
+      </node>
+      <node concept="10P_77" id="2QmWbwu4ppP" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4ppT" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4pqe" role="3clF46">
+        <property role="TrG5h" value="value" />
+        <node concept="10P_77" id="2QmWbwu4pqq" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pqL" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pr2" role="jymVt">
+      <property role="TrG5h" value="guardStateChanged" />
+      <node concept="3clFbS" id="2QmWbwu4prD" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4ps6" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4psF" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4psQ" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4p8P" resolve="guardChanges" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4psW" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.increment()" resolve="increment" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4ptj" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4ptx" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4puS" resolve="state" />
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="2QmWbwu4pu9" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4put" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4puS" role="3clF46">
+        <property role="TrG5h" value="state" />
+        <node concept="10Oyi0" id="2QmWbwu4pvc" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pvr" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pvB" role="jymVt">
+      <property role="TrG5h" value="requirementChecked" />
+      <node concept="3clFbS" id="2QmWbwu4pvS" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4pws" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pwR" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4pwU" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4pf_" resolve="requirementLatency" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4px6" role="2OqNvi">
+              <ref role="37wK5l" node="2QmWbwu4oro" resolve="record" />
+              <node concept="3cpWsd" id="2QmWbwu4pxF" role="37wK5m">
+                <node concept="37vLTw" id="2QmWbwu4pxM" role="3uHU7w">
+                  <ref role="3cqZAo" node="2QmWbwu4pBp" resolve="startNanos" />
+                </node>
+                <node concept="2YIFZM" id="2QmWbwu4pyf" role="3uHU7B">
+                  <ref role="37wK5l" to="wyt6:~System.nanoTime()" resolve="nanoTime" />
+                  <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4pyK" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pze" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4pzC" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4paa" resolve="requirementChecks" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pAb" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.increment()" resolve="increment" />
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4pAs" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4pAU" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4pCn" resolve="satisfied" />
+          </node>
+        </node>
+      </node>
+      <node concept="10P_77" id="2QmWbwu4pA$" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pB6" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4pBp" role="3clF46">
+        <property role="TrG5h" value="startNanos" />
+        <node concept="3cpbJK" id="2QmWbwu4pBY" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="2QmWbwu4pCn" role="3clF46">
+        <property role="TrG5h" value="satisfied" />
+        <node concept="10P_77" id="2QmWbwu4pCR" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pDj" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pDV" role="jymVt">
+      <property role="TrG5h" value="registered" />
+      <node concept="3clFbS" id="2QmWbwu4pEp" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4pEM" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pF6" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4pFd" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4pcq" resolve="registrations" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pFf" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.increment()" resolve="increment" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="2QmWbwu4pFQ" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pGq" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pGz" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pGG" role="jymVt">
+      <property role="TrG5h" value="finalStateChecked" />
+      <node concept="3clFbS" id="2QmWbwu4pGH" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4pHd" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pHQ" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4pI6" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4pgO" resolve="finalStateAge" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pIE" role="2OqNvi">
+              <ref role="37wK5l" node="2QmWbwu4oro" resolve="record" />
+              <node concept="3cpWsd" id="2QmWbwu4pIX" role="37wK5m">
+                <node concept="37vLTw" id="2QmWbwu4pJn" role="3uHU7w">
+                  <ref role="3cqZAo" node="2QmWbwu4pM2" resolve="registeredNanos" />
+                </node>
+                <node concept="2YIFZM" id="2QmWbwu4pJC" role="3uHU7B">
+                  <ref role="37wK5l" to="wyt6:~System.nanoTime()" resolve="nanoTime" />
+                  <ref role="1Pybhc" to="wyt6:~System" resolve="System" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4pJO" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pKq" role="3clFbG">
+            <node concept="37vLTw" id="2QmWbwu4pKr" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4peg" resolve="finalStateChecks" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pKQ" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.increment()" resolve="increment" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="2QmWbwu4pL8" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pLq" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4pM2" role="3clF46">
+        <property role="TrG5h" value="registeredNanos" />
+        <node concept="3cpbJK" id="2QmWbwu4pMB" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pMX" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pM$" role="jymVt">
+      <property role="TrG5h" value="getName" />
+      <node concept="3clFbS" id="2QmWbwu4pNa" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4pNz" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4pNT" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4p7T" resolve="name" />
+          </node>
+        </node>
+      </node>
+      <node concept="17QB3L" id="2QmWbwu4pNU" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pNV" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pOe" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pOp" role="jymVt">
+      <property role="TrG5h" value="getGuardChanges" />
+      <node concept="3clFbS" id="2QmWbwu4pOq" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4pOv" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pOC" role="3cqZAk">
+            <node concept="37vLTw" id="2QmWbwu4pOY" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4p8P" resolve="guardChanges" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pPm" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4pPL" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pQd" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pQD" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pRc" role="jymVt">
+      <property role="TrG5h" value="getRequirementChecks" />
+      <node concept="3clFbS" id="2QmWbwu4pRN" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4pS5" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pSI" role="3cqZAk">
+            <node concept="37vLTw" id="2QmWbwu4pSS" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4paa" resolve="requirementChecks" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pT6" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4pTr" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pTE" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pUc" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pUe" role="jymVt">
+      <property role="TrG5h" value="getRegistrations" />
+      <node concept="3clFbS" id="2QmWbwu4pUS" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4pVm" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pVP" role="3cqZAk">
+            <node concept="37vLTw" id="2QmWbwu4pVT" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4pcq" resolve="registrations" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pWg" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4pWm" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pWF" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pWL" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4pXb" role="jymVt">
+      <property role="TrG5h" value="getFinalStateChecks" />
+      <node concept="3clFbS" id="2QmWbwu4pXN" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4pY5" role="3cqZAp">
+          <node concept="2OqwBi" id="2QmWbwu4pYs" role="3cqZAk">
+            <node concept="37vLTw" id="2QmWbwu4pZ1" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4peg" resolve="finalStateChecks" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4pZv" role="2OqNvi">
+              <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4pZL" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4pZP" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4pZW" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4p$w" role="jymVt">
+      <property role="TrG5h" value="getTrackedObjects" />
+      <node concept="3clFbS" id="2QmWbwu4p$F" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4p$O" role="3cqZAp">
+          <node concept="3cpWsd" id="2QmWbwu4p_6" role="3cqZAk">
+            <node concept="2OqwBi" id="2QmWbwu4p_J" role="3uHU7w">
+              <node concept="37vLTw" id="2QmWbwu4p_U" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4peg" resolve="finalStateChecks" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4p_Y" role="2OqNvi">
+                <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4q0t" role="3uHU7B">
+              <node concept="37vLTw" id="2QmWbwu4q0M" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4pcq" resolve="registrations" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4q1n" role="2OqNvi">
+                <ref role="37wK5l" to="i5cy:~LongAdder.sum()" resolve="sum" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cpbJK" id="2QmWbwu4q1s" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4q1T" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4q2h" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4q2C" role="jymVt">
+      <property role="TrG5h" value="getRequirementLatency" />
+      <node concept="3clFbS" id="2QmWbwu4q3c" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4q3q" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4q3z" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4pf_" resolve="requirementLatency" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="2QmWbwu4q44" role="3clF45">
+        <ref role="3uigEE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+      </node>
+      <node concept="3Tm1VV" id="2QmWbwu4q4C" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4q4U" role="jymVt" />
+    <node concept="3clFb_" id="2QmWbwu4q5u" role="jymVt">
+      <property role="TrG5h" value="getFinalStateAge" />
+      <node concept="3clFbS" id="2QmWbwu4q5F" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4q5K" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4q6j" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4pgO" resolve="finalStateAge" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="2QmWbwu4q6T" role="3clF45">
+        <ref role="3uigEE" node="2QmWbwu4onK" resolve="LatencyHistogram" />
+      </node>
+      <node concept="3Tm1VV" id="2QmWbwu4q7q" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="2QmWbwu4q7I" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="2QmWbwu4q7N">
+    <property role="TrG5h" value="VerifiedClassMetricsEvent" />
+    <node concept="312cEg" id="2QmWbwu4q86" role="jymVt">
+      <property role="TrG5h" value="verifiedClass" />
+      <node concept="3Tm6S6" id="2QmWbwu4q8E" role="1B3o_S" />
+      <node concept="17QB3L" id="2QmWbwu4q9g" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="2QmWbwu4q9I" role="jymVt">
+      <property role="TrG5h" value="guardChanges" />
+      <node concept="3Tm6S6" id="2QmWbwu4qa7" role="1B3o_S" />
+      <node concept="3cpbJK" id="2QmWbwu4qaH" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="2QmWbwu4qb7" role="jymVt">
+      <property role="TrG5h" value="requirementChecks" />
+      <node concept="3Tm6S6" id="2QmWbwu4qbc" role="1B3o_S" />
+      <node concept="3cpbJK" id="2QmWbwu4qbi" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="2QmWbwu4qbs" role="jymVt">
+      <property role="TrG5h" value="trackedObjects" />
+      <node concept="3Tm6S6" id="2QmWbwu4qbA" role="1B3o_S" />
+      <node concept="3cpbJK" id="2QmWbwu4qbR" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="2QmWbwu4qc7" role="jymVt">
+      <property role="TrG5h" value="requirementLatencyP99" />
+      <node concept="3Tm6S6" id="2QmWbwu4qcd" role="1B3o_S" />
+      <node concept="3cpbJK" id="2QmWbwu4qcM" role="1tU5fm" />
+    </node>
+    <node concept="312cEg" id="2QmWbwu4qd1" role="jymVt">
+      <property role="TrG5h" value="finalStateAgeP50" />
+      <node concept="3Tm6S6" id="2QmWbwu4qdk" role="1B3o_S" />
+      <node concept="3cpbJK" id="2QmWbwu4qdK" role="1tU5fm" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4qek" role="jymVt" />
+    <node concept="3clFbW" id="2QmWbwu4qel" role="jymVt">
+      <node concept="3cqZAl" id="2QmWbwu4qeO" role="3clF45" />
+      <node concept="3Tm1VV" id="2QmWbwu4qf2" role="1B3o_S" />
+      <node concept="3clFbS" id="2QmWbwu4qfq" role="3clF47">
+        <node concept="3clFbF" id="2QmWbwu4qfP" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qgi" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qgA" role="37vLTx">
+              <node concept="37vLTw" id="2QmWbwu4qgM" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qg_" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4pM$" resolve="getName" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qhv" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qhz" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qhV" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4q86" resolve="verifiedClass" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4qid" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qiR" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qjc" role="37vLTx">
+              <node concept="37vLTw" id="2QmWbwu4qjw" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qjC" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4pOp" resolve="getGuardChanges" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qjV" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qk2" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qka" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4q9I" resolve="guardChanges" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4qkK" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qlm" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qlE" role="37vLTx">
+              <node concept="37vLTw" id="2QmWbwu4qm5" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qmj" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4pRc" resolve="getRequirementChecks" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qmz" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qmD" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qmK" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4qb7" resolve="requirementChecks" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4qmP" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qnl" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qnp" role="37vLTx">
+              <node concept="37vLTw" id="2QmWbwu4qnt" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qnM" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4p$w" resolve="getTrackedObjects" />
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qoe" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qor" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qot" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4qbs" resolve="trackedObjects" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4qox" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qoC" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qoJ" role="37vLTx">
+              <node concept="2OqwBi" id="2QmWbwu4qoL" role="2Oq$k0">
+                <node concept="37vLTw" id="2QmWbwu4qpi" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+                </node>
+                <node concept="liA8E" id="2QmWbwu4qpL" role="2OqNvi">
+                  <ref role="37wK5l" node="2QmWbwu4q2C" resolve="getRequirementLatency" />
+                </node>
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qpX" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4oKK" resolve="percentile" />
+                <node concept="3cmrfG" id="2QmWbwu4qqk" role="37wK5m">
+                  <property role="3cmrfH" value="99" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qqA" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qqM" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qqZ" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4qc7" resolve="requirementLatencyP99" />
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbF" id="2QmWbwu4qrr" role="3cqZAp">
+          <node concept="37vLTI" id="2QmWbwu4qrv" role="3clFbG">
+            <node concept="2OqwBi" id="2QmWbwu4qrO" role="37vLTx">
+              <node concept="2OqwBi" id="2QmWbwu4qrR" role="2Oq$k0">
+                <node concept="37vLTw" id="2QmWbwu4qrX" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2QmWbwu4qua" resolve="metrics" />
+                </node>
+                <node concept="liA8E" id="2QmWbwu4qrY" role="2OqNvi">
+                  <ref role="37wK5l" node="2QmWbwu4q5u" resolve="getFinalStateAge" />
+                </node>
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qso" role="2OqNvi">
+                <ref role="37wK5l" node="2QmWbwu4oKK" resolve="percentile" />
+                <node concept="3cmrfG" id="2QmWbwu4qsK" role="37wK5m">
+                  <property role="3cmrfH" value="50" />
+                </node>
+              </node>
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qtk" role="37vLTJ">
+              <node concept="Xjq3P" id="2QmWbwu4qtm" role="2Oq$k0" />
+              <node concept="2OwXpG" id="2QmWbwu4qtE" role="2OqNvi">
+                <ref role="2Oxat5" node="2QmWbwu4qd1" resolve="finalStateAgeP50" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="37vLTG" id="2QmWbwu4qua" role="3clF46">
+        <property role="TrG5h" value="metrics" />
+        <node concept="3uibUv" id="2QmWbwu4quv" role="1tU5fm">
+          <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+        </node>
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="2QmWbwu4quM" role="1B3o_S" />
+    <node concept="3uibUv" id="2QmWbwu4qv0" role="1zkMxy">
+      <ref role="3uigEE" to="6rnd:~Event" resolve="Event" />
+    </node>
+  </node>
+  <node concept="312cEu" id="2QmWbwu4qv2">
+    <property role="TrG5h" value="CheckMetrics" />
+    <node concept="2tJIrI" id="2QmWbwu4qv3" role="jymVt" />
+    <node concept="Wx3nA" id="2QmWbwu4qve" role="jymVt">
+      <property role="TrG5h" value="metrics" />
+      <property role="3TUv4t" value="true" />
+      <node concept="3Tm6S6" id="2QmWbwu4qvC" role="1B3o_S" />
+      <node concept="3uibUv" id="2QmWbwu4qvN" role="1tU5fm">
+        <ref role="3uigEE" to="5zyv:~ConcurrentHashMap" resolve="ConcurrentHashMap" />
+        <node concept="17QB3L" id="2QmWbwu4qvT" role="11_B2D" />
+        <node concept="3uibUv" id="2QmWbwu4qv$" role="11_B2D">
+          <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+        </node>
+      </node>
+      <node concept="2ShNRf" id="2QmWbwu4qwB" role="33vP2m">
+        <node concept="1pGfFk" id="2QmWbwu4qx2" role="2ShVmc">
+          <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.&lt;init&gt;()" resolve="ConcurrentHashMap" />
+          <node concept="17QB3L" id="2QmWbwu4qxC" role="1pMfVU" />
+          <node concept="3uibUv" id="2QmWbwu4qxO" role="1pMfVU">
+            <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4qye" role="jymVt" />
+    <node concept="1Pe0a1" id="2QmWbwu4qyp" role="jymVt">
+      <node concept="3clFbS" id="2QmWbwu4qyP" role="1Pe0a2">
+        <node concept="3clFbF" id="2QmWbwu4qzi" role="3cqZAp">
+          <node concept="2YIFZM" id="2QmWbwu4qzz" role="3clFbG">
+            <ref role="37wK5l" to="6rnd:~FlightRecorder.addPeriodicEvent(java.lang.Class,java.lang.Runnable)" resolve="addPeriodicEvent" />
+            <ref role="1Pybhc" to="6rnd:~FlightRecorder" resolve="FlightRecorder" />
+            <node concept="3VsKOn" id="2QmWbwu4qzB" role="37wK5m">
+              <ref role="3VsUkX" node="2QmWbwu4q7N" resolve="VerifiedClassMetricsEvent" />
+            </node>
+            <node concept="2ShNRf" id="2QmWbwu4qzG" role="37wK5m">
+              <node concept="YeOm9" id="2QmWbwu4qA8" role="2ShVmc">
+                <node concept="1Y3b0j" id="2QmWbwu4qAA" role="YeSDq">
+                  <property role="2bfB8j" value="true" />
+                  <ref role="1Y3XeK" to="wyt6:~Runnable" resolve="Runnable" />
+                  <ref role="37wK5l" to="wyt6:~Object.&lt;init&gt;()" resolve="Object" />
+                  <node concept="3clFb_" id="2QmWbwu4qAN" role="jymVt">
+                    <property role="TrG5h" value="run" />
+                    <node concept="3clFbS" id="2QmWbwu4qB7" role="3clF47">
+                      <node concept="3clFbF" id="2QmWbwu4qBD" role="3cqZAp">
+                        <node concept="1rXfSq" id="2QmWbwu4qBE" role="3clFbG">
+                          <ref role="37wK5l" node="2QmWbwu4qVZ" resolve="emitEvents" />
+                        </node>
+                      </node>
+                    </node>
+                    <node concept="3cqZAl" id="2QmWbwu4qBZ" role="3clF45" />
+                    <node concept="3Tm1VV" id="2QmWbwu4qCh" role="1B3o_S" />
+                    <node concept="2AHcQZ" id="2QmWbwu4qCC" role="2AJF6D">
+                      <ref role="2AI5Lk" to="wyt6:~Override" resolve="Override" />
+                    </node>
+                  </node>
+                  <node concept="3Tm1VV" id="2QmWbwu4qD8" role="1B3o_S" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4qDq" role="jymVt" />
+    <node concept="2YIFZL" id="2QmWbwu4qDK" role="jymVt">
+      <property role="TrG5h" value="forClass" />
+      <node concept="3clFbS" id="2QmWbwu4qE0" role="3clF47">
+        <node concept="3cpWs8" id="2QmWbwu4qEp" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4qEt" role="3cpWs9">
+            <property role="TrG5h" value="classMetrics" />
+            <node concept="3uibUv" id="2QmWbwu4qEF" role="1tU5fm">
+              <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+            </node>
+            <node concept="2OqwBi" id="2QmWbwu4qEN" role="33vP2m">
+              <node concept="37vLTw" id="2QmWbwu4qFm" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qve" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qF$" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.get(java.lang.Object)" resolve="get" />
+                <node concept="37vLTw" id="2QmWbwu4qGg" role="37wK5m">
+                  <ref role="3cqZAo" node="2QmWbwu4qSi" resolve="verifiedClass" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3clFbJ" id="2QmWbwu4qGP" role="3cqZAp">
+          <node concept="3clFbC" id="2QmWbwu4qGW" role="3clFbw">
+            <node concept="10Nm6u" id="2QmWbwu4qHk" role="3uHU7w" />
+            <node concept="37vLTw" id="2QmWbwu4qHJ" role="3uHU7B">
+              <ref role="3cqZAo" node="2QmWbwu4qEt" resolve="classMetrics" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="2QmWbwu4qI1" role="3clFbx">
+            <node concept="3cpWs8" id="2QmWbwu4qI5" role="3cqZAp">
+              <node concept="3cpWsn" id="2QmWbwu4qIz" role="3cpWs9">
+                <property role="TrG5h" value="created" />
+                <node concept="3uibUv" id="2QmWbwu4qIF" role="1tU5fm">
+                  <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+                </node>
+                <node concept="2ShNRf" id="2QmWbwu4qJc" role="33vP2m">
+                  <node concept="1pGfFk" id="2QmWbwu4qJm" role="2ShVmc">
+                    <ref role="37wK5l" node="2QmWbwu4pi$" resolve="VerifiedClassMetrics" />
+                    <node concept="37vLTw" id="2QmWbwu4qJy" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4qSi" resolve="verifiedClass" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbF" id="2QmWbwu4qJD" role="3cqZAp">
+              <node concept="37vLTI" id="2QmWbwu4qJP" role="3clFbG">
+                <node concept="2OqwBi" id="2QmWbwu4qKq" role="37vLTx">
+                  <node concept="37vLTw" id="2QmWbwu4qKS" role="2Oq$k0">
+                    <ref role="3cqZAo" node="2QmWbwu4qve" resolve="metrics" />
+                  </node>
+                  <node concept="liA8E" id="2QmWbwu4qLf" role="2OqNvi">
+                    <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.putIfAbsent(java.lang.Object,java.lang.Object)" resolve="putIfAbsent" />
+                    <node concept="37vLTw" id="2QmWbwu4qLB" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4qSi" resolve="verifiedClass" />
+                    </node>
+                    <node concept="37vLTw" id="2QmWbwu4qM0" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4qIz" resolve="created" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="37vLTw" id="2QmWbwu4qMA" role="37vLTJ">
+                  <ref role="3cqZAo" node="2QmWbwu4qEt" resolve="classMetrics" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbJ" id="2QmWbwu4qMX" role="3cqZAp">
+              <node concept="3clFbC" id="2QmWbwu4qN3" role="3clFbw">
+                <node concept="10Nm6u" id="2QmWbwu4qNj" role="3uHU7w" />
+                <node concept="37vLTw" id="2QmWbwu4qNR" role="3uHU7B">
+                  <ref role="3cqZAo" node="2QmWbwu4qEt" resolve="classMetrics" />
+                </node>
+              </node>
+              <node concept="3clFbS" id="2QmWbwu4qOm" role="3clFbx">
+                <node concept="3clFbF" id="2QmWbwu4qOQ" role="3cqZAp">
+                  <node concept="37vLTI" id="2QmWbwu4qO$" role="3clFbG">
+                    <node concept="37vLTw" id="2QmWbwu4qPC" role="37vLTx">
+                      <ref role="3cqZAo" node="2QmWbwu4qIz" resolve="created" />
+                    </node>
+                    <node concept="37vLTw" id="2QmWbwu4qQ6" role="37vLTJ">
+                      <ref role="3cqZAo" node="2QmWbwu4qEt" resolve="classMetrics" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2QmWbwu4qQK" role="3cqZAp">
+          <node concept="37vLTw" id="2QmWbwu4qQY" role="3cqZAk">
+            <ref role="3cqZAo" node="2QmWbwu4qEt" resolve="classMetrics" />
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="2QmWbwu4qRA" role="3clF45">
+        <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+      </node>
+      <node concept="3Tm1VV" id="2QmWbwu4qRH" role="1B3o_S" />
+      <node concept="37vLTG" id="2QmWbwu4qSi" role="3clF46">
+        <property role="TrG5h" value="verifiedClass" />
+        <node concept="17QB3L" id="2QmWbwu4qSr" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4qSR" role="jymVt" />
+    <node concept="2YIFZL" id="2QmWbwu4qT9" role="jymVt">
+      <property role="TrG5h" value="all" />
+      <node concept="3clFbS" id="2QmWbwu4qTt" role="3clF47">
+        <node concept="3cpWs6" id="2QmWbwu4qTw" role="3cqZAp">
+          <node concept="2YIFZM" id="2QmWbwu4qTH" role="3cqZAk">
+            <ref role="37wK5l" to="33ny:~Collections.unmodifiableCollection(java.util.Collection)" resolve="unmodifiableCollection" />
+            <ref role="1Pybhc" to="33ny:~Collections" resolve="Collections" />
+            <node concept="2OqwBi" id="2QmWbwu4qTL" role="37wK5m">
+              <node concept="37vLTw" id="2QmWbwu4qT_" role="2Oq$k0">
+                <ref role="3cqZAo" node="2QmWbwu4qve" resolve="metrics" />
+              </node>
+              <node concept="liA8E" id="2QmWbwu4qUf" role="2OqNvi">
+                <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.values()" resolve="values" />
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="2QmWbwu4qUQ" role="3clF45">
+        <ref role="3uigEE" to="33ny:~Collection" resolve="Collection" />
+        <node concept="3uibUv" id="2QmWbwu4qVd" role="11_B2D">
+          <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+        </node>
+      </node>
+      <node concept="3Tm1VV" id="2QmWbwu4qVx" role="1B3o_S" />
+    </node>
+    <node concept="2tJIrI" id="2QmWbwu4qVG" role="jymVt" />
+    <node concept="2YIFZL" id="2QmWbwu4qVZ" role="jymVt">
+      <property role="TrG5h" value="emitEvents" />
+      <node concept="3clFbS" id="2QmWbwu4qWm" role="3clF47">
+        <node concept="1DcWWT" id="2QmWbwu4qWJ" role="3cqZAp">
+          <node concept="3cpWsn" id="2QmWbwu4qWU" role="1Duv9x">
+            <property role="TrG5h" value="classMetrics" />
+            <node concept="3uibUv" id="2QmWbwu4qXr" role="1tU5fm">
+              <ref role="3uigEE" node="2QmWbwu4p7j" resolve="VerifiedClassMetrics" />
+            </node>
+          </node>
+          <node concept="2OqwBi" id="2QmWbwu4qXA" role="1DdaDG">
+            <node concept="37vLTw" id="2QmWbwu4qXG" role="2Oq$k0">
+              <ref role="3cqZAo" node="2QmWbwu4qve" resolve="metrics" />
+            </node>
+            <node concept="liA8E" id="2QmWbwu4qXV" role="2OqNvi">
+              <ref role="37wK5l" to="5zyv:~ConcurrentHashMap.values()" resolve="values" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="2QmWbwu4qXZ" role="2LFqv$">
+            <node concept="3clFbF" id="2QmWbwu4qY2" role="3cqZAp">
+              <node concept="2OqwBi" id="2QmWbwu4qY4" role="3clFbG">
+                <node concept="2ShNRf" id="2QmWbwu4qYv" role="2Oq$k0">
+                  <node concept="1pGfFk" id="2QmWbwu4qYW" role="2ShVmc">
+                    <ref role="37wK5l" node="2QmWbwu4qel" resolve="VerifiedClassMetricsEvent" />
+                    <node concept="37vLTw" id="2QmWbwu4qZm" role="37wK5m">
+                      <ref role="3cqZAo" node="2QmWbwu4qWU" resolve="classMetrics" />
+                    </node>
+                  </node>
+                </node>
+                <node concept="liA8E" id="2QmWbwu4qZJ" role="2OqNvi">
+                  <ref role="37wK5l" to="6rnd:~Event.commit()" resolve="commit" />
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3cqZAl" id="2QmWbwu4qZV" role="3clF45" />
+      <node concept="3Tm6S6" id="2QmWbwu4qZ_" role="1B3o_S" />
+    </node>
+    <node concept="3Tm1VV" id="2QmWbwu4q$g" role="1B3o_S" />
+  </node>
+  <node concept="312cEu" id="2BH_CsmQ64k">
+    <property role="TrG5h" value="PackedGuards" />
+    <node concept="2tJIrI" id="2BH_CsmQ64m" role="jymVt" />
+    <node concept="2YIFZL" id="2BH_CsmQ64t" role="jymVt">
+      <property role="TrG5h" value="stateHandle" />
+      <node concept="3clFbS" id="2BH_CsmQ64V" role="3clF47">
+        <node concept="3J1_TO" id="2BH_CsmQ65c" role="3cqZAp">
+          <node concept="3clFbS" id="2BH_CsmQ65d" role="1zxBo7">
+            <node concept="3cpWs6" id="2BH_CsmQ65x" role="3cqZAp">
+              <node concept="2OqwBi" id="2BH_CsmQ65N" role="3cqZAk">
+                <node concept="37vLTw" id="2BH_CsmQ66g" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2BH_CsmQ6cc" resolve="lookup" />
+                </node>
+                <node concept="liA8E" id="2BH_CsmQ66v" role="2OqNvi">
+                  <ref role="37wK5l" to="lsg0:~MethodHandles$Lookup.findVarHandle(java.lang.Class,java.lang.String,java.lang.Class)" resolve="findVarHandle" />
+                  <node concept="2OqwBi" id="2BH_CsmQ66S" role="37wK5m">
+                    <node concept="37vLTw" id="2BH_CsmQ66X" role="2Oq$k0">
+                      <ref role="3cqZAo" node="2BH_CsmQ6cc" resolve="lookup" />
+                    </node>
+                    <node concept="liA8E" id="2BH_CsmQ67o" role="2OqNvi">
+                      <ref role="37wK5l" to="lsg0:~MethodHandles$Lookup.lookupClass()" resolve="lookupClass" />
+                    </node>
+                  </node>
+                  <node concept="37vLTw" id="2BH_CsmQ67S" role="37wK5m">
+                    <ref role="3cqZAo" node="2BH_CsmQ6cx" resolve="field" />
+                  </node>
+                  <node concept="10M0yZ" id="2BH_CsmQ68p" role="37wK5m">
+                    <ref role="1PxDUh" to="wyt6:~Integer" resolve="Integer" />
+                    <ref role="3cqZAo" to="wyt6:~Integer.TYPE" resolve="TYPE" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+          <node concept="3uVAMA" id="2BH_CsmQ68I" role="1zxBo5">
+            <node concept="XOnhg" id="2BH_CsmQ69h" role="1zc67B">
+              <property role="TrG5h" value="e" />
+              <node concept="nSUau" id="2BH_CsmQ69q" role="1tU5fm">
+                <node concept="3uibUv" id="2BH_CsmQ69v" role="nSUat">
+                  <ref role="3uigEE" to="wyt6:~ReflectiveOperationException" resolve="ReflectiveOperationException" />
+                </node>
+              </node>
+            </node>
+            <node concept="3clFbS" id="2BH_CsmQ69F" role="1zc67A">
+              <node concept="YS8fn" id="2BH_CsmQ69O" role="3cqZAp">
+                <node concept="2ShNRf" id="2BH_CsmQ6ak" role="YScLw">
+                  <node concept="1pGfFk" id="2BH_CsmQ6ay" role="2ShVmc">
+                    <ref role="37wK5l" to="wyt6:~ExceptionInInitializerError.&lt;init&gt;(java.lang.Throwable)" resolve="ExceptionInInitializerError" />
+                    <node concept="37vLTw" id="2BH_CsmQ6aZ" role="37wK5m">
+                      <ref role="3cqZAo" node="2BH_CsmQ69h" resolve="e" />
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="3uibUv" id="2BH_CsmQ6bh" role="3clF45">
+        <ref role="3uigEE" to="lsg0:~VarHandle" resolve="VarHandle" />
+      </node>
+      <node concept="3Tm1VV" id="2BH_CsmQ6bR" role="1B3o_S" />
+      <node concept="37vLTG" id="2BH_CsmQ6cc" role="3clF46">
+        <property role="TrG5h" value="lookup" />
+        <node concept="3uibUv" id="2BH_CsmQ6cu" role="1tU5fm">
+          <ref role="3uigEE" to="lsg0:~MethodHandles$Lookup" resolve="MethodHandles.Lookup" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="2BH_CsmQ6cx" role="3clF46">
+        <property role="TrG5h" value="field" />
+        <node concept="17QB3L" id="2BH_CsmQ6cQ" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="2tJIrI" id="2BH_CsmQ6d8" role="jymVt" />
+    <node concept="2YIFZL" id="2BH_CsmQ6dg" role="jymVt">
+      <property role="TrG5h" value="update" />
+      <node concept="3clFbS" id="2BH_CsmQ6dh" role="3clF47">
+        <node concept="3clFbJ" id="2BH_CsmQ6dA" role="3cqZAp">
+          <node concept="3clFbC" id="2BH_CsmQ6e1" role="3clFbw">
+            <node concept="3cmrfG" id="2BH_CsmQ6eo" role="3uHU7w">
+              <property role="3cmrfH" value="0" />
+            </node>
+            <node concept="37vLTw" id="2BH_CsmQ6es" role="3uHU7B">
+              <ref role="3cqZAo" node="2BH_CsmQ6og" resolve="set" />
+            </node>
+          </node>
+          <node concept="3clFbS" id="2BH_CsmQ6eH" role="3clFbx">
+            <node concept="3cpWs6" id="2BH_CsmQ6fb" role="3cqZAp">
+              <node concept="pVHWs" id="2BH_CsmQ6fK" role="3cqZAk">
+                <node concept="37vLTw" id="2BH_CsmQ6fN" role="3uHU7w">
+                  <ref role="3cqZAo" node="2BH_CsmQ6ne" resolve="keep" />
+                </node>
+                <node concept="10QFUN" id="2BH_CsmQ6fV" role="3uHU7B">
+                  <node concept="10Oyi0" id="2BH_CsmQ6g7" role="10QFUM" />
+                  <node concept="2OqwBi" id="2BH_CsmQ6ga" role="10QFUP">
+                    <node concept="37vLTw" id="2BH_CsmQ6gA" role="2Oq$k0">
+                      <ref role="3cqZAo" node="2BH_CsmQ6lQ" resolve="state" />
+                    </node>
+                    <node concept="liA8E" id="2BH_CsmQ6gM" role="2OqNvi">
+                      <ref role="37wK5l" to="lsg0:~VarHandle.getAndBitwiseAnd(java.lang.Object...)" resolve="getAndBitwiseAnd" />
+                      <node concept="37vLTw" id="2BH_CsmQ6ha" role="37wK5m">
+                        <ref role="3cqZAo" node="2BH_CsmQ6my" resolve="owner" />
+                      </node>
+                      <node concept="37vLTw" id="2BH_CsmQ6hg" role="37wK5m">
+                        <ref role="3cqZAo" node="2BH_CsmQ6ne" resolve="keep" />
+                      </node>
+                    </node>
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+        <node concept="3cpWs6" id="2BH_CsmQ6hG" role="3cqZAp">
+          <node concept="pVOtf" id="2BH_CsmQ6i2" role="3cqZAk">
+            <node concept="37vLTw" id="2BH_CsmQ6ix" role="3uHU7w">
+              <ref role="3cqZAo" node="2BH_CsmQ6og" resolve="set" />
+            </node>
+            <node concept="10QFUN" id="2BH_CsmQ6iH" role="3uHU7B">
+              <node concept="10Oyi0" id="2BH_CsmQ6iT" role="10QFUM" />
+              <node concept="2OqwBi" id="2BH_CsmQ6j8" role="10QFUP">
+                <node concept="37vLTw" id="2BH_CsmQ6jk" role="2Oq$k0">
+                  <ref role="3cqZAo" node="2BH_CsmQ6lQ" resolve="state" />
+                </node>
+                <node concept="liA8E" id="2BH_CsmQ6jX" role="2OqNvi">
+                  <ref role="37wK5l" to="lsg0:~VarHandle.getAndBitwiseOr(java.lang.Object...)" resolve="getAndBitwiseOr" />
+                  <node concept="37vLTw" id="2BH_CsmQ6k3" role="37wK5m">
+                    <ref role="3cqZAo" node="2BH_CsmQ6my" resolve="owner" />
+                  </node>
+                  <node concept="37vLTw" id="2BH_CsmQ6ky" role="37wK5m">
+                    <ref role="3cqZAo" node="2BH_CsmQ6og" resolve="set" />
+                  </node>
+                </node>
+              </node>
+            </node>
+          </node>
+        </node>
+      </node>
+      <node concept="10Oyi0" id="2BH_CsmQ6la" role="3clF45" />
+      <node concept="3Tm1VV" id="2BH_CsmQ6ls" role="1B3o_S" />
+      <node concept="37vLTG" id="2BH_CsmQ6lQ" role="3clF46">
+        <property role="TrG5h" value="state" />
+        <node concept="3uibUv" id="2BH_CsmQ6mg" role="1tU5fm">
+          <ref role="3uigEE" to="lsg0:~VarHandle" resolve="VarHandle" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="2BH_CsmQ6my" role="3clF46">
+        <property role="TrG5h" value="owner" />
+        <node concept="3uibUv" id="2BH_CsmQ6mL" role="1tU5fm">
+          <ref role="3uigEE" to="wyt6:~Object" resolve="Object" />
+        </node>
+      </node>
+      <node concept="37vLTG" id="2BH_CsmQ6ne" role="3clF46">
+        <property role="TrG5h" value="keep" />
+        <node concept="10Oyi0" id="2BH_CsmQ6nM" role="1tU5fm" />
+      </node>
+      <node concept="37vLTG" id="2BH_CsmQ6og" role="3clF46">
+        <property role="TrG5h" value="set" />
+        <node concept="10Oyi0" id="2BH_CsmQ6oK" role="1tU5fm" />
+      </node>
+    </node>
+    <node concept="3Tm1VV" id="2BH_CsmQ6pd" role="1B3o_S" />
+  </node>
 </model>
 